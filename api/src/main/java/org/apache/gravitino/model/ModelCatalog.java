@@ -21,7 +21,9 @@ package org.apache.gravitino.model;
 import static org.apache.gravitino.model.ModelVersion.URI_NAME_UNKNOWN;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.annotation.Evolving;
@@ -150,6 +152,21 @@ public interface ModelCatalog {
    */
   ModelVersion[] listModelVersionInfos(NameIdentifier ident) throws NoSuchModelException;
 
+  /**
+   * List the versions with their information of the register model by {@link NameIdentifier} in
+   * the catalog and hand them to the consumer one by one. Implementations could hand the versions
+   * to the consumer while they are fetched, so that listing a model with a large number of versions
+   * doesn't need to hold all of them in memory.
+   *
+   * @param ident The name identifier of the model.
+   * @param consumer The consumer of the version information.
+   * @throws NoSuchModelException If the model does not exist.
+   */
+  default void listModelVersionInfos(NameIdentifier ident, Consumer<ModelVersion> consumer)
+      throws NoSuchModelException {
+    Arrays.stream(listModelVersionInfos(ident)).forEach(consumer);
+  }
+
   /**
    * Get a model version by the {@link NameIdentifier} and version number from the catalog.
    *
@@ -18,12 +18,19 @@
  */
 package org.apache.gravitino.rel;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.ListPartition;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.RangePartition;
 
 /** Interface for tables that support partitions. */
@@ -44,6 +51,48 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the names of the partitions matching the filter of the options, in the order of the
+   * names and page by page. Implementations should push the filter and the pagination down to the
+   * underlying source, the default implementation filters and pages all the partitions in memory.
+   *
+   * @param options The listing options.
+   * @return The page of the partition names.
+   * @throws IllegalArgumentException If the filter or the page token is invalid.
+   */
+  default PartitionPage<String> listPartitionNames(PartitionListingOptions options) {
+    if (options.filter() == null) {
+      List<String> names =
+          Arrays.stream(listPartitionNames()).sorted().collect(Collectors.toList());
+      return PartitionPage.of(names, name -> name, options);
+    }
+
+    PartitionPage<Partition> page = listPartitions(options);
+    return new PartitionPage<>(
+        page.elements().stream().map(Partition::name).collect(Collectors.toList()),
+        page.nextPageToken());
+  }
+
+  /**
+   * List the partitions matching the filter of the options, in the order of the partition names
+   * and page by page. Implementations should push the filter and the pagination down to the
+   * underlying source, the default implementation filters and pages all the partitions in memory,
+   * and only supports filtering identity partitions.
+   *
+   * @param options The listing options.
+   * @return The page of the partitions.
+   * @throws IllegalArgumentException If the filter or the page token is invalid.
+   */
+  default PartitionPage<Partition> listPartitions(PartitionListingOptions options) {
+    PartitionFilter filter = options.filter();
+    List<Partition> partitions =
+        Arrays.stream(listPartitions())
+            .filter(partition -> filter == null || filter.matches(partition, null))
+            .sorted(Comparator.comparing(Partition::name))
+            .collect(Collectors.toList());
+    return PartitionPage.of(partitions, Partition::name, options);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
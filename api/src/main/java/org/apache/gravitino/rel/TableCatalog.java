@@ -20,8 +20,10 @@
 
 package org.apache.gravitino.rel;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.annotation.Evolving;
@@ -53,6 +55,20 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the tables in a namespace from the catalog and hand them to the consumer one by one.
+   * Implementations could hand the tables to the consumer while they are fetched, so that listing
+   * a namespace with a large number of tables doesn't need to hold all of them in memory.
+   *
+   * @param namespace A namespace.
+   * @param consumer The consumer of the table identifiers.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default void listTables(Namespace namespace, Consumer<NameIdentifier> consumer)
+      throws NoSuchSchemaException {
+    Arrays.stream(listTables(namespace)).forEach(consumer);
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.partitions;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.rel.expressions.literals.Literal;
+import org.apache.gravitino.rel.types.Decimal;
+
+/**
+ * A filter of the partitions of a table, made of comparisons between partition fields and values
+ * that all must hold, for example {@code dt >= '2024-01-01' AND dt < '2024-02-01' AND region =
+ * 'us'}.
+ *
+ * <p>The values of numeric partition fields are compared numerically, the others are compared by
+ * their string forms. An identity partition matches if its values satisfy all the conditions, a
+ * range or list partition matches if it may contain rows satisfying all the conditions.
+ */
+@Evolving
+public final class PartitionFilter {
+
+  private static final Pattern CONDITION_PATTERN =
+      Pattern.compile(
+          "^\\s*([A-Za-z_][\\w.]*)\\s*(<=|>=|<>|!=|=|<|>)\\s*('(?:[^']|'')*'|[^\\s']+)\\s*$");
+
+  private static final Pattern AND_PATTERN = Pattern.compile("\\s+(?i:AND)\\s+");
+
+  /** The comparison operator of a condition. */
+  public enum Operator {
+    /** The field equals to the value. */
+    EQUAL("="),
+    /** The field doesn't equal to the value. */
+    NOT_EQUAL("<>"),
+    /** The field is less than the value. */
+    LESS_THAN("<"),
+    /** The field is less than or equal to the value. */
+    LESS_THAN_OR_EQUAL("<="),
+    /** The field is greater than the value. */
+    GREATER_THAN(">"),
+    /** The field is greater than or equal to the value. */
+    GREATER_THAN_OR_EQUAL(">=");
+
+    private final String symbol;
+
+    Operator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    /**
+     * @return The symbol of the operator in a filter expression.
+     */
+    public String symbol() {
+      return symbol;
+    }
+
+    private static Operator fromSymbol(String symbol) {
+      if ("!=".equals(symbol)) {
+        return NOT_EQUAL;
+      }
+      for (Operator operator : values()) {
+        if (operator.symbol.equals(symbol)) {
+          return operator;
+        }
+      }
+      throw new IllegalArgumentException("Unknown partition filter operator: " + symbol);
+    }
+
+    private boolean test(int comparison) {
+      switch (this) {
+        case EQUAL:
+          return comparison == 0;
+        case NOT_EQUAL:
+          return comparison != 0;
+        case LESS_THAN:
+          return comparison < 0;
+        case LESS_THAN_OR_EQUAL:
+          return comparison <= 0;
+        case GREATER_THAN:
+          return comparison > 0;
+        default:
+          return comparison >= 0;
+      }
+    }
+  }
+
+  /** A comparison between a partition field and a value. */
+  public static final class Condition {
+    private final String fieldName;
+    private final Operator operator;
+    private final String value;
+
+    private Condition(String fieldName, Operator operator, String value) {
+      Preconditions.checkArgument(
+          fieldName != null && !fieldName.trim().isEmpty(), "Field name must not be empty");
+      Preconditions.checkArgument(operator != null, "Operator must not be null");
+      Preconditions.checkArgument(value != null, "Value must not be null");
+      this.fieldName = fieldName;
+      this.operator = operator;
+      this.value = value;
+    }
+
+    /**
+     * @return The name of the partition field.
+     */
+    public String fieldName() {
+      return fieldName;
+    }
+
+    /**
+     * @return The comparison operator.
+     */
+    public Operator operator() {
+      return operator;
+    }
+
+    /**
+     * @return The value the field is compared with.
+     */
+    public String value() {
+      return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Condition)) {
+        return false;
+      }
+      Condition that = (Condition) o;
+      return fieldName.equals(that.fieldName)
+          && operator == that.operator
+          && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(fieldName, operator, value);
+    }
+
+    @Override
+    public String toString() {
+      return fieldName + " " + operator.symbol + " '" + value.replace("'", "''") + "'";
+    }
+  }
+
+  private final List<Condition> conditions;
+
+  private PartitionFilter(List<Condition> conditions) {
+    Preconditions.checkArgument(
+        !conditions.isEmpty(), "Partition filter must have at least one condition");
+    this.conditions = ImmutableList.copyOf(conditions);
+  }
+
+  /**
+   * Creates a condition.
+   *
+   * @param fieldName The name of the partition field.
+   * @param operator The comparison operator.
+   * @param value The value the field is compared with.
+   * @return The condition.
+   */
+  public static Condition condition(String fieldName, Operator operator, String value) {
+    return new Condition(fieldName, operator, value);
+  }
+
+  /**
+   * Creates a filter that all the conditions must hold.
+   *
+   * @param conditions The conditions.
+   * @return The filter.
+   */
+  public static PartitionFilter of(Condition... conditions) {
+    return new PartitionFilter(Arrays.asList(conditions));
+  }
+
+  /**
+   * Parses a filter expression like {@code dt >= '2024-01-01' AND region = 'us'}. The conditions
+   * are joined by {@code AND}, the operators are {@code =, <>, !=, <, <=, >, >=}, and the values
+   * are either quoted by single quotes, with {@code ''} standing for a quote, or contain no spaces.
+   *
+   * @param expression The filter expression.
+   * @return The filter.
+   * @throws IllegalArgumentException If the expression is invalid.
+   */
+  public static PartitionFilter parse(String expression) {
+    Preconditions.checkArgument(
+        expression != null && !expression.trim().isEmpty(),
+        "Partition filter expression must not be empty");
+
+    List<Condition> conditions = new ArrayList<>();
+    for (String part : splitConditions(expression)) {
+      Matcher matcher = CONDITION_PATTERN.matcher(part);
+      Preconditions.checkArgument(
+          matcher.matches(), "Invalid partition filter condition: %s", part.trim());
+      String value = matcher.group(3);
+      if (value.startsWith("'")) {
+        value = value.substring(1, value.length() - 1).replace("''", "'");
+      }
+      conditions.add(
+          new Condition(matcher.group(1), Operator.fromSymbol(matcher.group(2)), value));
+    }
+    return new PartitionFilter(conditions);
+  }
+
+  /**
+   * @return The conditions that all must hold.
+   */
+  public List<Condition> conditions() {
+    return conditions;
+  }
+
+  /**
+   * Checks whether a partition matches the filter.
+   *
+   * @param partition The partition.
+   * @param fieldNames The partition fields of the table, required by range and list partitions
+   *     whose values don't carry the field names, could be null for identity partitions.
+   * @return True if the partition matches.
+   * @throws IllegalArgumentException If the filter references a field that isn't a partition field.
+   */
+  public boolean matches(Partition partition, String[][] fieldNames) {
+    if (partition instanceof IdentityPartition) {
+      IdentityPartition identity = (IdentityPartition) partition;
+      return matches(identity.fieldNames(), new Literal<?>[][] {identity.values()});
+    }
+
+    Preconditions.checkArgument(
+        fieldNames != null,
+        "The partition fields are required to filter the partition %s",
+        partition.name());
+    if (partition instanceof ListPartition) {
+      return matches(fieldNames, ((ListPartition) partition).lists());
+    }
+    if (partition instanceof RangePartition) {
+      return matchesRange((RangePartition) partition, fieldNames);
+    }
+    throw new IllegalArgumentException(
+        "Unsupported partition type to filter: " + partition.getClass().getSimpleName());
+  }
+
+  // A partition of value tuples matches if any of the tuples satisfies all the conditions
+  private boolean matches(String[][] fieldNames, Literal<?>[][] tuples) {
+    int[] fieldIndexes = fieldIndexes(fieldNames);
+    for (Literal<?>[] tuple : tuples) {
+      boolean matched = true;
+      for (int i = 0; i < conditions.size() && matched; i++) {
+        Condition condition = conditions.get(i);
+        Integer comparison = compare(tuple[fieldIndexes[i]], condition.value);
+        matched = comparison != null && condition.operator.test(comparison);
+      }
+      if (matched) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // A range partition covers [lower, upper), a null bound is unbounded
+  private boolean matchesRange(RangePartition partition, String[][] fieldNames) {
+    Preconditions.checkArgument(
+        fieldNames.length == 1, "Range partition must have exactly one partition field");
+    fieldIndexes(fieldNames);
+    for (Condition condition : conditions) {
+      Integer lower = compare(partition.lower(), condition.value);
+      Integer upper = compare(partition.upper(), condition.value);
+      boolean mayMatch;
+      switch (condition.operator) {
+        case EQUAL:
+          mayMatch = (lower == null || lower <= 0) && (upper == null || upper > 0);
+          break;
+        case LESS_THAN:
+          mayMatch = lower == null || lower < 0;
+          break;
+        case LESS_THAN_OR_EQUAL:
+          mayMatch = lower == null || lower <= 0;
+          break;
+        case GREATER_THAN:
+        case GREATER_THAN_OR_EQUAL:
+          mayMatch = upper == null || upper > 0;
+          break;
+        default:
+          mayMatch = true;
+      }
+      if (!mayMatch) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int[] fieldIndexes(String[][] fieldNames) {
+    List<String> names =
+        Arrays.stream(fieldNames)
+            .map(name -> String.join(".", name).toLowerCase(Locale.ROOT))
+            .collect(Collectors.toList());
+    int[] indexes = new int[conditions.size()];
+    for (int i = 0; i < conditions.size(); i++) {
+      String fieldName = conditions.get(i).fieldName;
+      indexes[i] = names.indexOf(fieldName.toLowerCase(Locale.ROOT));
+      Preconditions.checkArgument(
+          indexes[i] >= 0,
+          "Partition filter field %s is not a partition field of %s",
+          fieldName,
+          names);
+    }
+    return indexes;
+  }
+
+  // Returns null if the literal has no value
+  private static Integer compare(Literal<?> literal, String value) {
+    Object literalValue = literal == null ? null : literal.value();
+    if (literalValue == null) {
+      return null;
+    }
+
+    if (literalValue instanceof Number || literalValue instanceof Decimal) {
+      BigDecimal number =
+          literalValue instanceof Decimal
+              ? ((Decimal) literalValue).value()
+              : new BigDecimal(literalValue.toString());
+      try {
+        return number.compareTo(new BigDecimal(value.trim()));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException(
+            "Partition filter value " + value + " is not a number", e);
+      }
+    }
+    return literalValue.toString().compareTo(value);
+  }
+
+  private static List<String> splitConditions(String expression) {
+    // Split by AND outside of the quoted values
+    List<String> parts = new ArrayList<>();
+    StringBuilder unquoted = new StringBuilder();
+    int start = 0;
+    boolean quoted = false;
+    for (int i = 0; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '\'') {
+        quoted = !quoted;
+      }
+      // Mask the quoted characters so that the AND inside a value isn't a separator
+      unquoted.append(quoted || c == '\'' ? '\'' : c);
+    }
+    Matcher matcher = AND_PATTERN.matcher(unquoted);
+    while (matcher.find()) {
+      parts.add(expression.substring(start, matcher.start()));
+      start = matcher.end();
+    }
+    parts.add(expression.substring(start));
+    return parts;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PartitionFilter)) {
+      return false;
+    }
+    return conditions.equals(((PartitionFilter) o).conditions);
+  }
+
+  @Override
+  public int hashCode() {
+    return conditions.hashCode();
+  }
+
+  /**
+   * @return The filter expression, which could be parsed by {@link #parse(String)}.
+   */
+  @Override
+  public String toString() {
+    return conditions.stream().map(Condition::toString).collect(Collectors.joining(" AND "));
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.partitions;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * The options of listing the partitions of a table. The partitions are listed in the order of
+ * their names, optionally filtered and page by page. A paged listing starts without a page token,
+ * and continues with the token returned by the previous page until no token is returned. The
+ * filter must be the same for all the pages of a listing.
+ */
+@Evolving
+public final class PartitionListingOptions {
+
+  /** The max number of partitions in a page. */
+  public static final int MAX_PAGE_SIZE = 10000;
+
+  @Nullable private final PartitionFilter filter;
+  private final int pageSize;
+  @Nullable private final String pageToken;
+
+  private PartitionListingOptions(PartitionFilter filter, int pageSize, String pageToken) {
+    Preconditions.checkArgument(
+        pageSize >= 0 && pageSize <= MAX_PAGE_SIZE,
+        "Page size must be non-negative and not greater than %s, got %s",
+        MAX_PAGE_SIZE,
+        pageSize);
+    this.filter = filter;
+    this.pageSize = pageSize;
+    this.pageToken = pageToken;
+  }
+
+  /**
+   * Creates a new builder of the options.
+   *
+   * @return The builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return The filter of the partitions, or null to list all the partitions.
+   */
+  @Nullable
+  public PartitionFilter filter() {
+    return filter;
+  }
+
+  /**
+   * @return The max number of partitions in the page, 0 to list all the matched partitions in one
+   *     page.
+   */
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /**
+   * @return The token returned by the previous page, or null for the first page.
+   */
+  @Nullable
+  public String pageToken() {
+    return pageToken;
+  }
+
+  /** The builder of {@link PartitionListingOptions}. */
+  public static class Builder {
+    private PartitionFilter filter;
+    private int pageSize;
+    private String pageToken;
+
+    private Builder() {}
+
+    /**
+     * @param filter The filter of the partitions.
+     * @return The builder.
+     */
+    public Builder withFilter(PartitionFilter filter) {
+      this.filter = filter;
+      return this;
+    }
+
+    /**
+     * @param pageSize The max number of partitions in the page, 0 for no limit.
+     * @return The builder.
+     */
+    public Builder withPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * @param pageToken The token returned by the previous page.
+     * @return The builder.
+     */
+    public Builder withPageToken(String pageToken) {
+      this.pageToken = pageToken;
+      return this;
+    }
+
+    /**
+     * @return The options.
+     */
+    public PartitionListingOptions build() {
+      return new PartitionListingOptions(filter, pageSize, pageToken);
+    }
+  }
+}
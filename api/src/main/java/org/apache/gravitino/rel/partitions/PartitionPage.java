@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.partitions;
+
+import com.google.common.collect.ImmutableList;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A page of the partitions, or partition names, of a table.
+ *
+ * @param <T> The type of the listed elements.
+ */
+@Evolving
+public final class PartitionPage<T> {
+
+  private static final String TOKEN_PREFIX = "v1:";
+
+  private final List<T> elements;
+  @Nullable private final String nextPageToken;
+
+  /**
+   * Creates a page.
+   *
+   * @param elements The elements in the page.
+   * @param nextPageToken The token to list the next page, or null if it's the last page.
+   */
+  public PartitionPage(List<T> elements, @Nullable String nextPageToken) {
+    this.elements = ImmutableList.copyOf(elements);
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Cuts the page requested by the options out of the matched elements.
+   *
+   * @param sortedElements The matched elements, sorted by their partition names.
+   * @param nameOf The function to get the partition name of an element.
+   * @param options The listing options.
+   * @param <T> The type of the elements.
+   * @return The page.
+   * @throws IllegalArgumentException If the page token is invalid.
+   */
+  public static <T> PartitionPage<T> of(
+      List<T> sortedElements, Function<T, String> nameOf, PartitionListingOptions options) {
+    String lastName = decodePageToken(options.pageToken());
+    int start = 0;
+    if (lastName != null) {
+      // Binary search for the first partition after the last one of the previous page
+      int high = sortedElements.size();
+      while (start < high) {
+        int mid = (start + high) >>> 1;
+        if (nameOf.apply(sortedElements.get(mid)).compareTo(lastName) <= 0) {
+          start = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+    }
+
+    int end =
+        options.pageSize() == 0
+            ? sortedElements.size()
+            : Math.min(sortedElements.size(), start + options.pageSize());
+    String nextPageToken =
+        end < sortedElements.size()
+            ? encodePageToken(nameOf.apply(sortedElements.get(end - 1)))
+            : null;
+    return new PartitionPage<>(sortedElements.subList(start, end), nextPageToken);
+  }
+
+  /**
+   * Encodes the page token that continues the listing after a partition. The partitions are
+   * listed in the order of their names, so the token stays valid if partitions are added or
+   * dropped between pages.
+   *
+   * @param lastPartitionName The name of the last partition of the page.
+   * @return The page token.
+   */
+  public static String encodePageToken(String lastPartitionName) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((TOKEN_PREFIX + lastPartitionName).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a page token.
+   *
+   * @param pageToken The page token, or null for the first page.
+   * @return The name of the last partition of the previous page, or null for the first page.
+   * @throws IllegalArgumentException If the page token is invalid.
+   */
+  @Nullable
+  public static String decodePageToken(@Nullable String pageToken) {
+    if (pageToken == null || pageToken.isEmpty()) {
+      return null;
+    }
+    try {
+      String token = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      if (token.startsWith(TOKEN_PREFIX)) {
+        return token.substring(TOKEN_PREFIX.length());
+      }
+    } catch (IllegalArgumentException e) {
+      // Fall through to report the invalid token
+    }
+    throw new IllegalArgumentException("Invalid page token: " + pageToken);
+  }
+
+  /**
+   * @return The elements in the page.
+   */
+  public List<T> elements() {
+    return elements;
+  }
+
+  /**
+   * @return The token to list the next page, or null if it's the last page.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+}
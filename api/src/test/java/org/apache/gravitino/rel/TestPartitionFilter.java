@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import org.apache.gravitino.rel.expressions.literals.Literal;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.Partitions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPartitionFilter {
+
+  @Test
+  public void testParse() {
+    PartitionFilter filter = PartitionFilter.parse("dt >= '2024-01-01' and region != 'it''s'");
+    Assertions.assertEquals(2, filter.conditions().size());
+    Assertions.assertEquals("dt", filter.conditions().get(0).fieldName());
+    Assertions.assertEquals(
+        PartitionFilter.Operator.GREATER_THAN_OR_EQUAL, filter.conditions().get(0).operator());
+    Assertions.assertEquals("2024-01-01", filter.conditions().get(0).value());
+    Assertions.assertEquals(
+        PartitionFilter.Operator.NOT_EQUAL, filter.conditions().get(1).operator());
+    Assertions.assertEquals("it's", filter.conditions().get(1).value());
+
+    // The string form could be parsed back
+    Assertions.assertEquals(filter, PartitionFilter.parse(filter.toString()));
+
+    // AND inside a quoted value doesn't split the conditions
+    PartitionFilter quoted = PartitionFilter.parse("region = 'a AND b'");
+    Assertions.assertEquals(1, quoted.conditions().size());
+    Assertions.assertEquals("a AND b", quoted.conditions().get(0).value());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionFilter.parse(""));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PartitionFilter.parse("dt LIKE '2024%'"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PartitionFilter.parse("dt = 1 OR dt = 2"));
+  }
+
+  @Test
+  public void testMatchIdentityPartition() {
+    Partition partition =
+        Partitions.identity(
+            new String[][] {{"dt"}, {"city"}},
+            new Literal<?>[] {
+              Literals.dateLiteral(LocalDate.parse("2024-01-15")), Literals.integerLiteral(10)
+            });
+
+    Assertions.assertTrue(
+        PartitionFilter.parse("dt >= '2024-01-01' AND dt < '2024-02-01'").matches(partition, null));
+    // Numeric fields are compared numerically
+    Assertions.assertTrue(PartitionFilter.parse("city > 9").matches(partition, null));
+    Assertions.assertTrue(PartitionFilter.parse("CITY = 10.0").matches(partition, null));
+    Assertions.assertFalse(
+        PartitionFilter.parse("dt = '2024-01-15' AND city <> 10").matches(partition, null));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PartitionFilter.parse("region = 'us'").matches(partition, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PartitionFilter.parse("city = 'ten'").matches(partition, null));
+  }
+
+  @Test
+  public void testMatchRangeAndListPartitions() {
+    String[][] fieldNames = new String[][] {{"id"}};
+    // Covers [10, 20)
+    Partition range =
+        Partitions.range(
+            "p1", Literals.integerLiteral(20), Literals.integerLiteral(10), Collections.emptyMap());
+    Assertions.assertTrue(PartitionFilter.parse("id = 10").matches(range, fieldNames));
+    Assertions.assertFalse(PartitionFilter.parse("id = 20").matches(range, fieldNames));
+    Assertions.assertTrue(PartitionFilter.parse("id >= 15").matches(range, fieldNames));
+    Assertions.assertFalse(PartitionFilter.parse("id < 10").matches(range, fieldNames));
+
+    Partition unbounded =
+        Partitions.range("p0", Literals.integerLiteral(10), Literals.NULL, Collections.emptyMap());
+    Assertions.assertTrue(PartitionFilter.parse("id < -100").matches(unbounded, fieldNames));
+
+    Partition list =
+        Partitions.list(
+            "p_us",
+            new Literal<?>[][] {
+              {Literals.stringLiteral("us"), Literals.integerLiteral(1)},
+              {Literals.stringLiteral("ca"), Literals.integerLiteral(2)}
+            },
+            Collections.emptyMap());
+    String[][] listFields = new String[][] {{"region"}, {"id"}};
+    Assertions.assertTrue(
+        PartitionFilter.parse("region = 'ca' AND id = 2").matches(list, listFields));
+    Assertions.assertFalse(
+        PartitionFilter.parse("region = 'ca' AND id = 1").matches(list, listFields));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PartitionFilter.parse("id = 1").matches(range, null));
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPartitionPage {
+
+  private static final List<String> NAMES = Arrays.asList("p1", "p2", "p3", "p4", "p5");
+
+  @Test
+  public void testPaging() {
+    PartitionPage<String> first =
+        PartitionPage.of(NAMES, n -> n, PartitionListingOptions.builder().withPageSize(2).build());
+    Assertions.assertEquals(Arrays.asList("p1", "p2"), first.elements());
+    Assertions.assertNotNull(first.nextPageToken());
+
+    // A partition added before the token doesn't shift the next page
+    List<String> names = Lists.newArrayList("p0", "p1", "p2", "p3", "p4", "p5");
+    PartitionPage<String> second =
+        PartitionPage.of(
+            names,
+            n -> n,
+            PartitionListingOptions.builder()
+                .withPageSize(2)
+                .withPageToken(first.nextPageToken())
+                .build());
+    Assertions.assertEquals(Arrays.asList("p3", "p4"), second.elements());
+
+    PartitionPage<String> last =
+        PartitionPage.of(
+            names,
+            n -> n,
+            PartitionListingOptions.builder()
+                .withPageSize(2)
+                .withPageToken(second.nextPageToken())
+                .build());
+    Assertions.assertEquals(Arrays.asList("p5"), last.elements());
+    Assertions.assertNull(last.nextPageToken());
+
+    PartitionPage<String> all =
+        PartitionPage.of(NAMES, n -> n, PartitionListingOptions.builder().build());
+    Assertions.assertEquals(NAMES, all.elements());
+    Assertions.assertNull(all.nextPageToken());
+  }
+
+  @Test
+  public void testInvalidOptions() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PartitionListingOptions.builder().withPageSize(-1).build());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            PartitionListingOptions.builder()
+                .withPageSize(PartitionListingOptions.MAX_PAGE_SIZE + 1)
+                .build());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            PartitionPage.of(
+                NAMES,
+                n -> n,
+                PartitionListingOptions.builder().withPageToken("not-a-token").build()));
+  }
+}
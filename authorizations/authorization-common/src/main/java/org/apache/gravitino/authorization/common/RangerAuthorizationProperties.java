@@ -69,6 +69,45 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
 
   public static final String DEFAULT_JDBC_URL = "jdbc:hive2://127.0.0.1:8081";
 
+  /**
+   * Ranger policy synchronization mode, `sync` pushes policy changes to Ranger inside the metadata
+   * operation, `async` records them and pushes them to Ranger in background batches.
+   */
+  public static final String POLICY_SYNC_MODE = "authorization.ranger.policy.sync.mode";
+
+  public static final String POLICY_SYNC_MODE_SYNC = "sync";
+  public static final String POLICY_SYNC_MODE_ASYNC = "async";
+
+  /** The directory of the journal recording the pending policy changes in async mode */
+  public static final String POLICY_SYNC_JOURNAL_DIR =
+      "authorization.ranger.policy.sync.journal.dir";
+
+  /** The max number of policy changes pushed to Ranger in one batch in async mode */
+  public static final String POLICY_SYNC_BATCH_SIZE = "authorization.ranger.policy.sync.batch-size";
+
+  public static final int DEFAULT_POLICY_SYNC_BATCH_SIZE = 500;
+
+  /** The max number of concurrent Ranger requests when pushing a batch in async mode */
+  public static final String POLICY_SYNC_CONCURRENCY =
+      "authorization.ranger.policy.sync.concurrency";
+
+  public static final int DEFAULT_POLICY_SYNC_CONCURRENCY = 4;
+
+  /** The interval in milliseconds to push the pending policy changes in async mode */
+  public static final String POLICY_SYNC_INTERVAL_MS =
+      "authorization.ranger.policy.sync.interval-ms";
+
+  public static final long DEFAULT_POLICY_SYNC_INTERVAL_MS = 1000L;
+
+  /**
+   * The interval in milliseconds to compare the synchronized policies with Ranger and repair the
+   * drift in async mode, 0 disables the reconciliation
+   */
+  public static final String POLICY_SYNC_RECONCILE_INTERVAL_MS =
+      "authorization.ranger.policy.sync.reconcile-interval-ms";
+
+  public static final long DEFAULT_POLICY_SYNC_RECONCILE_INTERVAL_MS = 600000L;
+
   public RangerAuthorizationProperties(Map<String, String> properties) {
     super(properties);
   }
@@ -111,5 +150,13 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
     Preconditions.checkArgument(
         properties.get(RANGER_SERVICE_NAME) != null,
         String.format(ErrorMessages.MISSING_REQUIRED_ARGUMENT, RANGER_SERVICE_NAME));
+
+    String syncMode = properties.getOrDefault(POLICY_SYNC_MODE, POLICY_SYNC_MODE_SYNC);
+    Preconditions.checkArgument(
+        POLICY_SYNC_MODE_SYNC.equalsIgnoreCase(syncMode)
+            || POLICY_SYNC_MODE_ASYNC.equalsIgnoreCase(syncMode),
+        String.format(
+            "%s must be %s or %s, but got %s",
+            POLICY_SYNC_MODE, POLICY_SYNC_MODE_SYNC, POLICY_SYNC_MODE_ASYNC, syncMode));
   }
 }
@@ -142,4 +142,31 @@ public class TestRangerAuthorizationProperties {
           rangerAuthProperties.validate();
         });
   }
+
+  @Test
+  void testRangerPropertiesPolicySyncMode() {
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put("authorization.ranger.auth.type", "simple");
+    properties.put("authorization.ranger.admin.url", "http://localhost:6080");
+    properties.put("authorization.ranger.username", "admin");
+    properties.put("authorization.ranger.password", "admin");
+    properties.put("authorization.ranger.service.type", "hive");
+    properties.put("authorization.ranger.service.name", "hiveDev");
+    properties.put("authorization.ranger.policy.sync.mode", "async");
+    Assertions.assertDoesNotThrow(
+        () -> {
+          RangerAuthorizationProperties rangerAuthProperties =
+              new RangerAuthorizationProperties(properties);
+          rangerAuthProperties.validate();
+        });
+
+    properties.put("authorization.ranger.policy.sync.mode", "lazy");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          RangerAuthorizationProperties rangerAuthProperties =
+              new RangerAuthorizationProperties(properties);
+          rangerAuthProperties.validate();
+        });
+  }
 }
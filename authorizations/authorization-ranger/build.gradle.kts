@@ -53,6 +53,7 @@ dependencies {
   implementation(libs.javax.ws.rs.api)
   implementation(libs.jettison)
   implementation(libs.mail)
+  implementation(libs.metrics.core)
   implementation(libs.ranger.intg) {
     exclude("org.apache.hive", "hive-storage-api")
     exclude("org.apache.lucene")
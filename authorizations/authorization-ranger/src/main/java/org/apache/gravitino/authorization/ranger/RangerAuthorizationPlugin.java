@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.AuthorizationMetadataObject;
 import org.apache.gravitino.authorization.AuthorizationPrivilege;
@@ -57,6 +58,7 @@ import org.apache.gravitino.exceptions.AuthorizationPluginException;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.ranger.RangerServiceException;
 import org.apache.ranger.plugin.model.RangerPolicy;
@@ -75,6 +77,8 @@ import org.slf4j.LoggerFactory;
  * So we can use the Ranger Role to implement the Gravitino Role. <br>
  * 4. The Ranger policy also supports multiple users and groups, But we only use a user or group to
  * implement Gravitino Owner concept. <br>
+ * 5. In the async policy sync mode, the policy changes are pushed to Ranger in background by the
+ * {@link RangerPolicySyncQueue}. <br>
  */
 public abstract class RangerAuthorizationPlugin
     implements AuthorizationPlugin, AuthorizationPrivilegesMappingProvider {
@@ -87,6 +91,8 @@ public abstract class RangerAuthorizationPlugin
   protected RangerClientExtension rangerClient;
   protected RangerHelper rangerHelper;
   @VisibleForTesting public final String rangerAdminName;
+  private RangerPolicySyncQueue policySyncQueue;
+  private RangerPolicySyncMetricsSource policySyncMetricsSource;
 
   protected RangerAuthorizationPlugin(String metalake, Map<String, String> config) {
     this.metalake = metalake;
@@ -114,6 +120,53 @@ public abstract class RangerAuthorizationPlugin
             rangerServiceName,
             ownerMappingRule(),
             policyResourceDefinesRule());
+
+    if (RangerAuthorizationProperties.POLICY_SYNC_MODE_ASYNC.equalsIgnoreCase(
+        config.get(RangerAuthorizationProperties.POLICY_SYNC_MODE))) {
+      initPolicySyncQueue(config);
+    }
+  }
+
+  private void initPolicySyncQueue(Map<String, String> config) {
+    policySyncQueue =
+        new RangerPolicySyncQueue(
+            rangerClient,
+            rangerServiceName,
+            Integer.parseInt(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.POLICY_SYNC_BATCH_SIZE,
+                    String.valueOf(RangerAuthorizationProperties.DEFAULT_POLICY_SYNC_BATCH_SIZE))),
+            Integer.parseInt(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.POLICY_SYNC_CONCURRENCY,
+                    String.valueOf(RangerAuthorizationProperties.DEFAULT_POLICY_SYNC_CONCURRENCY))),
+            Long.parseLong(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.POLICY_SYNC_INTERVAL_MS,
+                    String.valueOf(RangerAuthorizationProperties.DEFAULT_POLICY_SYNC_INTERVAL_MS))),
+            Long.parseLong(
+                getConfValue(
+                    config,
+                    RangerAuthorizationProperties.POLICY_SYNC_RECONCILE_INTERVAL_MS,
+                    String.valueOf(
+                        RangerAuthorizationProperties.DEFAULT_POLICY_SYNC_RECONCILE_INTERVAL_MS))),
+            RangerPolicySyncQueue.journalPath(
+                config.get(RangerAuthorizationProperties.POLICY_SYNC_JOURNAL_DIR),
+                metalake,
+                rangerServiceName));
+    policySyncQueue.start();
+    rangerClient.setPolicySyncQueue(policySyncQueue);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null) {
+      policySyncMetricsSource =
+          new RangerPolicySyncMetricsSource(metalake, rangerServiceName, policySyncQueue);
+      metricsSystem.register(policySyncMetricsSource);
+    }
   }
 
   @VisibleForTesting
@@ -1040,7 +1093,15 @@ public abstract class RangerAuthorizationPlugin
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    if (policySyncQueue != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null && policySyncMetricsSource != null) {
+        metricsSystem.unregister(policySyncMetricsSource);
+      }
+      policySyncQueue.close();
+    }
+  }
 
   /**
    * Generate authorization securable object.
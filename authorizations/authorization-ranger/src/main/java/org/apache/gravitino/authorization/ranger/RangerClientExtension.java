@@ -24,6 +24,7 @@ import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.api.client.UniformInterfaceException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
@@ -40,7 +41,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Apache Ranger client extension <br>
  * The class extends the RangerClient class and provides additional methods to create, search and
- * delete users and groups
+ * delete users and groups. <br>
+ * If a {@link RangerPolicySyncQueue} is set, the policy changes are recorded in the queue and
+ * pushed to Ranger asynchronously, and the policy searches see the changes not pushed yet.
  */
 public class RangerClientExtension extends RangerClient {
   private static final Logger LOG = LoggerFactory.getLogger(RangerClientExtension.class);
@@ -77,6 +80,8 @@ public class RangerClientExtension extends RangerClient {
   // private void callAPI(API api, Map<String, String> params) throws RangerServiceException
   private Method callAPIMethodNonResponse;
 
+  private RangerPolicySyncQueue policySyncQueue;
+
   public RangerClientExtension(String hostName, String authType, String username, String password) {
     super(hostName, authType, username, password, null);
 
@@ -100,10 +105,17 @@ public class RangerClientExtension extends RangerClient {
     }
   }
 
+  void setPolicySyncQueue(RangerPolicySyncQueue policySyncQueue) {
+    this.policySyncQueue = policySyncQueue;
+  }
+
   @Override
   public RangerPolicy createPolicy(RangerPolicy policy) throws RangerServiceException {
     Preconditions.checkArgument(
         policy.getResources().size() > 0, "Ranger policy resources can not be empty!");
+    if (policySyncQueue != null) {
+      return policySyncQueue.createPolicy(policy);
+    }
     return super.createPolicy(policy);
   }
 
@@ -112,9 +124,65 @@ public class RangerClientExtension extends RangerClient {
       throws RangerServiceException {
     Preconditions.checkArgument(
         policy.getResources().size() > 0, "Ranger policy resources can not be empty!");
+    if (policySyncQueue != null) {
+      return policySyncQueue.updatePolicy(policyId, policy);
+    }
     return super.updatePolicy(policyId, policy);
   }
 
+  @Override
+  public void deletePolicy(long policyId) throws RangerServiceException {
+    if (policySyncQueue != null) {
+      policySyncQueue.deletePolicy(policyId);
+      return;
+    }
+    super.deletePolicy(policyId);
+  }
+
+  @Override
+  public List<RangerPolicy> findPolicies(Map<String, String> filter)
+      throws RangerServiceException {
+    List<RangerPolicy> policies = super.findPolicies(filter);
+    return policySyncQueue == null ? policies : policySyncQueue.overlay(policies, filter);
+  }
+
+  @Override
+  public List<RangerPolicy> getPoliciesInService(String serviceName)
+      throws RangerServiceException {
+    List<RangerPolicy> policies = super.getPoliciesInService(serviceName);
+    return policySyncQueue == null ? policies : policySyncQueue.overlay(policies, null);
+  }
+
+  @Override
+  public void deleteRole(String roleName, String execUser, String serviceName)
+      throws RangerServiceException {
+    // Ranger refuses to delete the role referenced by policies, so the pending policy changes
+    // removing the role must be pushed first.
+    if (policySyncQueue != null) {
+      policySyncQueue.flush();
+    }
+    super.deleteRole(roleName, execUser, serviceName);
+  }
+
+  // The following methods always access Ranger directly, they are used to push the policy
+  // changes recorded in the RangerPolicySyncQueue.
+
+  RangerPolicy doCreatePolicy(RangerPolicy policy) throws RangerServiceException {
+    return super.createPolicy(policy);
+  }
+
+  RangerPolicy doUpdatePolicy(long policyId, RangerPolicy policy) throws RangerServiceException {
+    return super.updatePolicy(policyId, policy);
+  }
+
+  void doDeletePolicy(long policyId) throws RangerServiceException {
+    super.deletePolicy(policyId);
+  }
+
+  List<RangerPolicy> doGetPoliciesInService(String serviceName) throws RangerServiceException {
+    return super.getPoliciesInService(serviceName);
+  }
+
   public Boolean createUser(VXUser user) throws RuntimeException {
     try {
       callAPIMethodClassResponseType.invoke(this, CREATE_EXTERNAL_USER, null, user, VXUser.class);
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Metrics of the asynchronous Ranger policy synchronization. */
+public class RangerPolicySyncMetricsSource extends MetricsSource {
+
+  public RangerPolicySyncMetricsSource(
+      String metalake, String rangerServiceName, RangerPolicySyncQueue policySyncQueue) {
+    super(
+        String.join(
+            ".",
+            MetricsSource.GRAVITINO_RANGER_POLICY_SYNC_METRIC_PREFIX,
+            metalake,
+            rangerServiceName));
+    registerGauge(
+        MetricNames.POLICY_SYNC_PENDING_CHANGES,
+        (Gauge<Integer>) policySyncQueue::pendingChanges);
+    registerGauge(MetricNames.POLICY_SYNC_LAG_MS, (Gauge<Long>) policySyncQueue::syncLagMs);
+    registerGauge(
+        MetricNames.POLICY_SYNC_SYNCED_CHANGES, (Gauge<Long>) policySyncQueue::syncedChanges);
+    registerGauge(
+        MetricNames.POLICY_SYNC_FAILED_CHANGES, (Gauge<Long>) policySyncQueue::failedChanges);
+    registerGauge(
+        MetricNames.POLICY_SYNC_REPAIRED_POLICIES,
+        (Gauge<Long>) policySyncQueue::repairedPolicies);
+  }
+}
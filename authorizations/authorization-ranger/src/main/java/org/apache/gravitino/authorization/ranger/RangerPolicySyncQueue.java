@@ -0,0 +1,773 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.apache.ranger.plugin.util.JsonUtilsV2;
+import org.apache.ranger.plugin.util.SearchFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the Ranger policy changes made by the authorization plugin and pushes them to Ranger in
+ * background batches, so that the latency of metadata operations doesn't depend on Ranger. <br>
+ * 1. Each change carries the full desired state of a policy, so the changes of the same policy are
+ * coalesced and only the latest one is pushed. <br>
+ * 2. The changes are appended to a local journal before they are acknowledged, and replayed after
+ * restart. <br>
+ * 3. The policies created but not pushed yet get a provisional negative id, and the pending changes
+ * are overlaid on the policies searched from Ranger, so the plugin always reads its own writes.
+ * <br>
+ * 4. A periodic reconciler compares the policies pushed by this queue with Ranger, and re-pushes
+ * the Gravitino managed policy items changed out of band. <br>
+ */
+public class RangerPolicySyncQueue implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RangerPolicySyncQueue.class);
+  private static final String JOURNAL_SUFFIX = ".journal";
+  private static final String FIELD_SEPARATOR = "\t";
+
+  enum Operation {
+    UPSERT,
+    DELETE
+  }
+
+  @VisibleForTesting
+  static class Change {
+    final Operation operation;
+    final long policyId;
+    // The JSON of the desired policy, null for the DELETE operation
+    final String policyJson;
+    // The time the oldest coalesced change of the policy was recorded
+    final long recordTime;
+
+    Change(Operation operation, long policyId, String policyJson, long recordTime) {
+      this.operation = operation;
+      this.policyId = policyId;
+      this.policyJson = policyJson;
+      this.recordTime = recordTime;
+    }
+  }
+
+  private final RangerClientExtension rangerClient;
+  private final String rangerServiceName;
+  private final int batchSize;
+  private final long syncIntervalMs;
+  private final long reconcileIntervalMs;
+  private final Path journalPath;
+
+  private final Object lock = new Object();
+  private final Object flushLock = new Object();
+  // Guarded by lock, the insertion order is the order to push the changes
+  private final LinkedHashMap<Long, Change> pending = new LinkedHashMap<>();
+  // Guarded by lock, the changes being pushed to Ranger
+  private final Map<Long, Change> inflight = new HashMap<>();
+  // Provisional id to the id assigned by Ranger
+  private final Map<Long, Long> resolvedIds = new ConcurrentHashMap<>();
+  // The policies pushed by this queue, used by the reconciler to detect drift
+  private final Map<Long, String> syncedPolicies = new ConcurrentHashMap<>();
+  private final AtomicLong provisionalIds = new AtomicLong(0);
+
+  private final AtomicLong syncedChanges = new AtomicLong(0);
+  private final AtomicLong failedChanges = new AtomicLong(0);
+  private final AtomicLong repairedPolicies = new AtomicLong(0);
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService pushExecutor;
+  private BufferedWriter journalWriter;
+
+  RangerPolicySyncQueue(
+      RangerClientExtension rangerClient,
+      String rangerServiceName,
+      int batchSize,
+      int concurrency,
+      long syncIntervalMs,
+      long reconcileIntervalMs,
+      Path journalPath) {
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+    Preconditions.checkArgument(concurrency > 0, "The concurrency must be positive");
+    Preconditions.checkArgument(syncIntervalMs > 0, "The sync interval must be positive");
+    Preconditions.checkArgument(
+        reconcileIntervalMs >= 0, "The reconcile interval must not be negative");
+    this.rangerClient = rangerClient;
+    this.rangerServiceName = rangerServiceName;
+    this.batchSize = batchSize;
+    this.syncIntervalMs = syncIntervalMs;
+    this.reconcileIntervalMs = reconcileIntervalMs;
+    this.journalPath = journalPath;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("ranger-policy-sync-" + rangerServiceName)
+                .build());
+    this.pushExecutor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("ranger-policy-push-" + rangerServiceName + "-%d")
+                .build());
+  }
+
+  /** Replays the journal and starts pushing the pending changes in the background. */
+  public void start() {
+    if (journalPath != null) {
+      try {
+        replayJournal();
+        openJournal();
+      } catch (IOException e) {
+        throw new AuthorizationPluginException(
+            e, "Failed to load the Ranger policy sync journal %s", journalPath);
+      }
+    } else {
+      LOG.warn(
+          "The Ranger policy sync journal isn't configured, the pending policy changes of "
+              + "service {} will be lost if the server crashes",
+          rangerServiceName);
+    }
+
+    scheduler.scheduleWithFixedDelay(
+        this::flushQuietly, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    if (reconcileIntervalMs > 0) {
+      scheduler.scheduleWithFixedDelay(
+          this::reconcileQuietly, reconcileIntervalMs, reconcileIntervalMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Records a new policy, the returned policy carries a provisional negative id until the policy
+   * is created in Ranger.
+   */
+  RangerPolicy createPolicy(RangerPolicy policy) {
+    long policyId = provisionalIds.decrementAndGet();
+    policy.setId(policyId);
+    record(new Change(Operation.UPSERT, policyId, toJson(policy), System.currentTimeMillis()));
+    return policy;
+  }
+
+  RangerPolicy updatePolicy(long policyId, RangerPolicy policy) {
+    long resolvedId = resolve(policyId);
+    policy.setId(resolvedId);
+    record(new Change(Operation.UPSERT, resolvedId, toJson(policy), System.currentTimeMillis()));
+    return policy;
+  }
+
+  void deletePolicy(long policyId) {
+    long resolvedId = resolve(policyId);
+    record(new Change(Operation.DELETE, resolvedId, null, System.currentTimeMillis()));
+  }
+
+  /**
+   * Applies the pending changes to the policies searched from Ranger.
+   *
+   * @param policies The policies searched from Ranger.
+   * @param filter The search filter, only the pending policies matching it are added.
+   * @return The policies with the pending changes applied.
+   */
+  List<RangerPolicy> overlay(List<RangerPolicy> policies, Map<String, String> filter) {
+    Map<Long, Change> unsynced = new LinkedHashMap<>();
+    synchronized (lock) {
+      if (pending.isEmpty() && inflight.isEmpty()) {
+        return policies;
+      }
+      inflight.forEach((id, change) -> unsynced.put(resolve(id), change));
+      pending.forEach((id, change) -> unsynced.put(resolve(id), change));
+    }
+
+    List<RangerPolicy> unsyncedPolicies = new ArrayList<>();
+    for (Map.Entry<Long, Change> entry : unsynced.entrySet()) {
+      if (entry.getValue().operation == Operation.UPSERT) {
+        RangerPolicy policy = fromJson(entry.getValue().policyJson);
+        policy.setId(entry.getKey());
+        unsyncedPolicies.add(policy);
+      }
+    }
+    // Ranger policy names are unique in a service, a policy created right now may be returned by
+    // Ranger before its provisional id is resolved.
+    Set<String> unsyncedNames =
+        unsyncedPolicies.stream().map(RangerPolicy::getName).collect(Collectors.toSet());
+
+    List<RangerPolicy> result =
+        policies.stream()
+            .filter(
+                policy ->
+                    !unsynced.containsKey(policy.getId())
+                        && !unsyncedNames.contains(policy.getName()))
+            .collect(Collectors.toList());
+    unsyncedPolicies.stream().filter(policy -> matches(policy, filter)).forEach(result::add);
+    return result;
+  }
+
+  /**
+   * Pushes all the pending changes to Ranger.
+   *
+   * @throws AuthorizationPluginException If some changes can't be pushed.
+   */
+  void flush() {
+    int failures = doFlush();
+    if (failures > 0) {
+      throw new AuthorizationPluginException(
+          "Failed to push %d policy changes to the Ranger service %s", failures, rangerServiceName);
+    }
+  }
+
+  /** The number of the policy changes not pushed to Ranger yet. */
+  public int pendingChanges() {
+    synchronized (lock) {
+      return pending.size() + inflight.size();
+    }
+  }
+
+  /** The age in milliseconds of the oldest policy change not pushed to Ranger yet. */
+  public long syncLagMs() {
+    long oldest = Long.MAX_VALUE;
+    synchronized (lock) {
+      for (Change change : pending.values()) {
+        oldest = Math.min(oldest, change.recordTime);
+      }
+      for (Change change : inflight.values()) {
+        oldest = Math.min(oldest, change.recordTime);
+      }
+    }
+    return oldest == Long.MAX_VALUE ? 0L : System.currentTimeMillis() - oldest;
+  }
+
+  public long syncedChanges() {
+    return syncedChanges.get();
+  }
+
+  public long failedChanges() {
+    return failedChanges.get();
+  }
+
+  public long repairedPolicies() {
+    return repairedPolicies.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    scheduler.shutdownNow();
+    try {
+      scheduler.awaitTermination(syncIntervalMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // Try our best to push the remaining changes, the journal keeps the failed ones.
+    flushQuietly();
+    pushExecutor.shutdownNow();
+    synchronized (lock) {
+      if (journalWriter != null) {
+        journalWriter.close();
+        journalWriter = null;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int doFlush() {
+    synchronized (flushLock) {
+      int failures = 0;
+      boolean pushed = false;
+      while (failures == 0) {
+        List<Map.Entry<Long, Change>> batch = new ArrayList<>();
+        synchronized (lock) {
+          Iterator<Map.Entry<Long, Change>> iterator = pending.entrySet().iterator();
+          while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<Long, Change> entry = iterator.next();
+            iterator.remove();
+            inflight.put(entry.getKey(), entry.getValue());
+            batch.add(entry);
+          }
+        }
+        if (batch.isEmpty()) {
+          break;
+        }
+        pushed = true;
+
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, Change> entry : batch) {
+          futures.add(pushExecutor.submit(() -> push(entry.getKey(), entry.getValue())));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+          Map.Entry<Long, Change> entry = batch.get(i);
+          try {
+            futures.get(i).get();
+            onPushed(entry.getKey());
+          } catch (ExecutionException e) {
+            failures++;
+            onPushFailed(entry.getKey(), entry.getValue(), e.getCause());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures++;
+            onPushFailed(entry.getKey(), entry.getValue(), e);
+          }
+        }
+      }
+
+      if (pushed) {
+        compactJournal();
+      }
+      return failures;
+    }
+  }
+
+  @VisibleForTesting
+  void reconcile() throws RangerServiceException {
+    if (syncedPolicies.isEmpty()) {
+      return;
+    }
+
+    Map<Long, RangerPolicy> currentPolicies =
+        rangerClient.doGetPoliciesInService(rangerServiceName).stream()
+            .collect(Collectors.toMap(RangerPolicy::getId, policy -> policy, (a, b) -> a));
+    for (Map.Entry<Long, String> entry : syncedPolicies.entrySet()) {
+      long policyId = entry.getKey();
+      synchronized (lock) {
+        if (pending.containsKey(policyId) || inflight.containsKey(policyId)) {
+          // The newer change will overwrite the policy anyway.
+          continue;
+        }
+      }
+
+      RangerPolicy desired = fromJson(entry.getValue());
+      RangerPolicy current = currentPolicies.get(policyId);
+      if (current == null) {
+        LOG.warn(
+            "The Ranger policy {}({}) was deleted out of band, recreate it",
+            desired.getName(),
+            policyId);
+        syncedPolicies.remove(policyId);
+        desired.setId(null);
+        createPolicy(desired);
+        repairedPolicies.incrementAndGet();
+      } else if (!desired.getResources().equals(current.getResources())
+          || !managedItems(desired.getPolicyItems()).equals(managedItems(current.getPolicyItems()))
+          || !managedItems(desired.getDenyPolicyItems())
+              .equals(managedItems(current.getDenyPolicyItems()))) {
+        LOG.warn(
+            "The Ranger policy {}({}) was changed out of band, repair the Gravitino managed items",
+            desired.getName(),
+            policyId);
+        // Keep the policy items not managed by Gravitino
+        current.setResources(desired.getResources());
+        current.setPolicyItems(
+            merge(current.getPolicyItems(), managedItems(desired.getPolicyItems())));
+        current.setDenyPolicyItems(
+            merge(current.getDenyPolicyItems(), managedItems(desired.getDenyPolicyItems())));
+        updatePolicy(policyId, current);
+        repairedPolicies.incrementAndGet();
+      }
+    }
+  }
+
+  private void push(long policyId, Change change) throws RangerServiceException {
+    long resolvedId = resolve(policyId);
+    if (change.operation == Operation.DELETE) {
+      if (resolvedId > 0) {
+        rangerClient.doDeletePolicy(resolvedId);
+        syncedPolicies.remove(resolvedId);
+      }
+      // Otherwise the policy was never created in Ranger
+      return;
+    }
+
+    RangerPolicy policy = fromJson(change.policyJson);
+    RangerPolicy pushed;
+    if (resolvedId > 0) {
+      policy.setId(resolvedId);
+      pushed = rangerClient.doUpdatePolicy(resolvedId, policy);
+    } else {
+      pushed = createOrUpdateByName(policy);
+      resolvedIds.put(policyId, pushed.getId());
+    }
+    syncedPolicies.put(pushed.getId(), toJson(pushed));
+  }
+
+  /**
+   * The creation may have been pushed before the journal was compacted, so fall back to update the
+   * policy with the same name.
+   */
+  private RangerPolicy createOrUpdateByName(RangerPolicy policy) throws RangerServiceException {
+    policy.setId(null);
+    try {
+      return rangerClient.doCreatePolicy(policy);
+    } catch (RangerServiceException e) {
+      RangerPolicy existing;
+      try {
+        existing = rangerClient.getPolicy(rangerServiceName, policy.getName());
+      } catch (RangerServiceException notFound) {
+        throw e;
+      }
+      if (existing == null) {
+        throw e;
+      }
+      policy.setId(existing.getId());
+      return rangerClient.doUpdatePolicy(existing.getId(), policy);
+    }
+  }
+
+  private void onPushed(long policyId) {
+    syncedChanges.incrementAndGet();
+    synchronized (lock) {
+      inflight.remove(policyId);
+      Long resolvedId = resolvedIds.get(policyId);
+      if (resolvedId != null) {
+        // The changes recorded while the policy was being created use the provisional id.
+        Change change = pending.remove(policyId);
+        if (change != null) {
+          pending.put(
+              resolvedId,
+              new Change(change.operation, resolvedId, change.policyJson, change.recordTime));
+        }
+      }
+    }
+  }
+
+  private void onPushFailed(long policyId, Change change, Throwable cause) {
+    failedChanges.incrementAndGet();
+    LOG.warn(
+        "Failed to push the {} change of policy {} to the Ranger service {}, will retry",
+        change.operation,
+        policyId,
+        rangerServiceName,
+        cause);
+    synchronized (lock) {
+      inflight.remove(policyId);
+      // A newer change of the same policy supersedes the failed one.
+      pending.putIfAbsent(policyId, change);
+    }
+  }
+
+  private void record(Change change) {
+    synchronized (lock) {
+      Change previous = pending.get(change.policyId);
+      Change coalesced = change;
+      if (previous != null) {
+        coalesced =
+            new Change(change.operation, change.policyId, change.policyJson, previous.recordTime);
+      }
+
+      if (coalesced.operation == Operation.DELETE
+          && coalesced.policyId < 0
+          && !inflight.containsKey(coalesced.policyId)) {
+        // The policy was never pushed to Ranger, just forget it.
+        pending.remove(coalesced.policyId);
+      } else {
+        pending.put(coalesced.policyId, coalesced);
+      }
+      appendJournal(coalesced);
+    }
+
+    if (pendingChanges() >= batchSize && !scheduler.isShutdown()) {
+      scheduler.execute(this::flushQuietly);
+    }
+  }
+
+  private long resolve(long policyId) {
+    return policyId < 0 ? resolvedIds.getOrDefault(policyId, policyId) : policyId;
+  }
+
+  private void flushQuietly() {
+    try {
+      doFlush();
+    } catch (Exception e) {
+      LOG.warn("Failed to push the policy changes to the Ranger service {}", rangerServiceName, e);
+    }
+  }
+
+  private void reconcileQuietly() {
+    try {
+      reconcile();
+    } catch (Exception e) {
+      LOG.warn("Failed to reconcile the policies of the Ranger service {}", rangerServiceName, e);
+    }
+  }
+
+  private void replayJournal() throws IOException {
+    if (!Files.exists(journalPath)) {
+      Files.createDirectories(journalPath.getParent());
+      return;
+    }
+
+    long minPolicyId = 0;
+    try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        String[] fields = line.split(FIELD_SEPARATOR, 4);
+        if (fields.length < 3) {
+          // A partially written line when the server crashed
+          LOG.warn("Skip the malformed Ranger policy sync journal line: {}", line);
+          continue;
+        }
+        Operation operation = Operation.valueOf(fields[0]);
+        long policyId = Long.parseLong(fields[1]);
+        long recordTime = Long.parseLong(fields[2]);
+        minPolicyId = Math.min(minPolicyId, policyId);
+        if (operation == Operation.DELETE && policyId < 0) {
+          pending.remove(policyId);
+        } else {
+          pending.put(
+              policyId,
+              new Change(
+                  operation,
+                  policyId,
+                  operation == Operation.UPSERT ? fields[3] : null,
+                  recordTime));
+        }
+      }
+    }
+    provisionalIds.set(minPolicyId);
+    LOG.info(
+        "Replayed {} pending policy changes of the Ranger service {} from {}",
+        pending.size(),
+        rangerServiceName,
+        journalPath);
+  }
+
+  private void openJournal() throws IOException {
+    synchronized (lock) {
+      writeSnapshot();
+      journalWriter =
+          Files.newBufferedWriter(
+              journalPath,
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND);
+    }
+  }
+
+  private void appendJournal(Change change) {
+    if (journalWriter == null) {
+      return;
+    }
+    try {
+      journalWriter.write(toJournalLine(change));
+      journalWriter.newLine();
+      journalWriter.flush();
+    } catch (IOException e) {
+      throw new AuthorizationPluginException(
+          e, "Failed to record the policy change to the journal %s", journalPath);
+    }
+  }
+
+  /** Rewrites the journal with the changes not pushed yet, so it doesn't grow forever. */
+  private void compactJournal() {
+    synchronized (lock) {
+      if (journalWriter == null) {
+        return;
+      }
+      try {
+        journalWriter.close();
+        writeSnapshot();
+        journalWriter =
+            Files.newBufferedWriter(
+                journalPath,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        LOG.warn("Failed to compact the Ranger policy sync journal {}", journalPath, e);
+      }
+    }
+  }
+
+  private void writeSnapshot() throws IOException {
+    Path tmpPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+    try (BufferedWriter writer = Files.newBufferedWriter(tmpPath, StandardCharsets.UTF_8)) {
+      for (Change change : inflight.values()) {
+        writer.write(toJournalLine(change));
+        writer.newLine();
+      }
+      for (Change change : pending.values()) {
+        writer.write(toJournalLine(change));
+        writer.newLine();
+      }
+    }
+    Files.move(
+        tmpPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static String toJournalLine(Change change) {
+    StringBuilder builder =
+        new StringBuilder()
+            .append(change.operation.name())
+            .append(FIELD_SEPARATOR)
+            .append(change.policyId)
+            .append(FIELD_SEPARATOR)
+            .append(change.recordTime);
+    if (change.policyJson != null) {
+      builder.append(FIELD_SEPARATOR).append(change.policyJson);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * The journal is under the configured directory, or `$GRAVITINO_HOME/data/ranger-policy-sync` by
+   * default. Returns null if neither is available.
+   */
+  static Path journalPath(String journalDir, String metalake, String rangerServiceName) {
+    Path dir;
+    if (journalDir != null) {
+      dir = Paths.get(journalDir);
+    } else if (System.getenv("GRAVITINO_HOME") != null) {
+      dir = Paths.get(System.getenv("GRAVITINO_HOME"), "data", "ranger-policy-sync");
+    } else {
+      return null;
+    }
+    return dir.resolve(metalake + "-" + rangerServiceName + JOURNAL_SUFFIX);
+  }
+
+  private static List<RangerPolicy.RangerPolicyItem> managedItems(
+      List<RangerPolicy.RangerPolicyItem> policyItems) {
+    return policyItems.stream()
+        .filter(RangerHelper::isGravitinoManagedPolicyItemAccess)
+        .collect(Collectors.toList());
+  }
+
+  private static List<RangerPolicy.RangerPolicyItem> merge(
+      List<RangerPolicy.RangerPolicyItem> currentItems,
+      List<RangerPolicy.RangerPolicyItem> managedItems) {
+    List<RangerPolicy.RangerPolicyItem> items =
+        currentItems.stream()
+            .filter(item -> !RangerHelper.isGravitinoManagedPolicyItemAccess(item))
+            .collect(Collectors.toList());
+    items.addAll(managedItems);
+    return items;
+  }
+
+  /**
+   * Ranger searches the policies whose resources match the filter with wildcards, the pending
+   * policies are matched in the same way, and the callers filter the results precisely.
+   */
+  private static boolean matches(RangerPolicy policy, Map<String, String> filter) {
+    if (filter == null) {
+      return true;
+    }
+    String policyName = filter.get(SearchFilter.POLICY_NAME);
+    if (policyName != null && !policyName.equals(policy.getName())) {
+      return false;
+    }
+
+    for (Map.Entry<String, String> entry : filter.entrySet()) {
+      if (!entry.getKey().startsWith(SearchFilter.RESOURCE_PREFIX)) {
+        continue;
+      }
+      String resourceDefine = entry.getKey().substring(SearchFilter.RESOURCE_PREFIX.length());
+      RangerPolicy.RangerPolicyResource resource = policy.getResources().get(resourceDefine);
+      if (resource == null) {
+        return false;
+      }
+      String value = entry.getValue();
+      boolean matched =
+          resource.getValues().stream()
+              .anyMatch(
+                  resourceValue ->
+                      wildcardMatch(value, resourceValue) || wildcardMatch(resourceValue, value));
+      if (!matched) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean wildcardMatch(String text, String pattern) {
+    if (!pattern.contains("*") && !pattern.contains("?")) {
+      return text.equals(pattern);
+    }
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (char c : pattern.toCharArray()) {
+      if (c == '*' || c == '?') {
+        if (literal.length() > 0) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '*' ? ".*" : ".");
+      } else {
+        literal.append(c);
+      }
+    }
+    if (literal.length() > 0) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.matches(regex.toString(), text);
+  }
+
+  private static String toJson(RangerPolicy policy) {
+    try {
+      return JsonUtilsV2.objToJson(policy);
+    } catch (Exception e) {
+      throw new AuthorizationPluginException(e, "Failed to serialize the policy %s", policy);
+    }
+  }
+
+  private static RangerPolicy fromJson(String json) {
+    try {
+      return JsonUtilsV2.jsonToObj(json, RangerPolicy.class);
+    } catch (Exception e) {
+      throw new AuthorizationPluginException(e, "Failed to deserialize the policy %s", json);
+    }
+  }
+
+  @VisibleForTesting
+  Set<Long> pendingPolicyIds() {
+    synchronized (lock) {
+      Set<Long> ids = new HashSet<>(pending.keySet());
+      ids.addAll(inflight.keySet());
+      return ids;
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.apache.ranger.plugin.util.SearchFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TestRangerPolicySyncQueue {
+  private static final String SERVICE_NAME = "hiveDev";
+  private static final long HOUR_MS = 3600_000L;
+
+  @TempDir Path journalDir;
+
+  private RangerClientExtension rangerClient;
+  private RangerPolicySyncQueue queue;
+  private final AtomicLong policyIds = new AtomicLong(100);
+
+  @BeforeEach
+  public void setUp() throws RangerServiceException {
+    rangerClient = Mockito.mock(RangerClientExtension.class);
+    Mockito.when(rangerClient.doCreatePolicy(ArgumentMatchers.any()))
+        .thenAnswer(
+            invocation -> {
+              RangerPolicy policy = invocation.getArgument(0);
+              policy.setId(policyIds.incrementAndGet());
+              return policy;
+            });
+    Mockito.when(rangerClient.doUpdatePolicy(ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+    queue = newQueue(rangerClient);
+    queue.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    queue.close();
+  }
+
+  @Test
+  public void testCoalesceChangesOfSamePolicy() throws Exception {
+    RangerPolicy policy = queue.createPolicy(policy("db1", "select"));
+    Assertions.assertTrue(policy.getId() < 0);
+    RangerPolicy updated = policy("db1", "select", "update");
+    queue.updatePolicy(policy.getId(), updated);
+    Assertions.assertEquals(1, queue.pendingChanges());
+
+    Assertions.assertEquals(0, queue.doFlush());
+    ArgumentCaptor<RangerPolicy> captor = ArgumentCaptor.forClass(RangerPolicy.class);
+    Mockito.verify(rangerClient, Mockito.times(1)).doCreatePolicy(captor.capture());
+    Mockito.verify(rangerClient, Mockito.never())
+        .doUpdatePolicy(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+    Assertions.assertEquals(2, captor.getValue().getPolicyItems().size());
+    Assertions.assertEquals(0, queue.pendingChanges());
+    Assertions.assertEquals(1, queue.syncedChanges());
+
+    // The provisional id is resolved to the id assigned by Ranger
+    queue.deletePolicy(policy.getId());
+    queue.doFlush();
+    Mockito.verify(rangerClient).doDeletePolicy(101L);
+  }
+
+  @Test
+  public void testDeleteUnpushedPolicy() throws Exception {
+    RangerPolicy policy = queue.createPolicy(policy("db1", "select"));
+    queue.deletePolicy(policy.getId());
+    Assertions.assertEquals(0, queue.pendingChanges());
+
+    queue.doFlush();
+    Mockito.verify(rangerClient, Mockito.never()).doCreatePolicy(ArgumentMatchers.any());
+    Mockito.verify(rangerClient, Mockito.never()).doDeletePolicy(ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  public void testOverlayPendingChanges() {
+    RangerPolicy existing = policy("db1", "select");
+    existing.setId(1L);
+    RangerPolicy deleted = policy("db2", "select");
+    deleted.setId(2L);
+
+    RangerPolicy updated = policy("db1", "select", "update");
+    queue.updatePolicy(1L, updated);
+    queue.deletePolicy(2L);
+    RangerPolicy created = queue.createPolicy(policy("db3", "select"));
+
+    List<RangerPolicy> all =
+        queue.overlay(Lists.newArrayList(existing, deleted), Collections.emptyMap());
+    Assertions.assertEquals(2, all.size());
+    Assertions.assertEquals(2, all.get(0).getPolicyItems().size());
+    Assertions.assertEquals(created.getId(), all.get(1).getId());
+
+    List<RangerPolicy> db3 =
+        queue.overlay(
+            Lists.newArrayList(existing),
+            ImmutableMap.of(SearchFilter.RESOURCE_PREFIX + "database", "db3"));
+    Assertions.assertEquals(1, db3.size());
+    Assertions.assertEquals("db3", db3.get(0).getName());
+  }
+
+  @Test
+  public void testRetryAndReplayJournal() throws Exception {
+    RangerClientExtension failingClient = Mockito.mock(RangerClientExtension.class);
+    Mockito.when(failingClient.doCreatePolicy(ArgumentMatchers.any()))
+        .thenThrow(new RangerServiceException(new RuntimeException("Ranger is down")));
+    RangerPolicySyncQueue failingQueue = newQueue(failingClient);
+    failingQueue.start();
+    failingQueue.createPolicy(policy("db1", "select"));
+    failingQueue.createPolicy(policy("db2", "select"));
+
+    Assertions.assertThrows(Exception.class, failingQueue::flush);
+    Assertions.assertEquals(2, failingQueue.pendingChanges());
+    Assertions.assertEquals(2, failingQueue.failedChanges());
+    failingQueue.close();
+
+    // Replay the journal left by the failed queue
+    queue.close();
+    queue = newQueue(rangerClient);
+    queue.start();
+    Assertions.assertEquals(2, queue.pendingChanges());
+    queue.flush();
+    Mockito.verify(rangerClient, Mockito.times(2)).doCreatePolicy(ArgumentMatchers.any());
+    Assertions.assertEquals(0, queue.pendingChanges());
+
+    // New provisional ids don't conflict with the replayed ones
+    RangerPolicy policy = queue.createPolicy(policy("db3", "select"));
+    Assertions.assertTrue(policy.getId() < -2);
+  }
+
+  @Test
+  public void testReconcileDrift() throws Exception {
+    queue.createPolicy(policy("db1", "select"));
+    queue.flush();
+
+    // Someone removes the Gravitino managed policy item in Ranger
+    RangerPolicy drifted = policy("db1");
+    drifted.setId(101L);
+    Mockito.when(rangerClient.doGetPoliciesInService(SERVICE_NAME))
+        .thenReturn(Lists.newArrayList(drifted));
+
+    queue.reconcile();
+    Assertions.assertEquals(1, queue.repairedPolicies());
+    queue.flush();
+    ArgumentCaptor<RangerPolicy> captor = ArgumentCaptor.forClass(RangerPolicy.class);
+    Mockito.verify(rangerClient).doUpdatePolicy(ArgumentMatchers.eq(101L), captor.capture());
+    Assertions.assertEquals(1, captor.getValue().getPolicyItems().size());
+  }
+
+  private RangerPolicySyncQueue newQueue(RangerClientExtension client) {
+    return new RangerPolicySyncQueue(
+        client,
+        SERVICE_NAME,
+        10,
+        2,
+        HOUR_MS,
+        0,
+        RangerPolicySyncQueue.journalPath(journalDir.toString(), "metalake", SERVICE_NAME));
+  }
+
+  private static RangerPolicy policy(String database, String... accesses) {
+    RangerPolicy policy = new RangerPolicy();
+    policy.setService(SERVICE_NAME);
+    policy.setName(database);
+    policy.getResources().put("database", new RangerPolicy.RangerPolicyResource(database));
+    for (String access : accesses) {
+      RangerPolicy.RangerPolicyItem policyItem = new RangerPolicy.RangerPolicyItem();
+      policyItem.getAccesses().add(new RangerPolicy.RangerPolicyItemAccess(access));
+      policyItem.getRoles().add(RangerHelper.GRAVITINO_ROLE_PREFIX + "role1");
+      policy.getPolicyItems().add(policyItem);
+    }
+    return policy;
+  }
+}
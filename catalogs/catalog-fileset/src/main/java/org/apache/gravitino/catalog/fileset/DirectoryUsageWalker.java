@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Walks a directory tree in parallel to sum up the size and the number of the files under it.
+ *
+ * <p>Every directory is a task of the executor, and every file system call takes a permit of the
+ * rate limiter, so that a scan doesn't flood the name node or the object store. The walker is
+ * incremental: the snapshot of the files directly under a directory is reused as long as the
+ * modification time of the directory is unchanged, in which case the directory costs a {@code
+ * getFileStatus} of each sub directory instead of a full listing. The modification time of a
+ * directory changes when an entry is added, removed or renamed under it, but not when a file is
+ * appended, so the size of an appended file is refreshed when its directory changes.
+ */
+class DirectoryUsageWalker {
+
+  private final Executor executor;
+  private final RateLimiter rateLimiter;
+  private final long smallFileThresholdBytes;
+
+  DirectoryUsageWalker(Executor executor, RateLimiter rateLimiter, long smallFileThresholdBytes) {
+    this.executor = executor;
+    this.rateLimiter = rateLimiter;
+    this.smallFileThresholdBytes = smallFileThresholdBytes;
+  }
+
+  /**
+   * Walks the directory tree under the root.
+   *
+   * @param fs The file system of the root.
+   * @param root The root directory.
+   * @param previous The snapshots of the directories taken by the previous walk of the root.
+   * @return The usage of the root, with the snapshots to pass to the next walk.
+   * @throws IOException If failed to list the directories.
+   */
+  DirectoryUsage walk(FileSystem fs, Path root, Map<Path, DirectorySnapshot> previous)
+      throws IOException {
+    rateLimiter.acquire();
+    FileStatus rootStatus = fs.getFileStatus(root);
+    if (!rootStatus.isDirectory()) {
+      long size = rootStatus.getLen();
+      return new DirectoryUsage(
+          size, 1, 0, size < smallFileThresholdBytes ? 1 : 0, 0, 0, Collections.emptyMap());
+    }
+
+    Walk walk = new Walk(fs, previous);
+    walk.submit(rootStatus.getPath(), rootStatus.getModificationTime());
+    try {
+      walk.done.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while walking " + root, e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException("Failed to walk " + root, cause);
+    }
+
+    return new DirectoryUsage(
+        walk.bytes.sum(),
+        walk.files.sum(),
+        walk.directories.sum(),
+        walk.smallFiles.sum(),
+        walk.listedDirectories.sum(),
+        walk.reusedDirectories.sum(),
+        walk.snapshots);
+  }
+
+  private class Walk {
+    private final FileSystem fs;
+    private final Map<Path, DirectorySnapshot> previous;
+    private final Map<Path, DirectorySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder files = new LongAdder();
+    private final LongAdder directories = new LongAdder();
+    private final LongAdder smallFiles = new LongAdder();
+    private final LongAdder listedDirectories = new LongAdder();
+    private final LongAdder reusedDirectories = new LongAdder();
+
+    private Walk(FileSystem fs, Map<Path, DirectorySnapshot> previous) {
+      this.fs = fs;
+      this.previous = previous;
+    }
+
+    private void submit(Path dir, long modificationTime) {
+      pending.incrementAndGet();
+      try {
+        executor.execute(
+            () -> {
+              try {
+                if (!done.isDone()) {
+                  visit(dir, modificationTime);
+                }
+              } catch (Throwable t) {
+                done.completeExceptionally(t);
+              } finally {
+                finish();
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        done.completeExceptionally(e);
+        finish();
+      }
+    }
+
+    private void finish() {
+      if (pending.decrementAndGet() == 0) {
+        done.complete(null);
+      }
+    }
+
+    private void visit(Path dir, long modificationTime) throws IOException {
+      DirectorySnapshot snapshot = previous.get(dir);
+      // Object stores don't keep the modification time of directories, always list them
+      if (snapshot != null
+          && modificationTime > 0
+          && snapshot.modificationTime == modificationTime) {
+        reusedDirectories.increment();
+        for (Path subDir : snapshot.subDirectories) {
+          rateLimiter.acquire();
+          try {
+            submit(subDir, fs.getFileStatus(subDir).getModificationTime());
+          } catch (FileNotFoundException e) {
+            // Removed after the modification time of the parent was read, it's gone in the next
+            // walk because the modification time of the parent changed.
+          }
+        }
+      } else {
+        listedDirectories.increment();
+        rateLimiter.acquire();
+        long dirBytes = 0;
+        long dirFiles = 0;
+        long dirSmallFiles = 0;
+        ImmutableList.Builder<Path> subDirectories = ImmutableList.builder();
+        for (FileStatus status : fs.listStatus(dir)) {
+          if (status.isDirectory()) {
+            subDirectories.add(status.getPath());
+            submit(status.getPath(), status.getModificationTime());
+          } else {
+            dirBytes += status.getLen();
+            dirFiles++;
+            if (status.getLen() < smallFileThresholdBytes) {
+              dirSmallFiles++;
+            }
+          }
+        }
+        snapshot =
+            new DirectorySnapshot(
+                modificationTime, dirBytes, dirFiles, dirSmallFiles, subDirectories.build());
+      }
+
+      snapshots.put(dir, snapshot);
+      bytes.add(snapshot.bytes);
+      files.add(snapshot.files);
+      smallFiles.add(snapshot.smallFiles);
+      directories.increment();
+    }
+  }
+
+  /** The files directly under a directory at the time of its modification time. */
+  static class DirectorySnapshot {
+    private final long modificationTime;
+    private final long bytes;
+    private final long files;
+    private final long smallFiles;
+    private final List<Path> subDirectories;
+
+    DirectorySnapshot(
+        long modificationTime, long bytes, long files, long smallFiles, List<Path> subDirectories) {
+      this.modificationTime = modificationTime;
+      this.bytes = bytes;
+      this.files = files;
+      this.smallFiles = smallFiles;
+      this.subDirectories = subDirectories;
+    }
+  }
+
+  /** The usage of a directory tree. */
+  static class DirectoryUsage {
+    private final long bytes;
+    private final long files;
+    private final long directories;
+    private final long smallFiles;
+    private final long listedDirectories;
+    private final long reusedDirectories;
+    private final Map<Path, DirectorySnapshot> snapshots;
+
+    DirectoryUsage(
+        long bytes,
+        long files,
+        long directories,
+        long smallFiles,
+        long listedDirectories,
+        long reusedDirectories,
+        Map<Path, DirectorySnapshot> snapshots) {
+      this.bytes = bytes;
+      this.files = files;
+      this.directories = directories;
+      this.smallFiles = smallFiles;
+      this.listedDirectories = listedDirectories;
+      this.reusedDirectories = reusedDirectories;
+      this.snapshots = snapshots;
+    }
+
+    long bytes() {
+      return bytes;
+    }
+
+    long files() {
+      return files;
+    }
+
+    long directories() {
+      return directories;
+    }
+
+    long smallFiles() {
+      return smallFiles;
+    }
+
+    /** The number of directories listed by the walk, the others reused their snapshots. */
+    long listedDirectories() {
+      return listedDirectories;
+    }
+
+    long reusedDirectories() {
+      return reusedDirectories;
+    }
+
+    Map<Path, DirectorySnapshot> snapshots() {
+      return snapshots;
+    }
+  }
+}
@@ -61,6 +61,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -73,6 +74,8 @@ import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
 import org.apache.gravitino.catalog.FilesetFileOps;
 import org.apache.gravitino.catalog.ManagedSchemaOperations;
 import org.apache.gravitino.catalog.hadoop.fs.FileSystemProvider;
@@ -80,6 +83,7 @@ import org.apache.gravitino.catalog.hadoop.fs.FileSystemUtils;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.credential.PathContext;
 import org.apache.gravitino.connector.credential.SupportsPathBasedCredentials;
 import org.apache.gravitino.credential.CredentialConstants;
@@ -104,6 +108,7 @@ import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.FilesetCatalogMetricsSource;
+import org.apache.gravitino.stats.StatisticDispatcher;
 import org.apache.gravitino.utils.FilesetUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -147,10 +152,16 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
 
   @VisibleForTesting ScheduledThreadPoolExecutor scheduler;
 
+  @Nullable private FilesetUsageScanner usageScanner;
+
   // TODO: Move the file system cache to the module of hadoop-common and reuse it in the
   // BaseGVFSOperations
   @VisibleForTesting Cache<FileSystemCacheKey, FileSystem> fileSystemCache;
 
+  // The open listings of the paged file listing, keyed by the cursor ids in the page tokens
+  private final Cache<String, PagedFileLister.Cursor> listingCursors =
+      PagedFileLister.newCursorCache();
+
   private final ThreadPoolExecutor fileSystemExecutor =
       new ThreadPoolExecutor(
           Math.max(2, Math.min(Runtime.getRuntime().availableProcessors() * 2, 16)),
@@ -304,6 +315,45 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     if (metricsSystem != null) {
       metricsSystem.register(catalogMetricsSource);
     }
+
+    startUsageScanner(config);
+  }
+
+  private void startUsageScanner(Map<String, String> config) {
+    PropertiesMetadata catalogProperties = propertiesMetadata.catalogPropertiesMetadata();
+    long scanIntervalMs =
+        (long)
+            catalogProperties.getOrDefault(
+                config, FilesetCatalogPropertiesMetadata.USAGE_SCAN_INTERVAL_MS);
+    if (scanIntervalMs <= 0) {
+      return;
+    }
+
+    StatisticDispatcher statisticDispatcher = GravitinoEnv.getInstance().statisticDispatcher();
+    if (disableFSOps || statisticDispatcher == null) {
+      LOG.warn(
+          "Storage usage scan of catalog {} is disabled, file system operations are disabled or "
+              + "the statistics are unavailable",
+          catalogInfo.name());
+      return;
+    }
+
+    this.usageScanner =
+        new FilesetUsageScanner(
+            this,
+            catalogInfo.namespace().level(0),
+            catalogInfo.name(),
+            statisticDispatcher,
+            (int)
+                catalogProperties.getOrDefault(
+                    config, FilesetCatalogPropertiesMetadata.USAGE_SCAN_PARALLELISM),
+            (int)
+                catalogProperties.getOrDefault(
+                    config, FilesetCatalogPropertiesMetadata.USAGE_SCAN_MAX_CALLS_PER_SECOND),
+            (long)
+                catalogProperties.getOrDefault(
+                    config, FilesetCatalogPropertiesMetadata.USAGE_SMALL_FILE_THRESHOLD_BYTES));
+    usageScanner.start(scanIntervalMs);
   }
 
   @Override
@@ -349,27 +399,9 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
   @Override
   public FileInfo[] listFiles(NameIdentifier filesetIdent, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
-    if (disableFSOps) {
-      LOG.warn("Filesystem operations disabled, rejecting listFiles for {}", filesetIdent);
-      throw new UnsupportedOperationException("Filesystem operations are disabled on this server");
-    }
-
-    Fileset fileset = loadFileset(filesetIdent);
-    String actualPath = getFileLocation(fileset, subPath, locationName);
-
-    Path actualPathObj = new Path(actualPath);
-    Map<String, String> fsConf =
-        mergeUpLevelConfigurations(filesetIdent, fileset.properties(), actualPathObj);
-    FileSystem fileSystem = getFileSystemWithCache(actualPathObj, fsConf);
-    Path formalizedPath =
-        new Path(actualPath).makeQualified(fileSystem.getUri(), fileSystem.getWorkingDirectory());
-
-    FileSystem fs = getFileSystemWithCache(formalizedPath, fsConf);
-    if (!fs.exists(formalizedPath)) {
-      throw new IllegalArgumentException(
-          String.format(
-              "Path %s does not exist in fileset %s", formalizedPath.toString(), filesetIdent));
-    }
+    Pair<FileSystem, Path> listingPath = resolveListingPath(filesetIdent, locationName, subPath);
+    FileSystem fs = listingPath.getLeft();
+    Path formalizedPath = listingPath.getRight();
 
     String catalogName = filesetIdent.namespace().level(1);
     String schemaName = filesetIdent.namespace().level(2);
@@ -393,6 +425,56 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public FileListingPage listFiles(
+      NameIdentifier filesetIdent,
+      String locationName,
+      String subPath,
+      FileListingOptions options)
+      throws NoSuchFilesetException, IOException {
+    Pair<FileSystem, Path> listingPath = resolveListingPath(filesetIdent, locationName, subPath);
+    String gvfsDirPath =
+        buildGVFSFilePath(
+            filesetIdent.namespace().level(1),
+            filesetIdent.namespace().level(2),
+            filesetIdent.name(),
+            subPath);
+
+    try {
+      return new PagedFileLister(
+              listingPath.getLeft(), listingPath.getRight(), gvfsDirPath, listingCursors)
+          .list(options);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list files in fileset" + filesetIdent, e);
+    }
+  }
+
+  private Pair<FileSystem, Path> resolveListingPath(
+      NameIdentifier filesetIdent, String locationName, String subPath) throws IOException {
+    if (disableFSOps) {
+      LOG.warn("Filesystem operations disabled, rejecting listFiles for {}", filesetIdent);
+      throw new UnsupportedOperationException("Filesystem operations are disabled on this server");
+    }
+
+    Fileset fileset = loadFileset(filesetIdent);
+    String actualPath = getFileLocation(fileset, subPath, locationName);
+
+    Path actualPathObj = new Path(actualPath);
+    Map<String, String> fsConf =
+        mergeUpLevelConfigurations(filesetIdent, fileset.properties(), actualPathObj);
+    FileSystem fileSystem = getFileSystemWithCache(actualPathObj, fsConf);
+    Path formalizedPath =
+        new Path(actualPath).makeQualified(fileSystem.getUri(), fileSystem.getWorkingDirectory());
+
+    FileSystem fs = getFileSystemWithCache(formalizedPath, fsConf);
+    if (!fs.exists(formalizedPath)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Path %s does not exist in fileset %s", formalizedPath.toString(), filesetIdent));
+    }
+    return Pair.of(fs, formalizedPath);
+  }
+
   @Override
   public Fileset createMultipleLocationFileset(
       NameIdentifier ident,
@@ -957,7 +1039,10 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
 
   @Override
   public void close() throws IOException {
-    // do nothing
+    if (usageScanner != null) {
+      usageScanner.close();
+    }
+
     if (scheduler != null) {
       scheduler.shutdownNow();
     }
@@ -966,6 +1051,8 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
       fileSystemExecutor.shutdownNow();
     }
 
+    listingCursors.invalidateAll();
+
     if (fileSystemCache != null) {
       fileSystemCache
           .asMap()
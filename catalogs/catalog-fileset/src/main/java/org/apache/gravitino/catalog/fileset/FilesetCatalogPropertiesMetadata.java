@@ -86,6 +86,31 @@ public class FilesetCatalogPropertiesMetadata extends BaseCatalogPropertiesMetad
 
   static final boolean DEFAULT_DISABLE_FILESYSTEM_OPS = false;
 
+  /**
+   * The interval in milliseconds to scan the storage usage of the filesets in the catalog and
+   * publish it as the statistics of the filesets, -1 disables the scan.
+   */
+  public static final String USAGE_SCAN_INTERVAL_MS = "fileset-usage-scan-interval-ms";
+
+  static final long DEFAULT_USAGE_SCAN_INTERVAL_MS = -1L;
+
+  /** The number of threads to list the directories when scanning the storage usage. */
+  public static final String USAGE_SCAN_PARALLELISM = "fileset-usage-scan-parallelism";
+
+  static final int DEFAULT_USAGE_SCAN_PARALLELISM = 4;
+
+  /** The max number of file system calls per second when scanning the storage usage. */
+  public static final String USAGE_SCAN_MAX_CALLS_PER_SECOND =
+      "fileset-usage-scan-max-calls-per-second";
+
+  static final int DEFAULT_USAGE_SCAN_MAX_CALLS_PER_SECOND = 100;
+
+  /** The files smaller than the threshold are counted as small files. */
+  public static final String USAGE_SMALL_FILE_THRESHOLD_BYTES =
+      "fileset-usage-small-file-threshold-bytes";
+
+  static final long DEFAULT_USAGE_SMALL_FILE_THRESHOLD_BYTES = 8 * 1024 * 1024L;
+
   public static final Map<String, PropertyEntry<?>> KERBEROS_PROPERTY_ENTRIES =
       new ImmutableMap.Builder<String, PropertyEntry<?>>()
           .put(
@@ -220,6 +245,39 @@ public class FilesetCatalogPropertiesMetadata extends BaseCatalogPropertiesMetad
                   DEFAULT_DISABLE_FILESYSTEM_OPS,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              USAGE_SCAN_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  USAGE_SCAN_INTERVAL_MS,
+                  "The interval in milliseconds to scan the storage usage of the filesets, "
+                      + "-1 means never scan.",
+                  false /* immutable */,
+                  DEFAULT_USAGE_SCAN_INTERVAL_MS,
+                  false /* hidden */))
+          .put(
+              USAGE_SCAN_PARALLELISM,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  USAGE_SCAN_PARALLELISM,
+                  "The number of threads to list the directories when scanning the storage usage",
+                  false /* immutable */,
+                  DEFAULT_USAGE_SCAN_PARALLELISM,
+                  false /* hidden */))
+          .put(
+              USAGE_SCAN_MAX_CALLS_PER_SECOND,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  USAGE_SCAN_MAX_CALLS_PER_SECOND,
+                  "The max number of file system calls per second when scanning the storage usage",
+                  false /* immutable */,
+                  DEFAULT_USAGE_SCAN_MAX_CALLS_PER_SECOND,
+                  false /* hidden */))
+          .put(
+              USAGE_SMALL_FILE_THRESHOLD_BYTES,
+              PropertyEntry.longOptionalPropertyEntry(
+                  USAGE_SMALL_FILE_THRESHOLD_BYTES,
+                  "The files smaller than the threshold are counted as small files",
+                  false /* immutable */,
+                  DEFAULT_USAGE_SMALL_FILE_THRESHOLD_BYTES,
+                  false /* hidden */))
           // The following two are about authentication.
           .putAll(KERBEROS_PROPERTY_ENTRIES)
           .putAll(AUTHENTICATION_PROPERTY_ENTRIES)
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.fileset.DirectoryUsageWalker.DirectorySnapshot;
+import org.apache.gravitino.catalog.fileset.DirectoryUsageWalker.DirectoryUsage;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.stats.StatisticDispatcher;
+import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.stats.StatisticValues;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scans the storage locations of the filesets in a catalog in background, and publishes the
+ * number of bytes and files of every fileset and location as the statistics of the fileset.
+ *
+ * <p>The statistics of a fileset are:
+ *
+ * <ul>
+ *   <li>{@code usage.bytes}, {@code usage.files}, {@code usage.directories} and {@code
+ *       usage.small-files}, the sum of all the locations of the fileset.
+ *   <li>{@code usage.location.<location name>.bytes}, {@code ...files} and {@code
+ *       ...small-files}, the usage of every location.
+ *   <li>{@code usage.scan-time}, the time in milliseconds the scan of the fileset finished.
+ * </ul>
+ */
+class FilesetUsageScanner implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FilesetUsageScanner.class);
+
+  static final String STAT_PREFIX = "usage.";
+  static final String STAT_BYTES = "bytes";
+  static final String STAT_FILES = "files";
+  static final String STAT_DIRECTORIES = "directories";
+  static final String STAT_SMALL_FILES = "small-files";
+  static final String STAT_SCAN_TIME = STAT_PREFIX + "scan-time";
+  static final String STAT_LOCATION_PREFIX = STAT_PREFIX + "location.";
+
+  private final FilesetCatalogOperations ops;
+  private final String metalake;
+  private final String catalog;
+  private final StatisticDispatcher statisticDispatcher;
+  private final ExecutorService walkerExecutor;
+  private final DirectoryUsageWalker walker;
+  private final ScheduledExecutorService scheduler;
+
+  // The directory snapshots of the last scan, keyed by the fileset identifier and location name
+  private final Map<String, Map<Path, DirectorySnapshot>> snapshots = new ConcurrentHashMap<>();
+
+  FilesetUsageScanner(
+      FilesetCatalogOperations ops,
+      String metalake,
+      String catalog,
+      StatisticDispatcher statisticDispatcher,
+      int parallelism,
+      int maxCallsPerSecond,
+      long smallFileThresholdBytes) {
+    this.ops = ops;
+    this.metalake = metalake;
+    this.catalog = catalog;
+    this.statisticDispatcher = statisticDispatcher;
+    this.walkerExecutor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("fileset-usage-walker-" + catalog + "-%d")
+                .build());
+    this.walker =
+        new DirectoryUsageWalker(
+            walkerExecutor, RateLimiter.create(maxCallsPerSecond), smallFileThresholdBytes);
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("fileset-usage-scanner-" + catalog)
+                .build());
+  }
+
+  void start(long intervalMs) {
+    scheduler.scheduleWithFixedDelay(
+        this::scanSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  private void scanSafely() {
+    try {
+      scan();
+    } catch (Exception e) {
+      LOG.warn("Failed to scan the storage usage of the filesets in catalog {}", catalog, e);
+    }
+  }
+
+  /** Scans all the filesets in the catalog once. */
+  @VisibleForTesting
+  void scan() {
+    long start = System.currentTimeMillis();
+    Set<String> scannedKeys = new HashSet<>();
+    int filesets = 0;
+    for (NameIdentifier schemaIdent : ops.listSchemas(Namespace.of(metalake, catalog))) {
+      Namespace filesetNs = Namespace.of(metalake, catalog, schemaIdent.name());
+      for (NameIdentifier filesetIdent : ops.listFilesets(filesetNs)) {
+        try {
+          scanFileset(filesetIdent, scannedKeys);
+          filesets++;
+        } catch (Exception e) {
+          LOG.warn("Failed to scan the storage usage of fileset {}", filesetIdent, e);
+        }
+      }
+    }
+    // Drop the snapshots of the dropped filesets and locations
+    snapshots.keySet().retainAll(scannedKeys);
+    LOG.info(
+        "Scanned the storage usage of {} filesets in catalog {} in {} ms",
+        filesets,
+        catalog,
+        System.currentTimeMillis() - start);
+  }
+
+  private void scanFileset(NameIdentifier ident, Set<String> scannedKeys) throws Exception {
+    Fileset fileset = ops.loadFileset(ident);
+    long bytes = 0;
+    long files = 0;
+    long directories = 0;
+    long smallFiles = 0;
+    Map<String, StatisticValue<?>> statistics = new HashMap<>();
+
+    for (Map.Entry<String, String> location : fileset.storageLocations().entrySet()) {
+      String key = ident + "#" + location.getKey();
+      scannedKeys.add(key);
+      Path path = new Path(location.getValue());
+      Map<String, String> conf = ops.mergeUpLevelConfigurations(ident, fileset.properties(), path);
+      FileSystem fs = ops.getFileSystemWithCache(path, conf);
+
+      DirectoryUsage usage;
+      if (fs.exists(path)) {
+        usage = walker.walk(fs, path, snapshots.getOrDefault(key, Collections.emptyMap()));
+        snapshots.put(key, usage.snapshots());
+        LOG.debug(
+            "Scanned location {} of fileset {}, listed {} directories and reused {} snapshots",
+            location.getKey(),
+            ident,
+            usage.listedDirectories(),
+            usage.reusedDirectories());
+      } else {
+        usage = new DirectoryUsage(0, 0, 0, 0, 0, 0, Collections.emptyMap());
+        snapshots.remove(key);
+      }
+
+      String locationPrefix = STAT_LOCATION_PREFIX + location.getKey() + ".";
+      statistics.put(locationPrefix + STAT_BYTES, StatisticValues.longValue(usage.bytes()));
+      statistics.put(locationPrefix + STAT_FILES, StatisticValues.longValue(usage.files()));
+      statistics.put(
+          locationPrefix + STAT_SMALL_FILES, StatisticValues.longValue(usage.smallFiles()));
+      bytes += usage.bytes();
+      files += usage.files();
+      directories += usage.directories();
+      smallFiles += usage.smallFiles();
+    }
+
+    statistics.put(STAT_PREFIX + STAT_BYTES, StatisticValues.longValue(bytes));
+    statistics.put(STAT_PREFIX + STAT_FILES, StatisticValues.longValue(files));
+    statistics.put(STAT_PREFIX + STAT_DIRECTORIES, StatisticValues.longValue(directories));
+    statistics.put(STAT_PREFIX + STAT_SMALL_FILES, StatisticValues.longValue(smallFiles));
+    statistics.put(STAT_SCAN_TIME, StatisticValues.longValue(System.currentTimeMillis()));
+
+    MetadataObject object =
+        MetadataObjects.of(
+            ImmutableList.of(catalog, ident.namespace().level(2), ident.name()),
+            MetadataObject.Type.FILESET);
+    statisticDispatcher.updateStatistics(metalake, object, statistics);
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    walkerExecutor.shutdownNow();
+  }
+}
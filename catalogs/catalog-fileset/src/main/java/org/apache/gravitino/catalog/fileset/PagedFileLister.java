@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
+import org.apache.gravitino.dto.file.FileInfoDTO;
+import org.apache.gravitino.file.FileInfo;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+
+/**
+ * Lists a page of the files under a directory. The entries are consumed from the iterators of the
+ * file system, {@code listStatusIterator} for a directory and {@code listFiles(recursive)} for a
+ * recursive listing, so only a page of entries is held in memory no matter how large the directory
+ * is. Object stores implement the recursive listing as a flat listing of the keys under the prefix,
+ * and a prefix containing a path separator is listed from its parent directory directly.
+ *
+ * <p>The iterator of a listing is kept in a cursor cache of the server between the pages, keyed by
+ * the cursor id in the page token, so listing all the pages reads the directory once. When the
+ * cursor has expired, or the page is requested from another server, the listing is reopened and
+ * resumed after the last path returned, which is recorded in the token as well. Entries added or
+ * removed between two pages may be skipped or returned twice.
+ */
+class PagedFileLister {
+
+  private static final String TOKEN_VERSION = "v2:";
+
+  /** The time an unused cursor is kept in the cursor cache. */
+  private static final long CURSOR_TTL_MINUTES = 5;
+
+  private static final long MAX_CURSORS = 1000;
+
+  private final FileSystem fs;
+  private final Path dir;
+  private final String gvfsDirPath;
+  private final Cache<String, Cursor> cursors;
+
+  /**
+   * @param fs The file system of the directory.
+   * @param dir The qualified path of the directory to list.
+   * @param gvfsDirPath The virtual path of the directory, like {@code
+   *     /fileset/catalog/schema/fileset/sub_dir}.
+   * @param cursors The cache of the cursors of the listings between the pages.
+   */
+  PagedFileLister(FileSystem fs, Path dir, String gvfsDirPath, Cache<String, Cursor> cursors) {
+    this.fs = fs;
+    this.dir = dir;
+    this.gvfsDirPath = StringUtils.removeEnd(gvfsDirPath, "/");
+    this.cursors = cursors;
+  }
+
+  /**
+   * Creates the cache of the cursors of the listings between the pages.
+   *
+   * @return The cursor cache.
+   */
+  static Cache<String, Cursor> newCursorCache() {
+    return Caffeine.newBuilder()
+        .expireAfterAccess(CURSOR_TTL_MINUTES, TimeUnit.MINUTES)
+        .maximumSize(MAX_CURSORS)
+        .build();
+  }
+
+  FileListingPage list(FileListingOptions options) throws IOException {
+    PageToken token = PageToken.decode(options.pageToken());
+    String prefix = StringUtils.defaultString(options.prefix());
+    if (!options.recursive() && prefix.contains("/")) {
+      // The paths of the entries directly under the directory never contain a separator
+      return new FileListingPage(new FileInfo[0], null);
+    }
+
+    String listingKey =
+        String.join(
+            "\n",
+            dir.toString(),
+            String.valueOf(options.recursive()),
+            prefix,
+            StringUtils.defaultString(options.glob()));
+    // Take the cursor out of the cache, so concurrent requests of the same page don't share it
+    Cursor cursor = token == null ? null : cursors.asMap().remove(token.cursorId);
+    if (cursor == null
+        || !cursor.listingKey.equals(listingKey)
+        || !token.lastPath.equals(cursor.lastPath)) {
+      cursor = openCursor(listingKey, options, prefix);
+      if (token != null) {
+        cursor.skipThrough(token.lastPath);
+      }
+    }
+
+    List<FileInfo> files = new ArrayList<>();
+    while (files.size() < options.pageSize() && cursor.hasNext()) {
+      FileStatus status = cursor.next();
+      files.add(toFileInfo(status, cursor.lastPath));
+    }
+    if (!cursor.hasNext()) {
+      return new FileListingPage(files.toArray(new FileInfo[0]), null);
+    }
+
+    cursors.put(cursor.id, cursor);
+    return new FileListingPage(
+        files.toArray(new FileInfo[0]), new PageToken(cursor.id, cursor.lastPath).encode());
+  }
+
+  private Cursor openCursor(String listingKey, FileListingOptions options, String prefix)
+      throws IOException {
+    String dirPath = StringUtils.removeEnd(dir.toUri().getPath(), "/") + "/";
+    PathMatcher globMatcher =
+        StringUtils.isBlank(options.glob())
+            ? null
+            : FileSystems.getDefault().getPathMatcher("glob:" + options.glob());
+
+    RemoteIterator<? extends FileStatus> iterator;
+    try {
+      if (!options.recursive()) {
+        iterator = fs.listStatusIterator(dir);
+      } else if (prefix.contains("/")) {
+        // Only list the directory of the prefix instead of all the keys under the directory
+        iterator = fs.listFiles(new Path(dir, StringUtils.substringBeforeLast(prefix, "/")), true);
+      } else {
+        iterator = fs.listFiles(dir, true);
+      }
+    } catch (FileNotFoundException e) {
+      if (options.recursive() && prefix.contains("/")) {
+        // No entry starts with the prefix
+        iterator = emptyIterator();
+      } else {
+        throw e;
+      }
+    }
+    return new Cursor(listingKey, iterator, dirPath, prefix, globMatcher);
+  }
+
+  private FileInfo toFileInfo(FileStatus status, String relativePath) {
+    return FileInfoDTO.builder()
+        .name(status.getPath().getName())
+        .isDir(status.isDirectory())
+        .size(status.isDirectory() ? 0L : status.getLen())
+        .lastModified(status.getModificationTime())
+        .path(gvfsDirPath + "/" + relativePath)
+        .build();
+  }
+
+  private static RemoteIterator<FileStatus> emptyIterator() {
+    return new RemoteIterator<FileStatus>() {
+      @Override
+      public boolean hasNext() {
+        return false;
+      }
+
+      @Override
+      public FileStatus next() {
+        throw new NoSuchElementException();
+      }
+    };
+  }
+
+  /**
+   * The open listing of a directory, it iterates the entries matching the prefix and the glob of
+   * the listing.
+   */
+  static class Cursor {
+    private final String id = UUID.randomUUID().toString();
+    private final String listingKey;
+    private final RemoteIterator<? extends FileStatus> iterator;
+    private final String dirPath;
+    private final String prefix;
+    private final PathMatcher globMatcher;
+
+    private FileStatus nextStatus;
+    private String nextPath;
+    private String lastPath;
+
+    private Cursor(
+        String listingKey,
+        RemoteIterator<? extends FileStatus> iterator,
+        String dirPath,
+        String prefix,
+        PathMatcher globMatcher) {
+      this.listingKey = listingKey;
+      this.iterator = iterator;
+      this.dirPath = dirPath;
+      this.prefix = prefix;
+      this.globMatcher = globMatcher;
+    }
+
+    /**
+     * Skips the entries up to the given path. The file systems list a directory in the same order
+     * every time, so the listing resumes right after the path. If the path has been removed, the
+     * whole listing is skipped and the listing fails, the client should restart it.
+     */
+    private void skipThrough(String path) throws IOException {
+      while (hasNext()) {
+        next();
+        if (lastPath.equals(path)) {
+          return;
+        }
+      }
+      throw new IllegalArgumentException(
+          "The page token has expired and its last listed path "
+              + path
+              + " no longer exists, restart the listing");
+    }
+
+    private boolean hasNext() throws IOException {
+      while (nextStatus == null && iterator.hasNext()) {
+        FileStatus status = iterator.next();
+        String relativePath = relativePath(status.getPath());
+        if (matches(relativePath)) {
+          nextStatus = status;
+          nextPath = relativePath;
+        }
+      }
+      return nextStatus != null;
+    }
+
+    private FileStatus next() {
+      FileStatus status = nextStatus;
+      lastPath = nextPath;
+      nextStatus = null;
+      nextPath = null;
+      return status;
+    }
+
+    private boolean matches(String relativePath) {
+      if (!relativePath.startsWith(prefix)) {
+        return false;
+      }
+      return globMatcher == null || globMatcher.matches(Paths.get(relativePath));
+    }
+
+    private String relativePath(Path path) {
+      String entryPath = path.toUri().getPath();
+      return entryPath.startsWith(dirPath) ? entryPath.substring(dirPath.length()) : path.getName();
+    }
+  }
+
+  /** The page token, the cursor of the listing and the last path returned by the listing. */
+  @VisibleForTesting
+  static class PageToken {
+    private final String cursorId;
+    private final String lastPath;
+
+    PageToken(String cursorId, String lastPath) {
+      this.cursorId = cursorId;
+      this.lastPath = lastPath;
+    }
+
+    String encode() {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(
+              (TOKEN_VERSION + cursorId + ":" + lastPath).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a page token.
+     *
+     * @param pageToken The page token.
+     * @return The page token, or null for the first page.
+     */
+    static PageToken decode(String pageToken) {
+      if (StringUtils.isBlank(pageToken)) {
+        return null;
+      }
+      try {
+        String token = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+        if (token.startsWith(TOKEN_VERSION)) {
+          String value = token.substring(TOKEN_VERSION.length());
+          String cursorId = StringUtils.substringBefore(value, ":");
+          String lastPath = StringUtils.substringAfter(value, ":");
+          if (!cursorId.isEmpty() && !lastPath.isEmpty()) {
+            return new PageToken(cursorId, lastPath);
+          }
+        }
+      } catch (IllegalArgumentException e) {
+        // Fall through to report the invalid token
+      }
+      throw new IllegalArgumentException("Invalid page token: " + pageToken);
+    }
+  }
+}
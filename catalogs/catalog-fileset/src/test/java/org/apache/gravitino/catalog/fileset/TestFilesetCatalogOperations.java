@@ -57,6 +57,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -81,6 +82,8 @@ import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
 import org.apache.gravitino.catalog.hadoop.fs.FileSystemProvider;
 import org.apache.gravitino.catalog.hadoop.fs.FileSystemUtils;
 import org.apache.gravitino.catalog.hadoop.fs.LocalFileSystemProvider;
@@ -1007,6 +1010,86 @@ public class TestFilesetCatalogOperations {
     }
   }
 
+  @Test
+  public void testListFilesetFilesByPage() throws IOException {
+    final long testId = generateTestId();
+    final String schemaName = "schema" + testId;
+    final String comment = "comment" + testId;
+    final String filesetName = "fileset" + testId;
+    final String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    final NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, filesetName);
+
+    createSchema(testId, schemaName, comment, null, schemaPath);
+    createFileset(filesetName, schemaName, comment, Fileset.Type.MANAGED, null, null);
+
+    try (FilesetCatalogOperations ops = new FilesetCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo(), FILESET_PROPERTIES_METADATA);
+
+      Path testDir = new Path(schemaPath + "/" + filesetName);
+      FileSystem fs = testDir.getFileSystem(new Configuration());
+      fs.mkdirs(testDir);
+      for (int i = 0; i < 5; i++) {
+        fs.create(new Path(testDir, "part-" + i + ".parquet")).close();
+      }
+      fs.create(new Path(testDir, "_SUCCESS")).close();
+      fs.create(new Path(testDir, "dt=1/part-0.parquet")).close();
+      fs.create(new Path(testDir, "dt=1/part-1.csv")).close();
+
+      // List a directory page by page
+      Set<String> names = new HashSet<>();
+      String pageToken = null;
+      int pages = 0;
+      do {
+        FileListingPage page =
+            ops.listFiles(
+                filesetIdent,
+                null,
+                "/",
+                FileListingOptions.builder().withPageSize(3).withPageToken(pageToken).build());
+        Assertions.assertTrue(page.files().length <= 3);
+        Arrays.stream(page.files()).forEach(f -> Assertions.assertTrue(names.add(f.name())));
+        pageToken = page.nextPageToken();
+        pages++;
+      } while (pageToken != null);
+      Assertions.assertEquals(3, pages);
+      Assertions.assertEquals(7, names.size());
+      Assertions.assertTrue(names.contains("dt=1"));
+
+      // List the files recursively with a glob filter
+      FileListingPage parquetFiles =
+          ops.listFiles(
+              filesetIdent,
+              null,
+              "/",
+              FileListingOptions.builder().withRecursive(true).withGlob("**.parquet").build());
+      Assertions.assertNull(parquetFiles.nextPageToken());
+      Set<String> paths =
+          Arrays.stream(parquetFiles.files()).map(FileInfo::path).collect(Collectors.toSet());
+      Assertions.assertEquals(6, paths.size());
+      String gvfsPath = String.join("/", "/fileset", "c1", schemaName, filesetName);
+      Assertions.assertTrue(paths.contains(gvfsPath + "/part-0.parquet"));
+      Assertions.assertTrue(paths.contains(gvfsPath + "/dt=1/part-0.parquet"));
+
+      // List the files recursively with a prefix filter
+      FileListingPage partitionFiles =
+          ops.listFiles(
+              filesetIdent,
+              null,
+              "/",
+              FileListingOptions.builder().withRecursive(true).withPrefix("dt=1/").build());
+      Assertions.assertEquals(2, partitionFiles.files().length);
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              ops.listFiles(
+                  filesetIdent,
+                  null,
+                  "/",
+                  FileListingOptions.builder().withPageToken("invalid").build()));
+    }
+  }
+
   @Test
   public void testListFilesetFilesWithFSOpsDisabled() throws Exception {
     final long testId = generateTestId();
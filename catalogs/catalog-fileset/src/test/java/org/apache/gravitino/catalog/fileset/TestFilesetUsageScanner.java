@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.fileset.DirectoryUsageWalker.DirectoryUsage;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.stats.StatisticDispatcher;
+import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.stats.StatisticValues;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TestFilesetUsageScanner {
+
+  @TempDir java.nio.file.Path tempDir;
+
+  private FileSystem fs;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    fs = FileSystem.getLocal(new Configuration()).getRaw();
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testIncrementalWalk() throws IOException {
+    Path root = new Path(tempDir.toUri().toString(), "root");
+    createFile(new Path(root, "a.parquet"), 100);
+    createFile(new Path(root, "dt=1/b.parquet"), 2000);
+    createFile(new Path(root, "dt=1/c.parquet"), 10);
+    createFile(new Path(root, "dt=2/hour=1/d.parquet"), 3000);
+    fs.mkdirs(new Path(root, "empty"));
+
+    DirectoryUsageWalker walker =
+        new DirectoryUsageWalker(executor, RateLimiter.create(1000), 1000);
+    DirectoryUsage usage = walker.walk(fs, root, Collections.emptyMap());
+    Assertions.assertEquals(5110, usage.bytes());
+    Assertions.assertEquals(4, usage.files());
+    Assertions.assertEquals(5, usage.directories());
+    Assertions.assertEquals(2, usage.smallFiles());
+    Assertions.assertEquals(5, usage.listedDirectories());
+
+    // Nothing changed, all the directories reuse their snapshots
+    DirectoryUsage unchanged = walker.walk(fs, root, usage.snapshots());
+    Assertions.assertEquals(5110, unchanged.bytes());
+    Assertions.assertEquals(0, unchanged.listedDirectories());
+    Assertions.assertEquals(5, unchanged.reusedDirectories());
+
+    // Only the changed directory is listed again
+    Path partition = new Path(root, "dt=2/hour=1");
+    long modificationTime = fs.getFileStatus(partition).getModificationTime();
+    createFile(new Path(partition, "e.parquet"), 5);
+    fs.setTimes(partition, modificationTime + 1000, -1);
+    DirectoryUsage changed = walker.walk(fs, root, unchanged.snapshots());
+    Assertions.assertEquals(5115, changed.bytes());
+    Assertions.assertEquals(5, changed.files());
+    Assertions.assertEquals(3, changed.smallFiles());
+    Assertions.assertEquals(1, changed.listedDirectories());
+  }
+
+  @Test
+  public void testScanPublishesStatistics() throws Exception {
+    Path location1 = new Path(tempDir.toUri().toString(), "location1");
+    Path location2 = new Path(tempDir.toUri().toString(), "location2");
+    createFile(new Path(location1, "a.parquet"), 100);
+    createFile(new Path(location2, "dt=1/b.parquet"), 2000);
+
+    NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", "s1", "f1");
+    Fileset fileset = Mockito.mock(Fileset.class);
+    Mockito.when(fileset.properties()).thenReturn(Collections.emptyMap());
+    Mockito.when(fileset.storageLocations())
+        .thenReturn(
+            ImmutableMap.of(
+                "l1",
+                location1.toString(),
+                "l2",
+                location2.toString(),
+                "missing",
+                new Path(tempDir.toUri().toString(), "missing").toString()));
+
+    FilesetCatalogOperations ops = Mockito.mock(FilesetCatalogOperations.class);
+    Mockito.when(ops.listSchemas(Namespace.of("m1", "c1")))
+        .thenReturn(new NameIdentifier[] {NameIdentifier.of("m1", "c1", "s1")});
+    Mockito.when(ops.listFilesets(Namespace.of("m1", "c1", "s1")))
+        .thenReturn(new NameIdentifier[] {filesetIdent});
+    Mockito.when(ops.loadFileset(filesetIdent)).thenReturn(fileset);
+    Mockito.when(ops.getFileSystemWithCache(ArgumentMatchers.any(), ArgumentMatchers.any()))
+        .thenReturn(fs);
+
+    StatisticDispatcher dispatcher = Mockito.mock(StatisticDispatcher.class);
+    try (FilesetUsageScanner scanner =
+        new FilesetUsageScanner(ops, "m1", "c1", dispatcher, 2, 1000, 1000)) {
+      scanner.scan();
+    }
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, StatisticValue<?>>> captor = ArgumentCaptor.forClass(Map.class);
+    ArgumentCaptor<MetadataObject> objectCaptor = ArgumentCaptor.forClass(MetadataObject.class);
+    Mockito.verify(dispatcher)
+        .updateStatistics(ArgumentMatchers.eq("m1"), objectCaptor.capture(), captor.capture());
+    Assertions.assertEquals(MetadataObject.Type.FILESET, objectCaptor.getValue().type());
+    Assertions.assertEquals("c1.s1.f1", objectCaptor.getValue().fullName());
+
+    Map<String, StatisticValue<?>> statistics = captor.getValue();
+    Assertions.assertEquals(StatisticValues.longValue(2100), statistics.get("usage.bytes"));
+    Assertions.assertEquals(StatisticValues.longValue(2), statistics.get("usage.files"));
+    Assertions.assertEquals(StatisticValues.longValue(1), statistics.get("usage.small-files"));
+    Assertions.assertEquals(
+        StatisticValues.longValue(2000), statistics.get("usage.location.l2.bytes"));
+    Assertions.assertEquals(
+        StatisticValues.longValue(0), statistics.get("usage.location.missing.files"));
+    Assertions.assertNotNull(statistics.get("usage.scan-time"));
+  }
+
+  private void createFile(Path path, int size) throws IOException {
+    try (FSDataOutputStream out = fs.create(path)) {
+      out.write(new byte[size]);
+    }
+  }
+}
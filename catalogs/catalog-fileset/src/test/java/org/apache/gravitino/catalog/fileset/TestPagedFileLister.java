@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.fileset;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
+import org.apache.gravitino.file.FileInfo;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TestPagedFileLister {
+
+  @TempDir java.nio.file.Path tempDir;
+
+  private FileSystem fs;
+  private Path dir;
+  private Cache<String, PagedFileLister.Cursor> cursors;
+  private PagedFileLister lister;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    fs = Mockito.spy(FileSystem.getLocal(new Configuration()).getRaw());
+    dir = new Path(tempDir.toUri());
+    for (int i = 0; i < 10; i++) {
+      fs.create(new Path(dir, "part-" + i)).close();
+    }
+    fs.create(new Path(dir, "dt=1/part-0")).close();
+    fs.create(new Path(dir, "dt=1/part-1")).close();
+    fs.create(new Path(dir, "dt=2/part-0")).close();
+
+    cursors = PagedFileLister.newCursorCache();
+    lister = new PagedFileLister(fs, dir, "/fileset/c1/s1/f1", cursors);
+  }
+
+  @Test
+  public void testListPagesWithOneListing() throws IOException {
+    List<String> paths = listAll(FileListingOptions.builder().withPageSize(3), false);
+    Assertions.assertEquals(12, paths.size());
+    Assertions.assertEquals(12, new HashSet<>(paths).size());
+
+    // All the pages are served by the iterator opened for the first page
+    Mockito.verify(fs, Mockito.times(1)).listStatusIterator(ArgumentMatchers.any());
+    Assertions.assertEquals(0, cursors.estimatedSize());
+  }
+
+  @Test
+  public void testResumeExpiredCursor() throws IOException {
+    List<String> expected =
+        listAll(FileListingOptions.builder().withPageSize(4).withRecursive(true), false);
+
+    // The cursors expire after each page, the listing is resumed after the last returned path
+    List<String> resumed =
+        listAll(FileListingOptions.builder().withPageSize(4).withRecursive(true), true);
+    Assertions.assertEquals(expected, resumed);
+    Assertions.assertEquals(13, resumed.size());
+
+    // The last returned path of the token has been removed
+    FileListingPage page =
+        lister.list(FileListingOptions.builder().withPageSize(4).withRecursive(true).build());
+    cursors.invalidateAll();
+    String lastPath = page.files()[3].path();
+    fs.delete(new Path(dir, lastPath.substring("/fileset/c1/s1/f1/".length())), false);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            lister.list(
+                FileListingOptions.builder()
+                    .withPageSize(4)
+                    .withRecursive(true)
+                    .withPageToken(page.nextPageToken())
+                    .build()));
+  }
+
+  @Test
+  public void testListPrefixDirectory() throws IOException {
+    FileListingPage page =
+        lister.list(FileListingOptions.builder().withRecursive(true).withPrefix("dt=1/").build());
+    Set<String> paths = Arrays.stream(page.files()).map(FileInfo::path).collect(Collectors.toSet());
+    Assertions.assertEquals(2, paths.size());
+    Assertions.assertTrue(paths.contains("/fileset/c1/s1/f1/dt=1/part-0"));
+
+    // Only the directory of the prefix is listed
+    Mockito.verify(fs).listFiles(new Path(dir, "dt=1"), true);
+    Mockito.verify(fs, Mockito.never()).listFiles(dir, true);
+
+    // The directory of the prefix doesn't exist
+    page =
+        lister.list(FileListingOptions.builder().withRecursive(true).withPrefix("dt=3/").build());
+    Assertions.assertEquals(0, page.files().length);
+
+    // The entries directly under the directory never match a prefix with a separator
+    page = lister.list(FileListingOptions.builder().withPrefix("dt=1/").build());
+    Assertions.assertEquals(0, page.files().length);
+    Mockito.verify(fs, Mockito.never()).listStatusIterator(ArgumentMatchers.any());
+  }
+
+  @Test
+  public void testInvalidPageToken() {
+    Assertions.assertNull(PagedFileLister.PageToken.decode(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PagedFileLister.PageToken.decode("invalid"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PagedFileLister.PageToken.decode(new PagedFileLister.PageToken("id", "").encode()));
+  }
+
+  private List<String> listAll(FileListingOptions.Builder options, boolean expireCursors)
+      throws IOException {
+    List<String> paths = new ArrayList<>();
+    String pageToken = null;
+    do {
+      FileListingPage page = lister.list(options.withPageToken(pageToken).build());
+      Arrays.stream(page.files()).map(FileInfo::path).forEach(paths::add);
+      pageToken = page.nextPageToken();
+      if (expireCursors) {
+        cursors.invalidateAll();
+      }
+    } while (pageToken != null);
+    return paths;
+  }
+}
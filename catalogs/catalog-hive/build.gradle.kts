@@ -42,6 +42,7 @@ dependencies {
   }
   implementation(project(":catalogs:hive-metastore-common"))
 
+  implementation(libs.caffeine)
   implementation(libs.commons.collections3)
   implementation(libs.commons.configuration1)
   implementation(libs.commons.io)
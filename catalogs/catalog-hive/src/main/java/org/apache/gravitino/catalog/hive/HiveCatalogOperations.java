@@ -33,6 +33,7 @@ import static org.apache.gravitino.hive.kerberos.AuthenticationConfig.IMPERSONAT
 import static org.apache.gravitino.hive.kerberos.KerberosConfig.KEY_TAB_URI_KEY;
 import static org.apache.gravitino.hive.kerberos.KerberosConfig.PRINCIPAL_KEY;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
@@ -94,6 +95,10 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
   @VisibleForTesting CachedClientPool clientPool;
 
+  // The sorted partition names of the partition listings that have more pages
+  private final Cache<String, List<String>> partitionNameCursors =
+      HiveTableOperations.newPartitionNameCursorCache();
+
   @SuppressWarnings("UnusedVariable")
   private CatalogInfo info;
 
@@ -185,6 +190,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       clientPool.close();
       clientPool = null;
     }
+    partitionNameCursors.invalidateAll();
   }
 
   /**
@@ -444,7 +450,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     try {
       HiveTable table =
           clientPool.run(c -> c.getTable(catalogName, schemaIdent.name(), tableIdent.name()));
-      return new HiveTableHandle(table, clientPool);
+      return new HiveTableHandle(table, clientPool, partitionNameCursors);
 
     } catch (InterruptedException e) {
       throw new RuntimeException(
@@ -616,7 +622,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
           });
 
       LOG.info("Created Hive table {} in Hive Metastore", tableIdent.name());
-      return new HiveTableHandle(hiveTable, clientPool);
+      return new HiveTableHandle(hiveTable, clientPool, partitionNameCursors);
 
     } catch (InterruptedException e) {
       throw new RuntimeException(e);
@@ -688,7 +694,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
           });
 
       LOG.info("Altered Hive table {} in Hive Metastore", tableIdent.name());
-      return new HiveTableHandle(updatedTable, clientPool);
+      return new HiveTableHandle(updatedTable, clientPool, partitionNameCursors);
 
     } catch (IllegalArgumentException e) {
       if (e.getMessage().contains("types incompatible with the existing columns")) {
@@ -20,6 +20,8 @@ package org.apache.gravitino.catalog.hive;
 
 import static org.apache.gravitino.catalog.hive.HiveConstants.TABLE_TYPE;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.List;
 import lombok.ToString;
 import org.apache.gravitino.connector.BaseTable;
 import org.apache.gravitino.connector.TableOperations;
@@ -32,10 +34,15 @@ import org.apache.gravitino.rel.SupportsPartitions;
 public class HiveTableHandle extends BaseTable {
   private final HiveTable table;
   private final CachedClientPool clientPool;
+  @ToString.Exclude private final Cache<String, List<String>> partitionNameCursors;
 
-  public HiveTableHandle(HiveTable hiveTable, CachedClientPool clientPool) {
+  public HiveTableHandle(
+      HiveTable hiveTable,
+      CachedClientPool clientPool,
+      Cache<String, List<String>> partitionNameCursors) {
     this.table = hiveTable;
     this.clientPool = clientPool;
+    this.partitionNameCursors = partitionNameCursors;
     this.name = hiveTable.name();
     this.comment = hiveTable.comment();
     this.properties = hiveTable.properties();
@@ -56,6 +63,10 @@ public class HiveTableHandle extends BaseTable {
     return clientPool;
   }
 
+  public Cache<String, List<String>> partitionNameCursors() {
+    return partitionNameCursors;
+  }
+
   @Override
   protected TableOperations newOps() {
     return new HiveTableOperations(this);
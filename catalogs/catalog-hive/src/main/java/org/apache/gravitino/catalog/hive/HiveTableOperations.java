@@ -20,28 +20,54 @@ package org.apache.gravitino.catalog.hive;
 
 import static org.apache.gravitino.hive.HivePartition.extractPartitionValues;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.connector.TableOperations;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.hive.HivePartition;
 import org.apache.gravitino.hive.HiveTable;
+import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.SupportsPartitions;
+import org.apache.gravitino.rel.expressions.literals.Literal;
+import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
+import org.apache.gravitino.rel.partitions.Partitions;
+import org.apache.gravitino.rel.types.Decimal;
+import org.apache.gravitino.rel.types.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class HiveTableOperations implements TableOperations, SupportsPartitions {
   public static final Logger LOG = LoggerFactory.getLogger(HiveTableOperations.class);
 
+  private static final long CURSOR_TTL_MINUTES = 5;
+  // The maximum number of the partition names kept for the listings of all the tables
+  private static final long MAX_CURSOR_PARTITION_NAMES = 1_000_000;
+
   private final HiveTableHandle tableHandle;
 
   public HiveTableOperations(HiveTableHandle tableHandle) {
@@ -75,6 +101,246 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     }
   }
 
+  @Override
+  public PartitionPage<Partition> listPartitions(PartitionListingOptions options) {
+    HiveTable hiveTable = tableHandle.table();
+    PartitionFilter filter = options.filter();
+    try {
+      if (filter == null) {
+        return listPartitionsByNames(hiveTable, null, null, options);
+      }
+
+      Map<String, Column> partitionColumns = partitionColumns(hiveTable, filter);
+      String metastoreFilter = toMetastoreFilter(filter, partitionColumns);
+      if (metastoreFilter == null) {
+        return listPartitionsByNames(hiveTable, filter, partitionColumns, options);
+      }
+
+      List<HivePartition> candidates;
+      try {
+        candidates =
+            tableHandle
+                .clientPool()
+                .run(c -> c.listPartitionsByFilter(hiveTable, metastoreFilter, (short) -1));
+      } catch (GravitinoRuntimeException e) {
+        // Hive Metastore may reject the filter on non-string fields, e.g. when it's configured
+        // without the direct SQL and the integral JDO pushdown
+        LOG.warn(
+            "Failed to list the partitions of table {} by filter {}, filter by the names instead",
+            tableHandle.name(),
+            metastoreFilter,
+            e);
+        return listPartitionsByNames(hiveTable, filter, partitionColumns, options);
+      }
+      // Hive Metastore returns the values as strings, evaluate the whole filter on the typed
+      // values as some conditions may not be pushed down
+      List<Partition> matched =
+          candidates.stream()
+              .filter(
+                  p ->
+                      filter.matches(
+                          typedPartition(p.name(), p.fieldNames(), p.values(), partitionColumns),
+                          null))
+              .sorted(Comparator.comparing(HivePartition::name))
+              .collect(Collectors.toList());
+      return PartitionPage.of(matched, Partition::name, options);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + tableHandle.name() + "from Hive Metastore", e);
+    }
+  }
+
+  /**
+   * Lists a page of the partitions by their names, the filter is evaluated on the values parsed
+   * from the names and only the partitions on the page are fetched from Hive Metastore. The
+   * sorted names of a listing are kept between its pages, so the names are listed from Hive
+   * Metastore once per listing unless the listing is resumed after its names are evicted.
+   */
+  private PartitionPage<Partition> listPartitionsByNames(
+      HiveTable hiveTable,
+      PartitionFilter filter,
+      Map<String, Column> partitionColumns,
+      PartitionListingOptions options)
+      throws InterruptedException {
+    Cache<String, List<String>> cursors = tableHandle.partitionNameCursors();
+    List<String> sortedNames =
+        options.pageToken() == null
+            ? null
+            : cursors.asMap().remove(cursorKey(hiveTable, filter, options.pageToken()));
+    if (sortedNames == null) {
+      List<String> names =
+          tableHandle.clientPool().run(c -> c.listPartitionNames(hiveTable, (short) -1));
+      sortedNames =
+          names.stream()
+              .filter(name -> filter == null || matches(filter, name, partitionColumns))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+
+    PartitionPage<String> page = PartitionPage.of(sortedNames, name -> name, options);
+    if (page.nextPageToken() != null) {
+      cursors.put(cursorKey(hiveTable, filter, page.nextPageToken()), sortedNames);
+    }
+    List<HivePartition> partitions =
+        page.elements().isEmpty()
+            ? Collections.emptyList()
+            : tableHandle.clientPool().run(c -> c.getPartitionsByNames(hiveTable, page.elements()));
+    return new PartitionPage<>(
+        partitions.stream()
+            .sorted(Comparator.comparing(HivePartition::name))
+            .collect(Collectors.<Partition>toList()),
+        page.nextPageToken());
+  }
+
+  /**
+   * Creates the cache of the sorted partition names of the listings that have more pages, keyed by
+   * the table, the filter and the page token of the next page.
+   *
+   * @return The cache.
+   */
+  static Cache<String, List<String>> newPartitionNameCursorCache() {
+    return Caffeine.newBuilder()
+        .expireAfterAccess(CURSOR_TTL_MINUTES, TimeUnit.MINUTES)
+        .maximumWeight(MAX_CURSOR_PARTITION_NAMES)
+        .weigher((String key, List<String> names) -> names.size())
+        .build();
+  }
+
+  private static String cursorKey(HiveTable hiveTable, PartitionFilter filter, String pageToken) {
+    return String.join(
+        "\n",
+        hiveTable.databaseName(),
+        hiveTable.name(),
+        filter == null ? "" : filter.toString(),
+        pageToken);
+  }
+
+  private static boolean matches(
+      PartitionFilter filter, String partitionName, Map<String, Column> partitionColumns) {
+    Literal<?>[] values =
+        extractPartitionValues(partitionName).stream()
+            .map(value -> Literals.stringLiteral(unescapePathName(value)))
+            .toArray(Literal<?>[]::new);
+    return filter.matches(
+        typedPartition(
+            partitionName,
+            HivePartition.extractPartitionFieldNames(partitionName),
+            values,
+            partitionColumns),
+        null);
+  }
+
+  // Hive escapes the special characters of the values in the partition names as %XX
+  @VisibleForTesting
+  static String unescapePathName(String path) {
+    StringBuilder sb = new StringBuilder(path.length());
+    for (int i = 0; i < path.length(); i++) {
+      char c = path.charAt(i);
+      if (c == '%' && i + 2 < path.length()) {
+        try {
+          sb.append((char) Integer.parseInt(path.substring(i + 1, i + 3), 16));
+          i += 2;
+          continue;
+        } catch (NumberFormatException e) {
+          // Keep the character as is
+        }
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Converts the conditions of the filter on the string, integral and date partition fields to a
+   * Hive Metastore filter, the other conditions are left to be evaluated by Gravitino.
+   *
+   * @return The Hive Metastore filter, or null if no condition could be pushed down.
+   */
+  static String toMetastoreFilter(PartitionFilter filter, Map<String, Column> partitionColumns) {
+    List<String> conditions = new ArrayList<>();
+    for (PartitionFilter.Condition condition : filter.conditions()) {
+      Column column = partitionColumns.get(condition.fieldName().toLowerCase(Locale.ROOT));
+      String value = metastoreFilterValue(condition.value(), column);
+      if (value != null) {
+        conditions.add(
+            String.format("%s %s %s", column.name(), condition.operator().symbol(), value));
+      }
+    }
+    return conditions.isEmpty() ? null : String.join(" and ", conditions);
+  }
+
+  private static String metastoreFilterValue(String value, Column column) {
+    if (column == null) {
+      return null;
+    }
+    Type type = column.dataType();
+    try {
+      if (type instanceof Type.IntegralType) {
+        return String.valueOf(Long.parseLong(value));
+      }
+      if (type.name() == Type.Name.DATE) {
+        return "\"" + LocalDate.parse(value) + "\"";
+      }
+    } catch (NumberFormatException | DateTimeParseException e) {
+      // Leave the values that aren't valid for the type to be evaluated by Gravitino
+      return null;
+    }
+    if (type.name() != Type.Name.STRING || (value.contains("\"") && value.contains("'"))) {
+      return null;
+    }
+    String quote = value.contains("\"") ? "'" : "\"";
+    return quote + value + quote;
+  }
+
+  private static Map<String, Column> partitionColumns(
+      HiveTable hiveTable, PartitionFilter filter) {
+    Set<String> partitionFieldNames =
+        hiveTable.partitionFieldNames().stream()
+            .map(name -> name.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+    Map<String, Column> partitionColumns =
+        Arrays.stream(hiveTable.columns())
+            .filter(c -> partitionFieldNames.contains(c.name().toLowerCase(Locale.ROOT)))
+            .collect(
+                Collectors.toMap(c -> c.name().toLowerCase(Locale.ROOT), Function.identity()));
+    for (PartitionFilter.Condition condition : filter.conditions()) {
+      Preconditions.checkArgument(
+          partitionColumns.containsKey(condition.fieldName().toLowerCase(Locale.ROOT)),
+          "Field %s is not a partition field of table %s",
+          condition.fieldName(),
+          hiveTable.name());
+    }
+    return partitionColumns;
+  }
+
+  private static Partition typedPartition(
+      String name,
+      String[][] fieldNames,
+      Literal<?>[] stringValues,
+      Map<String, Column> partitionColumns) {
+    Literal<?>[] values = new Literal<?>[stringValues.length];
+    for (int i = 0; i < values.length; i++) {
+      Column column = partitionColumns.get(fieldNames[i][0].toLowerCase(Locale.ROOT));
+      values[i] = typedValue(stringValues[i], column == null ? null : column.dataType());
+    }
+    return Partitions.identity(name, fieldNames, values, null);
+  }
+
+  private static Literal<?> typedValue(Literal<?> value, Type type) {
+    String stringValue = String.valueOf(value.value());
+    try {
+      if (type instanceof Type.IntegralType) {
+        return Literals.longLiteral(Long.parseLong(stringValue));
+      }
+      if (type instanceof Type.NumericType) {
+        return Literals.decimalLiteral(Decimal.of(stringValue));
+      }
+    } catch (IllegalArgumentException e) {
+      // Keep values like the Hive default partition name as strings
+    }
+    return value;
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
@@ -25,14 +25,32 @@ import static org.apache.gravitino.catalog.hive.TestHiveTable.META_LAKE_NAME;
 import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveCatalog;
 import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveSchema;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.identity;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
+import org.apache.gravitino.hive.CachedClientPool;
 import org.apache.gravitino.hive.HiveColumn;
+import org.apache.gravitino.hive.HivePartition;
+import org.apache.gravitino.hive.HiveTable;
+import org.apache.gravitino.hive.client.HiveClient;
 import org.apache.gravitino.hive.hms.MiniHiveMetastoreService;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.SupportsPartitions;
@@ -40,8 +58,12 @@ import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.utils.ClientPool;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -111,6 +133,125 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionsWithOptions() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    PartitionPage<Partition> page =
+        partitions.listPartitions(
+            PartitionListingOptions.builder()
+                .withFilter(PartitionFilter.parse("city = 0 AND dt = '2020-01-01'"))
+                .build());
+    Assertions.assertEquals(1, page.elements().size());
+    Assertions.assertEquals(existingPartition.name(), page.elements().get(0).name());
+    Assertions.assertNull(page.nextPageToken());
+
+    PartitionPage<String> names =
+        partitions.listPartitionNames(
+            PartitionListingOptions.builder()
+                .withFilter(PartitionFilter.parse("city > 100"))
+                .build());
+    Assertions.assertTrue(names.elements().isEmpty());
+
+    PartitionPage<Partition> firstPage =
+        partitions.listPartitions(PartitionListingOptions.builder().withPageSize(1).build());
+    Assertions.assertEquals(1, firstPage.elements().size());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            partitions.listPartitions(
+                PartitionListingOptions.builder()
+                    .withFilter(PartitionFilter.parse("name = 'a'"))
+                    .build()));
+  }
+
+  @Test
+  public void testToMetastoreFilter() {
+    Column region =
+        HiveColumn.builder().withName("region").withType(Types.StringType.get()).build();
+    Map<String, Column> partitionColumns =
+        ImmutableMap.of("region", region, "city", columns[1], "dt", columns[2]);
+
+    Assertions.assertEquals(
+        "region >= \"a\" and city = 1 and region <> 'say \"hi\"'",
+        HiveTableOperations.toMetastoreFilter(
+            PartitionFilter.parse("region >= 'a' AND city = 1 AND region != 'say \"hi\"'"),
+            partitionColumns));
+    Assertions.assertEquals(
+        "city > 1 and dt < \"2020-01-01\"",
+        HiveTableOperations.toMetastoreFilter(
+            PartitionFilter.parse("city > 1 AND dt < '2020-01-01'"), partitionColumns));
+    // The values that aren't valid for the types of the fields are not pushed down
+    Assertions.assertNull(
+        HiveTableOperations.toMetastoreFilter(
+            PartitionFilter.parse("city = 'a' AND dt < '2020-01'"), partitionColumns));
+  }
+
+  @Test
+  public void testListPartitionsByNames() throws Exception {
+    HiveClient client = mock(HiveClient.class);
+    CachedClientPool clientPool = mock(CachedClientPool.class);
+    when(clientPool.run(any()))
+        .thenAnswer(
+            invocation -> {
+              ClientPool.Action<?, HiveClient, ?> action = invocation.getArgument(0);
+              return action.run(client);
+            });
+    HiveTable table =
+        HiveTable.builder()
+            .withName("t")
+            .withDatabaseName("db")
+            .withColumns(columns)
+            .withPartitioning(new Transform[] {identity("city"), identity("dt")})
+            .build();
+    List<String> names =
+        Arrays.asList("city=3/dt=2020-01-03", "city=1/dt=2020-01-01", "city=2/dt=2020-01-02");
+    when(client.listPartitionNames(table, (short) -1)).thenReturn(names);
+    when(client.getPartitionsByNames(eq(table), anyList()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<String>>getArgument(1).stream()
+                    .map(HivePartition::identity)
+                    .collect(Collectors.toList()));
+    // Hive Metastore rejects the filter on the integral field
+    when(client.listPartitionsByFilter(table, "city >= 2", (short) -1))
+        .thenThrow(new GravitinoRuntimeException("Filtering is supported only on string keys"));
+    SupportsPartitions partitions =
+        new HiveTableOperations(
+            new HiveTableHandle(
+                table, clientPool, HiveTableOperations.newPartitionNameCursorCache()));
+
+    PartitionListingOptions.Builder options =
+        PartitionListingOptions.builder()
+            .withFilter(PartitionFilter.parse("city >= 2"))
+            .withPageSize(1);
+    PartitionPage<Partition> firstPage = partitions.listPartitions(options.build());
+    Assertions.assertEquals(
+        Collections.singletonList("city=2/dt=2020-01-02"),
+        firstPage.elements().stream().map(Partition::name).collect(Collectors.toList()));
+    Assertions.assertNotNull(firstPage.nextPageToken());
+
+    PartitionPage<Partition> secondPage =
+        partitions.listPartitions(options.withPageToken(firstPage.nextPageToken()).build());
+    Assertions.assertEquals(
+        Collections.singletonList("city=3/dt=2020-01-03"),
+        secondPage.elements().stream().map(Partition::name).collect(Collectors.toList()));
+    Assertions.assertNull(secondPage.nextPageToken());
+
+    // The names are listed once for the listing, and only the partitions on the pages are fetched
+    verify(client, times(1)).listPartitionNames(table, (short) -1);
+    verify(client).getPartitionsByNames(table, Collections.singletonList("city=2/dt=2020-01-02"));
+    verify(client).getPartitionsByNames(table, Collections.singletonList("city=3/dt=2020-01-03"));
+    verify(client, never()).listPartitions(any(HiveTable.class), anyShort());
+  }
+
+  @Test
+  public void testUnescapePathName() {
+    Assertions.assertEquals("a/b:c", HiveTableOperations.unescapePathName("a%2Fb%3Ac"));
+    Assertions.assertEquals("100%", HiveTableOperations.unescapePathName("100%"));
+    Assertions.assertEquals("%zz", HiveTableOperations.unescapePathName("%zz"));
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
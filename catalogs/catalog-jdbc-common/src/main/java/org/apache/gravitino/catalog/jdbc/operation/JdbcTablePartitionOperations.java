@@ -23,10 +23,20 @@ import static com.google.common.base.Preconditions.checkArgument;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.connector.TableOperations;
 import org.apache.gravitino.rel.SupportsPartitions;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.expressions.transforms.Transforms;
+import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 
 public abstract class JdbcTablePartitionOperations implements TableOperations, SupportsPartitions {
   protected final DataSource dataSource;
@@ -45,6 +55,28 @@ public abstract class JdbcTablePartitionOperations implements TableOperations, S
     return connection;
   }
 
+  @Override
+  public PartitionPage<Partition> listPartitions(PartitionListingOptions options) {
+    PartitionFilter filter = options.filter();
+    String[][] fieldNames = filter == null ? null : partitionFieldNames();
+    List<Partition> partitions =
+        Arrays.stream(listPartitions())
+            .filter(p -> filter == null || filter.matches(p, fieldNames))
+            .sorted(Comparator.comparing(Partition::name))
+            .collect(Collectors.toList());
+    return PartitionPage.of(partitions, Partition::name, options);
+  }
+
+  private String[][] partitionFieldNames() {
+    Transform partitionInfo = loadedTable.partitioning()[0];
+    if (partitionInfo instanceof Transforms.RangeTransform) {
+      return new String[][] {((Transforms.RangeTransform) partitionInfo).fieldName()};
+    } else if (partitionInfo instanceof Transforms.ListTransform) {
+      return ((Transforms.ListTransform) partitionInfo).fieldNames();
+    }
+    throw new IllegalArgumentException("Unsupported partitioning: " + partitionInfo.name());
+  }
+
   @Override
   public void close() throws IOException {
     // Nothing to be closed.
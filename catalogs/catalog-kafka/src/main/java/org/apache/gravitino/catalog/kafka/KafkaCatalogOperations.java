@@ -39,6 +39,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -51,6 +52,7 @@ import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -66,6 +68,7 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.stats.StatisticDispatcher;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -105,6 +108,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  @Nullable private KafkaTopicSnapshotter topicSnapshotter;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -160,6 +164,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
     createDefaultSchemaIfNecessary();
+    startTopicSnapshotter(config);
   }
 
   @Override
@@ -167,6 +172,14 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
     checkSchemaExists(schemaIdent);
 
+    KafkaTopicSnapshot snapshot =
+        topicSnapshotter == null ? null : topicSnapshotter.freshSnapshot();
+    if (snapshot != null) {
+      return snapshot.topicNames().stream()
+          .map(name -> NameIdentifier.of(namespace, name))
+          .toArray(NameIdentifier[]::new);
+    }
+
     try {
       ListTopicsResult result = adminClient.listTopics();
       Set<String> topicNames = result.names().get();
@@ -204,6 +217,25 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    KafkaTopicSnapshot snapshot =
+        topicSnapshotter == null ? null : topicSnapshotter.freshSnapshot();
+    KafkaTopicSnapshot.TopicMetadata cached =
+        snapshot == null ? null : snapshot.topic(ident.name());
+    if (cached != null) {
+      Map<String, String> properties = Maps.newHashMap(cached.configs());
+      properties.put(
+          KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(cached.partitionCount()));
+      properties.put(
+          KafkaTopicPropertiesMetadata.REPLICATION_FACTOR,
+          String.valueOf(cached.replicationFactor()));
+      return buildLoadedTopic(ident, cached.topicId(), properties);
+    }
+
+    // The topic may be created after the snapshot was fetched, so load it from Kafka on a miss
+    return loadTopicFromKafka(ident);
+  }
+
+  private Topic loadTopicFromKafka(NameIdentifier ident) throws NoSuchTopicException {
     DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
     ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
     DescribeConfigsResult configsResult =
@@ -236,6 +268,11 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
     LOG.info("Loaded topic {} from Kafka", ident);
 
+    return buildLoadedTopic(ident, topicId, properties);
+  }
+
+  private Topic buildLoadedTopic(
+      NameIdentifier ident, Uuid topicId, Map<String, String> properties) {
     return KafkaTopic.builder()
         .withName(ident.name())
         // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
@@ -311,6 +348,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to create topic in Kafka" + ident, e);
+    } finally {
+      invalidateTopicSnapshot();
     }
   }
 
@@ -320,7 +359,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    KafkaTopic topic = (KafkaTopic) loadTopic(ident);
+    // Always load the topic from Kafka, the partition count in the snapshot may be stale
+    KafkaTopic topic = (KafkaTopic) loadTopicFromKafka(ident);
     String newComment = topic.comment();
     int oldPartitionCount =
         Integer.parseInt(topic.properties().get(KafkaTopicPropertiesMetadata.PARTITION_COUNT));
@@ -349,12 +389,16 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     }
 
-    if (newPartitionCount != oldPartitionCount) {
-      doPartitionCountIncrement(ident.name(), newPartitionCount);
-    }
+    try {
+      if (newPartitionCount != oldPartitionCount) {
+        doPartitionCountIncrement(ident.name(), newPartitionCount);
+      }
 
-    if (!alterConfigOps.isEmpty()) {
-      doAlterTopicConfig(ident.name(), alterConfigOps);
+      if (!alterConfigOps.isEmpty()) {
+        doAlterTopicConfig(ident.name(), alterConfigOps);
+      }
+    } finally {
+      invalidateTopicSnapshot();
     }
 
     return KafkaTopic.builder()
@@ -387,6 +431,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to drop topic " + ident.name() + " from Kafka", e);
+    } finally {
+      invalidateTopicSnapshot();
     }
   }
 
@@ -454,12 +500,60 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
   @Override
   public void close() throws IOException {
+    if (topicSnapshotter != null) {
+      topicSnapshotter.close();
+      topicSnapshotter = null;
+    }
+
     if (adminClient != null) {
       adminClient.close();
       adminClient = null;
     }
   }
 
+  private void startTopicSnapshotter(Map<String, String> config) {
+    PropertiesMetadata catalogProperties = propertiesMetadata.catalogPropertiesMetadata();
+    long refreshIntervalMs =
+        (long)
+            catalogProperties.getOrDefault(
+                config, KafkaCatalogPropertiesMetadata.TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS);
+    // Don't start the snapshotter for the temporary catalog of testConnection
+    if (refreshIntervalMs <= 0 || DUMMY_ID.toString().equals(info.properties().get(ID_KEY))) {
+      return;
+    }
+
+    boolean statisticsEnabled =
+        (boolean)
+            catalogProperties.getOrDefault(
+                config, KafkaCatalogPropertiesMetadata.TOPIC_SNAPSHOT_STATISTICS_ENABLED);
+    StatisticDispatcher statisticDispatcher =
+        statisticsEnabled ? GravitinoEnv.getInstance().statisticDispatcher() : null;
+    topicSnapshotter =
+        new KafkaTopicSnapshotter(
+            adminClient,
+            info.namespace().level(0),
+            info.name(),
+            DEFAULT_SCHEMA_NAME,
+            (long)
+                catalogProperties.getOrDefault(
+                    config, KafkaCatalogPropertiesMetadata.TOPIC_SNAPSHOT_MAX_STALENESS_MS),
+            (int)
+                catalogProperties.getOrDefault(
+                    config, KafkaCatalogPropertiesMetadata.TOPIC_SNAPSHOT_BATCH_SIZE),
+            statisticDispatcher);
+    topicSnapshotter.start(refreshIntervalMs);
+    LOG.info(
+        "Started the topic snapshotter of Kafka catalog {} with refresh interval {} ms",
+        info.name(),
+        refreshIntervalMs);
+  }
+
+  private void invalidateTopicSnapshot() {
+    if (topicSnapshotter != null) {
+      topicSnapshotter.invalidate();
+    }
+  }
+
   /**
    * Make sure the schema exists, otherwise throw an exception.
    *
@@ -29,6 +29,21 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The interval to refresh the in-memory snapshot of all the topic metadata in bulk, a
+  // non-positive value disables the snapshot and every topic operation goes to Kafka directly.
+  public static final String TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS =
+      "topic-snapshot-refresh-interval-ms";
+
+  // The max age of the snapshot to serve listing and loading topics, older snapshots are ignored.
+  public static final String TOPIC_SNAPSHOT_MAX_STALENESS_MS = "topic-snapshot-max-staleness-ms";
+
+  // The max number of topics described in one admin request when fetching the snapshot.
+  public static final String TOPIC_SNAPSHOT_BATCH_SIZE = "topic-snapshot-batch-size";
+
+  // Whether to publish the partition count and end offsets of the topics as topic statistics.
+  public static final String TOPIC_SNAPSHOT_STATISTICS_ENABLED =
+      "topic-snapshot-statistics-enabled";
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -39,6 +54,42 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
                       + "comma-separating them",
                   false /* immutable */,
                   false /* hidden */))
+          .put(
+              TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TOPIC_SNAPSHOT_REFRESH_INTERVAL_MS,
+                  "The interval in milliseconds to refresh the snapshot of all the topic "
+                      + "metadata, a non-positive value disables the snapshot",
+                  false /* immutable */,
+                  -1L /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              TOPIC_SNAPSHOT_MAX_STALENESS_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TOPIC_SNAPSHOT_MAX_STALENESS_MS,
+                  "The max age in milliseconds of the snapshot to serve topic listing and loading",
+                  false /* immutable */,
+                  60000L /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              TOPIC_SNAPSHOT_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  TOPIC_SNAPSHOT_BATCH_SIZE,
+                  "The max number of topics described in one request when fetching the snapshot",
+                  false /* immutable */,
+                  1000 /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              TOPIC_SNAPSHOT_STATISTICS_ENABLED,
+              PropertyEntry.booleanPropertyEntry(
+                  TOPIC_SNAPSHOT_STATISTICS_ENABLED,
+                  "Whether to publish the partition count and end offsets of the topics in the "
+                      + "snapshot as topic statistics",
+                  false /* required */,
+                  false /* immutable */,
+                  true /* defaultValue */,
+                  false /* hidden */,
+                  false /* reserved */))
           .build();
 
   @Override
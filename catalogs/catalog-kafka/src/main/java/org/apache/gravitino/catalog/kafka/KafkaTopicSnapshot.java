@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.Uuid;
+
+/**
+ * An immutable snapshot of the metadata of all the topics in a Kafka cluster, fetched in bulk by
+ * {@link KafkaTopicSnapshotter}.
+ */
+class KafkaTopicSnapshot {
+
+  private final long version;
+  private final long fetchTimeMillis;
+  private final Map<String, TopicMetadata> topics;
+
+  KafkaTopicSnapshot(long version, long fetchTimeMillis, Map<String, TopicMetadata> topics) {
+    this.version = version;
+    this.fetchTimeMillis = fetchTimeMillis;
+    this.topics = ImmutableMap.copyOf(topics);
+  }
+
+  /** @return The monotonically increasing version of the snapshot. */
+  long version() {
+    return version;
+  }
+
+  /** @return The time in milliseconds when the fetch of the snapshot was started. */
+  long fetchTimeMillis() {
+    return fetchTimeMillis;
+  }
+
+  Set<String> topicNames() {
+    return topics.keySet();
+  }
+
+  TopicMetadata topic(String name) {
+    return topics.get(name);
+  }
+
+  Map<String, TopicMetadata> topics() {
+    return topics;
+  }
+
+  /** The metadata of one topic in the snapshot. */
+  static class TopicMetadata {
+    private final String name;
+    private final Uuid topicId;
+    private final int replicationFactor;
+    private final Map<String, String> configs;
+    private final Map<Integer, Long> endOffsets;
+
+    TopicMetadata(
+        String name,
+        Uuid topicId,
+        int replicationFactor,
+        Map<String, String> configs,
+        Map<Integer, Long> endOffsets) {
+      this.name = name;
+      this.topicId = topicId;
+      this.replicationFactor = replicationFactor;
+      this.configs = ImmutableMap.copyOf(configs);
+      this.endOffsets = ImmutableMap.copyOf(endOffsets);
+    }
+
+    String name() {
+      return name;
+    }
+
+    Uuid topicId() {
+      return topicId;
+    }
+
+    int partitionCount() {
+      return endOffsets.size();
+    }
+
+    int replicationFactor() {
+      return replicationFactor;
+    }
+
+    Map<String, String> configs() {
+      return configs;
+    }
+
+    /** @return The end offset of each partition, -1 if it isn't available. */
+    Map<Integer, Long> endOffsets() {
+      return endOffsets;
+    }
+
+    long totalEndOffset() {
+      return endOffsets.values().stream().filter(o -> o > 0).mapToLong(Long::longValue).sum();
+    }
+  }
+}
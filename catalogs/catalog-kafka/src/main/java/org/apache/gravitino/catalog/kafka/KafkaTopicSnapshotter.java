@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.catalog.kafka.KafkaTopicSnapshot.TopicMetadata;
+import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
+import org.apache.gravitino.stats.StatisticDispatcher;
+import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.stats.StatisticValues;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically fetches the descriptions, configs and end offsets of all the topics in a Kafka
+ * cluster with bulk admin requests, and keeps them in an immutable {@link KafkaTopicSnapshot} to
+ * serve topic listing and loading without a round trip to Kafka per topic.
+ *
+ * <p>Topic changes issued through Gravitino {@link #invalidate() invalidate} the snapshot, a
+ * refresh which started before the invalidation is discarded so the snapshot never goes back to
+ * the state before the change.
+ *
+ * <p>If a statistic dispatcher is given, the partition count and end offsets of the topics are
+ * published as topic statistics when they change:
+ *
+ * <ul>
+ *   <li>{@code kafka.partition-count}, the number of partitions of the topic.
+ *   <li>{@code kafka.end-offset}, the sum of the end offsets of all the partitions.
+ *   <li>{@code kafka.partition-end-offsets}, the end offset of every partition.
+ * </ul>
+ */
+class KafkaTopicSnapshotter implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaTopicSnapshotter.class);
+
+  static final String STAT_PARTITION_COUNT = "kafka.partition-count";
+  static final String STAT_END_OFFSET = "kafka.end-offset";
+  static final String STAT_PARTITION_END_OFFSETS = "kafka.partition-end-offsets";
+
+  private final AdminClient adminClient;
+  private final String metalake;
+  private final String catalog;
+  private final String schema;
+  private final long maxStalenessMs;
+  private final int batchSize;
+  @Nullable private final StatisticDispatcher statisticDispatcher;
+  private final ScheduledExecutorService scheduler;
+
+  // Bumped by every invalidation, a refresh only publishes its snapshot if no invalidation
+  // happened since it started.
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong versions = new AtomicLong();
+  private final AtomicBoolean refreshPending = new AtomicBoolean();
+  @Nullable private volatile KafkaTopicSnapshot snapshot;
+
+  // The end offsets last published as statistics, only accessed by the refresh thread
+  private final Map<String, Map<Integer, Long>> publishedOffsets = Maps.newHashMap();
+
+  KafkaTopicSnapshotter(
+      AdminClient adminClient,
+      String metalake,
+      String catalog,
+      String schema,
+      long maxStalenessMs,
+      int batchSize,
+      @Nullable StatisticDispatcher statisticDispatcher) {
+    this.adminClient = adminClient;
+    this.metalake = metalake;
+    this.catalog = catalog;
+    this.schema = schema;
+    this.maxStalenessMs = maxStalenessMs;
+    this.batchSize = batchSize;
+    this.statisticDispatcher = statisticDispatcher;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("kafka-topic-snapshotter-" + catalog)
+                .build());
+  }
+
+  void start(long refreshIntervalMs) {
+    scheduler.scheduleWithFixedDelay(
+        this::refreshSafely, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the snapshot if it's not older than the max staleness.
+   *
+   * @return The fresh snapshot, or null if there is no fresh snapshot.
+   */
+  @Nullable
+  KafkaTopicSnapshot freshSnapshot() {
+    KafkaTopicSnapshot current = snapshot;
+    if (current == null
+        || System.currentTimeMillis() - current.fetchTimeMillis() > maxStalenessMs) {
+      return null;
+    }
+    return current;
+  }
+
+  /** Drops the current snapshot and triggers a refresh, called after changing topics. */
+  void invalidate() {
+    generation.incrementAndGet();
+    snapshot = null;
+    if (refreshPending.compareAndSet(false, true) && !scheduler.isShutdown()) {
+      scheduler.execute(
+          () -> {
+            refreshPending.set(false);
+            refreshSafely();
+          });
+    }
+  }
+
+  private void refreshSafely() {
+    try {
+      refresh();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the topic snapshot of Kafka catalog {}", catalog, e);
+    }
+  }
+
+  /** Fetches the metadata of all the topics and publishes a new snapshot. */
+  @VisibleForTesting
+  void refresh() throws ExecutionException, InterruptedException {
+    long startGeneration = generation.get();
+    long start = System.currentTimeMillis();
+
+    List<String> names = Lists.newArrayList(adminClient.listTopics().names().get());
+    Collections.sort(names);
+    Map<String, TopicMetadata> topics = Maps.newHashMapWithExpectedSize(names.size());
+    for (List<String> batch : Iterables.partition(names, batchSize)) {
+      fetchBatch(batch, topics);
+    }
+
+    KafkaTopicSnapshot newSnapshot =
+        new KafkaTopicSnapshot(versions.incrementAndGet(), start, topics);
+    synchronized (this) {
+      if (generation.get() != startGeneration) {
+        LOG.debug(
+            "Discard the topic snapshot of Kafka catalog {} since topics changed during the fetch",
+            catalog);
+        return;
+      }
+      snapshot = newSnapshot;
+    }
+    LOG.debug(
+        "Fetched the snapshot of {} topics of Kafka catalog {} in {} ms",
+        topics.size(),
+        catalog,
+        System.currentTimeMillis() - start);
+
+    if (statisticDispatcher != null) {
+      publishStatistics(newSnapshot);
+    }
+  }
+
+  private void fetchBatch(List<String> names, Map<String, TopicMetadata> topics)
+      throws ExecutionException, InterruptedException {
+    DescribeTopicsResult describeResult = adminClient.describeTopics(names);
+    List<ConfigResource> resources =
+        names.stream()
+            .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+            .collect(Collectors.toList());
+    DescribeConfigsResult configsResult = adminClient.describeConfigs(resources);
+
+    Map<String, TopicDescription> descriptions = Maps.newHashMap();
+    for (Map.Entry<String, KafkaFuture<TopicDescription>> entry :
+        describeResult.topicNameValues().entrySet()) {
+      TopicDescription description = getIfExists(entry.getValue());
+      // The topic may be deleted after listing
+      if (description != null) {
+        descriptions.put(entry.getKey(), description);
+      }
+    }
+
+    Map<TopicPartition, OffsetSpec> offsetSpecs = Maps.newHashMap();
+    for (TopicDescription description : descriptions.values()) {
+      for (TopicPartitionInfo partition : description.partitions()) {
+        offsetSpecs.put(
+            new TopicPartition(description.name(), partition.partition()), OffsetSpec.latest());
+      }
+    }
+    ListOffsetsResult offsetsResult = adminClient.listOffsets(offsetSpecs);
+
+    for (TopicDescription description : descriptions.values()) {
+      Config config =
+          getIfExists(
+              configsResult
+                  .values()
+                  .get(new ConfigResource(ConfigResource.Type.TOPIC, description.name())));
+      if (config == null) {
+        continue;
+      }
+      Map<String, String> configs = Maps.newHashMap();
+      config.entries().stream()
+          .filter(e -> e.value() != null)
+          .forEach(e -> configs.put(e.name(), e.value()));
+
+      Map<Integer, Long> endOffsets = Maps.newHashMap();
+      for (TopicPartitionInfo partition : description.partitions()) {
+        TopicPartition tp = new TopicPartition(description.name(), partition.partition());
+        endOffsets.put(partition.partition(), endOffset(offsetsResult, tp));
+      }
+
+      int replicationFactor =
+          description.partitions().isEmpty()
+              ? 0
+              : description.partitions().get(0).replicas().size();
+      topics.put(
+          description.name(),
+          new TopicMetadata(
+              description.name(), description.topicId(), replicationFactor, configs, endOffsets));
+    }
+  }
+
+  private long endOffset(ListOffsetsResult offsetsResult, TopicPartition tp)
+      throws InterruptedException {
+    try {
+      return offsetsResult.partitionResult(tp).get().offset();
+    } catch (ExecutionException e) {
+      // The partition may be offline, the end offset is unknown but the topic is still listed
+      LOG.debug("Failed to get the end offset of {}: {}", tp, e.getCause().getMessage());
+      return -1L;
+    }
+  }
+
+  @Nullable
+  private static <T> T getIfExists(KafkaFuture<T> future)
+      throws ExecutionException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private void publishStatistics(KafkaTopicSnapshot current) {
+    publishedOffsets.keySet().retainAll(current.topicNames());
+    for (TopicMetadata topic : current.topics().values()) {
+      if (Objects.equals(publishedOffsets.get(topic.name()), topic.endOffsets())) {
+        continue;
+      }
+
+      Map<String, StatisticValue<?>> partitionOffsets = Maps.newHashMap();
+      topic
+          .endOffsets()
+          .forEach((p, o) -> partitionOffsets.put(String.valueOf(p), StatisticValues.longValue(o)));
+      Map<String, StatisticValue<?>> stats = Maps.newHashMap();
+      stats.put(STAT_PARTITION_COUNT, StatisticValues.longValue(topic.partitionCount()));
+      stats.put(STAT_END_OFFSET, StatisticValues.longValue(topic.totalEndOffset()));
+      stats.put(STAT_PARTITION_END_OFFSETS, StatisticValues.objectValue(partitionOffsets));
+
+      MetadataObject topicObject =
+          MetadataObjects.of(
+              Lists.newArrayList(catalog, schema, topic.name()), MetadataObject.Type.TOPIC);
+      try {
+        statisticDispatcher.updateStatistics(metalake, topicObject, stats);
+      } catch (NoSuchMetadataObjectException e) {
+        // The topic isn't imported into Gravitino yet, it's retried when its offsets change
+        LOG.debug("Skip publishing the statistics of topic {}: {}", topic.name(), e.getMessage());
+      } catch (Exception e) {
+        LOG.warn("Failed to publish the statistics of topic {}", topic.name(), e);
+        continue;
+      }
+      publishedOffsets.put(topic.name(), topic.endOffsets());
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
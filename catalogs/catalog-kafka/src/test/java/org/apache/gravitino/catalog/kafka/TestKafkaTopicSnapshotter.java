@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.catalog.kafka.embedded.KafkaClusterEmbedded;
+import org.apache.gravitino.stats.StatisticDispatcher;
+import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.stats.StatisticValues;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TestKafkaTopicSnapshotter extends KafkaClusterEmbedded {
+
+  @Test
+  public void testRefreshAndInvalidate() throws ExecutionException, InterruptedException {
+    String topicName = "snapshot-topic-" + genRandomString();
+    try (AdminClient adminClient = newAdminClient();
+        KafkaTopicSnapshotter snapshotter =
+            new KafkaTopicSnapshotter(
+                adminClient, "metalake", "catalog", "default", 60_000L, 2, null)) {
+      Assertions.assertNull(snapshotter.freshSnapshot());
+
+      adminClient
+          .createTopics(
+              Collections.singleton(
+                  new NewTopic(topicName, 3, (short) 1)
+                      .configs(ImmutableMap.of(TopicConfig.RETENTION_MS_CONFIG, "3600000"))))
+          .all()
+          .get();
+      snapshotter.refresh();
+
+      KafkaTopicSnapshot snapshot = snapshotter.freshSnapshot();
+      Assertions.assertNotNull(snapshot);
+      Assertions.assertTrue(snapshot.topicNames().contains(TOPIC_1));
+      KafkaTopicSnapshot.TopicMetadata topic = snapshot.topic(topicName);
+      Assertions.assertEquals(3, topic.partitionCount());
+      Assertions.assertEquals(1, topic.replicationFactor());
+      Assertions.assertEquals("3600000", topic.configs().get(TopicConfig.RETENTION_MS_CONFIG));
+      Assertions.assertEquals(0L, topic.totalEndOffset());
+      Assertions.assertNotNull(topic.topicId());
+
+      // The invalidation drops the snapshot and triggers a refresh in background
+      long version = snapshot.version();
+      adminClient.deleteTopics(Collections.singleton(topicName)).all().get();
+      snapshotter.invalidate();
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(30))
+          .until(
+              () ->
+                  snapshotter.freshSnapshot() != null
+                      && snapshotter.freshSnapshot().version() > version);
+      Assertions.assertNull(snapshotter.freshSnapshot().topic(topicName));
+    }
+  }
+
+  @Test
+  public void testStaleSnapshot() throws ExecutionException, InterruptedException {
+    try (AdminClient adminClient = newAdminClient();
+        KafkaTopicSnapshotter snapshotter =
+            new KafkaTopicSnapshotter(
+                adminClient, "metalake", "catalog", "default", -1L, 1000, null)) {
+      snapshotter.refresh();
+      Assertions.assertNull(snapshotter.freshSnapshot());
+    }
+  }
+
+  @Test
+  public void testPublishStatistics() throws ExecutionException, InterruptedException {
+    StatisticDispatcher dispatcher = Mockito.mock(StatisticDispatcher.class);
+    try (AdminClient adminClient = newAdminClient();
+        KafkaTopicSnapshotter snapshotter =
+            new KafkaTopicSnapshotter(
+                adminClient, "metalake", "catalog", "default", 60_000L, 1000, dispatcher)) {
+      snapshotter.refresh();
+
+      ArgumentCaptor<MetadataObject> objectCaptor = ArgumentCaptor.forClass(MetadataObject.class);
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, StatisticValue<?>>> statsCaptor =
+          ArgumentCaptor.forClass(Map.class);
+      Mockito.verify(dispatcher, Mockito.atLeast(3))
+          .updateStatistics(
+              ArgumentMatchers.eq("metalake"), objectCaptor.capture(), statsCaptor.capture());
+      int index = objectCaptor.getAllValues().indexOf(topicObject(TOPIC_1));
+      Assertions.assertTrue(index >= 0);
+      Map<String, StatisticValue<?>> stats = statsCaptor.getAllValues().get(index);
+      Assertions.assertEquals(
+          StatisticValues.longValue(1L), stats.get(KafkaTopicSnapshotter.STAT_PARTITION_COUNT));
+      Assertions.assertEquals(
+          StatisticValues.longValue(0L), stats.get(KafkaTopicSnapshotter.STAT_END_OFFSET));
+
+      // Unchanged topics are not published again
+      Mockito.clearInvocations(dispatcher);
+      snapshotter.refresh();
+      Mockito.verify(dispatcher, Mockito.never())
+          .updateStatistics(
+              ArgumentMatchers.any(),
+              ArgumentMatchers.eq(topicObject(TOPIC_1)),
+              ArgumentMatchers.any());
+    }
+  }
+
+  private static MetadataObject topicObject(String topic) {
+    return MetadataObjects.of(
+        Arrays.asList("catalog", "default", topic), MetadataObject.Type.TOPIC);
+  }
+
+  private static AdminClient newAdminClient() {
+    Properties properties = new Properties();
+    properties.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, brokerList());
+    return AdminClient.create(properties);
+  }
+}
@@ -67,6 +67,10 @@ public interface HiveClient extends AutoCloseable {
   List<HivePartition> listPartitions(
       HiveTable table, List<String> filterPartitionValueList, short pageSize);
 
+  List<HivePartition> listPartitionsByFilter(HiveTable table, String filter, short pageSize);
+
+  List<HivePartition> getPartitionsByNames(HiveTable table, List<String> partitionNames);
+
   HivePartition getPartition(HiveTable table, String partitionName);
 
   HivePartition addPartition(HiveTable table, HivePartition partition);
@@ -128,6 +128,17 @@ public class HiveClientImpl implements HiveClient {
     return shim.listPartitions(table, filterPartitionValueList, pageSize);
   }
 
+  @Override
+  public List<HivePartition> listPartitionsByFilter(
+      HiveTable table, String filter, short pageSize) {
+    return shim.listPartitionsByFilter(table, filter, pageSize);
+  }
+
+  @Override
+  public List<HivePartition> getPartitionsByNames(HiveTable table, List<String> partitionNames) {
+    return shim.getPartitionsByNames(table, partitionNames);
+  }
+
   @Override
   public HivePartition getPartition(HiveTable table, String partitionName) {
     return shim.getPartition(table, partitionName);
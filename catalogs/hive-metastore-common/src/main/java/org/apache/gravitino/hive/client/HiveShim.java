@@ -94,6 +94,12 @@ public abstract class HiveShim {
   public abstract List<HivePartition> listPartitions(
       HiveTable table, List<String> filterPartitionValueList, short pageSize);
 
+  public abstract List<HivePartition> listPartitionsByFilter(
+      HiveTable table, String filter, short pageSize);
+
+  public abstract List<HivePartition> getPartitionsByNames(
+      HiveTable table, List<String> partitionNames);
+
   public abstract HivePartition getPartition(HiveTable table, String partitionName);
 
   public abstract HivePartition addPartition(HiveTable table, HivePartition partition);
@@ -204,6 +204,29 @@ class HiveShimV2 extends HiveShim {
     }
   }
 
+  @Override
+  public List<HivePartition> listPartitionsByFilter(
+      HiveTable table, String filter, short pageSize) {
+    try {
+      String databaseName = table.databaseName();
+      var partitions = client.listPartitionsByFilter(databaseName, table.name(), filter, pageSize);
+      return partitions.stream().map(p -> HiveTableConverter.fromHivePartition(table, p)).toList();
+    } catch (Exception e) {
+      throw HiveExceptionConverter.toGravitinoException(e, ExceptionTarget.table(table.name()));
+    }
+  }
+
+  @Override
+  public List<HivePartition> getPartitionsByNames(HiveTable table, List<String> partitionNames) {
+    try {
+      String databaseName = table.databaseName();
+      var partitions = client.getPartitionsByNames(databaseName, table.name(), partitionNames);
+      return partitions.stream().map(p -> HiveTableConverter.fromHivePartition(table, p)).toList();
+    } catch (Exception e) {
+      throw HiveExceptionConverter.toGravitinoException(e, ExceptionTarget.table(table.name()));
+    }
+  }
+
   @Override
   public HivePartition getPartition(HiveTable table, String partitionName) {
     try {
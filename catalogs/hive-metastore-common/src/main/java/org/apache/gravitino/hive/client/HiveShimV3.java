@@ -55,6 +55,8 @@ class HiveShimV3 extends HiveShimV2 {
   private final Method listPartitionNamesMethod;
   private final Method listPartitionsMethod;
   private final Method listPartitionsWithFilterMethod;
+  private final Method listPartitionsByFilterMethod;
+  private final Method getPartitionsByNamesMethod;
   private final Method getPartitionMethod;
   private final Method addPartitionMethod;
   private final Method dropPartitionMethod;
@@ -124,6 +126,17 @@ class HiveShimV3 extends HiveShimV2 {
       this.listPartitionsWithFilterMethod =
           IMetaStoreClient.class.getMethod(
               "listPartitions", String.class, String.class, String.class, List.class, int.class);
+      this.listPartitionsByFilterMethod =
+          IMetaStoreClient.class.getMethod(
+              "listPartitionsByFilter",
+              String.class,
+              String.class,
+              String.class,
+              String.class,
+              int.class);
+      this.getPartitionsByNamesMethod =
+          IMetaStoreClient.class.getMethod(
+              "getPartitionsByNames", String.class, String.class, String.class, List.class);
       this.getPartitionMethod =
           IMetaStoreClient.class.getMethod(
               "getPartition", String.class, String.class, String.class, List.class);
@@ -366,6 +379,43 @@ class HiveShimV3 extends HiveShimV2 {
     return partitions.stream().map(p -> HiveTableConverter.fromHivePartition(table, p)).toList();
   }
 
+  @Override
+  public List<HivePartition> listPartitionsByFilter(
+      HiveTable table, String filter, short pageSize) {
+    String catalogName = table.catalogName();
+    String databaseName = table.databaseName();
+    Object pageSizeArg = convertPageSize(listPartitionsByFilterMethod, 4, pageSize);
+    var partitions =
+        (List<org.apache.hadoop.hive.metastore.api.Partition>)
+            invoke(
+                ExceptionTarget.table(table.name()),
+                client,
+                listPartitionsByFilterMethod,
+                catalogName,
+                databaseName,
+                table.name(),
+                filter,
+                pageSizeArg);
+    return partitions.stream().map(p -> HiveTableConverter.fromHivePartition(table, p)).toList();
+  }
+
+  @Override
+  public List<HivePartition> getPartitionsByNames(HiveTable table, List<String> partitionNames) {
+    String catalogName = table.catalogName();
+    String databaseName = table.databaseName();
+    var partitions =
+        (List<org.apache.hadoop.hive.metastore.api.Partition>)
+            invoke(
+                ExceptionTarget.table(table.name()),
+                client,
+                getPartitionsByNamesMethod,
+                catalogName,
+                databaseName,
+                table.name(),
+                partitionNames);
+    return partitions.stream().map(p -> HiveTableConverter.fromHivePartition(table, p)).toList();
+  }
+
   @Override
   public HivePartition getPartition(HiveTable table, String partitionName) {
     String catalogName = table.catalogName();
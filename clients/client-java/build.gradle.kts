@@ -55,6 +55,7 @@ dependencies {
   implementation(libs.commons.lang3)
 
   compileOnly(libs.lombok)
+  compileOnly(libs.opentelemetry.api)
   annotationProcessor(libs.lombok)
   testCompileOnly(libs.lombok)
   testAnnotationProcessor(libs.lombok)
@@ -75,6 +76,7 @@ dependencies {
   testImplementation(libs.mockito.core)
   testImplementation(libs.mockserver.netty)
   testImplementation(libs.mockserver.client.java)
+  testImplementation(libs.opentelemetry.api)
   testImplementation(libs.mysql.driver)
   testImplementation(libs.postgresql.driver)
   testImplementation(libs.testcontainers)
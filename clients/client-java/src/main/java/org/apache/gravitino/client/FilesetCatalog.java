@@ -23,8 +23,10 @@ import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -35,17 +37,20 @@ import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.SupportsCredentials;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.file.FileInfoDTO;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.FileInfoPageResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.rest.RESTUtils;
@@ -269,6 +274,87 @@ class FilesetCatalog extends BaseSchemaCatalog
     }
   }
 
+  /**
+   * List the files under a directory of the fileset page by page. The pages are fetched from the
+   * server lazily when the returned iterator advances, so a directory with millions of files could
+   * be listed without holding all of them in memory.
+   *
+   * @param ident A fileset identifier.
+   * @param subPath The sub path of the directory to list.
+   * @param locationName The name of the location to be listed, or null to use the default one.
+   * @param recursive Whether to list the files under the sub directories recursively, a recursive
+   *     listing returns only the files.
+   * @param glob The glob pattern to filter the files by their path relative to the directory, or
+   *     null to list all the files.
+   * @param pageSize The max number of files fetched in one request.
+   * @return The iterator of the files.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  public Iterator<FileInfo> listFiles(
+      NameIdentifier ident,
+      String subPath,
+      String locationName,
+      boolean recursive,
+      String glob,
+      int pageSize)
+      throws NoSuchFilesetException {
+    checkFilesetNameIdentifier(ident);
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive, got %s", pageSize);
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+    String path = formatFilesRequestPath(fullNamespace, ident.name());
+
+    return new Iterator<FileInfo>() {
+      private Iterator<FileInfoDTO> page = Collections.emptyIterator();
+      private String nextPageToken;
+      private boolean lastPage = false;
+
+      @Override
+      public boolean hasNext() {
+        while (!page.hasNext() && !lastPage) {
+          fetchNextPage();
+        }
+        return page.hasNext();
+      }
+
+      @Override
+      public FileInfo next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return page.next();
+      }
+
+      private void fetchNextPage() {
+        Map<String, String> params = new HashMap<>();
+        params.put("sub_path", StringUtils.isBlank(subPath) ? "/" : subPath);
+        params.put("page_size", String.valueOf(pageSize));
+        params.put("recursive", String.valueOf(recursive));
+        if (locationName != null) {
+          params.put("location_name", locationName);
+        }
+        if (glob != null) {
+          params.put("glob", glob);
+        }
+        if (nextPageToken != null) {
+          params.put("page_token", nextPageToken);
+        }
+
+        FileInfoPageResponse resp =
+            restClient.get(
+                path,
+                params,
+                FileInfoPageResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.filesetErrorHandler());
+        resp.validate();
+
+        page = Arrays.asList(resp.getFiles()).iterator();
+        nextPageToken = resp.getNextPageToken();
+        lastPage = nextPageToken == null;
+      }
+    };
+  }
+
   @Override
   public SupportsCredentials supportsCredentials() throws UnsupportedOperationException {
     return this;
@@ -303,6 +389,19 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toString();
   }
 
+  @VisibleForTesting
+  static String formatFilesRequestPath(Namespace ns, String name) {
+    Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
+    return new StringBuilder()
+        .append(formatSchemaRequestPath(schemaNs))
+        .append("/")
+        .append(RESTUtils.encodeString(ns.level(2)))
+        .append("/filesets/")
+        .append(RESTUtils.encodeString(name))
+        .append("/files")
+        .toString();
+  }
+
   /**
    * Check whether the namespace of a fileset is valid.
    *
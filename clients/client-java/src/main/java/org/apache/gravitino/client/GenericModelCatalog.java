@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -32,6 +33,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.model.ModelVersionDTO;
 import org.apache.gravitino.dto.requests.ModelRegisterRequest;
 import org.apache.gravitino.dto.requests.ModelUpdateRequest;
 import org.apache.gravitino.dto.requests.ModelUpdatesRequest;
@@ -182,6 +184,21 @@ class GenericModelCatalog extends BaseSchemaCatalog implements ModelCatalog {
     return resp.getVersions();
   }
 
+  @Override
+  public void listModelVersionInfos(NameIdentifier ident, Consumer<ModelVersion> consumer)
+      throws NoSuchModelException {
+    checkModelNameIdentifier(ident);
+
+    NameIdentifier modelFullIdent = modelFullNameIdentifier(ident);
+    restClient.getStream(
+        formatModelVersionRequestPath(modelFullIdent) + "/versions",
+        ImmutableMap.of("details", "true"),
+        JsonListStreamReader.of(
+            ObjectMapperProvider.objectMapper(), "infos", ModelVersionDTO.class, consumer::accept),
+        Collections.emptyMap(),
+        ErrorHandlers.modelErrorHandler());
+  }
+
   @Override
   public ModelVersion getModelVersion(NameIdentifier ident, int version)
       throws NoSuchModelVersionException {
@@ -23,9 +23,11 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -68,6 +70,7 @@ import org.apache.gravitino.dto.requests.PrivilegeRevokeRequest;
 import org.apache.gravitino.dto.requests.RoleCreateRequest;
 import org.apache.gravitino.dto.requests.RoleGrantRequest;
 import org.apache.gravitino.dto.requests.RoleRevokeRequest;
+import org.apache.gravitino.dto.requests.TableStatisticsListRequest;
 import org.apache.gravitino.dto.requests.TagCreateRequest;
 import org.apache.gravitino.dto.requests.TagUpdateRequest;
 import org.apache.gravitino.dto.requests.TagUpdatesRequest;
@@ -91,6 +94,7 @@ import org.apache.gravitino.dto.responses.PolicyResponse;
 import org.apache.gravitino.dto.responses.RemoveResponse;
 import org.apache.gravitino.dto.responses.RoleResponse;
 import org.apache.gravitino.dto.responses.SetResponse;
+import org.apache.gravitino.dto.responses.TableStatisticsListResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
 import org.apache.gravitino.dto.responses.UserListResponse;
@@ -127,7 +131,9 @@ import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyChange;
 import org.apache.gravitino.policy.PolicyContent;
 import org.apache.gravitino.policy.PolicyOperations;
+import org.apache.gravitino.dto.stats.TableStatisticsDTO;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.stats.Statistic;
 import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagChange;
 import org.apache.gravitino.tag.TagOperations;
@@ -149,6 +155,8 @@ public class GravitinoMetalake extends MetalakeDTO
   private static final String API_METALAKES_JOB_TEMPLATES_PATH = "api/metalakes/%s/jobs/templates";
   private static final String API_METALAKES_JOB_PATH = "api/metalakes/%s/jobs/runs";
   private static final String API_METALAKES_POLICIES_PATH = "api/metalakes/%s/policies";
+  private static final String API_METALAKES_TABLE_STATISTICS_PATH =
+      "api/metalakes/%s/statistics/tables";
   private static final String BLANK_PLACEHOLDER = "";
 
   private final RESTClient restClient;
@@ -1582,6 +1590,53 @@ public class GravitinoMetalake extends MetalakeDTO
     return new GenericJobHandle(resp.getJob());
   }
 
+  /**
+   * Lists the statistics of multiple tables with as few requests as possible. The tables that
+   * don't exist, or that the current user could not access, are absent from the result.
+   *
+   * @param tables the identifiers of the tables, in the form of `catalog.schema.table`
+   * @return the statistics of each table
+   */
+  public Map<NameIdentifier, List<Statistic>> listTableStatistics(List<NameIdentifier> tables) {
+    Preconditions.checkArgument(
+        tables != null && !tables.isEmpty(), "tables must not be null or empty");
+
+    Map<String, NameIdentifier> identsByName = new LinkedHashMap<>();
+    for (NameIdentifier table : tables) {
+      Preconditions.checkArgument(
+          table != null && table.namespace().length() == 2,
+          "table identifier must be in the form of catalog.schema.table, got %s",
+          table);
+      identsByName.put(table.toString(), table);
+    }
+
+    Map<NameIdentifier, List<Statistic>> result = new HashMap<>();
+    List<String> names = new ArrayList<>(identsByName.keySet());
+    for (int i = 0; i < names.size(); i += TableStatisticsListRequest.MAX_TABLES) {
+      List<String> batch =
+          names.subList(i, Math.min(names.size(), i + TableStatisticsListRequest.MAX_TABLES));
+      TableStatisticsListRequest req = new TableStatisticsListRequest(batch.toArray(new String[0]));
+      req.validate();
+
+      TableStatisticsListResponse resp =
+          restClient.post(
+              String.format(API_METALAKES_TABLE_STATISTICS_PATH, RESTUtils.encodeString(name())),
+              req,
+              TableStatisticsListResponse.class,
+              Collections.emptyMap(),
+              ErrorHandlers.statisticsErrorHandler());
+      resp.validate();
+
+      for (TableStatisticsDTO tableStatistics : resp.getTableStatistics()) {
+        NameIdentifier ident = identsByName.get(tableStatistics.table());
+        if (ident != null) {
+          result.put(ident, Arrays.asList(tableStatistics.statistics()));
+        }
+      }
+    }
+    return result;
+  }
+
   static class Builder extends MetalakeDTO.Builder<Builder> {
     private RESTClient restClient;
 
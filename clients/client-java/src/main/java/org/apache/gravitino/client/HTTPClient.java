@@ -25,6 +25,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -337,34 +338,7 @@ public class HTTPClient implements RESTClient {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders) {
-
-    if (handlerStatus != HandlerStatus.Finished) {
-      performPreConnectHandler();
-    }
-
-    if (path.startsWith("/")) {
-      throw new RESTException(
-          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
-    }
-
-    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
-
-    if (requestBody instanceof Map) {
-      // encode maps as form data, application/x-www-form-urlencoded
-      addRequestHeaders(request, headers, ContentType.APPLICATION_FORM_URLENCODED.getMimeType());
-      request.setEntity(toFormEncoding((Map<?, ?>) requestBody));
-    } else if (requestBody != null) {
-      // other request bodies are serialized as JSON, application/json
-      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
-      request.setEntity(toJson(requestBody));
-    } else {
-      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
-    }
-    if (authDataProvider != null) {
-      request.setHeader(
-          AuthConstants.HTTP_HEADER_AUTHORIZATION,
-          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
-    }
+    HttpUriRequestBase request = buildRequest(method, path, queryParams, requestBody, headers);
 
     try (CloseableHttpResponse response = httpClient.execute(request)) {
       Map<String, String> respHeaders = Maps.newHashMap();
@@ -411,6 +385,56 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  /**
+   * Builds an HTTP request, running the pre-connection handler first if it has not finished yet.
+   *
+   * @param method The HTTP method to use (e.g., GET, POST, PUT, DELETE).
+   * @param path The URL path to send the request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param requestBody The content to place in the request body (can be null).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @return The HTTP request.
+   * @throws RESTException If the provided path is malformed.
+   */
+  private HttpUriRequestBase buildRequest(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Object requestBody,
+      Map<String, String> headers) {
+    if (handlerStatus != HandlerStatus.Finished) {
+      performPreConnectHandler();
+    }
+
+    if (path.startsWith("/")) {
+      throw new RESTException(
+          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
+    }
+
+    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
+
+    if (requestBody instanceof Map) {
+      // encode maps as form data, application/x-www-form-urlencoded
+      addRequestHeaders(request, headers, ContentType.APPLICATION_FORM_URLENCODED.getMimeType());
+      request.setEntity(toFormEncoding((Map<?, ?>) requestBody));
+    } else if (requestBody != null) {
+      // other request bodies are serialized as JSON, application/json
+      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
+      request.setEntity(toJson(requestBody));
+    } else {
+      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
+    }
+    if (authDataProvider != null) {
+      request.setHeader(
+          AuthConstants.HTTP_HEADER_AUTHORIZATION,
+          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
+    }
+
+    return request;
+  }
+
   private synchronized void performPreConnectHandler() {
     // beforeConnectHandler is a pre-connection handler that needs to be executed before the first
     // HTTP request. if the handler execute fails, we set the status to Start to retry the handler.
@@ -465,6 +489,53 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  /**
+   * Sends an HTTP GET request to the specified path and hands the body of a successful response to
+   * the handler as a stream, so that the body is never held in memory as a whole.
+   *
+   * @param path The URL path to send the GET request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param handler The handler of the response body stream.
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   */
+  @Override
+  @SuppressWarnings("deprecation")
+  public void getStream(
+      String path,
+      Map<String, String> queryParams,
+      ResponseStreamHandler handler,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    HttpUriRequestBase request = buildRequest(Method.GET, path, queryParams, null, headers);
+
+    try (CloseableHttpResponse response = httpClient.execute(request)) {
+      if (!isSuccessful(response)) {
+        throwFailure(response, extractResponseBodyAsString(response), errorHandler);
+      }
+
+      if (response.getEntity() == null) {
+        throw new RESTException(
+            "Invalid (null) response body for request: method=GET, path=%s, status=%d",
+            path, response.getCode());
+      }
+
+      try (InputStream body = response.getEntity().getContent()) {
+        handler.handle(body);
+      } catch (JsonProcessingException e) {
+        throw new RESTException(
+            e,
+            "Received a success response code of %d, but failed to parse the response body",
+            response.getCode());
+      }
+    } catch (IOException e) {
+      throw new RESTException(e, "Error occurred while processing %s request", Method.GET);
+    }
+  }
+
   /**
    * Sends an HTTP POST request to the specified path with the provided request body and processes
    * the response.
@@ -690,6 +761,9 @@ public class HTTPClient implements RESTClient {
       request.setHeader(Version.CLIENT_VERSION_HEADER, Version.getCurrentVersion().version);
     }
 
+    // Propagate the trace context of the caller
+    TraceContextHeaders.inject(request::setHeader);
+
     if (requestHeaders != null) {
       requestHeaders.forEach(request::setHeader);
     }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.RESTException;
+import org.apache.gravitino.json.JsonUtils;
+
+/**
+ * Reads a list response, like {@link org.apache.gravitino.dto.responses.EntityListResponse}, from
+ * the response body stream and hands the elements to a consumer one by one, so that listing a
+ * large number of elements doesn't hold the whole body or all the elements in memory.
+ *
+ * @param <T> The type of the elements.
+ */
+class JsonListStreamReader<T> implements RESTClient.ResponseStreamHandler {
+
+  /**
+   * Reads an element from the JSON parser positioned at the first token of the element.
+   *
+   * @param <T> The type of the element.
+   */
+  @FunctionalInterface
+  interface ElementReader<T> {
+    T read(JsonParser parser) throws IOException;
+  }
+
+  private static final JsonUtils.NameIdentifierDeserializer IDENTIFIER_DESERIALIZER =
+      new JsonUtils.NameIdentifierDeserializer();
+
+  private final ObjectMapper mapper;
+  private final String fieldName;
+  private final ElementReader<T> elementReader;
+  private final Consumer<T> consumer;
+  private long count;
+
+  JsonListStreamReader(
+      ObjectMapper mapper, String fieldName, ElementReader<T> elementReader, Consumer<T> consumer) {
+    this.mapper = mapper;
+    this.fieldName = fieldName;
+    this.elementReader = elementReader;
+    this.consumer = consumer;
+  }
+
+  /**
+   * Create a reader of an {@link org.apache.gravitino.dto.responses.EntityListResponse}.
+   *
+   * @param mapper The object mapper.
+   * @param consumer The consumer of the identifiers.
+   * @return The reader.
+   */
+  static JsonListStreamReader<NameIdentifier> ofIdentifiers(
+      ObjectMapper mapper, Consumer<NameIdentifier> consumer) {
+    return new JsonListStreamReader<>(
+        mapper,
+        "identifiers",
+        parser -> IDENTIFIER_DESERIALIZER.deserialize(parser, null),
+        consumer);
+  }
+
+  /**
+   * Create a reader of a list response whose elements are of the given type.
+   *
+   * @param mapper The object mapper.
+   * @param fieldName The name of the array field of the response.
+   * @param elementType The type of the elements.
+   * @param consumer The consumer of the elements.
+   * @param <T> The type of the elements.
+   * @return The reader.
+   */
+  static <T> JsonListStreamReader<T> of(
+      ObjectMapper mapper, String fieldName, Class<T> elementType, Consumer<T> consumer) {
+    return new JsonListStreamReader<>(
+        mapper, fieldName, parser -> mapper.readValue(parser, elementType), consumer);
+  }
+
+  /**
+   * Get the number of the elements handed to the consumer.
+   *
+   * @return The number of the elements.
+   */
+  long count() {
+    return count;
+  }
+
+  @Override
+  public void handle(InputStream body) throws IOException {
+    try (JsonParser parser = mapper.getFactory().createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new RESTException("Invalid list response, expected a JSON object");
+      }
+
+      boolean listFound = false;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        JsonToken token = parser.nextToken();
+        if ("code".equals(name)) {
+          int code = parser.getIntValue();
+          if (code != 0) {
+            throw new RESTException("Invalid list response, unexpected code %d", code);
+          }
+        } else if (fieldName.equals(name) && token == JsonToken.START_ARRAY) {
+          listFound = true;
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(elementReader.read(parser));
+            count++;
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (!listFound) {
+        throw new RESTException("Invalid list response, missing the field '%s'", fieldName);
+      }
+    }
+  }
+}
@@ -20,6 +20,8 @@ package org.apache.gravitino.client;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -203,6 +205,26 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Perform a GET request on the specified path and hand the body of a successful response to the
+   * handler as a stream, instead of reading the whole body into memory.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param handler The handler of the response body stream.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   */
+  default void getStream(
+      String path,
+      Map<String, String> queryParams,
+      ResponseStreamHandler handler,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " doesn't support streaming the response body");
+  }
+
   /**
    * Perform a POST request on the specified path with given information.
    *
@@ -434,4 +456,17 @@ public interface RESTClient extends Closeable {
       Class<T> responseType,
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
+
+  /** Handler of the body of a response read as a stream. */
+  @FunctionalInterface
+  interface ResponseStreamHandler {
+
+    /**
+     * Handle the response body.
+     *
+     * @param body The stream of the response body, closed by the caller.
+     * @throws IOException If the response body fails to be read.
+     */
+    void handle(InputStream body) throws IOException;
+  }
 }
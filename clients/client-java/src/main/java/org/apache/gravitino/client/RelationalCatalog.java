@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -110,6 +111,31 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List all the tables under the given Schema namespace, the tables are handed to the consumer
+   * while the response is read, without holding the whole response in memory.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param consumer The consumer of the {@link NameIdentifier} of the tables.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public void listTables(Namespace namespace, Consumer<NameIdentifier> consumer)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    restClient.getStream(
+        formatTableRequestPath(fullNamespace),
+        Collections.emptyMap(),
+        JsonListStreamReader.ofIdentifiers(
+            ObjectMapperProvider.objectMapper(),
+            ident -> consumer.accept(NameIdentifier.of(ident.namespace().level(2), ident.name()))),
+        Collections.emptyMap(),
+        ErrorHandlers.tableErrorHandler());
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -41,6 +41,8 @@ import org.apache.gravitino.dto.requests.AddPartitionsRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.PartitionListResponse;
 import org.apache.gravitino.dto.responses.PartitionNameListResponse;
+import org.apache.gravitino.dto.responses.PartitionNamePageResponse;
+import org.apache.gravitino.dto.responses.PartitionPageResponse;
 import org.apache.gravitino.dto.responses.PartitionResponse;
 import org.apache.gravitino.exceptions.IllegalStatisticNameException;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
@@ -59,6 +61,8 @@ import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.gravitino.stats.PartitionRange;
 import org.apache.gravitino.stats.PartitionStatistics;
@@ -265,6 +269,60 @@ class RelationalTable
     return resp.getPartitions();
   }
 
+  /**
+   * Lists a page of the names of the partitions matching the filter in the options.
+   *
+   * @param options The filter and the page to list.
+   * @return The page of partition names.
+   */
+  @Override
+  public PartitionPage<String> listPartitionNames(PartitionListingOptions options) {
+    PartitionNamePageResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            partitionListingParams(options),
+            PartitionNamePageResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+    return new PartitionPage<>(Arrays.asList(resp.partitionNames()), resp.nextPageToken());
+  }
+
+  /**
+   * Lists a page of the partitions matching the filter in the options.
+   *
+   * @param options The filter and the page to list.
+   * @return The page of partitions.
+   */
+  @Override
+  public PartitionPage<Partition> listPartitions(PartitionListingOptions options) {
+    Map<String, String> params = partitionListingParams(options);
+    params.put("details", "true");
+    PartitionPageResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionPageResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+    return new PartitionPage<>(
+        Arrays.<Partition>asList(resp.getPartitions()), resp.getNextPageToken());
+  }
+
+  private static Map<String, String> partitionListingParams(PartitionListingOptions options) {
+    Map<String, String> params = new HashMap<>();
+    if (options.filter() != null) {
+      params.put("filter", options.filter().toString());
+    }
+    // Always send the page size, so the server returns a page response even without a filter
+    params.put("page_size", String.valueOf(options.pageSize()));
+    if (options.pageToken() != null) {
+      params.put("page_token", options.pageToken());
+    }
+    return params;
+  }
+
   /**
    * Returns the partition with the given name.
    *
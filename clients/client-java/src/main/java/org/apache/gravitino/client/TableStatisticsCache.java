@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.stats.Statistic;
+
+/**
+ * A cache of the {@link TableStatisticsSummary} of the tables in a metalake, which lets the query
+ * engines consult the statistics during planning without a request to the Gravitino server for
+ * each table of each query. The missing statistics of several tables are fetched in one request,
+ * and the tables without statistics are cached as {@link TableStatisticsSummary#EMPTY}.
+ */
+public class TableStatisticsCache {
+
+  private final LoadingCache<NameIdentifier, TableStatisticsSummary> cache;
+
+  /**
+   * Creates a cache of the table statistics.
+   *
+   * @param metalake the metalake of the tables
+   * @param expireAfterWriteMs the time in milliseconds after which the statistics are fetched again
+   * @param maxSize the max number of the tables cached
+   */
+  public TableStatisticsCache(GravitinoMetalake metalake, long expireAfterWriteMs, long maxSize) {
+    Preconditions.checkArgument(metalake != null, "metalake must not be null");
+    Preconditions.checkArgument(expireAfterWriteMs > 0, "expireAfterWriteMs must be positive");
+    Preconditions.checkArgument(maxSize > 0, "maxSize must be positive");
+    this.cache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(expireAfterWriteMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxSize)
+            .build(
+                new CacheLoader<NameIdentifier, TableStatisticsSummary>() {
+                  @Override
+                  public TableStatisticsSummary load(NameIdentifier table) {
+                    return loadAll(ImmutableList.of(table)).get(table);
+                  }
+
+                  @Override
+                  public Map<NameIdentifier, TableStatisticsSummary> loadAll(
+                      Iterable<? extends NameIdentifier> tables) {
+                    List<NameIdentifier> idents = ImmutableList.copyOf(tables);
+                    Map<NameIdentifier, List<Statistic>> statistics =
+                        metalake.listTableStatistics(idents);
+                    Map<NameIdentifier, TableStatisticsSummary> summaries = new HashMap<>();
+                    for (NameIdentifier ident : idents) {
+                      List<Statistic> tableStatistics = statistics.get(ident);
+                      summaries.put(
+                          ident,
+                          tableStatistics == null
+                              ? TableStatisticsSummary.EMPTY
+                              : TableStatisticsSummary.of(tableStatistics));
+                    }
+                    return summaries;
+                  }
+                });
+  }
+
+  /**
+   * Returns the statistics of the table, fetching them if they are not cached.
+   *
+   * @param table the identifier of the table, in the form of `catalog.schema.table`
+   * @return the statistics of the table, {@link TableStatisticsSummary#EMPTY} if the table has no
+   *     statistics or doesn't exist
+   */
+  public TableStatisticsSummary get(NameIdentifier table) {
+    try {
+      return cache.get(table);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Returns the statistics of the tables, fetching the ones not cached in one request.
+   *
+   * @param tables the identifiers of the tables, in the form of `catalog.schema.table`
+   * @return the statistics of each table
+   */
+  public Map<NameIdentifier, TableStatisticsSummary> getAll(Collection<NameIdentifier> tables) {
+    try {
+      return cache.getAll(tables);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Discards the cached statistics of the table, for example after the table is altered.
+   *
+   * @param table the identifier of the table, in the form of `catalog.schema.table`
+   */
+  public void invalidate(NameIdentifier table) {
+    cache.invalidate(table);
+  }
+
+  /** Discards all the cached statistics. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static RuntimeException unwrap(Exception e) {
+    Throwable cause = e.getCause() == null ? e : e.getCause();
+    return cause instanceof RuntimeException
+        ? (RuntimeException) cause
+        : new RuntimeException(cause.getMessage(), cause);
+  }
+}
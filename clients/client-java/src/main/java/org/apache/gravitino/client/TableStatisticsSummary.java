@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import org.apache.gravitino.stats.Statistic;
+import org.apache.gravitino.stats.StatisticValue;
+
+/**
+ * The statistics of a table that query engines use for cost-based optimization. They are parsed
+ * from the following custom statistics of the table, and the other statistics are ignored:
+ *
+ * <ul>
+ *   <li>{@code custom-row-count}: the number of rows, a long value.
+ *   <li>{@code custom-total-file-size}: the total size of the data files in bytes, a long value.
+ *   <li>{@code custom-column.<column name>}: the statistics of a column, an object value with the
+ *       optional fields {@code ndv}, {@code null-count}, {@code avg-length} and {@code max-length}.
+ * </ul>
+ */
+public class TableStatisticsSummary {
+
+  /** The name of the statistic of the number of rows. */
+  public static final String ROW_COUNT = Statistic.CUSTOM_PREFIX + "row-count";
+
+  /** The name of the statistic of the total size of the data files in bytes. */
+  public static final String TOTAL_SIZE = Statistic.CUSTOM_PREFIX + "total-file-size";
+
+  /** The name prefix of the statistics of the columns. */
+  public static final String COLUMN_PREFIX = Statistic.CUSTOM_PREFIX + "column.";
+
+  /** The field of the column statistics for the number of distinct values. */
+  public static final String NDV = "ndv";
+
+  /** The field of the column statistics for the number of null values. */
+  public static final String NULL_COUNT = "null-count";
+
+  /** The field of the column statistics for the average length of the values in bytes. */
+  public static final String AVG_LENGTH = "avg-length";
+
+  /** The field of the column statistics for the max length of the values in bytes. */
+  public static final String MAX_LENGTH = "max-length";
+
+  /** The summary of a table without any statistics. */
+  public static final TableStatisticsSummary EMPTY = of(ImmutableList.of());
+
+  private final OptionalLong rowCount;
+  private final OptionalLong totalSize;
+  private final Map<String, ColumnStatisticsSummary> columns;
+
+  private TableStatisticsSummary(
+      OptionalLong rowCount, OptionalLong totalSize, Map<String, ColumnStatisticsSummary> columns) {
+    this.rowCount = rowCount;
+    this.totalSize = totalSize;
+    this.columns = columns;
+  }
+
+  /**
+   * Parses the summary from the statistics of a table.
+   *
+   * @param statistics the statistics of the table
+   * @return the summary of the statistics
+   */
+  public static TableStatisticsSummary of(List<Statistic> statistics) {
+    OptionalLong rowCount = OptionalLong.empty();
+    OptionalLong totalSize = OptionalLong.empty();
+    // Engines may normalize the case of the column names
+    Map<String, ColumnStatisticsSummary> columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (Statistic statistic : statistics) {
+      if (!statistic.value().isPresent()) {
+        continue;
+      }
+
+      Object value = statistic.value().get().value();
+      if (ROW_COUNT.equals(statistic.name())) {
+        rowCount = toLong(value);
+      } else if (TOTAL_SIZE.equals(statistic.name())) {
+        totalSize = toLong(value);
+      } else if (statistic.name().startsWith(COLUMN_PREFIX) && value instanceof Map) {
+        String column = statistic.name().substring(COLUMN_PREFIX.length());
+        @SuppressWarnings("unchecked")
+        Map<String, StatisticValue<?>> fields = (Map<String, StatisticValue<?>>) value;
+        columns.put(column, ColumnStatisticsSummary.of(fields));
+      }
+    }
+    return new TableStatisticsSummary(rowCount, totalSize, Collections.unmodifiableMap(columns));
+  }
+
+  /**
+   * Returns the number of rows of the table.
+   *
+   * @return the number of rows of the table, empty if it's unknown
+   */
+  public OptionalLong rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the total size of the data files of the table in bytes.
+   *
+   * @return the total size of the data files of the table in bytes, empty if it's unknown
+   */
+  public OptionalLong totalSize() {
+    return totalSize;
+  }
+
+  /**
+   * Returns the statistics of the columns by the column names.
+   *
+   * @return the statistics of the columns by the column names, compared case-insensitively
+   */
+  public Map<String, ColumnStatisticsSummary> columns() {
+    return columns;
+  }
+
+  /**
+   * Returns the statistics of a column.
+   *
+   * @param name the name of the column, compared case-insensitively
+   * @return the statistics of the column, empty if it's unknown
+   */
+  public Optional<ColumnStatisticsSummary> column(String name) {
+    return Optional.ofNullable(columns.get(name));
+  }
+
+  /**
+   * Returns whether none of the statistics is known.
+   *
+   * @return true if none of the statistics is known
+   */
+  public boolean isEmpty() {
+    return !rowCount.isPresent() && !totalSize.isPresent() && columns.isEmpty();
+  }
+
+  private static OptionalLong toLong(Object value) {
+    if (value instanceof Number && ((Number) value).longValue() >= 0) {
+      return OptionalLong.of(((Number) value).longValue());
+    }
+    return OptionalLong.empty();
+  }
+
+  private static OptionalDouble toDouble(Object value) {
+    if (value instanceof Number && ((Number) value).doubleValue() >= 0) {
+      return OptionalDouble.of(((Number) value).doubleValue());
+    }
+    return OptionalDouble.empty();
+  }
+
+  private static Object fieldValue(Map<String, StatisticValue<?>> fields, String field) {
+    StatisticValue<?> value = fields.get(field);
+    return value == null ? null : value.value();
+  }
+
+  /** The statistics of a column. */
+  public static class ColumnStatisticsSummary {
+    private final OptionalLong ndv;
+    private final OptionalLong nullCount;
+    private final OptionalDouble avgLength;
+    private final OptionalLong maxLength;
+
+    private ColumnStatisticsSummary(
+        OptionalLong ndv,
+        OptionalLong nullCount,
+        OptionalDouble avgLength,
+        OptionalLong maxLength) {
+      this.ndv = ndv;
+      this.nullCount = nullCount;
+      this.avgLength = avgLength;
+      this.maxLength = maxLength;
+    }
+
+    private static ColumnStatisticsSummary of(Map<String, StatisticValue<?>> fields) {
+      return new ColumnStatisticsSummary(
+          toLong(fieldValue(fields, NDV)),
+          toLong(fieldValue(fields, NULL_COUNT)),
+          toDouble(fieldValue(fields, AVG_LENGTH)),
+          toLong(fieldValue(fields, MAX_LENGTH)));
+    }
+
+    /**
+     * Returns the number of distinct values of the column.
+     *
+     * @return the number of distinct values of the column, empty if it's unknown
+     */
+    public OptionalLong ndv() {
+      return ndv;
+    }
+
+    /**
+     * Returns the number of null values of the column.
+     *
+     * @return the number of null values of the column, empty if it's unknown
+     */
+    public OptionalLong nullCount() {
+      return nullCount;
+    }
+
+    /**
+     * Returns the average length of the values in bytes.
+     *
+     * @return the average length of the values in bytes, empty if it's unknown
+     */
+    public OptionalDouble avgLength() {
+      return avgLength;
+    }
+
+    /**
+     * Returns the max length of the values in bytes.
+     *
+     * @return the max length of the values in bytes, empty if it's unknown
+     */
+    public OptionalLong maxLength() {
+      return maxLength;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import java.util.function.BiConsumer;
+
+/**
+ * Propagates the current OpenTelemetry trace context to the Gravitino server by the W3C {@code
+ * traceparent} and {@code tracestate} headers, so the spans of the Gravitino server join the trace
+ * of the caller, like a query engine. The OpenTelemetry API is an optional dependency of the
+ * client, nothing is propagated if it's absent.
+ */
+final class TraceContextHeaders {
+
+  private static final boolean OPEN_TELEMETRY_PRESENT = isOpenTelemetryPresent();
+
+  private TraceContextHeaders() {}
+
+  /**
+   * Inject the headers of the current trace context, nothing is injected if there is no current
+   * trace context.
+   *
+   * @param headerSetter The setter of the request headers.
+   */
+  static void inject(BiConsumer<String, String> headerSetter) {
+    if (OPEN_TELEMETRY_PRESENT) {
+      Propagator.inject(headerSetter);
+    }
+  }
+
+  private static boolean isOpenTelemetryPresent() {
+    try {
+      Class.forName(
+          "io.opentelemetry.context.Context", false, TraceContextHeaders.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  // Isolates the references to the OpenTelemetry classes, it's only loaded when they're present.
+  private static final class Propagator {
+    private static void inject(BiConsumer<String, String> headerSetter) {
+      W3CTraceContextPropagator.getInstance()
+          .inject(Context.current(), headerSetter, BiConsumer::accept);
+    }
+  }
+}
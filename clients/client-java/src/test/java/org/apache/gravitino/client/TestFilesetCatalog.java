@@ -29,7 +29,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.nio.file.NoSuchFileException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -44,6 +46,7 @@ import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.file.FileInfoDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
@@ -53,6 +56,7 @@ import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.FileInfoPageResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.AlreadyExistsException;
@@ -61,6 +65,7 @@ import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
@@ -429,6 +434,56 @@ public class TestFilesetCatalog extends TestBase {
         "internal error");
   }
 
+  @Test
+  public void testListFiles() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String filesPath =
+        withSlash(
+            FilesetCatalog.formatFilesRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1"), fileset.name()));
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("sub_path", "/");
+    queryParams.put("page_size", "2");
+    queryParams.put("recursive", "true");
+    queryParams.put("glob", "**.parquet");
+
+    FileInfoDTO[] firstPage = new FileInfoDTO[] {mockFileInfo("part-0"), mockFileInfo("part-1")};
+    buildMockResource(
+        Method.GET,
+        filesPath,
+        queryParams,
+        null,
+        new FileInfoPageResponse(firstPage, "token1"),
+        SC_OK);
+    queryParams.put("page_token", "token1");
+    FileInfoDTO[] lastPage = new FileInfoDTO[] {mockFileInfo("part-2")};
+    buildMockResource(
+        Method.GET, filesPath, queryParams, null, new FileInfoPageResponse(lastPage, null), SC_OK);
+
+    Iterator<FileInfo> files =
+        ((FilesetCatalog) catalog)
+            .listFiles(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                "/",
+                null,
+                true,
+                "**.parquet",
+                2);
+    List<String> names = new ArrayList<>();
+    files.forEachRemaining(file -> names.add(file.name()));
+    Assertions.assertEquals(ImmutableList.of("part-0", "part-1", "part-2"), names);
+  }
+
+  private static FileInfoDTO mockFileInfo(String name) {
+    return FileInfoDTO.builder()
+        .name(name)
+        .isDir(false)
+        .size(10L)
+        .lastModified(1L)
+        .path("/fileset/catalog/schema1/fileset1/" + name)
+        .build();
+  }
+
   @Test
   public void testGetFileLocation() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
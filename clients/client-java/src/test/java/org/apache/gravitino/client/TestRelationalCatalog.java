@@ -33,8 +33,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
@@ -92,6 +94,9 @@ import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
 
 public class TestRelationalCatalog extends TestBase {
 
@@ -361,6 +366,43 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testListTablesWithConsumer() throws JsonProcessingException {
+    NameIdentifier[] idents =
+        IntStream.range(0, 3000)
+            .mapToObj(i -> NameIdentifier.of(metalakeName, catalogName, "schema1", "table" + i))
+            .toArray(NameIdentifier[]::new);
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(idents[0].namespace()));
+    buildMockResource(Method.GET, tablePath, null, new EntityListResponse(idents), SC_OK);
+
+    List<NameIdentifier> tables = new ArrayList<>();
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Namespace namespace = Namespace.of("schema1");
+    tableCatalog.listTables(namespace, tables::add);
+    Assertions.assertEquals(3000, tables.size());
+    Assertions.assertEquals(NameIdentifier.of("schema1", "table2999"), tables.get(2999));
+
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(Method.GET, tablePath, null, errorResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchSchemaException.class, () -> tableCatalog.listTables(namespace, tables::add));
+
+    // A response truncated by a failure on the server side fails to be parsed
+    mockServer
+        .when(HttpRequest.request(tablePath).withMethod(Method.GET.name()), Times.exactly(1))
+        .respond(
+            HttpResponse.response()
+                .withStatusCode(SC_OK)
+                .withBody(
+                    "{\"code\":0,\"identifiers\":[{\"namespace\":[\"m\",\"c\",\"schema1\"],"
+                        + "\"name\":\"t1\"},"));
+    tables.clear();
+    Assertions.assertThrows(
+        RESTException.class, () -> tableCatalog.listTables(namespace, tables::add));
+    Assertions.assertEquals(1, tables.size());
+  }
+
   @Test
   public void testCreateTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
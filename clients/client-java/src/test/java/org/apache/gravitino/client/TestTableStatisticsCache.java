@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.requests.TableStatisticsListRequest;
+import org.apache.gravitino.dto.responses.TableStatisticsListResponse;
+import org.apache.gravitino.dto.stats.StatisticDTO;
+import org.apache.gravitino.dto.stats.TableStatisticsDTO;
+import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.stats.StatisticValues;
+import org.apache.hc.core5.http.Method;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestTableStatisticsCache extends TestBase {
+
+  private static final String METALAKE_NAME = "metalake";
+  private static final String PATH = "/api/metalakes/" + METALAKE_NAME + "/statistics/tables";
+
+  private static GravitinoMetalake metalake;
+
+  @BeforeAll
+  public static void setUp() throws Exception {
+    TestBase.setUp();
+    metalake = TestGravitinoMetalake.createMetalake(client, METALAKE_NAME);
+  }
+
+  @Test
+  public void testGetStatistics() throws JsonProcessingException {
+    NameIdentifier orders = NameIdentifier.of("catalog", "db", "orders");
+    NameIdentifier users = NameIdentifier.of("catalog", "db", "users");
+    Map<String, StatisticValue<?>> idStatistics =
+        ImmutableMap.of(
+            TableStatisticsSummary.NDV, StatisticValues.longValue(90L),
+            TableStatisticsSummary.NULL_COUNT, StatisticValues.longValue(0L));
+    TableStatisticsDTO ordersStatistics =
+        TableStatisticsDTO.of(
+            "catalog.db.orders",
+            new StatisticDTO[] {
+              statistic(TableStatisticsSummary.ROW_COUNT, StatisticValues.longValue(100L)),
+              statistic(TableStatisticsSummary.TOTAL_SIZE, StatisticValues.longValue(4096L)),
+              statistic(
+                  TableStatisticsSummary.COLUMN_PREFIX + "Id",
+                  StatisticValues.objectValue(idStatistics)),
+              statistic("custom-other", StatisticValues.stringValue("ignored"))
+            });
+    buildMockResource(
+        Method.POST,
+        PATH,
+        new TableStatisticsListRequest(new String[] {"catalog.db.orders", "catalog.db.users"}),
+        new TableStatisticsListResponse(new TableStatisticsDTO[] {ordersStatistics}),
+        SC_OK);
+
+    // The statistics of both tables are fetched in one request
+    TableStatisticsCache cache = new TableStatisticsCache(metalake, 60_000L, 100L);
+    Map<NameIdentifier, TableStatisticsSummary> summaries =
+        cache.getAll(ImmutableList.of(orders, users));
+    Assertions.assertTrue(summaries.get(users).isEmpty());
+
+    // The cached statistics are returned without a request
+    TableStatisticsSummary summary = cache.get(orders);
+    Assertions.assertEquals(100L, summary.rowCount().getAsLong());
+    Assertions.assertEquals(4096L, summary.totalSize().getAsLong());
+    Assertions.assertEquals(1, summary.columns().size());
+    Assertions.assertEquals(90L, summary.column("id").get().ndv().getAsLong());
+    Assertions.assertEquals(0L, summary.column("ID").get().nullCount().getAsLong());
+    Assertions.assertFalse(summary.column("id").get().avgLength().isPresent());
+    Assertions.assertFalse(summary.column("name").isPresent());
+    Assertions.assertSame(TableStatisticsSummary.EMPTY, cache.get(users));
+
+    // The request fails after the cache is invalidated, as the mock response is consumed
+    cache.invalidate(orders);
+    Assertions.assertThrows(RuntimeException.class, () -> cache.get(orders));
+  }
+
+  @Test
+  public void testIllegalTableIdentifier() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> metalake.listTableStatistics(ImmutableList.of(NameIdentifier.of("db", "orders"))));
+  }
+
+  private static StatisticDTO statistic(String name, StatisticValue<?> value) {
+    return StatisticDTO.builder()
+        .withName(name)
+        .withValue(Optional.of(value))
+        .withReserved(false)
+        .withModifiable(true)
+        .withAudit(AuditDTO.builder().withCreator("test").withCreateTime(Instant.now()).build())
+        .build();
+  }
+}
@@ -16,7 +16,7 @@
 # under the License.
 
 import logging
-from typing import List, Dict
+from typing import Dict, Iterator, List
 
 from gravitino.dto.requests.fileset_create_request import FilesetCreateRequest
 
@@ -29,12 +29,15 @@ from gravitino.audit.caller_context import CallerContextHolder, CallerContext
 from gravitino.client.base_schema_catalog import BaseSchemaCatalog
 from gravitino.client.generic_fileset import GenericFileset
 from gravitino.dto.audit_dto import AuditDTO
+from gravitino.dto.file_info_dto import FileInfoDTO
 from gravitino.dto.requests.fileset_update_request import FilesetUpdateRequest
 from gravitino.dto.requests.fileset_updates_request import FilesetUpdatesRequest
 from gravitino.dto.responses.drop_response import DropResponse
 from gravitino.dto.responses.entity_list_response import EntityListResponse
+from gravitino.dto.responses.file_info_page_response import FileInfoPageResponse
 from gravitino.dto.responses.file_location_response import FileLocationResponse
 from gravitino.dto.responses.fileset_response import FilesetResponse
+from gravitino.exceptions.base import IllegalArgumentException
 from gravitino.exceptions.handlers.fileset_error_handler import FILESET_ERROR_HANDLER
 from gravitino.name_identifier import NameIdentifier
 from gravitino.namespace import Namespace
@@ -324,6 +327,69 @@ class FilesetCatalog(
         finally:
             CallerContextHolder.remove()
 
+    def list_files(
+        self,
+        ident: NameIdentifier,
+        sub_path: str = "/",
+        location_name: str = None,
+        recursive: bool = False,
+        glob: str = None,
+        page_size: int = 1000,
+    ) -> Iterator[FileInfoDTO]:
+        """List the files under a directory of the fileset page by page. The pages are
+        fetched from the server lazily while the returned iterator is consumed.
+
+        Args:
+             ident: A fileset identifier, which should be "schema.fileset" format.
+             sub_path: The sub path of the directory to list.
+             location_name: The location name of the fileset, if not specified,
+                           the default location will be used.
+             recursive: Whether to list the files under the sub directories
+                        recursively, a recursive listing returns only the files.
+             glob: The glob pattern to filter the files by their path relative to
+                   the directory.
+             page_size: The max number of files fetched in one request.
+
+        Raises:
+            NoSuchFilesetException If the fileset does not exist.
+
+        Returns:
+             The iterator of the files.
+        """
+        self.check_fileset_name_identifier(ident)
+        if page_size <= 0:
+            raise IllegalArgumentException(
+                f"Page size must be positive, got {page_size}"
+            )
+
+        full_namespace = self._get_fileset_full_namespace(ident.namespace())
+        path = self.format_files_request_path(full_namespace, ident.name())
+        params = {
+            "sub_path": sub_path,
+            "page_size": str(page_size),
+            "recursive": str(recursive).lower(),
+        }
+        if location_name is not None:
+            params["location_name"] = location_name
+        if glob is not None:
+            params["glob"] = glob
+
+        page_token = None
+        while True:
+            page_params = dict(params)
+            if page_token is not None:
+                page_params["page_token"] = page_token
+            resp = self.rest_client.get(
+                path, params=page_params, error_handler=FILESET_ERROR_HANDLER
+            )
+            page_resp = FileInfoPageResponse.from_json(resp.body, infer_missing=True)
+            page_resp.validate()
+            yield from page_resp.files()
+
+            page_token = page_resp.next_page_token()
+            if page_token is None:
+                return
+
     @staticmethod
     def check_fileset_namespace(namespace: Namespace):
         Namespace.check(
@@ -345,6 +411,14 @@ class FilesetCatalog(
             self._catalog_namespace.level(0), self.name(), fileset_namespace.level(0)
         )
 
+    @staticmethod
+    def format_files_request_path(namespace: Namespace, name: str) -> str:
+        schema_ns = Namespace.of(namespace.level(0), namespace.level(1))
+        return (
+            f"{BaseSchemaCatalog.format_schema_request_path(schema_ns)}/{encode_string(namespace.level(2))}"
+            f"/filesets/{encode_string(name)}/files"
+        )
+
     @staticmethod
     def format_fileset_request_path(namespace: Namespace) -> str:
         schema_ns = Namespace.of(namespace.level(0), namespace.level(1))
@@ -0,0 +1,51 @@
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#   http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+from dataclasses import dataclass, field
+
+from dataclasses_json import DataClassJsonMixin, config
+
+
+@dataclass
+class FileInfoDTO(DataClassJsonMixin):
+    """Data transfer object representing a file or directory in a fileset."""
+
+    _name: str = field(metadata=config(field_name="name"))
+    _is_dir: bool = field(metadata=config(field_name="isDir"))
+    _size: int = field(metadata=config(field_name="size"))
+    _last_modified: int = field(metadata=config(field_name="lastModified"))
+    _path: str = field(metadata=config(field_name="path"))
+
+    def name(self) -> str:
+        """The name of the file or directory."""
+        return self._name
+
+    def is_dir(self) -> bool:
+        """Whether it's a directory."""
+        return self._is_dir
+
+    def size(self) -> int:
+        """The size in bytes of the file, 0 for a directory."""
+        return self._size
+
+    def last_modified(self) -> int:
+        """The last modification time in epoch milliseconds."""
+        return self._last_modified
+
+    def path(self) -> str:
+        """The virtual path of the file or directory in the fileset."""
+        return self._path
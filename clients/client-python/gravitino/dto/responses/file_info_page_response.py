@@ -0,0 +1,51 @@
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#   http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+from dataclasses import dataclass, field
+from typing import List, Optional
+
+from dataclasses_json import config
+
+from gravitino.dto.file_info_dto import FileInfoDTO
+from gravitino.dto.responses.base_response import BaseResponse
+from gravitino.exceptions.base import IllegalArgumentException
+
+
+@dataclass
+class FileInfoPageResponse(BaseResponse):
+    """Response for listing a page of files in a fileset."""
+
+    _files: List[FileInfoDTO] = field(metadata=config(field_name="files"))
+    _next_page_token: Optional[str] = field(
+        default=None, metadata=config(field_name="nextPageToken")
+    )
+
+    def files(self) -> List[FileInfoDTO]:
+        return self._files
+
+    def next_page_token(self) -> Optional[str]:
+        return self._next_page_token
+
+    def validate(self):
+        """Validates the response data.
+
+        Raises:
+            IllegalArgumentException if files are not set.
+        """
+        super().validate()
+        if self._files is None:
+            raise IllegalArgumentException("files must not be null")
@@ -77,3 +77,54 @@ class TestFilesetCatalogApi(unittest.TestCase):
             self.assertIsNone(CallerContextHolder.get())
             # check the response is as expected
             self.assertEqual(file_location, "file:/test/1")
+
+    def test_list_files(self, *mock_method):
+        def mock_page(files, next_page_token):
+            json_data = {
+                "code": 0,
+                "files": [
+                    {
+                        "name": name,
+                        "isDir": False,
+                        "size": 10,
+                        "lastModified": 1,
+                        "path": f"/fileset/fileset_catalog/test/fileset1/{name}",
+                    }
+                    for name in files
+                ],
+            }
+            if next_page_token is not None:
+                json_data["nextPageToken"] = next_page_token
+            mock_http_resp = Mock(HTTPResponse)
+            mock_http_resp.getcode.return_value = 200
+            mock_http_resp.read.return_value = json.dumps(json_data)
+            mock_http_resp.info.return_value = None
+            mock_http_resp.url = None
+            return Response(mock_http_resp)
+
+        gravitino_client = GravitinoClient(
+            uri="http://localhost:8090", metalake_name="metalake_demo"
+        )
+        catalog: Catalog = gravitino_client.load_catalog("fileset_catalog")
+
+        with patch(
+            "gravitino.utils.http_client.HTTPClient.get",
+            side_effect=[
+                mock_page(["part-0", "part-1"], "token1"),
+                mock_page(["part-2"], None),
+            ],
+        ) as mock_get:
+            fileset_ident: NameIdentifier = NameIdentifier.of("test", "fileset1")
+            files = catalog.as_fileset_catalog().list_files(
+                fileset_ident, recursive=True, glob="**.parquet", page_size=2
+            )
+            # the pages are fetched lazily
+            mock_get.assert_not_called()
+            self.assertEqual(
+                ["part-0", "part-1", "part-2"], [file.name() for file in files]
+            )
+            self.assertEqual(2, mock_get.call_count)
+            self.assertNotIn("page_token", mock_get.call_args_list[0].kwargs["params"])
+            self.assertEqual(
+                "token1", mock_get.call_args_list[1].kwargs["params"]["page_token"]
+            )
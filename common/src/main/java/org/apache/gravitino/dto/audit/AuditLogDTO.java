@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.audit;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collections;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/** Represents an audit log record of a metadata operation. */
+@Getter
+@Accessors(fluent = true)
+@EqualsAndHashCode
+@ToString
+public class AuditLogDTO {
+
+  @JsonProperty("user")
+  private final String user;
+
+  @JsonProperty("operationType")
+  private final String operationType;
+
+  @JsonProperty("operationStatus")
+  private final String operationStatus;
+
+  @JsonProperty("identifier")
+  private final String identifier;
+
+  @JsonProperty("timestamp")
+  private final long timestamp;
+
+  @JsonProperty("remoteAddress")
+  private final String remoteAddress;
+
+  @JsonProperty("eventSource")
+  private final String eventSource;
+
+  @JsonProperty("customInfo")
+  private final Map<String, String> customInfo;
+
+  /** Default constructor for Jackson deserialization. */
+  private AuditLogDTO() {
+    this(null, null, null, null, 0L, null, null, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new AuditLogDTO.
+   *
+   * @param user The user who did the operation.
+   * @param operationType The type of the operation.
+   * @param operationStatus The status of the operation.
+   * @param identifier The identifier of the metadata object, null if the operation has no target.
+   * @param timestamp The timestamp of the operation in milliseconds.
+   * @param remoteAddress The remote address of the operation.
+   * @param eventSource The source of the event.
+   * @param customInfo The custom information.
+   */
+  public AuditLogDTO(
+      String user,
+      String operationType,
+      String operationStatus,
+      String identifier,
+      long timestamp,
+      String remoteAddress,
+      String eventSource,
+      Map<String, String> customInfo) {
+    this.user = user;
+    this.operationType = operationType;
+    this.operationStatus = operationStatus;
+    this.identifier = identifier;
+    this.timestamp = timestamp;
+    this.remoteAddress = remoteAddress;
+    this.eventSource = eventSource;
+    this.customInfo = customInfo;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.policy;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * TablePoliciesDTO is a Data Transfer Object (DTO) that represents the effective policies of a
+ * table, including the ones inherited from its schema and catalog.
+ */
+@EqualsAndHashCode
+@ToString
+public class TablePoliciesDTO {
+
+  @JsonProperty("table")
+  private String table;
+
+  @JsonProperty("policies")
+  private PolicyDTO[] policies;
+
+  /** Default constructor for Jackson. */
+  protected TablePoliciesDTO() {
+    this(null, null);
+  }
+
+  private TablePoliciesDTO(String table, PolicyDTO[] policies) {
+    this.table = table;
+    this.policies = policies;
+  }
+
+  /**
+   * Returns the full name of the table, in the form of `catalog.schema.table`.
+   *
+   * @return the full name of the table
+   */
+  public String table() {
+    return table;
+  }
+
+  /**
+   * Returns the effective policies of the table, the inherited policies are marked as inherited.
+   *
+   * @return the effective policies of the table
+   */
+  public PolicyDTO[] policies() {
+    return policies;
+  }
+
+  /** Validates the TablePoliciesDTO instance. */
+  public void validate() {
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(table), "\"table\" must not be null or empty");
+    Preconditions.checkArgument(policies != null, "\"policies\" must not be null");
+  }
+
+  /**
+   * Creates a new instance of TablePoliciesDTO.
+   *
+   * @param table the full name of the table, in the form of `catalog.schema.table`
+   * @param policies the effective policies of the table
+   * @return a new instance of TablePoliciesDTO
+   */
+  public static TablePoliciesDTO of(String table, PolicyDTO[] policies) {
+    TablePoliciesDTO dto = new TablePoliciesDTO(table, policies);
+    dto.validate();
+    return dto;
+  }
+}
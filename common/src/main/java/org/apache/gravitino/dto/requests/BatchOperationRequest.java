@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents an operation of a {@link BatchOperationsRequest}. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY)
+@JsonSubTypes({
+  @JsonSubTypes.Type(
+      value = BatchOperationRequest.CreateSchemaRequest.class,
+      name = "createSchema"),
+  @JsonSubTypes.Type(value = BatchOperationRequest.CreateTableRequest.class, name = "createTable"),
+  @JsonSubTypes.Type(value = BatchOperationRequest.CreateTagRequest.class, name = "createTag"),
+  @JsonSubTypes.Type(
+      value = BatchOperationRequest.AssociateTagsRequest.class,
+      name = "associateTags"),
+  @JsonSubTypes.Type(
+      value = BatchOperationRequest.GrantRolesToUserRequest.class,
+      name = "grantRolesToUser"),
+  @JsonSubTypes.Type(
+      value = BatchOperationRequest.GrantRolesToGroupRequest.class,
+      name = "grantRolesToGroup")
+})
+public interface BatchOperationRequest extends RESTRequest {
+
+  /** The batch operation to create a schema. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  class CreateSchemaRequest implements BatchOperationRequest {
+
+    @JsonProperty("catalog")
+    private final String catalog;
+
+    @JsonProperty("request")
+    private final SchemaCreateRequest request;
+
+    /**
+     * Creates a new CreateSchemaRequest.
+     *
+     * @param catalog The catalog to create the schema in.
+     * @param request The request to create the schema.
+     */
+    public CreateSchemaRequest(String catalog, SchemaCreateRequest request) {
+      this.catalog = catalog;
+      this.request = request;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public CreateSchemaRequest() {
+      this(null, null);
+    }
+
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(StringUtils.isNotBlank(catalog), "\"catalog\" must not be blank");
+      Preconditions.checkArgument(request != null, "\"request\" must not be null");
+      request.validate();
+    }
+  }
+
+  /** The batch operation to create a table. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  class CreateTableRequest implements BatchOperationRequest {
+
+    @JsonProperty("catalog")
+    private final String catalog;
+
+    @JsonProperty("schema")
+    private final String schema;
+
+    @JsonProperty("request")
+    private final TableCreateRequest request;
+
+    /**
+     * Creates a new CreateTableRequest.
+     *
+     * @param catalog The catalog of the schema.
+     * @param schema The schema to create the table in.
+     * @param request The request to create the table.
+     */
+    public CreateTableRequest(String catalog, String schema, TableCreateRequest request) {
+      this.catalog = catalog;
+      this.schema = schema;
+      this.request = request;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public CreateTableRequest() {
+      this(null, null, null);
+    }
+
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(StringUtils.isNotBlank(catalog), "\"catalog\" must not be blank");
+      Preconditions.checkArgument(StringUtils.isNotBlank(schema), "\"schema\" must not be blank");
+      Preconditions.checkArgument(request != null, "\"request\" must not be null");
+      request.validate();
+    }
+  }
+
+  /** The batch operation to create a tag. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  class CreateTagRequest implements BatchOperationRequest {
+
+    @JsonProperty("request")
+    private final TagCreateRequest request;
+
+    /**
+     * Creates a new CreateTagRequest.
+     *
+     * @param request The request to create the tag.
+     */
+    public CreateTagRequest(TagCreateRequest request) {
+      this.request = request;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public CreateTagRequest() {
+      this(null);
+    }
+
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(request != null, "\"request\" must not be null");
+      request.validate();
+    }
+  }
+
+  /** The batch operation to associate tags with a metadata object. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  class AssociateTagsRequest implements BatchOperationRequest {
+
+    @JsonProperty("metadataObjectType")
+    private final String metadataObjectType;
+
+    @JsonProperty("metadataObjectFullName")
+    private final String metadataObjectFullName;
+
+    @JsonProperty("request")
+    private final TagsAssociateRequest request;
+
+    /**
+     * Creates a new AssociateTagsRequest.
+     *
+     * @param metadataObjectType The type of the metadata object.
+     * @param metadataObjectFullName The full name of the metadata object.
+     * @param request The request to associate the tags.
+     */
+    public AssociateTagsRequest(
+        String metadataObjectType, String metadataObjectFullName, TagsAssociateRequest request) {
+      this.metadataObjectType = metadataObjectType;
+      this.metadataObjectFullName = metadataObjectFullName;
+      this.request = request;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public AssociateTagsRequest() {
+      this(null, null, null);
+    }
+
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(metadataObjectType), "\"metadataObjectType\" must not be blank");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(metadataObjectFullName),
+          "\"metadataObjectFullName\" must not be blank");
+      Preconditions.checkArgument(request != null, "\"request\" must not be null");
+      request.validate();
+    }
+  }
+
+  /** The batch operation to grant roles to a user. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  class GrantRolesToUserRequest implements BatchOperationRequest {
+
+    @JsonProperty("user")
+    private final String user;
+
+    @JsonProperty("request")
+    private final RoleGrantRequest request;
+
+    /**
+     * Creates a new GrantRolesToUserRequest.
+     *
+     * @param user The user to grant the roles to.
+     * @param request The request to grant the roles.
+     */
+    public GrantRolesToUserRequest(String user, RoleGrantRequest request) {
+      this.user = user;
+      this.request = request;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public GrantRolesToUserRequest() {
+      this(null, null);
+    }
+
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(StringUtils.isNotBlank(user), "\"user\" must not be blank");
+      Preconditions.checkArgument(request != null, "\"request\" must not be null");
+      request.validate();
+    }
+  }
+
+  /** The batch operation to grant roles to a group. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  class GrantRolesToGroupRequest implements BatchOperationRequest {
+
+    @JsonProperty("group")
+    private final String group;
+
+    @JsonProperty("request")
+    private final RoleGrantRequest request;
+
+    /**
+     * Creates a new GrantRolesToGroupRequest.
+     *
+     * @param group The group to grant the roles to.
+     * @param request The request to grant the roles.
+     */
+    public GrantRolesToGroupRequest(String group, RoleGrantRequest request) {
+      this.group = group;
+      this.request = request;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public GrantRolesToGroupRequest() {
+      this(null, null);
+    }
+
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(StringUtils.isNotBlank(group), "\"group\" must not be blank");
+      Preconditions.checkArgument(request != null, "\"request\" must not be null");
+      request.validate();
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to list the statistics of multiple tables. */
+@Getter
+@EqualsAndHashCode
+@ToString
+@Builder
+@Jacksonized
+public class TableStatisticsListRequest implements RESTRequest {
+
+  /** The max number of tables in one request. */
+  public static final int MAX_TABLES = 1000;
+
+  @JsonProperty("tables")
+  String[] tables;
+
+  /**
+   * Creates a new TableStatisticsListRequest.
+   *
+   * @param tables The full names of the tables, in the form of `catalog.schema.table`.
+   */
+  public TableStatisticsListRequest(String[] tables) {
+    this.tables = tables;
+  }
+
+  /** Default constructor for deserialization. */
+  public TableStatisticsListRequest() {
+    this(null);
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        tables != null && tables.length > 0, "\"tables\" must not be null or empty");
+    Preconditions.checkArgument(
+        tables.length <= MAX_TABLES,
+        "\"tables\" must not contain more than %s tables, got %s",
+        MAX_TABLES,
+        tables.length);
+    for (String table : tables) {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(table), "Each table must be a non-empty string");
+    }
+  }
+}
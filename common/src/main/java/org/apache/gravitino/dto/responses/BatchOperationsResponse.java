@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents a response containing the results of the operations of a batch, in order. */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class BatchOperationsResponse extends BaseResponse {
+
+  @JsonProperty("results")
+  private final List<OperationResult> results;
+
+  /**
+   * Constructor for BatchOperationsResponse.
+   *
+   * @param results The results of the operations, in the order of the operations.
+   */
+  public BatchOperationsResponse(List<OperationResult> results) {
+    super(0);
+    this.results = results;
+  }
+
+  /** Default constructor for BatchOperationsResponse. (Used for Jackson deserialization.) */
+  public BatchOperationsResponse() {
+    super();
+    this.results = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the results are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(results != null, "results must be non-null");
+    results.forEach(
+        result ->
+            Preconditions.checkArgument(
+                result != null && StringUtils.isNotBlank(result.getStatus()),
+                "result must not be null and its status cannot be empty"));
+  }
+
+  /** The result of an operation of the batch. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class OperationResult {
+
+    /** The operation is applied. */
+    public static final String SUCCEEDED = "SUCCEEDED";
+
+    /** The operation failed, the changes of its transaction are rolled back. */
+    public static final String FAILED = "FAILED";
+
+    /** The operation succeeded, but it's rolled back with a failed operation in its transaction. */
+    public static final String ROLLED_BACK = "ROLLED_BACK";
+
+    /** The operation isn't executed as a preceding operation failed. */
+    public static final String SKIPPED = "SKIPPED";
+
+    @JsonProperty("status")
+    private final String status;
+
+    @JsonProperty("errorType")
+    private final String errorType;
+
+    @JsonProperty("message")
+    private final String message;
+
+    /**
+     * Constructor for OperationResult.
+     *
+     * @param status The status of the operation.
+     * @param errorType The type of the error if the operation failed.
+     * @param message The message of the error if the operation failed.
+     */
+    public OperationResult(String status, String errorType, String message) {
+      this.status = status;
+      this.errorType = errorType;
+      this.message = message;
+    }
+
+    /** Default constructor for OperationResult. (Used for Jackson deserialization.) */
+    public OperationResult() {
+      this(null, null, null);
+    }
+  }
+}
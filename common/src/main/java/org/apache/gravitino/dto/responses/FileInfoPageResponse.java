@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.file.FileInfoDTO;
+
+/** Response for listing a page of files info in a fileset. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class FileInfoPageResponse extends BaseResponse {
+
+  @JsonProperty("files")
+  private final FileInfoDTO[] files;
+
+  @Nullable
+  @JsonProperty("nextPageToken")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String nextPageToken;
+
+  /** Constructor for FileInfoPageResponse. */
+  public FileInfoPageResponse() {
+    super(0);
+    this.files = null;
+    this.nextPageToken = null;
+  }
+
+  /**
+   * Constructor for FileInfoPageResponse.
+   *
+   * @param files Array of FileInfo objects in the page.
+   * @param nextPageToken The token to list the next page, or null if it's the last page.
+   */
+  public FileInfoPageResponse(FileInfoDTO[] files, @Nullable String nextPageToken) {
+    super(0);
+    this.files = files;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException if the response is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(files != null, "files must not be null");
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+
+/** Represents a response containing a page of the metadata objects matching a search. */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class MetadataSearchResponse extends BaseResponse {
+
+  @JsonProperty("metadataObjects")
+  private final MetadataObjectDTO[] metadataObjects;
+
+  @JsonProperty("hasMore")
+  private final boolean hasMore;
+
+  /**
+   * Constructor for MetadataSearchResponse.
+   *
+   * @param metadataObjects The matching metadata objects, the most relevant ones first.
+   * @param hasMore Whether there are more matching objects after this page.
+   */
+  public MetadataSearchResponse(MetadataObjectDTO[] metadataObjects, boolean hasMore) {
+    super(0);
+    this.metadataObjects = metadataObjects;
+    this.hasMore = hasMore;
+  }
+
+  /** Default constructor for MetadataSearchResponse. (Used for Jackson deserialization.) */
+  public MetadataSearchResponse() {
+    super();
+    this.metadataObjects = null;
+    this.hasMore = false;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the metadata objects are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(metadataObjects != null, "metadataObjects must be non-null");
+    Arrays.stream(metadataObjects)
+        .forEach(
+            object ->
+                Preconditions.checkArgument(
+                    object != null
+                        && StringUtils.isNotBlank(object.name())
+                        && object.type() != null,
+                    "metadataObject must not be null and it's field cannot null or empty"));
+  }
+}
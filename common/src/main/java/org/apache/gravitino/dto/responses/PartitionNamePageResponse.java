@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Represents a response for a page of the names of the partitions matching a filter. */
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class PartitionNamePageResponse extends BaseResponse {
+
+  @JsonProperty("names")
+  private final String[] partitionNames;
+
+  @Nullable
+  @JsonProperty("nextPageToken")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String nextPageToken;
+
+  /**
+   * Constructor for PartitionNamePageResponse.
+   *
+   * @param partitionNames The partition names in the page.
+   * @param nextPageToken The token to list the next page, or null if it's the last page.
+   */
+  public PartitionNamePageResponse(String[] partitionNames, @Nullable String nextPageToken) {
+    super(0);
+    this.partitionNames = partitionNames;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** Default constructor for PartitionNamePageResponse. (Used for Jackson deserialization.) */
+  public PartitionNamePageResponse() {
+    super();
+    this.partitionNames = null;
+    this.nextPageToken = null;
+  }
+
+  /**
+   * @return The partition names in the page.
+   */
+  public String[] partitionNames() {
+    return partitionNames;
+  }
+
+  /**
+   * @return The token to list the next page, or null if it's the last page.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if partition names are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(partitionNames != null, "partition names must not be null");
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
+
+/** Represents a response for a page of the partitions matching a filter. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class PartitionPageResponse extends BaseResponse {
+
+  @JsonProperty("partitions")
+  private final PartitionDTO[] partitions;
+
+  @Nullable
+  @JsonProperty("nextPageToken")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String nextPageToken;
+
+  /**
+   * Creates a new PartitionPageResponse.
+   *
+   * @param partitions The partitions in the page.
+   * @param nextPageToken The token to list the next page, or null if it's the last page.
+   */
+  public PartitionPageResponse(PartitionDTO[] partitions, @Nullable String nextPageToken) {
+    super(0);
+    this.partitions = partitions;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * PartitionPageResponse.
+   */
+  public PartitionPageResponse() {
+    super();
+    this.partitions = null;
+    this.nextPageToken = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if partitions are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(partitions != null, "partitions must not be null");
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.policy.TablePoliciesDTO;
+
+/** Represents a response containing the effective policies of multiple tables. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TablePoliciesListResponse extends BaseResponse {
+
+  @JsonProperty("tablePolicies")
+  private TablePoliciesDTO[] tablePolicies;
+
+  /**
+   * Constructor for TablePoliciesListResponse.
+   *
+   * @param tablePolicies Array of TablePoliciesDTO objects, one for each table.
+   */
+  public TablePoliciesListResponse(TablePoliciesDTO[] tablePolicies) {
+    super(0);
+    this.tablePolicies = tablePolicies;
+  }
+
+  /** Default constructor for TablePoliciesListResponse (used by Jackson deserializer). */
+  public TablePoliciesListResponse() {
+    this(null);
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(tablePolicies != null, "\"tablePolicies\" must not be null");
+
+    for (TablePoliciesDTO policies : tablePolicies) {
+      Preconditions.checkArgument(policies != null, "\"tablePolicies\" must not contain null");
+      policies.validate();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.stats.TableStatisticsDTO;
+
+/** Represents a response containing the statistics of multiple tables. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableStatisticsListResponse extends BaseResponse {
+
+  @JsonProperty("tableStatistics")
+  private TableStatisticsDTO[] tableStatistics;
+
+  /**
+   * Constructor for TableStatisticsListResponse.
+   *
+   * @param tableStatistics Array of TableStatisticsDTO objects, one for each table.
+   */
+  public TableStatisticsListResponse(TableStatisticsDTO[] tableStatistics) {
+    super(0);
+    this.tableStatistics = tableStatistics;
+  }
+
+  /** Default constructor for TableStatisticsListResponse (used by Jackson deserializer). */
+  public TableStatisticsListResponse() {
+    this(null);
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(tableStatistics != null, "\"tableStatistics\" must not be null");
+
+    for (TableStatisticsDTO statistics : tableStatistics) {
+      Preconditions.checkArgument(statistics != null, "\"tableStatistics\" must not contain null");
+      statistics.validate();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.tag.TableTagsDTO;
+
+/** Represents a response containing the effective tags of multiple tables. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableTagsListResponse extends BaseResponse {
+
+  @JsonProperty("tableTags")
+  private TableTagsDTO[] tableTags;
+
+  /**
+   * Constructor for TableTagsListResponse.
+   *
+   * @param tableTags Array of TableTagsDTO objects, one for each table.
+   */
+  public TableTagsListResponse(TableTagsDTO[] tableTags) {
+    super(0);
+    this.tableTags = tableTags;
+  }
+
+  /** Default constructor for TableTagsListResponse (used by Jackson deserializer). */
+  public TableTagsListResponse() {
+    this(null);
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(tableTags != null, "\"tableTags\" must not be null");
+
+    for (TableTagsDTO tags : tableTags) {
+      Preconditions.checkArgument(tags != null, "\"tableTags\" must not contain null");
+      tags.validate();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.stats;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.stats.Statistic;
+
+/** TableStatisticsDTO is a Data Transfer Object (DTO) that represents the statistics of a table. */
+@EqualsAndHashCode
+@ToString
+public class TableStatisticsDTO {
+
+  @JsonProperty("table")
+  private String table;
+
+  @JsonProperty("statistics")
+  private StatisticDTO[] statistics;
+
+  /** Default constructor for Jackson. */
+  protected TableStatisticsDTO() {
+    this(null, null);
+  }
+
+  private TableStatisticsDTO(String table, StatisticDTO[] statistics) {
+    this.table = table;
+    this.statistics = statistics;
+  }
+
+  /**
+   * Returns the full name of the table, in the form of `catalog.schema.table`.
+   *
+   * @return the full name of the table
+   */
+  public String table() {
+    return table;
+  }
+
+  /**
+   * Returns the statistics of the table.
+   *
+   * @return the statistics of the table
+   */
+  public Statistic[] statistics() {
+    return statistics;
+  }
+
+  /** Validates the TableStatisticsDTO instance. */
+  public void validate() {
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(table), "\"table\" must not be null or empty");
+    Preconditions.checkArgument(statistics != null, "\"statistics\" must not be null");
+    for (StatisticDTO statistic : statistics) {
+      statistic.validate();
+    }
+  }
+
+  /**
+   * Creates a new instance of TableStatisticsDTO.
+   *
+   * @param table the full name of the table, in the form of `catalog.schema.table`
+   * @param statistics the statistics of the table
+   * @return a new instance of TableStatisticsDTO
+   */
+  public static TableStatisticsDTO of(String table, StatisticDTO[] statistics) {
+    TableStatisticsDTO dto = new TableStatisticsDTO(table, statistics);
+    dto.validate();
+    return dto;
+  }
+}
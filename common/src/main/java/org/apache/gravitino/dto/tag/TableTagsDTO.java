@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.tag;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * TableTagsDTO is a Data Transfer Object (DTO) that represents the effective tags of a table,
+ * including the ones inherited from its schema and catalog.
+ */
+@EqualsAndHashCode
+@ToString
+public class TableTagsDTO {
+
+  @JsonProperty("table")
+  private String table;
+
+  @JsonProperty("tags")
+  private TagDTO[] tags;
+
+  /** Default constructor for Jackson. */
+  protected TableTagsDTO() {
+    this(null, null);
+  }
+
+  private TableTagsDTO(String table, TagDTO[] tags) {
+    this.table = table;
+    this.tags = tags;
+  }
+
+  /**
+   * Returns the full name of the table, in the form of `catalog.schema.table`.
+   *
+   * @return the full name of the table
+   */
+  public String table() {
+    return table;
+  }
+
+  /**
+   * Returns the effective tags of the table, the inherited tags are marked as inherited.
+   *
+   * @return the effective tags of the table
+   */
+  public TagDTO[] tags() {
+    return tags;
+  }
+
+  /** Validates the TableTagsDTO instance. */
+  public void validate() {
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(table), "\"table\" must not be null or empty");
+    Preconditions.checkArgument(tags != null, "\"tags\" must not be null");
+  }
+
+  /**
+   * Creates a new instance of TableTagsDTO.
+   *
+   * @param table the full name of the table, in the form of `catalog.schema.table`
+   * @param tags the effective tags of the table
+   * @return a new instance of TableTagsDTO
+   */
+  public static TableTagsDTO of(String table, TagDTO[] tags) {
+    TableTagsDTO dto = new TableTagsDTO(table, tags);
+    dto.validate();
+    return dto;
+  }
+}
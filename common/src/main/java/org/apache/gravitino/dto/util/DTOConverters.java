@@ -685,17 +685,23 @@ public class DTOConverters {
    * @return The converted FileInfoDTO array.
    */
   public static FileInfoDTO[] toDTO(FileInfo[] files) {
-    return Arrays.stream(files)
-        .map(
-            file ->
-                FileInfoDTO.builder()
-                    .name(file.name())
-                    .isDir(file.isDir())
-                    .size(file.size())
-                    .lastModified(file.lastModified())
-                    .path(file.path())
-                    .build())
-        .toArray(FileInfoDTO[]::new);
+    return Arrays.stream(files).map(DTOConverters::toDTO).toArray(FileInfoDTO[]::new);
+  }
+
+  /**
+   * Converts a FileInfo to a FileInfoDTO.
+   *
+   * @param file The file info to be converted.
+   * @return The file info DTO.
+   */
+  public static FileInfoDTO toDTO(FileInfo file) {
+    return FileInfoDTO.builder()
+        .name(file.name())
+        .isDir(file.isDir())
+        .size(file.size())
+        .lastModified(file.lastModified())
+        .path(file.path())
+        .build();
   }
 
   /**
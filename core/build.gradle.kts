@@ -43,6 +43,8 @@ dependencies {
   implementation(libs.concurrent.trees)
   implementation(libs.guava)
   implementation(libs.h2db)
+  implementation(libs.hdrhistogram)
+  implementation(libs.hikaricp)
   implementation(libs.jackson.jaxrs.json.provider) // This is required by lance
   implementation(libs.lance) {
     exclude(group = "com.fasterxml.jackson.core", module = "*") // provided by gravitino
@@ -55,7 +57,12 @@ dependencies {
     exclude(group = "org.apache.httpcomponents.client5", module = "*") // provided by gravitino
     exclude(group = "com.lancedb", module = "lance-namespace-core") // This is unnecessary in the core module
   }
+  implementation(libs.lucene.analysis.common)
+  implementation(libs.lucene.core)
+  implementation(libs.lucene.queryparser)
   implementation(libs.mybatis)
+  implementation(libs.opentelemetry.api)
+  implementation(libs.opentelemetry.sdk.trace)
 
   annotationProcessor(libs.lombok)
 
@@ -74,6 +81,7 @@ dependencies {
   testImplementation(libs.mockito.core)
   testImplementation(libs.mockito.inline)
   testImplementation(libs.mysql.driver)
+  testImplementation(libs.opentelemetry.sdk.testing)
   testImplementation(libs.postgresql.driver)
   testImplementation(libs.testcontainers)
 
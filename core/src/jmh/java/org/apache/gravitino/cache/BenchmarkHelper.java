@@ -21,6 +21,7 @@ package org.apache.gravitino.cache;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,8 +30,12 @@ import java.util.Random;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.utils.TestUtil;
 
 public class BenchmarkHelper {
@@ -76,6 +81,45 @@ public class BenchmarkHelper {
     return entities;
   }
 
+  /**
+   * Generates a list of table entities with the given number of columns.
+   *
+   * @param entityCnt the count of entities to generate.
+   * @param columnCnt the count of columns of each table.
+   * @return a list of table entities.
+   */
+  public static List<TableEntity> getTableEntities(int entityCnt, int columnCnt) {
+    List<TableEntity> entities = new ArrayList<>(entityCnt);
+    for (int i = 0; i < entityCnt; i++) {
+      List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+      for (int j = 0; j < columnCnt; j++) {
+        columns.add(
+            ColumnEntity.builder()
+                .withId(random.nextLong())
+                .withName("column_" + i + "_" + j)
+                .withPosition(j)
+                .withDataType(Types.StringType.get())
+                .withComment("The comment of column " + j)
+                .withNullable(true)
+                .withAutoIncrement(false)
+                .withAuditInfo(TestUtil.getTestAuditInfo())
+                .build());
+      }
+
+      entities.add(
+          TableEntity.builder()
+              .withId(random.nextLong())
+              .withName("table_" + i)
+              .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+              .withColumns(columns)
+              .withProperties(ImmutableMap.of("owner", "benchmark", "format", "parquet"))
+              .withAuditInfo(TestUtil.getTestAuditInfo())
+              .build());
+    }
+
+    return entities;
+  }
+
   /**
    * Returns a randomly selected key from the given map.
    *
@@ -26,21 +26,29 @@ import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 
 /**
  * EntityCacheSizeBenchmark benchmarks the performance and overhead of querying the cache size via
- * {@link EntityCache#size()} under varying data volumes.
+ * {@link EntityCache#size()} under varying data volumes, and the footprint estimate of the cached
+ * entities used by {@link EntityFootprintWeigher}.
  *
  * <p>During setup, both standard entities and relation-based entities are preloaded into the cache
  * using the configured entity count. This ensures that the {@code size()} method operates on a
  * fully populated cache with realistic structure and distribution.
  *
- * <p>The benchmark includes a single method:
+ * <p>The setup also builds tables with {@code columnCnt} columns, and prints their estimated
+ * footprint next to the growth of the used heap measured while building them, to validate the
+ * estimates of {@link EntityFootprintWeigher}.
+ *
+ * <p>The benchmark includes the following methods:
  *
  * <ul>
  *   <li>{@code entityCacheSize}: Measures the execution time of retrieving the total number of
  *       cached entries.
+ *   <li>{@code estimateFootprint}: Measures the execution time of weighing the tables.
  * </ul>
  *
  * @param <E> the type of related entity, extending {@link Entity} and implementing {@link
@@ -51,6 +59,11 @@ import org.openjdk.jmh.annotations.Benchmark;
 public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
     extends AbstractEntityBenchmark {
 
+  @Param({"10", "2000"})
+  public int columnCnt;
+
+  private List<TableEntity> tables;
+
   @Override
   @SuppressWarnings("unchecked")
   public void setup() {
@@ -67,10 +80,37 @@ public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
                 ((RoleEntity) roleEntity).type(),
                 SupportsRelationOperations.Type.ROLE_USER_REL,
                 (List<E>) userList));
+
+    long usedBefore = usedHeap();
+    this.tables = BenchmarkHelper.getTableEntities(totalCnt, columnCnt);
+    long measured = usedHeap() - usedBefore;
+    long estimated = tables.stream().mapToLong(EntityFootprintWeigher::estimateSize).sum();
+    System.out.printf(
+        "%n%d tables with %d columns: estimated %d bytes, measured %d bytes, ratio %.2f%n",
+        totalCnt, columnCnt, estimated, measured, (double) estimated / Math.max(1, measured));
   }
 
   @Benchmark
   public long entityCacheSize() {
     return cache.size();
   }
+
+  @Benchmark
+  public long estimateFootprint() {
+    long weight = 0;
+    for (TableEntity table : tables) {
+      weight +=
+          EntityFootprintWeigher.getInstance()
+              .weigh(EntityCacheKey.of(table.nameIdentifier(), table.type()), List.of(table));
+    }
+    return weight;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
 }
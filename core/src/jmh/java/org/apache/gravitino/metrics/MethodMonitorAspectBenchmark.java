@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * MethodMonitorAspectBenchmark measures the overhead {@link MethodMonitorAspect} adds to a
+ * monitored method, that is recording the total timer, the outcome meter and the labeled operation
+ * timer into the HDR histogram reservoirs. The overhead is expected to stay well below one
+ * microsecond per invocation.
+ *
+ * <p>Run it with {@code ./gradlew :core:jmh}, the {@code baseline} benchmark measures the bare
+ * invocation for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MethodMonitorAspectBenchmark {
+
+  private static final MethodMonitorAspect.Invocation INVOCATION = () -> null;
+
+  private MethodMonitorAspect aspect;
+  private MetricsSource metricsSource;
+  private Object[] args;
+
+  @Setup
+  public void setup() {
+    this.aspect = new MethodMonitorAspect(null);
+    this.metricsSource = new MetricsSource("benchmark") {};
+    this.args = new Object[] {NameIdentifier.of("metalake", "catalog", "schema", "table")};
+  }
+
+  @Benchmark
+  public Object baseline() throws Throwable {
+    return INVOCATION.proceed();
+  }
+
+  @Benchmark
+  public Object monitored() throws Throwable {
+    return aspect.monitor(metricsSource, "entity-store.load-table", args, INVOCATION);
+  }
+}
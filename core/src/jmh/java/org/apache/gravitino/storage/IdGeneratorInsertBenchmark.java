@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * IdGeneratorInsertBenchmark compares the insert throughput and the primary key index size of a
+ * table shaped like {@code table_meta} when the ids are generated by {@link RandomIdGenerator} and
+ * {@link SnowflakeIdGenerator}.
+ *
+ * <p>By default the table is created in a file-based H2 database in a temporary directory, set
+ * {@code jdbcUrl}, {@code jdbcUser} and {@code jdbcPassword} to run against MySQL, for example:
+ *
+ * <pre>
+ * ./gradlew :core:jmh -PjmhIncludes=IdGeneratorInsertBenchmark \
+ *   -Pjmh.params=jdbcUrl=jdbc:mysql://localhost:3306/bench,jdbcUser=root,jdbcPassword=root
+ * </pre>
+ *
+ * <p>The size of the table and its indexes is printed when the trial finishes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorInsertBenchmark {
+  private static final String TABLE_NAME = "id_generator_benchmark";
+  private static final int BATCH_SIZE = 100;
+
+  @Param({"random", "snowflake"})
+  public String idGenerator;
+
+  @Param({""})
+  public String jdbcUrl;
+
+  @Param({"gravitino"})
+  public String jdbcUser;
+
+  @Param({"gravitino"})
+  public String jdbcPassword;
+
+  private IdGenerator generator;
+  private File h2Dir;
+  private String url;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, SQLException {
+    if (StringUtils.isBlank(jdbcUrl)) {
+      h2Dir = Files.createTempDirectory("id-generator-benchmark").toFile();
+      url = "jdbc:h2:file:" + h2Dir.getAbsolutePath() + "/bench;DB_CLOSE_DELAY=-1;MODE=MYSQL";
+    } else {
+      url = jdbcUrl;
+    }
+    generator =
+        "snowflake".equals(idGenerator)
+            ? new SnowflakeIdGenerator(NodeIdLease.fixed(1))
+            : new RandomIdGenerator();
+
+    try (Connection connection = connect();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+      statement.execute(
+          "CREATE TABLE "
+              + TABLE_NAME
+              + " (table_id BIGINT NOT NULL, table_name VARCHAR(128) NOT NULL,"
+              + " schema_id BIGINT NOT NULL, audit_info TEXT NOT NULL,"
+              + " current_version INT NOT NULL, deleted_at BIGINT NOT NULL,"
+              + " PRIMARY KEY (table_id))");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException, IOException {
+    try (Connection connection = connect()) {
+      System.out.printf(
+          "%nid generator: %s, rows: %d, table and index size: %d bytes%n",
+          idGenerator, rowCount(connection), tableSize(connection));
+    }
+    if (h2Dir != null) {
+      FileUtils.deleteDirectory(h2Dir);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setup(IdGeneratorInsertBenchmark benchmark) throws SQLException {
+      connection = benchmark.connect();
+      connection.setAutoCommit(false);
+      insert =
+          connection.prepareStatement(
+              "INSERT INTO "
+                  + TABLE_NAME
+                  + " (table_id, table_name, schema_id, audit_info, current_version, deleted_at)"
+                  + " VALUES (?, ?, ?, ?, 1, 0)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+      insert.close();
+      connection.close();
+    }
+  }
+
+  @Benchmark
+  public int insertBatch(ThreadState state) throws SQLException {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      long id = generator.nextId();
+      state.insert.setLong(1, id);
+      state.insert.setString(2, "table_" + id);
+      state.insert.setLong(3, 1L);
+      state.insert.setString(4, "{\"creator\":\"benchmark\"}");
+      state.insert.addBatch();
+    }
+    int[] inserted = state.insert.executeBatch();
+    state.connection.commit();
+    return inserted.length;
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(url, jdbcUser, jdbcPassword);
+  }
+
+  private static long rowCount(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE_NAME)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  private static long tableSize(Connection connection) throws SQLException {
+    String sql =
+        connection.getMetaData().getURL().startsWith("jdbc:h2")
+            ? "CALL DISK_SPACE_USED('" + TABLE_NAME.toUpperCase() + "')"
+            : "SELECT data_length + index_length FROM information_schema.tables"
+                + " WHERE table_schema = DATABASE() AND table_name = '"
+                + TABLE_NAME
+                + "'";
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(sql)) {
+      return rs.next() ? rs.getLong(1) : -1L;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.EntityStoreFactory;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.utils.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * WideTableColumnsBenchmark compares loading the columns of the current version of a wide table
+ * from the current columns table against aggregating them from the column history, on an embedded
+ * H2 backend.
+ *
+ * <p>The table is created with {@code columnCount} columns and altered {@code alterCount} times,
+ * each alteration updating the comment of one column, so the column history holds {@code
+ * columnCount + alterCount} rows. The {@link Mode#SampleTime} mode reports the p99 latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class WideTableColumnsBenchmark {
+  private static final String STORE_PATH =
+      "/tmp/gravitino_wide_table_columns_benchmark_"
+          + UUID.randomUUID().toString().replace("-", "");
+  private static final String METALAKE_NAME = "benchmark_metalake";
+  private static final String CATALOG_NAME = "benchmark_catalog";
+  private static final String SCHEMA_NAME = "benchmark_schema";
+  private static final String TABLE_NAME = "benchmark_table";
+
+  @Param({"100", "3000"})
+  public int columnCount;
+
+  @Param({"30"})
+  public int alterCount;
+
+  private EntityStore store;
+  private long tableId;
+  private long currentVersion;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Config config = new Config(false) {};
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH, STORE_PATH + "/testdb");
+    config.set(
+        Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL,
+        String.format("jdbc:h2:file:%s/testdb;DB_CLOSE_DELAY=-1;MODE=MYSQL", STORE_PATH));
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER, "org.h2.Driver");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER, "gravitino");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD, "gravitino");
+    config.set(Configs.CACHE_ENABLED, false);
+    store = EntityStoreFactory.createEntityStore(config);
+    store.initialize(config);
+
+    RandomIdGenerator generator = RandomIdGenerator.INSTANCE;
+    store.put(TestUtil.getTestMetalake(generator.nextId(), METALAKE_NAME, "metalake"), false);
+    store.put(
+        TestUtil.getTestCatalogEntity(
+            generator.nextId(), CATALOG_NAME, Namespace.of(METALAKE_NAME), "hive", "catalog"),
+        false);
+    store.put(
+        TestUtil.getTestSchemaEntity(
+            generator.nextId(), SCHEMA_NAME, Namespace.of(METALAKE_NAME, CATALOG_NAME), "schema"),
+        false);
+
+    List<ColumnEntity> columns =
+        IntStream.range(0, columnCount)
+            .mapToObj(i -> newColumn(generator.nextId(), i, "comment"))
+            .collect(Collectors.toList());
+    TableEntity table = newTable(generator.nextId(), columns);
+    TableMetaService.getInstance().insertTable(table, false);
+
+    NameIdentifier ident = table.nameIdentifier();
+    for (int i = 0; i < alterCount; i++) {
+      int position = i % columnCount;
+      String comment = "comment_" + i;
+      Function<TableEntity, TableEntity> updater =
+          oldTable -> newTable(oldTable.id(), alterComment(oldTable.columns(), position, comment));
+      TableMetaService.getInstance().updateTable(ident, updater);
+    }
+
+    tableId = table.id();
+    currentVersion = alterCount + 1L;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    store.close();
+    FileUtils.deleteDirectory(new File(STORE_PATH));
+  }
+
+  @Benchmark
+  public List<ColumnPO> loadCurrentColumns() {
+    return TableColumnMetaService.getInstance().getCurrentColumnsByTableId(tableId, currentVersion);
+  }
+
+  @Benchmark
+  public List<ColumnPO> loadColumnsFromHistory() {
+    return TableColumnMetaService.getInstance()
+        .getColumnsByTableIdAndVersion(tableId, currentVersion);
+  }
+
+  private static TableEntity newTable(long id, List<ColumnEntity> columns) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(TABLE_NAME)
+        .withNamespace(Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME))
+        .withColumns(columns)
+        .withAuditInfo(TestUtil.getTestAuditInfo())
+        .build();
+  }
+
+  private static List<ColumnEntity> alterComment(
+      List<ColumnEntity> columns, int position, String comment) {
+    return columns.stream()
+        .map(c -> c.position() == position ? newColumn(c.id(), position, comment) : c)
+        .collect(Collectors.toList());
+  }
+
+  private static ColumnEntity newColumn(long id, int position, String comment) {
+    return ColumnEntity.builder()
+        .withId(id)
+        .withName("column_" + position)
+        .withPosition(position)
+        .withComment(comment)
+        .withDataType(Types.StringType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(TestUtil.getTestAuditInfo())
+        .build();
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * ConnectionPoolBenchmark compares the connection pools and the MyBatis executor types of the
+ * relational entity store on an embedded H2 backend.
+ *
+ * <p>Each operation opens a session, runs {@code queriesPerSession} point queries of the same
+ * mapper method, like loading the columns of a table one version at a time, and closes the
+ * session. The {@code dbcp2} pool validates the connection on every borrow while the {@code hikari}
+ * pool skips the validation of the connections used recently, and the {@code reuse} executor
+ * prepares the statement once per session instead of once per query. The {@link Mode#SampleTime}
+ * mode reports the p99 latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ConnectionPoolBenchmark {
+  private static final String STORE_PATH =
+      "/tmp/gravitino_connection_pool_benchmark_" + UUID.randomUUID().toString().replace("-", "");
+  private static final int TOTAL_ROWS = 10000;
+
+  @Param({"dbcp2", "hikari"})
+  public String connectionPool;
+
+  @Param({"simple", "reuse"})
+  public String executorType;
+
+  @Param({"10"})
+  public int queriesPerSession;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    Config config = new Config(false) {};
+    config.set(
+        Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL,
+        String.format("jdbc:h2:%s/testdb;DB_CLOSE_DELAY=-1;MODE=MYSQL", STORE_PATH));
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER, "org.h2.Driver");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER, "gravitino");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD, "gravitino");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_CONNECTION_POOL, connectionPool);
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_EXECUTOR_TYPE, executorType);
+    SqlSessionFactoryHelper.getInstance().init(config);
+
+    SqlSessionFactory sqlSessionFactory =
+        SqlSessionFactoryHelper.getInstance().getSqlSessionFactory();
+    sqlSessionFactory.getConfiguration().addMapper(ColumnMapper.class);
+    try (SqlSession session = sqlSessionFactory.openSession(true);
+        Statement statement = session.getConnection().createStatement()) {
+      statement.execute(
+          "CREATE TABLE benchmark_column (column_id BIGINT PRIMARY KEY, "
+              + "table_id BIGINT NOT NULL, column_name VARCHAR(128) NOT NULL)");
+      statement.execute(
+          String.format(
+              "INSERT INTO benchmark_column SELECT X, X / 10, CONCAT('column_', X) "
+                  + "FROM SYSTEM_RANGE(1, %d)",
+              TOTAL_ROWS));
+      statement.execute("CREATE INDEX idx_benchmark_table_id ON benchmark_column (table_id)");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    SqlSessionFactoryHelper.getInstance().close();
+    FileUtils.deleteDirectory(new File(STORE_PATH));
+  }
+
+  @Benchmark
+  public int listColumns() {
+    int total = 0;
+    SqlSession session = SqlSessions.getSqlSession();
+    try {
+      ColumnMapper mapper = session.getMapper(ColumnMapper.class);
+      for (int i = 0; i < queriesPerSession; i++) {
+        long tableId = ThreadLocalRandom.current().nextLong(TOTAL_ROWS / 10);
+        total += mapper.listColumnNames(tableId).size();
+      }
+    } finally {
+      SqlSessions.closeSqlSession();
+    }
+    return total;
+  }
+
+  public interface ColumnMapper {
+    @Select("SELECT column_name FROM benchmark_column WHERE table_id = #{tableId}")
+    List<String> listColumnNames(long tableId);
+  }
+}
@@ -22,6 +22,7 @@ import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.audit.FileAuditWriter;
 import org.apache.gravitino.audit.v2.SimpleFormatterV2;
@@ -29,6 +30,7 @@ import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
 import org.apache.gravitino.stats.storage.JdbcPartitionStatisticStorageFactory;
+import org.apache.gravitino.tracing.LogSpanExporter;
 
 public class Configs {
 
@@ -119,6 +121,34 @@ public class Configs {
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .createWithDefault(DEFAULT_ENTITY_RELATIONAL_STORE);
 
+  public static final String RANDOM_ID_GENERATOR = "random";
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
+
+  public static final ConfigEntry<String> ID_GENERATOR =
+      new ConfigBuilder("gravitino.idGenerator")
+          .doc(
+              "The generator of the entity ids, `random` generates random ids, `snowflake` "
+                  + "generates time-ordered ids with a node id leased through the relational "
+                  + "entity store")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  RANDOM_ID_GENERATOR.equalsIgnoreCase(value)
+                      || SNOWFLAKE_ID_GENERATOR.equalsIgnoreCase(value),
+              "The id generator must be `random` or `snowflake`")
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Long> SNOWFLAKE_ID_GENERATOR_LEASE_MS =
+      new ConfigBuilder("gravitino.idGenerator.snowflake.leaseMs")
+          .doc(
+              "The lease duration in milliseconds of the node id used by the snowflake id "
+                  + "generator, the lease is renewed every third of the duration")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 3000L, "The lease must be at least 3000 milliseconds")
+          .createWithDefault(60 * 1000L);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_URL =
       new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_URL_KEY)
           .doc("Connection URL of `JDBCBackend`")
@@ -176,6 +206,92 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final String DBCP2_CONNECTION_POOL = "dbcp2";
+  public static final String HIKARI_CONNECTION_POOL = "hikari";
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_CONNECTION_POOL =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool")
+          .doc(
+              "The connection pool of `JDBCBackend`, `dbcp2` validates the connections on every "
+                  + "borrow, `hikari` only validates the connections idle for a while")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  DBCP2_CONNECTION_POOL.equalsIgnoreCase(value)
+                      || HIKARI_CONNECTION_POOL.equalsIgnoreCase(value),
+              "The connection pool must be `dbcp2` or `hikari`")
+          .createWithDefault(DBCP2_CONNECTION_POOL);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_VALIDATION_TIMEOUT_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.validationTimeoutMs")
+          .doc("The max time in milliseconds to validate a connection of the `hikari` pool")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 250L, "The validation timeout must be at least 250 ms")
+          .createWithDefault(3000L);
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_EXECUTOR_TYPE =
+      new ConfigBuilder("gravitino.entity.store.relational.executorType")
+          .doc(
+              "The MyBatis executor type of `JDBCBackend`, `simple` prepares a statement for "
+                  + "each execution, `reuse` reuses the prepared statements of the same SQL in a "
+                  + "session")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value -> "simple".equalsIgnoreCase(value) || "reuse".equalsIgnoreCase(value),
+              "The executor type must be `simple` or `reuse`")
+          .createWithDefault("simple");
+
+  public static final ConfigEntry<List<String>> ENTITY_RELATIONAL_REPLICA_JDBC_URLS =
+      new ConfigBuilder("gravitino.entity.store.relational.replica.jdbcUrls")
+          .doc(
+              "Comma-separated JDBC URLs of the read replicas of the JDBC Backend, the replicas "
+                  + "use the user and password of the primary. The reads outside of transactions "
+                  + "are routed to the replicas if set")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(Collections.emptyList());
+
+  public static final ConfigEntry<Optional<Integer>> ENTITY_RELATIONAL_REPLICA_MAX_CONNECTIONS =
+      new ConfigBuilder("gravitino.entity.store.relational.replica.maxConnections")
+          .doc(
+              "The maximum number of connections of the connection pool of each read replica, "
+                  + "the maximum number of connections of the primary is used if not set")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithOptional();
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_REPLICA_MAX_LAG_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.replica.maxLagMs")
+          .doc(
+              "The max replication lag in milliseconds of a read replica to serve reads, and the "
+                  + "time the reads of a thread stick to the primary after it writes")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_REPLICA_LAG_CHECK_INTERVAL_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.replica.lagCheckIntervalMs")
+          .doc("The interval in milliseconds to check the replication lag of the read replicas")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_REPLICA_LAG_QUERY =
+      new ConfigBuilder("gravitino.entity.store.relational.replica.lagQuery")
+          .doc(
+              "The query returning the replication lag in milliseconds of a read replica, the "
+                  + "built-in query of the backend type is used if not set")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .createWithOptional();
+
   public static final ConfigEntry<Long> CATALOG_CACHE_EVICTION_INTERVAL_MS =
       new ConfigBuilder("gravitino.catalog.cache.evictionIntervalMs")
           .doc("The interval in milliseconds to evict the catalog cache")
@@ -349,6 +465,75 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final String HDR_METRICS_RESERVOIR = "hdr";
+  public static final String SLIDING_WINDOW_METRICS_RESERVOIR = "sliding-window";
+
+  public static final ConfigEntry<String> METRICS_RESERVOIR =
+      new ConfigBuilder("gravitino.metrics.reservoir")
+          .doc(
+              "The reservoir of Gravitino timers and histograms within the time sliding window, "
+                  + "`hdr` records the measurements into HDR histograms, `sliding-window` keeps "
+                  + "every measurement")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  HDR_METRICS_RESERVOIR.equalsIgnoreCase(value)
+                      || SLIDING_WINDOW_METRICS_RESERVOIR.equalsIgnoreCase(value),
+              "The metrics reservoir must be `hdr` or `sliding-window`")
+          .createWithDefault(HDR_METRICS_RESERVOIR);
+
+  public static final int DEFAULT_METRICS_LABELED_MAX_SERIES = 2000;
+  public static final ConfigEntry<Integer> METRICS_LABELED_MAX_SERIES =
+      new ConfigBuilder("gravitino.metrics.labeledMaxSeries")
+          .doc(
+              "The max number of label combinations of the labeled operation timers in a metrics "
+                  + "source, the metalake, catalog and provider of the exceeding ones are "
+                  + "reported as `other`")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_METRICS_LABELED_MAX_SERIES);
+
+  public static final ConfigEntry<Boolean> TRACING_ENABLED =
+      new ConfigBuilder("gravitino.tracing.enabled")
+          .doc(
+              "Whether to record the spans of the requests handled by the Gravitino server, the "
+                  + "tracing is a no-op when it's disabled")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<String> TRACING_EXPORTER_CLASS =
+      new ConfigBuilder("gravitino.tracing.exporterClass")
+          .doc(
+              "The class name of the OpenTelemetry span exporter, it should have a public no-arg "
+                  + "constructor or a static `getDefault` method")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(LogSpanExporter.class.getCanonicalName());
+
+  public static final ConfigEntry<Double> TRACING_SAMPLING_RATIO =
+      new ConfigBuilder("gravitino.tracing.samplingRatio")
+          .doc(
+              "The ratio of the traces exported by the span exporter, the traces started by the "
+                  + "callers follow the sampling decision of the callers")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .doubleConf()
+          .checkValue(value -> value >= 0 && value <= 1, "The value must be in the range of [0, 1]")
+          .createWithDefault(1.0);
+
+  public static final ConfigEntry<Long> TRACING_SLOW_REQUEST_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.tracing.slowRequestThresholdMs")
+          .doc(
+              "The duration in milliseconds over which the span tree of a request is logged, "
+                  + "whether it's sampled or not. 0 disables the slow request logging")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
@@ -380,6 +565,49 @@ public class Configs {
           .stringConf()
           .createWithDefault(SimpleFormatterV2.class.getName());
 
+  public static final ConfigEntry<Boolean> SEARCH_ENABLED =
+      new ConfigBuilder("gravitino.search.enabled")
+          .doc("Whether to maintain the metadata search index and serve the search requests")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<String> SEARCH_INDEX_PATH =
+      new ConfigBuilder("gravitino.search.indexPath")
+          .doc(
+              "The directory of the metadata search index. It supports both absolute and relative "
+                  + "path, a relative path is resolved against `${GRAVITINO_HOME}`")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("data/search");
+
+  public static final ConfigEntry<Long> SEARCH_REFRESH_INTERVAL_MS =
+      new ConfigBuilder("gravitino.search.refreshIntervalMs")
+          .doc("The max interval in milliseconds for the indexed changes to become searchable")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> SEARCH_COMMIT_INTERVAL_MS =
+      new ConfigBuilder("gravitino.search.commitIntervalMs")
+          .doc(
+              "The interval in milliseconds to persist the indexed changes, the changes not "
+                  + "persisted are lost on crash and fixed by a rebuild")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 1000L);
+
+  public static final ConfigEntry<Integer> SEARCH_QUEUE_CAPACITY =
+      new ConfigBuilder("gravitino.search.queueCapacity")
+          .doc("The capacity of the queue of the metadata change events waiting to be indexed")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
   public static final ConfigEntry<List<String>> VISIBLE_CONFIGS =
       new ConfigBuilder("gravitino.server.visibleConfigs")
           .doc("List of configs that are visible in the config servlet")
@@ -435,6 +663,37 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final String CACHE_WEIGHER_FOOTPRINT = "footprint";
+
+  public static final String CACHE_WEIGHER_ENTITY_TYPE = "entityType";
+
+  // How to weigh the entries of the weighted cache
+  public static final ConfigEntry<String> CACHE_WEIGHER_TYPE =
+      new ConfigBuilder("gravitino.cache.weigherType")
+          .doc(
+              "How to weigh the cache entries when the weighted cache eviction is enabled, "
+                  + "`footprint` weighs an entry by its estimated heap size and bounds the cache "
+                  + "by `gravitino.cache.maxSizeInMB`, `entityType` weighs an entry by the type "
+                  + "of its entities.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  CACHE_WEIGHER_FOOTPRINT.equals(value) || CACHE_WEIGHER_ENTITY_TYPE.equals(value),
+              "The weigher type must be `footprint` or `entityType`.")
+          .createWithDefault(CACHE_WEIGHER_FOOTPRINT);
+
+  // Memory bound of the cache weighed by the footprint of the entries
+  public static final ConfigEntry<Long> CACHE_MAX_SIZE_IN_MB =
+      new ConfigBuilder("gravitino.cache.maxSizeInMB")
+          .doc(
+              "The max estimated heap size of the cached entries in MB, used when the cache "
+                  + "entries are weighed by their footprint.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256L);
+
   // Provider name for cache
   public static final ConfigEntry<String> CACHE_IMPLEMENTATION =
       new ConfigBuilder("gravitino.cache.implementation")
@@ -461,6 +720,48 @@ public class Configs {
           .checkValue(value -> value > 0, "Lock segments must be positive.")
           .createWithDefault(16);
 
+  // Maximum number of metadata objects whose effective tags or policies are cached
+  public static final ConfigEntry<Long> INHERITED_ASSOCIATION_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.cache.inheritedAssociation.maxEntries")
+          .doc(
+              "The max number of metadata objects whose effective tags or policies, including "
+                  + "the ones inherited from the parent objects, are cached. 0 disables the cache.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100_000L);
+
+  // Expiration time of the cached effective tags or policies
+  public static final ConfigEntry<Long> INHERITED_ASSOCIATION_CACHE_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.cache.inheritedAssociation.expireTimeInMs")
+          .doc(
+              "Time-to-live for the cached effective tags or policies of a metadata object, in "
+                  + "milliseconds. It bounds the staleness of the changes made by other servers.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
+  // Maximum number of operations in a metadata mutation batch
+  public static final ConfigEntry<Integer> BATCH_MAX_OPERATIONS =
+      new ConfigBuilder("gravitino.batch.maxOperations")
+          .doc("The max number of operations in a metadata mutation batch request.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000);
+
+  // Maximum number of batch operations applied in one entity store transaction
+  public static final ConfigEntry<Integer> BATCH_MAX_OPERATIONS_PER_TRANSACTION =
+      new ConfigBuilder("gravitino.batch.maxOperationsPerTransaction")
+          .doc(
+              "The max number of adjacent operations of a metadata mutation batch applied in one "
+                  + "entity store transaction. It bounds how long the batch holds the tree locks.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1_000);
+
   public static final ConfigEntry<String> JOB_STAGING_DIR =
       new ConfigBuilder("gravitino.job.stagingDir")
           .doc("Directory for managing staging files when running jobs.")
@@ -82,7 +82,9 @@ public interface Entity extends Serializable {
     JOB_TEMPLATE,
     JOB,
     AUDIT,
-    FUNCTION;
+    FUNCTION,
+    FILESET_STATISTIC,
+    TOPIC_STATISTIC;
   }
 
   /**
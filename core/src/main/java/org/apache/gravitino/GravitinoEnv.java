@@ -19,6 +19,7 @@
 package org.apache.gravitino;
 
 import com.google.common.base.Preconditions;
+import java.io.Closeable;
 import org.apache.gravitino.audit.AuditLogManager;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
 import org.apache.gravitino.authorization.AccessControlManager;
@@ -28,6 +29,8 @@ import org.apache.gravitino.authorization.OwnerDispatcher;
 import org.apache.gravitino.authorization.OwnerEventManager;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.auxiliary.AuxiliaryServiceManager;
+import org.apache.gravitino.cache.InheritedAssociationCache;
+import org.apache.gravitino.cache.InheritedAssociationCacheInvalidator;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
@@ -86,6 +89,7 @@ import org.apache.gravitino.listener.TableEventDispatcher;
 import org.apache.gravitino.listener.TagEventDispatcher;
 import org.apache.gravitino.listener.TopicEventDispatcher;
 import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.meta.PolicyEntity;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
 import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
@@ -93,12 +97,15 @@ import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.policy.PolicyDispatcher;
 import org.apache.gravitino.policy.PolicyManager;
+import org.apache.gravitino.search.MetadataSearchManager;
 import org.apache.gravitino.stats.StatisticDispatcher;
 import org.apache.gravitino.stats.StatisticManager;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
+import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
+import org.apache.gravitino.tracing.TracingManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -153,12 +160,16 @@ public class GravitinoEnv {
 
   private MetricsSystem metricsSystem;
 
+  private TracingManager tracingManager;
+
   private LockManager lockManager;
 
   private EventListenerManager eventListenerManager;
 
   private AuditLogManager auditLogManager;
 
+  private MetadataSearchManager metadataSearchManager;
+
   private JobOperationDispatcher jobOperationDispatcher;
 
   private EventBus eventBus;
@@ -365,6 +376,15 @@ public class GravitinoEnv {
     return metricsSystem;
   }
 
+  /**
+   * Get the TracingManager associated with the Gravitino environment.
+   *
+   * @return The TracingManager instance.
+   */
+  public TracingManager tracingManager() {
+    return tracingManager;
+  }
+
   public LockManager lockManager() {
     return lockManager;
   }
@@ -423,6 +443,24 @@ public class GravitinoEnv {
     return eventListenerManager;
   }
 
+  /**
+   * Get the AuditLogManager associated with the Gravitino environment.
+   *
+   * @return The AuditLogManager instance.
+   */
+  public AuditLogManager auditLogManager() {
+    return auditLogManager;
+  }
+
+  /**
+   * Get the MetadataSearchManager associated with the Gravitino environment.
+   *
+   * @return The MetadataSearchManager instance.
+   */
+  public MetadataSearchManager metadataSearchManager() {
+    return metadataSearchManager;
+  }
+
   /**
    * Set GravitinoAuthorizer to GravitinoEnv
    *
@@ -464,6 +502,7 @@ public class GravitinoEnv {
     eventListenerManager.start();
     if (manageFullComponents) {
       auxServiceManager.serviceStart();
+      metadataSearchManager.start();
     }
   }
 
@@ -471,6 +510,14 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    if (idGenerator instanceof Closeable) {
+      try {
+        ((Closeable) idGenerator).close();
+      } catch (Exception e) {
+        LOG.warn("Failed to close IdGenerator.", e);
+      }
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -495,10 +542,18 @@ public class GravitinoEnv {
       metricsSystem.close();
     }
 
+    if (tracingManager != null) {
+      tracingManager.close();
+    }
+
     if (eventListenerManager != null) {
       eventListenerManager.stop();
     }
 
+    if (metadataSearchManager != null) {
+      metadataSearchManager.close();
+    }
+
     if (metalakeManager != null) {
       metalakeManager.close();
     }
@@ -527,6 +582,9 @@ public class GravitinoEnv {
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
 
+    this.tracingManager = new TracingManager();
+    tracingManager.init(config);
+
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
@@ -541,8 +599,9 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // Create the id generator, the snowflake id generator leases its node id through the entity
+    // store, so it must be created after the entity store is initialized.
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config, entityStore);
 
     // Tree lock
     this.lockManager = new LockManager(config);
@@ -653,13 +712,24 @@ public class GravitinoEnv {
     this.auxServiceManager = new AuxiliaryServiceManager();
     this.auxServiceManager.serviceInit(config);
 
+    // The effective tags and policies of metadata objects are cached, and invalidated by the
+    // metadata change events
+    InheritedAssociationCache<Tag> effectiveTagCache =
+        new InheritedAssociationCache<>(config, Tag::name);
+    InheritedAssociationCache<PolicyEntity> effectivePolicyCache =
+        new InheritedAssociationCache<>(config, PolicyEntity::name);
+    eventListenerManager.addEventListener(
+        "inherited-association-cache",
+        new InheritedAssociationCacheInvalidator(effectiveTagCache, effectivePolicyCache));
+
     // Create and initialize Tag related modules
-    TagManager tagManager = new TagManager(idGenerator, entityStore);
+    TagManager tagManager = new TagManager(idGenerator, entityStore, effectiveTagCache);
     TagHookDispatcher tagHookDispatcher = new TagHookDispatcher(tagManager);
     this.tagDispatcher = new TagEventDispatcher(eventBus, tagHookDispatcher);
 
     PolicyEventDispatcher policyEventDispatcher =
-        new PolicyEventDispatcher(eventBus, new PolicyManager(idGenerator, entityStore));
+        new PolicyEventDispatcher(
+            eventBus, new PolicyManager(idGenerator, entityStore, effectivePolicyCache));
     this.policyDispatcher = new PolicyHookDispatcher(policyEventDispatcher);
 
     JobManager jobManager = new JobManager(config, entityStore, idGenerator);
@@ -673,5 +743,9 @@ public class GravitinoEnv {
     BuiltInJobTemplateEventListener builtInJobTemplateListener =
         new BuiltInJobTemplateEventListener(jobManager, entityStore, idGenerator);
     eventListenerManager.addEventListener("builtin-job-template", builtInJobTemplateListener);
+
+    // Create the metadata search index, which is fed by the metadata change events
+    this.metadataSearchManager = new MetadataSearchManager();
+    metadataSearchManager.init(config, eventListenerManager);
   }
 }
@@ -21,9 +21,11 @@ package org.apache.gravitino.audit;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.listener.EventListenerManager;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -115,6 +117,23 @@ public class AuditLogManager {
     }
   }
 
+  /**
+   * Query the audit logs written by the audit log writer.
+   *
+   * @param query the query of the audit logs
+   * @return the matched audit logs, the latest ones first
+   * @throws UnsupportedOperationException if the audit log is disabled or the writer doesn't
+   *     support querying
+   */
+  public List<AuditLogDTO> queryAuditLogs(AuditLogQuery query) {
+    if (!(auditLogWriter instanceof SupportsAuditLogQuery)) {
+      throw new UnsupportedOperationException(
+          "Audit log query is not supported, please enable the audit log with "
+              + SegmentAuditWriter.class.getName());
+    }
+    return ((SupportsAuditLogQuery) auditLogWriter).queryAuditLogs(query);
+  }
+
   AuditLogWriter getAuditLogWriter() {
     return auditLogWriter;
   }
@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.google.common.base.Preconditions;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
+
+/**
+ * A query of the audit logs written within {@code [since, until]}, optionally filtered by the user,
+ * the operation type and the identifier of the metadata object. An identifier matches the audit
+ * logs of the metadata object and of all the metadata objects under it.
+ */
+public class AuditLogQuery {
+
+  public static final int MAX_LIMIT = 10000;
+
+  private final String user;
+  private final String operationType;
+  private final String identifier;
+  private final long since;
+  private final long until;
+  private final int limit;
+
+  private AuditLogQuery(
+      String user, String operationType, String identifier, long since, long until, int limit) {
+    Preconditions.checkArgument(
+        since <= until, "since(%s) must not be greater than until(%s)", since, until);
+    Preconditions.checkArgument(
+        limit > 0 && limit <= MAX_LIMIT,
+        "limit must be positive and not greater than %s, got %s",
+        MAX_LIMIT,
+        limit);
+    this.user = user;
+    this.operationType = operationType;
+    this.identifier = identifier;
+    this.since = since;
+    this.until = until;
+    this.limit = limit;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public String user() {
+    return user;
+  }
+
+  public String operationType() {
+    return operationType;
+  }
+
+  public String identifier() {
+    return identifier;
+  }
+
+  public long since() {
+    return since;
+  }
+
+  public long until() {
+    return until;
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  /**
+   * Whether the audit log matches the query.
+   *
+   * @param auditLog the audit log
+   * @return true if the audit log matches the query
+   */
+  public boolean matches(AuditLogDTO auditLog) {
+    return auditLog.timestamp() >= since
+        && auditLog.timestamp() <= until
+        && (user == null || user.equals(auditLog.user()))
+        && (operationType == null || operationType.equalsIgnoreCase(auditLog.operationType()))
+        && (identifier == null || matchesIdentifier(auditLog.identifier()));
+  }
+
+  boolean matchesIdentifier(String auditLogIdentifier) {
+    return auditLogIdentifier != null
+        && (auditLogIdentifier.equals(identifier)
+            || auditLogIdentifier.startsWith(identifier + "."));
+  }
+
+  /** Builder for {@link AuditLogQuery}. */
+  public static class Builder {
+    private String user;
+    private String operationType;
+    private String identifier;
+    private long since = 0L;
+    private long until = Long.MAX_VALUE;
+    private int limit = 100;
+
+    private Builder() {}
+
+    public Builder withUser(String user) {
+      this.user = user;
+      return this;
+    }
+
+    public Builder withOperationType(String operationType) {
+      this.operationType = operationType;
+      return this;
+    }
+
+    public Builder withIdentifier(String identifier) {
+      this.identifier = identifier;
+      return this;
+    }
+
+    public Builder withSince(long since) {
+      this.since = since;
+      return this;
+    }
+
+    public Builder withUntil(long until) {
+      this.until = until;
+      return this;
+    }
+
+    public Builder withLimit(int limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    public AuditLogQuery build() {
+      return new AuditLogQuery(user, operationType, identifier, since, until, limit);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
+import org.apache.gravitino.json.JsonUtils;
+
+/**
+ * The sidecar index of an audit log segment, it records the time range, the users, the operation
+ * types and the identifiers of the audit logs in the segment, so a query only scans the segments
+ * which may contain the matched audit logs. The users and identifiers stop being recorded once
+ * there are too many distinct ones, then the segment may match any user or identifier.
+ */
+class AuditSegmentIndex {
+
+  @VisibleForTesting static final int MAX_DISTINCT_VALUES = 10000;
+
+  @JsonProperty("minTimestamp")
+  private long minTimestamp = Long.MAX_VALUE;
+
+  @JsonProperty("maxTimestamp")
+  private long maxTimestamp = Long.MIN_VALUE;
+
+  @JsonProperty("count")
+  private long count;
+
+  @JsonProperty("users")
+  private Set<String> users = new HashSet<>();
+
+  @JsonProperty("usersTruncated")
+  private boolean usersTruncated;
+
+  @JsonProperty("operationTypes")
+  private Set<String> operationTypes = new HashSet<>();
+
+  @JsonProperty("identifiers")
+  private Set<String> identifiers = new HashSet<>();
+
+  @JsonProperty("identifiersTruncated")
+  private boolean identifiersTruncated;
+
+  synchronized void add(AuditLogDTO auditLog) {
+    count++;
+    minTimestamp = Math.min(minTimestamp, auditLog.timestamp());
+    maxTimestamp = Math.max(maxTimestamp, auditLog.timestamp());
+    operationTypes.add(auditLog.operationType());
+    if (!usersTruncated && auditLog.user() != null && users.add(auditLog.user())) {
+      if (users.size() > MAX_DISTINCT_VALUES) {
+        usersTruncated = true;
+        users.clear();
+      }
+    }
+    if (!identifiersTruncated
+        && auditLog.identifier() != null
+        && identifiers.add(auditLog.identifier())) {
+      if (identifiers.size() > MAX_DISTINCT_VALUES) {
+        identifiersTruncated = true;
+        identifiers.clear();
+      }
+    }
+  }
+
+  synchronized long count() {
+    return count;
+  }
+
+  synchronized long minTimestamp() {
+    return minTimestamp;
+  }
+
+  synchronized long maxTimestamp() {
+    return maxTimestamp;
+  }
+
+  /**
+   * Whether the segment may contain the audit logs matching the query.
+   *
+   * @param query the audit log query
+   * @return false if the segment doesn't contain any matched audit log
+   */
+  synchronized boolean mayMatch(AuditLogQuery query) {
+    if (count == 0 || maxTimestamp < query.since() || minTimestamp > query.until()) {
+      return false;
+    }
+    if (query.user() != null && !usersTruncated && !users.contains(query.user())) {
+      return false;
+    }
+    if (query.operationType() != null
+        && operationTypes.stream().noneMatch(query.operationType()::equalsIgnoreCase)) {
+      return false;
+    }
+    return query.identifier() == null
+        || identifiersTruncated
+        || identifiers.stream().anyMatch(query::matchesIdentifier);
+  }
+
+  synchronized void write(Path path) throws IOException {
+    Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+    Files.write(tmpPath, JsonUtils.anyFieldMapper().writeValueAsBytes(this));
+    Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  static AuditSegmentIndex read(Path path) throws IOException {
+    return JsonUtils.anyFieldMapper().readValue(path.toFile(), AuditSegmentIndex.class);
+  }
+}
@@ -0,0 +1,494 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.json.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SegmentAuditWriter writes the audit logs as JSON lines into size and time rotated segments in
+ * background batches. The closed segments are compressed, and each of them has a sidecar index
+ * recording the time range, users, operation types and identifiers of its audit logs, so the
+ * queries only scan the segments which may contain the matched audit logs.
+ *
+ * <p>The files of a segment named {@code audit-<creation time>-<sequence>} are:
+ *
+ * <ul>
+ *   <li>{@code <segment>.log}, the active or not yet compressed segment
+ *   <li>{@code <segment>.log.gz}, the compressed segment
+ *   <li>{@code <segment>.idx}, the index of a closed segment
+ * </ul>
+ */
+public class SegmentAuditWriter implements AuditLogWriter, SupportsAuditLogQuery {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentAuditWriter.class);
+
+  @VisibleForTesting static final String DIR = "dir";
+  @VisibleForTesting static final String MAX_SEGMENT_BYTES = "maxSegmentBytes";
+  @VisibleForTesting static final String MAX_SEGMENT_AGE_SECS = "maxSegmentAgeSecs";
+  @VisibleForTesting static final String QUEUE_CAPACITY = "queueCapacity";
+  @VisibleForTesting static final String BATCH_SIZE = "batchSize";
+  @VisibleForTesting static final String FLUSH_INTERVAL_MS = "flushIntervalMs";
+  @VisibleForTesting static final String COMPRESS = "compress";
+
+  @VisibleForTesting static final String SEGMENT_PREFIX = "audit-";
+  @VisibleForTesting static final String LOG_SUFFIX = ".log";
+  @VisibleForTesting static final String COMPRESSED_SUFFIX = ".log.gz";
+  @VisibleForTesting static final String INDEX_SUFFIX = ".idx";
+
+  private static final long ENQUEUE_TIMEOUT_MS = 1000L;
+  private static final byte LINE_SEPARATOR = '\n';
+
+  private final ObjectMapper mapper = JsonUtils.anyFieldMapper();
+  private final AtomicLong droppedLogs = new AtomicLong();
+  private final AtomicLong writtenLogs = new AtomicLong();
+  // The time range of the closed segments, the full index is loaded from the sidecar file when a
+  // query overlaps the time range.
+  private final NavigableMap<String, long[]> closedSegments = new ConcurrentSkipListMap<>();
+
+  private Formatter formatter;
+  private Path dir;
+  private long maxSegmentBytes;
+  private long maxSegmentAgeMs;
+  private int batchSize;
+  private long flushIntervalMs;
+  private boolean compress;
+  private BlockingQueue<AuditLog> queue;
+  private Thread writerThread;
+  private ExecutorService compressExecutor;
+  private volatile boolean closed;
+  private volatile ActiveSegment activeSegment;
+  private long segmentSequence;
+
+  private static class ActiveSegment {
+    private final String name;
+    private final Path path;
+    private final OutputStream outputStream;
+    private final long createTimeMs;
+    private final AuditSegmentIndex index = new AuditSegmentIndex();
+    private long bytes;
+
+    private ActiveSegment(String name, Path path, OutputStream outputStream, long createTimeMs) {
+      this.name = name;
+      this.path = path;
+      this.outputStream = outputStream;
+      this.createTimeMs = createTimeMs;
+    }
+  }
+
+  @Override
+  public Formatter getFormatter() {
+    return formatter;
+  }
+
+  @Override
+  public void init(Formatter formatter, Map<String, String> properties) {
+    this.formatter = formatter;
+    this.dir =
+        Paths.get(
+            properties.getOrDefault(DIR, System.getProperty("gravitino.log.path") + "/audit"));
+    this.maxSegmentBytes =
+        Long.parseLong(properties.getOrDefault(MAX_SEGMENT_BYTES, String.valueOf(128L << 20)));
+    this.maxSegmentAgeMs =
+        TimeUnit.SECONDS.toMillis(
+            Long.parseLong(properties.getOrDefault(MAX_SEGMENT_AGE_SECS, "3600")));
+    this.batchSize = Integer.parseInt(properties.getOrDefault(BATCH_SIZE, "1024"));
+    this.flushIntervalMs = Long.parseLong(properties.getOrDefault(FLUSH_INTERVAL_MS, "1000"));
+    this.compress = Boolean.parseBoolean(properties.getOrDefault(COMPRESS, "true"));
+    int queueCapacity = Integer.parseInt(properties.getOrDefault(QUEUE_CAPACITY, "100000"));
+    Preconditions.checkArgument(maxSegmentBytes > 0, "%s must be positive", MAX_SEGMENT_BYTES);
+    Preconditions.checkArgument(maxSegmentAgeMs > 0, "%s must be positive", MAX_SEGMENT_AGE_SECS);
+    Preconditions.checkArgument(batchSize > 0, "%s must be positive", BATCH_SIZE);
+    Preconditions.checkArgument(flushIntervalMs > 0, "%s must be positive", FLUSH_INTERVAL_MS);
+    Preconditions.checkArgument(queueCapacity > 0, "%s must be positive", QUEUE_CAPACITY);
+
+    try {
+      Files.createDirectories(dir);
+      recoverSegments();
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(e, "Init audit log writer fail, dir is %s", dir);
+    }
+
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.compressExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("audit-segment-compressor")
+                .build());
+    this.writerThread = new Thread(this::runWriter, "audit-segment-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void doWrite(AuditLog auditLog) {
+    try {
+      if (!queue.offer(auditLog, ENQUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        long dropped = droppedLogs.incrementAndGet();
+        LOG.warn("Audit log queue is full, dropped {} audit logs so far: {}", dropped, auditLog);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      droppedLogs.incrementAndGet();
+      LOG.warn("Interrupted when writing audit log: {}", auditLog);
+    }
+  }
+
+  @Override
+  public List<AuditLogDTO> queryAuditLogs(AuditLogQuery query) {
+    List<AuditLogDTO> results = new ArrayList<>();
+    ActiveSegment active = activeSegment;
+    NavigableMap<String, long[]> segments = new ConcurrentSkipListMap<>(closedSegments);
+    if (active != null) {
+      segments.put(active.name, new long[] {Long.MIN_VALUE, Long.MAX_VALUE});
+    }
+
+    for (Map.Entry<String, long[]> segment : segments.descendingMap().entrySet()) {
+      long[] timeRange = segment.getValue();
+      if (timeRange[1] < query.since() || timeRange[0] > query.until()) {
+        continue;
+      }
+      try {
+        AuditSegmentIndex index =
+            active != null && active.name.equals(segment.getKey())
+                ? active.index
+                : AuditSegmentIndex.read(indexPath(segment.getKey()));
+        if (index.mayMatch(query)) {
+          scanSegment(segment.getKey(), query, results);
+        }
+      } catch (IOException e) {
+        LOG.warn("Failed to query audit log segment {}", segment.getKey(), e);
+      }
+      if (results.size() >= query.limit()) {
+        break;
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (writerThread != null) {
+      try {
+        writerThread.join(flushIntervalMs * 10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (compressExecutor != null) {
+      compressExecutor.shutdown();
+      try {
+        if (!compressExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+          LOG.warn("Audit log segments are not compressed in time");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public String name() {
+    return "segment";
+  }
+
+  @VisibleForTesting
+  long droppedLogs() {
+    return droppedLogs.get();
+  }
+
+  @VisibleForTesting
+  long writtenLogs() {
+    return writtenLogs.get();
+  }
+
+  private void runWriter() {
+    List<AuditLog> batch = new ArrayList<>(batchSize);
+    while (!closed || !queue.isEmpty()) {
+      try {
+        AuditLog auditLog = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (auditLog != null) {
+          batch.add(auditLog);
+          queue.drainTo(batch, batchSize - 1);
+          writeBatch(batch);
+          batch.clear();
+        }
+        ActiveSegment active = activeSegment;
+        if (active != null
+            && System.currentTimeMillis() - active.createTimeMs >= maxSegmentAgeMs) {
+          closeActiveSegment();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        LOG.warn("Failed to write {} audit logs", batch.size(), e);
+        batch.clear();
+      }
+    }
+
+    try {
+      closeActiveSegment();
+    } catch (IOException e) {
+      LOG.warn("Failed to close audit log segment", e);
+    }
+  }
+
+  private void writeBatch(List<AuditLog> batch) throws IOException {
+    for (AuditLog auditLog : batch) {
+      AuditLogDTO auditLogDTO = toDTO(auditLog);
+      byte[] line;
+      try {
+        line = mapper.writeValueAsBytes(auditLogDTO);
+      } catch (JsonProcessingException e) {
+        LOG.warn("Failed to serialize audit log: {}", auditLog, e);
+        continue;
+      }
+
+      ActiveSegment active = activeSegment != null ? activeSegment : openSegment();
+      active.outputStream.write(line);
+      active.outputStream.write(LINE_SEPARATOR);
+      active.bytes += line.length + 1;
+      active.index.add(auditLogDTO);
+      writtenLogs.incrementAndGet();
+      if (active.bytes >= maxSegmentBytes) {
+        closeActiveSegment();
+      }
+    }
+
+    // Flush every batch, so the written audit logs are visible to the queries
+    ActiveSegment active = activeSegment;
+    if (active != null) {
+      active.outputStream.flush();
+    }
+  }
+
+  private ActiveSegment openSegment() throws IOException {
+    long now = System.currentTimeMillis();
+    String name;
+    Path path;
+    do {
+      name = String.format("%s%013d-%06d", SEGMENT_PREFIX, now, segmentSequence++);
+      path = dir.resolve(name + LOG_SUFFIX);
+    } while (Files.exists(path));
+
+    OutputStream outputStream =
+        new BufferedOutputStream(new FileOutputStream(path.toFile()), 1 << 16);
+    activeSegment = new ActiveSegment(name, path, outputStream, now);
+    LOG.debug("Opened audit log segment {}", path);
+    return activeSegment;
+  }
+
+  private void closeActiveSegment() throws IOException {
+    ActiveSegment active = activeSegment;
+    if (active == null) {
+      return;
+    }
+
+    active.outputStream.close();
+    if (active.index.count() > 0) {
+      active.index.write(indexPath(active.name));
+      closedSegments.put(
+          active.name, new long[] {active.index.minTimestamp(), active.index.maxTimestamp()});
+      if (compress) {
+        compressExecutor.execute(() -> compressSegment(active.name));
+      }
+    } else {
+      Files.deleteIfExists(active.path);
+    }
+    activeSegment = null;
+  }
+
+  private void compressSegment(String name) {
+    Path logPath = dir.resolve(name + LOG_SUFFIX);
+    Path compressedPath = dir.resolve(name + COMPRESSED_SUFFIX);
+    Path tmpPath = dir.resolve(name + COMPRESSED_SUFFIX + ".tmp");
+    try {
+      try (OutputStream out =
+          new GZIPOutputStream(new FileOutputStream(tmpPath.toFile()), 1 << 16)) {
+        Files.copy(logPath, out);
+      }
+      Files.move(tmpPath, compressedPath, StandardCopyOption.ATOMIC_MOVE);
+      Files.delete(logPath);
+    } catch (IOException e) {
+      LOG.warn("Failed to compress audit log segment {}", logPath, e);
+    }
+  }
+
+  // Index and compress the segments left by the last run, and load the time range of the closed
+  // segments.
+  private void recoverSegments() throws IOException {
+    List<Path> files;
+    try (Stream<Path> stream = Files.list(dir)) {
+      files =
+          stream
+              .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+
+    for (Path file : files) {
+      String fileName = file.getFileName().toString();
+      if (fileName.endsWith(".tmp")) {
+        Files.deleteIfExists(file);
+      } else if (fileName.endsWith(LOG_SUFFIX)) {
+        String name = fileName.substring(0, fileName.length() - LOG_SUFFIX.length());
+        if (Files.exists(dir.resolve(name + COMPRESSED_SUFFIX))) {
+          // The segment was compressed but the uncompressed one was not deleted
+          Files.delete(file);
+          continue;
+        }
+        if (!Files.exists(indexPath(name))) {
+          rebuildIndex(name).write(indexPath(name));
+        }
+        if (compress) {
+          compressSegment(name);
+        }
+      }
+    }
+
+    try (Stream<Path> stream = Files.list(dir)) {
+      stream
+          .map(p -> p.getFileName().toString())
+          .filter(n -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(INDEX_SUFFIX))
+          .forEach(
+              n -> {
+                String name = n.substring(0, n.length() - INDEX_SUFFIX.length());
+                try {
+                  AuditSegmentIndex index = AuditSegmentIndex.read(dir.resolve(n));
+                  closedSegments.put(
+                      name, new long[] {index.minTimestamp(), index.maxTimestamp()});
+                } catch (IOException e) {
+                  LOG.warn("Failed to read audit log segment index {}", n, e);
+                }
+              });
+    }
+  }
+
+  private AuditSegmentIndex rebuildIndex(String name) throws IOException {
+    AuditSegmentIndex index = new AuditSegmentIndex();
+    try (BufferedReader reader = openSegment(name)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        AuditLogDTO auditLog = parse(line);
+        if (auditLog != null) {
+          index.add(auditLog);
+        }
+      }
+    }
+    return index;
+  }
+
+  private void scanSegment(String name, AuditLogQuery query, List<AuditLogDTO> results)
+      throws IOException {
+    List<AuditLogDTO> matched = new ArrayList<>();
+    try (BufferedReader reader = openSegment(name)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        AuditLogDTO auditLog = parse(line);
+        if (auditLog != null && query.matches(auditLog)) {
+          matched.add(auditLog);
+        }
+      }
+    }
+
+    // The audit logs are appended in time order, return the latest ones first
+    for (int i = matched.size() - 1; i >= 0 && results.size() < query.limit(); i--) {
+      results.add(matched.get(i));
+    }
+  }
+
+  private BufferedReader openSegment(String name) throws IOException {
+    InputStream inputStream;
+    try {
+      inputStream = new FileInputStream(dir.resolve(name + LOG_SUFFIX).toFile());
+    } catch (FileNotFoundException e) {
+      // The segment is compressed
+      inputStream =
+          new GZIPInputStream(
+              new FileInputStream(dir.resolve(name + COMPRESSED_SUFFIX).toFile()), 1 << 16);
+    }
+    return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+  }
+
+  private AuditLogDTO parse(String line) {
+    try {
+      return mapper.readValue(line, AuditLogDTO.class);
+    } catch (JsonProcessingException e) {
+      // The last line of the active segment may be partially written
+      LOG.debug("Skip malformed audit log line: {}", line);
+      return null;
+    }
+  }
+
+  private Path indexPath(String name) {
+    return dir.resolve(name + INDEX_SUFFIX);
+  }
+
+  @VisibleForTesting
+  static AuditLogDTO toDTO(AuditLog auditLog) {
+    return new AuditLogDTO(
+        auditLog.user(),
+        auditLog.operationType().name(),
+        auditLog.operationStatus().name(),
+        auditLog.identifier(),
+        auditLog.timestamp(),
+        auditLog.remoteAddress(),
+        auditLog.eventSource().name(),
+        auditLog.customInfo());
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.batch;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code BatchExecutor} executes an ordered list of metadata mutations with fewer locks,
+ * transactions and event dispatches than executing them one by one.
+ *
+ * <p>The adjacent {@link BatchOperation#transactional() transactional} operations, up to {@code
+ * maxOperationsPerTransaction}, are applied in one entity store transaction, the other operations
+ * are applied in their own transactions. For each transaction the executor takes the minimal set
+ * of write tree locks covering the operations, holds them until the transaction ends, and
+ * dispatches the post events of the operations in bulk after it ends. The operations take their
+ * own locks as usual, which are reentrant for the thread holding the covering write locks.
+ *
+ * <p>The execution stops at the first failed operation. The operations in the same transaction
+ * are rolled back, and the following operations are skipped.
+ */
+public class BatchExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(BatchExecutor.class);
+
+  private final EntityStore store;
+  private final LockManager lockManager;
+  private final EventBus eventBus;
+  private final int maxOperationsPerTransaction;
+
+  /**
+   * Creates a new BatchExecutor.
+   *
+   * @param store The entity store to apply the transactions.
+   * @param lockManager The lock manager to create the tree locks.
+   * @param eventBus The event bus to dispatch the events.
+   * @param maxOperationsPerTransaction The max number of operations in one transaction.
+   */
+  public BatchExecutor(
+      EntityStore store,
+      LockManager lockManager,
+      EventBus eventBus,
+      int maxOperationsPerTransaction) {
+    Preconditions.checkArgument(
+        maxOperationsPerTransaction > 0, "maxOperationsPerTransaction must be positive");
+    this.store = store;
+    this.lockManager = lockManager;
+    this.eventBus = eventBus;
+    this.maxOperationsPerTransaction = maxOperationsPerTransaction;
+  }
+
+  /**
+   * Executes the operations in order.
+   *
+   * @param operations The operations to execute.
+   * @return The results of the operations, in the order of the operations.
+   */
+  public List<BatchOperationResult> execute(List<? extends BatchOperation> operations) {
+    BatchOperationResult[] results = new BatchOperationResult[operations.size()];
+    Arrays.fill(results, BatchOperationResult.skipped());
+
+    int start = 0;
+    while (start < operations.size()) {
+      int end = transactionEnd(operations, start);
+      if (!executeTransaction(operations.subList(start, end), start, results)) {
+        break;
+      }
+      start = end;
+    }
+    return Arrays.asList(results);
+  }
+
+  private int transactionEnd(List<? extends BatchOperation> operations, int start) {
+    if (!operations.get(start).transactional()) {
+      return start + 1;
+    }
+
+    int end = start + 1;
+    while (end < operations.size()
+        && end - start < maxOperationsPerTransaction
+        && operations.get(end).transactional()) {
+      end++;
+    }
+    return end;
+  }
+
+  private boolean executeTransaction(
+      List<? extends BatchOperation> operations, int offset, BatchOperationResult[] results) {
+    List<TreeLock> locks = Lists.newArrayList();
+    int[] executed = {0};
+    boolean committed = false;
+    eventBus.deferPostEvents();
+    try {
+      for (NameIdentifier ident :
+          minimalWriteLockIdentifiers(
+              operations.stream()
+                  .flatMap(op -> op.writeLockIdentifiers().stream())
+                  .collect(Collectors.toList()))) {
+        TreeLock lock = lockManager.createTreeLock(ident);
+        lock.lock(LockType.WRITE);
+        locks.add(lock);
+      }
+
+      store.executeInTransaction(
+          () -> {
+            for (BatchOperation operation : operations) {
+              operation.execute();
+              executed[0]++;
+            }
+            return null;
+          });
+      committed = true;
+      Arrays.fill(results, offset, offset + operations.size(), BatchOperationResult.succeeded());
+      return true;
+
+    } catch (Exception e) {
+      LOG.warn(
+          "Failed to execute batch operations [{}, {}), rolled back",
+          offset,
+          offset + operations.size(),
+          e);
+      if (executed[0] == operations.size()) {
+        // The commit failed, none of the operations takes effect
+        Arrays.fill(results, offset, offset + operations.size(), BatchOperationResult.failed(e));
+      } else {
+        Arrays.fill(results, offset, offset + executed[0], BatchOperationResult.rolledBack());
+        results[offset + executed[0]] = BatchOperationResult.failed(e);
+      }
+      return false;
+
+    } finally {
+      eventBus.flushDeferredPostEvents(committed);
+      Lists.reverse(locks).forEach(TreeLock::unlock);
+    }
+  }
+
+  /**
+   * Returns the identifiers not covered by another identifier in the collection, a write lock on
+   * an identifier covers the identifier itself and its descendants. The identifiers are sorted, so
+   * concurrent batches take the locks in the same order. The identifiers in the system catalog,
+   * like the tag namespace, are sorted after the metadata objects, as the managers lock a metadata
+   * object before the tags or policies associated with it.
+   */
+  @VisibleForTesting
+  static List<NameIdentifier> minimalWriteLockIdentifiers(Collection<NameIdentifier> idents) {
+    List<NameIdentifier> sorted =
+        idents.stream()
+            .distinct()
+            .sorted(
+                Comparator.comparing(BatchExecutor::inSystemCatalog)
+                    .thenComparing(NameIdentifier::toString))
+            .collect(Collectors.toList());
+    return sorted.stream()
+        .filter(ident -> sorted.stream().noneMatch(other -> isAncestor(other, ident)))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean inSystemCatalog(NameIdentifier ident) {
+    String[] levels = levels(ident);
+    return levels.length > 1 && Entity.SYSTEM_CATALOG_RESERVED_NAME.equals(levels[1]);
+  }
+
+  private static boolean isAncestor(NameIdentifier ancestor, NameIdentifier ident) {
+    String[] ancestorLevels = levels(ancestor);
+    String[] levels = levels(ident);
+    if (ancestorLevels.length >= levels.length) {
+      return false;
+    }
+    for (int i = 0; i < ancestorLevels.length; i++) {
+      if (!ancestorLevels[i].equals(levels[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String[] levels(NameIdentifier ident) {
+    String[] namespace = ident.namespace().levels();
+    String[] levels = Arrays.copyOf(namespace, namespace.length + 1);
+    levels[namespace.length] = ident.name();
+    return levels;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.batch;
+
+import java.util.List;
+import org.apache.gravitino.NameIdentifier;
+
+/** An operation of a metadata mutation batch executed by {@link BatchExecutor}. */
+public interface BatchOperation {
+
+  /**
+   * Returns the identifiers the operation takes write tree locks on, the batch holds the write
+   * locks covering them until the transaction of the operation ends.
+   *
+   * @return The identifiers of the write locks.
+   */
+  List<NameIdentifier> writeLockIdentifiers();
+
+  /**
+   * Returns whether the operation only writes Gravitino managed entities to the entity store, so
+   * it could be rolled back with the store transaction. The operations with side effects on
+   * external systems, like creating a schema in Hive, are executed in their own transactions.
+   *
+   * @return True if the operation could join the transaction of the adjacent operations.
+   */
+  boolean transactional();
+
+  /**
+   * Executes the operation.
+   *
+   * @throws Exception If the operation fails.
+   */
+  void execute() throws Exception;
+}
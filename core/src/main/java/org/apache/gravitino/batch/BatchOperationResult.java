@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.batch;
+
+import com.google.common.base.Preconditions;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/** The result of an operation executed by {@link BatchExecutor}. */
+public final class BatchOperationResult {
+
+  /** The status of an operation. */
+  public enum Status {
+    /** The operation is applied. */
+    SUCCEEDED,
+    /** The operation failed, the changes of its transaction are rolled back. */
+    FAILED,
+    /** The operation succeeded, but it's rolled back with a failed operation in its transaction. */
+    ROLLED_BACK,
+    /** The operation isn't executed as a preceding operation failed. */
+    SKIPPED
+  }
+
+  private static final BatchOperationResult SUCCEEDED =
+      new BatchOperationResult(Status.SUCCEEDED, null);
+  private static final BatchOperationResult ROLLED_BACK =
+      new BatchOperationResult(Status.ROLLED_BACK, null);
+  private static final BatchOperationResult SKIPPED =
+      new BatchOperationResult(Status.SKIPPED, null);
+
+  private final Status status;
+  @Nullable private final Exception error;
+
+  private BatchOperationResult(Status status, @Nullable Exception error) {
+    this.status = status;
+    this.error = error;
+  }
+
+  static BatchOperationResult succeeded() {
+    return SUCCEEDED;
+  }
+
+  static BatchOperationResult rolledBack() {
+    return ROLLED_BACK;
+  }
+
+  static BatchOperationResult skipped() {
+    return SKIPPED;
+  }
+
+  static BatchOperationResult failed(Exception error) {
+    Preconditions.checkArgument(error != null, "error must not be null");
+    return new BatchOperationResult(Status.FAILED, error);
+  }
+
+  /**
+   * @return The status of the operation.
+   */
+  public Status status() {
+    return status;
+  }
+
+  /**
+   * @return The error of the operation if it failed.
+   */
+  public Optional<Exception> error() {
+    return Optional.ofNullable(error);
+  }
+}
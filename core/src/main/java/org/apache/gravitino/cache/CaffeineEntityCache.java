@@ -396,8 +396,14 @@ public class CaffeineEntityCache extends BaseEntityCache {
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
 
     if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)) {
-      builder.maximumWeight(EntityCacheWeigher.getMaxWeight());
-      builder.weigher(EntityCacheWeigher.getInstance());
+      if (Configs.CACHE_WEIGHER_FOOTPRINT.equals(cacheConfig.get(Configs.CACHE_WEIGHER_TYPE))) {
+        builder.maximumWeight(
+            EntityFootprintWeigher.getMaxWeight(cacheConfig.get(Configs.CACHE_MAX_SIZE_IN_MB)));
+        builder.weigher(EntityFootprintWeigher.getInstance());
+      } else {
+        builder.maximumWeight(EntityCacheWeigher.getMaxWeight());
+        builder.weigher(EntityCacheWeigher.getInstance());
+      }
     } else {
       builder.maximumSize(cacheConfig.get(Configs.CACHE_MAX_ENTRIES));
     }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+
+/**
+ * The effective associations, like tags or policies, of a metadata object. They consist of the
+ * ones associated with the object itself and the ones inherited from its parent objects.
+ *
+ * @param <T> The type of the associated entity.
+ */
+public class EffectiveAssociations<T> {
+
+  private final List<T> own;
+  private final List<T> inherited;
+
+  /**
+   * Creates the effective associations of a metadata object.
+   *
+   * @param own The entities associated with the object itself.
+   * @param inherited The entities inherited from the parent objects, the nearest parent first.
+   */
+  public EffectiveAssociations(List<T> own, List<T> inherited) {
+    this.own = ImmutableList.copyOf(own);
+    this.inherited = ImmutableList.copyOf(inherited);
+  }
+
+  /**
+   * Returns the entities associated with the object itself.
+   *
+   * @return The entities associated with the object itself.
+   */
+  public List<T> own() {
+    return own;
+  }
+
+  /**
+   * Returns the entities inherited from the parent objects and not associated with the object
+   * itself.
+   *
+   * @return The inherited entities, the nearest parent first.
+   */
+  public List<T> inherited() {
+    return inherited;
+  }
+}
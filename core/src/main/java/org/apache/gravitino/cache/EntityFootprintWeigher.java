@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Field;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.rel.types.Type;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * A {@link Weigher} implementation that weighs a cache entry by the approximate number of bytes it
+ * retains on the heap, so that the max weight of the cache is a memory bound. The footprint is
+ * computed once when the entry is inserted, by walking the {@link Entity#fields()} of the cached
+ * entities: strings, maps, collections and nested entities like the columns of a table are sized
+ * from their contents, other objects are counted with a fixed size.
+ *
+ * <p>The sizes assume a 64-bit JVM with compressed oops, which is the default for heaps smaller
+ * than 32 GB. Metalakes and catalogs weigh 0 like in {@link EntityCacheWeigher}, so that they are
+ * only evicted when they expire.
+ */
+public class EntityFootprintWeigher implements Weigher<EntityCacheKey, List<Entity>> {
+
+  private static final int OBJECT_HEADER = 12;
+  private static final int REFERENCE = 4;
+  private static final int ARRAY_HEADER = 16;
+  private static final int BOXED_SIZE = 16;
+  private static final int INSTANT_SIZE = 24;
+  private static final int STRING_SHELL = 24;
+  private static final int COLLECTION_SHELL = 24;
+  private static final int MAP_SHELL = 48;
+  private static final int MAP_ENTRY = 32;
+  // The size of the objects not sized from their contents, like expressions and transforms
+  private static final int DEFAULT_OBJECT_SIZE = 64;
+  // The cache key and the node of the cache entry
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private static final EntityFootprintWeigher INSTANCE = new EntityFootprintWeigher();
+
+  private EntityFootprintWeigher() {}
+
+  /**
+   * Returns the singleton instance of the {@link EntityFootprintWeigher}.
+   *
+   * @return the singleton instance of the {@link EntityFootprintWeigher}.
+   */
+  public static EntityFootprintWeigher getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the maximum weight of the cache for the given memory bound.
+   *
+   * @param maxSizeInMB The memory bound of the cache in MB.
+   * @return The maximum weight of the cache.
+   */
+  public static long getMaxWeight(long maxSizeInMB) {
+    return maxSizeInMB * 1024 * 1024;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNegative int weigh(
+      @NonNull EntityCacheKey storeEntityCacheKey, @NonNull List<Entity> entities) {
+    long bytes = ENTRY_OVERHEAD + collectionSize(entities.size());
+    for (Entity entity : entities) {
+      if (entity.type() == Entity.EntityType.METALAKE
+          || entity.type() == Entity.EntityType.CATALOG) {
+        return 0;
+      }
+      bytes += estimateSize(entity);
+    }
+
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Estimates the number of bytes retained by the entity.
+   *
+   * @param entity The entity to estimate.
+   * @return The estimated number of bytes.
+   */
+  public static long estimateSize(Entity entity) {
+    Map<Field, Object> fields = entity.fields();
+    long bytes = align(OBJECT_HEADER + (long) REFERENCE * fields.size());
+    boolean namespaceCounted = false;
+    for (Object value : fields.values()) {
+      bytes += sizeOf(value);
+      namespaceCounted |= value instanceof Namespace;
+    }
+
+    // Some entities keep the namespace out of their fields
+    if (!namespaceCounted && entity instanceof HasIdentifier) {
+      bytes += sizeOf(((HasIdentifier) entity).namespace());
+    }
+    return bytes;
+  }
+
+  private static long sizeOf(Object value) {
+    if (value == null || value instanceof Enum) {
+      return 0;
+    } else if (value instanceof String) {
+      return stringSize((String) value);
+    } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+      return BOXED_SIZE;
+    } else if (value instanceof Instant) {
+      return INSTANT_SIZE;
+    } else if (value instanceof Entity) {
+      return estimateSize((Entity) value);
+    } else if (value instanceof Map) {
+      return mapSize((Map<?, ?>) value);
+    } else if (value instanceof Collection) {
+      long bytes = collectionSize(((Collection<?>) value).size());
+      for (Object element : (Collection<?>) value) {
+        bytes += sizeOf(element);
+      }
+      return bytes;
+    } else if (value instanceof Object[]) {
+      Object[] array = (Object[]) value;
+      long bytes = align(ARRAY_HEADER + (long) REFERENCE * array.length);
+      for (Object element : array) {
+        bytes += sizeOf(element);
+      }
+      return bytes;
+    } else if (value instanceof Namespace) {
+      return namespaceSize((Namespace) value);
+    } else if (value instanceof NameIdentifier) {
+      NameIdentifier ident = (NameIdentifier) value;
+      return align(OBJECT_HEADER + 2 * REFERENCE)
+          + namespaceSize(ident.namespace())
+          + stringSize(ident.name());
+    } else if (value instanceof Type) {
+      // Primitive types are small, mostly shared singletons, and the size of a complex type grows
+      // with its string representation
+      return value instanceof Type.PrimitiveType
+          ? BOXED_SIZE
+          : DEFAULT_OBJECT_SIZE + stringSize(((Type) value).simpleString());
+    } else if (value instanceof SecurableObject) {
+      SecurableObject object = (SecurableObject) value;
+      return DEFAULT_OBJECT_SIZE
+          + stringSize(object.fullName())
+          + collectionSize(object.privileges().size());
+    }
+
+    return DEFAULT_OBJECT_SIZE;
+  }
+
+  private static long stringSize(String value) {
+    boolean latin1 = true;
+    for (int i = 0; i < value.length() && latin1; i++) {
+      latin1 = value.charAt(i) <= 0xFF;
+    }
+    long bytesPerChar = latin1 ? 1 : 2;
+    return STRING_SHELL + align(ARRAY_HEADER + bytesPerChar * value.length());
+  }
+
+  private static long mapSize(Map<?, ?> map) {
+    long capacity = Long.highestOneBit(Math.max(1, (long) (map.size() / 0.75f)) * 2 - 1);
+    long bytes = MAP_SHELL + align(ARRAY_HEADER + REFERENCE * capacity);
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      bytes += MAP_ENTRY + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+    }
+    return bytes;
+  }
+
+  private static long namespaceSize(Namespace namespace) {
+    long bytes =
+        align(OBJECT_HEADER + REFERENCE)
+            + align(ARRAY_HEADER + (long) REFERENCE * namespace.length());
+    for (int i = 0; i < namespace.length(); i++) {
+      bytes += stringSize(namespace.level(i));
+    }
+    return bytes;
+  }
+
+  private static long collectionSize(int size) {
+    return COLLECTION_SHELL + align(ARRAY_HEADER + (long) REFERENCE * size);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
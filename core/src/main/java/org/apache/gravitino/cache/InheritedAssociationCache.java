@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * A cache of the effective associations, like tags or policies, of the metadata objects. The
+ * effective associations of an object are computed by merging its own associations with the cached
+ * effective associations of its parent, so resolving the objects under the same parent only looks
+ * up the associations of each object itself.
+ *
+ * <p>Changing the associations of an object, or renaming or dropping it, invalidates the cached
+ * entries of the object and all its descendants.
+ *
+ * @param <T> The type of the associated entity.
+ */
+public class InheritedAssociationCache<T> {
+
+  // The name of the root node of a metalake in the index, the parent of the root level objects.
+  private static final String ROOT = "";
+
+  private final Cache<Pair<String, MetadataObject>, EffectiveAssociations<T>> cache;
+  private final Function<T, String> nameExtractor;
+  private final boolean enabled;
+
+  // Indexes the cached objects by metalake and full name, and links each full name to the ones of
+  // its children, so an invalidation only visits the object and its descendants. The nodes are
+  // only changed inside the atomic operations of the map, an invalidation reads a node after
+  // removing it from the map.
+  private final ConcurrentHashMap<Pair<String, String>, IndexNode> index =
+      new ConcurrentHashMap<>();
+
+  // Bumped by every invalidation, a loaded entry is only cached if no invalidation happened while
+  // it was being loaded, otherwise it may have been computed from the invalidated associations.
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Creates a cache configured by the server configuration.
+   *
+   * @param config The server configuration.
+   * @param nameExtractor The function to extract the name of an associated entity.
+   */
+  public InheritedAssociationCache(Config config, Function<T, String> nameExtractor) {
+    this(
+        config.get(Configs.INHERITED_ASSOCIATION_CACHE_MAX_ENTRIES),
+        config.get(Configs.INHERITED_ASSOCIATION_CACHE_EXPIRATION_TIME),
+        nameExtractor);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxEntries The max number of the cached metadata objects, 0 disables the cache.
+   * @param expireTimeInMs The time-to-live of the cached entries in milliseconds.
+   * @param nameExtractor The function to extract the name of an associated entity.
+   */
+  public InheritedAssociationCache(
+      long maxEntries, long expireTimeInMs, Function<T, String> nameExtractor) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireTimeInMs, TimeUnit.MILLISECONDS)
+            .removalListener(this::onRemoval)
+            .build();
+    this.nameExtractor = nameExtractor;
+    this.enabled = maxEntries > 0;
+  }
+
+  /**
+   * Gets the effective associations of a metadata object, loading the ones missing in the cache
+   * for the object and its parents.
+   *
+   * @param metalake The name of the metalake.
+   * @param object The metadata object.
+   * @param ownLoader The function to load the associations of an object itself.
+   * @return The effective associations of the object.
+   */
+  public EffectiveAssociations<T> get(
+      String metalake, MetadataObject object, Function<MetadataObject, List<T>> ownLoader) {
+    Pair<String, MetadataObject> key = Pair.of(metalake, object);
+    EffectiveAssociations<T> cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    long loadingGeneration = generation.get();
+    MetadataObject parent = MetadataObjects.parent(object);
+    EffectiveAssociations<T> parentAssociations =
+        parent == null ? null : get(metalake, parent, ownLoader);
+    EffectiveAssociations<T> associations = merge(ownLoader.apply(object), parentAssociations);
+
+    if (enabled && generation.get() == loadingGeneration) {
+      // Index the object before caching it so a concurrent invalidation either finds the entry or
+      // bumps the generation before it is checked again.
+      index(metalake, object);
+      cache.put(key, associations);
+      // The removal of an expired entry of the same key may have unindexed the object meanwhile
+      index(metalake, object);
+      if (generation.get() != loadingGeneration && cache.asMap().remove(key, associations)) {
+        unindex(key);
+      }
+    }
+    return associations;
+  }
+
+  /**
+   * Invalidates the cached entries of a metadata object and all its descendants.
+   *
+   * @param metalake The name of the metalake.
+   * @param object The metadata object.
+   */
+  public void invalidate(String metalake, MetadataObject object) {
+    invalidate(metalake, object.fullName());
+  }
+
+  /**
+   * Invalidates the cached entries of the metadata object identified by a name identifier
+   * including the metalake, and all its descendants.
+   *
+   * @param ident The name identifier of the metadata object, or of the metalake.
+   */
+  public void invalidate(NameIdentifier ident) {
+    String[] levels = ident.namespace().isEmpty() ? new String[0] : ident.namespace().levels();
+    if (levels.length == 0) {
+      invalidateMetalake(ident.name());
+      return;
+    }
+
+    StringBuilder fullName = new StringBuilder();
+    for (int i = 1; i < levels.length; i++) {
+      fullName.append(levels[i]).append('.');
+    }
+    invalidate(levels[0], fullName.append(ident.name()).toString());
+  }
+
+  /**
+   * Invalidates all the cached entries of a metalake.
+   *
+   * @param metalake The name of the metalake.
+   */
+  public void invalidateMetalake(String metalake) {
+    invalidate(metalake, ROOT);
+  }
+
+  /** Invalidates all the cached entries. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    index.clear();
+    cache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  @VisibleForTesting
+  int indexSize() {
+    return index.size();
+  }
+
+  private void invalidate(String metalake, String fullName) {
+    generation.incrementAndGet();
+    IndexNode node = index.remove(Pair.of(metalake, fullName));
+    if (node == null) {
+      return;
+    }
+
+    if (node.parent != null) {
+      unlink(metalake, node.parent, fullName);
+    }
+    invalidate(metalake, node);
+  }
+
+  private void invalidate(String metalake, IndexNode node) {
+    node.objects.forEach(object -> cache.invalidate(Pair.of(metalake, object)));
+    for (String child : node.children) {
+      IndexNode childNode = index.remove(Pair.of(metalake, child));
+      if (childNode != null) {
+        invalidate(metalake, childNode);
+      }
+    }
+  }
+
+  private void index(String metalake, MetadataObject object) {
+    MetadataObject parent = MetadataObjects.parent(object);
+    updateNode(metalake, object.fullName(), parentName(parent), node -> node.objects.add(object));
+
+    String child = object.fullName();
+    while (parent != null) {
+      MetadataObject current = parent;
+      parent = MetadataObjects.parent(current);
+      String linked = child;
+      updateNode(
+          metalake, current.fullName(), parentName(parent), node -> node.children.add(linked));
+      child = current.fullName();
+    }
+    String top = child;
+    updateNode(metalake, ROOT, null, node -> node.children.add(top));
+  }
+
+  private void onRemoval(
+      Pair<String, MetadataObject> key, EffectiveAssociations<T> value, RemovalCause cause) {
+    // The explicitly removed entries are unindexed by the invalidation
+    if (cause != RemovalCause.EXPLICIT && cause != RemovalCause.REPLACED) {
+      unindex(key);
+    }
+  }
+
+  private void unindex(Pair<String, MetadataObject> key) {
+    String metalake = key.getLeft();
+    String name = key.getRight().fullName();
+    index.computeIfPresent(
+        Pair.of(metalake, name),
+        (k, node) -> {
+          // The object may have been cached again since the entry was removed
+          if (!cache.asMap().containsKey(key)) {
+            node.objects.remove(key.getRight());
+          }
+          return node;
+        });
+    removeIfEmpty(metalake, name);
+  }
+
+  private void updateNode(
+      String metalake, String name, String parentName, Consumer<IndexNode> update) {
+    index.compute(
+        Pair.of(metalake, name),
+        (k, node) -> {
+          IndexNode updated = node == null ? new IndexNode(parentName) : node;
+          update.accept(updated);
+          return updated;
+        });
+  }
+
+  private void unlink(String metalake, String parentName, String child) {
+    index.computeIfPresent(
+        Pair.of(metalake, parentName),
+        (k, node) -> {
+          // The child may have been indexed again since it was removed
+          if (!index.containsKey(Pair.of(metalake, child))) {
+            node.children.remove(child);
+          }
+          return node;
+        });
+    removeIfEmpty(metalake, parentName);
+  }
+
+  // Removes the node of a full name once neither objects nor children are indexed under it, and
+  // unlinks it from its parent, which may leave the parent empty in turn.
+  private void removeIfEmpty(String metalake, String name) {
+    AtomicReference<IndexNode> removed = new AtomicReference<>();
+    index.computeIfPresent(
+        Pair.of(metalake, name),
+        (k, node) -> {
+          if (!node.objects.isEmpty() || !node.children.isEmpty()) {
+            return node;
+          }
+          removed.set(node);
+          return null;
+        });
+    if (removed.get() != null && removed.get().parent != null) {
+      unlink(metalake, removed.get().parent, name);
+    }
+  }
+
+  private static String parentName(MetadataObject parent) {
+    return parent == null ? ROOT : parent.fullName();
+  }
+
+  private EffectiveAssociations<T> merge(List<T> own, EffectiveAssociations<T> parent) {
+    if (parent == null) {
+      return new EffectiveAssociations<>(own, ImmutableList.of());
+    }
+
+    Set<String> ownNames = own.stream().map(nameExtractor).collect(Collectors.toSet());
+    // The nearest association wins if the same entity is associated with several levels
+    Map<String, T> inherited = new LinkedHashMap<>();
+    Stream.concat(parent.own().stream(), parent.inherited().stream())
+        .filter(entity -> !ownNames.contains(nameExtractor.apply(entity)))
+        .forEach(entity -> inherited.putIfAbsent(nameExtractor.apply(entity), entity));
+    return new EffectiveAssociations<>(own, ImmutableList.copyOf(inherited.values()));
+  }
+
+  private static class IndexNode {
+    // The full name of the parent, null for the root of a metalake
+    private final String parent;
+    private final Set<MetadataObject> objects = new HashSet<>();
+    private final Set<String> children = new HashSet<>();
+
+    private IndexNode(String parent) {
+      this.parent = parent;
+    }
+  }
+}
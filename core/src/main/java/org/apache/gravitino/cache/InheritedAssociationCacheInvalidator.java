@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.OperationType;
+
+/**
+ * Invalidates the cached effective associations of the metadata objects which are renamed,
+ * altered or dropped, and of all their descendants. The listener runs synchronously so the cache
+ * is invalidated before the operation returns.
+ */
+public class InheritedAssociationCacheInvalidator implements EventListenerPlugin {
+
+  private static final Set<OperationType> INVALIDATING_OPERATIONS =
+      ImmutableSet.of(
+          OperationType.ALTER_METALAKE,
+          OperationType.DROP_METALAKE,
+          OperationType.ALTER_CATALOG,
+          OperationType.DROP_CATALOG,
+          OperationType.ALTER_SCHEMA,
+          OperationType.DROP_SCHEMA,
+          OperationType.ALTER_TABLE,
+          OperationType.RENAME_TABLE,
+          OperationType.DROP_TABLE,
+          OperationType.PURGE_TABLE,
+          OperationType.ALTER_FILESET,
+          OperationType.DROP_FILESET,
+          OperationType.ALTER_TOPIC,
+          OperationType.DROP_TOPIC,
+          OperationType.ALTER_VIEW,
+          OperationType.RENAME_VIEW,
+          OperationType.DROP_VIEW,
+          OperationType.ALTER_MODEL,
+          OperationType.DELETE_MODEL);
+
+  private final List<InheritedAssociationCache<?>> caches;
+
+  public InheritedAssociationCacheInvalidator(InheritedAssociationCache<?>... caches) {
+    this.caches = ImmutableList.copyOf(caches);
+  }
+
+  @Override
+  public void init(Map<String, String> properties) throws RuntimeException {}
+
+  @Override
+  public void start() throws RuntimeException {}
+
+  @Override
+  public void stop() throws RuntimeException {
+    caches.forEach(InheritedAssociationCache::invalidateAll);
+  }
+
+  @Override
+  public void onPostEvent(Event postEvent) throws RuntimeException {
+    if (postEvent.identifier() != null
+        && INVALIDATING_OPERATIONS.contains(postEvent.operationType())) {
+      caches.forEach(cache -> cache.invalidate(postEvent.identifier()));
+    }
+  }
+}
@@ -102,6 +102,7 @@ import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.ViewCatalog;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tracing.Traced;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -144,6 +145,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
           });
     }
 
+    @Traced
     public <R> R doWithTableOps(ThrowableFunction<TableCatalog, R> fn) throws Exception {
       return classLoader.withClassLoader(
           cl -> {
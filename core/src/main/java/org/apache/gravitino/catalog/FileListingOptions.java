@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+
+/**
+ * The options of listing the files in a fileset page by page. A listing starts without a page
+ * token, and continues with the token returned by the previous page until no token is returned.
+ * The other options must be the same for all the pages of a listing.
+ */
+public class FileListingOptions {
+
+  /** The default number of files in a page. */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  /** The max number of files in a page. */
+  public static final int MAX_PAGE_SIZE = 10000;
+
+  private final int pageSize;
+  @Nullable private final String pageToken;
+  private final boolean recursive;
+  @Nullable private final String prefix;
+  @Nullable private final String glob;
+
+  private FileListingOptions(
+      int pageSize, String pageToken, boolean recursive, String prefix, String glob) {
+    Preconditions.checkArgument(
+        pageSize > 0 && pageSize <= MAX_PAGE_SIZE,
+        "Page size must be positive and not greater than %s, got %s",
+        MAX_PAGE_SIZE,
+        pageSize);
+    this.pageSize = pageSize;
+    this.pageToken = pageToken;
+    this.recursive = recursive;
+    this.prefix = prefix;
+    this.glob = glob;
+  }
+
+  /**
+   * Creates a new builder of the options.
+   *
+   * @return The builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return The max number of files in the page.
+   */
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /**
+   * @return The token returned by the previous page, or null for the first page.
+   */
+  @Nullable
+  public String pageToken() {
+    return pageToken;
+  }
+
+  /**
+   * @return Whether to list the files under the sub directories recursively, only files are
+   *     returned in a recursive listing.
+   */
+  public boolean recursive() {
+    return recursive;
+  }
+
+  /**
+   * @return The prefix the path relative to the listed directory must start with, or null.
+   */
+  @Nullable
+  public String prefix() {
+    return prefix;
+  }
+
+  /**
+   * @return The glob pattern the path relative to the listed directory must match, or null.
+   */
+  @Nullable
+  public String glob() {
+    return glob;
+  }
+
+  /** The builder of {@link FileListingOptions}. */
+  public static class Builder {
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private String pageToken;
+    private boolean recursive;
+    private String prefix;
+    private String glob;
+
+    private Builder() {}
+
+    /**
+     * @param pageSize The max number of files in the page.
+     * @return The builder.
+     */
+    public Builder withPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * @param pageToken The token returned by the previous page.
+     * @return The builder.
+     */
+    public Builder withPageToken(String pageToken) {
+      this.pageToken = pageToken;
+      return this;
+    }
+
+    /**
+     * @param recursive Whether to list the files under the sub directories recursively.
+     * @return The builder.
+     */
+    public Builder withRecursive(boolean recursive) {
+      this.recursive = recursive;
+      return this;
+    }
+
+    /**
+     * @param prefix The prefix the relative path must start with.
+     * @return The builder.
+     */
+    public Builder withPrefix(String prefix) {
+      this.prefix = prefix;
+      return this;
+    }
+
+    /**
+     * @param glob The glob pattern the relative path must match.
+     * @return The builder.
+     */
+    public Builder withGlob(String glob) {
+      this.glob = glob;
+      return this;
+    }
+
+    /**
+     * @return The options.
+     */
+    public FileListingOptions build() {
+      return new FileListingOptions(pageSize, pageToken, recursive, prefix, glob);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import javax.annotation.Nullable;
+import org.apache.gravitino.file.FileInfo;
+
+/** A page of the files listed in a fileset. */
+public class FileListingPage {
+
+  private final FileInfo[] files;
+  @Nullable private final String nextPageToken;
+
+  /**
+   * Creates a page of files.
+   *
+   * @param files The files in the page.
+   * @param nextPageToken The token to list the next page, or null if it's the last page.
+   */
+  public FileListingPage(FileInfo[] files, @Nullable String nextPageToken) {
+    this.files = files;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * @return The files in the page.
+   */
+  public FileInfo[] files() {
+    return files;
+  }
+
+  /**
+   * @return The token to list the next page, or null if it's the last page.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+}
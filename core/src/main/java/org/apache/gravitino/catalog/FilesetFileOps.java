@@ -44,4 +44,22 @@ public interface FilesetFileOps {
     throw new UnsupportedOperationException(
         "listFiles not supported by " + getClass().getSimpleName());
   }
+
+  /**
+   * List a page of the files in a fileset with a specific location name and sub path. Unlike
+   * {@link #listFiles(NameIdentifier, String, String)}, the files of a large directory are
+   * returned in pages, so the whole directory is never held in memory.
+   *
+   * @param ident A fileset identifier.
+   * @param locationName The location name. If null, the default location will be used.
+   * @param subPath The sub path under the fileset.
+   * @param options The options of the listing.
+   * @return A page of file information objects.
+   */
+  default FileListingPage listFiles(
+      NameIdentifier ident, String locationName, String subPath, FileListingOptions options)
+      throws NoSuchFilesetException, IOException {
+    throw new UnsupportedOperationException(
+        "listFiles with pagination not supported by " + getClass().getSimpleName());
+  }
 }
@@ -60,6 +60,13 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return dispatcher.listFiles(normalizeCaseSensitive(ident), locationName, subPath);
   }
 
+  @Override
+  public FileListingPage listFiles(
+      NameIdentifier ident, String locationName, String subPath, FileListingOptions options)
+      throws NoSuchFilesetException, IOException {
+    return dispatcher.listFiles(normalizeCaseSensitive(ident), locationName, subPath, options);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     // The constraints of the name spec may be more strict than underlying catalog,
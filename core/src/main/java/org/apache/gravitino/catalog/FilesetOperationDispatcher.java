@@ -114,6 +114,23 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 NoSuchFilesetException.class));
   }
 
+  @Override
+  public FileListingPage listFiles(
+      NameIdentifier ident, String locationName, String subPath, FileListingOptions options)
+      throws NoSuchFilesetException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.doWithFilesetFileOps(
+                        f -> f.listFiles(ident, locationName, subPath, options)),
+                NoSuchFilesetException.class));
+  }
+
   /**
    * Create a fileset metadata in the catalog.
    *
@@ -23,6 +23,8 @@ import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 
 /**
  * {@code PartitionDispatcher} interface is a wrapper around the {@link SupportsPartitions}
@@ -47,6 +49,28 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List a page of the names of the partitions matching the filter in the options, ordered by the
+   * partition name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param options The filter and the page to list.
+   * @return The page of partition names.
+   */
+  PartitionPage<String> listPartitionNames(
+      NameIdentifier tableIdent, PartitionListingOptions options);
+
+  /**
+   * List a page of the partitions matching the filter in the options, ordered by the partition
+   * name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param options The filter and the page to list.
+   * @return The page of partitions.
+   */
+  PartitionPage<Partition> listPartitions(
+      NameIdentifier tableIdent, PartitionListingOptions options);
+
   /**
    * Get a partition by name from the table.
    *
@@ -23,11 +23,14 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveO
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 
 public class PartitionNormalizeDispatcher implements PartitionDispatcher {
   private final CatalogManager catalogManager;
@@ -61,6 +64,36 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public PartitionPage<String> listPartitionNames(
+      NameIdentifier tableIdent, PartitionListingOptions options) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    PartitionPage<String> page =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities), options);
+    return new PartitionPage<>(
+        page.elements().stream()
+            .map(
+                partitionName ->
+                    applyCaseSensitiveOnName(
+                        Capability.Scope.PARTITION, partitionName, capabilities))
+            .collect(Collectors.toList()),
+        page.nextPageToken());
+  }
+
+  @Override
+  public PartitionPage<Partition> listPartitions(
+      NameIdentifier tableIdent, PartitionListingOptions options) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    PartitionPage<Partition> page =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities), options);
+    return new PartitionPage<>(
+        Arrays.asList(
+            applyCaseSensitive(page.elements().toArray(new Partition[0]), capabilities)),
+        page.nextPageToken());
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
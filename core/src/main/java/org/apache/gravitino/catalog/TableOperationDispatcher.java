@@ -63,6 +63,7 @@ import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.indexes.Indexes;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tracing.Traced;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.slf4j.Logger;
@@ -93,6 +94,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    * @throws NoSuchSchemaException If the specified schema does not exist.
    */
   @Override
+  @Traced
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
     return TreeLockUtils.doWithTreeLock(
         NameIdentifier.of(namespace.levels()),
@@ -112,6 +114,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    * @throws NoSuchTableException If the specified table does not exist.
    */
   @Override
+  @Traced
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     EntityCombinedTable entityCombinedTable =
         TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
@@ -154,6 +157,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    * @throws TableAlreadyExistsException If a table with the same name already exists in the schema.
    */
   @Override
+  @Traced
   public Table createTable(
       NameIdentifier ident,
       Column[] columns,
@@ -196,6 +200,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    * @throws IllegalArgumentException If an unsupported or invalid change is specified.
    */
   @Override
+  @Traced
   public Table alterTable(NameIdentifier ident, TableChange... changes)
       throws NoSuchTableException, IllegalArgumentException {
     validateAlterProperties(ident, HasPropertyMetadata::tablePropertiesMetadata, changes);
@@ -319,6 +324,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    * @throws RuntimeException If an error occurs while dropping the table.
    */
   @Override
+  @Traced
   public boolean dropTable(NameIdentifier ident) {
     NameIdentifier schemaIdentifier = getSchemaIdentifier(ident);
     return TreeLockUtils.doWithTreeLock(
@@ -371,6 +377,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    * @throws RuntimeException If an error occurs while purging the table.
    */
   @Override
+  @Traced
   public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
     NameIdentifier schemaIdentifier = getSchemaIdentifier(ident);
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
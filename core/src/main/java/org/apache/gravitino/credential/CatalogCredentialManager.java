@@ -19,16 +19,25 @@
 
 package org.apache.gravitino.credential;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.credential.config.CredentialConfig;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CredentialMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Manage lifetime of the credential provider in one catalog, dispatch credential request to the
  * corresponding credential provider.
+ *
+ * <p>The vended credentials are cached and renewed in background before they expire. A cached path
+ * based credential is also reused for the requests of its sub-paths from the same user, so one
+ * credential serves the files of a fileset or a table.
  */
 public class CatalogCredentialManager implements Closeable {
 
@@ -38,17 +47,52 @@ public class CatalogCredentialManager implements Closeable {
 
   private final String catalogName;
   private final Map<String, CredentialProvider> credentialProviders;
+  private final CredentialMetricsSource metricsSource;
+  // Null if the prefix scoped credential reuse is disabled.
+  private final CredentialScopeIndex scopeIndex;
 
   public CatalogCredentialManager(String catalogName, Map<String, String> catalogProperties) {
     this.catalogName = catalogName;
     this.credentialProviders = CredentialUtils.loadCredentialProviders(catalogProperties);
-    this.credentialCache = new CredentialCache();
-    credentialCache.initialize(catalogProperties);
+    this.metricsSource = new CredentialMetricsSource(catalogName);
+    CredentialConfig credentialConfig = new CredentialConfig(catalogProperties);
+    this.scopeIndex =
+        credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_PREFIX_REUSE)
+            ? new CredentialScopeIndex()
+            : null;
+    this.credentialCache = new CredentialCache<>();
+    credentialCache.initialize(
+        catalogProperties,
+        metricsSource,
+        cacheKey -> {
+          if (scopeIndex != null) {
+            scopeIndex.remove(cacheKey);
+          }
+        });
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   public Credential getCredential(String credentialType, CredentialContext context) {
+    metricsSource.requests().inc();
     CredentialCacheKey credentialCacheKey = new CredentialCacheKey(credentialType, context);
-    return credentialCache.getCredential(credentialCacheKey, cacheKey -> doGetCredential(cacheKey));
+    if (scopeIndex != null) {
+      Credential credential =
+          credentialCache.getCredentialIfPresent(credentialCacheKey, this::doGetCredential);
+      if (credential != null) {
+        return credential;
+      }
+      credential = getScopedCredential(credentialCacheKey);
+      if (credential != null) {
+        metricsSource.prefixHits().inc();
+        return credential;
+      }
+    }
+    return credentialCache.getCredential(credentialCacheKey, this::doGetCredential);
   }
 
   // Get credential with only one credential provider.
@@ -62,8 +106,17 @@ public class CatalogCredentialManager implements Closeable {
     return getCredential(credentialProviders.keySet().iterator().next(), context);
   }
 
+  @VisibleForTesting
+  CredentialMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
   @Override
   public void close() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
     credentialProviders
         .values()
         .forEach(
@@ -92,6 +145,18 @@ public class CatalogCredentialManager implements Closeable {
     Preconditions.checkState(
         credentialProviders.containsKey(credentialType),
         String.format("Credential %s not found", credentialType));
-    return credentialProviders.get(credentialType).getCredential(context);
+    Credential credential = credentialProviders.get(credentialType).getCredential(context);
+    if (credential != null && scopeIndex != null && context instanceof PathBasedCredentialContext) {
+      scopeIndex.add(credentialCacheKey);
+    }
+    return credential;
+  }
+
+  private Credential getScopedCredential(CredentialCacheKey credentialCacheKey) {
+    CredentialCacheKey scopedCacheKey = scopeIndex.findCovering(credentialCacheKey);
+    if (scopedCacheKey == null) {
+      return null;
+    }
+    return credentialCache.getCredentialIfPresent(scopedCacheKey, this::doGetCredential);
   }
 }
@@ -16,27 +16,46 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-
 package org.apache.gravitino.credential;
 
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.credential.config.CredentialConfig;
+import org.apache.gravitino.metrics.source.CredentialMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Caches the vended credentials until a ratio of their lifetime. A cached credential is renewed in
+ * background once it has been in the cache for a ratio of its time in the cache, so the requests
+ * keep being served from the cache while the credential provider is called. The concurrent
+ * requests of a missing credential share one call to the credential provider.
+ */
 public class CredentialCache<T> implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CredentialCache.class);
 
+  // Shared by the credential caches of all catalogs, the renewal only happens for the credentials
+  // still in use, so a small pool is enough.
+  private static final ThreadPoolExecutor REFRESH_EXECUTOR = newRefreshExecutor();
+
   // Calculates the credential expire time in the cache.
-  static class CredentialExpireTimeCalculator<T> implements Expiry<T, Credential> {
+  static class CredentialExpireTimeCalculator<T> implements Expiry<T, CachedCredential> {
 
     private double credentialCacheExpireRatio;
 
@@ -46,49 +65,110 @@ public class CredentialCache<T> implements Closeable {
 
     // Set expire time after add a credential in the cache.
     @Override
-    public long expireAfterCreate(T key, Credential credential, long currentTime) {
-      long credentialExpireTime = credential.expireTimeInMs();
-      long timeToExpire = credentialExpireTime - System.currentTimeMillis();
-      if (timeToExpire <= 0) {
-        return 0;
-      }
-
-      timeToExpire = (long) (timeToExpire * credentialCacheExpireRatio);
-      return TimeUnit.MILLISECONDS.toNanos(timeToExpire);
+    public long expireAfterCreate(T key, CachedCredential cachedCredential, long currentTime) {
+      return TimeUnit.MILLISECONDS.toNanos(
+          timeInCache(cachedCredential.credential(), credentialCacheExpireRatio));
     }
 
-    // Not change expire time after update credential, this should not happen.
+    // The credential is replaced by a renewed one, which has a new expire time.
     @Override
-    public long expireAfterUpdate(T key, Credential value, long currentTime, long currentDuration) {
-      return currentDuration;
+    public long expireAfterUpdate(
+        T key, CachedCredential value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
     }
 
     // Not change expire time after read credential.
     @Override
-    public long expireAfterRead(T key, Credential value, long currentTime, long currentDuration) {
+    public long expireAfterRead(
+        T key, CachedCredential value, long currentTime, long currentDuration) {
       return currentDuration;
     }
   }
 
-  private Cache<T, Credential> credentialCache;
+  static class CachedCredential {
+    private final Credential credential;
+    private final long refreshTimeInMs;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    CachedCredential(Credential credential, long refreshTimeInMs) {
+      this.credential = credential;
+      this.refreshTimeInMs = refreshTimeInMs;
+    }
 
-  public void initialize(Map<String, String> catalogProperties) {
+    Credential credential() {
+      return credential;
+    }
+  }
+
+  private volatile Cache<T, CachedCredential> credentialCache;
+  private double cacheExpireRatio;
+  private double cacheRefreshRatio;
+  private CredentialMetricsSource metricsSource;
+
+  /**
+   * Initialize the credential cache.
+   *
+   * @param catalogProperties The catalog properties containing the credential cache configurations.
+   * @param metricsSource The metrics source to record the credential vending.
+   * @param removalListener Called when a credential is removed from the cache, not called when a
+   *     credential is replaced by the renewed one.
+   */
+  public void initialize(
+      Map<String, String> catalogProperties,
+      CredentialMetricsSource metricsSource,
+      Consumer<T> removalListener) {
     CredentialConfig credentialConfig = new CredentialConfig(catalogProperties);
     long cacheSize = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_MAX_SIZE);
-    double cacheExpireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.cacheExpireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.cacheRefreshRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_REFRESH_RATIO);
+    this.metricsSource = metricsSource;
 
     this.credentialCache =
         Caffeine.newBuilder()
-            .expireAfter(new CredentialExpireTimeCalculator(cacheExpireRatio))
+            .expireAfter(new CredentialExpireTimeCalculator<T>(cacheExpireRatio))
             .maximumSize(cacheSize)
             .removalListener(
-                (cacheKey, credential, c) ->
-                    LOG.debug("Credential expire, cache key: {}.", cacheKey))
+                (T cacheKey, CachedCredential credential, RemovalCause cause) -> {
+                  LOG.debug("Credential expire, cache key: {}, cause: {}.", cacheKey, cause);
+                  if (cause != RemovalCause.REPLACED && cacheKey != null) {
+                    removalListener.accept(cacheKey);
+                  }
+                })
             .build();
   }
 
+  /**
+   * Get the credential from the cache, vend it by the credential supplier if it's not cached.
+   *
+   * @param cacheKey The cache key of the credential.
+   * @param credentialSupplier The function to vend the credential.
+   * @return The credential, null if the credential supplier returns null.
+   */
   public Credential getCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
-    return credentialCache.get(cacheKey, key -> credentialSupplier.apply(cacheKey));
+    CachedCredential cachedCredential =
+        credentialCache.get(cacheKey, key -> loadCredential(key, credentialSupplier));
+    if (cachedCredential == null) {
+      return null;
+    }
+    refreshIfNeeded(cacheKey, cachedCredential, credentialSupplier);
+    return cachedCredential.credential();
+  }
+
+  /**
+   * Get the credential only if it's cached.
+   *
+   * @param cacheKey The cache key of the credential.
+   * @param credentialSupplier The function to renew the credential when it's time to.
+   * @return The cached credential, null if it's not cached.
+   */
+  public Credential getCredentialIfPresent(
+      T cacheKey, Function<T, Credential> credentialSupplier) {
+    CachedCredential cachedCredential = credentialCache.getIfPresent(cacheKey);
+    if (cachedCredential == null) {
+      return null;
+    }
+    refreshIfNeeded(cacheKey, cachedCredential, credentialSupplier);
+    return cachedCredential.credential();
   }
 
   @Override
@@ -98,4 +178,83 @@ public class CredentialCache<T> implements Closeable {
       credentialCache = null;
     }
   }
+
+  @VisibleForTesting
+  static long timeInCache(Credential credential, double cacheExpireRatio) {
+    long timeToExpire = credential.expireTimeInMs() - System.currentTimeMillis();
+    if (timeToExpire <= 0) {
+      return 0;
+    }
+    return (long) (timeToExpire * cacheExpireRatio);
+  }
+
+  private CachedCredential loadCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
+    metricsSource.cacheMisses().inc();
+    Credential credential = vendCredential(cacheKey, credentialSupplier);
+    return credential == null ? null : newCachedCredential(credential);
+  }
+
+  private Credential vendCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
+    try (Timer.Context ignored = metricsSource.vendLatency().time()) {
+      return credentialSupplier.apply(cacheKey);
+    }
+  }
+
+  private CachedCredential newCachedCredential(Credential credential) {
+    long timeInCache = timeInCache(credential, cacheExpireRatio);
+    long refreshTimeInMs =
+        cacheRefreshRatio > 0 && timeInCache > 0
+            ? System.currentTimeMillis() + (long) (timeInCache * cacheRefreshRatio)
+            : Long.MAX_VALUE;
+    return new CachedCredential(credential, refreshTimeInMs);
+  }
+
+  private void refreshIfNeeded(
+      T cacheKey, CachedCredential cachedCredential, Function<T, Credential> credentialSupplier) {
+    if (System.currentTimeMillis() < cachedCredential.refreshTimeInMs
+        || !cachedCredential.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      REFRESH_EXECUTOR.execute(() -> refresh(cacheKey, cachedCredential, credentialSupplier));
+    } catch (RejectedExecutionException e) {
+      // Retry by the next request, the credential is vended synchronously once it expires anyway.
+      LOG.debug("Credential renewal is rejected, cache key: {}.", cacheKey);
+      cachedCredential.refreshing.set(false);
+    }
+  }
+
+  private void refresh(
+      T cacheKey, CachedCredential cachedCredential, Function<T, Credential> credentialSupplier) {
+    try {
+      Credential credential = vendCredential(cacheKey, credentialSupplier);
+      Cache<T, CachedCredential> cache = credentialCache;
+      if (credential != null && cache != null) {
+        cache.asMap().replace(cacheKey, cachedCredential, newCachedCredential(credential));
+        metricsSource.refreshes().inc();
+        return;
+      }
+    } catch (Exception e) {
+      metricsSource.refreshFailures().inc();
+      LOG.warn("Failed to renew credential, cache key: {}.", cacheKey, e);
+    }
+    cachedCredential.refreshing.set(false);
+  }
+
+  private static ThreadPoolExecutor newRefreshExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            4,
+            4,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(1000),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("credential-refresh-%d")
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
 }
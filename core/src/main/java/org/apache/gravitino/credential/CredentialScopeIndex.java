@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.credential;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Indexes the cached path based credentials by credential type and user, to find a cached
+ * credential whose paths are the parents of the requested paths.
+ */
+class CredentialScopeIndex {
+
+  private final ConcurrentHashMap<Pair<String, String>, Set<CredentialCacheKey>> cacheKeys =
+      new ConcurrentHashMap<>();
+
+  void add(CredentialCacheKey cacheKey) {
+    cacheKeys.compute(
+        owner(cacheKey),
+        (owner, keys) -> {
+          Set<CredentialCacheKey> newKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+          newKeys.add(cacheKey);
+          return newKeys;
+        });
+  }
+
+  void remove(CredentialCacheKey cacheKey) {
+    cacheKeys.computeIfPresent(
+        owner(cacheKey),
+        (owner, keys) -> {
+          keys.remove(cacheKey);
+          return keys.isEmpty() ? null : keys;
+        });
+  }
+
+  /**
+   * Find the cache key of a credential that covers all the paths of the requested one.
+   *
+   * @param cacheKey The cache key of the requested credential.
+   * @return The cache key of the covering credential, null if there is none.
+   */
+  CredentialCacheKey findCovering(CredentialCacheKey cacheKey) {
+    if (!(cacheKey.getCredentialContext() instanceof PathBasedCredentialContext)) {
+      return null;
+    }
+
+    Set<CredentialCacheKey> keys = cacheKeys.get(owner(cacheKey));
+    if (keys == null) {
+      return null;
+    }
+    PathBasedCredentialContext context =
+        (PathBasedCredentialContext) cacheKey.getCredentialContext();
+    for (CredentialCacheKey key : keys) {
+      if (!key.equals(cacheKey)
+          && covers((PathBasedCredentialContext) key.getCredentialContext(), context)) {
+        return key;
+      }
+    }
+    return null;
+  }
+
+  static boolean covers(PathBasedCredentialContext scope, PathBasedCredentialContext context) {
+    // A read request is never served by a credential which could write
+    if (scope.getWritePaths().isEmpty() != context.getWritePaths().isEmpty()) {
+      return false;
+    }
+    return context.getWritePaths().stream().allMatch(path -> isCovered(path, scope.getWritePaths()))
+        && context.getReadPaths().stream()
+            .allMatch(
+                path ->
+                    isCovered(path, scope.getReadPaths())
+                        || isCovered(path, scope.getWritePaths()));
+  }
+
+  static boolean isCovered(String path, Set<String> parents) {
+    for (String parent : parents) {
+      String prefix = StringUtils.removeEnd(parent, "/");
+      if (!prefix.isEmpty() && (path.equals(prefix) || path.startsWith(prefix + "/"))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Pair<String, String> owner(CredentialCacheKey cacheKey) {
+    return Pair.of(cacheKey.getCredentialType(), cacheKey.getCredentialContext().getUserName());
+  }
+}
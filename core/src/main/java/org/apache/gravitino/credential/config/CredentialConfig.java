@@ -34,6 +34,8 @@ public class CredentialConfig extends Config {
 
   private static final long DEFAULT_CREDENTIAL_CACHE_MAX_SIZE = 10_000L;
   private static final double DEFAULT_CREDENTIAL_CACHE_EXPIRE_RATIO = 0.15d;
+  private static final double DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO = 0.8d;
+  private static final boolean DEFAULT_CREDENTIAL_CACHE_PREFIX_REUSE = true;
 
   public static final Map<String, PropertyEntry<?>> CREDENTIAL_PROPERTY_ENTRIES =
       new ImmutableMap.Builder<String, PropertyEntry<?>>()
@@ -67,6 +69,27 @@ public class CredentialConfig extends Config {
                   DEFAULT_CREDENTIAL_CACHE_MAX_SIZE /* default value */,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+              PropertyEntry.doublePropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+                  "Ratio of the credential's time in the cache when Gravitino renews the credential "
+                      + "in background, 0 disables the background renewal.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_PREFIX_REUSE,
+              PropertyEntry.booleanPropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_PREFIX_REUSE,
+                  "Whether to reuse a cached credential of a parent path for the sub-paths.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_CACHE_PREFIX_REUSE /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
           .build();
 
   public static final ConfigEntry<List<String>> CREDENTIAL_PROVIDERS =
@@ -97,6 +120,28 @@ public class CredentialConfig extends Config {
           .longConf()
           .createWithDefault(DEFAULT_CREDENTIAL_CACHE_MAX_SIZE);
 
+  public static final ConfigEntry<Double> CREDENTIAL_CACHE_REFRESH_RATIO =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO)
+          .doc(
+              "Ratio of the credential's time in the cache when Gravitino renews the credential in "
+                  + "background, 0 disables the background renewal.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .doubleConf()
+          .checkValue(
+              ratio -> ratio >= 0 && ratio < 1,
+              "Ratio of the credential's time in the cache should greater than or equal to 0 "
+                  + "and less than 1.")
+          .createWithDefault(DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO);
+
+  public static final ConfigEntry<Boolean> CREDENTIAL_CACHE_PREFIX_REUSE =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_PREFIX_REUSE)
+          .doc(
+              "Whether to reuse a cached path based credential of the same user for the requests "
+                  + "of its sub-paths.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(DEFAULT_CREDENTIAL_CACHE_PREFIX_REUSE);
+
   public CredentialConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -28,6 +28,8 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerDispatcher;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -62,6 +64,13 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFiles(ident, locationName, subPath);
   }
 
+  @Override
+  public FileListingPage listFiles(
+      NameIdentifier ident, String locationName, String subPath, FileListingOptions options)
+      throws NoSuchFilesetException, IOException {
+    return dispatcher.listFiles(ident, locationName, subPath, options);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return dispatcher.loadFileset(ident);
@@ -17,11 +17,13 @@
 
 package org.apache.gravitino.hook;
 
+import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerDispatcher;
+import org.apache.gravitino.cache.EffectiveAssociations;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
 import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
 import org.apache.gravitino.meta.PolicyEntity;
@@ -110,6 +112,18 @@ public class PolicyHookDispatcher implements PolicyDispatcher {
     return dispatcher.listPolicyInfosForMetadataObject(metalake, metadataObject);
   }
 
+  @Override
+  public EffectiveAssociations<PolicyEntity> listEffectivePolicyInfosForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    return dispatcher.listEffectivePolicyInfosForMetadataObject(metalake, metadataObject);
+  }
+
+  @Override
+  public Map<MetadataObject, EffectiveAssociations<PolicyEntity>> listEffectivePolicyInfosForTables(
+      String metalake, MetadataObject schema) {
+    return dispatcher.listEffectivePolicyInfosForTables(metalake, schema);
+  }
+
   @Override
   public String[] associatePoliciesForMetadataObject(
       String metalake,
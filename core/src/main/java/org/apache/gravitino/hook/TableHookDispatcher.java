@@ -38,6 +38,7 @@ import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.tracing.Traced;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -54,16 +55,19 @@ public class TableHookDispatcher implements TableDispatcher {
   }
 
   @Override
+  @Traced
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
     return dispatcher.listTables(namespace);
   }
 
   @Override
+  @Traced
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     return dispatcher.loadTable(ident);
   }
 
   @Override
+  @Traced
   public Table createTable(
       NameIdentifier ident,
       Column[] columns,
@@ -91,6 +95,7 @@ public class TableHookDispatcher implements TableDispatcher {
   }
 
   @Override
+  @Traced
   public Table alterTable(NameIdentifier ident, TableChange... changes)
       throws NoSuchTableException, IllegalArgumentException {
     TableChange.RenameTable lastRenameChange = null;
@@ -115,6 +120,7 @@ public class TableHookDispatcher implements TableDispatcher {
   }
 
   @Override
+  @Traced
   public boolean dropTable(NameIdentifier ident) {
     List<String> locations =
         AuthorizationUtils.getMetadataObjectLocation(ident, Entity.EntityType.TABLE);
@@ -125,6 +131,7 @@ public class TableHookDispatcher implements TableDispatcher {
   }
 
   @Override
+  @Traced
   public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
     List<String> locations =
         AuthorizationUtils.getMetadataObjectLocation(ident, Entity.EntityType.TABLE);
@@ -23,6 +23,7 @@ import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerDispatcher;
+import org.apache.gravitino.cache.EffectiveAssociations;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagChange;
@@ -97,6 +98,18 @@ public class TagHookDispatcher implements TagDispatcher {
     return dispatcher.listTagsInfoForMetadataObject(metalake, metadataObject);
   }
 
+  @Override
+  public EffectiveAssociations<Tag> listEffectiveTagsForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    return dispatcher.listEffectiveTagsForMetadataObject(metalake, metadataObject);
+  }
+
+  @Override
+  public Map<MetadataObject, EffectiveAssociations<Tag>> listEffectiveTagsForTables(
+      String metalake, MetadataObject schema) {
+    return dispatcher.listEffectiveTagsForTables(metalake, schema);
+  }
+
   @Override
   public String[] associateTagsForMetadataObject(
       String metalake, MetadataObject metadataObject, String[] tagsToAdd, String[] tagsToRemove) {
@@ -21,6 +21,7 @@ package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -28,6 +29,7 @@ import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.FailureEvent;
 import org.apache.gravitino.listener.api.event.PreEvent;
 import org.apache.gravitino.listener.api.event.SupportsChangingPreEvent;
 
@@ -50,6 +52,9 @@ public class EventBus {
    */
   private final List<AsyncQueueListener> asyncQueueListeners;
 
+  /** Holds the post events of the threads deferring them, see {@link #deferPostEvents()}. */
+  private final ThreadLocal<List<Event>> deferredPostEvents = new ThreadLocal<>();
+
   /**
    * Constructs an EventBus with a predefined list of event listeners.
    *
@@ -78,13 +83,48 @@ public class EventBus {
     if (baseEvent instanceof PreEvent) {
       return dispatchAndTransformPreEvent((PreEvent) baseEvent);
     } else if (baseEvent instanceof Event) {
-      dispatchPostEvent((Event) baseEvent);
+      List<Event> deferred = deferredPostEvents.get();
+      if (deferred != null) {
+        deferred.add((Event) baseEvent);
+      } else {
+        dispatchPostEvent((Event) baseEvent);
+      }
       return Optional.empty();
     } else {
       throw new RuntimeException("Unknown event type:" + baseEvent.getClass().getSimpleName());
     }
   }
 
+  /**
+   * Defers the post events dispatched by the current thread until {@link
+   * #flushDeferredPostEvents(boolean)} is called, so the events of the operations applied in one
+   * transaction are dispatched together after the transaction ends. Pre-events are still dispatched
+   * immediately as they could reject the operations.
+   */
+  public void deferPostEvents() {
+    Preconditions.checkState(
+        deferredPostEvents.get() == null, "Post events are already deferred by current thread");
+    deferredPostEvents.set(new ArrayList<>());
+  }
+
+  /**
+   * Dispatches the post events deferred by the current thread and stops deferring.
+   *
+   * @param committed Whether the operations of the deferred events are committed. If not, only the
+   *     failure events are dispatched, as the other events describe the changes rolled back.
+   */
+  public void flushDeferredPostEvents(boolean committed) {
+    List<Event> events = deferredPostEvents.get();
+    deferredPostEvents.remove();
+    if (events == null) {
+      return;
+    }
+
+    events.stream()
+        .filter(event -> committed || event instanceof FailureEvent)
+        .forEach(this::dispatchPostEvent);
+  }
+
   public boolean isHighWatermark() {
     return asyncQueueListeners.stream().anyMatch(AsyncQueueListener::isHighWatermark);
   }
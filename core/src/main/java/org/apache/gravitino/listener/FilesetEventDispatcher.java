@@ -25,6 +25,8 @@ import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -104,6 +106,25 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     }
   }
 
+  @Override
+  public FileListingPage listFiles(
+      NameIdentifier ident, String locationName, String subPath, FileListingOptions options)
+      throws NoSuchFilesetException, IOException {
+    eventBus.dispatchEvent(
+        new ListFilesPreEvent(PrincipalUtils.getCurrentUserName(), ident, locationName, subPath));
+    try {
+      FileListingPage page = dispatcher.listFiles(ident, locationName, subPath, options);
+      eventBus.dispatchEvent(
+          new ListFilesEvent(PrincipalUtils.getCurrentUserName(), ident, locationName, subPath));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListFilesFailureEvent(
+              PrincipalUtils.getCurrentUserName(), ident, locationName, subPath, e));
+      throw e;
+    }
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     eventBus.dispatchEvent(new LoadFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
@@ -18,8 +18,10 @@
  */
 package org.apache.gravitino.listener;
 
+import java.util.Map;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EffectiveAssociations;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
 import org.apache.gravitino.listener.api.event.policy.AlterPolicyEvent;
 import org.apache.gravitino.listener.api.event.policy.AlterPolicyFailureEvent;
@@ -301,6 +303,48 @@ public class PolicyEventDispatcher implements PolicyDispatcher {
     }
   }
 
+  @Override
+  public EffectiveAssociations<PolicyEntity> listEffectivePolicyInfosForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    eventBus.dispatchEvent(
+        new ListPolicyInfosForMetadataObjectPreEvent(
+            PrincipalUtils.getCurrentUserName(), metalake, metadataObject));
+    try {
+      EffectiveAssociations<PolicyEntity> policies =
+          dispatcher.listEffectivePolicyInfosForMetadataObject(metalake, metadataObject);
+      eventBus.dispatchEvent(
+          new ListPolicyInfosForMetadataObjectEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, metadataObject));
+      return policies;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPolicyInfosForMetadataObjectFailureEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, metadataObject, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Map<MetadataObject, EffectiveAssociations<PolicyEntity>> listEffectivePolicyInfosForTables(
+      String metalake, MetadataObject schema) {
+    eventBus.dispatchEvent(
+        new ListPolicyInfosForMetadataObjectPreEvent(
+            PrincipalUtils.getCurrentUserName(), metalake, schema));
+    try {
+      Map<MetadataObject, EffectiveAssociations<PolicyEntity>> policies =
+          dispatcher.listEffectivePolicyInfosForTables(metalake, schema);
+      eventBus.dispatchEvent(
+          new ListPolicyInfosForMetadataObjectEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, schema));
+      return policies;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPolicyInfosForMetadataObjectFailureEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, schema, e));
+      throw e;
+    }
+  }
+
   @Override
   public String[] associatePoliciesForMetadataObject(
       String metalake,
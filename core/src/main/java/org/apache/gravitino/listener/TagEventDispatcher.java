@@ -20,6 +20,7 @@ package org.apache.gravitino.listener;
 
 import java.util.Map;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.cache.EffectiveAssociations;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.listener.api.event.AlterTagEvent;
 import org.apache.gravitino.listener.api.event.AlterTagFailureEvent;
@@ -237,6 +238,48 @@ public class TagEventDispatcher implements TagDispatcher {
     }
   }
 
+  @Override
+  public EffectiveAssociations<Tag> listEffectiveTagsForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    eventBus.dispatchEvent(
+        new ListTagsInfoForMetadataObjectPreEvent(
+            PrincipalUtils.getCurrentUserName(), metalake, metadataObject));
+    try {
+      EffectiveAssociations<Tag> tags =
+          dispatcher.listEffectiveTagsForMetadataObject(metalake, metadataObject);
+      eventBus.dispatchEvent(
+          new ListTagsInfoForMetadataObjectEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, metadataObject));
+      return tags;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTagsInfoForMetadataObjectFailureEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, metadataObject, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Map<MetadataObject, EffectiveAssociations<Tag>> listEffectiveTagsForTables(
+      String metalake, MetadataObject schema) {
+    eventBus.dispatchEvent(
+        new ListTagsInfoForMetadataObjectPreEvent(
+            PrincipalUtils.getCurrentUserName(), metalake, schema));
+    try {
+      Map<MetadataObject, EffectiveAssociations<Tag>> tags =
+          dispatcher.listEffectiveTagsForTables(metalake, schema);
+      eventBus.dispatchEvent(
+          new ListTagsInfoForMetadataObjectEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, schema));
+      return tags;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTagsInfoForMetadataObjectFailureEvent(
+              PrincipalUtils.getCurrentUserName(), metalake, schema, e));
+      throw e;
+    }
+  }
+
   @Override
   public String[] associateTagsForMetadataObject(
       String metalake, MetadataObject metadataObject, String[] tagsToAdd, String[] tagsToRemove) {
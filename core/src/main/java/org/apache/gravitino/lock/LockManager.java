@@ -213,7 +213,8 @@ public class LockManager {
 
     // Handle self node.
     if (treeNode.getReference() == 0) {
-      synchronized (parent) {
+      parent.lockChildren();
+      try {
         // Once goes here, the parent node has been locked, so the reference of child (treeNode)
         // could not be changed.
         if (treeNode.getReference() == 0) {
@@ -226,6 +227,8 @@ public class LockManager {
                 leftNodeCount);
           }
         }
+      } finally {
+        parent.unlockChildren();
       }
     }
   }
@@ -258,13 +261,16 @@ public class LockManager {
 
       TreeLockNode child;
       for (String level : levels) {
-        synchronized (lockNode) {
+        lockNode.lockChildren();
+        try {
           Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
           child = pair.getKey();
           // If the child node is newly created, we should increase the total node counts.
           if (pair.getValue()) {
             totalNodeCount.incrementAndGet();
           }
+        } finally {
+          lockNode.unlockChildren();
         }
         treeLockNodes.add(child);
         lockNode = child;
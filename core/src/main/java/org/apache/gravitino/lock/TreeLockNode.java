@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
@@ -53,6 +54,11 @@ public class TreeLockNode {
   // using this node, and this node can be removed from the tree.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  // The lock guarding the structural changes of the children, such as creating or evicting a
+  // child. It is a ReentrantLock rather than the object monitor so that the virtual threads
+  // waiting on it won't pin their carrier threads.
+  private final ReentrantLock childLock = new ReentrantLock();
+
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
    * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
@@ -125,7 +131,7 @@ public class TreeLockNode {
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
@@ -133,7 +139,7 @@ public class TreeLockNode {
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
@@ -175,7 +181,7 @@ public class TreeLockNode {
   /**
    * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
    *
-   * <p>Note: This method should always be guarded by object lock.
+   * <p>Note: This method should always be guarded by {@link #lockChildren()}.
    *
    * @param name The name of a resource such as entity or others.
    * @return A pair of the tree lock node and a boolean value indicating whether the node is newly
@@ -208,16 +214,35 @@ public class TreeLockNode {
    *
    * @return The list of all the children of this node.
    */
-  synchronized List<TreeLockNode> getAllChildren() {
-    List<TreeLockNode> children = Lists.newArrayList(childMap.values());
+  List<TreeLockNode> getAllChildren() {
+    List<TreeLockNode> children;
+    lockChildren();
+    try {
+      children = Lists.newArrayList(childMap.values());
+    } finally {
+      unlockChildren();
+    }
     Collections.shuffle(children);
     return Collections.unmodifiableList(children);
   }
 
+  /**
+   * Lock the children of this node, the creation and removal of the children should be guarded by
+   * this lock. This method should be followed by {@link #unlockChildren()}.
+   */
+  void lockChildren() {
+    childLock.lock();
+  }
+
+  /** Unlock the children of this node locked by {@link #lockChildren()}. */
+  void unlockChildren() {
+    childLock.unlock();
+  }
+
   /**
    * Remove the child node by the given name identifier.
    *
-   * <p>Note: This method should be guarded by object lock.
+   * <p>Note: This method should be guarded by {@link #lockChildren()}.
    *
    * @param name The name of a resource such as entity or others.
    */
@@ -83,17 +83,38 @@ public abstract class StatisticEntity implements Entity, HasIdentifier, Auditabl
     switch (type) {
       case TABLE:
         return EntityType.TABLE_STATISTIC;
+      case FILESET:
+        return EntityType.FILESET_STATISTIC;
+      case TOPIC:
+        return EntityType.TOPIC_STATISTIC;
       default:
         throw new IllegalArgumentException(
             "Unsupported metadata object type for statistics: " + type);
     }
   }
 
+  public static EntityType getObjectType(EntityType statisticType) {
+    switch (statisticType) {
+      case TABLE_STATISTIC:
+        return EntityType.TABLE;
+      case FILESET_STATISTIC:
+        return EntityType.FILESET;
+      case TOPIC_STATISTIC:
+        return EntityType.TOPIC;
+      default:
+        throw new IllegalArgumentException("Unsupported statistic entity type: " + statisticType);
+    }
+  }
+
   public static <S extends StatisticEntityBuilder<S, E>, E extends StatisticEntity> S builder(
       Entity.EntityType type) {
     switch (type) {
       case TABLE_STATISTIC:
         return (S) TableStatisticEntity.builder();
+      case FILESET_STATISTIC:
+        return (S) FilesetStatisticEntity.builder();
+      case TOPIC_STATISTIC:
+        return (S) TopicStatisticEntity.builder();
       default:
         throw new IllegalArgumentException("Unsupported statistic entity type: " + type);
     }
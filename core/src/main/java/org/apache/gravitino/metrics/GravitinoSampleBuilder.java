@@ -24,9 +24,11 @@ import io.prometheus.client.Collector;
 import io.prometheus.client.dropwizard.samplebuilder.CustomMappingSampleBuilder;
 import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.apache.gravitino.metrics.source.MetricsSource;
 
 /**
  * GravitinoSampleBuilder is a custom SampleBuilder for Prometheus that transforms Dropwizard
@@ -55,7 +57,12 @@ import java.util.regex.Pattern;
  * possible combination, which is not practical. This class uses regular expressions to dynamically
  * parse metric names, providing a more flexible and scalable solution.
  *
- * <p>Metrics that do not match this pattern will be processed by the default behavior of {@link
+ * <p>The labeled operation timers of a metrics source, named {@code
+ * <source>.operation.<operation>.<metalake>.<catalog>.<provider>.<status>}, are converted to the
+ * Prometheus metric {@code <source>_operation_duration_seconds} with the labels {@code operation},
+ * {@code metalake}, {@code catalog}, {@code provider} and {@code status}.
+ *
+ * <p>Metrics that do not match these patterns will be processed by the default behavior of {@link
  * CustomMappingSampleBuilder}.
  */
 public class GravitinoSampleBuilder extends CustomMappingSampleBuilder {
@@ -65,6 +72,16 @@ public class GravitinoSampleBuilder extends CustomMappingSampleBuilder {
       Pattern.compile(
           Pattern.quote(GRAVITINO_CATALOG_METRIC_PREFIX) + "\\.([^.]+)\\.([^.]+)\\.([^.]+)\\.(.+)");
 
+  // match pattern:
+  // <source>.operation.<operation>.<metalake>.<catalog>.<provider>.<status>
+  private static final Pattern OPERATION_PATTERN =
+      Pattern.compile(
+          "([^.]+)\\."
+              + Pattern.quote(MetricsSource.OPERATION_METRIC_SEGMENT)
+              + "\\.([^.]+)\\.([^.]+)\\.([^.]+)\\.([^.]+)\\.([^.]+)");
+  private static final List<String> OPERATION_LABEL_NAMES =
+      Arrays.asList("operation", "metalake", "catalog", "provider", "status");
+
   public GravitinoSampleBuilder(List<MapperConfig> mapperConfigs) {
     super(mapperConfigs);
   }
@@ -77,6 +94,25 @@ public class GravitinoSampleBuilder extends CustomMappingSampleBuilder {
       List<String> additionalLabelValues,
       double value) {
 
+    Matcher operationMatcher = OPERATION_PATTERN.matcher(dropwizardName);
+    if (operationMatcher.matches()) {
+      String prometheusName =
+          Collector.sanitizeMetricName(operationMatcher.group(1))
+              + "_operation_duration_seconds"
+              + nameSuffix;
+
+      List<String> labelNames = new ArrayList<>(OPERATION_LABEL_NAMES);
+      labelNames.addAll(additionalLabelNames);
+      List<String> labelValues = new ArrayList<>();
+      for (int i = 2; i <= operationMatcher.groupCount(); i++) {
+        labelValues.add(operationMatcher.group(i));
+      }
+      labelValues.addAll(additionalLabelValues);
+
+      return new Collector.MetricFamilySamples.Sample(
+          prometheusName, labelNames, labelValues, value);
+    }
+
     Matcher matcher = CATALOG_PATTERN.matcher(dropwizardName);
     if (matcher.matches()) {
       String provider = matcher.group(1);
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * A {@link Reservoir} recording the measurements of a sliding time window into HDR histograms.
+ *
+ * <p>Compared with {@link com.codahale.metrics.SlidingTimeWindowArrayReservoir}, which keeps every
+ * measurement of the window, the memory and the snapshot cost of this reservoir doesn't grow with
+ * the request rate, and the percentiles are accurate to 2 significant digits no matter how bursty
+ * the load is. Recording a value is wait-free, except for the first value of a chunk, which rotates
+ * the chunks.
+ *
+ * <p>The window is split into chunks, and a value is accounted to the chunk of the time it's
+ * recorded at. The values recorded so far are moved from the recorder to the current chunk when
+ * the chunks are rotated and when a snapshot is taken, and the chunks are rotated before a value
+ * of a later chunk is recorded, so the snapshots don't depend on how often they are taken.
+ */
+public class HdrHistogramReservoir implements Reservoir {
+
+  private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+  private static final int DEFAULT_CHUNKS = 6;
+
+  private final Recorder recorder = new Recorder(SIGNIFICANT_VALUE_DIGITS, true /* packed */);
+  private final Clock clock;
+  private final long chunkMillis;
+  private final Histogram[] chunks;
+  private final long[] chunkTicks;
+  private Histogram intervalHistogram;
+  private volatile long currentTick = Long.MIN_VALUE;
+
+  public HdrHistogramReservoir(long window, TimeUnit windowUnit) {
+    this(window, windowUnit, DEFAULT_CHUNKS, Clock.defaultClock());
+  }
+
+  @VisibleForTesting
+  HdrHistogramReservoir(long window, TimeUnit windowUnit, int numChunks, Clock clock) {
+    Preconditions.checkArgument(numChunks > 0, "The number of chunks must be positive");
+    this.clock = clock;
+    this.chunkMillis = Math.max(1L, windowUnit.toMillis(window) / numChunks);
+    this.chunks = new Histogram[numChunks];
+    this.chunkTicks = new long[numChunks];
+    for (int i = 0; i < numChunks; i++) {
+      chunks[i] = new PackedHistogram(SIGNIFICANT_VALUE_DIGITS);
+      chunkTicks[i] = Long.MIN_VALUE;
+    }
+  }
+
+  @Override
+  public int size() {
+    return getSnapshot().size();
+  }
+
+  @Override
+  public void update(long value) {
+    long tick = clock.getTime() / chunkMillis;
+    if (tick > currentTick) {
+      rotate(tick);
+    }
+    recorder.recordValue(Math.max(0L, value));
+  }
+
+  @Override
+  public synchronized Snapshot getSnapshot() {
+    long tick = clock.getTime() / chunkMillis;
+    harvest();
+    if (tick > currentTick) {
+      currentTick = tick;
+    }
+
+    Histogram window = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+    for (int i = 0; i < chunks.length; i++) {
+      if (chunkTicks[i] != Long.MIN_VALUE && tick - chunkTicks[i] < chunks.length) {
+        window.add(chunks[i]);
+      }
+    }
+    return new HdrSnapshot(window);
+  }
+
+  private synchronized void rotate(long tick) {
+    if (tick > currentTick) {
+      harvest();
+      currentTick = tick;
+    }
+  }
+
+  // Moves the values recorded since the last harvest to the chunk of the current tick, they are
+  // all recorded in the current tick as the chunks are rotated before recording in a later one
+  private void harvest() {
+    intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+    if (currentTick == Long.MIN_VALUE) {
+      return;
+    }
+    int slot = (int) (currentTick % chunks.length);
+    if (chunkTicks[slot] != currentTick) {
+      chunks[slot].reset();
+      chunkTicks[slot] = currentTick;
+    }
+    chunks[slot].add(intervalHistogram);
+  }
+
+  /** A snapshot backed by the HDR histogram of the window. */
+  static class HdrSnapshot extends Snapshot {
+    private final Histogram histogram;
+
+    HdrSnapshot(Histogram histogram) {
+      this.histogram = histogram;
+    }
+
+    @Override
+    public double getValue(double quantile) {
+      Preconditions.checkArgument(
+          quantile >= 0.0 && quantile <= 1.0, "%s is not in [0..1]", quantile);
+      return isEmpty() ? 0.0 : histogram.getValueAtPercentile(quantile * 100.0);
+    }
+
+    /**
+     * Returns the distinct recorded values, each value is the representative value of an HDR
+     * bucket, the number of measurements is returned by {@link #size()}.
+     */
+    @Override
+    public long[] getValues() {
+      long[] values = new long[distinctValues()];
+      int index = 0;
+      for (HistogramIterationValue value : histogram.recordedValues()) {
+        values[index++] = histogram.highestEquivalentValue(value.getValueIteratedTo());
+      }
+      return values;
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(Integer.MAX_VALUE, histogram.getTotalCount());
+    }
+
+    @Override
+    public long getMax() {
+      return isEmpty() ? 0L : histogram.getMaxValue();
+    }
+
+    @Override
+    public double getMean() {
+      return isEmpty() ? 0.0 : histogram.getMean();
+    }
+
+    @Override
+    public long getMin() {
+      return isEmpty() ? 0L : histogram.getMinValue();
+    }
+
+    @Override
+    public double getStdDev() {
+      return isEmpty() ? 0.0 : histogram.getStdDeviation();
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+      try (PrintWriter out =
+          new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+          out.printf(
+              "%d %d%n",
+              histogram.highestEquivalentValue(value.getValueIteratedTo()),
+              value.getCountAtValueIteratedTo());
+        }
+      }
+    }
+
+    private boolean isEmpty() {
+      return histogram.getTotalCount() == 0;
+    }
+
+    private int distinctValues() {
+      int count = 0;
+      for (HistogramIterationValue ignored : histogram.recordedValues()) {
+        count++;
+      }
+      return count;
+    }
+  }
+}
@@ -21,6 +21,8 @@ package org.apache.gravitino.metrics;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -34,10 +36,17 @@ import org.slf4j.LoggerFactory;
 public class MethodMonitorAspect {
 
   private static final Logger LOG = LoggerFactory.getLogger(MethodMonitorAspect.class);
+  private static final String SUCCESS = "success";
+  private static final String FAILURE = "failure";
   private MetricsSystem metricsSystem;
 
   public MethodMonitorAspect() {
-    this.metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    this(GravitinoEnv.getInstance().metricsSystem());
+  }
+
+  @VisibleForTesting
+  MethodMonitorAspect(MetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
     // Metrics System could be null in UT.
     if (metricsSystem != null) {
       LOG.info("MethodMonitorAspect initialized.");
@@ -64,18 +73,52 @@ public class MethodMonitorAspect {
       return pjp.proceed();
     }
 
-    String baseMetricName = monitored.baseMetricName();
+    return monitor(metricsSource, monitored.baseMetricName(), pjp.getArgs(), pjp::proceed);
+  }
+
+  /**
+   * Records the duration and the outcome of an invocation, both as the {@code
+   * <baseMetricName>.total} timer and the success or failure meter, and as the operation timer
+   * labeled with the metalake and catalog extracted from the arguments.
+   */
+  @VisibleForTesting
+  Object monitor(
+      MetricsSource metricsSource, String baseMetricName, Object[] args, Invocation invocation)
+      throws Throwable {
     Timer timer = metricsSource.getTimer(MetricRegistry.name(baseMetricName, "total"));
-    Meter successMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "success"));
-    Meter failureMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "failure"));
+    Meter successMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, SUCCESS));
+    Meter failureMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, FAILURE));
 
-    try (Timer.Context ignore = timer.time()) {
-      Object result = pjp.proceed();
-      successMeter.mark();
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      Object result = invocation.proceed();
+      success = true;
       return result;
-    } catch (Throwable t) {
-      failureMeter.mark();
-      throw t;
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      timer.update(elapsed, TimeUnit.NANOSECONDS);
+      if (success) {
+        successMeter.mark();
+      } else {
+        failureMeter.mark();
+      }
+
+      String[] scope = MetricLabels.metalakeAndCatalog(args);
+      metricsSource
+          .getOperationTimer(
+              baseMetricName,
+              scope[0],
+              scope[1],
+              MetricLabels.catalogProvider(scope[0], scope[1]),
+              success ? SUCCESS : FAILURE)
+          .update(elapsed, TimeUnit.NANOSECONDS);
     }
   }
+
+  /** The monitored invocation. */
+  @FunctionalInterface
+  interface Invocation {
+    Object proceed() throws Throwable;
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.CatalogManager;
+
+/** Utilities to resolve the labels of the labeled operation timers. */
+public class MetricLabels {
+
+  private MetricLabels() {}
+
+  /**
+   * Resolves the provider of a catalog from the catalogs cached in the {@link CatalogManager}, it
+   * never loads a catalog so it's cheap enough to call for every measurement.
+   *
+   * @param metalake The metalake name.
+   * @param catalog The catalog name.
+   * @return The provider of the catalog, or null if the catalog isn't loaded.
+   */
+  @Nullable
+  public static String catalogProvider(@Nullable String metalake, @Nullable String catalog) {
+    if (metalake == null || catalog == null) {
+      return null;
+    }
+
+    CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
+    if (catalogManager == null) {
+      return null;
+    }
+    CatalogManager.CatalogWrapper wrapper =
+        catalogManager.getCatalogCache().getIfPresent(NameIdentifier.of(metalake, catalog));
+    return wrapper == null ? null : wrapper.catalog().provider();
+  }
+
+  /**
+   * Extracts the metalake and catalog an operation works on from the first {@link NameIdentifier}
+   * or {@link Namespace} argument of the operation.
+   *
+   * @param args The arguments of the operation.
+   * @return The metalake and catalog names, each of them may be null.
+   */
+  public static String[] metalakeAndCatalog(Object[] args) {
+    for (Object arg : args) {
+      if (arg instanceof NameIdentifier) {
+        NameIdentifier ident = (NameIdentifier) arg;
+        Namespace namespace = ident.namespace();
+        if (namespace.isEmpty()) {
+          return new String[] {ident.name(), null};
+        }
+        return new String[] {
+          namespace.level(0), namespace.length() > 1 ? namespace.level(1) : ident.name()
+        };
+      } else if (arg instanceof Namespace && !((Namespace) arg).isEmpty()) {
+        Namespace namespace = (Namespace) arg;
+        return new String[] {
+          namespace.level(0), namespace.length() > 1 ? namespace.level(1) : null
+        };
+      }
+    }
+    return new String[] {null, null};
+  }
+}
@@ -24,6 +24,14 @@ public class MetricNames {
   public static final String DATASOURCE_ACTIVE_CONNECTIONS = "datasource.active-connections";
   public static final String DATASOURCE_IDLE_CONNECTIONS = "datasource.idle-connections";
   public static final String DATASOURCE_MAX_CONNECTIONS = "datasource.max-connections";
+  public static final String DATASOURCE_PENDING_CONNECTIONS = "datasource.pending-connections";
+  public static final String DATASOURCE_PREPARED_STATEMENTS = "datasource.prepared-statements";
+  public static final String DATASOURCE_REUSED_STATEMENTS = "datasource.reused-statements";
+  public static final String DATASOURCE_PRIMARY_READS = "datasource.primary-reads";
+  public static final String DATASOURCE_REPLICA_READS = "datasource.replica-reads";
+  public static final String DATASOURCE_FALLBACK_READS = "datasource.replica-fallback-reads";
+  public static final String DATASOURCE_AVAILABLE_REPLICAS = "datasource.available-replicas";
+  public static final String DATASOURCE_REPLICA_MAX_LAG_MS = "datasource.replica-max-lag-ms";
   public static final String FILESYSTEM_CACHE = "filesystem-cache";
   public static final String SERVER_BUSY_THREAD_NUM = "http-server.busy-thread.num";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
@@ -31,6 +39,18 @@ public class MetricNames {
   public static final String SERVER_TOTAL_THREAD_NUM = "http-server.total-thread.num";
   public static final String SERVER_MIN_THREAD_NUM = "http-server.min-thread.num";
   public static final String SERVER_MAX_THREAD_NUM = "http-server.max-thread.num";
+  public static final String POLICY_SYNC_PENDING_CHANGES = "policy-sync.pending-changes";
+  public static final String POLICY_SYNC_LAG_MS = "policy-sync.lag-ms";
+  public static final String POLICY_SYNC_SYNCED_CHANGES = "policy-sync.synced-changes";
+  public static final String POLICY_SYNC_FAILED_CHANGES = "policy-sync.failed-changes";
+  public static final String POLICY_SYNC_REPAIRED_POLICIES = "policy-sync.repaired-policies";
+  public static final String CREDENTIAL_VEND_LATENCY = "credential.vend-latency";
+  public static final String CREDENTIAL_REQUESTS = "credential.requests";
+  public static final String CREDENTIAL_CACHE_MISSES = "credential.cache-misses";
+  public static final String CREDENTIAL_PREFIX_HITS = "credential.prefix-hits";
+  public static final String CREDENTIAL_REFRESHES = "credential.refreshes";
+  public static final String CREDENTIAL_REFRESH_FAILURES = "credential.refresh-failures";
+  public static final String CREDENTIAL_REUSE_RATIO = "credential.reuse-ratio";
 
   private MetricNames() {}
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Metrics of the credentials vended for one catalog. */
+public class CredentialMetricsSource extends MetricsSource {
+
+  private final Timer vendLatency;
+  private final Counter requests;
+  private final Counter cacheMisses;
+  private final Counter prefixHits;
+  private final Counter refreshes;
+  private final Counter refreshFailures;
+
+  public CredentialMetricsSource(String catalogName) {
+    super(String.join(".", MetricsSource.GRAVITINO_CREDENTIAL_METRIC_PREFIX, catalogName));
+    this.vendLatency = getTimer(MetricNames.CREDENTIAL_VEND_LATENCY);
+    this.requests = getCounter(MetricNames.CREDENTIAL_REQUESTS);
+    this.cacheMisses = getCounter(MetricNames.CREDENTIAL_CACHE_MISSES);
+    this.prefixHits = getCounter(MetricNames.CREDENTIAL_PREFIX_HITS);
+    this.refreshes = getCounter(MetricNames.CREDENTIAL_REFRESHES);
+    this.refreshFailures = getCounter(MetricNames.CREDENTIAL_REFRESH_FAILURES);
+    registerGauge(MetricNames.CREDENTIAL_REUSE_RATIO, (Gauge<Double>) this::reuseRatio);
+  }
+
+  /** The time spent by the credential providers to vend a credential. */
+  public Timer vendLatency() {
+    return vendLatency;
+  }
+
+  /** The number of credential requests. */
+  public Counter requests() {
+    return requests;
+  }
+
+  /**
+   * The number of requests which vend the credential by the credential provider, the concurrent
+   * requests of the same credential share one vending.
+   */
+  public Counter cacheMisses() {
+    return cacheMisses;
+  }
+
+  /** The number of requests served by a cached credential of a parent path. */
+  public Counter prefixHits() {
+    return prefixHits;
+  }
+
+  /** The number of credentials renewed in background before they expire. */
+  public Counter refreshes() {
+    return refreshes;
+  }
+
+  /** The number of background renewals failed. */
+  public Counter refreshFailures() {
+    return refreshFailures;
+  }
+
+  /**
+   * The ratio of the requests served without vending a new credential.
+   *
+   * @return the reuse ratio, 0 if there is no request yet
+   */
+  public double reuseRatio() {
+    long requestCount = requests.getCount();
+    if (requestCount == 0) {
+      return 0;
+    }
+    return (double) (requestCount - Math.min(cacheMisses.getCount(), requestCount)) / requestCount;
+  }
+}
@@ -24,12 +24,16 @@ import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
 import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.HdrHistogramReservoir;
 
 /**
  * MetricsSource provides utilities to collect specified kind metrics, all metrics must create with
@@ -44,10 +48,26 @@ public abstract class MetricsSource {
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String GRAVITINO_RELATIONAL_STORE_METRIC_NAME = "gravitino-relational-store";
   public static final String GRAVITINO_CATALOG_METRIC_PREFIX = "gravitino-catalog";
+  public static final String GRAVITINO_RANGER_POLICY_SYNC_METRIC_PREFIX =
+      "gravitino-ranger-policy-sync";
+  public static final String GRAVITINO_CREDENTIAL_METRIC_PREFIX = "gravitino-credential";
   public static final String JVM_METRIC_NAME = "jvm";
+
+  /** The name segment of the labeled operation timers, see {@link #getOperationTimer}. */
+  public static final String OPERATION_METRIC_SEGMENT = "operation";
+
+  /** The label value for the labels unknown to the measured operation. */
+  public static final String UNKNOWN_LABEL_VALUE = "none";
+
+  /** The label value for the label combinations exceeding the max number of series. */
+  public static final String OTHER_LABEL_VALUE = "other";
+
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
+  private final boolean hdrReservoir;
+  private final int maxOperationSeries;
+  private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
 
   protected MetricsSource(String name) {
     this.metricsSourceName = name;
@@ -56,9 +76,14 @@ public abstract class MetricsSource {
     if (config != null) {
       this.timeSlidingWindowSeconds =
           config.get(Configs.METRICS_TIME_SLIDING_WINDOW_SECONDS).intValue();
+      this.hdrReservoir =
+          Configs.HDR_METRICS_RESERVOIR.equalsIgnoreCase(config.get(Configs.METRICS_RESERVOIR));
+      this.maxOperationSeries = config.get(Configs.METRICS_LABELED_MAX_SERIES);
     } else {
       // Couldn't get config when testing
       this.timeSlidingWindowSeconds = Configs.DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS;
+      this.hdrReservoir = true;
+      this.maxOperationSeries = Configs.DEFAULT_METRICS_LABELED_MAX_SERIES;
     }
   }
 
@@ -107,12 +132,7 @@ public abstract class MetricsSource {
    * @return a new or pre-existing Histogram
    */
   public Histogram getHistogram(String name) {
-    return this.metricRegistry.histogram(
-        name,
-        () ->
-            new Histogram(
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+    return this.metricRegistry.histogram(name, () -> new Histogram(newReservoir()));
   }
 
   /**
@@ -122,12 +142,54 @@ public abstract class MetricsSource {
    * @return a new or pre-existing Timer
    */
   public Timer getTimer(String name) {
-    return this.metricRegistry.timer(
-        name,
-        () ->
-            new Timer(
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+    return this.metricRegistry.timer(name, () -> new Timer(newReservoir()));
+  }
+
+  /**
+   * Get or create a Timer of an operation labeled with the metalake, catalog and provider it works
+   * on and its outcome. The timer is named {@code
+   * operation.<operation>.<metalake>.<catalog>.<provider>.<status>} in the metrics source, and is
+   * exported to Prometheus as {@code <metrics source>_operation_duration_seconds} with the labels
+   * {@code operation}, {@code metalake}, {@code catalog}, {@code provider} and {@code status}.
+   *
+   * <p>To bound the cardinality, once the number of label combinations reaches {@code
+   * gravitino.metrics.labeledMaxSeries}, the metalake, catalog and provider of new combinations
+   * are reported as {@value #OTHER_LABEL_VALUE}.
+   *
+   * @param operation The operation name, like {@code load-table}.
+   * @param metalake The metalake name, or null if unknown.
+   * @param catalog The catalog name, or null if unknown.
+   * @param provider The catalog provider, or null if unknown.
+   * @param status The outcome of the operation, like {@code success} or {@code 2xx}.
+   * @return a new or pre-existing Timer
+   */
+  public Timer getOperationTimer(
+      String operation, String metalake, String catalog, String provider, String status) {
+    String key =
+        String.join(
+            ".",
+            labelValue(operation),
+            labelValue(metalake),
+            labelValue(catalog),
+            labelValue(provider),
+            labelValue(status));
+    Timer timer = operationTimers.get(key);
+    if (timer != null) {
+      return timer;
+    }
+
+    if (operationTimers.size() >= maxOperationSeries) {
+      key =
+          String.join(
+              ".",
+              labelValue(operation),
+              OTHER_LABEL_VALUE,
+              OTHER_LABEL_VALUE,
+              OTHER_LABEL_VALUE,
+              labelValue(status));
+    }
+    return operationTimers.computeIfAbsent(
+        key, k -> getTimer(MetricRegistry.name(OPERATION_METRIC_SEGMENT, k)));
   }
 
   /**
@@ -143,4 +205,22 @@ public abstract class MetricsSource {
   protected int getTimeSlidingWindowSeconds() {
     return timeSlidingWindowSeconds;
   }
+
+  /**
+   * Creates the reservoir of the timers and histograms, configured by {@code
+   * gravitino.metrics.reservoir}.
+   *
+   * @return a new reservoir covering the time sliding window
+   */
+  protected Reservoir newReservoir() {
+    if (hdrReservoir) {
+      return new HdrHistogramReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS);
+    }
+    return new SlidingTimeWindowArrayReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS);
+  }
+
+  private static String labelValue(String value) {
+    // The label values are separated by dots in the metric name
+    return value == null || value.isEmpty() ? UNKNOWN_LABEL_VALUE : value.replace('.', '_');
+  }
 }
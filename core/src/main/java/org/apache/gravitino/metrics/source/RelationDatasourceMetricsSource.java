@@ -20,16 +20,73 @@
 package org.apache.gravitino.metrics.source;
 
 import com.codahale.metrics.Gauge;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.storage.relational.session.ReadReplicaRouter;
+import org.apache.gravitino.storage.relational.session.StatementMetricsInterceptor;
 
 public class RelationDatasourceMetricsSource extends MetricsSource {
 
-  public RelationDatasourceMetricsSource(BasicDataSource dataSource) {
+  public RelationDatasourceMetricsSource(DataSource dataSource) {
+    this(dataSource, null, null);
+  }
+
+  public RelationDatasourceMetricsSource(
+      DataSource dataSource,
+      @Nullable ReadReplicaRouter readReplicaRouter,
+      @Nullable StatementMetricsInterceptor statementMetrics) {
     super(MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME);
-    registerGauge(
-        MetricNames.DATASOURCE_ACTIVE_CONNECTIONS, (Gauge<Integer>) dataSource::getNumActive);
-    registerGauge(MetricNames.DATASOURCE_IDLE_CONNECTIONS, (Gauge<Integer>) dataSource::getNumIdle);
-    registerGauge(MetricNames.DATASOURCE_MAX_CONNECTIONS, (Gauge<Integer>) dataSource::getMaxTotal);
+    if (dataSource instanceof BasicDataSource) {
+      BasicDataSource dbcp2DataSource = (BasicDataSource) dataSource;
+      registerGauge(
+          MetricNames.DATASOURCE_ACTIVE_CONNECTIONS,
+          (Gauge<Integer>) dbcp2DataSource::getNumActive);
+      registerGauge(
+          MetricNames.DATASOURCE_IDLE_CONNECTIONS, (Gauge<Integer>) dbcp2DataSource::getNumIdle);
+      registerGauge(
+          MetricNames.DATASOURCE_MAX_CONNECTIONS, (Gauge<Integer>) dbcp2DataSource::getMaxTotal);
+    } else if (dataSource instanceof HikariDataSource) {
+      HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+      registerGauge(
+          MetricNames.DATASOURCE_ACTIVE_CONNECTIONS,
+          (Gauge<Integer>) () -> hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+      registerGauge(
+          MetricNames.DATASOURCE_IDLE_CONNECTIONS,
+          (Gauge<Integer>) () -> hikariDataSource.getHikariPoolMXBean().getIdleConnections());
+      registerGauge(
+          MetricNames.DATASOURCE_MAX_CONNECTIONS,
+          (Gauge<Integer>) hikariDataSource::getMaximumPoolSize);
+      registerGauge(
+          MetricNames.DATASOURCE_PENDING_CONNECTIONS,
+          (Gauge<Integer>)
+              () -> hikariDataSource.getHikariPoolMXBean().getThreadsAwaitingConnection());
+    }
+
+    if (statementMetrics != null) {
+      registerGauge(
+          MetricNames.DATASOURCE_PREPARED_STATEMENTS,
+          (Gauge<Long>) statementMetrics::preparedStatements);
+      registerGauge(
+          MetricNames.DATASOURCE_REUSED_STATEMENTS,
+          (Gauge<Long>) statementMetrics::reusedStatements);
+    }
+
+    if (readReplicaRouter != null) {
+      registerGauge(
+          MetricNames.DATASOURCE_PRIMARY_READS, (Gauge<Long>) readReplicaRouter::primaryReads);
+      registerGauge(
+          MetricNames.DATASOURCE_REPLICA_READS, (Gauge<Long>) readReplicaRouter::replicaReads);
+      registerGauge(
+          MetricNames.DATASOURCE_FALLBACK_READS, (Gauge<Long>) readReplicaRouter::fallbackReads);
+      registerGauge(
+          MetricNames.DATASOURCE_AVAILABLE_REPLICAS,
+          (Gauge<Integer>) readReplicaRouter::availableReplicas);
+      registerGauge(
+          MetricNames.DATASOURCE_REPLICA_MAX_LAG_MS,
+          (Gauge<Long>) readReplicaRouter::maxReplicaLagMs);
+    }
   }
 }
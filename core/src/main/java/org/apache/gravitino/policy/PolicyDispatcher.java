@@ -20,8 +20,10 @@
 package org.apache.gravitino.policy;
 
 import java.util.Arrays;
+import java.util.Map;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.cache.EffectiveAssociations;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
 import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
 import org.apache.gravitino.meta.PolicyEntity;
@@ -148,6 +150,27 @@ public interface PolicyDispatcher {
    */
   PolicyEntity[] listPolicyInfosForMetadataObject(String metalake, MetadataObject metadataObject);
 
+  /**
+   * List the effective policies of the specified metadata object, which include the policies
+   * associated with the object itself and the ones inherited from its parent objects.
+   *
+   * @param metalake the name of the metalake
+   * @param metadataObject the metadata object to query the effective policies for
+   * @return The effective policies of the metadata object.
+   */
+  EffectiveAssociations<PolicyEntity> listEffectivePolicyInfosForMetadataObject(
+      String metalake, MetadataObject metadataObject);
+
+  /**
+   * List the effective policies of all the tables in the specified schema.
+   *
+   * @param metalake the name of the metalake
+   * @param schema the schema metadata object
+   * @return The effective policies of the tables keyed by the table metadata objects.
+   */
+  Map<MetadataObject, EffectiveAssociations<PolicyEntity>> listEffectivePolicyInfosForTables(
+      String metalake, MetadataObject schema);
+
   /**
    * Associate policies to a metadata object under a metalake.
    *
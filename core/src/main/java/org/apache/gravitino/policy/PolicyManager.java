@@ -22,18 +22,24 @@ package org.apache.gravitino.policy;
 import static org.apache.gravitino.metalake.MetalakeManager.checkMetalake;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.EffectiveAssociations;
+import org.apache.gravitino.cache.InheritedAssociationCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
@@ -67,8 +73,16 @@ public class PolicyManager implements PolicyDispatcher {
 
   private final IdGenerator idGenerator;
   private final EntityStore entityStore;
+  private final InheritedAssociationCache<PolicyEntity> effectivePolicyCache;
 
   public PolicyManager(IdGenerator idGenerator, EntityStore entityStore) {
+    this(idGenerator, entityStore, new InheritedAssociationCache<>(0L, 1L, PolicyEntity::name));
+  }
+
+  public PolicyManager(
+      IdGenerator idGenerator,
+      EntityStore entityStore,
+      InheritedAssociationCache<PolicyEntity> effectivePolicyCache) {
     if (!(entityStore instanceof SupportsRelationOperations)) {
       String errorMsg =
           "PolicyManager cannot run with entity store that does not support policy operations, "
@@ -79,6 +93,7 @@ public class PolicyManager implements PolicyDispatcher {
 
     this.idGenerator = idGenerator;
     this.entityStore = entityStore;
+    this.effectivePolicyCache = effectivePolicyCache;
   }
 
   @Override
@@ -181,11 +196,14 @@ public class PolicyManager implements PolicyDispatcher {
         LockType.WRITE,
         () -> {
           try {
-            return entityStore.update(
-                NameIdentifierUtil.ofPolicy(metalake, policyName),
-                PolicyEntity.class,
-                Entity.EntityType.POLICY,
-                policyEntity -> updatePolicyEntity(policyEntity, changes));
+            PolicyEntity policy =
+                entityStore.update(
+                    NameIdentifierUtil.ofPolicy(metalake, policyName),
+                    PolicyEntity.class,
+                    Entity.EntityType.POLICY,
+                    policyEntity -> updatePolicyEntity(policyEntity, changes));
+            effectivePolicyCache.invalidateMetalake(metalake);
+            return policy;
           } catch (NoSuchEntityException e) {
             throw new NoSuchPolicyException(
                 "Policy with name %s under metalake %s does not exist", policyName, metalake);
@@ -220,8 +238,11 @@ public class PolicyManager implements PolicyDispatcher {
         LockType.WRITE,
         () -> {
           try {
-            return entityStore.delete(
-                NameIdentifierUtil.ofPolicy(metalake, policyName), Entity.EntityType.POLICY);
+            boolean deleted =
+                entityStore.delete(
+                    NameIdentifierUtil.ofPolicy(metalake, policyName), Entity.EntityType.POLICY);
+            effectivePolicyCache.invalidateMetalake(metalake);
+            return deleted;
           } catch (IOException ioe) {
             LOG.error("Failed to delete policy {} under metalake {}", policyName, metalake, ioe);
             throw new RuntimeException(ioe);
@@ -296,6 +317,29 @@ public class PolicyManager implements PolicyDispatcher {
         });
   }
 
+  @Override
+  public EffectiveAssociations<PolicyEntity> listEffectivePolicyInfosForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+    return effectivePolicyCache.get(
+        metalake, metadataObject, object -> listOwnPolicies(metalake, object));
+  }
+
+  @Override
+  public Map<MetadataObject, EffectiveAssociations<PolicyEntity>> listEffectivePolicyInfosForTables(
+      String metalake, MetadataObject schema) {
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+    Map<MetadataObject, EffectiveAssociations<PolicyEntity>> policies = new LinkedHashMap<>();
+    // The effective policies of the schema are loaded once and shared by all its tables
+    for (MetadataObject table : MetadataObjectUtil.listTables(metalake, schema)) {
+      policies.put(
+          table,
+          effectivePolicyCache.get(metalake, table, object -> listOwnPolicies(metalake, object)));
+    }
+    return policies;
+  }
+
   @Override
   public String[] associatePoliciesForMetadataObject(
       String metalake,
@@ -349,6 +393,7 @@ public class PolicyManager implements PolicyDispatcher {
                                 entityType,
                                 policiesToAddIdent,
                                 policiesToRemoveIdent);
+                    effectivePolicyCache.invalidate(metalake, metadataObject);
                     return updatedPolicies.stream().map(PolicyEntity::name).toArray(String[]::new);
                   } catch (NoSuchEntityException e) {
                     throw new NoSuchMetadataObjectException(
@@ -409,6 +454,35 @@ public class PolicyManager implements PolicyDispatcher {
         });
   }
 
+  private List<PolicyEntity> listOwnPolicies(String metalake, MetadataObject metadataObject) {
+    NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+    Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject);
+
+    return TreeLockUtils.doWithTreeLock(
+        entityIdent,
+        LockType.READ,
+        () -> {
+          try {
+            return entityStore
+                .relationOperations()
+                .listEntitiesByRelation(
+                    SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
+                    entityIdent,
+                    entityType,
+                    true /* allFields */)
+                .stream()
+                .map(entity -> (PolicyEntity) entity)
+                .collect(Collectors.toList());
+          } catch (NoSuchEntityException e) {
+            // The object isn't stored in the entity store, so no policy is associated with it
+            return ImmutableList.of();
+          } catch (IOException e) {
+            LOG.error("Failed to list policies for metadata object {}", metadataObject, e);
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
   private void changePolicyEnabledState(
       String metalake, String policyName, boolean expectedEnabledState) {
     NameIdentifier metalakeIdent = NameIdentifierUtil.ofMetalake(metalake);
@@ -431,6 +505,7 @@ public class PolicyManager implements PolicyDispatcher {
                   builder.withEnabled(expectedEnabledState);
                   return builder.build();
                 });
+            effectivePolicyCache.invalidateMetalake(metalake);
             return null;
           } catch (IOException ioe) {
             LOG.error(
@@ -0,0 +1,599 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.charfilter.MappingCharFilter;
+import org.apache.lucene.analysis.charfilter.NormalizeCharMap;
+import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A Lucene index of {@link MetadataSearchDocument}s on local disk.
+ *
+ * <p>Each document is indexed with the following searchable fields, the keyword fields are
+ * lowercased and matched as a whole, the text fields are tokenized:
+ *
+ * <ul>
+ *   <li>{@code name}, {@code comment}, {@code column}, {@code column_comment}: text fields of the
+ *       object name, the object comment, the column names and the column comments.
+ *   <li>{@code text}: the default field, a text field of all the above.
+ *   <li>{@code fullname}, {@code type}, {@code tag}, {@code policy}: keyword fields.
+ *   <li>{@code property}: keyword field of the property keys, and {@code property.<key>}: keyword
+ *       field of the value of the property, the key is lowercased.
+ * </ul>
+ *
+ * <p>Writes are visible to the searches within the refresh interval. The read-modify-write
+ * operations, like associating tags, read their own writes.
+ */
+final class LuceneMetadataIndex implements Closeable {
+
+  static final String NAME_FIELD = "name";
+  static final String COMMENT_FIELD = "comment";
+  static final String COLUMN_FIELD = "column";
+  static final String COLUMN_COMMENT_FIELD = "column_comment";
+  static final String TEXT_FIELD = "text";
+  static final String FULL_NAME_FIELD = "fullname";
+  static final String TYPE_FIELD = "type";
+  static final String TAG_FIELD = "tag";
+  static final String POLICY_FIELD = "policy";
+  static final String PROPERTY_FIELD = "property";
+
+  /** The max value of {@code offset + limit} a search could request. */
+  static final int MAX_RESULT_WINDOW = 10000;
+
+  private static final String KEY_FIELD = "_key";
+  private static final String SORT_FIELD = "_sort";
+  private static final String METALAKE_FIELD = "_metalake";
+  private static final String OBJECT_TYPE_FIELD = "_type";
+  private static final String ANCESTOR_FIELD = "_ancestor";
+  private static final String GENERATION_FIELD = "_generation";
+  private static final String SOURCE_FIELD = "_source";
+
+  private static final Set<String> TEXT_FIELDS =
+      ImmutableSet.of(NAME_FIELD, COMMENT_FIELD, COLUMN_FIELD, COLUMN_COMMENT_FIELD, TEXT_FIELD);
+  // Lucene rejects terms longer than 32766 bytes, longer keyword values are stored only
+  private static final int MAX_KEYWORD_LENGTH = 1024;
+  private static final int MIN_SEARCH_BATCH_SIZE = 100;
+  private static final int SCAN_BATCH_SIZE = 1000;
+  private static final char KEY_SEPARATOR = '\u001f';
+  private static final Sort SEARCH_SORT =
+      new Sort(SortField.FIELD_SCORE, new SortField(SORT_FIELD, SortField.Type.STRING));
+
+  private final Directory directory;
+  private final Analyzer analyzer;
+  private final IndexWriter writer;
+  private final SearcherManager searcherManager;
+  private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+  private final AtomicLong lastSequenceNumber = new AtomicLong();
+  // Based on the wall clock, so the generations keep increasing across restarts
+  private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+  LuceneMetadataIndex(Path indexPath, long refreshIntervalMs) throws IOException {
+    Preconditions.checkArgument(refreshIntervalMs > 0, "refreshIntervalMs must be positive");
+    this.directory = FSDirectory.open(indexPath);
+    this.analyzer = new MetadataAnalyzer();
+    this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+    this.searcherManager = new SearcherManager(writer, null);
+    // Searches see the writes within the refresh interval, waiting for a write reopens at once
+    this.reopenThread =
+        new ControlledRealTimeReopenThread<>(
+            writer, searcherManager, refreshIntervalMs / 1000.0, 0.0);
+    reopenThread.setName("metadata-search-index-reopen");
+    reopenThread.setDaemon(true);
+    reopenThread.start();
+  }
+
+  /**
+   * @return the number of documents in the index, including the not yet merged deletions
+   */
+  int numDocs() {
+    return writer.getDocStats().numDocs;
+  }
+
+  /**
+   * Starts a new generation, the documents written from now on belong to it. A rebuild starts a
+   * generation and removes the documents of the older ones it didn't rewrite.
+   *
+   * @return the new generation
+   */
+  long nextGeneration() {
+    return generation.updateAndGet(current -> Math.max(current + 1, System.currentTimeMillis()));
+  }
+
+  void upsert(MetadataSearchDocument doc) throws IOException {
+    String key = key(doc.metalake(), doc.type(), doc.fullName());
+    track(writer.updateDocument(new Term(KEY_FIELD, key), toLuceneDocument(key, doc)));
+  }
+
+  MetadataSearchDocument get(String metalake, MetadataObject.Type type, String fullName)
+      throws IOException {
+    Query query = new TermQuery(new Term(KEY_FIELD, key(metalake, type, fullName)));
+    List<MetadataSearchDocument> docs = new ArrayList<>(1);
+    forEach(query, docs::add);
+    return docs.isEmpty() ? null : docs.get(0);
+  }
+
+  /** Deletes the object, and all the objects under it if it is a container. */
+  void delete(String metalake, MetadataObject.Type type, String fullName) throws IOException {
+    if (type == MetadataObject.Type.METALAKE) {
+      track(writer.deleteDocuments(new Term(METALAKE_FIELD, fullName)));
+      return;
+    }
+    track(writer.deleteDocuments(new Term(KEY_FIELD, key(metalake, type, fullName))));
+    if (type == MetadataObject.Type.CATALOG || type == MetadataObject.Type.SCHEMA) {
+      track(writer.deleteDocuments(descendantsQuery(metalake, fullName)));
+    }
+  }
+
+  /**
+   * Moves the object, and all the objects under it if it is a container, to a new location.
+   * Renaming a metalake moves all the objects in it.
+   */
+  void move(
+      String metalake,
+      MetadataObject.Type type,
+      String fullName,
+      String newMetalake,
+      String newFullName)
+      throws IOException {
+    Query query;
+    if (type == MetadataObject.Type.METALAKE) {
+      query = new TermQuery(new Term(METALAKE_FIELD, metalake));
+    } else if (type == MetadataObject.Type.CATALOG || type == MetadataObject.Type.SCHEMA) {
+      query =
+          new BooleanQuery.Builder()
+              .add(new TermQuery(new Term(METALAKE_FIELD, metalake)), BooleanClause.Occur.FILTER)
+              .add(
+                  new BooleanQuery.Builder()
+                      .add(
+                          new TermQuery(new Term(KEY_FIELD, key(metalake, type, fullName))),
+                          BooleanClause.Occur.SHOULD)
+                      .add(
+                          new TermQuery(new Term(ANCESTOR_FIELD, fullName)),
+                          BooleanClause.Occur.SHOULD)
+                      .build(),
+                  BooleanClause.Occur.FILTER)
+              .build();
+    } else {
+      query = new TermQuery(new Term(KEY_FIELD, key(metalake, type, fullName)));
+    }
+
+    List<MetadataSearchDocument> docs = new ArrayList<>();
+    forEach(query, docs::add);
+    for (MetadataSearchDocument doc : docs) {
+      String movedFullName;
+      if (doc.type() == MetadataObject.Type.METALAKE) {
+        movedFullName = newMetalake;
+      } else if (type == MetadataObject.Type.METALAKE) {
+        movedFullName = doc.fullName();
+      } else {
+        movedFullName = newFullName + doc.fullName().substring(fullName.length());
+      }
+      String oldKey = key(doc.metalake(), doc.type(), doc.fullName());
+      track(writer.deleteDocuments(new Term(KEY_FIELD, oldKey)));
+      upsert(doc.withLocation(newMetalake, movedFullName));
+    }
+  }
+
+  /** Deletes the documents of the metalake written before the generation. */
+  void deleteOlderGenerations(String metalake, long currentGeneration) throws IOException {
+    track(
+        writer.deleteDocuments(
+            new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(METALAKE_FIELD, metalake)), BooleanClause.Occur.FILTER)
+                .add(
+                    LongPoint.newRangeQuery(
+                        GENERATION_FIELD, Long.MIN_VALUE, currentGeneration - 1),
+                    BooleanClause.Occur.FILTER)
+                .build()));
+  }
+
+  /** Visits the documents of the metalake associated with the tag or policy. */
+  void forEachAssociated(
+      String metalake,
+      MetadataObject.Type type,
+      String name,
+      Consumer<MetadataSearchDocument> action)
+      throws IOException {
+    String field = type == MetadataObject.Type.TAG ? TAG_FIELD : POLICY_FIELD;
+    forEach(
+        new BooleanQuery.Builder()
+            .add(new TermQuery(new Term(METALAKE_FIELD, metalake)), BooleanClause.Occur.FILTER)
+            .add(new TermQuery(new Term(field, lower(name))), BooleanClause.Occur.FILTER)
+            .build(),
+        action);
+  }
+
+  /**
+   * Searches the objects of the metalake.
+   *
+   * @param metalake the metalake to search in
+   * @param queryString the query in the Lucene query syntax, a blank query matches all objects
+   * @param types the types of the objects to return, empty for all types
+   * @param offset the number of authorized matching objects to skip
+   * @param limit the max number of objects to return
+   * @param authorizer returns the objects the current user could access among the given ones
+   * @return the page of matching objects
+   */
+  MetadataSearchResult search(
+      String metalake,
+      String queryString,
+      Set<MetadataObject.Type> types,
+      int offset,
+      int limit,
+      UnaryOperator<List<MetadataObject>> authorizer)
+      throws IOException {
+    Preconditions.checkArgument(offset >= 0, "offset must be non-negative, got %s", offset);
+    Preconditions.checkArgument(limit > 0, "limit must be positive, got %s", limit);
+    Preconditions.checkArgument(
+        offset + limit <= MAX_RESULT_WINDOW,
+        "offset + limit must not be greater than %s, got %s",
+        MAX_RESULT_WINDOW,
+        offset + limit);
+    Query query = buildQuery(metalake, queryString, types);
+
+    List<MetadataObject> page = new ArrayList<>(limit + 1);
+    int toSkip = offset;
+    int batchSize = Math.max(MIN_SEARCH_BATCH_SIZE, 2 * (limit + 1));
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      StoredFields storedFields = searcher.storedFields();
+      ScoreDoc after = null;
+      // The authorization filter drops objects, so keep reading batches until the page is full
+      while (page.size() <= limit) {
+        TopDocs topDocs =
+            after == null
+                ? searcher.search(query, batchSize, SEARCH_SORT, true)
+                : searcher.searchAfter(after, query, batchSize, SEARCH_SORT, true);
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        if (scoreDocs.length == 0) {
+          break;
+        }
+
+        List<MetadataObject> candidates = new ArrayList<>(scoreDocs.length);
+        for (ScoreDoc scoreDoc : scoreDocs) {
+          candidates.add(readSource(storedFields, scoreDoc.doc).toMetadataObject());
+        }
+        Set<String> authorized = new HashSet<>();
+        for (MetadataObject object : authorizer.apply(candidates)) {
+          authorized.add(objectKey(object));
+        }
+        for (MetadataObject candidate : candidates) {
+          if (!authorized.contains(objectKey(candidate))) {
+            continue;
+          }
+          if (toSkip > 0) {
+            toSkip--;
+            continue;
+          }
+          page.add(candidate);
+          if (page.size() > limit) {
+            break;
+          }
+        }
+
+        if (scoreDocs.length < batchSize) {
+          break;
+        }
+        after = scoreDocs[scoreDocs.length - 1];
+      }
+    } finally {
+      searcherManager.release(searcher);
+    }
+
+    boolean hasMore = page.size() > limit;
+    return new MetadataSearchResult(hasMore ? page.subList(0, limit) : page, hasMore);
+  }
+
+  void commit() throws IOException {
+    if (writer.hasUncommittedChanges()) {
+      writer.commit();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reopenThread.close();
+    try {
+      searcherManager.close();
+      writer.close();
+    } finally {
+      analyzer.close();
+      directory.close();
+    }
+  }
+
+  private Query buildQuery(String metalake, String queryString, Set<MetadataObject.Type> types) {
+    BooleanQuery.Builder builder =
+        new BooleanQuery.Builder()
+            .add(new TermQuery(new Term(METALAKE_FIELD, metalake)), BooleanClause.Occur.FILTER);
+
+    if (StringUtils.isBlank(queryString)) {
+      builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+    } else {
+      QueryParser parser = new QueryParser(TEXT_FIELD, analyzer);
+      parser.setDefaultOperator(QueryParser.Operator.AND);
+      parser.setAllowLeadingWildcard(false);
+      Query parsed;
+      try {
+        parsed = parser.parse(queryString);
+      } catch (ParseException e) {
+        throw new IllegalArgumentException("Invalid search query: " + e.getMessage(), e);
+      }
+      builder.add(parsed, BooleanClause.Occur.MUST);
+      if (isPureNegation(parsed)) {
+        builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+      }
+    }
+
+    if (types != null && !types.isEmpty()) {
+      BooleanQuery.Builder typeQuery = new BooleanQuery.Builder();
+      for (MetadataObject.Type type : types) {
+        typeQuery.add(
+            new TermQuery(new Term(OBJECT_TYPE_FIELD, type.name())), BooleanClause.Occur.SHOULD);
+      }
+      builder.add(typeQuery.build(), BooleanClause.Occur.FILTER);
+    }
+    return builder.build();
+  }
+
+  private static boolean isPureNegation(Query query) {
+    if (!(query instanceof BooleanQuery)) {
+      return false;
+    }
+    List<BooleanClause> clauses = ((BooleanQuery) query).clauses();
+    return !clauses.isEmpty()
+        && clauses.stream().allMatch(c -> c.getOccur() == BooleanClause.Occur.MUST_NOT);
+  }
+
+  private Query descendantsQuery(String metalake, String fullName) {
+    return new BooleanQuery.Builder()
+        .add(new TermQuery(new Term(METALAKE_FIELD, metalake)), BooleanClause.Occur.FILTER)
+        .add(new TermQuery(new Term(ANCESTOR_FIELD, fullName)), BooleanClause.Occur.FILTER)
+        .build();
+  }
+
+  /** Visits the documents matching the query, reading the writes made so far. */
+  private void forEach(Query query, Consumer<MetadataSearchDocument> action) throws IOException {
+    refresh();
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      StoredFields storedFields = searcher.storedFields();
+      ScoreDoc after = null;
+      while (true) {
+        TopDocs topDocs =
+            after == null
+                ? searcher.search(query, SCAN_BATCH_SIZE, Sort.INDEXORDER)
+                : searcher.searchAfter(after, query, SCAN_BATCH_SIZE, Sort.INDEXORDER);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          action.accept(readSource(storedFields, scoreDoc.doc));
+        }
+        if (topDocs.scoreDocs.length < SCAN_BATCH_SIZE) {
+          return;
+        }
+        after = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+      }
+    } finally {
+      searcherManager.release(searcher);
+    }
+  }
+
+  /** Makes the writes so far visible to the searches. */
+  void refresh() throws IOException {
+    try {
+      reopenThread.waitForGeneration(lastSequenceNumber.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the search index to refresh", e);
+    }
+  }
+
+  private void track(long sequenceNumber) {
+    lastSequenceNumber.accumulateAndGet(sequenceNumber, Math::max);
+  }
+
+  private Document toLuceneDocument(String key, MetadataSearchDocument doc) throws IOException {
+    Document document = new Document();
+    document.add(new StringField(KEY_FIELD, key, Field.Store.NO));
+    document.add(new SortedDocValuesField(SORT_FIELD, new BytesRef(key)));
+    document.add(new StringField(METALAKE_FIELD, doc.metalake(), Field.Store.NO));
+    document.add(new StringField(OBJECT_TYPE_FIELD, doc.type().name(), Field.Store.NO));
+    for (String ancestor : doc.ancestors()) {
+      document.add(new StringField(ANCESTOR_FIELD, ancestor, Field.Store.NO));
+    }
+    document.add(new LongPoint(GENERATION_FIELD, generation.get()));
+    try {
+      document.add(
+          new StoredField(SOURCE_FIELD, JsonUtils.anyFieldMapper().writeValueAsString(doc)));
+    } catch (JsonProcessingException e) {
+      throw new IOException("Failed to serialize search document " + key, e);
+    }
+
+    List<String> text = new ArrayList<>();
+    text.add(doc.name());
+    document.add(new TextField(NAME_FIELD, doc.name(), Field.Store.NO));
+    addKeyword(document, FULL_NAME_FIELD, doc.fullName());
+    addKeyword(document, TYPE_FIELD, doc.type().name());
+    if (doc.comment() != null) {
+      text.add(doc.comment());
+      document.add(new TextField(COMMENT_FIELD, doc.comment(), Field.Store.NO));
+    }
+    for (Map.Entry<String, String> property : doc.properties().entrySet()) {
+      String propertyKey = lower(property.getKey());
+      addKeyword(document, PROPERTY_FIELD, propertyKey);
+      if (property.getValue() != null) {
+        addKeyword(document, PROPERTY_FIELD + "." + propertyKey, property.getValue());
+      }
+    }
+    for (MetadataSearchDocument.ColumnDoc column : doc.columns()) {
+      text.add(column.name());
+      document.add(new TextField(COLUMN_FIELD, column.name(), Field.Store.NO));
+      if (column.comment() != null) {
+        text.add(column.comment());
+        document.add(new TextField(COLUMN_COMMENT_FIELD, column.comment(), Field.Store.NO));
+      }
+    }
+    for (String tag : doc.tags()) {
+      addKeyword(document, TAG_FIELD, tag);
+    }
+    for (String policy : doc.policies()) {
+      addKeyword(document, POLICY_FIELD, policy);
+    }
+    document.add(new TextField(TEXT_FIELD, String.join(" ", text), Field.Store.NO));
+    return document;
+  }
+
+  private static void addKeyword(Document document, String field, String value) {
+    if (value.length() <= MAX_KEYWORD_LENGTH) {
+      document.add(new StringField(field, lower(value), Field.Store.NO));
+    }
+  }
+
+  private static MetadataSearchDocument readSource(StoredFields storedFields, int docId)
+      throws IOException {
+    String source = storedFields.document(docId).get(SOURCE_FIELD);
+    return JsonUtils.anyFieldMapper().readValue(source, MetadataSearchDocument.class);
+  }
+
+  private static String key(String metalake, MetadataObject.Type type, String fullName) {
+    return metalake + KEY_SEPARATOR + type.name() + KEY_SEPARATOR + fullName;
+  }
+
+  private static String objectKey(MetadataObject object) {
+    return object.type().name() + KEY_SEPARATOR + object.fullName();
+  }
+
+  private static String lower(String value) {
+    return value.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Tokenizes the text fields, and keeps the keyword fields as one lowercased token. The text
+   * fields are split at underscores too, so {@code email} matches a column {@code customer_email}.
+   */
+  private static final class MetadataAnalyzer extends DelegatingAnalyzerWrapper {
+    private static final NormalizeCharMap UNDERSCORE_TO_SPACE;
+
+    static {
+      NormalizeCharMap.Builder builder = new NormalizeCharMap.Builder();
+      builder.add("_", " ");
+      UNDERSCORE_TO_SPACE = builder.build();
+    }
+
+    private final Analyzer textAnalyzer =
+        new Analyzer() {
+          @Override
+          protected Reader initReader(String fieldName, Reader reader) {
+            return new MappingCharFilter(UNDERSCORE_TO_SPACE, reader);
+          }
+
+          @Override
+          protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+          }
+
+          @Override
+          protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new LowerCaseFilter(in);
+          }
+        };
+    private final Analyzer keywordAnalyzer =
+        new Analyzer() {
+          @Override
+          protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new KeywordTokenizer();
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+          }
+
+          @Override
+          protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new LowerCaseFilter(in);
+          }
+        };
+
+    private MetadataAnalyzer() {
+      super(PER_FIELD_REUSE_STRATEGY);
+    }
+
+    @Override
+    protected Analyzer getWrappedAnalyzer(String fieldName) {
+      return TEXT_FIELDS.contains(fieldName) ? textAnalyzer : keywordAnalyzer;
+    }
+
+    @Override
+    public void close() {
+      super.close();
+      textAnalyzer.close();
+      keywordAnalyzer.close();
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+
+/**
+ * The indexed view of a metadata object: its name, comment, properties, columns and the tags and
+ * policies associated with it. Documents are immutable, the {@code with*} methods return copies.
+ */
+public final class MetadataSearchDocument {
+
+  private static final Joiner DOT = Joiner.on('.');
+  private static final Splitter DOT_SPLITTER = Splitter.on('.');
+
+  /** The name and comment of a table column. */
+  public static final class ColumnDoc {
+    private String name;
+    private String comment;
+
+    private ColumnDoc() {}
+
+    public ColumnDoc(String name, String comment) {
+      this.name = name;
+      this.comment = comment;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public String comment() {
+      return comment;
+    }
+  }
+
+  private String metalake;
+  private MetadataObject.Type type;
+  private String fullName;
+  private String comment;
+  private Map<String, String> properties;
+  private List<ColumnDoc> columns;
+  private Set<String> tags;
+  private Set<String> policies;
+
+  // For Jackson deserialization of the stored document source
+  private MetadataSearchDocument() {}
+
+  private MetadataSearchDocument(
+      String metalake,
+      MetadataObject.Type type,
+      String fullName,
+      String comment,
+      Map<String, String> properties,
+      List<ColumnDoc> columns,
+      Set<String> tags,
+      Set<String> policies) {
+    Preconditions.checkArgument(metalake != null, "metalake must not be null");
+    Preconditions.checkArgument(type != null, "type must not be null");
+    Preconditions.checkArgument(fullName != null, "fullName must not be null");
+    this.metalake = metalake;
+    this.type = type;
+    this.fullName = fullName;
+    this.comment = comment;
+    this.properties = properties == null ? ImmutableMap.of() : ImmutableMap.copyOf(properties);
+    this.columns = columns == null ? ImmutableList.of() : ImmutableList.copyOf(columns);
+    this.tags = tags == null ? ImmutableSet.of() : ImmutableSet.copyOf(tags);
+    this.policies = policies == null ? ImmutableSet.of() : ImmutableSet.copyOf(policies);
+  }
+
+  /**
+   * Creates a document without tags and policies.
+   *
+   * @param metalake the metalake of the object
+   * @param type the type of the object
+   * @param fullName the full name of the object, in the format of {@link MetadataObject#fullName()}
+   * @param comment the comment of the object, may be null
+   * @param properties the properties of the object, may be null
+   * @param columns the columns of a table, may be null
+   * @return the document
+   */
+  public static MetadataSearchDocument of(
+      String metalake,
+      MetadataObject.Type type,
+      String fullName,
+      String comment,
+      Map<String, String> properties,
+      List<ColumnDoc> columns) {
+    return new MetadataSearchDocument(
+        metalake, type, fullName, comment, properties, columns, null, null);
+  }
+
+  public String metalake() {
+    return metalake;
+  }
+
+  public MetadataObject.Type type() {
+    return type;
+  }
+
+  public String fullName() {
+    return fullName;
+  }
+
+  public String name() {
+    if (ancestors().isEmpty()) {
+      return fullName;
+    }
+    return fullName.substring(fullName.lastIndexOf('.') + 1);
+  }
+
+  public String comment() {
+    return comment;
+  }
+
+  public Map<String, String> properties() {
+    return properties == null ? Collections.emptyMap() : properties;
+  }
+
+  public List<ColumnDoc> columns() {
+    return columns == null ? Collections.emptyList() : columns;
+  }
+
+  public Set<String> tags() {
+    return tags == null ? Collections.emptySet() : tags;
+  }
+
+  public Set<String> policies() {
+    return policies == null ? Collections.emptySet() : policies;
+  }
+
+  /**
+   * @return the metadata object of the document
+   */
+  public MetadataObject toMetadataObject() {
+    return MetadataObjects.parse(fullName, type);
+  }
+
+  /**
+   * Returns the full names of the containers of the object, e.g. {@code catalog} and {@code
+   * catalog.schema} for a table, used to find the objects under a dropped or renamed container.
+   *
+   * @return the full names of the ancestors, the outermost first
+   */
+  public List<String> ancestors() {
+    if (type == MetadataObject.Type.METALAKE
+        || type == MetadataObject.Type.TAG
+        || type == MetadataObject.Type.POLICY) {
+      return Collections.emptyList();
+    }
+    List<String> names = DOT_SPLITTER.splitToList(fullName);
+    List<String> ancestors = new ArrayList<>(names.size() - 1);
+    for (int i = 1; i < names.size(); i++) {
+      ancestors.add(DOT.join(names.subList(0, i)));
+    }
+    return ancestors;
+  }
+
+  public MetadataSearchDocument withTags(Collection<String> newTags) {
+    return new MetadataSearchDocument(
+        metalake,
+        type,
+        fullName,
+        comment,
+        properties,
+        columns,
+        new LinkedHashSet<>(newTags),
+        policies);
+  }
+
+  public MetadataSearchDocument withPolicies(Collection<String> newPolicies) {
+    return new MetadataSearchDocument(
+        metalake,
+        type,
+        fullName,
+        comment,
+        properties,
+        columns,
+        tags,
+        new LinkedHashSet<>(newPolicies));
+  }
+
+  /**
+   * Returns a copy of the document at another location, the tags and policies are kept.
+   *
+   * @param newMetalake the new metalake
+   * @param newFullName the new full name
+   * @return the moved document
+   */
+  public MetadataSearchDocument withLocation(String newMetalake, String newFullName) {
+    return new MetadataSearchDocument(
+        newMetalake, type, newFullName, comment, properties, columns, tags, policies);
+  }
+
+  /**
+   * Returns a copy of the document carrying the tags and policies of the previous version of the
+   * object, which the create, alter and load events don't report.
+   *
+   * @param previous the previous version of the document, may be null
+   * @return the merged document
+   */
+  public MetadataSearchDocument withAssociationsOf(MetadataSearchDocument previous) {
+    if (previous == null) {
+      return this;
+    }
+    return new MetadataSearchDocument(
+        metalake, type, fullName, comment, properties, columns, previous.tags, previous.policies);
+  }
+}
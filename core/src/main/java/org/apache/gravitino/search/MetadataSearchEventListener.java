@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.AlterCatalogEvent;
+import org.apache.gravitino.listener.api.event.AlterFilesetEvent;
+import org.apache.gravitino.listener.api.event.AlterMetalakeEvent;
+import org.apache.gravitino.listener.api.event.AlterModelEvent;
+import org.apache.gravitino.listener.api.event.AlterSchemaEvent;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.event.AlterTagEvent;
+import org.apache.gravitino.listener.api.event.AlterTagPreEvent;
+import org.apache.gravitino.listener.api.event.AlterTopicEvent;
+import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectEvent;
+import org.apache.gravitino.listener.api.event.CreateCatalogEvent;
+import org.apache.gravitino.listener.api.event.CreateFilesetEvent;
+import org.apache.gravitino.listener.api.event.CreateMetalakeEvent;
+import org.apache.gravitino.listener.api.event.CreateSchemaEvent;
+import org.apache.gravitino.listener.api.event.CreateTableEvent;
+import org.apache.gravitino.listener.api.event.CreateTagEvent;
+import org.apache.gravitino.listener.api.event.CreateTopicEvent;
+import org.apache.gravitino.listener.api.event.DeleteModelEvent;
+import org.apache.gravitino.listener.api.event.DeleteTagEvent;
+import org.apache.gravitino.listener.api.event.DropCatalogEvent;
+import org.apache.gravitino.listener.api.event.DropFilesetEvent;
+import org.apache.gravitino.listener.api.event.DropMetalakeEvent;
+import org.apache.gravitino.listener.api.event.DropSchemaEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.listener.api.event.DropTopicEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.GetModelEvent;
+import org.apache.gravitino.listener.api.event.LoadCatalogEvent;
+import org.apache.gravitino.listener.api.event.LoadFilesetEvent;
+import org.apache.gravitino.listener.api.event.LoadMetalakeEvent;
+import org.apache.gravitino.listener.api.event.LoadSchemaEvent;
+import org.apache.gravitino.listener.api.event.LoadTableEvent;
+import org.apache.gravitino.listener.api.event.LoadTopicEvent;
+import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.listener.api.event.PurgeTableEvent;
+import org.apache.gravitino.listener.api.event.RegisterAndLinkModelEvent;
+import org.apache.gravitino.listener.api.event.RegisterModelEvent;
+import org.apache.gravitino.listener.api.event.policy.AlterPolicyEvent;
+import org.apache.gravitino.listener.api.event.policy.AssociatePoliciesForMetadataObjectEvent;
+import org.apache.gravitino.listener.api.event.policy.CreatePolicyEvent;
+import org.apache.gravitino.listener.api.event.policy.DeletePolicyEvent;
+import org.apache.gravitino.listener.api.info.CatalogInfo;
+import org.apache.gravitino.listener.api.info.FilesetInfo;
+import org.apache.gravitino.listener.api.info.MetalakeInfo;
+import org.apache.gravitino.listener.api.info.ModelInfo;
+import org.apache.gravitino.listener.api.info.PolicyInfo;
+import org.apache.gravitino.listener.api.info.SchemaInfo;
+import org.apache.gravitino.listener.api.info.TableInfo;
+import org.apache.gravitino.listener.api.info.TagInfo;
+import org.apache.gravitino.listener.api.info.TopicInfo;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.tag.TagChange;
+import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the metadata change events to the {@link LuceneMetadataIndex}. The load events are
+ * indexed too, so the objects created outside Gravitino become searchable once they are loaded.
+ */
+class MetadataSearchEventListener implements EventListenerPlugin {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataSearchEventListener.class);
+
+  private final LuceneMetadataIndex index;
+  // The alter tag event carries the new name only, the old name is taken from its pre-event
+  private final Map<NameIdentifier, String> renamingTags = new ConcurrentHashMap<>();
+
+  MetadataSearchEventListener(LuceneMetadataIndex index) {
+    this.index = index;
+  }
+
+  @Override
+  public void init(Map<String, String> properties) throws RuntimeException {}
+
+  @Override
+  public void start() throws RuntimeException {}
+
+  // The index is closed by the MetadataSearchManager
+  @Override
+  public void stop() throws RuntimeException {}
+
+  @Override
+  public void onPreEvent(PreEvent preEvent) throws ForbiddenException {
+    if (preEvent instanceof AlterTagPreEvent) {
+      String metalake = NameIdentifierUtil.getMetalake(preEvent.identifier());
+      for (TagChange change : ((AlterTagPreEvent) preEvent).changes()) {
+        if (change instanceof TagChange.RenameTag) {
+          String newName = ((TagChange.RenameTag) change).getNewName();
+          renamingTags.put(
+              NameIdentifierUtil.ofTag(metalake, newName), preEvent.identifier().name());
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onPostEvent(Event event) throws RuntimeException {
+    try {
+      apply(event);
+    } catch (Exception e) {
+      LOG.warn("Failed to index metadata event {}.", event, e);
+    }
+  }
+
+  private void apply(Event event) throws IOException {
+    NameIdentifier ident = event.identifier();
+    if (event instanceof CreateMetalakeEvent) {
+      indexMetalake(ident, ((CreateMetalakeEvent) event).createdMetalakeInfo());
+    } else if (event instanceof AlterMetalakeEvent) {
+      indexMetalake(ident, ((AlterMetalakeEvent) event).updatedMetalakeInfo());
+    } else if (event instanceof LoadMetalakeEvent) {
+      indexMetalake(ident, ((LoadMetalakeEvent) event).loadedMetalakeInfo());
+    } else if (event instanceof CreateCatalogEvent) {
+      indexCatalog(ident, ((CreateCatalogEvent) event).createdCatalogInfo());
+    } else if (event instanceof AlterCatalogEvent) {
+      indexCatalog(ident, ((AlterCatalogEvent) event).updatedCatalogInfo());
+    } else if (event instanceof LoadCatalogEvent) {
+      indexCatalog(ident, ((LoadCatalogEvent) event).loadedCatalogInfo());
+    } else if (event instanceof CreateSchemaEvent) {
+      indexSchema(ident, ((CreateSchemaEvent) event).createdSchemaInfo());
+    } else if (event instanceof AlterSchemaEvent) {
+      indexSchema(ident, ((AlterSchemaEvent) event).updatedSchemaInfo());
+    } else if (event instanceof LoadSchemaEvent) {
+      indexSchema(ident, ((LoadSchemaEvent) event).loadedSchemaInfo());
+    } else if (event instanceof CreateTableEvent) {
+      indexTable(ident, ((CreateTableEvent) event).createdTableInfo());
+    } else if (event instanceof AlterTableEvent) {
+      AlterTableEvent alterEvent = (AlterTableEvent) event;
+      indexTable(moveToNewSchema(ident, alterEvent.tableChanges()), alterEvent.updatedTableInfo());
+    } else if (event instanceof LoadTableEvent) {
+      indexTable(ident, ((LoadTableEvent) event).loadedTableInfo());
+    } else if (event instanceof CreateFilesetEvent) {
+      indexFileset(ident, ((CreateFilesetEvent) event).createdFilesetInfo());
+    } else if (event instanceof AlterFilesetEvent) {
+      indexFileset(ident, ((AlterFilesetEvent) event).updatedFilesetInfo());
+    } else if (event instanceof LoadFilesetEvent) {
+      indexFileset(ident, ((LoadFilesetEvent) event).loadedFilesetInfo());
+    } else if (event instanceof CreateTopicEvent) {
+      indexTopic(ident, ((CreateTopicEvent) event).createdTopicInfo());
+    } else if (event instanceof AlterTopicEvent) {
+      indexTopic(ident, ((AlterTopicEvent) event).updatedTopicInfo());
+    } else if (event instanceof LoadTopicEvent) {
+      indexTopic(ident, ((LoadTopicEvent) event).loadedTopicInfo());
+    } else if (event instanceof RegisterModelEvent) {
+      indexModel(ident, ((RegisterModelEvent) event).registeredModelInfo());
+    } else if (event instanceof RegisterAndLinkModelEvent) {
+      indexModel(ident, ((RegisterAndLinkModelEvent) event).registeredModelInfo());
+    } else if (event instanceof AlterModelEvent) {
+      indexModel(ident, ((AlterModelEvent) event).updatedModelInfo());
+    } else if (event instanceof GetModelEvent) {
+      indexModel(ident, ((GetModelEvent) event).modelInfo());
+    } else if (event instanceof DropMetalakeEvent) {
+      delete(ident, MetadataObject.Type.METALAKE);
+    } else if (event instanceof DropCatalogEvent) {
+      delete(ident, MetadataObject.Type.CATALOG);
+    } else if (event instanceof DropSchemaEvent) {
+      delete(ident, MetadataObject.Type.SCHEMA);
+    } else if (event instanceof DropTableEvent || event instanceof PurgeTableEvent) {
+      delete(ident, MetadataObject.Type.TABLE);
+    } else if (event instanceof DropFilesetEvent) {
+      delete(ident, MetadataObject.Type.FILESET);
+    } else if (event instanceof DropTopicEvent) {
+      delete(ident, MetadataObject.Type.TOPIC);
+    } else if (event instanceof DeleteModelEvent) {
+      delete(ident, MetadataObject.Type.MODEL);
+    } else if (event instanceof CreateTagEvent) {
+      TagInfo tag = ((CreateTagEvent) event).createdTagInfo();
+      indexObject(
+          ident, MetadataObject.Type.TAG, tag.name(), tag.comment(), tag.properties(), null);
+    } else if (event instanceof AlterTagEvent) {
+      TagInfo tag = ((AlterTagEvent) event).updatedTagInfo();
+      String oldName = renamingTags.remove(ident);
+      NameIdentifier oldIdent =
+          oldName == null
+              ? ident
+              : NameIdentifierUtil.ofTag(NameIdentifierUtil.getMetalake(ident), oldName);
+      renameAssociation(oldIdent, MetadataObject.Type.TAG, tag.name());
+      indexObject(
+          oldIdent, MetadataObject.Type.TAG, tag.name(), tag.comment(), tag.properties(), null);
+    } else if (event instanceof DeleteTagEvent) {
+      renameAssociation(ident, MetadataObject.Type.TAG, null);
+      delete(ident, MetadataObject.Type.TAG);
+    } else if (event instanceof AssociateTagsForMetadataObjectEvent) {
+      AssociateTagsForMetadataObjectEvent associateEvent =
+          (AssociateTagsForMetadataObjectEvent) event;
+      updateAssociations(
+          ident,
+          associateEvent.objectType(),
+          doc -> doc.withTags(Arrays.asList(associateEvent.associatedTags())));
+    } else if (event instanceof CreatePolicyEvent) {
+      PolicyInfo policy = ((CreatePolicyEvent) event).createdPolicyInfo();
+      indexObject(ident, MetadataObject.Type.POLICY, policy.name(), policy.comment(), null, null);
+    } else if (event instanceof AlterPolicyEvent) {
+      PolicyInfo policy = ((AlterPolicyEvent) event).updatedPolicyInfo();
+      renameAssociation(ident, MetadataObject.Type.POLICY, policy.name());
+      indexObject(ident, MetadataObject.Type.POLICY, policy.name(), policy.comment(), null, null);
+    } else if (event instanceof DeletePolicyEvent) {
+      renameAssociation(ident, MetadataObject.Type.POLICY, null);
+      delete(ident, MetadataObject.Type.POLICY);
+    } else if (event instanceof AssociatePoliciesForMetadataObjectEvent) {
+      AssociatePoliciesForMetadataObjectEvent associateEvent =
+          (AssociatePoliciesForMetadataObjectEvent) event;
+      updateAssociations(
+          ident,
+          associateEvent.metadataObject().type(),
+          doc -> {
+            Set<String> policies = new LinkedHashSet<>(doc.policies());
+            policies.removeAll(Arrays.asList(associateEvent.policiesToRemove()));
+            policies.addAll(Arrays.asList(associateEvent.policiesToAdd()));
+            return doc.withPolicies(policies);
+          });
+    }
+  }
+
+  private void indexMetalake(NameIdentifier ident, MetalakeInfo info) throws IOException {
+    indexObject(
+        ident, MetadataObject.Type.METALAKE, info.name(), info.comment(), info.properties(), null);
+  }
+
+  private void indexCatalog(NameIdentifier ident, CatalogInfo info) throws IOException {
+    indexObject(
+        ident, MetadataObject.Type.CATALOG, info.name(), info.comment(), info.properties(), null);
+  }
+
+  private void indexSchema(NameIdentifier ident, SchemaInfo info) throws IOException {
+    indexObject(
+        ident, MetadataObject.Type.SCHEMA, info.name(), info.comment(), info.properties(), null);
+  }
+
+  private void indexTable(NameIdentifier ident, TableInfo info) throws IOException {
+    indexObject(
+        ident,
+        MetadataObject.Type.TABLE,
+        info.name(),
+        info.comment(),
+        info.properties(),
+        toColumnDocs(info.columns()));
+  }
+
+  private void indexFileset(NameIdentifier ident, FilesetInfo info) throws IOException {
+    indexObject(
+        ident, MetadataObject.Type.FILESET, info.name(), info.comment(), info.properties(), null);
+  }
+
+  private void indexTopic(NameIdentifier ident, TopicInfo info) throws IOException {
+    indexObject(
+        ident, MetadataObject.Type.TOPIC, info.name(), info.comment(), info.properties(), null);
+  }
+
+  private void indexModel(NameIdentifier ident, ModelInfo info) throws IOException {
+    indexObject(
+        ident,
+        MetadataObject.Type.MODEL,
+        info.name(),
+        info.comment().orElse(null),
+        info.properties(),
+        null);
+  }
+
+  /**
+   * Indexes the object, the identifier of the event is the one before the operation, so an object
+   * named differently from the identifier was renamed and its document is moved first.
+   */
+  private void indexObject(
+      NameIdentifier ident,
+      MetadataObject.Type type,
+      String name,
+      String comment,
+      Map<String, String> properties,
+      List<MetadataSearchDocument.ColumnDoc> columns)
+      throws IOException {
+    String metalake = NameIdentifierUtil.getMetalake(ident);
+    String fullName = fullName(ident, type);
+    String newMetalake = type == MetadataObject.Type.METALAKE ? name : metalake;
+    String newFullName = rename(fullName, type, name);
+    if (!newFullName.equals(fullName)) {
+      index.move(metalake, type, fullName, newMetalake, newFullName);
+    }
+
+    MetadataSearchDocument doc =
+        MetadataSearchDocument.of(newMetalake, type, newFullName, comment, properties, columns);
+    index.upsert(doc.withAssociationsOf(index.get(newMetalake, type, newFullName)));
+  }
+
+  /**
+   * Moves the table to the new schema of a rename across schemas, the table info of the event
+   * carries the new table name only.
+   *
+   * @return the identifier of the table in the new schema
+   */
+  private NameIdentifier moveToNewSchema(NameIdentifier ident, TableChange[] changes)
+      throws IOException {
+    String[] levels = ident.namespace().levels();
+    for (TableChange change : changes) {
+      if (!(change instanceof TableChange.RenameTable)) {
+        continue;
+      }
+      Optional<String> newSchema = ((TableChange.RenameTable) change).getNewSchemaName();
+      if (newSchema.isPresent() && !newSchema.get().equals(levels[2])) {
+        String metalake = levels[0];
+        NameIdentifier moved =
+            NameIdentifier.of(metalake, levels[1], newSchema.get(), ident.name());
+        index.move(
+            metalake,
+            MetadataObject.Type.TABLE,
+            fullName(ident, MetadataObject.Type.TABLE),
+            metalake,
+            fullName(moved, MetadataObject.Type.TABLE));
+        return moved;
+      }
+    }
+    return ident;
+  }
+
+  private void delete(NameIdentifier ident, MetadataObject.Type type) throws IOException {
+    index.delete(NameIdentifierUtil.getMetalake(ident), type, fullName(ident, type));
+  }
+
+  /**
+   * Replaces the tag or policy in the documents associated with it, a null new name removes it.
+   */
+  private void renameAssociation(NameIdentifier ident, MetadataObject.Type type, String newName)
+      throws IOException {
+    String oldName = ident.name();
+    if (oldName.equals(newName)) {
+      return;
+    }
+
+    List<MetadataSearchDocument> docs = new ArrayList<>();
+    index.forEachAssociated(NameIdentifierUtil.getMetalake(ident), type, oldName, docs::add);
+    for (MetadataSearchDocument doc : docs) {
+      Set<String> names = type == MetadataObject.Type.TAG ? doc.tags() : doc.policies();
+      Set<String> renamed = new LinkedHashSet<>();
+      for (String associated : names) {
+        if (!associated.equals(oldName)) {
+          renamed.add(associated);
+        } else if (newName != null) {
+          renamed.add(newName);
+        }
+      }
+      index.upsert(
+          type == MetadataObject.Type.TAG ? doc.withTags(renamed) : doc.withPolicies(renamed));
+    }
+  }
+
+  /**
+   * Updates the tags or policies of the object, an object not indexed yet gets a document with the
+   * name only, which is completed by its next load or the next rebuild.
+   */
+  private void updateAssociations(
+      NameIdentifier ident,
+      MetadataObject.Type type,
+      UnaryOperator<MetadataSearchDocument> update)
+      throws IOException {
+    // Columns are indexed as a part of their table
+    if (type == MetadataObject.Type.COLUMN) {
+      return;
+    }
+
+    String metalake = NameIdentifierUtil.getMetalake(ident);
+    String fullName = fullName(ident, type);
+    MetadataSearchDocument doc = index.get(metalake, type, fullName);
+    if (doc == null) {
+      doc = MetadataSearchDocument.of(metalake, type, fullName, null, null, null);
+    }
+    index.upsert(update.apply(doc));
+  }
+
+  private static String fullName(NameIdentifier ident, MetadataObject.Type type) {
+    return NameIdentifierUtil.toMetadataObject(ident, MetadataObjectUtil.toEntityType(type))
+        .fullName();
+  }
+
+  private static String rename(String fullName, MetadataObject.Type type, String newName) {
+    int lastDot = fullName.lastIndexOf('.');
+    if (type == MetadataObject.Type.TAG
+        || type == MetadataObject.Type.POLICY
+        || type == MetadataObject.Type.METALAKE
+        || lastDot < 0) {
+      return newName;
+    }
+    return fullName.substring(0, lastDot + 1) + newName;
+  }
+
+  static List<MetadataSearchDocument.ColumnDoc> toColumnDocs(Column[] columns) {
+    if (columns == null) {
+      return null;
+    }
+    return Arrays.stream(columns)
+        .map(c -> new MetadataSearchDocument.ColumnDoc(c.name(), c.comment()))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,412 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.Metalake;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.listener.AsyncQueueListener;
+import org.apache.gravitino.listener.EventListenerManager;
+import org.apache.gravitino.messaging.Topic;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.model.Model;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.tag.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * MetadataSearchManager maintains an embedded full-text index of the metadata objects. The index
+ * is updated incrementally by the metadata change events, and could be rebuilt from the metadata
+ * store of a metalake.
+ * */
+public class MetadataSearchManager implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataSearchManager.class);
+  private static final String LISTENER_NAME = "metadata-search";
+  private static final int DISPATCHER_JOIN_SECONDS = 3;
+
+  private LuceneMetadataIndex index;
+  private ScheduledExecutorService executor;
+  private long commitIntervalMs;
+  private final Set<String> rebuildingMetalakes = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed = false;
+
+  public void init(Config config, EventListenerManager eventListenerManager) {
+    if (!config.get(Configs.SEARCH_ENABLED)) {
+      LOG.info("Metadata search is not enabled");
+      return;
+    }
+
+    Path indexPath = resolveIndexPath(config.get(Configs.SEARCH_INDEX_PATH));
+    try {
+      Files.createDirectories(indexPath);
+      this.index =
+          new LuceneMetadataIndex(indexPath, config.get(Configs.SEARCH_REFRESH_INTERVAL_MS));
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(
+          e, "Failed to open the metadata search index at %s", indexPath);
+    }
+    LOG.info("Metadata search index path:{}", indexPath);
+
+    this.commitIntervalMs = config.get(Configs.SEARCH_COMMIT_INTERVAL_MS);
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("metadata-search-index-%d")
+                .build());
+
+    // Index the events in a separate queue, so a slow index doesn't block the other listeners
+    eventListenerManager.addEventListener(
+        LISTENER_NAME,
+        new AsyncQueueListener(
+            ImmutableList.of(new MetadataSearchEventListener(index)),
+            LISTENER_NAME,
+            config.get(Configs.SEARCH_QUEUE_CAPACITY),
+            DISPATCHER_JOIN_SECONDS));
+  }
+
+  /** Starts persisting the index periodically, and builds the index if it is empty. */
+  public void start() {
+    if (index == null) {
+      return;
+    }
+
+    executor.scheduleWithFixedDelay(
+        this::commit, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+    if (index.numDocs() == 0) {
+      executor.execute(
+          () -> {
+            try {
+              GravitinoEnv env = GravitinoEnv.getInstance();
+              for (Metalake metalake : env.metalakeDispatcher().listMetalakes()) {
+                doRebuild(metalake.name());
+              }
+            } catch (Exception e) {
+              LOG.warn("Failed to build the metadata search index", e);
+            }
+          });
+    }
+  }
+
+  /**
+   * Search the metadata objects of a metalake.
+   *
+   * @param metalake the metalake to search in
+   * @param query the query in the Lucene query syntax, a blank query matches all objects
+   * @param types the types of the objects to return, empty for all types
+   * @param offset the number of matching objects to skip
+   * @param limit the max number of objects to return
+   * @param authorizer returns the objects the current user could access among the given ones
+   * @return the matching objects, the most relevant ones first
+   * @throws UnsupportedOperationException if the metadata search is disabled
+   * @throws IllegalArgumentException if the query is invalid
+   */
+  public MetadataSearchResult search(
+      String metalake,
+      String query,
+      Set<MetadataObject.Type> types,
+      int offset,
+      int limit,
+      UnaryOperator<List<MetadataObject>> authorizer) {
+    checkEnabled();
+    try {
+      return index.search(metalake, query, types, offset, limit, authorizer);
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(e, "Failed to search metadata of metalake %s", metalake);
+    }
+  }
+
+  /**
+   * Rebuild the index of a metalake from the metadata store in background. The objects changed
+   * during the rebuild are indexed by their events as usual.
+   *
+   * @param metalake the metalake to rebuild
+   * @return true if the rebuild is started, false if the metalake is being rebuilt
+   * @throws UnsupportedOperationException if the metadata search is disabled
+   */
+  public boolean rebuild(String metalake) {
+    checkEnabled();
+    if (rebuildingMetalakes.contains(metalake)) {
+      return false;
+    }
+    executor.execute(
+        () -> {
+          try {
+            doRebuild(metalake);
+          } catch (Exception e) {
+            LOG.warn("Failed to rebuild the metadata search index of metalake {}", metalake, e);
+          }
+        });
+    return true;
+  }
+
+  @Override
+  public void close() {
+    if (index == null) {
+      return;
+    }
+
+    // Stop the rebuild at the next object instead of interrupting it, Lucene doesn't tolerate
+    // interrupted IO
+    closed = true;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(DISPATCHER_JOIN_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("The metadata search index tasks are not finished in time");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      index.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close the metadata search index", e);
+    }
+  }
+
+  @VisibleForTesting
+  void doRebuild(String metalake) throws IOException {
+    if (!rebuildingMetalakes.add(metalake)) {
+      return;
+    }
+
+    try {
+      long start = System.currentTimeMillis();
+      long generation = index.nextGeneration();
+      if (new Rebuilder(metalake).run()) {
+        index.deleteOlderGenerations(metalake, generation);
+      } else {
+        LOG.warn("Keep the stale objects of metalake {} as it's partially rebuilt", metalake);
+      }
+      index.commit();
+      LOG.info(
+          "Rebuilt the metadata search index of metalake {} in {} ms",
+          metalake,
+          System.currentTimeMillis() - start);
+    } finally {
+      rebuildingMetalakes.remove(metalake);
+    }
+  }
+
+  @VisibleForTesting
+  LuceneMetadataIndex index() {
+    return index;
+  }
+
+  private void commit() {
+    try {
+      index.commit();
+    } catch (Exception e) {
+      LOG.warn("Failed to commit the metadata search index", e);
+    }
+  }
+
+  private void checkEnabled() {
+    if (index == null) {
+      throw new UnsupportedOperationException(
+          "Metadata search is not enabled, please set "
+              + Configs.SEARCH_ENABLED.getKey()
+              + " to true");
+    }
+  }
+
+  private static Path resolveIndexPath(String indexPath) {
+    Path path = Paths.get(indexPath);
+    if (path.isAbsolute()) {
+      return path;
+    }
+
+    String gravitinoHome = System.getenv("GRAVITINO_HOME");
+    if (StringUtils.isBlank(gravitinoHome)) {
+      throw new IllegalArgumentException(
+          "GRAVITINO_HOME environment variable must be set when using relative index path: "
+              + indexPath);
+    }
+    return Paths.get(gravitinoHome, indexPath);
+  }
+
+  /** Walks the metadata objects of a metalake and indexes them. */
+  private class Rebuilder {
+    private final String metalake;
+    private final GravitinoEnv env = GravitinoEnv.getInstance();
+    private final Map<String, Set<String>> tags = new HashMap<>();
+    private final Map<String, Set<String>> policies = new HashMap<>();
+
+    private Rebuilder(String metalake) {
+      this.metalake = metalake;
+    }
+
+    /**
+     * @return true if all the objects are indexed
+     */
+    private boolean run() throws IOException {
+      Metalake loaded = env.metalakeDispatcher().loadMetalake(NameIdentifier.of(metalake));
+      put(MetadataObject.Type.METALAKE, metalake, loaded.comment(), loaded.properties(), null);
+
+      for (Tag tag : env.tagDispatcher().listTagsInfo(metalake)) {
+        for (MetadataObject object :
+            env.tagDispatcher().listMetadataObjectsForTag(metalake, tag.name())) {
+          tags.computeIfAbsent(key(object.type(), object.fullName()), k -> new LinkedHashSet<>())
+              .add(tag.name());
+        }
+        put(MetadataObject.Type.TAG, tag.name(), tag.comment(), tag.properties(), null);
+      }
+      for (PolicyEntity policy : env.policyDispatcher().listPolicyInfos(metalake)) {
+        for (MetadataObject object :
+            env.policyDispatcher().listMetadataObjectsForPolicy(metalake, policy.name())) {
+          policies
+              .computeIfAbsent(key(object.type(), object.fullName()), k -> new LinkedHashSet<>())
+              .add(policy.name());
+        }
+        put(MetadataObject.Type.POLICY, policy.name(), policy.comment(), null, null);
+      }
+
+      boolean complete = true;
+      for (Catalog catalog : env.catalogDispatcher().listCatalogsInfo(Namespace.of(metalake))) {
+        put(
+            MetadataObject.Type.CATALOG,
+            catalog.name(),
+            catalog.comment(),
+            catalog.properties(),
+            null);
+        try {
+          indexCatalog(catalog);
+        } catch (Exception e) {
+          complete = false;
+          LOG.warn("Failed to index catalog {} of metalake {}", catalog.name(), metalake, e);
+        }
+      }
+      return complete;
+    }
+
+    private void indexCatalog(Catalog catalog) throws IOException {
+      Namespace catalogNamespace = Namespace.of(metalake, catalog.name());
+      for (NameIdentifier schemaIdent : env.schemaDispatcher().listSchemas(catalogNamespace)) {
+        Schema schema = env.schemaDispatcher().loadSchema(schemaIdent);
+        String schemaFullName = catalog.name() + "." + schemaIdent.name();
+        put(
+            MetadataObject.Type.SCHEMA,
+            schemaFullName,
+            schema.comment(),
+            schema.properties(),
+            null);
+
+        Namespace schemaNamespace = Namespace.of(metalake, catalog.name(), schemaIdent.name());
+        switch (catalog.type()) {
+          case RELATIONAL:
+            for (NameIdentifier ident : env.tableDispatcher().listTables(schemaNamespace)) {
+              Table table = env.tableDispatcher().loadTable(ident);
+              put(
+                  MetadataObject.Type.TABLE,
+                  schemaFullName + "." + ident.name(),
+                  table.comment(),
+                  table.properties(),
+                  MetadataSearchEventListener.toColumnDocs(table.columns()));
+            }
+            break;
+          case FILESET:
+            for (NameIdentifier ident : env.filesetDispatcher().listFilesets(schemaNamespace)) {
+              Fileset fileset = env.filesetDispatcher().loadFileset(ident);
+              put(
+                  MetadataObject.Type.FILESET,
+                  schemaFullName + "." + ident.name(),
+                  fileset.comment(),
+                  fileset.properties(),
+                  null);
+            }
+            break;
+          case MESSAGING:
+            for (NameIdentifier ident : env.topicDispatcher().listTopics(schemaNamespace)) {
+              Topic topic = env.topicDispatcher().loadTopic(ident);
+              put(
+                  MetadataObject.Type.TOPIC,
+                  schemaFullName + "." + ident.name(),
+                  topic.comment(),
+                  topic.properties(),
+                  null);
+            }
+            break;
+          case MODEL:
+            for (NameIdentifier ident : env.modelDispatcher().listModels(schemaNamespace)) {
+              Model model = env.modelDispatcher().getModel(ident);
+              put(
+                  MetadataObject.Type.MODEL,
+                  schemaFullName + "." + ident.name(),
+                  model.comment(),
+                  model.properties(),
+                  null);
+            }
+            break;
+          default:
+            break;
+        }
+      }
+    }
+
+    private void put(
+        MetadataObject.Type type,
+        String fullName,
+        String comment,
+        Map<String, String> properties,
+        List<MetadataSearchDocument.ColumnDoc> columns)
+        throws IOException {
+      if (closed) {
+        throw new IllegalStateException("Metadata search manager is closed");
+      }
+      String key = key(type, fullName);
+      index.upsert(
+          MetadataSearchDocument.of(metalake, type, fullName, comment, properties, columns)
+              .withTags(tags.getOrDefault(key, new LinkedHashSet<>()))
+              .withPolicies(policies.getOrDefault(key, new LinkedHashSet<>())));
+    }
+
+    private String key(MetadataObject.Type type, String fullName) {
+      return type.name() + ":" + fullName;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.apache.gravitino.MetadataObject;
+
+/** A page of the metadata objects matching a search, ordered by relevance. */
+public final class MetadataSearchResult {
+
+  private final List<MetadataObject> objects;
+  private final boolean hasMore;
+
+  public MetadataSearchResult(List<MetadataObject> objects, boolean hasMore) {
+    this.objects = ImmutableList.copyOf(objects);
+    this.hasMore = hasMore;
+  }
+
+  /**
+   * @return the matching objects of the page
+   */
+  public List<MetadataObject> objects() {
+    return objects;
+  }
+
+  /**
+   * @return whether there are more matching objects after the page
+   */
+  public boolean hasMore() {
+    return hasMore;
+  }
+}
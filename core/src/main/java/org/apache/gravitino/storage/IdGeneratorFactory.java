@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.base.Preconditions;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.EntityStore;
+
+/** The factory to create the {@link IdGenerator} configured by {@link Configs#ID_GENERATOR}. */
+public class IdGeneratorFactory {
+
+  private IdGeneratorFactory() {}
+
+  /**
+   * Creates the id generator, the entity store must be initialized before creating a snowflake id
+   * generator since its node id is leased through the store.
+   *
+   * @param config The configuration.
+   * @param entityStore The entity store.
+   * @return The id generator.
+   */
+  public static IdGenerator createIdGenerator(Config config, EntityStore entityStore) {
+    String type = config.get(Configs.ID_GENERATOR);
+    if (!Configs.SNOWFLAKE_ID_GENERATOR.equalsIgnoreCase(type)) {
+      return new RandomIdGenerator();
+    }
+
+    Preconditions.checkArgument(
+        entityStore instanceof SupportsNodeIdLease,
+        "The snowflake id generator requires the %s entity store",
+        Configs.RELATIONAL_ENTITY_STORE);
+    NodeIdLease lease =
+        ((SupportsNodeIdLease) entityStore)
+            .acquireNodeIdLease(leaseOwner(), config.get(Configs.SNOWFLAKE_ID_GENERATOR_LEASE_MS));
+    return new SnowflakeIdGenerator(lease);
+  }
+
+  private static String leaseOwner() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "unknown";
+    }
+    // The owner must be unique even if the servers run on the same host
+    return host + "-" + UUID.randomUUID();
+  }
+}
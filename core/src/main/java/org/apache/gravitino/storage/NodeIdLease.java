@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.io.Closeable;
+
+/**
+ * The lease of the node id used by {@link SnowflakeIdGenerator}. The node id must not be used by
+ * any other generator while the lease is held, the node id may change after the lease is lost and
+ * acquired again.
+ */
+public interface NodeIdLease extends Closeable {
+
+  /**
+   * Returns the node id of the lease.
+   *
+   * @return The node id.
+   */
+  int nodeId();
+
+  /**
+   * Returns whether the lease is held, ids must not be generated with the node id otherwise.
+   *
+   * @return true if the lease is held.
+   */
+  boolean isHeld();
+
+  /**
+   * Creates a lease of a fixed node id which is always held, it's only safe when the node id is
+   * assigned to a single server by other means.
+   *
+   * @param nodeId The node id.
+   * @return The lease of the node id.
+   */
+  static NodeIdLease fixed(int nodeId) {
+    return new NodeIdLease() {
+      @Override
+      public int nodeId() {
+        return nodeId;
+      }
+
+      @Override
+      public boolean isHeld() {
+        return true;
+      }
+
+      @Override
+      public void close() {}
+    };
+  }
+}
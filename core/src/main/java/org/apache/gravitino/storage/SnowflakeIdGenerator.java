@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Snowflake-style id generator, the id consists of 41 bits of milliseconds since {@link
+ * #EPOCH_MS}, 10 bits of node id and 12 bits of sequence. Unlike the ids of {@link
+ * RandomIdGenerator}, the ids generated later are greater, so the inserts of the relational entity
+ * store append to the right of the primary key indexes instead of splitting random pages.
+ *
+ * <p>The ids are unique as long as the node id is held by one generator at a time. If the clock
+ * moves backwards, the generator keeps using the last timestamp rather than generating ids already
+ * used.
+ */
+public class SnowflakeIdGenerator implements IdGenerator, Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+  /** The epoch of the timestamp part, 2024-01-01T00:00:00Z. */
+  public static final long EPOCH_MS = 1704067200000L;
+
+  @VisibleForTesting static final int NODE_ID_BITS = 10;
+  @VisibleForTesting static final int SEQUENCE_BITS = 12;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+  private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  private final NodeIdLease lease;
+  private final LongSupplier clock;
+
+  private long lastTimestamp = -1L;
+  private long sequence;
+
+  public SnowflakeIdGenerator(NodeIdLease lease) {
+    this(lease, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SnowflakeIdGenerator(NodeIdLease lease, LongSupplier clock) {
+    this.lease = lease;
+    this.clock = clock;
+  }
+
+  @Override
+  public synchronized long nextId() {
+    Preconditions.checkState(
+        lease.isHeld(), "The node id lease of the id generator is lost, can't generate ids");
+    int nodeId = lease.nodeId();
+    Preconditions.checkState(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID, "Invalid node id %s of the id generator", nodeId);
+
+    long now = clock.getAsLong();
+    if (now > lastTimestamp) {
+      lastTimestamp = now;
+      sequence = 0;
+    } else {
+      if (now < lastTimestamp - 1000) {
+        LOG.warn("The clock moved backwards from {} to {}", lastTimestamp, now);
+      }
+      sequence++;
+      if (sequence > MAX_SEQUENCE) {
+        // The sequence is exhausted in the millisecond, wait for the next one. If the clock moved
+        // backwards, use the next millisecond of the last timestamp instead of waiting for it.
+        lastTimestamp = now >= lastTimestamp ? waitUntilAfter(lastTimestamp) : lastTimestamp + 1;
+        sequence = 0;
+      }
+    }
+
+    return ((lastTimestamp - EPOCH_MS) << (NODE_ID_BITS + SEQUENCE_BITS))
+        | ((long) nodeId << SEQUENCE_BITS)
+        | sequence;
+  }
+
+  @Override
+  public void close() throws IOException {
+    lease.close();
+  }
+
+  /**
+   * Returns the timestamp in milliseconds when the id was generated.
+   *
+   * @param id The id generated by this generator.
+   * @return The timestamp in milliseconds.
+   */
+  public static long timestampOf(long id) {
+    return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH_MS;
+  }
+
+  /**
+   * Returns the node id of the generator which generated the id.
+   *
+   * @param id The id generated by this generator.
+   * @return The node id.
+   */
+  public static int nodeIdOf(long id) {
+    return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+  }
+
+  private long waitUntilAfter(long timestamp) {
+    long now = clock.getAsLong();
+    while (now <= timestamp) {
+      Thread.onSpinWait();
+      now = clock.getAsLong();
+    }
+    return now;
+  }
+}
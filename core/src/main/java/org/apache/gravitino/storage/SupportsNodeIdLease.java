@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+/**
+ * An entity store supporting the node id leases of {@link SnowflakeIdGenerator}, the leases are
+ * stored in the entity store shared by all the servers.
+ */
+public interface SupportsNodeIdLease {
+
+  /**
+   * Acquires the lease of a node id not leased by any other server, the lease is renewed until it's
+   * closed.
+   *
+   * @param leaseOwner The unique name of the server acquiring the lease.
+   * @param leaseMs The lease duration in milliseconds.
+   * @return The lease of the node id.
+   * @throws IllegalStateException If all the node ids are leased.
+   */
+  NodeIdLease acquireNodeIdLease(String leaseOwner, long leaseMs);
+}
@@ -20,7 +20,6 @@
 package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
-import static org.apache.gravitino.Entity.EntityType.TABLE;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
@@ -82,6 +81,7 @@ import org.apache.gravitino.storage.relational.service.TopicMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.service.ViewMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -112,6 +112,11 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Entity.EntityType entityType, boolean allFields) throws IOException {
+    return SessionUtils.getFromReadReplica(() -> listEntities(namespace, entityType, allFields));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listEntities(
+      Namespace namespace, Entity.EntityType entityType, boolean allFields) throws IOException {
     switch (entityType) {
       case METALAKE:
         return (List<E>) MetalakeMetaService.getInstance().listMetalakes();
@@ -150,10 +155,13 @@ public class JDBCBackend implements RelationalBackend {
       case JOB:
         return (List<E>) JobMetaService.getInstance().listJobsByNamespace(namespace);
       case TABLE_STATISTIC:
+      case FILESET_STATISTIC:
+      case TOPIC_STATISTIC:
         return (List<E>)
             StatisticMetaService.getInstance()
                 .listStatisticsByEntity(
-                    NameIdentifier.parse(namespace.toString()), Entity.EntityType.TABLE);
+                    NameIdentifier.parse(namespace.toString()),
+                    StatisticEntity.getObjectType(entityType));
       default:
         throw new UnsupportedEntityTypeException(
             "Unsupported entity type: %s for list operation", entityType);
@@ -271,6 +279,11 @@ public class JDBCBackend implements RelationalBackend {
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType)
       throws NoSuchEntityException, IOException {
+    return SessionUtils.getFromReadReplica(() -> getEntity(ident, entityType));
+  }
+
+  private <E extends Entity & HasIdentifier> E getEntity(
+      NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     switch (entityType) {
       case METALAKE:
         return (E) MetalakeMetaService.getInstance().getMetalakeByIdentifier(ident);
@@ -478,6 +491,10 @@ public class JDBCBackend implements RelationalBackend {
         return ViewMetaService.getInstance()
             .deleteViewMetasByLegacyTimeline(
                 legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+      case FILESET_STATISTIC:
+      case TOPIC_STATISTIC:
+        // The statistics of all the object types share one table, which is cleaned with
+        // TABLE_STATISTIC.
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -506,6 +523,8 @@ public class JDBCBackend implements RelationalBackend {
       case MODEL:
       case MODEL_VERSION:
       case TABLE_STATISTIC:
+      case FILESET_STATISTIC:
+      case TOPIC_STATISTIC:
       case JOB_TEMPLATE:
       case JOB:
       case VIEW:
@@ -556,6 +575,8 @@ public class JDBCBackend implements RelationalBackend {
     Entity.EntityType entityType = entitiesToDelete.get(0).getRight();
     switch (entityType) {
       case TABLE_STATISTIC:
+      case FILESET_STATISTIC:
+      case TOPIC_STATISTIC:
         Preconditions.checkArgument(
             cascade, "Batch delete for statistics must be cascade deleted.");
         List<NameIdentifier> deleteIdents =
@@ -572,7 +593,7 @@ public class JDBCBackend implements RelationalBackend {
         return StatisticMetaService.getInstance()
             .batchDeleteStatisticPOs(
                 NameIdentifier.parse(namespace.toString()),
-                TABLE,
+                StatisticEntity.getObjectType(entityType),
                 deleteIdents.stream().map(NameIdentifier::name).collect(Collectors.toList()));
       default:
         throw new IllegalArgumentException(
@@ -594,6 +615,8 @@ public class JDBCBackend implements RelationalBackend {
 
     switch (entityType) {
       case TABLE_STATISTIC:
+      case FILESET_STATISTIC:
+      case TOPIC_STATISTIC:
         Preconditions.checkArgument(overwritten, "Batch put for statistics must be overwritten.");
         List<StatisticEntity> statisticEntities =
             entities.stream().map(e -> (StatisticEntity) e).collect(Collectors.toList());
@@ -605,7 +628,7 @@ public class JDBCBackend implements RelationalBackend {
             .batchInsertStatisticPOsOnDuplicateKeyUpdate(
                 statisticEntities,
                 NameIdentifier.parse(statisticEntities.get(0).namespace().toString()),
-                Entity.EntityType.TABLE);
+                StatisticEntity.getObjectType(entityType));
         break;
       default:
         throw new IllegalArgumentException(
@@ -617,6 +640,13 @@ public class JDBCBackend implements RelationalBackend {
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
+    return SessionUtils.getFromReadReplica(
+        () -> listRelatedEntities(relType, nameIdentifier, identType, allFields));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listRelatedEntities(
+      Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
+      throws IOException {
     switch (relType) {
       case OWNER_REL:
         List<E> list = Lists.newArrayList();
@@ -719,6 +749,16 @@ public class JDBCBackend implements RelationalBackend {
       Entity.EntityType srcType,
       NameIdentifier destEntityIdent)
       throws IOException, NoSuchEntityException {
+    return SessionUtils.getFromReadReplica(
+        () -> getRelatedEntity(relType, srcIdentifier, srcType, destEntityIdent));
+  }
+
+  private <E extends Entity & HasIdentifier> E getRelatedEntity(
+      Type relType,
+      NameIdentifier srcIdentifier,
+      Entity.EntityType srcType,
+      NameIdentifier destEntityIdent)
+      throws IOException {
     switch (relType) {
       case POLICY_METADATA_OBJECT_REL:
         return (E)
@@ -22,6 +22,7 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import io.opentelemetry.api.trace.Span;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,7 +44,13 @@ import org.apache.gravitino.cache.EntityCache;
 import org.apache.gravitino.cache.EntityCacheRelationKey;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.storage.NodeIdLease;
+import org.apache.gravitino.storage.SupportsNodeIdLease;
 import org.apache.gravitino.storage.relational.service.EntityIdService;
+import org.apache.gravitino.storage.relational.session.ReadReplicaRouter;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.apache.gravitino.tracing.Traced;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,7 +60,8 @@ import org.slf4j.LoggerFactory;
  * MySQL, PostgreSQL, etc. If you want to use a different backend, you can implement the {@link
  * RelationalBackend} interface
  */
-public class RelationalEntityStore implements EntityStore, SupportsRelationOperations {
+public class RelationalEntityStore
+    implements EntityStore, SupportsRelationOperations, SupportsNodeIdLease {
   private static final Logger LOGGER = LoggerFactory.getLogger(RelationalEntityStore.class);
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
@@ -103,12 +111,14 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   }
 
   @Override
+  @Traced
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
     return backend.list(namespace, entityType, false);
   }
 
   @Override
+  @Traced
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
@@ -116,12 +126,14 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   }
 
   @Override
+  @Traced
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     boolean existsInCache = cache.contains(ident, entityType);
     return existsInCache || backend.exists(ident, entityType);
   }
 
   @Override
+  @Traced
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.insert(e, overwritten);
@@ -129,6 +141,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   }
 
   @Override
+  @Traced
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
@@ -137,6 +150,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   }
 
   @Override
+  @Traced
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
@@ -144,17 +158,19 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
         EntityCacheRelationKey.of(ident, entityType),
         () -> {
           Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
+          Span.current().setAttribute(Tracing.CACHE_HIT, entityFromCache.isPresent());
           if (entityFromCache.isPresent()) {
             return entityFromCache.get();
           }
 
-          E entity = backend.get(ident, entityType);
+          E entity = loadForCache(() -> backend.get(ident, entityType));
           cache.put(entity);
           return entity;
         });
   }
 
   @Override
+  @Traced
   public <E extends Entity & HasIdentifier> List<E> batchGet(
       List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> clazz) {
     List<E> allEntities = new ArrayList<>();
@@ -167,7 +183,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
                   return entity.isEmpty();
                 })
             .toList();
-    List<E> fetchEntities = backend.batchGet(noCacheIdents, entityType);
+    List<E> fetchEntities = loadForCache(() -> backend.batchGet(noCacheIdents, entityType));
     for (E entity : fetchEntities) {
       cache.put(entity);
       allEntities.add(entity);
@@ -176,6 +192,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   }
 
   @Override
+  @Traced
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
     try {
@@ -186,9 +203,28 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     }
   }
 
+  // The loaded entities are kept in the cache, so they are read from the primary, a lagging replica
+  // could return the values that a write just invalidated in the cache. The relations are always
+  // read from the primary, as the callers like the effective tag cache keep them as well.
+  private <R, E extends Exception> R loadForCache(Executable<R, E> load) throws E {
+    return cache instanceof NoOpsCache ? load.execute() : ReadReplicaRouter.readFromPrimary(load);
+  }
+
   @Override
-  public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable) {
-    throw new UnsupportedOperationException("Unsupported operation in relational entity store.");
+  public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable) throws E {
+    // The store operations of the current thread join the session opened here, and are committed
+    // or rolled back together when it's closed
+    SessionUtils.beginTransaction();
+    try {
+      R result = executable.execute();
+      SessionUtils.commitTransaction();
+      return result;
+    } catch (Throwable t) {
+      SessionUtils.rollbackTransaction();
+      // The cache may hold the entities written by the rolled back transaction
+      cache.clear();
+      throw t;
+    }
   }
 
   @Override
@@ -198,6 +234,13 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     backend.close();
   }
 
+  @Override
+  public NodeIdLease acquireNodeIdLease(String leaseOwner, long leaseMs) {
+    RelationalNodeIdLease lease = new RelationalNodeIdLease(leaseOwner, leaseMs);
+    lease.start();
+    return lease;
+  }
+
   @Override
   public SupportsRelationOperations relationOperations() {
     return this;
@@ -217,7 +260,8 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
 
           // Use allFields=true to cache complete entities
           List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, nameIdentifier, identType, true);
+              ReadReplicaRouter.readFromPrimary(
+                  () -> backend.listEntitiesByRelation(relType, nameIdentifier, identType, true));
 
           cache.put(nameIdentifier, identType, relType, backendEntities);
 
@@ -248,7 +292,8 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
 
           // Use allFields=true to cache complete entities
           List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, srcIdentifier, srcType, true);
+              ReadReplicaRouter.readFromPrimary(
+                  () -> backend.listEntitiesByRelation(relType, srcIdentifier, srcType, true));
 
           E r =
               backendEntities.stream()
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.OptionalInt;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.storage.NodeIdLease;
+import org.apache.gravitino.storage.SnowflakeIdGenerator;
+import org.apache.gravitino.storage.relational.service.IdGeneratorNodeLeaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A node id lease stored in the relational entity store, the lease is renewed every third of its
+ * duration in background. The lease is considered lost locally a third of the duration before it
+ * expires in the store, so the ids generated by this server and the server taking over the node id
+ * don't overlap even if the clocks of the two servers are skewed by less than that.
+ */
+public class RelationalNodeIdLease implements NodeIdLease {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RelationalNodeIdLease.class);
+
+  private final IdGeneratorNodeLeaseService leaseService =
+      IdGeneratorNodeLeaseService.getInstance();
+  private final String leaseOwner;
+  private final long leaseMs;
+  private final LongSupplier clock;
+  private ScheduledExecutorService renewExecutor;
+
+  private volatile int nodeId = -1;
+  private volatile long heldUntil;
+
+  public RelationalNodeIdLease(String leaseOwner, long leaseMs) {
+    this(leaseOwner, leaseMs, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  RelationalNodeIdLease(String leaseOwner, long leaseMs, LongSupplier clock) {
+    this.leaseOwner = leaseOwner;
+    this.leaseMs = leaseMs;
+    this.clock = clock;
+  }
+
+  /** Acquires a node id and starts renewing the lease in background. */
+  public void start() {
+    Preconditions.checkState(
+        acquire(),
+        "All the %s node ids of the snowflake id generator are leased",
+        SnowflakeIdGenerator.MAX_NODE_ID + 1);
+    LOG.info("Acquired node id {} for the snowflake id generator, owner: {}", nodeId, leaseOwner);
+
+    this.renewExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("id-generator-node-lease-renewer")
+                .build());
+    long interval = leaseMs / 3;
+    renewExecutor.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public int nodeId() {
+    return nodeId;
+  }
+
+  @Override
+  public boolean isHeld() {
+    return nodeId >= 0 && clock.getAsLong() < heldUntil;
+  }
+
+  @Override
+  public void close() {
+    if (renewExecutor != null) {
+      renewExecutor.shutdownNow();
+    }
+    if (nodeId >= 0) {
+      heldUntil = 0;
+      try {
+        // Keep the lease for the max clock skew tolerated, a server whose clock lags behind could
+        // otherwise take over the node id and generate the ids this server has generated
+        leaseService.releaseNodeLease(nodeId, leaseOwner, clock.getAsLong() + leaseMs / 3);
+      } catch (Exception e) {
+        LOG.warn("Failed to release node id {} of the snowflake id generator", nodeId, e);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void renew() {
+    try {
+      long now = clock.getAsLong();
+      if (nodeId >= 0 && leaseService.renewNodeLease(nodeId, leaseOwner, now, leaseMs)) {
+        heldUntil = now + leaseMs - leaseMs / 3;
+        return;
+      }
+
+      LOG.warn(
+          "The lease of node id {} of the snowflake id generator is lost, acquiring a new one",
+          nodeId);
+      if (!acquire()) {
+        LOG.error("All the node ids of the snowflake id generator are leased");
+      }
+    } catch (Exception e) {
+      // Retry in the next round, the lease is still held until heldUntil
+      LOG.warn("Failed to renew node id {} of the snowflake id generator", nodeId, e);
+    }
+  }
+
+  private boolean acquire() {
+    long now = clock.getAsLong();
+    OptionalInt acquired =
+        leaseService.acquireNodeLease(leaseOwner, SnowflakeIdGenerator.MAX_NODE_ID, now, leaseMs);
+    if (!acquired.isPresent()) {
+      return false;
+    }
+    // Publish the node id before extending heldUntil, so isHeld never pairs a new deadline with
+    // the old node id.
+    heldUntil = 0;
+    nodeId = acquired.getAsInt();
+    heldUntil = now + leaseMs - leaseMs / 3;
+    return true;
+  }
+}
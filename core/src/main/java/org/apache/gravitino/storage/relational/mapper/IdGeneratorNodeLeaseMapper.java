@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * A MyBatis Mapper for the node id leases of the snowflake id generator, each Gravitino server
+ * holds a distinct node id by renewing its lease periodically.
+ */
+public interface IdGeneratorNodeLeaseMapper {
+
+  String ID_GENERATOR_NODE_LEASE_TABLE_NAME = "id_generator_node_lease";
+
+  @SelectProvider(
+      type = IdGeneratorNodeLeaseSQLProviderFactory.class,
+      method = "listLeasedNodeIds")
+  List<Integer> listLeasedNodeIds(@Param("now") long now);
+
+  @InsertProvider(
+      type = IdGeneratorNodeLeaseSQLProviderFactory.class,
+      method = "insertNodeLease")
+  Integer insertNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt);
+
+  @UpdateProvider(
+      type = IdGeneratorNodeLeaseSQLProviderFactory.class,
+      method = "takeOverExpiredNodeLease")
+  Integer takeOverExpiredNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt,
+      @Param("now") long now);
+
+  @UpdateProvider(
+      type = IdGeneratorNodeLeaseSQLProviderFactory.class,
+      method = "renewNodeLease")
+  Integer renewNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt,
+      @Param("now") long now);
+
+  @UpdateProvider(
+      type = IdGeneratorNodeLeaseSQLProviderFactory.class,
+      method = "releaseNodeLease")
+  Integer releaseNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt);
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.provider.base.IdGeneratorNodeLeaseBaseSQLProvider;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class IdGeneratorNodeLeaseSQLProviderFactory {
+
+  static class IdGeneratorNodeLeaseMySQLProvider extends IdGeneratorNodeLeaseBaseSQLProvider {}
+
+  static class IdGeneratorNodeLeaseH2Provider extends IdGeneratorNodeLeaseBaseSQLProvider {}
+
+  static class IdGeneratorNodeLeasePostgreSQLProvider extends IdGeneratorNodeLeaseBaseSQLProvider {}
+
+  private static final Map<JDBCBackend.JDBCBackendType, IdGeneratorNodeLeaseBaseSQLProvider>
+      NODE_LEASE_SQL_PROVIDERS =
+          ImmutableMap.of(
+              JDBCBackend.JDBCBackendType.H2,
+              new IdGeneratorNodeLeaseH2Provider(),
+              JDBCBackend.JDBCBackendType.MYSQL,
+              new IdGeneratorNodeLeaseMySQLProvider(),
+              JDBCBackend.JDBCBackendType.POSTGRESQL,
+              new IdGeneratorNodeLeasePostgreSQLProvider());
+
+  public static IdGeneratorNodeLeaseBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+    JDBCBackend.JDBCBackendType jdbcBackendType =
+        JDBCBackend.JDBCBackendType.fromString(databaseId);
+    return NODE_LEASE_SQL_PROVIDERS.get(jdbcBackendType);
+  }
+
+  public static String listLeasedNodeIds(@Param("now") long now) {
+    return getProvider().listLeasedNodeIds(now);
+  }
+
+  public static String insertNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return getProvider().insertNodeLease(nodeId, leaseOwner, leaseExpireAt);
+  }
+
+  public static String takeOverExpiredNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt,
+      @Param("now") long now) {
+    return getProvider().takeOverExpiredNodeLease(nodeId, leaseOwner, leaseExpireAt, now);
+  }
+
+  public static String renewNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt,
+      @Param("now") long now) {
+    return getProvider().renewNodeLease(nodeId, leaseOwner, leaseExpireAt, now);
+  }
+
+  public static String releaseNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return getProvider().releaseNodeLease(nodeId, leaseOwner, leaseExpireAt);
+  }
+}
@@ -29,6 +29,7 @@ import org.apache.ibatis.annotations.UpdateProvider;
 public interface TableColumnMapper {
 
   String COLUMN_TABLE_NAME = "table_column_version_info";
+  String CURRENT_COLUMN_TABLE_NAME = "table_column_current_info";
 
   @SelectProvider(
       type = TableColumnSQLProviderFactory.class,
@@ -78,4 +79,45 @@ public interface TableColumnMapper {
 
   @SelectProvider(type = TableColumnSQLProviderFactory.class, method = "listColumnPOsByColumnIds")
   List<ColumnPO> listColumnPOsByColumnIds(@Param("columnIds") List<Long> columnIds);
+
+  @SelectProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "listCurrentColumnPOsByTableIdAndVersion")
+  List<ColumnPO> listCurrentColumnPOsByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
+
+  @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertCurrentColumnPOs")
+  void insertCurrentColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs);
+
+  @UpdateProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "updateCurrentColumnsSchemaIdByTableId")
+  void updateCurrentColumnsSchemaIdByTableId(
+      @Param("tableId") Long tableId, @Param("newSchemaId") Long newSchemaId);
+
+  @DeleteProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "deleteCurrentColumnsByTableIdAndColumnIds")
+  Integer deleteCurrentColumnsByTableIdAndColumnIds(
+      @Param("tableId") Long tableId, @Param("columnIds") List<Long> columnIds);
+
+  @DeleteProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "deleteCurrentColumnsByTableId")
+  Integer deleteCurrentColumnsByTableId(@Param("tableId") Long tableId);
+
+  @DeleteProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "deleteCurrentColumnsByMetalakeId")
+  Integer deleteCurrentColumnsByMetalakeId(@Param("metalakeId") Long metalakeId);
+
+  @DeleteProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "deleteCurrentColumnsByCatalogId")
+  Integer deleteCurrentColumnsByCatalogId(@Param("catalogId") Long catalogId);
+
+  @DeleteProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "deleteCurrentColumnsBySchemaId")
+  Integer deleteCurrentColumnsBySchemaId(@Param("schemaId") Long schemaId);
 }
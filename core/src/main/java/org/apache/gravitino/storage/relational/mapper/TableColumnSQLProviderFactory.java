@@ -99,4 +99,39 @@ public class TableColumnSQLProviderFactory {
   public static String listColumnPOsByColumnIds(@Param("columnIds") List<Long> columnIds) {
     return getProvider().listColumnPOsByColumnIds(columnIds);
   }
+
+  public static String listCurrentColumnPOsByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().listCurrentColumnPOsByTableIdAndVersion(tableId, tableVersion);
+  }
+
+  public static String insertCurrentColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
+    return getProvider().insertCurrentColumnPOs(columnPOs);
+  }
+
+  public static String updateCurrentColumnsSchemaIdByTableId(
+      @Param("tableId") Long tableId, @Param("newSchemaId") Long newSchemaId) {
+    return getProvider().updateCurrentColumnsSchemaIdByTableId(tableId, newSchemaId);
+  }
+
+  public static String deleteCurrentColumnsByTableIdAndColumnIds(
+      @Param("tableId") Long tableId, @Param("columnIds") List<Long> columnIds) {
+    return getProvider().deleteCurrentColumnsByTableIdAndColumnIds(tableId, columnIds);
+  }
+
+  public static String deleteCurrentColumnsByTableId(@Param("tableId") Long tableId) {
+    return getProvider().deleteCurrentColumnsByTableId(tableId);
+  }
+
+  public static String deleteCurrentColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return getProvider().deleteCurrentColumnsByMetalakeId(metalakeId);
+  }
+
+  public static String deleteCurrentColumnsByCatalogId(@Param("catalogId") Long catalogId) {
+    return getProvider().deleteCurrentColumnsByCatalogId(catalogId);
+  }
+
+  public static String deleteCurrentColumnsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().deleteCurrentColumnsBySchemaId(schemaId);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.IdGeneratorNodeLeaseMapper.ID_GENERATOR_NODE_LEASE_TABLE_NAME;
+
+import org.apache.ibatis.annotations.Param;
+
+public class IdGeneratorNodeLeaseBaseSQLProvider {
+
+  public String listLeasedNodeIds(@Param("now") long now) {
+    return "SELECT node_id FROM "
+        + ID_GENERATOR_NODE_LEASE_TABLE_NAME
+        + " WHERE lease_expire_at >= #{now}";
+  }
+
+  public String insertNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return "INSERT INTO "
+        + ID_GENERATOR_NODE_LEASE_TABLE_NAME
+        + " (node_id, lease_owner, lease_expire_at)"
+        + " VALUES (#{nodeId}, #{leaseOwner}, #{leaseExpireAt})";
+  }
+
+  public String takeOverExpiredNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt,
+      @Param("now") long now) {
+    return "UPDATE "
+        + ID_GENERATOR_NODE_LEASE_TABLE_NAME
+        + " SET lease_owner = #{leaseOwner}, lease_expire_at = #{leaseExpireAt}"
+        + " WHERE node_id = #{nodeId} AND lease_expire_at < #{now}";
+  }
+
+  public String renewNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt,
+      @Param("now") long now) {
+    return "UPDATE "
+        + ID_GENERATOR_NODE_LEASE_TABLE_NAME
+        + " SET lease_expire_at = #{leaseExpireAt}"
+        + " WHERE node_id = #{nodeId} AND lease_owner = #{leaseOwner}"
+        + " AND lease_expire_at >= #{now}";
+  }
+
+  public String releaseNodeLease(
+      @Param("nodeId") int nodeId,
+      @Param("leaseOwner") String leaseOwner,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return "UPDATE "
+        + ID_GENERATOR_NODE_LEASE_TABLE_NAME
+        + " SET lease_expire_at = #{leaseExpireAt}"
+        + " WHERE node_id = #{nodeId} AND lease_owner = #{leaseOwner}"
+        + " AND lease_expire_at > #{leaseExpireAt}";
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -176,4 +177,85 @@ public class TableColumnBaseSQLProvider {
         + " AND c.deleted_at = 0"
         + "</script>";
   }
+
+  public String listCurrentColumnPOsByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "SELECT column_id AS columnId, column_name AS columnName,"
+        + " column_position AS columnPosition, metalake_id AS metalakeId, catalog_id AS catalogId,"
+        + " schema_id AS schemaId, table_id AS tableId,"
+        + " table_version AS tableVersion, column_type AS columnType,"
+        + " column_comment AS columnComment, column_nullable AS nullable,"
+        + " column_auto_increment AS autoIncrement,"
+        + " column_default_value AS defaultValue, column_op_type AS columnOpType,"
+        + " 0 AS deletedAt, audit_info AS auditInfo"
+        + " FROM "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId}"
+        + " AND EXISTS (SELECT 1 FROM "
+        + TableMetaMapper.TABLE_NAME
+        + " WHERE table_id = #{tableId} AND current_version = #{tableVersion}"
+        + " AND deleted_at = 0)";
+  }
+
+  public String insertCurrentColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " (table_id, column_id, metalake_id, catalog_id, schema_id, table_version,"
+        + " column_name, column_position, column_type, column_comment, column_nullable,"
+        + " column_auto_increment, column_default_value, column_op_type, audit_info)"
+        + " VALUES "
+        + "<foreach collection='columnPOs' item='item' separator=','>"
+        + "(#{item.tableId}, #{item.columnId}, #{item.metalakeId}, #{item.catalogId},"
+        + " #{item.schemaId}, #{item.tableVersion}, #{item.columnName}, #{item.columnPosition},"
+        + " #{item.columnType}, #{item.columnComment}, #{item.nullable}, #{item.autoIncrement},"
+        + " #{item.defaultValue}, #{item.columnOpType}, #{item.auditInfo})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String updateCurrentColumnsSchemaIdByTableId(
+      @Param("tableId") Long tableId, @Param("newSchemaId") Long newSchemaId) {
+    return "UPDATE "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " SET schema_id = #{newSchemaId}"
+        + " WHERE table_id = #{tableId}";
+  }
+
+  public String deleteCurrentColumnsByTableIdAndColumnIds(
+      @Param("tableId") Long tableId, @Param("columnIds") List<Long> columnIds) {
+    return "<script>"
+        + "DELETE FROM "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND column_id IN ("
+        + "<foreach collection='columnIds' item='columnId' separator=','>"
+        + "#{columnId}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
+  public String deleteCurrentColumnsByTableId(@Param("tableId") Long tableId) {
+    return "DELETE FROM "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId}";
+  }
+
+  public String deleteCurrentColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "DELETE FROM "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " WHERE metalake_id = #{metalakeId}";
+  }
+
+  public String deleteCurrentColumnsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "DELETE FROM "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " WHERE catalog_id = #{catalogId}";
+  }
+
+  public String deleteCurrentColumnsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "DELETE FROM "
+        + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+        + " WHERE schema_id = #{schemaId}";
+  }
 }
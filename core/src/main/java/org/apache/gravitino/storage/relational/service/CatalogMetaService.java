@@ -269,6 +269,10 @@ public class CatalogMetaService {
               SessionUtils.doWithoutCommit(
                   TableColumnMapper.class,
                   mapper -> mapper.softDeleteColumnsByCatalogId(catalogId)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableColumnMapper.class,
+                  mapper -> mapper.deleteCurrentColumnsByCatalogId(catalogId)),
           () ->
               SessionUtils.doWithoutCommit(
                   FilesetMetaMapper.class,
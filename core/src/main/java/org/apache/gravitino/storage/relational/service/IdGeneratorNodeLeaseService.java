@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.gravitino.storage.relational.mapper.IdGeneratorNodeLeaseMapper;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The service class for the node id leases of the snowflake id generator. A lease is acquired by
+ * inserting the row of a free node id or taking over the row of an expired lease, both are
+ * conditional single-row statements, so two servers never hold the same node id at the same time.
+ */
+public class IdGeneratorNodeLeaseService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorNodeLeaseService.class);
+
+  private static final IdGeneratorNodeLeaseService INSTANCE = new IdGeneratorNodeLeaseService();
+
+  public static IdGeneratorNodeLeaseService getInstance() {
+    return INSTANCE;
+  }
+
+  private IdGeneratorNodeLeaseService() {}
+
+  /**
+   * Acquires the lease of a node id which is not held by any other server.
+   *
+   * @param leaseOwner The unique name of the server acquiring the lease.
+   * @param maxNodeId The max node id, node ids are chosen from [0, maxNodeId].
+   * @param now The current time in milliseconds.
+   * @param leaseMs The lease duration in milliseconds.
+   * @return The node id acquired, or empty if all the node ids are held by other servers.
+   */
+  public OptionalInt acquireNodeLease(String leaseOwner, int maxNodeId, long now, long leaseMs) {
+    List<Integer> leasedNodeIds =
+        SessionUtils.getWithoutCommit(
+            IdGeneratorNodeLeaseMapper.class, mapper -> mapper.listLeasedNodeIds(now));
+    Set<Integer> leased = new HashSet<>(leasedNodeIds);
+
+    // Start from a random node id to reduce the contention of servers starting together
+    int start = ThreadLocalRandom.current().nextInt(maxNodeId + 1);
+    for (int i = 0; i <= maxNodeId; i++) {
+      int nodeId = (start + i) % (maxNodeId + 1);
+      if (!leased.contains(nodeId) && tryAcquire(nodeId, leaseOwner, now, now + leaseMs)) {
+        return OptionalInt.of(nodeId);
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  /**
+   * Extends the lease of a node id held by the server.
+   *
+   * @param nodeId The node id.
+   * @param leaseOwner The unique name of the server holding the lease.
+   * @param now The current time in milliseconds.
+   * @param leaseMs The lease duration in milliseconds.
+   * @return true if the lease is extended, false if the lease has expired or is held by others.
+   */
+  public boolean renewNodeLease(int nodeId, String leaseOwner, long now, long leaseMs) {
+    return SessionUtils.doWithCommitAndFetchResult(
+            IdGeneratorNodeLeaseMapper.class,
+            mapper -> mapper.renewNodeLease(nodeId, leaseOwner, now + leaseMs, now))
+        > 0;
+  }
+
+  /**
+   * Releases the lease of a node id held by the server, the lease expires at the given time
+   * instead of the end of the lease, so other servers could acquire it earlier.
+   *
+   * @param nodeId The node id.
+   * @param leaseOwner The unique name of the server holding the lease.
+   * @param leaseExpireAt The time in milliseconds the released lease expires at.
+   */
+  public void releaseNodeLease(int nodeId, String leaseOwner, long leaseExpireAt) {
+    SessionUtils.doWithCommit(
+        IdGeneratorNodeLeaseMapper.class,
+        mapper -> mapper.releaseNodeLease(nodeId, leaseOwner, leaseExpireAt));
+  }
+
+  private boolean tryAcquire(int nodeId, String leaseOwner, long now, long leaseExpireAt) {
+    Integer updated =
+        SessionUtils.doWithCommitAndFetchResult(
+            IdGeneratorNodeLeaseMapper.class,
+            mapper -> mapper.takeOverExpiredNodeLease(nodeId, leaseOwner, leaseExpireAt, now));
+    if (updated > 0) {
+      return true;
+    }
+
+    try {
+      return SessionUtils.doWithCommitAndFetchResult(
+              IdGeneratorNodeLeaseMapper.class,
+              mapper -> mapper.insertNodeLease(nodeId, leaseOwner, leaseExpireAt))
+          > 0;
+    } catch (RuntimeException e) {
+      // The row exists with an unexpired lease, or another server inserts it concurrently
+      LOG.debug("Failed to insert the lease of node id {}", nodeId, e);
+      return false;
+    }
+  }
+}
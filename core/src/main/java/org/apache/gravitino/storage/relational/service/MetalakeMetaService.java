@@ -221,6 +221,10 @@ public class MetalakeMetaService {
                 SessionUtils.doWithoutCommit(
                     TableColumnMapper.class,
                     mapper -> mapper.softDeleteColumnsByMetalakeId(metalakeId)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    TableColumnMapper.class,
+                    mapper -> mapper.deleteCurrentColumnsByMetalakeId(metalakeId)),
             () ->
                 SessionUtils.doWithoutCommit(
                     FilesetMetaMapper.class,
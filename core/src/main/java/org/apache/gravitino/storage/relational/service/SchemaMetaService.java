@@ -238,6 +238,10 @@ public class SchemaMetaService {
           () ->
               SessionUtils.doWithoutCommit(
                   TableColumnMapper.class, mapper -> mapper.softDeleteColumnsBySchemaId(schemaId)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableColumnMapper.class,
+                  mapper -> mapper.deleteCurrentColumnsBySchemaId(schemaId)),
           () ->
               SessionUtils.doWithoutCommit(
                   FilesetMetaMapper.class,
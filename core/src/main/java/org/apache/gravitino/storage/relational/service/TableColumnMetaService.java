@@ -63,6 +63,32 @@ public class TableColumnMetaService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Gets the columns of the current version of a table from the current columns table, which is
+   * maintained in the same transaction as the column history, so the columns are loaded by a range
+   * read of the primary key instead of aggregating the whole column history of the table. The
+   * current columns are only returned if the table is still at the given version in the same
+   * statement, otherwise the table was altered after it was read, and the columns of that version
+   * are loaded from the column history to keep them consistent with the table.
+   *
+   * @param tableId The id of the table.
+   * @param currentVersion The current version of the table read along with the table.
+   * @return The columns of the current version of the table.
+   */
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "getCurrentColumnsByTableId")
+  List<ColumnPO> getCurrentColumnsByTableId(Long tableId, Long currentVersion) {
+    List<ColumnPO> columnPOs =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class,
+            mapper -> mapper.listCurrentColumnPOsByTableIdAndVersion(tableId, currentVersion));
+
+    // Either the table is altered after it was read or it has no columns, the column history
+    // answers both
+    return columnPOs.isEmpty() ? getColumnsByTableIdAndVersion(tableId, currentVersion) : columnPOs;
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getColumnIdByTableIdAndName")
@@ -109,7 +135,11 @@ public class TableColumnMetaService {
 
     // insertColumnPOs will be done in insertTable transaction, so we don't do commit here.
     SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+        TableColumnMapper.class,
+        mapper -> {
+          mapper.insertColumnPOs(columnPOs);
+          mapper.insertCurrentColumnPOs(columnPOs);
+        });
   }
 
   @Monitored(
@@ -119,7 +149,11 @@ public class TableColumnMetaService {
     // deleteColumns will be done in deleteTable transaction, so we don't do commit here.
     Integer result =
         SessionUtils.getWithoutCommit(
-            TableColumnMapper.class, mapper -> mapper.softDeleteColumnsByTableId(tableId));
+            TableColumnMapper.class,
+            mapper -> {
+              mapper.deleteCurrentColumnsByTableId(tableId);
+              return mapper.softDeleteColumnsByTableId(tableId);
+            });
     return result > 0;
   }
 
@@ -165,12 +199,15 @@ public class TableColumnMetaService {
                 .collect(Collectors.toMap(ColumnEntity::id, Function.identity()));
 
     List<ColumnPO> columnPOsToInsert = Lists.newArrayList();
+    List<ColumnPO> updatedColumnPOs = Lists.newArrayList();
     for (ColumnEntity newColumn : newColumns.values()) {
       ColumnEntity oldColumn = oldColumns.get(newColumn.id());
       // If the column is not existed in old columns, or if the column is updated, mark it as UPDATE
       if (oldColumn == null || !oldColumn.equals(newColumn)) {
-        columnPOsToInsert.add(
-            POConverters.initializeColumnPO(newTablePO, newColumn, ColumnPO.ColumnOpType.UPDATE));
+        ColumnPO columnPO =
+            POConverters.initializeColumnPO(newTablePO, newColumn, ColumnPO.ColumnOpType.UPDATE);
+        columnPOsToInsert.add(columnPO);
+        updatedColumnPOs.add(columnPO);
       }
     }
 
@@ -182,20 +219,39 @@ public class TableColumnMetaService {
       }
     }
 
+    boolean isSchemaChanged = !newTable.namespace().equals(oldTable.namespace());
     // If there is no change, directly return
     if (columnPOsToInsert.isEmpty()) {
       // If namespace is changed, just update the schema_id of the columns.
-      if (!newTable.namespace().equals(oldTable.namespace())) {
+      if (isSchemaChanged) {
         SessionUtils.doWithoutCommit(
             TableColumnMapper.class,
-            mapper ->
-                mapper.updateSchemaIdByTableId(newTablePO.getTableId(), newTablePO.getSchemaId()));
+            mapper -> {
+              mapper.updateSchemaIdByTableId(newTablePO.getTableId(), newTablePO.getSchemaId());
+              mapper.updateCurrentColumnsSchemaIdByTableId(
+                  newTablePO.getTableId(), newTablePO.getSchemaId());
+            });
       }
       return;
     }
 
-    // updateColumns will be done in updateTable transaction, so we don't do commit here.
+    // updateColumns will be done in updateTable transaction, so we don't do commit here. The
+    // current columns table replaces the rows of the changed columns and drops the deleted ones.
+    List<Long> changedColumnIds =
+        columnPOsToInsert.stream().map(ColumnPO::getColumnId).collect(Collectors.toList());
     SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOsToInsert));
+        TableColumnMapper.class,
+        mapper -> {
+          mapper.insertColumnPOs(columnPOsToInsert);
+          mapper.deleteCurrentColumnsByTableIdAndColumnIds(
+              newTablePO.getTableId(), changedColumnIds);
+          if (!updatedColumnPOs.isEmpty()) {
+            mapper.insertCurrentColumnPOs(updatedColumnPOs);
+          }
+          if (isSchemaChanged) {
+            mapper.updateCurrentColumnsSchemaIdByTableId(
+                newTablePO.getTableId(), newTablePO.getSchemaId());
+          }
+        });
   }
 }
@@ -91,7 +91,7 @@ public class TableMetaService {
 
     List<ColumnPO> columnPOs =
         TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion());
+            .getCurrentColumnsByTableId(tablePO.getTableId(), tablePO.getCurrentVersion());
 
     return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
   }
@@ -165,7 +165,7 @@ public class TableMetaService {
     TablePO oldTablePO = getTablePOByIdentifier(identifier);
     List<ColumnPO> oldTableColumns =
         TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(oldTablePO.getTableId(), oldTablePO.getCurrentVersion());
+            .getCurrentColumnsByTableId(oldTablePO.getTableId(), oldTablePO.getCurrentVersion());
     TableEntity oldTableEntity =
         POConverters.fromTableAndColumnPOs(oldTablePO, oldTableColumns, identifier.namespace());
 
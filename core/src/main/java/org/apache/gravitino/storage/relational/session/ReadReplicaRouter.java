@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.utils.Executable;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ReadReplicaRouter routes the read-only operations of the relational entity store, like getting
+ * and listing entities, to the read replicas in a round-robin way. All the reads of an operation
+ * are served by the session of one replica. The reads on the write paths are never routed, as they
+ * must see the latest state the writes are checked against.
+ *
+ * <p>The replication lag of the replicas is checked periodically, a replica is skipped when its lag
+ * exceeds {@code maxLagMs} or it fails, and the reads fall back to the primary when no replica is
+ * available. To read its own writes, a thread reads from the primary within {@code maxLagMs} plus
+ * the lag check interval after it commits a write. As the writes may be committed by other threads,
+ * like the ones serving the previous requests of a client, an operation failing with {@link
+ * NoSuchEntityException} on a replica is rerun on the primary in case the entity is not replicated
+ * yet.
+ *
+ * <p>The reads whose results are kept in a cache must be served by the primary with {@link
+ * #readFromPrimary}, otherwise a lagging replica could fill the cache with a stale result after
+ * the cached value is invalidated by a write.
+ */
+public class ReadReplicaRouter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+  private static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+  private static final String POSTGRESQL_LAG_QUERY =
+      "SELECT CASE WHEN NOT pg_is_in_recovery() "
+          + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+          + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+  private static final String H2_LAG_QUERY = "SELECT 0";
+  private static final String[] MYSQL_LAG_SECONDS_COLUMNS = {
+    "Seconds_Behind_Source", "Seconds_Behind_Master"
+  };
+
+  private static final ThreadLocal<Long> lastWriteMillis = new ThreadLocal<>();
+  private static final ThreadLocal<SqlSession> replicaSession = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> primaryOnly = new ThreadLocal<>();
+
+  private final List<Replica> replicas;
+  private final long maxLagMs;
+  private final long stickyPrimaryMs;
+  private final String lagQuery;
+  private final ScheduledThreadPoolExecutor lagChecker;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final AtomicLong primaryReads = new AtomicLong();
+  private final AtomicLong replicaReads = new AtomicLong();
+  private final AtomicLong fallbackReads = new AtomicLong();
+
+  /**
+   * Creates a ReadReplicaRouter, and checks the replication lag of the replicas.
+   *
+   * @param replicas The read replicas.
+   * @param backendType The type of the JDBC backend, to choose the built-in lag query.
+   * @param maxLagMs The max replication lag in milliseconds of a replica to serve reads.
+   * @param lagCheckIntervalMs The interval in milliseconds to check the replication lag.
+   * @param lagQuery The query returning the replication lag in milliseconds, or null to use the
+   *     built-in query of the backend type.
+   */
+  public ReadReplicaRouter(
+      List<Replica> replicas,
+      JDBCBackendType backendType,
+      long maxLagMs,
+      long lagCheckIntervalMs,
+      String lagQuery) {
+    this.replicas = ImmutableList.copyOf(replicas);
+    this.maxLagMs = maxLagMs;
+    this.stickyPrimaryMs = maxLagMs + lagCheckIntervalMs;
+    this.lagQuery = lagQuery != null ? lagQuery : defaultLagQuery(backendType);
+
+    checkLag();
+    this.lagChecker =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("relational-store-replica-lag-checker-%d")
+                .build());
+    lagChecker.scheduleWithFixedDelay(
+        this::checkLag, lagCheckIntervalMs, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /** Records that the current thread committed a write, so its next reads go to the primary. */
+  public static void recordWrite() {
+    lastWriteMillis.set(System.currentTimeMillis());
+  }
+
+  /**
+   * Returns the session of the replica serving the read-only operation of the current thread.
+   *
+   * @return The session of the replica, or null if the current thread is not in a read-only
+   *     operation routed to a replica.
+   */
+  public static SqlSession currentReplicaSession() {
+    return replicaSession.get();
+  }
+
+  /**
+   * Runs an operation whose reads are all served by the primary, even the read-only operations
+   * nested in it.
+   *
+   * @param operation The operation.
+   * @return The result of the operation.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception thrown by the operation.
+   * @throws E If the operation fails.
+   */
+  public static <R, E extends Exception> R readFromPrimary(Executable<R, E> operation) throws E {
+    if (primaryOnly.get() != null) {
+      return operation.execute();
+    }
+
+    primaryOnly.set(Boolean.TRUE);
+    try {
+      return operation.execute();
+    } finally {
+      primaryOnly.remove();
+    }
+  }
+
+  /**
+   * Runs a read-only operation on the session of an available replica. The operation runs on the
+   * primary if it's nested in a session of the primary or in {@link #readFromPrimary}, the current
+   * thread wrote recently, or no replica is available. It's rerun on the primary if it fails on the
+   * replica, or doesn't find an entity the replica may not have replicated yet.
+   *
+   * @param operation The read-only operation.
+   * @return The result of the operation.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception thrown by the operation.
+   * @throws E If the operation fails.
+   */
+  public <R, E extends Exception> R read(Executable<R, E> operation) throws E {
+    if (replicaSession.get() != null || primaryOnly.get() != null || SqlSessions.hasSqlSession()) {
+      return operation.execute();
+    }
+
+    Long lastWrite = lastWriteMillis.get();
+    if (lastWrite != null) {
+      if (System.currentTimeMillis() - lastWrite < stickyPrimaryMs) {
+        primaryReads.incrementAndGet();
+        return operation.execute();
+      }
+      lastWriteMillis.remove();
+    }
+
+    Replica replica = nextAvailableReplica();
+    if (replica == null) {
+      fallbackReads.incrementAndGet();
+      return operation.execute();
+    }
+
+    // The repeatable read isolation lets all the reads of the operation see the same snapshot
+    try (SqlSession session =
+        replica.sqlSessionFactory.openSession(TransactionIsolationLevel.REPEATABLE_READ)) {
+      replicaSession.set(session);
+      R result = operation.execute();
+      replicaReads.incrementAndGet();
+      return result;
+    } catch (PersistenceException e) {
+      LOG.warn("Failed to read from replica {}, fall back to the primary", replica.url, e);
+      replica.lagMs = -1;
+      replicaSession.remove();
+      fallbackReads.incrementAndGet();
+      return operation.execute();
+    } catch (NoSuchEntityException e) {
+      replicaSession.remove();
+      fallbackReads.incrementAndGet();
+      return operation.execute();
+    } finally {
+      replicaSession.remove();
+    }
+  }
+
+  /** Checks the replication lag of the replicas. */
+  @VisibleForTesting
+  void checkLag() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.dataSource.getConnection()) {
+        replica.lagMs = queryLagMs(connection, lagQuery);
+        connection.rollback();
+      } catch (Exception e) {
+        LOG.warn("Failed to check the replication lag of replica {}", replica.url, e);
+        replica.lagMs = -1;
+      }
+
+      if (!isAvailable(replica)) {
+        LOG.warn(
+            "Replica {} is unavailable with replication lag {} ms, max lag is {} ms",
+            replica.url,
+            replica.lagMs,
+            maxLagMs);
+      }
+    }
+  }
+
+  /**
+   * @return The number of the reads routed to the primary as the thread wrote recently.
+   */
+  public long primaryReads() {
+    return primaryReads.get();
+  }
+
+  /**
+   * @return The number of the reads routed to the replicas.
+   */
+  public long replicaReads() {
+    return replicaReads.get();
+  }
+
+  /**
+   * @return The number of the reads falling back to the primary as no replica is available, or the
+   *     replica fails or doesn't find the entity.
+   */
+  public long fallbackReads() {
+    return fallbackReads.get();
+  }
+
+  /**
+   * @return The number of the replicas available to serve reads.
+   */
+  public int availableReplicas() {
+    return (int) replicas.stream().filter(this::isAvailable).count();
+  }
+
+  /**
+   * @return The max replication lag in milliseconds of the replicas, -1 if any replica fails.
+   */
+  public long maxReplicaLagMs() {
+    long maxLag = 0;
+    for (Replica replica : replicas) {
+      if (replica.lagMs < 0) {
+        return -1;
+      }
+      maxLag = Math.max(maxLag, replica.lagMs);
+    }
+    return maxLag;
+  }
+
+  @Override
+  public void close() {
+    lagChecker.shutdownNow();
+    for (Replica replica : replicas) {
+      SqlSessionFactoryHelper.closeDataSource(replica.dataSource);
+    }
+  }
+
+  private Replica nextAvailableReplica() {
+    int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((start + i) % replicas.size());
+      if (isAvailable(replica)) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private boolean isAvailable(Replica replica) {
+    long lag = replica.lagMs;
+    return lag >= 0 && lag <= maxLagMs;
+  }
+
+  private static String defaultLagQuery(JDBCBackendType backendType) {
+    switch (backendType) {
+      case MYSQL:
+        return MYSQL_LAG_QUERY;
+      case POSTGRESQL:
+        return POSTGRESQL_LAG_QUERY;
+      default:
+        return H2_LAG_QUERY;
+    }
+  }
+
+  /**
+   * Returns the replication lag in milliseconds returned by the query, -1 if the replication is
+   * broken. The lag of MySQL is read from the seconds behind source column of the replica status,
+   * the lag of other queries is read from the first column. A database not replicating has no lag.
+   */
+  private static long queryLagMs(Connection connection, String query) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(query)) {
+      if (!resultSet.next()) {
+        return 0;
+      }
+
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      for (int i = 1; i <= metaData.getColumnCount(); i++) {
+        for (String column : MYSQL_LAG_SECONDS_COLUMNS) {
+          if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+            long seconds = resultSet.getLong(i);
+            return resultSet.wasNull() ? -1 : TimeUnit.SECONDS.toMillis(seconds);
+          }
+        }
+      }
+
+      long lagMs = resultSet.getLong(1);
+      return resultSet.wasNull() ? -1 : lagMs;
+    }
+  }
+
+  /** A read replica of the relational entity store. */
+  public static class Replica {
+    private final String url;
+    private final DataSource dataSource;
+    private final SqlSessionFactory sqlSessionFactory;
+    private volatile long lagMs = -1;
+
+    /**
+     * Creates a Replica.
+     *
+     * @param url The JDBC URL of the replica.
+     * @param dataSource The data source of the replica.
+     * @param sqlSessionFactory The session factory on the data source.
+     */
+    public Replica(String url, DataSource dataSource, SqlSessionFactory sqlSessionFactory) {
+      this.url = url;
+      this.dataSource = dataSource;
+      this.sqlSessionFactory = sqlSessionFactory;
+    }
+  }
+}
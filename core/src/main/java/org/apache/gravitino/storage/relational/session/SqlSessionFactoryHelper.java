@@ -20,9 +20,13 @@
 package org.apache.gravitino.storage.relational.session;
 
 import com.google.common.base.Preconditions;
-import java.sql.SQLException;
+import com.google.common.collect.Lists;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import java.time.Duration;
+import java.util.List;
 import java.util.ServiceLoader;
+import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
 import org.apache.gravitino.Config;
@@ -35,6 +39,7 @@ import org.apache.gravitino.storage.relational.mapper.provider.MapperPackageProv
 import org.apache.gravitino.utils.JdbcUrlUtils;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -47,7 +52,10 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  */
 public class SqlSessionFactoryHelper {
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static volatile ReadReplicaRouter readReplicaRouter;
+  private static volatile StatementMetricsInterceptor statementMetrics;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
+  private static final String POOL_NAME_PREFIX = "gravitino-relational-store";
 
   public static SqlSessionFactoryHelper getInstance() {
     return INSTANCE;
@@ -60,7 +68,6 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
     // Create the SqlSessionFactory object, it is a singleton object
     if (sqlSessionFactory != null) {
@@ -72,59 +79,166 @@ public class SqlSessionFactoryHelper {
         return;
       }
 
-      // Initialize the data source
-      BasicDataSource dataSource = new BasicDataSource();
       String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
       String driverClass = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER);
       JdbcUrlUtils.validateJdbcConfig(driverClass, jdbcUrl, config.getAllConfig());
+      int maxConnections = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS);
+      DataSource dataSource =
+          createDataSource(config, jdbcUrl, POOL_NAME_PREFIX + "-primary", maxConnections);
+      ExecutorType executorType =
+          "reuse".equalsIgnoreCase(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_EXECUTOR_TYPE))
+              ? ExecutorType.REUSE
+              : ExecutorType.SIMPLE;
+      statementMetrics = new StatementMetricsInterceptor();
 
-      JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
-      dataSource.setUrl(jdbcUrl);
-      dataSource.setDriverClassName(driverClass);
-      dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
-      dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
-      // Close the auto commit, so that we can control the transaction manual commit
-      dataSource.setDefaultAutoCommit(false);
-      dataSource.setMaxWaitMillis(
-          config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
-      dataSource.setMaxTotal(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS));
-      dataSource.setMaxIdle(5);
-      dataSource.setMinIdle(0);
-      dataSource.setLogAbandoned(true);
-      dataSource.setRemoveAbandonedOnBorrow(true);
-      dataSource.setRemoveAbandonedTimeout(60);
-      dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
-      dataSource.setTestOnBorrow(true);
-      dataSource.setTestWhileIdle(true);
-      dataSource.setMinEvictableIdleTimeMillis(1000);
-      dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
-      dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
-      dataSource.setSoftMinEvictableIdleTimeMillis(
-          BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
-      dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
-
-      // Create the transaction factory and env
-      TransactionFactory transactionFactory = new JdbcTransactionFactory();
-      Environment environment = new Environment("development", transactionFactory, dataSource);
-
-      // Initialize the configuration
-      Configuration configuration = new Configuration(environment);
-      configuration.setDatabaseId(jdbcType.name().toLowerCase());
-      ServiceLoader<MapperPackageProvider> loader = ServiceLoader.load(MapperPackageProvider.class);
-      for (MapperPackageProvider provider : loader) {
-        provider.getMapperClasses().forEach(configuration::addMapper);
+      // Initialize the read replicas, the reads outside of transactions are routed to them
+      List<String> replicaUrls = config.get(Configs.ENTITY_RELATIONAL_REPLICA_JDBC_URLS);
+      if (replicaUrls != null && !replicaUrls.isEmpty()) {
+        List<ReadReplicaRouter.Replica> replicas = Lists.newArrayList();
+        int replicaMaxConnections =
+            config.get(Configs.ENTITY_RELATIONAL_REPLICA_MAX_CONNECTIONS).orElse(maxConnections);
+        for (int i = 0; i < replicaUrls.size(); i++) {
+          String replicaUrl = replicaUrls.get(i);
+          JdbcUrlUtils.validateJdbcConfig(driverClass, replicaUrl, config.getAllConfig());
+          DataSource replicaDataSource =
+              createDataSource(
+                  config, replicaUrl, POOL_NAME_PREFIX + "-replica-" + i, replicaMaxConnections);
+          replicas.add(
+              new ReadReplicaRouter.Replica(
+                  replicaUrl,
+                  replicaDataSource,
+                  createSqlSessionFactory(
+                      replicaDataSource, JDBCBackendType.fromURI(replicaUrl), executorType)));
+        }
+        readReplicaRouter =
+            new ReadReplicaRouter(
+                replicas,
+                JDBCBackendType.fromURI(jdbcUrl),
+                config.get(Configs.ENTITY_RELATIONAL_REPLICA_MAX_LAG_MS),
+                config.get(Configs.ENTITY_RELATIONAL_REPLICA_LAG_CHECK_INTERVAL_MS),
+                config.get(Configs.ENTITY_RELATIONAL_REPLICA_LAG_QUERY).orElse(null));
       }
 
       MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
       // Add null check to avoid NPE when metrics system is not initialized in test environments
       if (metricsSystem != null) {
         // Register connection pool metrics when metrics system is available
-        metricsSystem.register(new RelationDatasourceMetricsSource(dataSource));
+        metricsSystem.register(
+            new RelationDatasourceMetricsSource(dataSource, readReplicaRouter, statementMetrics));
       }
 
       // Create the SqlSessionFactory object, it is a singleton object
-      sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+      sqlSessionFactory =
+          createSqlSessionFactory(dataSource, JDBCBackendType.fromURI(jdbcUrl), executorType);
+    }
+  }
+
+  private static DataSource createDataSource(
+      Config config, String jdbcUrl, String poolName, int maxConnections) {
+    if (Configs.HIKARI_CONNECTION_POOL.equalsIgnoreCase(
+        config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_CONNECTION_POOL))) {
+      return createHikariDataSource(config, jdbcUrl, poolName, maxConnections);
+    }
+    return createDbcp2DataSource(config, jdbcUrl, maxConnections);
+  }
+
+  private static HikariDataSource createHikariDataSource(
+      Config config, String jdbcUrl, String poolName, int maxConnections) {
+    HikariConfig hikariConfig = new HikariConfig();
+    // The pools are registered in JMX and metrics by their names
+    hikariConfig.setPoolName(poolName);
+    hikariConfig.setJdbcUrl(jdbcUrl);
+    hikariConfig.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
+    hikariConfig.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
+    hikariConfig.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+    // Close the auto commit, so that we can control the transaction manual commit
+    hikariConfig.setAutoCommit(false);
+    hikariConfig.setConnectionTimeout(
+        config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
+    hikariConfig.setMaximumPoolSize(maxConnections);
+    hikariConfig.setMinimumIdle(Math.min(5, maxConnections));
+    hikariConfig.setIdleTimeout(Duration.ofMinutes(10).toMillis());
+    // Hikari only validates the connections idle for more than 500ms when borrowing them, the
+    // validation uses Connection#isValid bounded by the validation timeout
+    hikariConfig.setValidationTimeout(
+        config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_VALIDATION_TIMEOUT_MS));
+    // Start the pool without connecting to the database, like the dbcp2 pool
+    hikariConfig.setInitializationFailTimeout(-1);
+    if (JDBCBackendType.fromURI(jdbcUrl) == JDBCBackendType.MYSQL) {
+      // Cache the prepared statements in the driver, they are shared by the sessions using the
+      // same connection
+      hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+      hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+      hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
     }
+    return new HikariDataSource(hikariConfig);
+  }
+
+  @SuppressWarnings("deprecation")
+  private static BasicDataSource createDbcp2DataSource(
+      Config config, String jdbcUrl, int maxConnections) {
+    BasicDataSource dataSource = new BasicDataSource();
+    dataSource.setUrl(jdbcUrl);
+    dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
+    dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
+    dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+    // Close the auto commit, so that we can control the transaction manual commit
+    dataSource.setDefaultAutoCommit(false);
+    dataSource.setMaxWaitMillis(
+        config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
+    dataSource.setMaxTotal(maxConnections);
+    dataSource.setMaxIdle(5);
+    dataSource.setMinIdle(0);
+    dataSource.setLogAbandoned(true);
+    dataSource.setRemoveAbandonedOnBorrow(true);
+    dataSource.setRemoveAbandonedTimeout(60);
+    dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
+    dataSource.setTestOnBorrow(true);
+    dataSource.setTestWhileIdle(true);
+    dataSource.setMinEvictableIdleTimeMillis(1000);
+    dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
+    dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
+    dataSource.setSoftMinEvictableIdleTimeMillis(
+        BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
+    dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
+    return dataSource;
+  }
+
+  private static SqlSessionFactory createSqlSessionFactory(
+      DataSource dataSource, JDBCBackendType jdbcType, ExecutorType executorType) {
+    // Create the transaction factory and env
+    TransactionFactory transactionFactory = new JdbcTransactionFactory();
+    Environment environment = new Environment("development", transactionFactory, dataSource);
+
+    // Initialize the configuration
+    Configuration configuration = new Configuration(environment);
+    configuration.setDatabaseId(jdbcType.name().toLowerCase());
+    configuration.setDefaultExecutorType(executorType);
+    configuration.addInterceptor(statementMetrics);
+    ServiceLoader<MapperPackageProvider> loader = ServiceLoader.load(MapperPackageProvider.class);
+    for (MapperPackageProvider provider : loader) {
+      provider.getMapperClasses().forEach(configuration::addMapper);
+    }
+
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  /**
+   * Returns the router of the reads to the read replicas.
+   *
+   * @return The router, or null if no read replica is configured.
+   */
+  public ReadReplicaRouter getReadReplicaRouter() {
+    return readReplicaRouter;
+  }
+
+  /**
+   * Returns the counters of the statements prepared and executed by the relational entity store.
+   *
+   * @return The counters, or null if the SqlSessionFactory is not initialized.
+   */
+  public StatementMetricsInterceptor getStatementMetrics() {
+    return statementMetrics;
   }
 
   public SqlSessionFactory getSqlSessionFactory() {
@@ -136,17 +250,24 @@ public class SqlSessionFactoryHelper {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory != null) {
-          try {
-            BasicDataSource dataSource =
-                (BasicDataSource)
-                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
-            dataSource.close();
-          } catch (SQLException e) {
-            // silently ignore the error report
-          }
+          closeDataSource(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource());
           sqlSessionFactory = null;
+          if (readReplicaRouter != null) {
+            readReplicaRouter.close();
+            readReplicaRouter = null;
+          }
         }
       }
     }
   }
+
+  static void closeDataSource(DataSource dataSource) {
+    try {
+      if (dataSource instanceof AutoCloseable) {
+        ((AutoCloseable) dataSource).close();
+      }
+    } catch (Exception e) {
+      // silently ignore the error report
+    }
+  }
 }
@@ -69,6 +69,15 @@ public final class SqlSessions {
     return sqlSession;
   }
 
+  /**
+   * Whether the current thread has an opened SqlSession, the operations of the thread join it.
+   *
+   * @return True if the current thread has an opened SqlSession.
+   */
+  public static boolean hasSqlSession() {
+    return sessions.get() != null;
+  }
+
   /**
    * Commit the SqlSession object and close it. It also removes the SqlSession object from the
    * thread local storage.
@@ -114,6 +123,7 @@ public final class SqlSessions {
       try {
         if (commit) {
           sqlSession.commit();
+          ReadReplicaRouter.recordWrite();
         } else if (rollback) {
           sqlSession.rollback();
         }
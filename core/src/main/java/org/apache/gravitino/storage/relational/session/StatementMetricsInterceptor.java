@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * A MyBatis interceptor counting the statements prepared and executed by the relational entity
+ * store. Every execution binds the parameters of a statement, while the {@code REUSE} executor only
+ * prepares a statement the first time its SQL is executed in a session, so the difference of the
+ * two counters is the number of executions served by a reused statement.
+ */
+@Intercepts({
+  @Signature(
+      type = StatementHandler.class,
+      method = "prepare",
+      args = {Connection.class, Integer.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "parameterize",
+      args = {Statement.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+  private final LongAdder preparedStatements = new LongAdder();
+  private final LongAdder executedStatements = new LongAdder();
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    if ("prepare".equals(invocation.getMethod().getName())) {
+      preparedStatements.increment();
+    } else {
+      executedStatements.increment();
+    }
+    return invocation.proceed();
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    return target instanceof StatementHandler ? Plugin.wrap(target, this) : target;
+  }
+
+  @Override
+  public void setProperties(Properties properties) {}
+
+  /**
+   * Returns the number of the statements prepared.
+   *
+   * @return The number of the statements prepared.
+   */
+  public long preparedStatements() {
+    return preparedStatements.sum();
+  }
+
+  /**
+   * Returns the number of the executions served by a statement prepared before.
+   *
+   * @return The number of the executions served by a reused statement.
+   */
+  public long reusedStatements() {
+    return Math.max(0, executedStatements.sum() - preparedStatements.sum());
+  }
+}
@@ -22,7 +22,12 @@ package org.apache.gravitino.storage.relational.utils;
 import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import org.apache.gravitino.storage.relational.session.ReadReplicaRouter;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.tracing.Traced;
+import org.apache.gravitino.utils.Executable;
+import org.apache.ibatis.session.SqlSession;
 
 /**
  * This class provides utility methods to perform database operations with MyBatis mappers in the
@@ -35,6 +40,7 @@ public class SessionUtils {
    * Performs a database operation with a commit. Manages the full transaction lifecycle. Can be
    * nested within other transactions.
    */
+  @Traced
   public static <T> void doWithCommit(Class<T> mapperClazz, Consumer<T> consumer) {
     try {
       T mapper = SqlSessions.getMapper(mapperClazz);
@@ -50,6 +56,7 @@ public class SessionUtils {
    * Performs a database operation with a commit and fetches a result. Manages the full transaction
    * lifecycle. Can be nested within other transactions.
    */
+  @Traced
   public static <T, R> R doWithCommitAndFetchResult(Class<T> mapperClazz, Function<T, R> func) {
     try {
       T mapper = SqlSessions.getMapper(mapperClazz);
@@ -64,9 +71,16 @@ public class SessionUtils {
 
   /**
    * Performs a read-only database operation without a commit. Can be used standalone or nested
-   * within other transactions.
+   * within other transactions. The read is served by the primary, unless it's part of a read-only
+   * operation routed to a read replica by {@link #getFromReadReplica}.
    */
+  @Traced
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
+    SqlSession replicaSession = ReadReplicaRouter.currentReplicaSession();
+    if (replicaSession != null && !SqlSessions.hasSqlSession()) {
+      return func.apply(replicaSession.getMapper(mapperClazz));
+    }
+
     try {
       T mapper = SqlSessions.getMapper(mapperClazz);
       return func.apply(mapper);
@@ -76,10 +90,21 @@ public class SessionUtils {
     }
   }
 
+  /**
+   * Performs a read-only operation made of one or more reads on one read replica if configured,
+   * otherwise on the primary. The reads of the insert, update and delete operations must not use
+   * it, since the replicas could lag behind the primary.
+   */
+  public static <R, E extends Exception> R getFromReadReplica(Executable<R, E> operation) throws E {
+    ReadReplicaRouter router = SqlSessionFactoryHelper.getInstance().getReadReplicaRouter();
+    return router == null ? operation.execute() : router.read(operation);
+  }
+
   /**
    * Performs a database operation without a commit. Can be used standalone or nested within other
    * transactions. This method is for operations that do not return a result.
    */
+  @Traced
   public static <T> void doWithoutCommit(Class<T> mapperClazz, Consumer<T> consumer) {
     try {
       T mapper = SqlSessions.getMapper(mapperClazz);
@@ -94,6 +119,7 @@ public class SessionUtils {
    * Performs multiple database operations within a single commit. Manages the full transaction
    * lifecycle.
    */
+  @Traced
   public static void doMultipleWithCommit(Runnable... operations) {
     // This method acts as the outermost transaction boundary.
     // It increments the session count once.
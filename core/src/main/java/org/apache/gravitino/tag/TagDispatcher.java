@@ -20,6 +20,7 @@ package org.apache.gravitino.tag;
 
 import java.util.Map;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.cache.EffectiveAssociations;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 
 /**
@@ -111,6 +112,27 @@ public interface TagDispatcher {
    */
   Tag[] listTagsInfoForMetadataObject(String metalake, MetadataObject metadataObject);
 
+  /**
+   * List the effective tags of the specified metadata object, which include the tags associated
+   * with the object itself and the ones inherited from its parent objects.
+   *
+   * @param metalake The name of the metalake
+   * @param metadataObject The metadata object to query the effective tags for.
+   * @return The effective tags of the metadata object.
+   */
+  EffectiveAssociations<Tag> listEffectiveTagsForMetadataObject(
+      String metalake, MetadataObject metadataObject);
+
+  /**
+   * List the effective tags of all the tables in the specified schema.
+   *
+   * @param metalake The name of the metalake
+   * @param schema The schema metadata object.
+   * @return The effective tags of the tables keyed by the table metadata objects.
+   */
+  Map<MetadataObject, EffectiveAssociations<Tag>> listEffectiveTagsForTables(
+      String metalake, MetadataObject schema);
+
   /**
    * Associate or disassociate tags with the specified metadata object.
    *
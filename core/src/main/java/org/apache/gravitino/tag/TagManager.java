@@ -21,12 +21,14 @@ package org.apache.gravitino.tag;
 import static org.apache.gravitino.metalake.MetalakeManager.checkMetalake;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +38,8 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.EffectiveAssociations;
+import org.apache.gravitino.cache.InheritedAssociationCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
 import org.apache.gravitino.exceptions.NoSuchTagException;
@@ -64,6 +68,8 @@ public class TagManager implements TagDispatcher {
 
   private final EntityStore entityStore;
 
+  private final InheritedAssociationCache<Tag> effectiveTagCache;
+
   private static final Set<MetadataObject.Type> SUPPORTED_METADATA_OBJECT_TYPES_FOR_TAGS =
       Sets.newHashSet(
           MetadataObject.Type.CATALOG,
@@ -75,8 +81,16 @@ public class TagManager implements TagDispatcher {
           MetadataObject.Type.MODEL);
 
   public TagManager(IdGenerator idGenerator, EntityStore entityStore) {
+    this(idGenerator, entityStore, new InheritedAssociationCache<>(0L, 1L, Tag::name));
+  }
+
+  public TagManager(
+      IdGenerator idGenerator,
+      EntityStore entityStore,
+      InheritedAssociationCache<Tag> effectiveTagCache) {
     this.idGenerator = idGenerator;
     this.entityStore = entityStore;
+    this.effectiveTagCache = effectiveTagCache;
   }
 
   public String[] listTags(String metalake) {
@@ -164,11 +178,14 @@ public class TagManager implements TagDispatcher {
         LockType.WRITE,
         () -> {
           try {
-            return entityStore.update(
-                NameIdentifierUtil.ofTag(metalake, name),
-                TagEntity.class,
-                Entity.EntityType.TAG,
-                tagEntity -> updateTagEntity(tagEntity, changes));
+            TagEntity tag =
+                entityStore.update(
+                    NameIdentifierUtil.ofTag(metalake, name),
+                    TagEntity.class,
+                    Entity.EntityType.TAG,
+                    tagEntity -> updateTagEntity(tagEntity, changes));
+            effectiveTagCache.invalidateMetalake(metalake);
+            return tag;
           } catch (NoSuchEntityException e) {
             throw new NoSuchTagException(
                 "Tag with name %s under metalake %s does not exist", name, metalake);
@@ -191,8 +208,10 @@ public class TagManager implements TagDispatcher {
         LockType.WRITE,
         () -> {
           try {
-            return entityStore.delete(
-                NameIdentifierUtil.ofTag(metalake, name), Entity.EntityType.TAG);
+            boolean deleted =
+                entityStore.delete(NameIdentifierUtil.ofTag(metalake, name), Entity.EntityType.TAG);
+            effectiveTagCache.invalidateMetalake(metalake);
+            return deleted;
           } catch (IOException ioe) {
             LOG.error("Failed to delete tag {} under metalake {}", name, metalake, ioe);
             throw new RuntimeException(ioe);
@@ -268,6 +287,25 @@ public class TagManager implements TagDispatcher {
         });
   }
 
+  public EffectiveAssociations<Tag> listEffectiveTagsForMetadataObject(
+      String metalake, MetadataObject metadataObject) throws NoSuchMetadataObjectException {
+    MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+    return effectiveTagCache.get(metalake, metadataObject, object -> listOwnTags(metalake, object));
+  }
+
+  public Map<MetadataObject, EffectiveAssociations<Tag>> listEffectiveTagsForTables(
+      String metalake, MetadataObject schema) throws NoSuchMetadataObjectException {
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+    Map<MetadataObject, EffectiveAssociations<Tag>> tags = new LinkedHashMap<>();
+    // The effective tags of the schema are loaded once and shared by all its tables
+    for (MetadataObject table : MetadataObjectUtil.listTables(metalake, schema)) {
+      tags.put(
+          table, effectiveTagCache.get(metalake, table, object -> listOwnTags(metalake, object)));
+    }
+    return tags;
+  }
+
   public Tag getTagForMetadataObject(String metalake, MetadataObject metadataObject, String name)
       throws NoSuchMetadataObjectException {
     NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
@@ -352,6 +390,7 @@ public class TagManager implements TagDispatcher {
                                 entityType,
                                 tagsToAddIdent,
                                 tagsToRemoveIdent);
+                    effectiveTagCache.invalidate(metalake, metadataObject);
 
                     return tags.stream().map(Tag::name).toArray(String[]::new);
                   } catch (NoSuchEntityException e) {
@@ -373,6 +412,33 @@ public class TagManager implements TagDispatcher {
                 }));
   }
 
+  private List<Tag> listOwnTags(String metalake, MetadataObject metadataObject) {
+    NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+    Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject);
+
+    return TreeLockUtils.doWithTreeLock(
+        entityIdent,
+        LockType.READ,
+        () -> {
+          try {
+            List<TagEntity> tags =
+                entityStore
+                    .relationOperations()
+                    .listEntitiesByRelation(
+                        SupportsRelationOperations.Type.TAG_METADATA_OBJECT_REL,
+                        entityIdent,
+                        entityType);
+            return ImmutableList.copyOf(tags);
+          } catch (NoSuchEntityException e) {
+            // The object isn't stored in the entity store, so no tag is associated with it
+            return ImmutableList.of();
+          } catch (IOException e) {
+            LOG.error("Failed to list tags for metadata object {}", metadataObject, e);
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
   private TagEntity updateTagEntity(TagEntity tagEntity, TagChange... changes) {
     Map<String, String> props =
         tagEntity.properties() == null
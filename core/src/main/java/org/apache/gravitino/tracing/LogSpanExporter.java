@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The default span exporter of Gravitino, it writes each span as a line into the log. Configure
+ * the exporter of a tracing backend, like {@code
+ * io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter}, to analyze the traces.
+ */
+public class LogSpanExporter implements SpanExporter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LogSpanExporter.class);
+
+  @Override
+  public CompletableResultCode export(Collection<SpanData> spans) {
+    if (LOG.isInfoEnabled()) {
+      for (SpanData span : spans) {
+        LOG.info(
+            "Span {} trace id: {}, span id: {}, parent span id: {}, duration: {} us, status: {}, "
+                + "attributes: {}",
+            span.getName(),
+            span.getTraceId(),
+            span.getSpanId(),
+            span.getParentSpanId(),
+            TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+            span.getStatus().getStatusCode(),
+            span.getAttributes().asMap());
+      }
+    }
+    return CompletableResultCode.ofSuccess();
+  }
+
+  @Override
+  public CompletableResultCode flush() {
+    return CompletableResultCode.ofSuccess();
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    return CompletableResultCode.ofSuccess();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A span processor logging the span tree of the slow requests. It keeps the ended spans of a trace
+ * in memory until the local root span of the trace, the span of the request in the Gravitino
+ * server, ends, then it logs the tree if the request takes longer than the threshold and drops
+ * the spans.
+ */
+public class SlowRequestSpanProcessor implements SpanProcessor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SlowRequestSpanProcessor.class);
+
+  private static final int MAX_PENDING_TRACES = 10000;
+  private static final int MAX_SPANS_PER_TRACE = 1000;
+
+  private final long thresholdNanos;
+  // The spans of a trace are dropped once the local root span ends, the expiration only evicts the
+  // traces whose local root span never ends.
+  private final Cache<String, List<SpanData>> pendingSpans =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_PENDING_TRACES)
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .build();
+  private final AtomicLong slowRequests = new AtomicLong();
+
+  public SlowRequestSpanProcessor(long thresholdMs) {
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    String traceId = span.getSpanContext().getTraceId();
+    SpanContext parent = span.getParentSpanContext();
+    if (parent.isValid() && !parent.isRemote()) {
+      List<SpanData> spans =
+          pendingSpans.get(traceId, k -> Collections.synchronizedList(new ArrayList<>()));
+      if (spans.size() < MAX_SPANS_PER_TRACE) {
+        spans.add(span.toSpanData());
+      }
+      return;
+    }
+
+    List<SpanData> spans = pendingSpans.asMap().remove(traceId);
+    if (span.getLatencyNanos() < thresholdNanos) {
+      return;
+    }
+
+    slowRequests.incrementAndGet();
+    LOG.warn(
+        "Slow request {} took {} ms, trace id: {}, spans:\n{}",
+        span.getName(),
+        TimeUnit.NANOSECONDS.toMillis(span.getLatencyNanos()),
+        traceId,
+        formatTree(span.toSpanData(), spans == null ? Collections.emptyList() : spans));
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @VisibleForTesting
+  long slowRequests() {
+    return slowRequests.get();
+  }
+
+  @VisibleForTesting
+  static String formatTree(SpanData root, Collection<SpanData> spans) {
+    Map<String, List<SpanData>> children;
+    synchronized (spans) {
+      children = spans.stream().collect(Collectors.groupingBy(SpanData::getParentSpanId));
+    }
+    StringBuilder builder = new StringBuilder();
+    appendSpan(builder, root, children, 0, root.getStartEpochNanos());
+    return builder.toString();
+  }
+
+  private static void appendSpan(
+      StringBuilder builder,
+      SpanData span,
+      Map<String, List<SpanData>> children,
+      int depth,
+      long rootStartNanos) {
+    builder
+        .append("  ".repeat(depth))
+        .append(span.getName())
+        .append(String.format(" +%.3fms", (span.getStartEpochNanos() - rootStartNanos) / 1e6))
+        .append(
+            String.format(" %.3fms", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1e6));
+    if (!span.getAttributes().isEmpty()) {
+      builder.append(' ').append(span.getAttributes().asMap());
+    }
+    if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+      builder.append(" ERROR");
+    }
+    builder.append('\n');
+
+    children.getOrDefault(span.getSpanId(), Collections.emptyList()).stream()
+        .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+        .forEach(child -> appendSpan(builder, child, children, depth + 1, rootStartNanos));
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation for tracing a method. The execution of the method is recorded as a span, a child
+ * of the current span, by {@link TracingAspect} when tracing is enabled.
+ *
+ * <p>The span is named {@code {simple class name}.{method name}} unless {@link #value()} is set,
+ * and it's tagged with the first {@link org.apache.gravitino.NameIdentifier}, {@link
+ * org.apache.gravitino.Namespace}, {@link org.apache.gravitino.Entity.EntityType} and mapper class
+ * arguments of the method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Traced {
+
+  /**
+   * The name of the span.
+   *
+   * @return The name of the span, empty to name the span after the method.
+   */
+  String value() default "";
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.utils.Executable;
+
+/**
+ * The entry of the tracing in Gravitino. It hands out the tracer of the {@link TracingManager} in
+ * the {@link GravitinoEnv}, or a no-op tracer if tracing isn't enabled, so the instrumented code
+ * doesn't need to check whether tracing is enabled.
+ */
+public class Tracing {
+
+  /** The instrumentation scope name of the Gravitino spans. */
+  public static final String INSTRUMENTATION_NAME = "org.apache.gravitino";
+
+  /** The attribute of the name identifier an operation works on. */
+  public static final AttributeKey<String> IDENTIFIER =
+      AttributeKey.stringKey("gravitino.identifier");
+
+  /** The attribute of the namespace an operation works on. */
+  public static final AttributeKey<String> NAMESPACE =
+      AttributeKey.stringKey("gravitino.namespace");
+
+  /** The attribute of the entity type an operation works on. */
+  public static final AttributeKey<String> ENTITY_TYPE =
+      AttributeKey.stringKey("gravitino.entity_type");
+
+  /** The attribute of the MyBatis mapper a SQL session works with. */
+  public static final AttributeKey<String> MAPPER = AttributeKey.stringKey("gravitino.mapper");
+
+  /** The attribute telling whether an entity is served from the entity cache. */
+  public static final AttributeKey<Boolean> CACHE_HIT =
+      AttributeKey.booleanKey("gravitino.cache_hit");
+
+  private static final Tracer NOOP_TRACER = TracerProvider.noop().get(INSTRUMENTATION_NAME);
+
+  private Tracing() {}
+
+  /**
+   * Whether tracing is enabled in the Gravitino environment.
+   *
+   * @return True if tracing is enabled.
+   */
+  public static boolean isEnabled() {
+    TracingManager tracingManager = GravitinoEnv.getInstance().tracingManager();
+    return tracingManager != null && tracingManager.isEnabled();
+  }
+
+  /**
+   * Get the tracer to start the Gravitino spans.
+   *
+   * @return The tracer of the Gravitino environment, or a no-op tracer if tracing isn't enabled.
+   */
+  public static Tracer tracer() {
+    TracingManager tracingManager = GravitinoEnv.getInstance().tracingManager();
+    return tracingManager == null ? NOOP_TRACER : tracingManager.tracer();
+  }
+
+  /**
+   * Get the propagator of the trace context between Gravitino and its callers, it reads and writes
+   * the W3C {@code traceparent} and {@code tracestate} headers.
+   *
+   * @return The trace context propagator.
+   */
+  public static TextMapPropagator propagator() {
+    return W3CTraceContextPropagator.getInstance();
+  }
+
+  /**
+   * Execute the executable in a span, a child of the current span. The span is marked as failed if
+   * the executable throws an exception.
+   *
+   * @param name The name of the span.
+   * @param executable The executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception the executable throws.
+   * @throws E If the executable throws the exception.
+   */
+  public static <R, E extends Exception> R inSpan(String name, Executable<R, E> executable)
+      throws E {
+    Span span = tracer().spanBuilder(name).startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      return executable.execute();
+    } catch (Exception e) {
+      recordException(span, e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  /**
+   * Mark the span as failed with the exception.
+   *
+   * @param span The span to mark.
+   * @param throwable The exception of the span.
+   */
+  public static void recordException(Span span, Throwable throwable) {
+    span.recordException(throwable);
+    span.setStatus(StatusCode.ERROR, throwable.getClass().getSimpleName());
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.context.Scope;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+/** An aspect recording the execution of the methods annotated with {@link Traced} as spans. */
+@Aspect
+public class TracingAspect {
+
+  @Pointcut("execution(@org.apache.gravitino.tracing.Traced * *(..))")
+  public void tracedMethods() {}
+
+  @Around("tracedMethods() && @annotation(traced)")
+  public Object traceMethod(ProceedingJoinPoint pjp, Traced traced) throws Throwable {
+    if (!Tracing.isEnabled()) {
+      return pjp.proceed();
+    }
+
+    Signature signature = pjp.getSignature();
+    String name =
+        traced.value().isEmpty()
+            ? signature.getDeclaringType().getSimpleName() + "." + signature.getName()
+            : traced.value();
+    SpanBuilder spanBuilder = Tracing.tracer().spanBuilder(name);
+    setAttributes(spanBuilder, pjp.getArgs());
+
+    Span span = spanBuilder.startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      return pjp.proceed();
+    } catch (Throwable t) {
+      Tracing.recordException(span, t);
+      throw t;
+    } finally {
+      span.end();
+    }
+  }
+
+  private static void setAttributes(SpanBuilder spanBuilder, Object[] args) {
+    boolean identifierSet = false;
+    boolean namespaceSet = false;
+    boolean entityTypeSet = false;
+    boolean mapperSet = false;
+    for (Object arg : args) {
+      if (arg instanceof NameIdentifier && !identifierSet) {
+        spanBuilder.setAttribute(Tracing.IDENTIFIER, arg.toString());
+        identifierSet = true;
+      } else if (arg instanceof Namespace && !namespaceSet) {
+        spanBuilder.setAttribute(Tracing.NAMESPACE, arg.toString());
+        namespaceSet = true;
+      } else if (arg instanceof Entity.EntityType && !entityTypeSet) {
+        spanBuilder.setAttribute(Tracing.ENTITY_TYPE, ((Entity.EntityType) arg).name());
+        entityTypeSet = true;
+      } else if (arg instanceof Class && !mapperSet) {
+        spanBuilder.setAttribute(Tracing.MAPPER, ((Class<?>) arg).getSimpleName());
+        mapperSet = true;
+      }
+    }
+  }
+}
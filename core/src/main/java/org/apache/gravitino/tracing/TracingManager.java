@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.io.Closeable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * TracingManager builds the OpenTelemetry tracer of the Gravitino server. Tracing is a no-op until
+ * it's enabled by {@code gravitino.tracing.enabled}, then the spans are exported by the span
+ * exporter configured by {@code gravitino.tracing.exporterClass}, and the span trees of the slow
+ * requests are logged by {@link SlowRequestSpanProcessor}.
+ */
+public class TracingManager implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TracingManager.class);
+
+  private static final String SERVICE_NAME = "gravitino";
+
+  private volatile SdkTracerProvider tracerProvider;
+  private volatile Tracer tracer = TracerProvider.noop().get(Tracing.INSTRUMENTATION_NAME);
+
+  /**
+   * Initialize the tracing with the Gravitino configuration.
+   *
+   * @param config The Gravitino configuration.
+   */
+  public void init(Config config) {
+    if (!config.get(Configs.TRACING_ENABLED)) {
+      return;
+    }
+
+    SpanExporter exporter = createExporter(config.get(Configs.TRACING_EXPORTER_CLASS));
+    init(
+        BatchSpanProcessor.builder(exporter).build(),
+        config.get(Configs.TRACING_SAMPLING_RATIO),
+        config.get(Configs.TRACING_SLOW_REQUEST_THRESHOLD_MS));
+    LOG.info(
+        "Tracing is enabled with the span exporter {}", config.get(Configs.TRACING_EXPORTER_CLASS));
+  }
+
+  @VisibleForTesting
+  void init(SpanProcessor exportProcessor, double samplingRatio, long slowRequestThresholdMs) {
+    Sampler sampler = Sampler.parentBased(Sampler.traceIdRatioBased(samplingRatio));
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .setResource(
+                Resource.getDefault()
+                    .merge(
+                        Resource.create(
+                            Attributes.of(AttributeKey.stringKey("service.name"), SERVICE_NAME))))
+            .addSpanProcessor(exportProcessor);
+    if (slowRequestThresholdMs > 0) {
+      // Record the spans of the traces not sampled as well, so a slow request is always logged
+      // regardless of the sampling, only the sampled spans are exported.
+      sampler = new RecordingSampler(sampler);
+      builder.addSpanProcessor(new SlowRequestSpanProcessor(slowRequestThresholdMs));
+    }
+
+    this.tracerProvider = builder.setSampler(sampler).build();
+    this.tracer = tracerProvider.get(Tracing.INSTRUMENTATION_NAME);
+  }
+
+  /**
+   * Whether tracing is enabled.
+   *
+   * @return True if tracing is enabled.
+   */
+  public boolean isEnabled() {
+    return tracerProvider != null;
+  }
+
+  /**
+   * Get the tracer to start the Gravitino spans.
+   *
+   * @return The tracer, a no-op tracer if tracing isn't enabled.
+   */
+  public Tracer tracer() {
+    return tracer;
+  }
+
+  @Override
+  public void close() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+      tracerProvider = null;
+      tracer = TracerProvider.noop().get(Tracing.INSTRUMENTATION_NAME);
+    }
+  }
+
+  private static SpanExporter createExporter(String className) {
+    try {
+      Class<?> clazz = Class.forName(className, true, TracingManager.class.getClassLoader());
+      if (!SpanExporter.class.isAssignableFrom(clazz)) {
+        throw new IllegalArgumentException(
+            String.format("%s is not a subclass of %s", className, SpanExporter.class.getName()));
+      }
+
+      for (Constructor<?> constructor : clazz.getConstructors()) {
+        if (constructor.getParameterCount() == 0) {
+          return (SpanExporter) constructor.newInstance();
+        }
+      }
+      // The exporters of OpenTelemetry are created by the static factory methods, like
+      // OtlpGrpcSpanExporter.getDefault()
+      Method factory = clazz.getMethod("getDefault");
+      if (!Modifier.isStatic(factory.getModifiers())) {
+        throw new IllegalArgumentException(
+            String.format("%s has no public no-arg constructor or static getDefault", className));
+      }
+      return (SpanExporter) factory.invoke(null);
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to create the span exporter " + className, e);
+    }
+  }
+
+  /** A sampler recording the spans its delegate drops, without exporting them. */
+  private static class RecordingSampler implements Sampler {
+    private final Sampler delegate;
+
+    private RecordingSampler(Sampler delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+        Context parentContext,
+        String traceId,
+        String name,
+        SpanKind spanKind,
+        Attributes attributes,
+        List<LinkData> parentLinks) {
+      SamplingResult result =
+          delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+      return result.getDecision() == SamplingDecision.DROP ? SamplingResult.recordOnly() : result;
+    }
+
+    @Override
+    public String getDescription() {
+      return "RecordingSampler{" + delegate.getDescription() + "}";
+    }
+  }
+}
@@ -24,12 +24,16 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.IllegalMetadataObjectException;
@@ -257,6 +261,34 @@ public class MetadataObjectUtil {
     }
   }
 
+  /**
+   * Lists the tables of a schema as metadata objects. The tables are listed from the underlying
+   * catalog, so the ones which are not stored in the entity store are included as well. This method
+   * should be called out of the tree lock.
+   *
+   * @param metalake The metalake name
+   * @param schema The schema metadata object
+   * @return The table metadata objects of the schema
+   */
+  public static List<MetadataObject> listTables(String metalake, MetadataObject schema) {
+    Preconditions.checkArgument(
+        schema.type() == MetadataObject.Type.SCHEMA,
+        "The metadata object %s must be a schema",
+        schema.fullName());
+    NameIdentifier schemaIdent = toEntityIdent(metalake, schema);
+    NameIdentifierUtil.checkSchema(schemaIdent);
+    NameIdentifier[] tables =
+        GravitinoEnv.getInstance()
+            .tableDispatcher()
+            .listTables(
+                NamespaceUtil.ofTable(
+                    metalake, schemaIdent.namespace().level(1), schemaIdent.name()));
+    return Arrays.stream(tables)
+        .map(
+            table -> MetadataObjects.of(schema.fullName(), table.name(), MetadataObject.Type.TABLE))
+        .collect(Collectors.toList());
+  }
+
   private static void check(
       final boolean expression, Supplier<? extends RuntimeException> exceptionToThrowSupplier) {
     if (!expression) {
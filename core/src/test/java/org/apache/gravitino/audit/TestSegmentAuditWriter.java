@@ -0,0 +1,216 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.listener.api.event.OperationStatus;
+import org.apache.gravitino.listener.api.event.OperationType;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestSegmentAuditWriter {
+  private static final long BASE_TIME = 1_700_000_000_000L;
+
+  @TempDir Path dir;
+
+  @Test
+  public void testRotateCompressAndQuery() throws IOException {
+    SegmentAuditWriter writer = newWriter();
+    for (int i = 0; i < 200; i++) {
+      writer.doWrite(auditLog(i));
+    }
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> writer.writtenLogs() == 200);
+
+    // Query the active and the closed segments while writing
+    List<AuditLogDTO> table3 =
+        writer.queryAuditLogs(
+            AuditLogQuery.builder().withIdentifier("metalake.catalog.schema.table3").build());
+    Assertions.assertEquals(20, table3.size());
+    Assertions.assertEquals(BASE_TIME + 193, table3.get(0).timestamp());
+    Assertions.assertEquals(BASE_TIME + 3, table3.get(19).timestamp());
+    writer.close();
+
+    List<String> files = listFiles();
+    Assertions.assertTrue(files.size() > 2, "Segments should be rotated: " + files);
+    Assertions.assertTrue(files.stream().noneMatch(f -> f.endsWith(SegmentAuditWriter.LOG_SUFFIX)));
+    Assertions.assertEquals(
+        files.stream().filter(f -> f.endsWith(SegmentAuditWriter.INDEX_SUFFIX)).count(),
+        files.stream().filter(f -> f.endsWith(SegmentAuditWriter.COMPRESSED_SUFFIX)).count());
+
+    // Query the compressed segments after restart
+    SegmentAuditWriter reopened = newWriter();
+    try {
+      List<AuditLogDTO> user1 =
+          reopened.queryAuditLogs(
+              AuditLogQuery.builder()
+                  .withUser("user1")
+                  .withOperationType("drop_table")
+                  .withSince(BASE_TIME + 100)
+                  .withLimit(10)
+                  .build());
+      Assertions.assertEquals(10, user1.size());
+      Assertions.assertTrue(
+          user1.stream().allMatch(a -> "user1".equals(a.user()) && a.timestamp() >= BASE_TIME + 100));
+      Assertions.assertEquals(BASE_TIME + 199, user1.get(0).timestamp());
+
+      List<AuditLogDTO> schema =
+          reopened.queryAuditLogs(
+              AuditLogQuery.builder()
+                  .withIdentifier("metalake.catalog.schema")
+                  .withOperationType(OperationType.DROP_TABLE.name())
+                  .withLimit(1000)
+                  .build());
+      Assertions.assertEquals(100, schema.size());
+      Assertions.assertTrue(
+          reopened
+              .queryAuditLogs(AuditLogQuery.builder().withIdentifier("metalake.catalog.s").build())
+              .isEmpty());
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  public void testRecoverUnindexedSegment() throws IOException {
+    String lines =
+        Stream.of(0, 1, 2)
+            .map(i -> toJson(SegmentAuditWriter.toDTO(auditLog(i))))
+            .collect(Collectors.joining("\n", "", "\n{\"user\":"));
+    Files.write(
+        dir.resolve("audit-0000000000001-000000" + SegmentAuditWriter.LOG_SUFFIX),
+        lines.getBytes(StandardCharsets.UTF_8));
+
+    SegmentAuditWriter writer = newWriter();
+    try {
+      Assertions.assertTrue(
+          Files.exists(dir.resolve("audit-0000000000001-000000" + SegmentAuditWriter.INDEX_SUFFIX)));
+      Assertions.assertTrue(
+          Files.exists(
+              dir.resolve("audit-0000000000001-000000" + SegmentAuditWriter.COMPRESSED_SUFFIX)));
+      Assertions.assertEquals(
+          3, writer.queryAuditLogs(AuditLogQuery.builder().build()).size());
+    } finally {
+      writer.close();
+    }
+  }
+
+  @Test
+  public void testSegmentIndex() {
+    AuditSegmentIndex index = new AuditSegmentIndex();
+    Assertions.assertFalse(index.mayMatch(AuditLogQuery.builder().build()));
+    index.add(SegmentAuditWriter.toDTO(auditLog(0)));
+    index.add(SegmentAuditWriter.toDTO(auditLog(5)));
+
+    Assertions.assertTrue(index.mayMatch(AuditLogQuery.builder().withUser("user1").build()));
+    Assertions.assertFalse(index.mayMatch(AuditLogQuery.builder().withUser("user2").build()));
+    Assertions.assertFalse(
+        index.mayMatch(AuditLogQuery.builder().withSince(BASE_TIME + 6).build()));
+    Assertions.assertTrue(
+        index.mayMatch(AuditLogQuery.builder().withIdentifier("metalake.catalog").build()));
+    Assertions.assertFalse(
+        index.mayMatch(
+            AuditLogQuery.builder().withIdentifier("metalake.catalog.schema.table1").build()));
+    Assertions.assertFalse(
+        index.mayMatch(AuditLogQuery.builder().withOperationType("create_table").build()));
+  }
+
+  private SegmentAuditWriter newWriter() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            SegmentAuditWriter.DIR, dir.toString(),
+            SegmentAuditWriter.MAX_SEGMENT_BYTES, "4096",
+            SegmentAuditWriter.BATCH_SIZE, "16",
+            SegmentAuditWriter.FLUSH_INTERVAL_MS, "10");
+    SegmentAuditWriter writer = new SegmentAuditWriter();
+    writer.init(null, properties);
+    return writer;
+  }
+
+  private List<String> listFiles() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.map(p -> p.getFileName().toString()).collect(Collectors.toList());
+    }
+  }
+
+  private static String toJson(AuditLogDTO auditLog) {
+    try {
+      return JsonUtils.anyFieldMapper().writeValueAsString(auditLog);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  // The audit log of the i-th operation, user{i % 2} loads table{i % 10} at even times and drops
+  // it at odd times.
+  private static AuditLog auditLog(int i) {
+    return new AuditLog() {
+      @Override
+      public String user() {
+        return "user" + (i % 2);
+      }
+
+      @Override
+      @SuppressWarnings("deprecation")
+      public Operation operation() {
+        return Operation.UNKNOWN_OPERATION;
+      }
+
+      @Override
+      public String identifier() {
+        return "metalake.catalog.schema.table" + (i % 10);
+      }
+
+      @Override
+      public long timestamp() {
+        return BASE_TIME + i;
+      }
+
+      @Override
+      @SuppressWarnings("deprecation")
+      public Status status() {
+        return Status.SUCCESS;
+      }
+
+      @Override
+      public OperationStatus operationStatus() {
+        return OperationStatus.SUCCESS;
+      }
+
+      @Override
+      public OperationType operationType() {
+        return i % 2 == 0 ? OperationType.LOAD_TABLE : OperationType.DROP_TABLE;
+      }
+    };
+  }
+}
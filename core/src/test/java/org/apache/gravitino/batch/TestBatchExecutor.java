@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.batch;
+
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.DummyEventListener;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLock;
+import org.apache.gravitino.utils.Executable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TestBatchExecutor {
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "schema");
+
+  private EntityStore store;
+  private LockManager lockManager;
+  private TreeLock treeLock;
+  private DummyEventListener listener;
+  private EventBus eventBus;
+  private BatchExecutor executor;
+  private int transactions;
+  private int rollbacks;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    transactions = 0;
+    rollbacks = 0;
+    store = Mockito.mock(EntityStore.class);
+    Mockito.when(store.executeInTransaction(ArgumentMatchers.any()))
+        .thenAnswer(
+            invocation -> {
+              transactions++;
+              try {
+                return ((Executable<Object, Exception>) invocation.getArgument(0)).execute();
+              } catch (Exception e) {
+                rollbacks++;
+                throw e;
+              }
+            });
+    treeLock = Mockito.mock(TreeLock.class);
+    lockManager = Mockito.mock(LockManager.class);
+    Mockito.when(lockManager.createTreeLock(ArgumentMatchers.any())).thenReturn(treeLock);
+    listener = new DummyEventListener();
+    eventBus = new EventBus(Collections.singletonList(listener));
+    executor = new BatchExecutor(store, lockManager, eventBus, 2);
+  }
+
+  @Test
+  public void testExecuteInTransactions() {
+    List<TestOperation> operations =
+        Arrays.asList(
+            new TestOperation(true, "t1"),
+            new TestOperation(true, "t2"),
+            new TestOperation(true, "t3"),
+            new TestOperation(false, "t4"),
+            new TestOperation(true, "t5"));
+
+    List<BatchOperationResult> results = executor.execute(operations);
+    Assertions.assertTrue(
+        results.stream().allMatch(r -> r.status() == BatchOperationResult.Status.SUCCEEDED));
+    Assertions.assertTrue(operations.stream().allMatch(op -> op.executed));
+    // [t1, t2], [t3], [t4], [t5]
+    Assertions.assertEquals(4, transactions);
+    Assertions.assertEquals(5, listener.getPostEvents().size());
+
+    // Each transaction takes the write lock on the schema only
+    Mockito.verify(lockManager, Mockito.times(4)).createTreeLock(SCHEMA);
+    Mockito.verify(treeLock, Mockito.times(4)).lock(LockType.WRITE);
+    Mockito.verify(treeLock, Mockito.times(4)).unlock();
+  }
+
+  @Test
+  public void testRollbackAndSkip() {
+    executor = new BatchExecutor(store, lockManager, eventBus, 3);
+    TestOperation failed = new TestOperation(true, "t3");
+    failed.error = new IllegalArgumentException("invalid table");
+    List<TestOperation> operations =
+        Arrays.asList(
+            new TestOperation(false, "t1"),
+            new TestOperation(true, "t2"),
+            failed,
+            new TestOperation(true, "t4"),
+            new TestOperation(true, "t5"));
+
+    List<BatchOperationResult> results = executor.execute(operations);
+    Assertions.assertEquals(
+        Arrays.asList(
+            BatchOperationResult.Status.SUCCEEDED,
+            BatchOperationResult.Status.ROLLED_BACK,
+            BatchOperationResult.Status.FAILED,
+            BatchOperationResult.Status.SKIPPED,
+            BatchOperationResult.Status.SKIPPED),
+        results.stream().map(BatchOperationResult::status).collect(Collectors.toList()));
+    Assertions.assertSame(failed.error, results.get(2).error().get());
+    Assertions.assertFalse(operations.get(3).executed);
+    Assertions.assertEquals(2, transactions);
+    Assertions.assertEquals(1, rollbacks);
+
+    // The events of the rolled back operations aren't dispatched
+    Assertions.assertEquals(1, listener.getPostEvents().size());
+    Mockito.verify(treeLock, Mockito.times(2)).unlock();
+  }
+
+  @Test
+  public void testMinimalWriteLockIdentifiers() {
+    NameIdentifier catalog = NameIdentifier.of("metalake", "catalog");
+    NameIdentifier table1 = NameIdentifier.of("metalake", "catalog", "schema", "t1");
+    NameIdentifier table2 = NameIdentifier.of("metalake", "catalog", "schema2", "t2");
+    NameIdentifier tag = NameIdentifier.of("metalake", "tag", "tag1");
+    NameIdentifier schema10 = NameIdentifier.of("metalake", "catalog", "schema10");
+
+    Assertions.assertEquals(
+        Arrays.asList(catalog, tag),
+        BatchExecutor.minimalWriteLockIdentifiers(
+            Lists.newArrayList(table1, tag, catalog, table2, table1)));
+    Assertions.assertEquals(
+        Arrays.asList(SCHEMA, schema10),
+        BatchExecutor.minimalWriteLockIdentifiers(Lists.newArrayList(schema10, table1, SCHEMA)));
+
+    // The identifiers in the system catalog are sorted after the metadata objects
+    NameIdentifier tagNamespace = NameIdentifier.of("metalake", "system", "tag");
+    NameIdentifier table3 = NameIdentifier.of("metalake", "zoo", "schema", "t3");
+    Assertions.assertEquals(
+        Arrays.asList(table1, table3, tagNamespace),
+        BatchExecutor.minimalWriteLockIdentifiers(
+            Lists.newArrayList(tagNamespace, table3, table1)));
+  }
+
+  @Test
+  public void testNoDeadlockWithTagAssociation() throws Exception {
+    LockManager realLockManager = new LockManager(new Config(false) {});
+    BatchExecutor batchExecutor = new BatchExecutor(store, realLockManager, eventBus, 2);
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    NameIdentifier tagNamespace =
+        NameIdentifier.of("metalake", Entity.SYSTEM_CATALOG_RESERVED_NAME, Entity.TAG_SCHEMA_NAME);
+
+    // Associates tags like TagManager, which locks the table before the tag namespace
+    Runnable associate =
+        () ->
+            withLock(
+                realLockManager,
+                table,
+                LockType.READ,
+                () -> withLock(realLockManager, tagNamespace, LockType.WRITE, () -> {}));
+    BatchOperation batchAssociate =
+        new BatchOperation() {
+          @Override
+          public List<NameIdentifier> writeLockIdentifiers() {
+            return Arrays.asList(table, tagNamespace);
+          }
+
+          @Override
+          public boolean transactional() {
+            return true;
+          }
+
+          @Override
+          public void execute() {
+            associate.run();
+          }
+        };
+    Runnable batch =
+        () ->
+            Assertions.assertEquals(
+                BatchOperationResult.Status.SUCCEEDED,
+                batchExecutor.execute(Collections.singletonList(batchAssociate)).get(0).status());
+    Runnable alter = () -> withLock(realLockManager, table, LockType.WRITE, () -> {});
+
+    ExecutorService pool = Executors.newFixedThreadPool(3);
+    try {
+      Assertions.assertTimeoutPreemptively(
+          Duration.ofSeconds(60),
+          () -> {
+            List<Future<?>> futures = Lists.newArrayList();
+            for (Runnable action : Arrays.asList(batch, associate, alter)) {
+              futures.add(
+                  pool.submit(
+                      () -> {
+                        for (int i = 0; i < 2000; i++) {
+                          action.run();
+                        }
+                      }));
+            }
+            for (Future<?> future : futures) {
+              future.get();
+            }
+          });
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static void withLock(
+      LockManager lockManager, NameIdentifier ident, LockType lockType, Runnable action) {
+    TreeLock lock = lockManager.createTreeLock(ident);
+    lock.lock(lockType);
+    try {
+      action.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private class TestOperation implements BatchOperation {
+    private final boolean transactional;
+    private final String table;
+    private Exception error;
+    private boolean executed;
+
+    private TestOperation(boolean transactional, String table) {
+      this.transactional = transactional;
+      this.table = table;
+    }
+
+    @Override
+    public List<NameIdentifier> writeLockIdentifiers() {
+      return Arrays.asList(SCHEMA, tableIdent());
+    }
+
+    @Override
+    public boolean transactional() {
+      return transactional;
+    }
+
+    private NameIdentifier tableIdent() {
+      return NameIdentifier.of("metalake", "catalog", "schema", table);
+    }
+
+    @Override
+    public void execute() throws Exception {
+      executed = true;
+      if (error != null) {
+        throw error;
+      }
+      eventBus.dispatchEvent(new DropTableEvent("user", tableIdent(), true));
+    }
+  }
+}
@@ -54,6 +54,9 @@ public class TestCacheConfig {
     Assertions.assertEquals(10_000, config.get(Configs.CACHE_MAX_ENTRIES));
     Assertions.assertEquals(3_600_000L, config.get(Configs.CACHE_EXPIRATION_TIME));
     Assertions.assertEquals(24_200_000L, EntityCacheWeigher.getMaxWeight());
+    Assertions.assertEquals(
+        Configs.CACHE_WEIGHER_FOOTPRINT, config.get(Configs.CACHE_WEIGHER_TYPE));
+    Assertions.assertEquals(256L, config.get(Configs.CACHE_MAX_SIZE_IN_MB));
     Assertions.assertEquals("caffeine", config.get(Configs.CACHE_IMPLEMENTATION));
   }
 
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityFootprintWeigher {
+  private static final EntityCacheKey TABLE_KEY =
+      EntityCacheKey.of(NameIdentifier.of("m", "c", "s", "t"), Entity.EntityType.TABLE);
+
+  @Test
+  void testWeighByFootprint() {
+    EntityFootprintWeigher weigher = EntityFootprintWeigher.getInstance();
+    int narrow = weigher.weigh(TABLE_KEY, List.of(table(2, Collections.emptyMap())));
+    int wide = weigher.weigh(TABLE_KEY, List.of(table(2000, Collections.emptyMap())));
+
+    // A column takes more than 100 bytes with its name, type and audit info
+    Assertions.assertTrue(wide - narrow > 1998 * 100, "narrow: " + narrow + ", wide: " + wide);
+    Assertions.assertTrue(wide < 2000 * 1000, "wide: " + wide);
+
+    Map<String, String> properties =
+        IntStream.range(0, 100)
+            .boxed()
+            .collect(Collectors.toMap(i -> "key" + i, i -> "value-of-property-" + i));
+    int withProperties = weigher.weigh(TABLE_KEY, List.of(table(2, properties)));
+    Assertions.assertTrue(withProperties - narrow > 100 * 2 * 40);
+
+    // Relation entries are weighed by all the entities in the list
+    int twoTables =
+        weigher.weigh(
+            TABLE_KEY,
+            List.of(table(2, Collections.emptyMap()), table(2, Collections.emptyMap())));
+    Assertions.assertTrue(twoTables > narrow && twoTables < 2 * narrow);
+  }
+
+  @Test
+  void testMetalakeAndCatalogNeverEvicted() {
+    CatalogEntity catalog =
+        CatalogEntity.builder()
+            .withNamespace(Namespace.of("m"))
+            .withName("c")
+            .withProvider("provider")
+            .withAuditInfo(AuditInfo.EMPTY)
+            .withId(1L)
+            .withType(Catalog.Type.RELATIONAL)
+            .build();
+    Assertions.assertEquals(
+        0,
+        EntityFootprintWeigher.getInstance()
+            .weigh(
+                EntityCacheKey.of(NameIdentifier.of("m", "c"), Entity.EntityType.CATALOG),
+                List.of(catalog)));
+
+    SchemaEntity schema =
+        SchemaEntity.builder()
+            .withNamespace(Namespace.of("m", "c"))
+            .withName("s")
+            .withId(2L)
+            .withAuditInfo(AuditInfo.EMPTY)
+            .build();
+    Assertions.assertTrue(EntityFootprintWeigher.estimateSize(schema) > 0);
+    Assertions.assertEquals(256L * 1024 * 1024, EntityFootprintWeigher.getMaxWeight(256L));
+  }
+
+  private static TableEntity table(int columnCount, Map<String, String> properties) {
+    AuditInfo auditInfo = AuditInfo.builder().withCreator("creator").build();
+    List<ColumnEntity> columns =
+        IntStream.range(0, columnCount)
+            .mapToObj(
+                i ->
+                    ColumnEntity.builder()
+                        .withId((long) i)
+                        .withName("column_" + i)
+                        .withPosition(i)
+                        .withDataType(Types.StringType.get())
+                        .withComment("comment of column " + i)
+                        .withNullable(true)
+                        .withAutoIncrement(false)
+                        .withAuditInfo(auditInfo)
+                        .build())
+            .collect(Collectors.toList());
+    return TableEntity.builder()
+        .withId(1L)
+        .withName("t")
+        .withNamespace(Namespace.of("m", "c", "s"))
+        .withColumns(columns)
+        .withProperties(properties)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+}
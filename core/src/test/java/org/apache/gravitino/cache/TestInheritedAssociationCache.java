@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestInheritedAssociationCache {
+
+  private static final String METALAKE = "metalake";
+  private static final MetadataObject CATALOG =
+      MetadataObjects.of(null, "catalog", MetadataObject.Type.CATALOG);
+  private static final MetadataObject SCHEMA =
+      MetadataObjects.of("catalog", "schema", MetadataObject.Type.SCHEMA);
+  private static final MetadataObject TABLE1 =
+      MetadataObjects.of("catalog.schema", "table1", MetadataObject.Type.TABLE);
+  private static final MetadataObject TABLE2 =
+      MetadataObjects.of("catalog.schema", "table2", MetadataObject.Type.TABLE);
+  private static final MetadataObject OTHER_CATALOG =
+      MetadataObjects.of(null, "catalog2", MetadataObject.Type.CATALOG);
+
+  private final Map<MetadataObject, List<String>> associations = new HashMap<>();
+  private final AtomicInteger loads = new AtomicInteger();
+  private InheritedAssociationCache<String> cache;
+
+  @BeforeEach
+  public void setUp() {
+    associations.clear();
+    associations.put(CATALOG, ImmutableList.of("pii", "finance"));
+    associations.put(SCHEMA, ImmutableList.of("finance", "gold"));
+    associations.put(TABLE1, ImmutableList.of("gold"));
+    loads.set(0);
+    cache = new InheritedAssociationCache<>(1000L, 60_000L, name -> name);
+  }
+
+  @Test
+  public void testMergeInheritedAssociations() {
+    EffectiveAssociations<String> table1 = get(TABLE1);
+    assertEquals(ImmutableList.of("gold"), table1.own());
+    // The nearest association wins, and the ones of the object itself aren't inherited
+    assertEquals(ImmutableList.of("finance", "pii"), table1.inherited());
+    assertEquals(3, loads.get());
+
+    // The effective associations of the schema are reused by the other tables
+    EffectiveAssociations<String> table2 = get(TABLE2);
+    assertEquals(ImmutableList.of(), table2.own());
+    assertEquals(ImmutableList.of("finance", "gold", "pii"), table2.inherited());
+    assertEquals(4, loads.get());
+
+    get(TABLE1);
+    get(TABLE2);
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void testInvalidateSubtree() {
+    get(TABLE1);
+    get(TABLE2);
+    get(OTHER_CATALOG);
+    assertEquals(5, cache.size());
+
+    associations.put(SCHEMA, ImmutableList.of("silver"));
+    cache.invalidate(METALAKE, SCHEMA);
+    assertEquals(2, cache.size());
+    assertEquals(ImmutableList.of("silver", "pii", "finance"), get(TABLE1).inherited());
+
+    // A catalog whose name starts with the name of another one isn't its descendant
+    cache.invalidate(METALAKE, CATALOG);
+    assertEquals(1, cache.size());
+
+    cache.invalidate(NameIdentifier.of(METALAKE, "catalog2"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testInvalidateByNameIdentifier() {
+    get(TABLE1);
+    get(TABLE2);
+    cache.invalidate(NameIdentifier.of(METALAKE, "catalog", "schema", "table1"));
+    assertEquals(3, cache.size());
+
+    get(TABLE1);
+    cache.invalidate(NameIdentifier.of("other_metalake"));
+    assertEquals(4, cache.size());
+    cache.invalidate(NameIdentifier.of(METALAKE));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testIndexFollowsCachedEntries() {
+    get(TABLE1);
+    get(TABLE2);
+    // The root of the metalake, the catalog, the schema and the two tables
+    assertEquals(5, cache.indexSize());
+
+    cache.invalidate(METALAKE, SCHEMA);
+    assertEquals(2, cache.indexSize());
+    cache.invalidate(NameIdentifier.of(METALAKE));
+    assertEquals(0, cache.indexSize());
+
+    // The expired entries are removed from the index as well
+    cache = new InheritedAssociationCache<>(1000L, 1L, name -> name);
+    get(TABLE1);
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertEquals(0, cache.size());
+              assertEquals(0, cache.indexSize());
+            });
+  }
+
+  @Test
+  public void testSkipCachingInvalidatedLoad() {
+    // The associations of the table are changed while they are being loaded
+    cache.get(
+        METALAKE,
+        TABLE1,
+        object -> {
+          if (object.equals(TABLE1)) {
+            cache.invalidate(METALAKE, TABLE1);
+          }
+          return associations.getOrDefault(object, ImmutableList.of());
+        });
+    // Only the parents loaded before the invalidation are cached
+    assertEquals(2, cache.size());
+
+    get(TABLE1);
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  public void testDisabledCache() {
+    cache = new InheritedAssociationCache<>(0L, 1L, name -> name);
+    assertEquals(ImmutableList.of("finance", "pii"), get(TABLE1).inherited());
+    get(TABLE1);
+    assertEquals(6, loads.get());
+    assertEquals(0, cache.size());
+  }
+
+  private EffectiveAssociations<String> get(MetadataObject object) {
+    return cache.get(
+        METALAKE,
+        object,
+        o -> {
+          loads.incrementAndGet();
+          return associations.getOrDefault(o, ImmutableList.of());
+        });
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.NotSupportedException;
+
+/** A local credential provider vending credentials with a configurable lifetime. */
+public class ExpiringCredentialProvider implements CredentialProvider {
+  static final String CREDENTIAL_TYPE = "expiring";
+  static final String LIFETIME_MS = "expiring-credential-lifetime-ms";
+  static final String VEND_DELAY_MS = "expiring-credential-vend-delay-ms";
+
+  static final AtomicInteger VEND_COUNT = new AtomicInteger();
+
+  private long lifetimeMs;
+  private long vendDelayMs;
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    this.lifetimeMs = Long.parseLong(properties.getOrDefault(LIFETIME_MS, "3600000"));
+    this.vendDelayMs = Long.parseLong(properties.getOrDefault(VEND_DELAY_MS, "0"));
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public String credentialType() {
+    return CREDENTIAL_TYPE;
+  }
+
+  @Override
+  public Credential getCredential(CredentialContext context) {
+    if (vendDelayMs > 0) {
+      try {
+        Thread.sleep(vendDelayMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+    return new ExpiringCredential(
+        VEND_COUNT.incrementAndGet(), System.currentTimeMillis() + lifetimeMs);
+  }
+
+  public static class ExpiringCredential implements Credential {
+    private final int sequence;
+    private final long expireTimeInMs;
+
+    public ExpiringCredential(int sequence, long expireTimeInMs) {
+      this.sequence = sequence;
+      this.expireTimeInMs = expireTimeInMs;
+    }
+
+    public int sequence() {
+      return sequence;
+    }
+
+    @Override
+    public String credentialType() {
+      return CREDENTIAL_TYPE;
+    }
+
+    @Override
+    public long expireTimeInMs() {
+      return expireTimeInMs;
+    }
+
+    @Override
+    public Map<String, String> credentialInfo() {
+      return ImmutableMap.of("sequence", String.valueOf(sequence));
+    }
+
+    @Override
+    public void initialize(Map<String, String> credentialInfo, long expireTimeInMs) {
+      throw new NotSupportedException();
+    }
+  }
+}
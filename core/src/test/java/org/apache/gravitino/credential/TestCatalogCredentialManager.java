@@ -0,0 +1,156 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.credential.ExpiringCredentialProvider.ExpiringCredential;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogCredentialManager {
+
+  @BeforeEach
+  void resetVendCount() {
+    ExpiringCredentialProvider.VEND_COUNT.set(0);
+  }
+
+  @Test
+  void testCoalesceConcurrentMisses() throws Exception {
+    Map<String, String> properties =
+        catalogProperties(ImmutableMap.of(ExpiringCredentialProvider.VEND_DELAY_MS, "200"));
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (CatalogCredentialManager manager = new CatalogCredentialManager("catalog", properties)) {
+      List<Future<Credential>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> manager.getCredential(readContext("user", "s3://b/t"))));
+      }
+      for (Future<Credential> future : futures) {
+        Assertions.assertEquals(1, ((ExpiringCredential) future.get()).sequence());
+      }
+      Assertions.assertEquals(1, ExpiringCredentialProvider.VEND_COUNT.get());
+      Assertions.assertEquals(8, manager.metricsSource().requests().getCount());
+      Assertions.assertEquals(1, manager.metricsSource().cacheMisses().getCount());
+      Assertions.assertEquals(0.875, manager.metricsSource().reuseRatio(), 0.001);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testReuseCredentialOfParentPath() {
+    try (CatalogCredentialManager manager =
+        new CatalogCredentialManager("catalog", catalogProperties(ImmutableMap.of()))) {
+      Credential credential = manager.getCredential(readContext("user", "s3://b/fileset/"));
+      Assertions.assertSame(
+          credential, manager.getCredential(readContext("user", "s3://b/fileset/a/b.parquet")));
+      Assertions.assertSame(credential, manager.getCredential(readContext("user", "s3://b/fileset")));
+      Assertions.assertEquals(1, ExpiringCredentialProvider.VEND_COUNT.get());
+      Assertions.assertEquals(2, manager.metricsSource().prefixHits().getCount());
+
+      // Not a sub-path
+      Assertions.assertNotSame(
+          credential, manager.getCredential(readContext("user", "s3://b/fileset2")));
+      // Another user
+      Assertions.assertNotSame(
+          credential, manager.getCredential(readContext("user2", "s3://b/fileset/a")));
+      // A write credential isn't reused by a read request and vice versa
+      Credential writeCredential =
+          manager.getCredential(
+              new PathBasedCredentialContext(
+                  "user", ImmutableSet.of("s3://b/fileset"), Collections.emptySet()));
+      Assertions.assertNotSame(credential, writeCredential);
+      Assertions.assertEquals(4, ExpiringCredentialProvider.VEND_COUNT.get());
+      Assertions.assertSame(
+          writeCredential,
+          manager.getCredential(
+              new PathBasedCredentialContext(
+                  "user", ImmutableSet.of("s3://b/fileset/a"), ImmutableSet.of("s3://b/fileset"))));
+    }
+  }
+
+  @Test
+  void testPrefixReuseDisabled() {
+    Map<String, String> properties =
+        catalogProperties(
+            ImmutableMap.of(CredentialConstants.CREDENTIAL_CACHE_PREFIX_REUSE, "false"));
+    try (CatalogCredentialManager manager = new CatalogCredentialManager("catalog", properties)) {
+      Credential credential = manager.getCredential(readContext("user", "s3://b/fileset"));
+      Assertions.assertNotSame(
+          credential, manager.getCredential(readContext("user", "s3://b/fileset/a")));
+      Assertions.assertSame(credential, manager.getCredential(readContext("user", "s3://b/fileset")));
+      Assertions.assertEquals(2, ExpiringCredentialProvider.VEND_COUNT.get());
+    }
+  }
+
+  @Test
+  void testRefreshAhead() throws InterruptedException {
+    // The credential stays in the cache for 2000ms and is renewed after 200ms
+    Map<String, String> properties =
+        catalogProperties(
+            ImmutableMap.of(
+                ExpiringCredentialProvider.LIFETIME_MS, "4000",
+                CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO, "0.5",
+                CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO, "0.1"));
+    try (CatalogCredentialManager manager = new CatalogCredentialManager("catalog", properties)) {
+      PathBasedCredentialContext context = readContext("user", "s3://b/t");
+      Assertions.assertEquals(1, ((ExpiringCredential) manager.getCredential(context)).sequence());
+      Thread.sleep(300);
+
+      // Served by the cached credential while it's renewed in background
+      Assertions.assertEquals(1, ((ExpiringCredential) manager.getCredential(context)).sequence());
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .pollInterval(10, TimeUnit.MILLISECONDS)
+          .until(() -> ((ExpiringCredential) manager.getCredential(context)).sequence() == 2);
+      Assertions.assertEquals(1, manager.metricsSource().refreshes().getCount());
+      Assertions.assertEquals(1, manager.metricsSource().cacheMisses().getCount());
+    }
+  }
+
+  @Test
+  void testCovers() {
+    Assertions.assertTrue(CredentialScopeIndex.isCovered("s3://b/a/c", ImmutableSet.of("s3://b/a")));
+    Assertions.assertTrue(CredentialScopeIndex.isCovered("s3://b/a", ImmutableSet.of("s3://b/a/")));
+    Assertions.assertFalse(CredentialScopeIndex.isCovered("s3://b/ab", ImmutableSet.of("s3://b/a")));
+    Assertions.assertFalse(CredentialScopeIndex.isCovered("s3://b/a", ImmutableSet.of("/")));
+  }
+
+  private static Map<String, String> catalogProperties(Map<String, String> extraProperties) {
+    Map<String, String> properties = new HashMap<>(extraProperties);
+    properties.put(
+        CredentialConstants.CREDENTIAL_PROVIDERS, ExpiringCredentialProvider.CREDENTIAL_TYPE);
+    return properties;
+  }
+
+  private static PathBasedCredentialContext readContext(String user, String path) {
+    return new PathBasedCredentialContext(user, Collections.emptySet(), ImmutableSet.of(path));
+  }
+}
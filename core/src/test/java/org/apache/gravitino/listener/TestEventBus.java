@@ -19,6 +19,9 @@
 package org.apache.gravitino.listener;
 
 import java.util.Collections;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.listener.api.event.DropTableFailureEvent;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -29,4 +32,31 @@ public class TestEventBus {
     EventBus eventBus = new EventBus(Collections.emptyList());
     Assertions.assertThrows(NullPointerException.class, () -> eventBus.dispatchEvent(null));
   }
+
+  @Test
+  void testDeferPostEvents() {
+    DummyEventListener listener = new DummyEventListener();
+    EventBus eventBus = new EventBus(Collections.singletonList(listener));
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+    eventBus.deferPostEvents();
+    Assertions.assertThrows(IllegalStateException.class, eventBus::deferPostEvents);
+    eventBus.dispatchEvent(new DropTableEvent("user", ident, true));
+    Assertions.assertTrue(listener.getPostEvents().isEmpty());
+    eventBus.flushDeferredPostEvents(true);
+    Assertions.assertEquals(1, listener.getPostEvents().size());
+
+    // The events are dispatched immediately after flushing
+    eventBus.dispatchEvent(new DropTableEvent("user", ident, true));
+    Assertions.assertEquals(2, listener.getPostEvents().size());
+
+    // Only the failure events are dispatched if the operations are rolled back
+    listener.clear();
+    eventBus.deferPostEvents();
+    eventBus.dispatchEvent(new DropTableEvent("user", ident, true));
+    eventBus.dispatchEvent(new DropTableFailureEvent("user", ident, new RuntimeException()));
+    eventBus.flushDeferredPostEvents(false);
+    Assertions.assertEquals(1, listener.getPostEvents().size());
+    Assertions.assertInstanceOf(DropTableFailureEvent.class, listener.getPostEvents().get(0));
+  }
 }
@@ -75,6 +75,33 @@ public class TestGravitinoSampleBuilder {
     Assertions.assertEquals(value, sample.value);
   }
 
+  @Test
+  public void testCreateSampleWithOperationMetric() {
+    String dropwizardName = "gravitino-server.operation.load-table.metalake1.catalog1.hive.2xx";
+    double value = 30.0;
+
+    Collector.MetricFamilySamples.Sample sample =
+        sampleBuilder.createSample(
+            dropwizardName, "_count", Collections.emptyList(), Collections.emptyList(), value);
+    Assertions.assertEquals("gravitino_server_operation_duration_seconds_count", sample.name);
+    Assertions.assertEquals(
+        ImmutableList.of("operation", "metalake", "catalog", "provider", "status"),
+        sample.labelNames);
+    Assertions.assertEquals(
+        ImmutableList.of("load-table", "metalake1", "catalog1", "hive", "2xx"), sample.labelValues);
+
+    sample =
+        sampleBuilder.createSample(
+            dropwizardName,
+            "",
+            Collections.singletonList("quantile"),
+            Collections.singletonList("0.99"),
+            value);
+    Assertions.assertEquals("gravitino_server_operation_duration_seconds", sample.name);
+    Assertions.assertEquals("quantile", sample.labelNames.get(5));
+    Assertions.assertEquals("0.99", sample.labelValues.get(5));
+  }
+
   @Test
   public void testCreateSampleWithNonCatalogMetricMatchingParentRule() {
     String dropwizardName = "test.default.metric1";
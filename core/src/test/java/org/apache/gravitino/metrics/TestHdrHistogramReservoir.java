@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHdrHistogramReservoir {
+
+  private static class ManualClock extends Clock {
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+
+    @Override
+    public long getTick() {
+      return TimeUnit.MILLISECONDS.toNanos(millis.get());
+    }
+
+    @Override
+    public long getTime() {
+      return millis.get();
+    }
+
+    void advance(long ms) {
+      millis.addAndGet(ms);
+    }
+  }
+
+  @Test
+  public void testPercentiles() {
+    HdrHistogramReservoir reservoir =
+        new HdrHistogramReservoir(60, TimeUnit.SECONDS, 6, new ManualClock());
+    for (int i = 1; i <= 1000; i++) {
+      reservoir.update(i * 1000L);
+    }
+
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1000, snapshot.size());
+    Assertions.assertEquals(1_000_000L, snapshot.getMax(), 10_000L);
+    Assertions.assertEquals(1000L, snapshot.getMin(), 10L);
+    Assertions.assertEquals(500_000.0, snapshot.getMedian(), 5_000.0);
+    Assertions.assertEquals(990_000.0, snapshot.get99thPercentile(), 10_000.0);
+    Assertions.assertEquals(500_500.0, snapshot.getMean(), 5_000.0);
+  }
+
+  @Test
+  public void testSlidingWindow() {
+    ManualClock clock = new ManualClock();
+    HdrHistogramReservoir reservoir = new HdrHistogramReservoir(60, TimeUnit.SECONDS, 6, clock);
+    reservoir.update(100L);
+    Assertions.assertEquals(1, reservoir.getSnapshot().size());
+
+    // The value is still in the window after 50 seconds
+    clock.advance(50_000L);
+    reservoir.update(200L);
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(2, snapshot.size());
+    Assertions.assertEquals(200L, snapshot.getMax());
+
+    // The first value slides out of the window
+    clock.advance(20_000L);
+    snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1, snapshot.size());
+    Assertions.assertEquals(200L, snapshot.getMin());
+
+    clock.advance(60_000L);
+    snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(0, snapshot.size());
+    Assertions.assertEquals(0L, snapshot.getMax());
+    Assertions.assertEquals(0.0, snapshot.get99thPercentile());
+  }
+
+  @Test
+  public void testValuesAccountedToRecordingTime() {
+    ManualClock clock = new ManualClock();
+    HdrHistogramReservoir reservoir = new HdrHistogramReservoir(60, TimeUnit.SECONDS, 6, clock);
+    reservoir.update(100L);
+
+    // The value slides out of the window even if no snapshot was taken while it was in it
+    clock.advance(70_000L);
+    Assertions.assertEquals(0, reservoir.getSnapshot().size());
+
+    // The values of an idle period are kept in their chunk until a later chunk is recorded
+    reservoir.update(200L);
+    clock.advance(30_000L);
+    reservoir.update(300L);
+    clock.advance(35_000L);
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1, snapshot.size());
+    Assertions.assertEquals(300L, snapshot.getMax());
+  }
+
+  @Test
+  public void testNegativeValue() {
+    HdrHistogramReservoir reservoir = new HdrHistogramReservoir(60, TimeUnit.SECONDS);
+    reservoir.update(-1L);
+    Assertions.assertEquals(0L, reservoir.getSnapshot().getMax());
+    Assertions.assertEquals(1, reservoir.getSnapshot().getValues().length);
+  }
+}
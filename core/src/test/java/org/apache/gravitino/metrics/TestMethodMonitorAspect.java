@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMethodMonitorAspect {
+
+  private static class MockMetricsSource extends MetricsSource {
+    MockMetricsSource() {
+      super("mock-store");
+    }
+  }
+
+  @Test
+  public void testMonitor() throws Throwable {
+    MetricsSystem metricsSystem = new MetricsSystem();
+    MockMetricsSource metricsSource = new MockMetricsSource();
+    metricsSystem.register(metricsSource);
+    MethodMonitorAspect aspect = new MethodMonitorAspect(metricsSystem);
+
+    Object[] args = {NameIdentifier.of("m1", "c1", "s1", "t1"), "other"};
+    Assertions.assertEquals("ok", aspect.monitor(metricsSource, "loadTable", args, () -> "ok"));
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () ->
+            aspect.monitor(
+                metricsSource,
+                "loadTable",
+                new Object[] {Namespace.of("m1", "c1")},
+                () -> {
+                  throw new IllegalStateException("failed");
+                }));
+
+    MetricRegistry registry = metricsSystem.getMetricRegistry();
+    Assertions.assertEquals(2, registry.timer("mock-store.loadTable.total").getCount());
+    Assertions.assertEquals(1, registry.meter("mock-store.loadTable.success").getCount());
+    Assertions.assertEquals(1, registry.meter("mock-store.loadTable.failure").getCount());
+    Assertions.assertEquals(
+        1, registry.timer("mock-store.operation.loadTable.m1.c1.none.success").getCount());
+    Assertions.assertEquals(
+        1, registry.timer("mock-store.operation.loadTable.m1.c1.none.failure").getCount());
+  }
+
+  @Test
+  public void testMetalakeAndCatalog() {
+    Assertions.assertArrayEquals(
+        new String[] {"m1", null},
+        MetricLabels.metalakeAndCatalog(new Object[] {"x", NameIdentifier.of("m1")}));
+    Assertions.assertArrayEquals(
+        new String[] {"m1", "c1"},
+        MetricLabels.metalakeAndCatalog(new Object[] {NameIdentifier.of("m1", "c1")}));
+    Assertions.assertArrayEquals(
+        new String[] {"m1", null},
+        MetricLabels.metalakeAndCatalog(new Object[] {Namespace.of("m1")}));
+    Assertions.assertArrayEquals(
+        new String[] {null, null}, MetricLabels.metalakeAndCatalog(new Object[] {1L, "x"}));
+  }
+}
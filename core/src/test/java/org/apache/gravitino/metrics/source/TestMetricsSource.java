@@ -22,6 +22,8 @@ package org.apache.gravitino.metrics.source;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Snapshot;
 import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -118,4 +120,37 @@ public class TestMetricsSource extends MetricsSource {
     // Assertions.assertEquals(94.0, snapshot.get95thPercentile());
     Assertions.assertEquals(100, snapshot.size());
   }
+
+  @Test
+  void testOperationTimer() {
+    Timer timer = getOperationTimer("load-table", "m1", "c1", "hive", "2xx");
+    Assertions.assertSame(timer, getOperationTimer("load-table", "m1", "c1", "hive", "2xx"));
+    timer.update(1, TimeUnit.MILLISECONDS);
+    Assertions.assertEquals(
+        1,
+        metricsSystem
+            .getMetricRegistry()
+            .timer(TEST_METRICS_SOURCE + ".operation.load-table.m1.c1.hive.2xx")
+            .getCount());
+
+    // Unknown labels and dots in the label values
+    getOperationTimer("list.schema", null, "", null, "success");
+    Assertions.assertTrue(
+        metricsSystem
+            .getMetricRegistry()
+            .getTimers()
+            .containsKey(TEST_METRICS_SOURCE + ".operation.list_schema.none.none.none.success"));
+
+    // The label combinations exceeding the max number of series are folded
+    for (int i = 0; i < Configs.DEFAULT_METRICS_LABELED_MAX_SERIES; i++) {
+      getOperationTimer("load-table", "m" + i, "c1", "hive", "2xx");
+    }
+    Timer folded = getOperationTimer("load-table", "new-metalake", "c1", "hive", "2xx");
+    Assertions.assertSame(folded, getOperationTimer("load-table", "another", "c2", "hive", "2xx"));
+    Assertions.assertTrue(
+        metricsSystem
+            .getMetricRegistry()
+            .getTimers()
+            .containsKey(TEST_METRICS_SOURCE + ".operation.load-table.other.other.other.2xx"));
+  }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.apache.gravitino.MetadataObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestLuceneMetadataIndex {
+  private static final String METALAKE = "metalake";
+  private static final UnaryOperator<List<MetadataObject>> ALLOW_ALL = objects -> objects;
+
+  @TempDir Path indexDir;
+
+  private LuceneMetadataIndex index;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    index = new LuceneMetadataIndex(indexDir, 1000L);
+    index.upsert(doc(MetadataObject.Type.CATALOG, "sales", "The sales data", null));
+    index.upsert(doc(MetadataObject.Type.SCHEMA, "sales.orders_db", "Orders", null));
+    index.upsert(
+        MetadataSearchDocument.of(
+                METALAKE,
+                MetadataObject.Type.TABLE,
+                "sales.orders_db.orders",
+                "All the customer orders",
+                ImmutableMap.of("Format", "Iceberg", "owner-team", "checkout"),
+                ImmutableList.of(
+                    new MetadataSearchDocument.ColumnDoc("order_id", "The order id"),
+                    new MetadataSearchDocument.ColumnDoc("customer_email", "PII email")))
+            .withTags(ImmutableList.of("PII")));
+    index.upsert(doc(MetadataObject.Type.FILESET, "sales.orders_db.raw_orders", "Raw", null));
+    index.upsert(doc(MetadataObject.Type.CATALOG, "hr", "Employees", null));
+    index.upsert(doc(MetadataObject.Type.TABLE, "hr.people.employees", "Employee email", null));
+    index.upsert(
+        MetadataSearchDocument.of(
+            "other", MetadataObject.Type.TABLE, "sales.orders_db.orders", null, null, null));
+    index.refresh();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    index.close();
+  }
+
+  @Test
+  public void testSearchFields() throws IOException {
+    Assertions.assertEquals(
+        ImmutableList.of("sales.orders_db.orders"), search("column:customer_email"));
+    Assertions.assertEquals(ImmutableList.of("sales.orders_db.orders"), search("tag:pii"));
+    Assertions.assertEquals(
+        ImmutableList.of("sales.orders_db.orders"), search("property.format:iceberg"));
+    Assertions.assertEquals(ImmutableList.of("sales.orders_db.orders"), search("property:OWNER*"));
+
+    // Prefix, boolean and negated queries on the default field
+    Assertions.assertEquals(
+        ImmutableSet.of("sales.orders_db", "sales.orders_db.orders", "sales.orders_db.raw_orders"),
+        ImmutableSet.copyOf(search("order*")));
+    Assertions.assertEquals(
+        ImmutableSet.of("sales.orders_db.orders", "hr.people.employees"),
+        ImmutableSet.copyOf(search("email")));
+    Assertions.assertEquals(ImmutableList.of("hr.people.employees"), search("email -tag:pii"));
+    Assertions.assertEquals(4, search("-type:catalog").size());
+    Assertions.assertEquals(6, search("").size());
+
+    MetadataSearchResult tables =
+        index.search(
+            METALAKE, "email", ImmutableSet.of(MetadataObject.Type.TABLE), 0, 10, ALLOW_ALL);
+    Assertions.assertEquals(2, tables.objects().size());
+    Assertions.assertFalse(tables.hasMore());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> search("name:(orders"));
+    int maxOffset = LuceneMetadataIndex.MAX_RESULT_WINDOW;
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> index.search(METALAKE, "", Collections.emptySet(), maxOffset, 1, ALLOW_ALL));
+  }
+
+  @Test
+  public void testSearchPaging() throws IOException {
+    for (int i = 0; i < 250; i++) {
+      index.upsert(doc(MetadataObject.Type.TABLE, "hr.people.t" + i, "paged", null));
+    }
+    index.refresh();
+
+    // Only the tables with an even number are authorized
+    UnaryOperator<List<MetadataObject>> evenOnly =
+        objects ->
+            objects.stream()
+                .filter(o -> Integer.parseInt(o.name().substring(1)) % 2 == 0)
+                .collect(Collectors.toList());
+    Set<String> seen = new HashSet<>();
+    int offset = 0;
+    MetadataSearchResult page;
+    do {
+      page = index.search(METALAKE, "comment:paged", null, offset, 40, evenOnly);
+      for (MetadataObject object : page.objects()) {
+        Assertions.assertTrue(seen.add(object.fullName()), object.fullName());
+      }
+      offset += page.objects().size();
+    } while (page.hasMore());
+    Assertions.assertEquals(125, seen.size());
+  }
+
+  @Test
+  public void testDeleteAndMove() throws IOException {
+    index.delete(METALAKE, MetadataObject.Type.SCHEMA, "sales.orders_db");
+    index.refresh();
+    Assertions.assertEquals(ImmutableList.of("sales"), search("fullname:sales*"));
+
+    index.move(METALAKE, MetadataObject.Type.CATALOG, "hr", METALAKE, "people_ops");
+    index.refresh();
+    Assertions.assertEquals(ImmutableList.of("people_ops.people.employees"), search("email"));
+    MetadataSearchDocument moved = index.get(METALAKE, MetadataObject.Type.CATALOG, "people_ops");
+    Assertions.assertEquals("Employees", moved.comment());
+    Assertions.assertNull(index.get(METALAKE, MetadataObject.Type.CATALOG, "hr"));
+
+    index.move("other", MetadataObject.Type.METALAKE, "other", "renamed", "renamed");
+    Assertions.assertNotNull(
+        index.get("renamed", MetadataObject.Type.TABLE, "sales.orders_db.orders"));
+
+    index.delete("renamed", MetadataObject.Type.METALAKE, "renamed");
+    Assertions.assertNull(
+        index.get("renamed", MetadataObject.Type.TABLE, "sales.orders_db.orders"));
+  }
+
+  @Test
+  public void testDeleteOlderGenerations() throws IOException {
+    long generation = index.nextGeneration();
+    index.upsert(doc(MetadataObject.Type.CATALOG, "sales", "Rebuilt", null));
+    index.deleteOlderGenerations(METALAKE, generation);
+    index.refresh();
+
+    Assertions.assertEquals(ImmutableList.of("sales"), search(""));
+    Assertions.assertNotNull(
+        index.get("other", MetadataObject.Type.TABLE, "sales.orders_db.orders"));
+  }
+
+  private List<String> search(String query) throws IOException {
+    return index.search(METALAKE, query, null, 0, 100, ALLOW_ALL).objects().stream()
+        .map(MetadataObject::fullName)
+        .collect(Collectors.toList());
+  }
+
+  private static MetadataSearchDocument doc(
+      MetadataObject.Type type, String fullName, String comment, String tag) {
+    MetadataSearchDocument doc =
+        MetadataSearchDocument.of(METALAKE, type, fullName, comment, null, null);
+    return tag == null ? doc : doc.withTags(ImmutableList.of(tag));
+  }
+}
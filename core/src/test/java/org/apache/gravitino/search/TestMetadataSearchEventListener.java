@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.search;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.event.AlterTagEvent;
+import org.apache.gravitino.listener.api.event.AlterTagPreEvent;
+import org.apache.gravitino.listener.api.event.AssociateTagsForMetadataObjectEvent;
+import org.apache.gravitino.listener.api.event.CreateCatalogEvent;
+import org.apache.gravitino.listener.api.event.CreateSchemaEvent;
+import org.apache.gravitino.listener.api.event.CreateTableEvent;
+import org.apache.gravitino.listener.api.event.DeleteTagEvent;
+import org.apache.gravitino.listener.api.event.DropCatalogEvent;
+import org.apache.gravitino.listener.api.event.LoadTableEvent;
+import org.apache.gravitino.listener.api.event.policy.AssociatePoliciesForMetadataObjectEvent;
+import org.apache.gravitino.listener.api.info.CatalogInfo;
+import org.apache.gravitino.listener.api.info.SchemaInfo;
+import org.apache.gravitino.listener.api.info.TableInfo;
+import org.apache.gravitino.listener.api.info.TagInfo;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.tag.TagChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestMetadataSearchEventListener {
+  private static final String USER = "user";
+  private static final String METALAKE = "metalake";
+
+  @TempDir Path indexDir;
+
+  private LuceneMetadataIndex index;
+  private MetadataSearchEventListener listener;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    index = new LuceneMetadataIndex(indexDir, 1000L);
+    listener = new MetadataSearchEventListener(index);
+
+    listener.onPostEvent(
+        new CreateCatalogEvent(
+            USER,
+            NameIdentifier.of(METALAKE, "sales"),
+            new CatalogInfo(
+                "sales", Catalog.Type.RELATIONAL, "hive", "Sales data", ImmutableMap.of(), null)));
+    listener.onPostEvent(
+        new CreateSchemaEvent(
+            USER,
+            NameIdentifier.of(METALAKE, "sales", "db"),
+            new SchemaInfo("db", "Orders", null, null)));
+    listener.onPostEvent(
+        new CreateTableEvent(
+            USER, NameIdentifier.of(METALAKE, "sales", "db", "orders"), tableInfo("orders")));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    index.close();
+  }
+
+  @Test
+  public void testIndexTableChanges() throws IOException {
+    Assertions.assertEquals(ImmutableList.of("sales.db.orders"), search("column:email"));
+
+    MetadataObject table = MetadataObjects.parse("sales.db.orders", MetadataObject.Type.TABLE);
+    listener.onPostEvent(
+        new AssociateTagsForMetadataObjectEvent(
+            USER, METALAKE, table, new String[] {"pii"}, null, new String[] {"pii"}));
+    listener.onPostEvent(
+        new AssociatePoliciesForMetadataObjectEvent(
+            USER, METALAKE, table, new String[] {"retention"}, null));
+
+    // The tags and policies are kept when the table is renamed or reloaded
+    listener.onPostEvent(
+        new AlterTableEvent(
+            USER,
+            NameIdentifier.of(METALAKE, "sales", "db", "orders"),
+            new TableChange[] {TableChange.rename("orders_v2")},
+            tableInfo("orders_v2")));
+    listener.onPostEvent(
+        new LoadTableEvent(
+            USER, NameIdentifier.of(METALAKE, "sales", "db", "orders_v2"), tableInfo("orders_v2")));
+    Assertions.assertNull(index.get(METALAKE, MetadataObject.Type.TABLE, "sales.db.orders"));
+    MetadataSearchDocument renamed =
+        index.get(METALAKE, MetadataObject.Type.TABLE, "sales.db.orders_v2");
+    Assertions.assertEquals(ImmutableSet.of("pii"), renamed.tags());
+    Assertions.assertEquals(ImmutableSet.of("retention"), renamed.policies());
+
+    listener.onPostEvent(
+        new AlterTableEvent(
+            USER,
+            NameIdentifier.of(METALAKE, "sales", "db", "orders_v2"),
+            new TableChange[] {TableChange.rename("orders_v2", "archive")},
+            tableInfo("orders_v2")));
+    Assertions.assertEquals(
+        ImmutableSet.of("pii"),
+        index.get(METALAKE, MetadataObject.Type.TABLE, "sales.archive.orders_v2").tags());
+
+    listener.onPostEvent(new DropCatalogEvent(USER, NameIdentifier.of(METALAKE, "sales"), true));
+    Assertions.assertEquals(ImmutableList.of(), search(""));
+  }
+
+  @Test
+  public void testIndexTagChanges() throws IOException {
+    listener.onPostEvent(
+        new AssociateTagsForMetadataObjectEvent(
+            USER,
+            METALAKE,
+            MetadataObjects.parse("sales.db", MetadataObject.Type.SCHEMA),
+            new String[] {"pii"},
+            null,
+            new String[] {"pii"}));
+
+    TagChange[] changes = new TagChange[] {TagChange.rename("sensitive")};
+    listener.onPreEvent(new AlterTagPreEvent(USER, METALAKE, "pii", changes));
+    listener.onPostEvent(
+        new AlterTagEvent(USER, METALAKE, changes, new TagInfo("sensitive", "PII", null)));
+    Assertions.assertEquals(ImmutableList.of("sales.db"), search("tag:sensitive"));
+    Assertions.assertEquals(ImmutableList.of("sensitive"), search("type:tag"));
+
+    listener.onPostEvent(new DeleteTagEvent(USER, METALAKE, "sensitive", true));
+    Assertions.assertEquals(ImmutableList.of(), search("tag:sensitive OR type:tag"));
+  }
+
+  private List<String> search(String query) throws IOException {
+    index.refresh();
+    return index.search(METALAKE, query, null, 0, 100, objects -> objects).objects().stream()
+        .map(MetadataObject::fullName)
+        .collect(Collectors.toList());
+  }
+
+  private static TableInfo tableInfo(String name) {
+    Column[] columns =
+        new Column[] {
+          Column.of("id", Types.LongType.get(), "Order id"),
+          Column.of("customer_email", Types.StringType.get(), "Customer email")
+        };
+    return new TableInfo(name, columns, "Orders", null, null, null, null, null, null);
+  }
+}
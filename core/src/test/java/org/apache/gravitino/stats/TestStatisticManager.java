@@ -34,6 +34,7 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.File;
@@ -54,11 +55,13 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
+import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.meta.TableEntity;
@@ -85,6 +88,8 @@ public class TestStatisticManager {
 
   private static final String TABLE = "table_for_stat_test";
 
+  private static final String FILESET = "fileset_for_stat_test";
+
   private static final String COLUMN = "column_for_stat_test";
   private static final Config config = Mockito.mock(Config.class);
 
@@ -183,6 +188,18 @@ public class TestStatisticManager {
             .withAuditInfo(audit)
             .build();
     entityStore.put(table, false /* overwritten */);
+
+    FilesetEntity fileset =
+        FilesetEntity.builder()
+            .withId(idGenerator.nextId())
+            .withName(FILESET)
+            .withNamespace(Namespace.of(METALAKE, CATALOG, SCHEMA))
+            .withFilesetType(Fileset.Type.MANAGED)
+            .withStorageLocations(
+                ImmutableMap.of(Fileset.LOCATION_NAME_UNKNOWN, "file:/tmp/fileset_for_stat_test"))
+            .withAuditInfo(audit)
+            .build();
+    entityStore.put(fileset, false /* overwritten */);
   }
 
   @AfterAll
@@ -289,6 +306,39 @@ public class TestStatisticManager {
         () -> statisticManager.dropStatistics(METALAKE, notExistObject, statNames));
   }
 
+  @Test
+  public void testFilesetStatisticLifeCycle() {
+    StatisticManager statisticManager = new StatisticManager(entityStore, idGenerator, config);
+
+    MetadataObject filesetObject =
+        MetadataObjects.of(
+            Lists.newArrayList(CATALOG, SCHEMA, FILESET), MetadataObject.Type.FILESET);
+    Map<String, StatisticValue<?>> stats = Maps.newHashMap();
+    stats.put("usage.bytes", StatisticValues.longValue(1024L));
+    stats.put("usage.files", StatisticValues.longValue(2L));
+    statisticManager.updateStatistics(METALAKE, filesetObject, stats);
+
+    List<Statistic> statistics = statisticManager.listStatistics(METALAKE, filesetObject);
+    Assertions.assertEquals(2, statistics.size());
+    for (Statistic statistic : statistics) {
+      Assertions.assertEquals(stats.get(statistic.name()), statistic.value().get());
+    }
+
+    // The statistics of the fileset are not mixed up with the ones of the table
+    MetadataObject tableObject =
+        MetadataObjects.of(Lists.newArrayList(CATALOG, SCHEMA, TABLE), MetadataObject.Type.TABLE);
+    Assertions.assertTrue(
+        statisticManager.listStatistics(METALAKE, tableObject).stream()
+            .noneMatch(statistic -> statistic.name().startsWith("usage.")));
+
+    Assertions.assertTrue(
+        statisticManager.dropStatistics(
+            METALAKE, filesetObject, Lists.newArrayList("usage.bytes")));
+    statistics = statisticManager.listStatistics(METALAKE, filesetObject);
+    Assertions.assertEquals(1, statistics.size());
+    Assertions.assertEquals("usage.files", statistics.get(0).name());
+  }
+
   @Test
   public void testPartitionStatisticLifeCycle() {
     StatisticManager statisticManager = new StatisticManager(entityStore, idGenerator, config);
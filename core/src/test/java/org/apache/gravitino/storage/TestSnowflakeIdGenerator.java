@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSnowflakeIdGenerator {
+
+  private static final long NOW = SnowflakeIdGenerator.EPOCH_MS + 1_000_000L;
+
+  @Test
+  public void testIdLayout() {
+    AtomicLong clock = new AtomicLong(NOW);
+    SnowflakeIdGenerator generator =
+        new SnowflakeIdGenerator(NodeIdLease.fixed(SnowflakeIdGenerator.MAX_NODE_ID), clock::get);
+
+    long id = generator.nextId();
+    Assertions.assertTrue(id > 0);
+    Assertions.assertEquals(NOW, SnowflakeIdGenerator.timestampOf(id));
+    Assertions.assertEquals(SnowflakeIdGenerator.MAX_NODE_ID, SnowflakeIdGenerator.nodeIdOf(id));
+    Assertions.assertEquals(id + 1, generator.nextId());
+
+    clock.incrementAndGet();
+    long next = generator.nextId();
+    Assertions.assertEquals(NOW + 1, SnowflakeIdGenerator.timestampOf(next));
+    Assertions.assertEquals(0, next & ((1 << SnowflakeIdGenerator.SEQUENCE_BITS) - 1));
+  }
+
+  @Test
+  public void testIdsAreIncreasing() {
+    AtomicLong clock = new AtomicLong(NOW);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NodeIdLease.fixed(1), clock::get);
+
+    Set<Long> ids = new HashSet<>();
+    long last = -1;
+    for (int i = 0; i < 10000; i++) {
+      if (i % 3000 == 0) {
+        clock.addAndGet(1);
+      }
+      // The clock moves backwards once, the ids still increase
+      if (i == 5000) {
+        clock.addAndGet(-10);
+      }
+      long id = generator.nextId();
+      Assertions.assertTrue(id > last, "The id " + id + " isn't greater than " + last);
+      Assertions.assertTrue(ids.add(id));
+      last = id;
+    }
+  }
+
+  @Test
+  public void testSequenceExhausted() {
+    AtomicLong clock = new AtomicLong(NOW);
+    AtomicLong reads = new AtomicLong();
+    // The clock advances after being read 10 times in the exhausted millisecond
+    SnowflakeIdGenerator generator =
+        new SnowflakeIdGenerator(
+            NodeIdLease.fixed(1),
+            () -> {
+              long sequenceSize = 1L << SnowflakeIdGenerator.SEQUENCE_BITS;
+              return reads.incrementAndGet() > sequenceSize + 10 ? NOW + 1 : clock.get();
+            });
+
+    for (int i = 0; i < 1 << SnowflakeIdGenerator.SEQUENCE_BITS; i++) {
+      Assertions.assertEquals(NOW, SnowflakeIdGenerator.timestampOf(generator.nextId()));
+    }
+    Assertions.assertEquals(NOW + 1, SnowflakeIdGenerator.timestampOf(generator.nextId()));
+  }
+
+  @Test
+  public void testLeaseLost() {
+    AtomicBoolean held = new AtomicBoolean(true);
+    NodeIdLease lease =
+        new NodeIdLease() {
+          @Override
+          public int nodeId() {
+            return 3;
+          }
+
+          @Override
+          public boolean isHeld() {
+            return held.get();
+          }
+
+          @Override
+          public void close() {}
+        };
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(lease);
+    Assertions.assertEquals(3, SnowflakeIdGenerator.nodeIdOf(generator.nextId()));
+
+    held.set(false);
+    Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.OptionalInt;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.TestTemplate;
+
+public class TestIdGeneratorNodeLeaseService extends TestJDBCBackend {
+  private static final long LEASE_MS = 60_000L;
+
+  private final IdGeneratorNodeLeaseService leaseService =
+      IdGeneratorNodeLeaseService.getInstance();
+
+  @TestTemplate
+  public void testAcquireDistinctNodeIds() {
+    long now = System.currentTimeMillis();
+    OptionalInt first = leaseService.acquireNodeLease("server1", 1, now, LEASE_MS);
+    OptionalInt second = leaseService.acquireNodeLease("server2", 1, now, LEASE_MS);
+    Assertions.assertTrue(first.isPresent());
+    Assertions.assertTrue(second.isPresent());
+    Assertions.assertNotEquals(first.getAsInt(), second.getAsInt());
+
+    // All the node ids are leased
+    Assertions.assertFalse(leaseService.acquireNodeLease("server3", 1, now, LEASE_MS).isPresent());
+
+    // The released node id could be acquired after the max clock skew, not the whole lease
+    long releasedUntil = now + LEASE_MS / 3;
+    leaseService.releaseNodeLease(first.getAsInt(), "server1", releasedUntil);
+    Assertions.assertFalse(
+        leaseService.acquireNodeLease("server3", 1, releasedUntil - 1, LEASE_MS).isPresent());
+    Assertions.assertEquals(
+        first, leaseService.acquireNodeLease("server3", 1, releasedUntil + 1, LEASE_MS));
+
+    // Releasing never extends the lease
+    leaseService.releaseNodeLease(second.getAsInt(), "server2", now + LEASE_MS * 2);
+    Assertions.assertEquals(
+        second, leaseService.acquireNodeLease("server4", 1, now + LEASE_MS + 1, LEASE_MS));
+  }
+
+  @TestTemplate
+  public void testRenewAndTakeOverExpiredLease() {
+    long now = System.currentTimeMillis();
+    int nodeId = leaseService.acquireNodeLease("server1", 0, now, LEASE_MS).getAsInt();
+    Assertions.assertEquals(0, nodeId);
+
+    Assertions.assertTrue(leaseService.renewNodeLease(nodeId, "server1", now + 1000, LEASE_MS));
+    Assertions.assertFalse(leaseService.renewNodeLease(nodeId, "server2", now + 1000, LEASE_MS));
+    Assertions.assertFalse(
+        leaseService.acquireNodeLease("server2", 0, now + LEASE_MS, LEASE_MS).isPresent());
+
+    // The lease of server1 expires, server2 takes it over and server1 can't renew it any more
+    long expired = now + 1000 + LEASE_MS + 1;
+    Assertions.assertEquals(
+        OptionalInt.of(0), leaseService.acquireNodeLease("server2", 0, expired, LEASE_MS));
+    Assertions.assertFalse(leaseService.renewNodeLease(nodeId, "server1", expired, LEASE_MS));
+    Assertions.assertTrue(leaseService.renewNodeLease(nodeId, "server2", expired, LEASE_MS));
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -593,6 +594,148 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
     Assertions.assertEquals(newColumn.id(), selectedColumnId);
   }
 
+  @TestTemplate
+  public void testCurrentColumnsSnapshot() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, AUDIT_INFO);
+
+    ColumnEntity column1 = newColumn("column1", 0, "comment1");
+    ColumnEntity column2 = newColumn("column2", 1, "comment2");
+    TableEntity createdTable =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(Lists.newArrayList(column1, column2))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    TableMetaService.getInstance().insertTable(createdTable, false);
+    Assertions.assertEquals(2, countCurrentColumns(createdTable.id()));
+
+    // Update column1, drop column2 and add column3 in one alteration
+    ColumnEntity updatedColumn1 = newColumn(column1.id(), "column1", 0, "comment1_updated");
+    ColumnEntity column3 = newColumn("column3", 1, "comment3");
+    TableEntity updatedTable =
+        TableEntity.builder()
+            .withId(createdTable.id())
+            .withName(createdTable.name())
+            .withNamespace(createdTable.namespace())
+            .withColumns(Lists.newArrayList(updatedColumn1, column3))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    Function<TableEntity, TableEntity> updater = oldTable -> updatedTable;
+    TableMetaService.getInstance().updateTable(createdTable.nameIdentifier(), updater);
+
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(createdTable.nameIdentifier());
+    compareTwoColumns(updatedTable.columns(), retrievedTable.columns());
+    Assertions.assertEquals(2, countCurrentColumns(createdTable.id()));
+
+    // The history still serves the columns of the previous version
+    List<ColumnPO> previousColumns =
+        TableColumnMetaService.getInstance().getColumnsByTableIdAndVersion(createdTable.id(), 1L);
+    Assertions.assertEquals(
+        Sets.newHashSet(column1.id(), column2.id()),
+        previousColumns.stream().map(ColumnPO::getColumnId).collect(Collectors.toSet()));
+
+    // A reader holding the previous version of the table falls back to the history
+    List<ColumnPO> staleColumns =
+        TableColumnMetaService.getInstance().getCurrentColumnsByTableId(createdTable.id(), 1L);
+    Assertions.assertEquals(
+        Sets.newHashSet(column1.id(), column2.id()),
+        staleColumns.stream().map(ColumnPO::getColumnId).collect(Collectors.toSet()));
+
+    Assertions.assertTrue(
+        TableMetaService.getInstance().deleteTable(createdTable.nameIdentifier()));
+    Assertions.assertEquals(0, countCurrentColumns(createdTable.id()));
+  }
+
+  @TestTemplate
+  public void testCurrentColumnsAfterDropOnlyAlter() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, AUDIT_INFO);
+
+    ColumnEntity column1 = newColumn("column1", 0, "comment1");
+    ColumnEntity column2 = newColumn("column2", 1, "comment2");
+    TableEntity createdTable =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(Lists.newArrayList(column1, column2))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    TableMetaService.getInstance().insertTable(createdTable, false);
+
+    // Only drop column2, the remaining current column keeps the version it was created in
+    TableEntity updatedTable =
+        TableEntity.builder()
+            .withId(createdTable.id())
+            .withName(createdTable.name())
+            .withNamespace(createdTable.namespace())
+            .withColumns(Lists.newArrayList(column1))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    Function<TableEntity, TableEntity> updater = oldTable -> updatedTable;
+    TableMetaService.getInstance().updateTable(createdTable.nameIdentifier(), updater);
+    Assertions.assertEquals(1, countCurrentColumns(createdTable.id()));
+
+    List<ColumnPO> currentColumns =
+        TableColumnMetaService.getInstance().getCurrentColumnsByTableId(createdTable.id(), 2L);
+    Assertions.assertEquals(
+        Sets.newHashSet(column1.id()),
+        currentColumns.stream().map(ColumnPO::getColumnId).collect(Collectors.toSet()));
+
+    // A reader holding the previous version of the table still sees the dropped column
+    List<ColumnPO> staleColumns =
+        TableColumnMetaService.getInstance().getCurrentColumnsByTableId(createdTable.id(), 1L);
+    Assertions.assertEquals(
+        Sets.newHashSet(column1.id(), column2.id()),
+        staleColumns.stream().map(ColumnPO::getColumnId).collect(Collectors.toSet()));
+  }
+
+  private ColumnEntity newColumn(String name, int position, String comment) {
+    return newColumn(RandomIdGenerator.INSTANCE.nextId(), name, position, comment);
+  }
+
+  private ColumnEntity newColumn(long id, String name, int position, String comment) {
+    return ColumnEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withPosition(position)
+        .withComment(comment)
+        .withDataType(Types.IntegerType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withDefaultValue(Literals.integerLiteral(1))
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private int countCurrentColumns(long tableId) throws IOException {
+    String sql =
+        "SELECT COUNT(*) FROM "
+            + TableColumnMapper.CURRENT_COLUMN_TABLE_NAME
+            + " WHERE table_id = ?";
+    try (PreparedStatement stmt =
+        SqlSessions.getSqlSession().getConnection().prepareStatement(sql)) {
+      stmt.setLong(1, tableId);
+      int count = 0;
+      try (ResultSet rs = stmt.executeQuery()) {
+        if (rs.next()) {
+          count = rs.getInt(1);
+        }
+      }
+      SqlSessions.commitAndCloseSqlSession();
+      return count;
+    } catch (Exception e) {
+      SqlSessions.rollbackAndCloseSqlSession();
+      throw new IOException("Failed to count current columns", e);
+    }
+  }
+
   private void compareTwoColumns(
       List<ColumnEntity> expectedColumns, List<ColumnEntity> actualColumns) {
     Assertions.assertEquals(expectedColumns.size(), actualColumns.size());
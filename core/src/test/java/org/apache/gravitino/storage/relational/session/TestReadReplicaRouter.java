@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_REPLICA_JDBC_URLS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_REPLICA_LAG_CHECK_INTERVAL_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_REPLICA_LAG_QUERY;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_REPLICA_MAX_LAG_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestReadReplicaRouter {
+  private static final String STORE_PATH =
+      "/tmp/gravitino_test_replica_" + UUID.randomUUID().toString().replace("-", "");
+  // The primary runs in MySQL mode and the replica in PostgreSQL mode, so the reads tell which
+  // database serves them
+  private static final String PRIMARY_URL =
+      String.format("jdbc:h2:%s/primary;DB_CLOSE_DELAY=-1;MODE=MYSQL", STORE_PATH);
+  private static final String REPLICA_URL =
+      String.format("jdbc:h2:%s/replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", STORE_PATH);
+
+  private ReadReplicaRouter router;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    execute(REPLICA_URL, "CREATE TABLE replica_lag (lag_ms BIGINT)");
+    execute(REPLICA_URL, "INSERT INTO replica_lag VALUES (0)");
+
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL)).thenReturn(PRIMARY_URL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(10);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_REPLICA_JDBC_URLS))
+        .thenReturn(Collections.singletonList(REPLICA_URL));
+    Mockito.when(config.get(ENTITY_RELATIONAL_REPLICA_MAX_LAG_MS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_REPLICA_LAG_CHECK_INTERVAL_MS))
+        .thenReturn(3600_000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_REPLICA_LAG_QUERY))
+        .thenReturn(Optional.of("SELECT lag_ms FROM replica_lag"));
+
+    SqlSessionFactoryHelper.getInstance().init(config);
+    router = SqlSessionFactoryHelper.getInstance().getReadReplicaRouter();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    SqlSessionFactoryHelper.getInstance().close();
+    FileUtils.deleteDirectory(new File(STORE_PATH));
+  }
+
+  @Test
+  public void testRouteReadsToReplica() throws Exception {
+    Assertions.assertNotNull(router);
+    Assertions.assertEquals(1, router.availableReplicas());
+    Assertions.assertEquals(0, router.maxReplicaLagMs());
+
+    Assertions.assertEquals("PostgreSQL", read());
+    Assertions.assertEquals(1, router.replicaReads());
+
+    // Write on a new thread, so the other tests reading on this thread aren't sticky to the primary
+    onNewThread(
+        () -> {
+          // The reads in a transaction are served by the primary
+          SqlSessions.getSqlSession();
+          Assertions.assertEquals("MySQL", read());
+          SqlSessions.commitAndCloseSqlSession();
+
+          // The thread reads its own writes from the primary
+          Assertions.assertEquals("MySQL", read());
+          return null;
+        });
+    Assertions.assertEquals(1, router.primaryReads());
+    // Other threads still read from the replica
+    Assertions.assertEquals("PostgreSQL", onNewThread(this::read));
+    Assertions.assertEquals(2, router.replicaReads());
+  }
+
+  @Test
+  public void testFallbackToPrimary() throws SQLException {
+    // The replica lags behind too much
+    execute(REPLICA_URL, "UPDATE replica_lag SET lag_ms = 5000");
+    router.checkLag();
+    Assertions.assertEquals(0, router.availableReplicas());
+    Assertions.assertEquals(5000, router.maxReplicaLagMs());
+    Assertions.assertEquals("MySQL", read());
+    Assertions.assertEquals(1, router.fallbackReads());
+
+    // The replica catches up
+    execute(REPLICA_URL, "UPDATE replica_lag SET lag_ms = 10");
+    router.checkLag();
+    Assertions.assertEquals("PostgreSQL", read());
+
+    // The replica fails, and it's skipped until the next lag check
+    String result =
+        router.read(
+            () -> {
+              if (ReadReplicaRouter.currentReplicaSession() != null) {
+                throw new PersistenceException("replica is down");
+              }
+              return mode();
+            });
+    Assertions.assertEquals("MySQL", result);
+    Assertions.assertEquals(0, router.availableReplicas());
+    Assertions.assertEquals(2, router.fallbackReads());
+  }
+
+  @Test
+  public void testPinReplicaPerOperation() {
+    String modes =
+        router.read(
+            () -> {
+              SqlSession session = ReadReplicaRouter.currentReplicaSession();
+              Assertions.assertNotNull(session);
+              // The nested operations are served by the same replica session
+              Assertions.assertSame(session, router.read(ReadReplicaRouter::currentReplicaSession));
+              return mode() + "," + mode();
+            });
+    Assertions.assertEquals("PostgreSQL,PostgreSQL", modes);
+    Assertions.assertEquals(1, router.replicaReads());
+    Assertions.assertNull(ReadReplicaRouter.currentReplicaSession());
+
+    // The reads outside of read-only operations, like the reads on the write paths, are served by
+    // the primary
+    Assertions.assertEquals("MySQL", mode());
+    Assertions.assertEquals(1, router.replicaReads());
+  }
+
+  @Test
+  public void testReadEntityCreatedByAnotherThread() throws Exception {
+    execute(PRIMARY_URL, "CREATE TABLE entity (name VARCHAR(16))");
+    execute(REPLICA_URL, "CREATE TABLE entity (name VARCHAR(16))");
+
+    // A request creates the entity, and the replica hasn't replicated it yet
+    onNewThread(
+        () -> {
+          SqlSession session = SqlSessions.getSqlSession();
+          try (Statement statement = session.getConnection().createStatement()) {
+            statement.execute("INSERT INTO entity VALUES ('e1')");
+          }
+          SqlSessions.commitAndCloseSqlSession();
+          return null;
+        });
+
+    // The next request is served by another thread, which isn't sticky to the primary
+    String name = onNewThread(() -> router.read(() -> withSession(s -> getEntity(s, "e1"))));
+    Assertions.assertEquals("e1", name);
+    Assertions.assertEquals(0, router.replicaReads());
+    Assertions.assertEquals(1, router.fallbackReads());
+
+    // The entity missing on the primary as well is still not found
+    onNewThread(
+        () ->
+            Assertions.assertThrows(
+                NoSuchEntityException.class,
+                () -> router.read(() -> withSession(s -> getEntity(s, "e2")))));
+    Assertions.assertEquals(2, router.fallbackReads());
+  }
+
+  @Test
+  public void testReadFromPrimary() {
+    // The reads filling a cache are served by the primary, even the nested read-only operations
+    Assertions.assertEquals("MySQL", ReadReplicaRouter.readFromPrimary(this::read));
+    Assertions.assertEquals(0, router.replicaReads());
+    Assertions.assertEquals("PostgreSQL", read());
+  }
+
+  private static String getEntity(SqlSession session, String name) {
+    try (Statement statement = session.getConnection().createStatement();
+        ResultSet resultSet =
+            statement.executeQuery("SELECT name FROM entity WHERE name = '" + name + "'")) {
+      if (!resultSet.next()) {
+        throw new NoSuchEntityException("Entity %s does not exist", name);
+      }
+      return resultSet.getString(1);
+    } catch (SQLException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  private static <T> T onNewThread(Callable<T> task) throws Exception {
+    FutureTask<T> future = new FutureTask<>(task);
+    new Thread(future).start();
+    return future.get();
+  }
+
+  private String read() {
+    return router.read(TestReadReplicaRouter::mode);
+  }
+
+  private static String mode() {
+    return withSession(TestReadReplicaRouter::compatibilityMode);
+  }
+
+  private static String withSession(Function<SqlSession, String> read) {
+    SqlSession replicaSession = ReadReplicaRouter.currentReplicaSession();
+    if (replicaSession != null) {
+      return read.apply(replicaSession);
+    }
+
+    SqlSession session = SqlSessions.getSqlSession();
+    try {
+      return read.apply(session);
+    } finally {
+      SqlSessions.closeSqlSession();
+    }
+  }
+
+  private static String compatibilityMode(SqlSession session) {
+    try (Statement statement = session.getConnection().createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS "
+                    + "WHERE SETTING_NAME = 'MODE'")) {
+      resultSet.next();
+      return resultSet.getString(1);
+    } catch (SQLException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  private static void execute(String url, String sql) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, "root", "123");
+        Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+}
@@ -20,19 +20,26 @@
 package org.apache.gravitino.storage.relational.session;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_CONNECTION_POOL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_EXECUTOR_TYPE;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_VALIDATION_TIMEOUT_MS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.HIKARI_CONNECTION_POOL;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
 import java.io.IOException;
@@ -43,6 +50,9 @@ import java.util.UUID;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -159,4 +169,51 @@ public class TestSqlSession {
     assertNull(SqlSessions.getSessions().get());
     assertEquals(0, SqlSessions.getSessionCount());
   }
+
+  @Test
+  public void testHikariPoolAndReuseExecutor() {
+    SqlSessionFactoryHelper.getInstance().close();
+    Config hikariConfig = Mockito.mock(Config.class);
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL));
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123");
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER))
+        .thenReturn("org.h2.Driver");
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(10);
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS))
+        .thenReturn(1000L);
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_CONNECTION_POOL))
+        .thenReturn(HIKARI_CONNECTION_POOL);
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_VALIDATION_TIMEOUT_MS))
+        .thenReturn(1000L);
+    Mockito.when(hikariConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_EXECUTOR_TYPE))
+        .thenReturn("reuse");
+    SqlSessionFactoryHelper.getInstance().init(hikariConfig);
+
+    Configuration configuration =
+        SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().getConfiguration();
+    assertTrue(configuration.getEnvironment().getDataSource() instanceof HikariDataSource);
+    assertEquals(ExecutorType.REUSE, configuration.getDefaultExecutorType());
+    configuration.addMapper(PingMapper.class);
+
+    // The statement is prepared once and reused by the following executions in the session
+    StatementMetricsInterceptor statementMetrics =
+        SqlSessionFactoryHelper.getInstance().getStatementMetrics();
+    SqlSession session = SqlSessions.getSqlSession();
+    try {
+      for (int i = 0; i < 3; i++) {
+        assertEquals(1, session.getMapper(PingMapper.class).ping());
+      }
+    } finally {
+      SqlSessions.closeSqlSession();
+    }
+    assertEquals(1, statementMetrics.preparedStatements());
+    assertEquals(2, statementMetrics.reusedStatements());
+  }
+
+  public interface PingMapper {
+    @Select("SELECT 1")
+    int ping();
+  }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.GravitinoEnv;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestTracing {
+
+  private InMemorySpanExporter exporter;
+  private TracingManager tracingManager;
+
+  @BeforeEach
+  public void setUp() throws IllegalAccessException {
+    exporter = InMemorySpanExporter.create();
+    tracingManager = new TracingManager();
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "tracingManager", tracingManager, true);
+  }
+
+  @AfterEach
+  public void tearDown() throws IllegalAccessException {
+    tracingManager.close();
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "tracingManager", null, true);
+  }
+
+  @Test
+  public void testDisabledTracing() {
+    Assertions.assertFalse(Tracing.isEnabled());
+    Assertions.assertEquals(
+        1,
+        Tracing.inSpan(
+            "outer",
+            () -> {
+              Assertions.assertFalse(Span.current().isRecording());
+              return 1;
+            }));
+    Assertions.assertTrue(exporter.getFinishedSpanItems().isEmpty());
+  }
+
+  @Test
+  public void testNestedSpans() {
+    tracingManager.init(SimpleSpanProcessor.create(exporter), 1.0, 0);
+    Assertions.assertTrue(Tracing.isEnabled());
+
+    Tracing.inSpan("outer", () -> Tracing.inSpan("inner", () -> 1));
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            Tracing.inSpan(
+                "failed",
+                () -> {
+                  throw new IOException("mock error");
+                }));
+
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    Assertions.assertEquals(3, spans.size());
+    SpanData inner = spans.get(0);
+    SpanData outer = spans.get(1);
+    Assertions.assertEquals("inner", inner.getName());
+    Assertions.assertEquals("outer", outer.getName());
+    Assertions.assertEquals(outer.getSpanId(), inner.getParentSpanId());
+    Assertions.assertEquals(outer.getTraceId(), inner.getTraceId());
+
+    SpanData failed = spans.get(2);
+    Assertions.assertEquals(StatusCode.ERROR, failed.getStatus().getStatusCode());
+    Assertions.assertEquals(1, failed.getEvents().size());
+  }
+
+  @Test
+  public void testRecordUnsampledSpansForSlowRequests() {
+    tracingManager.init(SimpleSpanProcessor.create(exporter), 0.0, 1000);
+
+    Tracing.inSpan(
+        "outer",
+        () -> {
+          // The span is recorded for the slow request logging but not exported
+          Assertions.assertTrue(Span.current().isRecording());
+          Assertions.assertFalse(Span.current().getSpanContext().isSampled());
+          return null;
+        });
+    Assertions.assertTrue(exporter.getFinishedSpanItems().isEmpty());
+  }
+
+  @Test
+  public void testSlowRequestSpanProcessor() {
+    SlowRequestSpanProcessor processor = new SlowRequestSpanProcessor(1000);
+    try (SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(processor)
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build()) {
+      Tracer tracer = tracerProvider.get(Tracing.INSTRUMENTATION_NAME);
+
+      // A fast request
+      Span fast = tracer.spanBuilder("fast").setStartTimestamp(0, TimeUnit.NANOSECONDS).startSpan();
+      fast.end(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.NANOSECONDS);
+      Assertions.assertEquals(0, processor.slowRequests());
+
+      // A slow request
+      Span root = tracer.spanBuilder("root").setStartTimestamp(0, TimeUnit.NANOSECONDS).startSpan();
+      try (Scope ignored = root.makeCurrent()) {
+        Span child =
+            tracer
+                .spanBuilder("child")
+                .setStartTimestamp(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.NANOSECONDS)
+                .startSpan();
+        child.end(TimeUnit.MILLISECONDS.toNanos(1900), TimeUnit.NANOSECONDS);
+      }
+      root.end(TimeUnit.SECONDS.toNanos(2), TimeUnit.NANOSECONDS);
+      Assertions.assertEquals(1, processor.slowRequests());
+    }
+
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    String tree = SlowRequestSpanProcessor.formatTree(spans.get(2), spans.subList(1, 2));
+    Assertions.assertTrue(tree.startsWith("root +0.000ms 2000.000ms\n"), tree);
+    Assertions.assertTrue(tree.contains("\n  child +100.000ms 1800.000ms\n"), tree);
+  }
+}
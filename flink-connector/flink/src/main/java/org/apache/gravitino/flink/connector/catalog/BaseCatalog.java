@@ -65,6 +65,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.client.TableStatisticsSummary;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -73,6 +74,7 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.flink.connector.PartitionConverter;
 import org.apache.gravitino.flink.connector.SchemaAndTablePropertiesConverter;
+import org.apache.gravitino.flink.connector.utils.StatisticsUtils;
 import org.apache.gravitino.flink.connector.utils.TableUtils;
 import org.apache.gravitino.flink.connector.utils.TypeUtils;
 import org.apache.gravitino.rel.Column;
@@ -498,13 +500,36 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public CatalogTableStatistics getTableStatistics(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
-    return realCatalog().getTableStatistics(tablePath);
+    CatalogTableStatistics statistics = realCatalog().getTableStatistics(tablePath);
+    if (statistics.getRowCount() >= 0) {
+      return statistics;
+    }
+    return StatisticsUtils.toFlinkTableStatistics(statistics, getGravitinoStatistics(tablePath));
   }
 
   @Override
   public CatalogColumnStatistics getTableColumnStatistics(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
-    return realCatalog().getTableColumnStatistics(tablePath);
+    CatalogColumnStatistics statistics = realCatalog().getTableColumnStatistics(tablePath);
+    if (!statistics.getColumnStatisticsData().isEmpty()) {
+      return statistics;
+    }
+
+    TableStatisticsSummary gravitinoStatistics = getGravitinoStatistics(tablePath);
+    if (gravitinoStatistics.columns().isEmpty()) {
+      return statistics;
+    }
+    try {
+      Table table =
+          catalog()
+              .asTableCatalog()
+              .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+      return new CatalogColumnStatistics(
+          StatisticsUtils.toFlinkColumnStatistics(table.columns(), gravitinoStatistics),
+          statistics.getProperties());
+    } catch (NoSuchTableException e) {
+      throw new TableNotExistException(catalogName(), tablePath, e);
+    }
   }
 
   @Override
@@ -727,6 +752,13 @@ public abstract class BaseCatalog extends AbstractCatalog {
     return schemaChanges.toArray(new SchemaChange[0]);
   }
 
+  private TableStatisticsSummary getGravitinoStatistics(ObjectPath tablePath) {
+    return GravitinoCatalogManager.get()
+        .getTableStatistics(
+            NameIdentifier.of(
+                catalogName(), tablePath.getDatabaseName(), tablePath.getObjectName()));
+  }
+
   protected Catalog catalog() {
     return GravitinoCatalogManager.get().getGravitinoCatalogInfo(getName());
   }
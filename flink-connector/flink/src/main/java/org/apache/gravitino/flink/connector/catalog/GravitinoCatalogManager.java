@@ -25,11 +25,15 @@ import java.security.PrivilegedAction;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
 import org.apache.gravitino.client.KerberosTokenProvider;
+import org.apache.gravitino.client.TableStatisticsCache;
+import org.apache.gravitino.client.TableStatisticsSummary;
 import org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.slf4j.Logger;
@@ -39,11 +43,14 @@ import org.slf4j.LoggerFactory;
 public class GravitinoCatalogManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(GravitinoCatalogManager.class);
+  private static final long STATISTICS_CACHE_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+  private static final long STATISTICS_CACHE_MAX_SIZE = 10000L;
   private static GravitinoCatalogManager gravitinoCatalogManager;
 
   private volatile boolean isClosed = false;
   private final GravitinoMetalake metalake;
   private final GravitinoAdminClient gravitinoClient;
+  private final TableStatisticsCache statisticsCache;
 
   private final String gravitinoUri;
   private final String metalakeName;
@@ -94,6 +101,8 @@ public class GravitinoCatalogManager {
     }
 
     this.metalake = gravitinoClient.loadMetalake(metalakeName);
+    this.statisticsCache =
+        new TableStatisticsCache(metalake, STATISTICS_CACHE_TTL_MS, STATISTICS_CACHE_MAX_SIZE);
   }
 
   /**
@@ -148,6 +157,22 @@ public class GravitinoCatalogManager {
     }
   }
 
+  /**
+   * Get the statistics of a table stored in Gravitino. The statistics only fill the gaps of the
+   * real catalog statistics, so a failure to load them yields empty statistics.
+   *
+   * @param table The identifier of the table, in the form of catalog.schema.table
+   * @return The table statistics, empty if not available
+   */
+  public TableStatisticsSummary getTableStatistics(NameIdentifier table) {
+    try {
+      return statisticsCache.get(table);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to load the statistics of table {} from Gravitino.", table, e);
+      return TableStatisticsSummary.EMPTY;
+    }
+  }
+
   /**
    * Get GravitinoCatalog by name.
    *
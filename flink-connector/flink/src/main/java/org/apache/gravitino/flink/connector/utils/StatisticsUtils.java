@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.flink.connector.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataBase;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataBinary;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataDouble;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataLong;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataString;
+import org.apache.flink.table.catalog.stats.CatalogTableStatistics;
+import org.apache.gravitino.client.TableStatisticsSummary;
+import org.apache.gravitino.rel.Column;
+
+/** Converts the table statistics stored in Gravitino to the Flink catalog statistics. */
+public class StatisticsUtils {
+  private StatisticsUtils() {}
+
+  /**
+   * Fills the row count and total size unknown to the real catalog with the ones stored in
+   * Gravitino.
+   *
+   * @param statistics the table statistics of the real catalog
+   * @param gravitinoStatistics the table statistics stored in Gravitino
+   * @return the merged table statistics
+   */
+  public static CatalogTableStatistics toFlinkTableStatistics(
+      CatalogTableStatistics statistics, TableStatisticsSummary gravitinoStatistics) {
+    if (statistics.getRowCount() >= 0 || !gravitinoStatistics.rowCount().isPresent()) {
+      return statistics;
+    }
+
+    long totalSize =
+        statistics.getTotalSize() >= 0
+            ? statistics.getTotalSize()
+            : gravitinoStatistics.totalSize().orElse(statistics.getTotalSize());
+    return new CatalogTableStatistics(
+        gravitinoStatistics.rowCount().getAsLong(),
+        statistics.getFileCount(),
+        totalSize,
+        statistics.getRawDataSize(),
+        statistics.getProperties());
+  }
+
+  /**
+   * Converts the column statistics stored in Gravitino to the Flink column statistics, the
+   * columns whose type has no Flink statistics representation are skipped.
+   *
+   * @param columns the columns of the table
+   * @param gravitinoStatistics the table statistics stored in Gravitino
+   * @return the Flink column statistics keyed by the column name
+   */
+  public static Map<String, CatalogColumnStatisticsDataBase> toFlinkColumnStatistics(
+      Column[] columns, TableStatisticsSummary gravitinoStatistics) {
+    Map<String, CatalogColumnStatisticsDataBase> columnStatistics = new HashMap<>();
+    for (Column column : columns) {
+      gravitinoStatistics
+          .column(column.name())
+          .ifPresent(
+              statistics -> {
+                CatalogColumnStatisticsDataBase data = toFlinkColumnStatistics(column, statistics);
+                if (data != null) {
+                  columnStatistics.put(column.name(), data);
+                }
+              });
+    }
+    return columnStatistics;
+  }
+
+  private static CatalogColumnStatisticsDataBase toFlinkColumnStatistics(
+      Column column, TableStatisticsSummary.ColumnStatisticsSummary statistics) {
+    Long ndv = toNullable(statistics.ndv());
+    Long nullCount = toNullable(statistics.nullCount());
+    switch (column.dataType().name()) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        return new CatalogColumnStatisticsDataLong(null, null, ndv, nullCount);
+      case FLOAT:
+      case DOUBLE:
+      case DECIMAL:
+        return new CatalogColumnStatisticsDataDouble(null, null, ndv, nullCount);
+      case STRING:
+      case VARCHAR:
+      case FIXEDCHAR:
+        return new CatalogColumnStatisticsDataString(
+            toNullable(statistics.maxLength()), toNullable(statistics.avgLength()), ndv, nullCount);
+      case BINARY:
+      case FIXED:
+        return new CatalogColumnStatisticsDataBinary(
+            toNullable(statistics.maxLength()), toNullable(statistics.avgLength()), nullCount);
+      default:
+        return null;
+    }
+  }
+
+  private static Long toNullable(OptionalLong value) {
+    return value.isPresent() ? value.getAsLong() : null;
+  }
+
+  private static Double toNullable(OptionalDouble value) {
+    return value.isPresent() ? value.getAsDouble() : null;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.flink.connector.utils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataBase;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataLong;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataString;
+import org.apache.flink.table.catalog.stats.CatalogTableStatistics;
+import org.apache.gravitino.client.TableStatisticsSummary;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.stats.StatisticDTO;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.stats.StatisticValue;
+import org.apache.gravitino.stats.StatisticValues;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStatisticsUtils {
+
+  private static final TableStatisticsSummary STATISTICS =
+      TableStatisticsSummary.of(
+          ImmutableList.of(
+              statistic(TableStatisticsSummary.ROW_COUNT, StatisticValues.longValue(100L)),
+              statistic(TableStatisticsSummary.TOTAL_SIZE, StatisticValues.longValue(4096L)),
+              statistic(
+                  TableStatisticsSummary.COLUMN_PREFIX + "id",
+                  StatisticValues.objectValue(
+                      ImmutableMap.of(
+                          TableStatisticsSummary.NDV, StatisticValues.longValue(100L),
+                          TableStatisticsSummary.NULL_COUNT, StatisticValues.longValue(0L)))),
+              statistic(
+                  TableStatisticsSummary.COLUMN_PREFIX + "name",
+                  StatisticValues.objectValue(
+                      ImmutableMap.of(
+                          TableStatisticsSummary.NDV, StatisticValues.longValue(80L),
+                          TableStatisticsSummary.AVG_LENGTH, StatisticValues.doubleValue(7.5))))));
+
+  @Test
+  public void testToFlinkTableStatistics() {
+    CatalogTableStatistics merged =
+        StatisticsUtils.toFlinkTableStatistics(CatalogTableStatistics.UNKNOWN, STATISTICS);
+    Assertions.assertEquals(100L, merged.getRowCount());
+    Assertions.assertEquals(4096L, merged.getTotalSize());
+    Assertions.assertEquals(-1, merged.getFileCount());
+
+    // The statistics known to the real catalog are preferred
+    CatalogTableStatistics known = new CatalogTableStatistics(10L, 1, 100L, 100L);
+    Assertions.assertSame(known, StatisticsUtils.toFlinkTableStatistics(known, STATISTICS));
+    Assertions.assertSame(
+        CatalogTableStatistics.UNKNOWN,
+        StatisticsUtils.toFlinkTableStatistics(
+            CatalogTableStatistics.UNKNOWN, TableStatisticsSummary.EMPTY));
+  }
+
+  @Test
+  public void testToFlinkColumnStatistics() {
+    Column[] columns =
+        new Column[] {
+          Column.of("id", Types.LongType.get()),
+          Column.of("name", Types.StringType.get()),
+          Column.of("tags", Types.ListType.nullable(Types.StringType.get())),
+          Column.of("missing", Types.IntegerType.get())
+        };
+    Map<String, CatalogColumnStatisticsDataBase> columnStatistics =
+        StatisticsUtils.toFlinkColumnStatistics(columns, STATISTICS);
+    Assertions.assertEquals(2, columnStatistics.size());
+
+    CatalogColumnStatisticsDataLong id =
+        (CatalogColumnStatisticsDataLong) columnStatistics.get("id");
+    Assertions.assertEquals(100L, id.getNdv());
+    Assertions.assertEquals(0L, id.getNullCount());
+    Assertions.assertNull(id.getMin());
+
+    CatalogColumnStatisticsDataString name =
+        (CatalogColumnStatisticsDataString) columnStatistics.get("name");
+    Assertions.assertEquals(80L, name.getNdv());
+    Assertions.assertEquals(7.5, name.getAvgLength());
+    Assertions.assertNull(name.getMaxLength());
+    Assertions.assertNull(name.getNullCount());
+  }
+
+  private static StatisticDTO statistic(String name, StatisticValue<?> value) {
+    return StatisticDTO.builder()
+        .withName(name)
+        .withValue(Optional.of(value))
+        .withReserved(false)
+        .withModifiable(true)
+        .withAudit(AuditDTO.builder().withCreator("test").withCreateTime(Instant.now()).build())
+        .build();
+  }
+}
@@ -129,5 +129,14 @@ public enum TestDatabaseName {
       return this.name().toLowerCase();
     }
   },
+
+  /** Represents the PostgreSQL database for the lineage store tests. */
+  PG_TEST_LINEAGE_STORE {
+    /** PostgreSQL only accept lowercase database name */
+    @Override
+    public String toString() {
+      return this.name().toLowerCase();
+    }
+  },
   FLINK_HIVE_CATALOG_IT,
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops.gravitino;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.CatalogDispatcher;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.client.GravitinoClient;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.MetalakeDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.responses.CatalogResponse;
+import org.apache.gravitino.dto.responses.MetalakeResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * GravitinoDispatchBenchmark compares the latency of loading a Lance table's catalog and metadata
+ * through the {@link GravitinoClient} over loopback HTTP with calling the Gravitino dispatchers in
+ * process, as {@link GravitinoLanceNamespaceWrapper} does when the Lance REST service runs inside
+ * the Gravitino server.
+ *
+ * <p>The loopback path is served by a JDK HTTP server returning the same metadata as the mocked
+ * dispatchers of the in-process path, so the difference between the two benchmarks is the cost of
+ * the JSON serialization and the socket hop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GravitinoDispatchBenchmark {
+  private static final String METALAKE = "metalake";
+  private static final String CATALOG = "lance_catalog";
+  private static final NameIdentifier TABLE = NameIdentifier.of("schema", "table");
+
+  private HttpServer server;
+  private GravitinoClient client;
+  private InProcessGravitinoCatalogs inProcessCatalogs;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    AuditDTO audit = AuditDTO.builder().withCreator("bench").withCreateTime(Instant.now()).build();
+    CatalogDTO catalog =
+        CatalogDTO.builder()
+            .withName(CATALOG)
+            .withType(Catalog.Type.RELATIONAL)
+            .withProvider("lakehouse-generic")
+            .withProperties(ImmutableMap.of())
+            .withAudit(audit)
+            .build();
+    ColumnDTO[] columns = new ColumnDTO[16];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] =
+          ColumnDTO.builder().withName("col_" + i).withDataType(Types.LongType.get()).build();
+    }
+    TableDTO table =
+        TableDTO.builder()
+            .withName(TABLE.name())
+            .withColumns(columns)
+            .withProperties(ImmutableMap.of("location", "s3://bucket/schema/table"))
+            .withAudit(audit)
+            .build();
+
+    Map<String, String> responses =
+        ImmutableMap.of(
+            "/api/metalakes/" + METALAKE,
+            toJson(
+                new MetalakeResponse(
+                    MetalakeDTO.builder().withName(METALAKE).withAudit(audit).build())),
+            "/api/metalakes/" + METALAKE + "/catalogs/" + CATALOG,
+            toJson(new CatalogResponse(catalog)),
+            "/api/metalakes/" + METALAKE + "/catalogs/" + CATALOG + "/schemas/schema/tables/table",
+            toJson(new TableResponse(table)));
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> respond(exchange, responses));
+    server.setExecutor(Executors.newFixedThreadPool(4));
+    server.start();
+    client =
+        GravitinoClient.builder("http://127.0.0.1:" + server.getAddress().getPort())
+            .withMetalake(METALAKE)
+            .withVersionCheckDisabled()
+            .build();
+
+    CatalogDispatcher catalogDispatcher = Mockito.mock(CatalogDispatcher.class);
+    TableDispatcher tableDispatcher = Mockito.mock(TableDispatcher.class);
+    Mockito.when(catalogDispatcher.loadCatalog(NameIdentifier.of(METALAKE, CATALOG)))
+        .thenReturn(catalog);
+    Mockito.when(
+            tableDispatcher.loadTable(
+                NameIdentifierUtil.ofTable(METALAKE, CATALOG, "schema", "table")))
+        .thenReturn(table);
+    inProcessCatalogs =
+        new InProcessGravitinoCatalogs(
+            METALAKE, catalogDispatcher, Mockito.mock(SchemaDispatcher.class), tableDispatcher);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.stop(0);
+  }
+
+  @Benchmark
+  public Table loopbackLoadTable() {
+    return client.loadCatalog(CATALOG).asTableCatalog().loadTable(TABLE);
+  }
+
+  @Benchmark
+  public Table inProcessLoadTable() {
+    return inProcessCatalogs.loadCatalog(CATALOG).asTableCatalog().loadTable(TABLE);
+  }
+
+  private static String toJson(Object response) throws JsonProcessingException {
+    return JsonUtils.objectMapper().writeValueAsString(response);
+  }
+
+  private static void respond(HttpExchange exchange, Map<String, String> responses)
+      throws IOException {
+    String body = responses.get(exchange.getRequestURI().getPath());
+    byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(body == null ? 404 : 200, bytes.length == 0 ? -1 : bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
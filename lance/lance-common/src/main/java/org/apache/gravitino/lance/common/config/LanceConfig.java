@@ -60,6 +60,56 @@ public class LanceConfig extends Config implements OverwriteDefaultConfig {
           .stringConf()
           .createWithDefault(GRAVITINO_URI);
 
+  public static final String GRAVITINO_DISPATCH_MODE_AUTO = "auto";
+  public static final String GRAVITINO_DISPATCH_MODE_HTTP = "http";
+  public static final String GRAVITINO_DISPATCH_MODE_IN_PROCESS = "in-process";
+
+  public static final ConfigEntry<String> GRAVITINO_DISPATCH_MODE =
+      new ConfigBuilder(GRAVITINO_NAMESPACE_BACKEND + "-dispatch-mode")
+          .doc(
+              "How the Gravitino namespace backend reaches the Gravitino server, `http` uses the "
+                  + "Gravitino client, `in-process` calls the dispatchers of the Gravitino server "
+                  + "directly which requires running as an auxiliary service of the Gravitino "
+                  + "server with authorization disabled, `auto` uses `in-process` when it's "
+                  + "possible and `http` otherwise")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  GRAVITINO_DISPATCH_MODE_AUTO.equalsIgnoreCase(value)
+                      || GRAVITINO_DISPATCH_MODE_HTTP.equalsIgnoreCase(value)
+                      || GRAVITINO_DISPATCH_MODE_IN_PROCESS.equalsIgnoreCase(value),
+              "The value must be one of auto, http and in-process")
+          .createWithDefault(GRAVITINO_DISPATCH_MODE_AUTO);
+
+  public static final ConfigEntry<Long> ARROW_ALLOCATOR_MAX_BYTES =
+      new ConfigBuilder("arrow-allocator-max-bytes")
+          .doc(
+              "The max bytes of off-heap memory all the in-flight Arrow IPC requests could "
+                  + "allocate in total")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024L * 1024 * 1024);
+
+  public static final ConfigEntry<Long> ARROW_REQUEST_MAX_BYTES =
+      new ConfigBuilder("arrow-request-max-bytes")
+          .doc(
+              "The max bytes of off-heap memory one Arrow IPC request could allocate, the "
+                  + "request fails if a single record batch exceeds it")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256L * 1024 * 1024);
+
+  public static final ConfigEntry<Integer> SCAN_BATCH_SIZE =
+      new ConfigBuilder("scan-batch-size")
+          .doc("The max number of rows in one record batch returned by the query endpoint")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8192);
+
   public LanceConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, key -> true);
@@ -81,6 +131,22 @@ public class LanceConfig extends Config implements OverwriteDefaultConfig {
     return get(METALAKE_NAME);
   }
 
+  public String getGravitinoDispatchMode() {
+    return get(GRAVITINO_DISPATCH_MODE);
+  }
+
+  public long getArrowAllocatorMaxBytes() {
+    return get(ARROW_ALLOCATOR_MAX_BYTES);
+  }
+
+  public long getArrowRequestMaxBytes() {
+    return get(ARROW_REQUEST_MAX_BYTES);
+  }
+
+  public int getScanBatchSize() {
+    return get(SCAN_BATCH_SIZE);
+  }
+
   @Override
   public Map<String, String> getOverwriteDefaultConfig() {
     return ImmutableMap.of(
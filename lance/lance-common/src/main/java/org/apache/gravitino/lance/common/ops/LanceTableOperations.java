@@ -24,8 +24,13 @@ import com.lancedb.lance.namespace.model.CreateTableResponse;
 import com.lancedb.lance.namespace.model.DeregisterTableResponse;
 import com.lancedb.lance.namespace.model.DescribeTableResponse;
 import com.lancedb.lance.namespace.model.DropTableResponse;
+import com.lancedb.lance.namespace.model.InsertIntoTableRequest;
+import com.lancedb.lance.namespace.model.InsertIntoTableResponse;
+import com.lancedb.lance.namespace.model.MergeInsertIntoTableResponse;
+import com.lancedb.lance.namespace.model.QueryTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableResponse;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
 
@@ -49,7 +54,8 @@ public interface LanceTableOperations {
    * @param delimiter the delimiter used in the namespace
    * @param tableLocation the location where the table data will be stored
    * @param tableProperties the properties of the table
-   * @param arrowStreamBody the arrow stream bytes containing the schema and data
+   * @param arrowStream the Arrow IPC stream containing the schema and data, only the schema is
+   *     read from it
    * @return the response of the create table operation
    */
   CreateTableResponse createTable(
@@ -58,7 +64,7 @@ public interface LanceTableOperations {
       String delimiter,
       String tableLocation,
       Map<String, String> tableProperties,
-      byte[] arrowStreamBody);
+      InputStream arrowStream);
 
   /**
    * Create an new table without schema.
@@ -123,4 +129,50 @@ public interface LanceTableOperations {
    * @return the response of the alter table operation.
    */
   Object alterTable(String tableId, String delimiter, Object request);
+
+  /**
+   * Insert the record batches of an Arrow IPC stream into a table. The batches are read from the
+   * stream and written to the table one by one, so the memory used doesn't grow with the data size.
+   *
+   * @param tableId table ids are in the format of "{namespace}{delimiter}{table_name}"
+   * @param delimiter the delimiter used in the namespace
+   * @param mode it can be APPEND or OVERWRITE
+   * @param arrowStream the Arrow IPC stream containing the data to insert
+   * @return the response of the insert operation
+   */
+  InsertIntoTableResponse insertIntoTable(
+      String tableId,
+      String delimiter,
+      InsertIntoTableRequest.ModeEnum mode,
+      InputStream arrowStream);
+
+  /**
+   * Merge the record batches of an Arrow IPC stream into a table by the key column.
+   *
+   * @param tableId table ids are in the format of "{namespace}{delimiter}{table_name}"
+   * @param delimiter the delimiter used in the namespace
+   * @param on the key column used to match the source rows with the target rows
+   * @param whenMatchedUpdateAll whether to update the target rows matched by the source rows
+   * @param whenNotMatchedInsertAll whether to insert the source rows not matching any target rows
+   * @param arrowStream the Arrow IPC stream containing the data to merge
+   * @return the response of the merge insert operation
+   */
+  MergeInsertIntoTableResponse mergeInsertIntoTable(
+      String tableId,
+      String delimiter,
+      String on,
+      boolean whenMatchedUpdateAll,
+      boolean whenNotMatchedInsertAll,
+      InputStream arrowStream);
+
+  /**
+   * Scan a table. The scan is opened eagerly so that the failures could be reported before any
+   * data is sent, and the record batches are produced lazily while writing the scan.
+   *
+   * @param tableId table ids are in the format of "{namespace}{delimiter}{table_name}"
+   * @param delimiter the delimiter used in the namespace
+   * @param request the request containing the columns, filter, offset and limit of the scan
+   * @return the opened scan, it must be closed by the caller
+   */
+  LanceTableScan queryTable(String tableId, String delimiter, QueryTableRequest request);
 }
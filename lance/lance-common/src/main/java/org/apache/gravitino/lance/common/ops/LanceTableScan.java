@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** An opened scan of a Lance table, the result is written as an Arrow IPC stream. */
+public interface LanceTableScan extends Closeable {
+
+  /**
+   * Write the record batches of the scan to the output as an Arrow IPC stream. Batches are read
+   * from the table and written to the output one by one.
+   *
+   * @param output the output to write the Arrow IPC stream to
+   * @throws IOException if failed to read the table or write the output
+   */
+  void writeTo(OutputStream output) throws IOException;
+}
@@ -51,7 +51,7 @@ import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
-import org.apache.gravitino.client.GravitinoClient;
+import org.apache.gravitino.SupportsCatalogs;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
 import org.apache.gravitino.exceptions.CatalogInUseException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -64,11 +64,11 @@ import org.apache.gravitino.lance.common.ops.LanceNamespaceOperations;
 public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperations {
 
   private final GravitinoLanceNamespaceWrapper namespaceWrapper;
-  private final GravitinoClient client;
+  private final SupportsCatalogs catalogs;
 
   public GravitinoLanceNameSpaceOperations(GravitinoLanceNamespaceWrapper namespaceWrapper) {
     this.namespaceWrapper = namespaceWrapper;
-    this.client = namespaceWrapper.getClient();
+    this.catalogs = namespaceWrapper.catalogs();
   }
 
   @Override
@@ -82,7 +82,7 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
     switch (nsId.levels()) {
       case 0:
         namespaces =
-            Arrays.stream(client.listCatalogsInfo())
+            Arrays.stream(catalogs.listCatalogsInfo())
                 .filter(namespaceWrapper::isLakehouseCatalog)
                 .map(Catalog::name)
                 .collect(Collectors.toList());
@@ -215,11 +215,11 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
 
     Catalog catalog;
     try {
-      catalog = client.loadCatalog(catalogName);
+      catalog = catalogs.loadCatalog(catalogName);
     } catch (NoSuchCatalogException e) {
       // Catalog does not exist, create it
       Catalog createdCatalog =
-          client.createCatalog(
+          catalogs.createCatalog(
               catalogName,
               Catalog.Type.RELATIONAL,
               "lakehouse-generic",
@@ -259,7 +259,7 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
                 CatalogChange::setProperty,
                 CatalogChange::removeProperty,
                 CatalogChange[]::new);
-        Catalog alteredCatalog = client.alterCatalog(catalogName, changes);
+        Catalog alteredCatalog = catalogs.alterCatalog(catalogName, changes);
         Optional.ofNullable(alteredCatalog.properties()).ifPresent(response::setProperties);
         return response;
       default:
@@ -326,7 +326,7 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
       DropNamespaceRequest.BehaviorEnum behavior) {
     try {
       boolean dropped =
-          client.dropCatalog(catalogName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
+          catalogs.dropCatalog(catalogName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
       if (dropped) {
         return new DropNamespaceResponse();
       } else {
@@ -362,7 +362,7 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
       DropNamespaceRequest.BehaviorEnum behavior) {
     try {
       boolean dropped =
-          client
+          catalogs
               .loadCatalog(catalogName)
               .asSchemas()
               .dropSchema(schemaName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
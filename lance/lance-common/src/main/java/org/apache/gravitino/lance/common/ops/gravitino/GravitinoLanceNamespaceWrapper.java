@@ -29,6 +29,9 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.SupportsCatalogs;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.lance.common.config.LanceConfig;
@@ -42,9 +45,10 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
 
   private static final Logger LOG = LoggerFactory.getLogger(GravitinoLanceNamespaceWrapper.class);
   private GravitinoClient client;
+  private SupportsCatalogs catalogs;
 
   private LanceNamespaceOperations namespaceOperations;
-  private LanceTableOperations tableOperations;
+  private GravitinoLanceTableOperations tableOperations;
 
   @VisibleForTesting
   GravitinoLanceNamespaceWrapper() {
@@ -55,18 +59,80 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
     super(config);
   }
 
+  /**
+   * Get the Gravitino client.
+   *
+   * @return the Gravitino client, or null if the operations are dispatched in process
+   */
   public GravitinoClient getClient() {
     return client;
   }
 
+  /**
+   * Get the catalogs of the metalake, which are accessed either through the Gravitino client or
+   * the dispatchers of the Gravitino server in the same process.
+   *
+   * @return the catalogs of the metalake
+   */
+  public SupportsCatalogs catalogs() {
+    return catalogs;
+  }
+
   @Override
   protected void initialize() {
-    String uri = config().get(NAMESPACE_BACKEND_URI);
     String metalakeName = config().get(METALAKE_NAME);
     Preconditions.checkArgument(
         StringUtils.isNotBlank(metalakeName),
         "Metalake name must be provided for Lance Gravitino namespace backend");
 
+    if (useInProcessDispatch(config().getGravitinoDispatchMode())) {
+      GravitinoEnv env = GravitinoEnv.getInstance();
+      this.catalogs =
+          new InProcessGravitinoCatalogs(
+              metalakeName,
+              env.catalogDispatcher(),
+              env.schemaDispatcher(),
+              env.tableDispatcher());
+      LOG.info("Dispatching Lance namespace operations in process for metalake: {}", metalakeName);
+    } else {
+      this.client = newClient(metalakeName);
+      this.catalogs = client;
+    }
+
+    this.namespaceOperations = new GravitinoLanceNameSpaceOperations(this);
+    this.tableOperations = new GravitinoLanceTableOperations(this);
+  }
+
+  @VisibleForTesting
+  static boolean useInProcessDispatch(String dispatchMode) {
+    GravitinoEnv env = GravitinoEnv.getInstance();
+    // The dispatchers are only available when running inside the Gravitino server
+    boolean colocated =
+        env.catalogDispatcher() != null
+            && env.schemaDispatcher() != null
+            && env.tableDispatcher() != null;
+    // The authorization of Gravitino is enforced on its REST APIs, calling the dispatchers
+    // directly would bypass it.
+    boolean authorizationEnabled =
+        env.config() != null && env.config().get(Configs.ENABLE_AUTHORIZATION);
+
+    if (LanceConfig.GRAVITINO_DISPATCH_MODE_IN_PROCESS.equalsIgnoreCase(dispatchMode)) {
+      Preconditions.checkArgument(
+          colocated,
+          "In-process dispatch requires running as an auxiliary service of the Gravitino server");
+      Preconditions.checkArgument(
+          !authorizationEnabled,
+          "In-process dispatch is not supported when Gravitino authorization is enabled");
+      return true;
+    }
+
+    return LanceConfig.GRAVITINO_DISPATCH_MODE_AUTO.equalsIgnoreCase(dispatchMode)
+        && colocated
+        && !authorizationEnabled;
+  }
+
+  private GravitinoClient newClient(String metalakeName) {
+    String uri = config().get(NAMESPACE_BACKEND_URI);
     // Extract client configuration properties (e.g., connection pool settings)
     Map<String, String> clientProperties = new HashMap<>();
     config()
@@ -79,7 +145,7 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
               }
             });
 
-    this.client =
+    GravitinoClient gravitinoClient =
         GravitinoClient.builder(uri)
             .withMetalake(metalakeName)
             .withClientConfig(clientProperties)
@@ -89,9 +155,7 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
         "GravitinoClient initialized with {} client properties for metalake: {}",
         clientProperties.size(),
         metalakeName);
-
-    this.namespaceOperations = new GravitinoLanceNameSpaceOperations(this);
-    this.tableOperations = new GravitinoLanceTableOperations(this);
+    return gravitinoClient;
   }
 
   @Override
@@ -106,6 +170,10 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
 
   @Override
   public void close() {
+    if (tableOperations != null) {
+      tableOperations.close();
+    }
+
     if (client != null) {
       try {
         client.close();
@@ -123,7 +191,7 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
   public Catalog loadAndValidateLakehouseCatalog(String catalogName) {
     Catalog catalog;
     try {
-      catalog = client.loadCatalog(catalogName);
+      catalog = catalogs.loadCatalog(catalogName);
     } catch (NoSuchCatalogException e) {
       throw LanceNamespaceException.notFound(
           "Catalog not found: " + catalogName,
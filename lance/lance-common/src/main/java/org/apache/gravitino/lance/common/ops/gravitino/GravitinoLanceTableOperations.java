@@ -31,6 +31,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.lancedb.lance.Dataset;
+import com.lancedb.lance.ReadOptions;
+import com.lancedb.lance.WriteParams;
+import com.lancedb.lance.ipc.LanceScanner;
+import com.lancedb.lance.ipc.ScanOptions;
+import com.lancedb.lance.merge.MergeInsertParams;
+import com.lancedb.lance.merge.MergeInsertResult;
 import com.lancedb.lance.namespace.LanceNamespaceException;
 import com.lancedb.lance.namespace.ObjectIdentifier;
 import com.lancedb.lance.namespace.model.AlterTableAlterColumnsRequest;
@@ -42,23 +49,43 @@ import com.lancedb.lance.namespace.model.CreateTableResponse;
 import com.lancedb.lance.namespace.model.DeregisterTableResponse;
 import com.lancedb.lance.namespace.model.DescribeTableResponse;
 import com.lancedb.lance.namespace.model.DropTableResponse;
+import com.lancedb.lance.namespace.model.InsertIntoTableRequest;
+import com.lancedb.lance.namespace.model.InsertIntoTableResponse;
 import com.lancedb.lance.namespace.model.JsonArrowSchema;
+import com.lancedb.lance.namespace.model.MergeInsertIntoTableResponse;
+import com.lancedb.lance.namespace.model.QueryTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableResponse;
 import com.lancedb.lance.namespace.util.CommonUtil;
 import com.lancedb.lance.namespace.util.JsonArrowSchemaConverter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.apache.arrow.c.ArrowArrayStream;
+import org.apache.arrow.c.Data;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
 import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.lance.common.config.LanceConfig;
 import org.apache.gravitino.lance.common.ops.LanceTableOperations;
+import org.apache.gravitino.lance.common.ops.LanceTableScan;
 import org.apache.gravitino.lance.common.ops.gravitino.GravitinoLanceTableAlterHandler.AlterColumnsGravitinoLance;
 import org.apache.gravitino.lance.common.ops.gravitino.GravitinoLanceTableAlterHandler.DropColumns;
 import org.apache.gravitino.lance.common.utils.ArrowUtils;
@@ -75,6 +102,14 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
 
   private final GravitinoLanceNamespaceWrapper namespaceWrapper;
 
+  // All the Arrow IPC requests allocate from this allocator, so the total off-heap memory used by
+  // the in-flight requests is bounded.
+  private final BufferAllocator allocator;
+
+  private final long requestMaxBytes;
+
+  private final int scanBatchSize;
+
   private static final Map<Class<?>, GravitinoLanceTableAlterHandler<?, ?>> ALTER_HANDLERS =
       Map.of(
           AlterTableDropColumnsRequest.class, new DropColumns(),
@@ -82,6 +117,11 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
 
   public GravitinoLanceTableOperations(GravitinoLanceNamespaceWrapper namespaceWrapper) {
     this.namespaceWrapper = namespaceWrapper;
+    LanceConfig config =
+        namespaceWrapper.config() == null ? new LanceConfig() : namespaceWrapper.config();
+    this.allocator = new RootAllocator(config.getArrowAllocatorMaxBytes());
+    this.requestMaxBytes = config.getArrowRequestMaxBytes();
+    this.scanBatchSize = config.getScanBatchSize();
   }
 
   @Override
@@ -122,17 +162,19 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
       String delimiter,
       String tableLocation,
       Map<String, String> tableProperties,
-      byte[] arrowStreamBody) {
+      InputStream arrowStream) {
     ObjectIdentifier nsId = ObjectIdentifier.of(tableId, Pattern.quote(delimiter));
     Preconditions.checkArgument(
         nsId.levels() == 3, "Expected at 3-level namespace but got: %s", nsId.levels());
 
     // Parser column information.
     List<Column> columns = Lists.newArrayList();
-    if (arrowStreamBody != null) {
-      org.apache.arrow.vector.types.pojo.Schema schema =
-          ArrowUtils.parseArrowIpcStream(arrowStreamBody);
-      columns = extractColumns(schema);
+    if (arrowStream != null) {
+      try (BufferAllocator requestAllocator = newRequestAllocator("create-table", tableId)) {
+        org.apache.arrow.vector.types.pojo.Schema schema =
+            ArrowUtils.parseArrowIpcStream(arrowStream, requestAllocator);
+        columns = extractColumns(schema);
+      }
     }
 
     String catalogName = nsId.levelAtListPos(0);
@@ -338,6 +380,224 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
     return handler.handle(table, request);
   }
 
+  @Override
+  public InsertIntoTableResponse insertIntoTable(
+      String tableId,
+      String delimiter,
+      InsertIntoTableRequest.ModeEnum mode,
+      InputStream arrowStream) {
+    Preconditions.checkArgument(arrowStream != null, "Arrow IPC stream must not be null");
+    Table table = loadLanceTable(tableId, delimiter);
+    WriteParams writeParams =
+        new WriteParams.Builder()
+            .withMode(
+                mode == InsertIntoTableRequest.ModeEnum.OVERWRITE
+                    ? WriteParams.WriteMode.OVERWRITE
+                    : WriteParams.WriteMode.APPEND)
+            .withStorageOptions(LancePropertiesUtils.getLanceStorageOptions(table.properties()))
+            .build();
+
+    try (BufferAllocator requestAllocator = newRequestAllocator("insert", tableId);
+        ArrowStreamReader reader = new ArrowStreamReader(arrowStream, requestAllocator);
+        ArrowArrayStream stream = ArrowArrayStream.allocateNew(requestAllocator)) {
+      // Lance pulls the record batches from the reader one by one while writing the fragments
+      Data.exportArrayStream(requestAllocator, reader, stream);
+      try (Dataset dataset =
+          Dataset.create(requestAllocator, stream, tableLocation(table, tableId), writeParams)) {
+        InsertIntoTableResponse response = new InsertIntoTableResponse();
+        response.setVersion(dataset.version());
+        return response;
+      }
+    } catch (OutOfMemoryException e) {
+      throw requestTooLarge(tableId, e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to read Arrow IPC stream", e);
+    }
+  }
+
+  @Override
+  public MergeInsertIntoTableResponse mergeInsertIntoTable(
+      String tableId,
+      String delimiter,
+      String on,
+      boolean whenMatchedUpdateAll,
+      boolean whenNotMatchedInsertAll,
+      InputStream arrowStream) {
+    Preconditions.checkArgument(arrowStream != null, "Arrow IPC stream must not be null");
+    Preconditions.checkArgument(StringUtils.isNotBlank(on), "Merge key column must be specified");
+    Table table = loadLanceTable(tableId, delimiter);
+
+    MergeInsertParams params = new MergeInsertParams(Collections.singletonList(on));
+    if (whenMatchedUpdateAll) {
+      params.withMatchedUpdateAll();
+    } else {
+      params.withMatchedDoNothing();
+    }
+    params.withNotMatched(
+        whenNotMatchedInsertAll
+            ? MergeInsertParams.WhenNotMatched.InsertAll
+            : MergeInsertParams.WhenNotMatched.DoNothing);
+
+    try (BufferAllocator requestAllocator = newRequestAllocator("merge-insert", tableId);
+        ArrowStreamReader reader = new ArrowStreamReader(arrowStream, requestAllocator);
+        ArrowArrayStream stream = ArrowArrayStream.allocateNew(requestAllocator);
+        Dataset dataset = openDataset(table, tableId, requestAllocator)) {
+      Data.exportArrayStream(requestAllocator, reader, stream);
+      MergeInsertResult result = dataset.mergeInsert(params, stream);
+      try (Dataset merged = result.dataset()) {
+        MergeInsertIntoTableResponse response = new MergeInsertIntoTableResponse();
+        response.setVersion(merged.version());
+        response.setNumInsertedRows(result.stats().numInsertedRows());
+        response.setNumUpdatedRows(result.stats().numUpdatedRows());
+        response.setNumDeletedRows(result.stats().numDeletedRows());
+        return response;
+      }
+    } catch (OutOfMemoryException e) {
+      throw requestTooLarge(tableId, e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to read Arrow IPC stream", e);
+    }
+  }
+
+  @Override
+  public LanceTableScan queryTable(String tableId, String delimiter, QueryTableRequest request) {
+    if (request.getVector() != null) {
+      throw new UnsupportedOperationException(
+          "Vector search is not supported, only the filtered scan is supported.");
+    }
+    if (request.getVersion() != null) {
+      throw new UnsupportedOperationException(
+          "Querying specific table version is not supported. It should be null to indicate the"
+              + " latest version.");
+    }
+    Table table = loadLanceTable(tableId, delimiter);
+
+    ScanOptions.Builder options = new ScanOptions.Builder().batchSize(scanBatchSize);
+    if (request.getColumns() != null && !request.getColumns().isEmpty()) {
+      options.columns(request.getColumns());
+    }
+    if (StringUtils.isNotBlank(request.getFilter())) {
+      options.filter(request.getFilter());
+    }
+    if (request.getK() != null) {
+      options.limit(request.getK());
+    }
+    if (request.getOffset() != null) {
+      options.offset(request.getOffset());
+    }
+    if (request.getWithRowId() != null) {
+      options.withRowId(request.getWithRowId());
+    }
+
+    BufferAllocator requestAllocator = newRequestAllocator("query", tableId);
+    Dataset dataset = null;
+    try {
+      dataset = openDataset(table, tableId, requestAllocator);
+      LanceScanner scanner = dataset.newScan(options.build());
+      return new GravitinoLanceTableScan(requestAllocator, dataset, scanner);
+    } catch (RuntimeException e) {
+      if (dataset != null) {
+        dataset.close();
+      }
+      requestAllocator.close();
+      throw e;
+    }
+  }
+
+  /** Release the Arrow memory of the table operations. */
+  public void close() {
+    allocator.close();
+  }
+
+  private BufferAllocator newRequestAllocator(String operation, String tableId) {
+    return allocator.newChildAllocator(operation + "-" + tableId, 0, requestMaxBytes);
+  }
+
+  private IllegalArgumentException requestTooLarge(String tableId, OutOfMemoryException e) {
+    return new IllegalArgumentException(
+        String.format(
+            "Arrow record batch of table %s exceeds the memory limit %d bytes of one request,"
+                + " please split it into smaller batches",
+            tableId, requestMaxBytes),
+        e);
+  }
+
+  private Table loadLanceTable(String tableId, String delimiter) {
+    ObjectIdentifier nsId = ObjectIdentifier.of(tableId, Pattern.quote(delimiter));
+    Preconditions.checkArgument(
+        nsId.levels() == 3, "Expected at 3-level namespace but got: %s", nsId.levels());
+
+    String catalogName = nsId.levelAtListPos(0);
+    Catalog catalog = namespaceWrapper.loadAndValidateLakehouseCatalog(catalogName);
+    NameIdentifier tableIdentifier =
+        NameIdentifier.of(nsId.levelAtListPos(1), nsId.levelAtListPos(2));
+
+    try {
+      return catalog.asTableCatalog().loadTable(tableIdentifier);
+    } catch (NoSuchTableException e) {
+      throw LanceNamespaceException.notFound(
+          "Table not found: " + tableId,
+          NoSuchTableException.class.getSimpleName(),
+          tableId,
+          CommonUtil.formatCurrentStackTrace());
+    }
+  }
+
+  private static String tableLocation(Table table, String tableId) {
+    String location = table.properties().get(LANCE_LOCATION);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(location), "Location of table %s is not set", tableId);
+    return location;
+  }
+
+  private static Dataset openDataset(Table table, String tableId, BufferAllocator allocator) {
+    return Dataset.open(
+        allocator,
+        tableLocation(table, tableId),
+        new ReadOptions.Builder()
+            .setStorageOptions(LancePropertiesUtils.getLanceStorageOptions(table.properties()))
+            .build());
+  }
+
+  private static class GravitinoLanceTableScan implements LanceTableScan {
+    private final BufferAllocator allocator;
+    private final Dataset dataset;
+    private final LanceScanner scanner;
+
+    private GravitinoLanceTableScan(
+        BufferAllocator allocator, Dataset dataset, LanceScanner scanner) {
+      this.allocator = allocator;
+      this.dataset = dataset;
+      this.scanner = scanner;
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+      try (ArrowReader reader = scanner.scanBatches();
+          ArrowStreamWriter writer =
+              new ArrowStreamWriter(
+                  reader.getVectorSchemaRoot(), null, Channels.newChannel(output))) {
+        writer.start();
+        while (reader.loadNextBatch()) {
+          writer.writeBatch();
+        }
+        writer.end();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        scanner.close();
+      } catch (Exception e) {
+        throw new IOException("Failed to close Lance scanner", e);
+      } finally {
+        dataset.close();
+        allocator.close();
+      }
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private static <REQUEST, RESPONSE> GravitinoLanceTableAlterHandler<REQUEST, RESPONSE> getHandler(
       Class<?> requestClass) {
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops.gravitino;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.SupportsSchemas;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.exceptions.NonEmptySchemaException;
+import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
+import org.apache.gravitino.exceptions.TableAlreadyExistsException;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.expressions.distributions.Distribution;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+
+/**
+ * A catalog whose schemas and tables are accessed through the dispatchers of the Gravitino server
+ * in the same process. Like the catalogs returned by {@link
+ * org.apache.gravitino.client.GravitinoClient}, the identifiers of the schemas and tables are
+ * relative to the catalog.
+ */
+class InProcessGravitinoCatalog implements Catalog, SupportsSchemas, TableCatalog {
+
+  private final String metalake;
+  private final Catalog catalog;
+  private final SchemaDispatcher schemaDispatcher;
+  private final TableDispatcher tableDispatcher;
+
+  InProcessGravitinoCatalog(
+      String metalake,
+      Catalog catalog,
+      SchemaDispatcher schemaDispatcher,
+      TableDispatcher tableDispatcher) {
+    this.metalake = metalake;
+    this.catalog = catalog;
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+  }
+
+  @Override
+  public String name() {
+    return catalog.name();
+  }
+
+  @Override
+  public Type type() {
+    return catalog.type();
+  }
+
+  @Override
+  public String provider() {
+    return catalog.provider();
+  }
+
+  @Override
+  public String comment() {
+    return catalog.comment();
+  }
+
+  @Override
+  public Map<String, String> properties() {
+    return catalog.properties();
+  }
+
+  @Override
+  public Audit auditInfo() {
+    return catalog.auditInfo();
+  }
+
+  @Override
+  public SupportsSchemas asSchemas() {
+    return this;
+  }
+
+  @Override
+  public TableCatalog asTableCatalog() {
+    if (catalog.type() != Type.RELATIONAL) {
+      throw new UnsupportedOperationException("Catalog does not support table operations");
+    }
+    return this;
+  }
+
+  @Override
+  public String[] listSchemas() throws NoSuchCatalogException {
+    return Arrays.stream(schemaDispatcher.listSchemas(NamespaceUtil.ofSchema(metalake, name())))
+        .map(NameIdentifier::name)
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Schema createSchema(String schemaName, String comment, Map<String, String> properties)
+      throws NoSuchCatalogException, SchemaAlreadyExistsException {
+    return schemaDispatcher.createSchema(ofSchema(schemaName), comment, properties);
+  }
+
+  @Override
+  public Schema loadSchema(String schemaName) throws NoSuchSchemaException {
+    return schemaDispatcher.loadSchema(ofSchema(schemaName));
+  }
+
+  @Override
+  public Schema alterSchema(String schemaName, SchemaChange... changes)
+      throws NoSuchSchemaException {
+    return schemaDispatcher.alterSchema(ofSchema(schemaName), changes);
+  }
+
+  @Override
+  public boolean dropSchema(String schemaName, boolean cascade) throws NonEmptySchemaException {
+    return schemaDispatcher.dropSchema(ofSchema(schemaName), cascade);
+  }
+
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
+    String schemaName = schemaName(namespace);
+    return Arrays.stream(
+            tableDispatcher.listTables(NamespaceUtil.ofTable(metalake, name(), schemaName)))
+        .map(ident -> NameIdentifier.of(schemaName, ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  @Override
+  public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    return tableDispatcher.loadTable(ofTable(ident));
+  }
+
+  @Override
+  public Table createTable(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitions,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes)
+      throws NoSuchSchemaException, TableAlreadyExistsException {
+    return tableDispatcher.createTable(
+        ofTable(ident),
+        columns,
+        comment,
+        properties,
+        partitions,
+        distribution,
+        sortOrders,
+        indexes);
+  }
+
+  @Override
+  public Table alterTable(NameIdentifier ident, TableChange... changes)
+      throws NoSuchTableException, IllegalArgumentException {
+    return tableDispatcher.alterTable(ofTable(ident), changes);
+  }
+
+  @Override
+  public boolean dropTable(NameIdentifier ident) {
+    return tableDispatcher.dropTable(ofTable(ident));
+  }
+
+  @Override
+  public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
+    return tableDispatcher.purgeTable(ofTable(ident));
+  }
+
+  private NameIdentifier ofSchema(String schemaName) {
+    return NameIdentifierUtil.ofSchema(metalake, name(), schemaName);
+  }
+
+  private NameIdentifier ofTable(NameIdentifier ident) {
+    return NameIdentifierUtil.ofTable(
+        metalake, name(), schemaName(ident.namespace()), ident.name());
+  }
+
+  private static String schemaName(Namespace namespace) {
+    if (namespace.length() != 1) {
+      throw new IllegalArgumentException(
+          "Table namespace must be a single-level schema name, but got: " + namespace);
+    }
+    return namespace.level(0);
+  }
+}
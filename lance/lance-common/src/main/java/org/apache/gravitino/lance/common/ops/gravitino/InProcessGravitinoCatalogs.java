@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops.gravitino;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsCatalogs;
+import org.apache.gravitino.catalog.CatalogDispatcher;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
+import org.apache.gravitino.exceptions.CatalogInUseException;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.exceptions.NonEmptyEntityException;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+
+/**
+ * The catalogs of a metalake accessed through the dispatchers of the Gravitino server in the same
+ * process. It's used when the Lance REST service runs as an auxiliary service of the Gravitino
+ * server, which saves the JSON serialization, authentication and the loopback HTTP hop of {@link
+ * org.apache.gravitino.client.GravitinoClient}.
+ *
+ * <p>The dispatchers run the operations with the principal of the current {@link
+ * javax.security.auth.Subject}, so the caller should run the operations as the request user.
+ */
+class InProcessGravitinoCatalogs implements SupportsCatalogs {
+
+  private final String metalake;
+  private final CatalogDispatcher catalogDispatcher;
+  private final SchemaDispatcher schemaDispatcher;
+  private final TableDispatcher tableDispatcher;
+
+  InProcessGravitinoCatalogs(
+      String metalake,
+      CatalogDispatcher catalogDispatcher,
+      SchemaDispatcher schemaDispatcher,
+      TableDispatcher tableDispatcher) {
+    this.metalake = metalake;
+    this.catalogDispatcher = catalogDispatcher;
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+  }
+
+  @Override
+  public String[] listCatalogs() throws NoSuchMetalakeException {
+    return Arrays.stream(catalogDispatcher.listCatalogs(NamespaceUtil.ofCatalog(metalake)))
+        .map(NameIdentifier::name)
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Catalog[] listCatalogsInfo() throws NoSuchMetalakeException {
+    return Arrays.stream(catalogDispatcher.listCatalogsInfo(NamespaceUtil.ofCatalog(metalake)))
+        .map(this::wrap)
+        .toArray(Catalog[]::new);
+  }
+
+  @Override
+  public Catalog loadCatalog(String catalogName) throws NoSuchCatalogException {
+    return wrap(catalogDispatcher.loadCatalog(ofCatalog(catalogName)));
+  }
+
+  @Override
+  public Catalog createCatalog(
+      String catalogName,
+      Catalog.Type type,
+      String provider,
+      String comment,
+      Map<String, String> properties)
+      throws NoSuchMetalakeException, CatalogAlreadyExistsException {
+    return wrap(
+        catalogDispatcher.createCatalog(
+            ofCatalog(catalogName), type, provider, comment, properties));
+  }
+
+  @Override
+  public Catalog alterCatalog(String catalogName, CatalogChange... changes)
+      throws NoSuchCatalogException, IllegalArgumentException {
+    return wrap(catalogDispatcher.alterCatalog(ofCatalog(catalogName), changes));
+  }
+
+  @Override
+  public boolean dropCatalog(String catalogName, boolean force)
+      throws NonEmptyEntityException, CatalogInUseException {
+    return catalogDispatcher.dropCatalog(ofCatalog(catalogName), force);
+  }
+
+  @Override
+  public void enableCatalog(String catalogName) throws NoSuchCatalogException {
+    catalogDispatcher.enableCatalog(ofCatalog(catalogName));
+  }
+
+  @Override
+  public void disableCatalog(String catalogName) throws NoSuchCatalogException {
+    catalogDispatcher.disableCatalog(ofCatalog(catalogName));
+  }
+
+  @Override
+  public void testConnection(
+      String catalogName,
+      Catalog.Type type,
+      String provider,
+      String comment,
+      Map<String, String> properties)
+      throws Exception {
+    catalogDispatcher.testConnection(ofCatalog(catalogName), type, provider, comment, properties);
+  }
+
+  private NameIdentifier ofCatalog(String catalogName) {
+    return NameIdentifierUtil.ofCatalog(metalake, catalogName);
+  }
+
+  private Catalog wrap(Catalog catalog) {
+    return new InProcessGravitinoCatalog(metalake, catalog, schemaDispatcher, tableDispatcher);
+  }
+}
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.channels.Channels;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
@@ -57,10 +58,22 @@ public class ArrowUtils {
   }
 
   public static Schema parseArrowIpcStream(byte[] stream) {
+    try (BufferAllocator allocator = new RootAllocator()) {
+      return parseArrowIpcStream(new ByteArrayInputStream(stream), allocator);
+    }
+  }
+
+  /**
+   * Parse the schema of an Arrow IPC stream. Only the schema message is read from the input, the
+   * record batches following it are never buffered.
+   *
+   * @param stream the input stream of the Arrow IPC stream, it is closed after parsing
+   * @param allocator the allocator used to read the schema message
+   * @return the schema of the Arrow IPC stream
+   */
+  public static Schema parseArrowIpcStream(InputStream stream, BufferAllocator allocator) {
     Schema schema;
-    try (BufferAllocator allocator = new RootAllocator();
-        ByteArrayInputStream bais = new ByteArrayInputStream(stream);
-        ArrowStreamReader reader = new ArrowStreamReader(bais, allocator)) {
+    try (ArrowStreamReader reader = new ArrowStreamReader(stream, allocator)) {
       schema = reader.getVectorSchemaRoot().getSchema();
     } catch (Exception e) {
       throw new IllegalArgumentException("Failed to parse Arrow IPC stream", e);
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops.gravitino;
+
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.CatalogDispatcher;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.lance.common.config.LanceConfig;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestInProcessGravitinoCatalogs {
+
+  private final CatalogDispatcher catalogDispatcher = Mockito.mock(CatalogDispatcher.class);
+  private final SchemaDispatcher schemaDispatcher = Mockito.mock(SchemaDispatcher.class);
+  private final TableDispatcher tableDispatcher = Mockito.mock(TableDispatcher.class);
+  private final InProcessGravitinoCatalogs catalogs =
+      new InProcessGravitinoCatalogs(
+          "metalake", catalogDispatcher, schemaDispatcher, tableDispatcher);
+
+  @Test
+  public void testLoadCatalogAndTable() {
+    Catalog catalog = Mockito.mock(Catalog.class);
+    Mockito.when(catalog.name()).thenReturn("catalog");
+    Mockito.when(catalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    Mockito.when(catalog.provider()).thenReturn("lakehouse-generic");
+    Mockito.when(catalogDispatcher.loadCatalog(NameIdentifier.of("metalake", "catalog")))
+        .thenReturn(catalog);
+    Table table = Mockito.mock(Table.class);
+    Mockito.when(tableDispatcher.loadTable(NameIdentifier.of("metalake", "catalog", "s", "t")))
+        .thenReturn(table);
+
+    Catalog loaded = catalogs.loadCatalog("catalog");
+    Assertions.assertEquals("catalog", loaded.name());
+    Assertions.assertEquals("lakehouse-generic", loaded.provider());
+    Assertions.assertSame(table, loaded.asTableCatalog().loadTable(NameIdentifier.of("s", "t")));
+
+    Mockito.when(schemaDispatcher.listSchemas(Namespace.of("metalake", "catalog")))
+        .thenReturn(new NameIdentifier[] {NameIdentifier.of("metalake", "catalog", "s")});
+    Assertions.assertArrayEquals(new String[] {"s"}, loaded.asSchemas().listSchemas());
+
+    // The table identifiers are relative to the catalog like the ones of the Gravitino client
+    Mockito.when(tableDispatcher.listTables(Namespace.of("metalake", "catalog", "s")))
+        .thenReturn(new NameIdentifier[] {NameIdentifier.of("metalake", "catalog", "s", "t")});
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("s", "t")},
+        loaded.asTableCatalog().listTables(Namespace.of("s")));
+
+    loaded.asTableCatalog().purgeTable(NameIdentifier.of("s", "t"));
+    Mockito.verify(tableDispatcher)
+        .purgeTable(NameIdentifier.of("metalake", "catalog", "s", "t"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> loaded.asTableCatalog().loadTable(NameIdentifier.of("t")));
+  }
+
+  @Test
+  public void testDispatchMode() {
+    // The dispatchers of the Gravitino server are not available in the UT
+    Assertions.assertFalse(
+        GravitinoLanceNamespaceWrapper.useInProcessDispatch(
+            LanceConfig.GRAVITINO_DISPATCH_MODE_AUTO));
+    Assertions.assertFalse(
+        GravitinoLanceNamespaceWrapper.useInProcessDispatch(
+            LanceConfig.GRAVITINO_DISPATCH_MODE_HTTP));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            GravitinoLanceNamespaceWrapper.useInProcessDispatch(
+                LanceConfig.GRAVITINO_DISPATCH_MODE_IN_PROCESS));
+  }
+}
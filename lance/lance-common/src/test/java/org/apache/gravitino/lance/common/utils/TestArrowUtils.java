@@ -18,7 +18,10 @@
  */
 package org.apache.gravitino.lance.common.utils;
 
+import java.io.ByteArrayInputStream;
 import java.util.Arrays;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.Schema;
@@ -39,4 +42,26 @@ public class TestArrowUtils {
 
     Assertions.assertEquals(schema, parsedSchema);
   }
+
+  @Test
+  public void testParseArrowIpcInputStream() throws Exception {
+    Schema schema =
+        new Schema(Arrays.asList(Field.nullable("id", new ArrowType.Int(64, true))));
+    byte[] ipcStream = ArrowUtils.generateIpcStream(schema);
+
+    try (BufferAllocator allocator = new RootAllocator(1024 * 1024)) {
+      Schema parsedSchema =
+          ArrowUtils.parseArrowIpcStream(new ByteArrayInputStream(ipcStream), allocator);
+      Assertions.assertEquals(schema, parsedSchema);
+      Assertions.assertEquals(0, allocator.getAllocatedMemory());
+    }
+
+    try (BufferAllocator allocator = new RootAllocator(1024 * 1024)) {
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              ArrowUtils.parseArrowIpcStream(
+                  new ByteArrayInputStream(new byte[] {0x01, 0x02}), allocator));
+    }
+  }
 }
@@ -44,6 +44,16 @@ dependencies {
   implementation(libs.bundles.metrics)
   implementation(libs.bundles.prometheus)
   implementation(libs.commons.lang3)
+  implementation(libs.lance) {
+    exclude(group = "com.fasterxml.jackson.core", module = "*") // provided by gravitino
+    exclude(group = "com.fasterxml.jackson.datatype", module = "*") // provided by gravitino
+    exclude(group = "com.google.guava", module = "guava") // provided by gravitino
+    exclude(group = "org.apache.commons", module = "commons-lang3") // provided by gravitino
+    exclude(group = "org.junit.jupiter", module = "*") // provided by test scope
+    exclude(group = "com.fasterxml.jackson.jaxrs", module = "jackson-jaxrs-json-provider") // using gravitino's version
+    exclude(group = "org.apache.httpcomponents.client5", module = "*") // provided by gravitino
+    exclude(group = "com.lancedb", module = "lance-namespace-core") // provided by lance-namespace-core below
+  }
   implementation(libs.lance.namespace.core) {
     exclude(group = "com.lancedb", module = "lance-core")
     exclude(group = "com.google.guava", module = "guava") // provided by gravitino
@@ -28,6 +28,7 @@ import org.apache.gravitino.auxiliary.GravitinoAuxiliaryService;
 import org.apache.gravitino.lance.common.config.LanceConfig;
 import org.apache.gravitino.lance.common.ops.LanceNamespaceBackend;
 import org.apache.gravitino.lance.common.ops.NamespaceWrapper;
+import org.apache.gravitino.lance.service.LancePrincipalFilter;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.server.web.HttpServerMetricsSource;
@@ -91,6 +92,8 @@ public class LanceRESTService implements GravitinoAuxiliaryService {
     server.addServlet(container, LANCE_SPEC);
     server.addCustomFilters(LANCE_SPEC);
     server.addSystemFilters(LANCE_SPEC);
+    // Run the requests as the authenticated user for the in-process dispatch
+    server.addFilter(new LancePrincipalFilter(), LANCE_SPEC);
 
     LOG.info(
         "Initialized Lance REST service for backend {} in {} mode",
@@ -42,10 +42,15 @@ import com.lancedb.lance.namespace.model.DescribeTableRequest;
 import com.lancedb.lance.namespace.model.DescribeTableResponse;
 import com.lancedb.lance.namespace.model.DropTableRequest;
 import com.lancedb.lance.namespace.model.DropTableResponse;
+import com.lancedb.lance.namespace.model.InsertIntoTableRequest;
+import com.lancedb.lance.namespace.model.InsertIntoTableResponse;
+import com.lancedb.lance.namespace.model.MergeInsertIntoTableResponse;
+import com.lancedb.lance.namespace.model.QueryTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableRequest.ModeEnum;
 import com.lancedb.lance.namespace.model.RegisterTableResponse;
 import com.lancedb.lance.namespace.model.TableExistsRequest;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -61,7 +66,9 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.lance.common.ops.LanceTableScan;
 import org.apache.gravitino.lance.common.ops.NamespaceWrapper;
 import org.apache.gravitino.lance.common.utils.LanceConstants;
 import org.apache.gravitino.lance.common.utils.SerializationUtils;
@@ -73,6 +80,8 @@ import org.apache.gravitino.metrics.MetricNames;
 @Produces(MediaType.APPLICATION_JSON)
 public class LanceTableOperations {
 
+  private static final String ARROW_STREAM = "application/vnd.apache.arrow.stream";
+
   private final NamespaceWrapper lanceNamespace;
 
   @Inject
@@ -102,7 +111,7 @@ public class LanceTableOperations {
 
   @POST
   @Path("/create")
-  @Consumes("application/vnd.apache.arrow.stream")
+  @Consumes(ARROW_STREAM)
   @Produces("application/json")
   @Timed(name = "create-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-table", absolute = true)
@@ -111,7 +120,7 @@ public class LanceTableOperations {
       @QueryParam("mode") @DefaultValue("create") String mode, // create, exist_ok, overwrite
       @QueryParam("delimiter") @DefaultValue(NAMESPACE_DELIMITER_DEFAULT) String delimiter,
       @Context HttpHeaders headers,
-      byte[] arrowStreamBody) {
+      InputStream arrowStream) {
     try {
       // Extract table properties from header
       MultivaluedMap<String, String> headersMap = headers.getRequestHeaders();
@@ -122,7 +131,7 @@ public class LanceTableOperations {
       CreateTableResponse response =
           lanceNamespace
               .asTableOps()
-              .createTable(tableId, modeEnum, delimiter, tableLocation, props, arrowStreamBody);
+              .createTable(tableId, modeEnum, delimiter, tableLocation, props, arrowStream);
       return Response.ok(response).build();
     } catch (Exception e) {
       return LanceExceptionMapper.toRESTResponse(tableId, e);
@@ -293,6 +302,93 @@ public class LanceTableOperations {
     }
   }
 
+  /**
+   * The Arrow IPC body is read from the request input batch by batch while being written to the
+   * table, it is never buffered as a whole.
+   */
+  @POST
+  @Path("/insert")
+  @Consumes(ARROW_STREAM)
+  @Timed(name = "insert-into-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "insert-into-table", absolute = true)
+  public Response insertIntoTable(
+      @PathParam("id") String tableId,
+      @QueryParam("mode") @DefaultValue("append") String mode, // append, overwrite
+      @QueryParam("delimiter") @DefaultValue(NAMESPACE_DELIMITER_DEFAULT) String delimiter,
+      InputStream arrowStream) {
+    try {
+      InsertIntoTableRequest.ModeEnum modeEnum = InsertIntoTableRequest.ModeEnum.fromValue(mode);
+      InsertIntoTableResponse response =
+          lanceNamespace.asTableOps().insertIntoTable(tableId, delimiter, modeEnum, arrowStream);
+      return Response.ok(response).build();
+    } catch (Exception e) {
+      return LanceExceptionMapper.toRESTResponse(tableId, e);
+    }
+  }
+
+  @POST
+  @Path("/merge_insert")
+  @Consumes(ARROW_STREAM)
+  @Timed(name = "merge-insert-into-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "merge-insert-into-table", absolute = true)
+  public Response mergeInsertIntoTable(
+      @PathParam("id") String tableId,
+      @QueryParam("on") String on,
+      @QueryParam("when_matched_update_all") @DefaultValue("false") boolean whenMatchedUpdateAll,
+      @QueryParam("when_not_matched_insert_all") @DefaultValue("false")
+          boolean whenNotMatchedInsertAll,
+      @QueryParam("delimiter") @DefaultValue(NAMESPACE_DELIMITER_DEFAULT) String delimiter,
+      InputStream arrowStream) {
+    try {
+      Preconditions.checkArgument(StringUtils.isNotBlank(on), "Merge key column must be specified");
+      MergeInsertIntoTableResponse response =
+          lanceNamespace
+              .asTableOps()
+              .mergeInsertIntoTable(
+                  tableId,
+                  delimiter,
+                  on,
+                  whenMatchedUpdateAll,
+                  whenNotMatchedInsertAll,
+                  arrowStream);
+      return Response.ok(response).build();
+    } catch (Exception e) {
+      return LanceExceptionMapper.toRESTResponse(tableId, e);
+    }
+  }
+
+  /**
+   * The scan is opened before responding, so that the failures are returned as error responses.
+   * The record batches are then streamed to the client as an Arrow IPC stream.
+   */
+  @POST
+  @Path("/query")
+  @Produces(ARROW_STREAM)
+  @Timed(name = "query-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "query-table", absolute = true)
+  public Response queryTable(
+      @PathParam("id") String tableId,
+      @QueryParam("delimiter") @DefaultValue(NAMESPACE_DELIMITER_DEFAULT) String delimiter,
+      QueryTableRequest queryTableRequest) {
+    try {
+      validateQueryTableRequest(queryTableRequest);
+      LanceTableScan scan =
+          lanceNamespace.asTableOps().queryTable(tableId, delimiter, queryTableRequest);
+      StreamingOutput output =
+          outputStream -> {
+            try (LanceTableScan toClose = scan) {
+              toClose.writeTo(outputStream);
+            }
+          };
+      return Response.ok(output, ARROW_STREAM).build();
+    } catch (Exception e) {
+      // The error response is JSON even though the endpoint produces Arrow IPC stream
+      return Response.fromResponse(LanceExceptionMapper.toRESTResponse(tableId, e))
+          .type(MediaType.APPLICATION_JSON_TYPE)
+          .build();
+    }
+  }
+
   private void validateCreateEmptyTableRequest(
       @SuppressWarnings("unused") CreateEmptyTableRequest request) {
     // No specific fields to validate for now
@@ -325,6 +421,15 @@ public class LanceTableOperations {
     // No specific fields to validate for now
   }
 
+  private void validateQueryTableRequest(QueryTableRequest request) {
+    Preconditions.checkArgument(request != null, "Query table request cannot be null.");
+    Preconditions.checkArgument(
+        request.getK() == null || request.getK() >= 0, "Limit of the query cannot be negative.");
+    Preconditions.checkArgument(
+        request.getOffset() == null || request.getOffset() >= 0,
+        "Offset of the query cannot be negative.");
+  }
+
   private void validateDropColumnsRequest(AlterTableDropColumnsRequest request) {
     Preconditions.checkArgument(
         !request.getColumns().isEmpty(), "Columns to drop cannot be empty.");
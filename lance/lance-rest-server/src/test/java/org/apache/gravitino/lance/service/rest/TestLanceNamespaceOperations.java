@@ -19,7 +19,9 @@
 package org.apache.gravitino.lance.service.rest;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -49,10 +51,15 @@ import com.lancedb.lance.namespace.model.DropNamespaceRequest;
 import com.lancedb.lance.namespace.model.DropNamespaceResponse;
 import com.lancedb.lance.namespace.model.DropTableResponse;
 import com.lancedb.lance.namespace.model.ErrorResponse;
+import com.lancedb.lance.namespace.model.InsertIntoTableRequest;
+import com.lancedb.lance.namespace.model.InsertIntoTableResponse;
 import com.lancedb.lance.namespace.model.ListNamespacesResponse;
+import com.lancedb.lance.namespace.model.MergeInsertIntoTableResponse;
+import com.lancedb.lance.namespace.model.QueryTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableResponse;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.servlet.http.HttpServletRequest;
@@ -62,6 +69,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.lance.common.ops.LanceTableOperations;
+import org.apache.gravitino.lance.common.ops.LanceTableScan;
 import org.apache.gravitino.lance.common.ops.NamespaceWrapper;
 import org.apache.gravitino.lance.common.utils.LanceConstants;
 import org.apache.gravitino.rest.RESTUtils;
@@ -912,4 +920,94 @@ public class TestLanceNamespaceOperations extends JerseyTest {
             .post(Entity.entity(alterColumnsRequest, MediaType.APPLICATION_JSON_TYPE));
     Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
   }
+
+  @Test
+  void testInsertIntoTable() {
+    String tableIds = "catalog.scheme.insert_table";
+    String delimiter = ".";
+
+    InsertIntoTableResponse insertResponse = new InsertIntoTableResponse();
+    insertResponse.setVersion(2L);
+    when(tableOps.insertIntoTable(any(), any(), any(), any())).thenReturn(insertResponse);
+
+    byte[] bytes = new byte[] {0x01, 0x02, 0x03};
+    Response resp =
+        target(String.format("/v1/table/%s/insert", tableIds))
+            .queryParam("delimiter", delimiter)
+            .queryParam("mode", "overwrite")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .post(Entity.entity(bytes, "application/vnd.apache.arrow.stream"));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(2L, resp.readEntity(InsertIntoTableResponse.class).getVersion());
+    Mockito.verify(tableOps)
+        .insertIntoTable(
+            eq(tableIds), eq(delimiter), eq(InsertIntoTableRequest.ModeEnum.OVERWRITE), any());
+
+    // Test merge insert without the key column
+    resp =
+        target(String.format("/v1/table/%s/merge_insert", tableIds))
+            .queryParam("delimiter", delimiter)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .post(Entity.entity(bytes, "application/vnd.apache.arrow.stream"));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+
+    MergeInsertIntoTableResponse mergeResponse = new MergeInsertIntoTableResponse();
+    mergeResponse.setNumUpdatedRows(3L);
+    when(tableOps.mergeInsertIntoTable(any(), any(), any(), anyBoolean(), anyBoolean(), any()))
+        .thenReturn(mergeResponse);
+    resp =
+        target(String.format("/v1/table/%s/merge_insert", tableIds))
+            .queryParam("delimiter", delimiter)
+            .queryParam("on", "id")
+            .queryParam("when_matched_update_all", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .post(Entity.entity(bytes, "application/vnd.apache.arrow.stream"));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Mockito.verify(tableOps)
+        .mergeInsertIntoTable(eq(tableIds), eq(delimiter), eq("id"), eq(true), eq(false), any());
+  }
+
+  @Test
+  void testQueryTable() throws IOException {
+    String tableIds = "catalog.scheme.query_table";
+    String delimiter = ".";
+
+    byte[] bytes = new byte[] {0x01, 0x02, 0x03};
+    LanceTableScan scan = mock(LanceTableScan.class);
+    doAnswer(
+            invocation -> {
+              OutputStream output = invocation.getArgument(0);
+              output.write(bytes);
+              return null;
+            })
+        .when(scan)
+        .writeTo(any());
+    when(tableOps.queryTable(any(), any(), any())).thenReturn(scan);
+
+    QueryTableRequest queryRequest = new QueryTableRequest();
+    queryRequest.setFilter("id > 10");
+    Response resp =
+        target(String.format("/v1/table/%s/query", tableIds))
+            .queryParam("delimiter", delimiter)
+            .request("application/vnd.apache.arrow.stream")
+            .post(Entity.entity(queryRequest, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertArrayEquals(bytes, resp.readEntity(byte[].class));
+    Mockito.verify(scan).close();
+
+    // Failures are reported before streaming any data
+    Mockito.reset(tableOps);
+    when(tableOps.queryTable(any(), any(), any()))
+        .thenThrow(new UnsupportedOperationException("Vector search is not supported"));
+    resp =
+        target(String.format("/v1/table/%s/query", tableIds))
+            .queryParam("delimiter", delimiter)
+            .request("application/vnd.apache.arrow.stream", MediaType.APPLICATION_JSON)
+            .post(Entity.entity(queryRequest, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+    Assertions.assertEquals(
+        "Vector search is not supported", resp.readEntity(ErrorResponse.class).getError());
+  }
 }
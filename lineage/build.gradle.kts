@@ -26,6 +26,8 @@ dependencies {
   implementation(project(":core"))
   implementation(project(":server-common"))
   implementation(libs.bundles.jersey)
+  implementation(libs.caffeine)
+  implementation(libs.commons.dbcp2)
   implementation(libs.commons.lang3)
   implementation(libs.guava)
   implementation(libs.metrics.jersey2)
@@ -43,7 +45,9 @@ dependencies {
   testAnnotationProcessor(libs.lombok)
   testCompileOnly(libs.lombok)
 
+  testImplementation(project(":integration-test-common", "testArtifacts"))
   testImplementation(libs.awaitility)
+  testImplementation(libs.h2db)
   testImplementation(libs.jersey.test.framework.core) {
     exclude(group = "org.junit.jupiter")
   }
@@ -54,6 +58,8 @@ dependencies {
   testImplementation(libs.junit.jupiter.params)
   testImplementation(libs.mockito.core)
   testImplementation(libs.mockito.inline)
+  testImplementation(libs.postgresql.driver)
+  testImplementation(libs.testcontainers)
 
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
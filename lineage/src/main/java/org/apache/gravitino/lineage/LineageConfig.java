@@ -25,6 +25,7 @@ import com.google.common.base.Splitter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
@@ -44,6 +45,8 @@ public class LineageConfig extends Config {
   public static final String LINEAGE_SOURCE_CLASS_NAME = "sourceClass";
   public static final String LINEAGE_PROCESSOR_CLASS_NAME = "processorClass";
   public static final String LINEAGE_SINK_CLASS_NAME = "sinkClass";
+  public static final String LINEAGE_STORE_CLASS_NAME = "storeClass";
+  public static final String LINEAGE_STORE_CONFIG_PREFIX = "store.";
   public static final String LINEAGE_HTTP_SOURCE_CLASS_NAME = HTTPLineageSource.class.getName();
 
   public static final String LINEAGE_LOG_SINK_NAME = "log";
@@ -81,6 +84,15 @@ public class LineageConfig extends Config {
           .intConf()
           .createWithDefault(LINEAGE_SINK_QUEUE_CAPACITY_DEFAULT);
 
+  public static final ConfigEntry<Optional<String>> STORE_CLASS =
+      new ConfigBuilder(LINEAGE_STORE_CLASS_NAME)
+          .doc(
+              "The class name of the embedded lineage graph store, the store is disabled if not "
+                  + "set")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .createWithOptional();
+
   public LineageConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -136,6 +148,14 @@ public class LineageConfig extends Config {
     return m;
   }
 
+  public Optional<String> storeClass() {
+    return get(STORE_CLASS).filter(StringUtils::isNotBlank);
+  }
+
+  public Map<String, String> getStoreConfigs() {
+    return getConfigsWithPrefix(LINEAGE_STORE_CONFIG_PREFIX);
+  }
+
   public List<String> sinks() {
     String sinks = get(SINKS);
     return splitter
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage;
+
+import java.io.IOException;
+import org.apache.gravitino.lineage.store.LineageGraph;
+import org.apache.gravitino.lineage.store.LineageQuery;
+
+/** Answers lineage graph queries from the embedded lineage store. */
+public interface LineageGraphDispatcher {
+
+  /**
+   * Whether the embedded lineage store is enabled.
+   *
+   * @return {@code true} if lineage graph queries are supported.
+   */
+  boolean supportsLineageGraph();
+
+  /**
+   * Traverses the upstream or downstream lineage graph of a dataset.
+   *
+   * @param query The traversal request.
+   * @return One page of the traversed graph.
+   * @throws IOException If the graph could not be read from the store.
+   * @throws UnsupportedOperationException If the embedded lineage store is not enabled.
+   */
+  LineageGraph traverseLineage(LineageQuery query) throws IOException;
+}
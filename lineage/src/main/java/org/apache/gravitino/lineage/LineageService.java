@@ -22,21 +22,32 @@ package org.apache.gravitino.lineage;
 import com.google.common.collect.ImmutableSet;
 import io.openlineage.server.OpenLineage;
 import io.openlineage.server.OpenLineage.RunEvent;
+import java.io.IOException;
 import java.util.Set;
 import org.apache.gravitino.lineage.processor.LineageProcessor;
 import org.apache.gravitino.lineage.sink.LineageSinkManager;
 import org.apache.gravitino.lineage.source.LineageSource;
+import org.apache.gravitino.lineage.store.LineageGraph;
+import org.apache.gravitino.lineage.store.LineageQuery;
+import org.apache.gravitino.lineage.store.LineageStore;
 import org.apache.gravitino.server.web.SupportsRESTPackages;
 import org.apache.gravitino.utils.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * The LineageService manages the life cycle of lineage sinks, sources, and processors. It provides
- * {@code dispatchLineageEvent} method for lineage source to dispatch lineage events to the sinks.
+ * The LineageService manages the life cycle of lineage sinks, sources, processors and the optional
+ * embedded lineage store. It provides {@code dispatchLineageEvent} method for lineage source to
+ * dispatch lineage events to the sinks and the store.
  */
-public class LineageService implements LineageDispatcher, SupportsRESTPackages {
+public class LineageService
+    implements LineageDispatcher, LineageGraphDispatcher, SupportsRESTPackages {
+  private static final Logger LOG = LoggerFactory.getLogger(LineageService.class);
+
   private LineageSinkManager sinkManager;
   private LineageSource source;
   private LineageProcessor processor;
+  private LineageStore store;
 
   public void initialize(LineageConfig lineageConfig) {
     String sourceName = lineageConfig.source();
@@ -47,6 +58,14 @@ public class LineageService implements LineageDispatcher, SupportsRESTPackages {
     String processorClassName = lineageConfig.processorClass();
     this.processor = ClassUtils.loadAndGetInstance(processorClassName);
 
+    lineageConfig
+        .storeClass()
+        .ifPresent(
+            storeClass -> {
+              this.store = ClassUtils.loadAndGetInstance(storeClass);
+              store.initialize(lineageConfig.getStoreConfigs());
+            });
+
     sinkManager.initialize(lineageConfig.sinks(), lineageConfig.getSinkConfigs());
     source.initialize(lineageConfig.getConfigsWithPrefix(sourceName), this);
   }
@@ -61,6 +80,14 @@ public class LineageService implements LineageDispatcher, SupportsRESTPackages {
       sinkManager.close();
       sinkManager = null;
     }
+    if (store != null) {
+      try {
+        store.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close lineage store", e);
+      }
+      store = null;
+    }
   }
 
   @Override
@@ -72,10 +99,34 @@ public class LineageService implements LineageDispatcher, SupportsRESTPackages {
       return false;
     }
     RunEvent newEvent = processor.process(runEvent);
+    if (store != null) {
+      try {
+        store.addLineage(newEvent);
+      } catch (IOException e) {
+        // The sinks should still receive the event if the embedded store is unavailable.
+        LOG.warn("Failed to add lineage event to store, run id: {}", Utils.getRunID(newEvent), e);
+      }
+    }
     sinkManager.sink(newEvent);
     return true;
   }
 
+  @Override
+  public boolean supportsLineageGraph() {
+    return store != null;
+  }
+
+  @Override
+  public LineageGraph traverseLineage(LineageQuery query) throws IOException {
+    if (store == null) {
+      throw new UnsupportedOperationException(
+          "Lineage store is not enabled, please set "
+              + LineageConfig.LINEAGE_CONFIG_PREFIX
+              + LineageConfig.LINEAGE_STORE_CLASS_NAME);
+    }
+    return store.traverse(query);
+  }
+
   @Override
   public Set<String> getRESTPackages() {
     if (source instanceof SupportsRESTPackages) {
@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.source.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.lineage.LineageGraphDispatcher;
+import org.apache.gravitino.lineage.store.LineageDirection;
+import org.apache.gravitino.lineage.store.LineageQuery;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/lineage/graph")
+public class LineageGraphOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LineageGraphOperations.class);
+  private final LineageGraphDispatcher lineageGraphDispatcher;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public LineageGraphOperations(LineageGraphDispatcher lineageGraphDispatcher) {
+    this.lineageGraphDispatcher = lineageGraphDispatcher;
+  }
+
+  @GET
+  @Path("upstream")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "lineage-upstream." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "lineage-upstream", absolute = true)
+  public Response upstream(
+      @QueryParam("namespace") String namespace,
+      @QueryParam("name") String name,
+      @QueryParam("depth") @DefaultValue("1") int depth,
+      @QueryParam("since") @DefaultValue("0") long since,
+      @QueryParam("until") @DefaultValue("9223372036854775807") long until,
+      @QueryParam("offset") @DefaultValue("0") int offset,
+      @QueryParam("limit") @DefaultValue("100") int limit) {
+    return traverse(
+        LineageDirection.UPSTREAM, namespace, name, depth, since, until, offset, limit);
+  }
+
+  @GET
+  @Path("downstream")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "lineage-downstream." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "lineage-downstream", absolute = true)
+  public Response downstream(
+      @QueryParam("namespace") String namespace,
+      @QueryParam("name") String name,
+      @QueryParam("depth") @DefaultValue("1") int depth,
+      @QueryParam("since") @DefaultValue("0") long since,
+      @QueryParam("until") @DefaultValue("9223372036854775807") long until,
+      @QueryParam("offset") @DefaultValue("0") int offset,
+      @QueryParam("limit") @DefaultValue("100") int limit) {
+    return traverse(
+        LineageDirection.DOWNSTREAM, namespace, name, depth, since, until, offset, limit);
+  }
+
+  private Response traverse(
+      LineageDirection direction,
+      String namespace,
+      String name,
+      int depth,
+      long since,
+      long until,
+      int offset,
+      int limit) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            LineageQuery query =
+                LineageQuery.builder()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withDirection(direction)
+                    .withDepth(depth)
+                    .withSince(since)
+                    .withUntil(until)
+                    .withOffset(offset)
+                    .withLimit(limit)
+                    .build();
+            return Utils.ok(lineageGraphDispatcher.traverseLineage(query));
+          });
+    } catch (IllegalArgumentException e) {
+      return Utils.illegalArguments(e.getMessage(), e);
+    } catch (UnsupportedOperationException e) {
+      return Utils.unsupportedOperation(e.getMessage(), e);
+    } catch (Exception e) {
+      LOG.warn("Traverse {} lineage of {}.{} failed,", direction, namespace, name, e);
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+}
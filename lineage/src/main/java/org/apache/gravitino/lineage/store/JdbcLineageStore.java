@@ -0,0 +1,660 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import io.openlineage.server.OpenLineage.Dataset;
+import io.openlineage.server.OpenLineage.RunEvent;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.lineage.Utils;
+import org.apache.gravitino.meta.FilesetEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.utils.jdbc.JdbcDataSourceConfig;
+import org.apache.gravitino.utils.jdbc.JdbcDataSourceFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JDBC-based implementation of {@link LineageStore}.
+ *
+ * <p>The graph is kept in two compact tables: {@code lineage_node} maps an OpenLineage dataset to a
+ * node id, which is the metadata object id for datasets managed by Gravitino, and {@code
+ * lineage_edge} keeps one row per (upstream, downstream) pair. The primary key of {@code
+ * lineage_edge} serves downstream expansion and the {@code (target_id, source_id)} index serves
+ * upstream expansion, so a traversal issues one indexed {@code IN} query per batch of frontier
+ * nodes and hop instead of one query per node.
+ *
+ * <p>By default the store uses the same database as the relational entity store. Configuration
+ * properties, all optional:
+ *
+ * <ul>
+ *   <li>jdbcUrl, jdbcUser, jdbcPassword, jdbcDriver: override the entity store connection
+ *   <li>poolMaxSize, poolMinIdle, connectionTimeoutMs: connection pool settings
+ *   <li>frontierBatchSize: max number of frontier nodes per query (default: 500)
+ *   <li>maxDepth: max number of hops a traversal may request (default: 10)
+ *   <li>maxEdges: max number of edges a traversal may visit (default: 10000)
+ *   <li>nodeCacheSize: max number of dataset to node id mappings cached (default: 100000)
+ * </ul>
+ */
+public class JdbcLineageStore implements LineageStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcLineageStore.class);
+
+  @VisibleForTesting static final String JDBC_URL = "jdbcUrl";
+  @VisibleForTesting static final String JDBC_USER = "jdbcUser";
+  @VisibleForTesting static final String JDBC_PASSWORD = "jdbcPassword";
+  @VisibleForTesting static final String JDBC_DRIVER = "jdbcDriver";
+  private static final String POOL_MAX_SIZE = "poolMaxSize";
+  private static final String POOL_MIN_IDLE = "poolMinIdle";
+  private static final String CONNECTION_TIMEOUT_MS = "connectionTimeoutMs";
+  @VisibleForTesting static final String FRONTIER_BATCH_SIZE = "frontierBatchSize";
+  @VisibleForTesting static final String MAX_DEPTH = "maxDepth";
+  @VisibleForTesting static final String MAX_EDGES = "maxEdges";
+  private static final String NODE_CACHE_SIZE = "nodeCacheSize";
+
+  private static final int DEFAULT_FRONTIER_BATCH_SIZE = 500;
+  private static final int DEFAULT_MAX_DEPTH = 10;
+  private static final int DEFAULT_MAX_EDGES = 10000;
+  private static final int DEFAULT_NODE_CACHE_SIZE = 100000;
+
+  // Must be consistent with the column definitions of the lineage tables.
+  private static final int MAX_NAMESPACE_LENGTH = 128;
+  private static final int MAX_NAME_LENGTH = 512;
+  private static final int MAX_RUN_ID_LENGTH = 64;
+
+  // Dataset lookups bind two parameters per dataset, keep them well below the driver limits.
+  private static final int NODE_LOOKUP_BATCH_SIZE = 200;
+
+  private static final String EDGE_COLUMNS =
+      "source_id, target_id, job_namespace, job_name, run_id, first_seen_at, last_seen_at";
+
+  private static final String UPSERT_EDGE_SQL_MYSQL =
+      "INSERT INTO lineage_edge ("
+          + EDGE_COLUMNS
+          + ") VALUES (?, ?, ?, ?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE "
+          + "job_namespace = VALUES(job_namespace), "
+          + "job_name = VALUES(job_name), "
+          + "run_id = VALUES(run_id), "
+          + "first_seen_at = LEAST(first_seen_at, VALUES(first_seen_at)), "
+          + "last_seen_at = GREATEST(last_seen_at, VALUES(last_seen_at))";
+
+  private static final String UPSERT_EDGE_SQL_POSTGRESQL =
+      "INSERT INTO lineage_edge ("
+          + EDGE_COLUMNS
+          + ") VALUES (?, ?, ?, ?, ?, ?, ?) "
+          + "ON CONFLICT (source_id, target_id) DO UPDATE SET "
+          + "job_namespace = EXCLUDED.job_namespace, "
+          + "job_name = EXCLUDED.job_name, "
+          + "run_id = EXCLUDED.run_id, "
+          + "first_seen_at = LEAST(lineage_edge.first_seen_at, EXCLUDED.first_seen_at), "
+          + "last_seen_at = GREATEST(lineage_edge.last_seen_at, EXCLUDED.last_seen_at)";
+
+  // A managed dataset keeps its metadata object id after a rename, so its name is refreshed on a
+  // node id conflict. A concurrent insert of the same external dataset leaves the existing row as
+  // it is.
+  private static final String INSERT_NODE_SQL_MYSQL =
+      "INSERT INTO lineage_node "
+          + "(node_id, node_namespace, node_name, metadata_object_type, created_at) "
+          + "VALUES (?, ?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE "
+          + "node_namespace = VALUES(node_namespace), "
+          + "node_name = VALUES(node_name)";
+
+  private static final String INSERT_NODE_SQL_POSTGRESQL =
+      "INSERT INTO lineage_node "
+          + "(node_id, node_namespace, node_name, metadata_object_type, created_at) "
+          + "VALUES (?, ?, ?, ?, ?) "
+          + "ON CONFLICT DO NOTHING";
+
+  private static final String UPSERT_MANAGED_NODE_SQL_POSTGRESQL =
+      "INSERT INTO lineage_node "
+          + "(node_id, node_namespace, node_name, metadata_object_type, created_at) "
+          + "VALUES (?, ?, ?, ?, ?) "
+          + "ON CONFLICT (node_id) DO UPDATE SET "
+          + "node_namespace = EXCLUDED.node_namespace, "
+          + "node_name = EXCLUDED.node_name";
+
+  private static final String SELECT_NODE_COLUMNS =
+      "SELECT node_id, node_namespace, node_name, metadata_object_type FROM lineage_node ";
+
+  private BasicDataSource dataSource;
+  private boolean postgreSQL;
+  private EntityStore entityStore;
+  private IdGenerator idGenerator;
+  private Cache<DatasetKey, Long> nodeIdCache;
+  private int frontierBatchSize;
+  private int maxDepth;
+  private int maxEdges;
+
+  @Override
+  public void initialize(Map<String, String> configs) {
+    Map<String, String> options = withEntityStoreDefaults(configs);
+    String jdbcUrl = options.get(JDBC_URL);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(jdbcUrl), "Property %s must be non-empty", JDBC_URL);
+
+    this.postgreSQL = JDBCBackendType.fromURI(jdbcUrl) == JDBCBackendType.POSTGRESQL;
+    this.frontierBatchSize = positiveInt(options, FRONTIER_BATCH_SIZE, DEFAULT_FRONTIER_BATCH_SIZE);
+    this.maxDepth = positiveInt(options, MAX_DEPTH, DEFAULT_MAX_DEPTH);
+    this.maxEdges = positiveInt(options, MAX_EDGES, DEFAULT_MAX_EDGES);
+    this.nodeIdCache =
+        Caffeine.newBuilder()
+            .maximumSize(positiveInt(options, NODE_CACHE_SIZE, DEFAULT_NODE_CACHE_SIZE))
+            .build();
+
+    // Outside the Gravitino server there is no entity store, every dataset is treated as external.
+    GravitinoEnv env = GravitinoEnv.getInstance();
+    this.entityStore = env.config() != null ? env.entityStore() : null;
+    this.idGenerator = env.idGenerator() != null ? env.idGenerator() : RandomIdGenerator.INSTANCE;
+
+    JdbcDataSourceConfig dataSourceConfig =
+        new JdbcDataSourceConfig(
+            jdbcUrl,
+            options.get(JDBC_USER),
+            options.get(JDBC_PASSWORD),
+            options.get(JDBC_DRIVER),
+            positiveInt(options, POOL_MAX_SIZE, JdbcDataSourceFactory.DEFAULT_MAX_TOTAL),
+            Integer.parseInt(
+                options.getOrDefault(
+                    POOL_MIN_IDLE, String.valueOf(JdbcDataSourceFactory.DEFAULT_MIN_IDLE))),
+            Long.parseLong(
+                options.getOrDefault(
+                    CONNECTION_TIMEOUT_MS,
+                    String.valueOf(JdbcDataSourceFactory.DEFAULT_MAX_WAIT_MILLIS))),
+            JdbcDataSourceFactory.DEFAULT_TEST_ON_BORROW,
+            JdbcDataSourceFactory.DEFAULT_VALIDATION_QUERY);
+    this.dataSource = JdbcDataSourceFactory.create(dataSourceConfig);
+    LOG.info(
+        "Initialized JDBC lineage store, url: {}, frontier batch size: {}, max depth: {}",
+        jdbcUrl,
+        frontierBatchSize,
+        maxDepth);
+  }
+
+  @Override
+  public void addLineage(RunEvent event) throws IOException {
+    Set<DatasetKey> inputs = toDatasetKeys(event.getInputs());
+    Set<DatasetKey> outputs = toDatasetKeys(event.getOutputs());
+    if (inputs.isEmpty() || outputs.isEmpty()) {
+      return;
+    }
+
+    String jobNamespace = event.getJob() == null ? "" : event.getJob().getNamespace();
+    String jobName = Utils.getJobName(event);
+    String runId = StringUtils.left(Utils.getRunID(event), MAX_RUN_ID_LENGTH);
+    long eventTime =
+        event.getEventTime() == null
+            ? System.currentTimeMillis()
+            : event.getEventTime().toInstant().toEpochMilli();
+
+    Set<DatasetKey> datasets = new LinkedHashSet<>(inputs);
+    datasets.addAll(outputs);
+
+    try (Connection conn = dataSource.getConnection()) {
+      conn.setAutoCommit(false);
+      try {
+        Map<DatasetKey, Long> nodeIds = resolveNodeIds(conn, datasets, eventTime);
+        try (PreparedStatement stmt =
+            conn.prepareStatement(
+                postgreSQL ? UPSERT_EDGE_SQL_POSTGRESQL : UPSERT_EDGE_SQL_MYSQL)) {
+          for (DatasetKey input : inputs) {
+            for (DatasetKey output : outputs) {
+              long sourceId = nodeIds.get(input);
+              long targetId = nodeIds.get(output);
+              if (sourceId == targetId) {
+                continue;
+              }
+              stmt.setLong(1, sourceId);
+              stmt.setLong(2, targetId);
+              stmt.setString(3, StringUtils.left(jobNamespace, MAX_NAMESPACE_LENGTH));
+              stmt.setString(4, StringUtils.left(jobName, MAX_NAME_LENGTH));
+              stmt.setString(5, runId);
+              stmt.setLong(6, eventTime);
+              stmt.setLong(7, eventTime);
+              stmt.addBatch();
+            }
+          }
+          stmt.executeBatch();
+        }
+        conn.commit();
+      } catch (Exception e) {
+        conn.rollback();
+        // Ids of nodes inserted by the rolled back transaction must not be served from the cache.
+        nodeIdCache.invalidateAll(datasets);
+        throw e;
+      } finally {
+        conn.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to add lineage of run " + Utils.getRunID(event), e);
+    }
+  }
+
+  @Override
+  public LineageGraph traverse(LineageQuery query) throws IOException {
+    Preconditions.checkArgument(
+        query.depth() <= maxDepth,
+        "depth must not be greater than %s, got %s",
+        maxDepth,
+        query.depth());
+    Preconditions.checkArgument(
+        (long) query.offset() + query.limit() <= maxEdges,
+        "offset + limit must not be greater than %s",
+        maxEdges);
+
+    try (Connection conn = dataSource.getConnection()) {
+      List<LineageNode> roots =
+          selectNodesByKeys(
+              conn, Collections.singletonList(new DatasetKey(query.namespace(), query.name())));
+      if (roots.isEmpty()) {
+        return LineageGraph.empty();
+      }
+      LineageNode root = roots.get(0);
+
+      // Collect one edge more than requested to know whether there is a next page.
+      int wanted = query.offset() + query.limit() + 1;
+      List<LineageEdge> edges = expand(conn, root.id(), query, wanted);
+      boolean hasMore = edges.size() >= wanted;
+      List<LineageEdge> page =
+          edges.size() <= query.offset()
+              ? Collections.emptyList()
+              : edges.subList(query.offset(), Math.min(edges.size(), wanted - 1));
+
+      Set<Long> nodeIds = new LinkedHashSet<>();
+      nodeIds.add(root.id());
+      for (LineageEdge edge : page) {
+        nodeIds.add(edge.sourceId());
+        nodeIds.add(edge.targetId());
+      }
+      return new LineageGraph(root, selectNodesByIds(conn, nodeIds), page, hasMore);
+    } catch (SQLException e) {
+      throw new IOException(
+          "Failed to traverse lineage of " + query.namespace() + "." + query.name(), e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (dataSource != null) {
+      try {
+        dataSource.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close lineage store data source", e);
+      }
+      dataSource = null;
+    }
+  }
+
+  /**
+   * Expands the graph hop by hop. Every hop queries the adjacency of the whole frontier in batches,
+   * so the number of round trips is bounded by {@code depth * frontier / frontierBatchSize}.
+   */
+  private List<LineageEdge> expand(Connection conn, long rootId, LineageQuery query, int wanted)
+      throws SQLException {
+    boolean downstream = query.direction() == LineageDirection.DOWNSTREAM;
+    String fromColumn = downstream ? "source_id" : "target_id";
+    String toColumn = downstream ? "target_id" : "source_id";
+
+    List<LineageEdge> edges = new ArrayList<>();
+    Set<Long> visited = new HashSet<>();
+    visited.add(rootId);
+    List<Long> frontier = Lists.newArrayList(rootId);
+
+    for (int depth = 1; depth <= query.depth() && !frontier.isEmpty(); depth++) {
+      List<Long> nextFrontier = new ArrayList<>();
+      for (List<Long> batch : Lists.partition(frontier, frontierBatchSize)) {
+        String sql =
+            "SELECT "
+                + EDGE_COLUMNS
+                + " FROM lineage_edge WHERE "
+                + fromColumn
+                + " IN "
+                + placeholders(batch.size())
+                + " AND last_seen_at >= ? AND first_seen_at <= ? ORDER BY "
+                + fromColumn
+                + ", "
+                + toColumn;
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+          int index = 1;
+          for (Long id : batch) {
+            stmt.setLong(index++, id);
+          }
+          stmt.setLong(index++, query.since());
+          stmt.setLong(index, query.until());
+
+          try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+              LineageEdge edge =
+                  new LineageEdge(
+                      rs.getLong("source_id"),
+                      rs.getLong("target_id"),
+                      depth,
+                      rs.getString("job_namespace"),
+                      rs.getString("job_name"),
+                      rs.getString("run_id"),
+                      rs.getLong("first_seen_at"),
+                      rs.getLong("last_seen_at"));
+              edges.add(edge);
+              if (edges.size() >= wanted) {
+                return edges;
+              }
+
+              long next = downstream ? edge.targetId() : edge.sourceId();
+              if (visited.add(next)) {
+                nextFrontier.add(next);
+              }
+            }
+          }
+        }
+      }
+      frontier = nextFrontier;
+    }
+    return edges;
+  }
+
+  private Map<DatasetKey, Long> resolveNodeIds(
+      Connection conn, Set<DatasetKey> datasets, long createdAt) throws SQLException {
+    Map<DatasetKey, Long> nodeIds = new HashMap<>(nodeIdCache.getAllPresent(datasets));
+    List<DatasetKey> missing =
+        datasets.stream().filter(d -> !nodeIds.containsKey(d)).collect(Collectors.toList());
+    if (missing.isEmpty()) {
+      return nodeIds;
+    }
+
+    for (LineageNode node : selectNodesByKeys(conn, missing)) {
+      nodeIds.put(new DatasetKey(node.namespace(), node.name()), node.id());
+    }
+
+    List<DatasetKey> external = new ArrayList<>();
+    try (PreparedStatement managedStmt =
+            conn.prepareStatement(
+                postgreSQL ? UPSERT_MANAGED_NODE_SQL_POSTGRESQL : INSERT_NODE_SQL_MYSQL);
+        PreparedStatement externalStmt =
+            conn.prepareStatement(
+                postgreSQL ? INSERT_NODE_SQL_POSTGRESQL : INSERT_NODE_SQL_MYSQL)) {
+      boolean hasManagedNode = false;
+      boolean hasExternalNode = false;
+      for (DatasetKey dataset : missing) {
+        if (nodeIds.containsKey(dataset)) {
+          continue;
+        }
+
+        LineageNode managed = resolveManagedDataset(dataset);
+        if (managed != null) {
+          nodeIds.put(dataset, managed.id());
+          addNode(managedStmt, managed.id(), dataset, managed.type(), createdAt);
+          hasManagedNode = true;
+        } else {
+          external.add(dataset);
+          addNode(externalStmt, idGenerator.nextId(), dataset, null, createdAt);
+          hasExternalNode = true;
+        }
+      }
+
+      if (hasManagedNode) {
+        managedStmt.executeBatch();
+      }
+      if (hasExternalNode) {
+        externalStmt.executeBatch();
+      }
+    }
+
+    // Another event may have inserted the same external dataset concurrently, so read back the
+    // ids that actually won instead of trusting the generated ones.
+    if (!external.isEmpty()) {
+      for (LineageNode node : selectNodesByKeys(conn, external)) {
+        nodeIds.put(new DatasetKey(node.namespace(), node.name()), node.id());
+      }
+      for (DatasetKey dataset : external) {
+        if (!nodeIds.containsKey(dataset)) {
+          throw new SQLException("Failed to allocate lineage node for " + dataset);
+        }
+      }
+    }
+
+    nodeIdCache.putAll(nodeIds);
+    return nodeIds;
+  }
+
+  private static void addNode(
+      PreparedStatement stmt, long nodeId, DatasetKey dataset, String type, long createdAt)
+      throws SQLException {
+    stmt.setLong(1, nodeId);
+    stmt.setString(2, dataset.namespace);
+    stmt.setString(3, dataset.name);
+    stmt.setString(4, type);
+    stmt.setLong(5, createdAt);
+    stmt.addBatch();
+  }
+
+  /**
+   * Resolves the dataset to the Gravitino table or fileset it refers to. The Gravitino OpenLineage
+   * plugins use the metalake name as the namespace and {@code catalog.schema.object} as the name.
+   */
+  private LineageNode resolveManagedDataset(DatasetKey dataset) {
+    if (entityStore == null) {
+      return null;
+    }
+    String[] levels = dataset.name.split("\\.");
+    if (levels.length != 3) {
+      return null;
+    }
+
+    NameIdentifier ident = NameIdentifier.of(dataset.namespace, levels[0], levels[1], levels[2]);
+    try {
+      TableEntity table = entityStore.get(ident, Entity.EntityType.TABLE, TableEntity.class);
+      return new LineageNode(
+          table.id(), dataset.namespace, dataset.name, MetadataObject.Type.TABLE.name());
+    } catch (NoSuchEntityException e) {
+      // Fall through to check whether it is a fileset.
+    } catch (Exception e) {
+      LOG.warn("Failed to resolve lineage dataset {} as a table", dataset, e);
+      return null;
+    }
+
+    try {
+      FilesetEntity fileset =
+          entityStore.get(ident, Entity.EntityType.FILESET, FilesetEntity.class);
+      return new LineageNode(
+          fileset.id(), dataset.namespace, dataset.name, MetadataObject.Type.FILESET.name());
+    } catch (NoSuchEntityException e) {
+      return null;
+    } catch (Exception e) {
+      LOG.warn("Failed to resolve lineage dataset {} as a fileset", dataset, e);
+      return null;
+    }
+  }
+
+  private List<LineageNode> selectNodesByKeys(Connection conn, List<DatasetKey> datasets)
+      throws SQLException {
+    List<LineageNode> nodes = new ArrayList<>();
+    for (List<DatasetKey> batch : Lists.partition(datasets, NODE_LOOKUP_BATCH_SIZE)) {
+      String condition =
+          batch.stream()
+              .map(d -> "(node_namespace = ? AND node_name = ?)")
+              .collect(Collectors.joining(" OR "));
+      try (PreparedStatement stmt =
+          conn.prepareStatement(SELECT_NODE_COLUMNS + "WHERE " + condition)) {
+        int index = 1;
+        for (DatasetKey dataset : batch) {
+          stmt.setString(index++, dataset.namespace);
+          stmt.setString(index++, dataset.name);
+        }
+        readNodes(stmt, nodes);
+      }
+    }
+    return nodes;
+  }
+
+  private List<LineageNode> selectNodesByIds(Connection conn, Collection<Long> ids)
+      throws SQLException {
+    Map<Long, LineageNode> nodes = new LinkedHashMap<>();
+    ids.forEach(id -> nodes.put(id, null));
+    for (List<Long> batch : Lists.partition(new ArrayList<>(ids), frontierBatchSize)) {
+      try (PreparedStatement stmt =
+          conn.prepareStatement(
+              SELECT_NODE_COLUMNS + "WHERE node_id IN " + placeholders(batch.size()))) {
+        int index = 1;
+        for (Long id : batch) {
+          stmt.setLong(index++, id);
+        }
+        List<LineageNode> found = new ArrayList<>();
+        readNodes(stmt, found);
+        found.forEach(node -> nodes.put(node.id(), node));
+      }
+    }
+    // Keep the order of the edges so that clients can render the page without sorting.
+    return nodes.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  private static void readNodes(PreparedStatement stmt, List<LineageNode> nodes)
+      throws SQLException {
+    try (ResultSet rs = stmt.executeQuery()) {
+      while (rs.next()) {
+        nodes.add(
+            new LineageNode(
+                rs.getLong("node_id"),
+                rs.getString("node_namespace"),
+                rs.getString("node_name"),
+                rs.getString("metadata_object_type")));
+      }
+    }
+  }
+
+  private static Set<DatasetKey> toDatasetKeys(List<? extends Dataset> datasets) {
+    Set<DatasetKey> keys = new LinkedHashSet<>();
+    if (datasets == null) {
+      return keys;
+    }
+    for (Dataset dataset : datasets) {
+      String namespace = dataset.getNamespace();
+      String name = dataset.getName();
+      if (StringUtils.isBlank(namespace) || StringUtils.isBlank(name)) {
+        continue;
+      }
+      if (namespace.length() > MAX_NAMESPACE_LENGTH || name.length() > MAX_NAME_LENGTH) {
+        LOG.warn("Skip lineage dataset {}.{}, the identifier is too long", namespace, name);
+        continue;
+      }
+      keys.add(new DatasetKey(namespace, name));
+    }
+    return keys;
+  }
+
+  private static String placeholders(int count) {
+    return Collections.nCopies(count, "?").stream().collect(Collectors.joining(", ", "(", ")"));
+  }
+
+  private static int positiveInt(Map<String, String> options, String key, int defaultValue) {
+    int value = Integer.parseInt(options.getOrDefault(key, String.valueOf(defaultValue)));
+    Preconditions.checkArgument(value > 0, "Property %s must be positive, got %s", key, value);
+    return value;
+  }
+
+  /**
+   * Uses the entity store JDBC configs as defaults, the store specific configs override them. The
+   * server config is absent when the store is created outside the Gravitino server.
+   */
+  private static Map<String, String> withEntityStoreDefaults(Map<String, String> configs) {
+    Map<String, String> options = new HashMap<>();
+    Config config = GravitinoEnv.getInstance().config();
+    if (config != null) {
+      options.put(JDBC_URL, config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL));
+      options.put(JDBC_DRIVER, config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
+      options.put(JDBC_USER, config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
+      options.put(JDBC_PASSWORD, config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+      options.put(
+          POOL_MAX_SIZE,
+          String.valueOf(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)));
+      options.put(
+          CONNECTION_TIMEOUT_MS,
+          String.valueOf(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)));
+    }
+    options.putAll(configs);
+    return options;
+  }
+
+  private static final class DatasetKey {
+    private final String namespace;
+    private final String name;
+
+    private DatasetKey(String namespace, String name) {
+      this.namespace = namespace;
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DatasetKey)) {
+        return false;
+      }
+      DatasetKey that = (DatasetKey) o;
+      return namespace.equals(that.namespace) && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(namespace, name);
+    }
+
+    @Override
+    public String toString() {
+      return namespace + "." + name;
+    }
+  }
+}
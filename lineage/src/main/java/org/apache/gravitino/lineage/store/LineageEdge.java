@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A directed edge from an upstream node to a downstream node, together with the last job run that
+ * produced it and the distance from the node the traversal started from.
+ */
+public class LineageEdge {
+
+  @JsonProperty("source")
+  private final long sourceId;
+
+  @JsonProperty("target")
+  private final long targetId;
+
+  @JsonProperty("depth")
+  private final int depth;
+
+  @JsonProperty("jobNamespace")
+  private final String jobNamespace;
+
+  @JsonProperty("jobName")
+  private final String jobName;
+
+  @JsonProperty("runId")
+  private final String runId;
+
+  @JsonProperty("firstSeenAt")
+  private final long firstSeenAt;
+
+  @JsonProperty("lastSeenAt")
+  private final long lastSeenAt;
+
+  public LineageEdge(
+      long sourceId,
+      long targetId,
+      int depth,
+      String jobNamespace,
+      String jobName,
+      String runId,
+      long firstSeenAt,
+      long lastSeenAt) {
+    this.sourceId = sourceId;
+    this.targetId = targetId;
+    this.depth = depth;
+    this.jobNamespace = jobNamespace;
+    this.jobName = jobName;
+    this.runId = runId;
+    this.firstSeenAt = firstSeenAt;
+    this.lastSeenAt = lastSeenAt;
+  }
+
+  public long sourceId() {
+    return sourceId;
+  }
+
+  public long targetId() {
+    return targetId;
+  }
+
+  public int depth() {
+    return depth;
+  }
+
+  public String jobNamespace() {
+    return jobNamespace;
+  }
+
+  public String jobName() {
+    return jobName;
+  }
+
+  public String runId() {
+    return runId;
+  }
+
+  public long firstSeenAt() {
+    return firstSeenAt;
+  }
+
+  public long lastSeenAt() {
+    return lastSeenAt;
+  }
+
+  @Override
+  public String toString() {
+    return "LineageEdge{" + sourceId + " -> " + targetId + ", depth=" + depth + "}";
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/** One page of a lineage graph traversal. */
+public class LineageGraph {
+
+  @Nullable
+  @JsonProperty("root")
+  private final LineageNode root;
+
+  @JsonProperty("nodes")
+  private final List<LineageNode> nodes;
+
+  @JsonProperty("edges")
+  private final List<LineageEdge> edges;
+
+  @JsonProperty("hasMore")
+  private final boolean hasMore;
+
+  public LineageGraph(
+      @Nullable LineageNode root,
+      List<LineageNode> nodes,
+      List<LineageEdge> edges,
+      boolean hasMore) {
+    this.root = root;
+    this.nodes = ImmutableList.copyOf(nodes);
+    this.edges = ImmutableList.copyOf(edges);
+    this.hasMore = hasMore;
+  }
+
+  /**
+   * Creates an empty graph, which is returned when nothing is recorded for the requested dataset.
+   *
+   * @return an empty lineage graph.
+   */
+  public static LineageGraph empty() {
+    return new LineageGraph(null, ImmutableList.of(), ImmutableList.of(), false);
+  }
+
+  /**
+   * @return the node the traversal started from, or null if the dataset has no recorded lineage.
+   */
+  @Nullable
+  public LineageNode root() {
+    return root;
+  }
+
+  /** @return the nodes referenced by the edges of this page, the root node is included. */
+  public List<LineageNode> nodes() {
+    return nodes;
+  }
+
+  /** @return the edges of this page in breadth-first order. */
+  public List<LineageEdge> edges() {
+    return edges;
+  }
+
+  /** @return whether there are more edges after this page. */
+  public boolean hasMore() {
+    return hasMore;
+  }
+}
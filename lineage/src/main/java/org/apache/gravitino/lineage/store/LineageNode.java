@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * A dataset in the lineage graph. For datasets managed by Gravitino, the node id is the id of the
+ * metadata object and {@link #type()} is its metadata object type, otherwise the id is allocated by
+ * the lineage store and the type is null.
+ */
+public class LineageNode {
+
+  @JsonProperty("id")
+  private final long id;
+
+  @JsonProperty("namespace")
+  private final String namespace;
+
+  @JsonProperty("name")
+  private final String name;
+
+  @Nullable
+  @JsonProperty("type")
+  private final String type;
+
+  public LineageNode(long id, String namespace, String name, @Nullable String type) {
+    this.id = id;
+    this.namespace = namespace;
+    this.name = name;
+    this.type = type;
+  }
+
+  public long id() {
+    return id;
+  }
+
+  public String namespace() {
+    return namespace;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  @Nullable
+  public String type() {
+    return type;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LineageNode)) {
+      return false;
+    }
+    LineageNode that = (LineageNode) o;
+    return id == that.id
+        && Objects.equals(namespace, that.namespace)
+        && Objects.equals(name, that.name)
+        && Objects.equals(type, that.type);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, namespace, name, type);
+  }
+
+  @Override
+  public String toString() {
+    return "LineageNode{id=" + id + ", namespace=" + namespace + ", name=" + name + "}";
+  }
+}
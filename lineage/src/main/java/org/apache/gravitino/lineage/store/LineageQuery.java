@@ -0,0 +1,161 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A k-hop traversal request starting from the dataset identified by its OpenLineage namespace and
+ * name. Only edges seen within {@code [since, until]} are followed, and the edges are returned in
+ * breadth-first order paginated by {@code offset} and {@code limit}.
+ */
+public class LineageQuery {
+
+  private final String namespace;
+  private final String name;
+  private final LineageDirection direction;
+  private final int depth;
+  private final long since;
+  private final long until;
+  private final int offset;
+  private final int limit;
+
+  private LineageQuery(
+      String namespace,
+      String name,
+      LineageDirection direction,
+      int depth,
+      long since,
+      long until,
+      int offset,
+      int limit) {
+    Preconditions.checkArgument(StringUtils.isNotBlank(namespace), "namespace must not be blank");
+    Preconditions.checkArgument(StringUtils.isNotBlank(name), "name must not be blank");
+    Preconditions.checkArgument(direction != null, "direction must not be null");
+    Preconditions.checkArgument(depth > 0, "depth must be positive, got %s", depth);
+    Preconditions.checkArgument(
+        since <= until, "since(%s) must not be greater than until(%s)", since, until);
+    Preconditions.checkArgument(offset >= 0, "offset must not be negative, got %s", offset);
+    Preconditions.checkArgument(limit > 0, "limit must be positive, got %s", limit);
+    this.namespace = namespace;
+    this.name = name;
+    this.direction = direction;
+    this.depth = depth;
+    this.since = since;
+    this.until = until;
+    this.offset = offset;
+    this.limit = limit;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public String namespace() {
+    return namespace;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public LineageDirection direction() {
+    return direction;
+  }
+
+  public int depth() {
+    return depth;
+  }
+
+  public long since() {
+    return since;
+  }
+
+  public long until() {
+    return until;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  /** Builder for {@link LineageQuery}. */
+  public static class Builder {
+    private String namespace;
+    private String name;
+    private LineageDirection direction = LineageDirection.DOWNSTREAM;
+    private int depth = 1;
+    private long since = 0L;
+    private long until = Long.MAX_VALUE;
+    private int offset = 0;
+    private int limit = 100;
+
+    private Builder() {}
+
+    public Builder withNamespace(String namespace) {
+      this.namespace = namespace;
+      return this;
+    }
+
+    public Builder withName(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public Builder withDirection(LineageDirection direction) {
+      this.direction = direction;
+      return this;
+    }
+
+    public Builder withDepth(int depth) {
+      this.depth = depth;
+      return this;
+    }
+
+    public Builder withSince(long since) {
+      this.since = since;
+      return this;
+    }
+
+    public Builder withUntil(long until) {
+      this.until = until;
+      return this;
+    }
+
+    public Builder withOffset(int offset) {
+      this.offset = offset;
+      return this;
+    }
+
+    public Builder withLimit(int limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    public LineageQuery build() {
+      return new LineageQuery(namespace, name, direction, depth, since, until, offset, limit);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import io.openlineage.server.OpenLineage.RunEvent;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * An embedded store which keeps the dataset level lineage graph built from the received run events
+ * and answers upstream and downstream traversals over it.
+ */
+public interface LineageStore extends Closeable {
+
+  /**
+   * Initializes the lineage store with the provided configuration.
+   *
+   * @param configs A map representing the configuration for the store.
+   */
+  void initialize(Map<String, String> configs);
+
+  /**
+   * Records an edge from every input dataset to every output dataset of the run event.
+   *
+   * @param event The lineage run event to record.
+   * @throws IOException If the edges could not be persisted.
+   */
+  void addLineage(RunEvent event) throws IOException;
+
+  /**
+   * Traverses the lineage graph from the dataset of the query.
+   *
+   * @param query The traversal request.
+   * @return One page of the traversed graph, or an empty graph if the dataset is unknown.
+   * @throws IOException If the graph could not be read.
+   */
+  LineageGraph traverse(LineageQuery query) throws IOException;
+}
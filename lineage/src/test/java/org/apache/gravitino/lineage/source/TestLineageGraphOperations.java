@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.source;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import org.apache.gravitino.lineage.LineageGraphDispatcher;
+import org.apache.gravitino.lineage.source.rest.LineageGraphOperations;
+import org.apache.gravitino.lineage.store.LineageDirection;
+import org.apache.gravitino.lineage.store.LineageEdge;
+import org.apache.gravitino.lineage.store.LineageGraph;
+import org.apache.gravitino.lineage.store.LineageNode;
+import org.apache.gravitino.lineage.store.LineageQuery;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.hk2.api.Factory;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TestLineageGraphOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory
+      implements Factory<HttpServletRequest>, Supplier<HttpServletRequest> {
+
+    @Override
+    public HttpServletRequest provide() {
+      return get();
+    }
+
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+      Mockito.when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+
+    @Override
+    public void dispose(HttpServletRequest instance) {}
+  }
+
+  private final LineageGraphDispatcher dispatcher = Mockito.mock(LineageGraphDispatcher.class);
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(LineageGraphOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(dispatcher).to(LineageGraphDispatcher.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testTraverseDownstream() throws IOException {
+    LineageNode root = new LineageNode(1L, "metalake", "catalog.db.a", "TABLE");
+    LineageNode child = new LineageNode(2L, "metalake", "catalog.db.b", null);
+    LineageGraph graph =
+        new LineageGraph(
+            root,
+            Arrays.asList(root, child),
+            Arrays.asList(new LineageEdge(1L, 2L, 1, "ns", "job", "run", 10L, 20L)),
+            false);
+    Mockito.when(dispatcher.traverseLineage(ArgumentMatchers.any())).thenReturn(graph);
+
+    Response resp =
+        target("/lineage/graph/downstream")
+            .queryParam("namespace", "metalake")
+            .queryParam("name", "catalog.db.a")
+            .queryParam("depth", 3)
+            .queryParam("limit", 10)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .get();
+    Assertions.assertEquals(Status.OK.getStatusCode(), resp.getStatus());
+    String body = resp.readEntity(String.class);
+    Assertions.assertTrue(body.contains("\"catalog.db.b\""), body);
+    Assertions.assertTrue(body.contains("\"hasMore\":false"), body);
+
+    ArgumentCaptor<LineageQuery> captor = ArgumentCaptor.forClass(LineageQuery.class);
+    Mockito.verify(dispatcher).traverseLineage(captor.capture());
+    Assertions.assertEquals(LineageDirection.DOWNSTREAM, captor.getValue().direction());
+    Assertions.assertEquals(3, captor.getValue().depth());
+    Assertions.assertEquals(10, captor.getValue().limit());
+  }
+
+  @Test
+  public void testTraverseFailures() throws IOException {
+    Response missingName =
+        target("/lineage/graph/upstream")
+            .queryParam("namespace", "metalake")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .get();
+    Assertions.assertEquals(Status.BAD_REQUEST.getStatusCode(), missingName.getStatus());
+
+    Mockito.when(dispatcher.traverseLineage(ArgumentMatchers.any()))
+        .thenThrow(new UnsupportedOperationException("Lineage store is not enabled"));
+    Response unsupported =
+        target("/lineage/graph/upstream")
+            .queryParam("namespace", "metalake")
+            .queryParam("name", "catalog.db.a")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .get();
+    Assertions.assertEquals(
+        Status.METHOD_NOT_ALLOWED.getStatusCode(), unsupported.getStatus());
+  }
+}
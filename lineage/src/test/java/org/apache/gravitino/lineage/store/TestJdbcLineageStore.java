@@ -0,0 +1,287 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableMap;
+import io.openlineage.server.OpenLineage.RunEvent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.config.ConfigConstants;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestJdbcLineageStore {
+
+  private static final String NAMESPACE = "metalake";
+  private static final long T1 = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+  private static final long T2 = Instant.parse("2025-02-01T00:00:00Z").toEpochMilli();
+
+  protected Connection keepAlive;
+  protected JdbcLineageStore store;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    String jdbcUrl = "jdbc:h2:mem:lineage_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MYSQL";
+    keepAlive = DriverManager.getConnection(jdbcUrl, "gravitino", "gravitino");
+    executeSchemaScript("h2");
+    store = createStore(jdbcUrl, "gravitino", "gravitino", "org.h2.Driver");
+  }
+
+  protected void executeSchemaScript(String backend) throws Exception {
+    String schema =
+        new String(
+            Files.readAllBytes(
+                Paths.get(
+                    System.getenv("GRAVITINO_HOME"),
+                    "scripts",
+                    backend,
+                    "schema-" + ConfigConstants.CURRENT_SCRIPT_VERSION + "-" + backend + ".sql")),
+            StandardCharsets.UTF_8);
+    try (Statement statement = keepAlive.createStatement()) {
+      statement.execute(schema);
+    }
+  }
+
+  protected static JdbcLineageStore createStore(
+      String jdbcUrl, String user, String password, String driver) {
+    JdbcLineageStore lineageStore = new JdbcLineageStore();
+    lineageStore.initialize(
+        ImmutableMap.of(
+            JdbcLineageStore.JDBC_URL, jdbcUrl,
+            JdbcLineageStore.JDBC_USER, user,
+            JdbcLineageStore.JDBC_PASSWORD, password,
+            JdbcLineageStore.JDBC_DRIVER, driver,
+            JdbcLineageStore.FRONTIER_BATCH_SIZE, "2",
+            JdbcLineageStore.MAX_DEPTH, "5"));
+    return lineageStore;
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    store.close();
+    keepAlive.close();
+  }
+
+  @Test
+  public void testTraverseDownstreamAndUpstream() throws Exception {
+    // a -> b -> c -> d, a -> e
+    store.addLineage(event("job1", T1, Arrays.asList("a"), Arrays.asList("b", "e")));
+    store.addLineage(event("job2", T1, Arrays.asList("b"), Arrays.asList("c")));
+    store.addLineage(event("job3", T1, Arrays.asList("c"), Arrays.asList("d")));
+
+    LineageGraph oneHop = store.traverse(query("a", LineageDirection.DOWNSTREAM, 1).build());
+    Assertions.assertEquals("a", oneHop.root().name());
+    Assertions.assertEquals(Arrays.asList("a->b", "a->e"), sorted(edgeNames(oneHop)));
+    Assertions.assertFalse(oneHop.hasMore());
+
+    LineageGraph allHops = store.traverse(query("a", LineageDirection.DOWNSTREAM, 5).build());
+    Assertions.assertEquals(
+        Arrays.asList("a->b", "a->e", "b->c", "c->d"), sorted(edgeNames(allHops)));
+    Assertions.assertEquals(
+        Arrays.asList(1, 1, 2, 3),
+        allHops.edges().stream().map(LineageEdge::depth).collect(Collectors.toList()));
+    Assertions.assertEquals(5, allHops.nodes().size());
+    Assertions.assertEquals("job3", allHops.edges().get(3).jobName());
+
+    LineageGraph upstream = store.traverse(query("d", LineageDirection.UPSTREAM, 2).build());
+    Assertions.assertEquals(Arrays.asList("c->d", "b->c"), edgeNames(upstream));
+  }
+
+  @Test
+  public void testTraversePagination() throws Exception {
+    store.addLineage(event("job1", T1, Arrays.asList("a"), Arrays.asList("b", "c", "d")));
+    store.addLineage(event("job2", T1, Arrays.asList("d"), Arrays.asList("e")));
+
+    LineageGraph first =
+        store.traverse(query("a", LineageDirection.DOWNSTREAM, 2).withLimit(3).build());
+    Assertions.assertEquals(3, first.edges().size());
+    Assertions.assertTrue(first.hasMore());
+
+    LineageGraph second =
+        store.traverse(
+            query("a", LineageDirection.DOWNSTREAM, 2).withOffset(3).withLimit(3).build());
+    Assertions.assertEquals(Arrays.asList("d->e"), edgeNames(second));
+    Assertions.assertFalse(second.hasMore());
+  }
+
+  @Test
+  public void testTraverseWithTimeRange() throws Exception {
+    store.addLineage(event("job1", T1, Arrays.asList("a"), Arrays.asList("b")));
+    store.addLineage(event("job2", T2, Arrays.asList("b"), Arrays.asList("c")));
+
+    LineageGraph recent =
+        store.traverse(query("a", LineageDirection.DOWNSTREAM, 2).withSince(T2).build());
+    Assertions.assertTrue(recent.edges().isEmpty());
+
+    LineageGraph early =
+        store.traverse(query("a", LineageDirection.DOWNSTREAM, 2).withUntil(T1).build());
+    Assertions.assertEquals(Arrays.asList("a->b"), edgeNames(early));
+  }
+
+  @Test
+  public void testAddLineageRepeatedly() throws Exception {
+    store.addLineage(event("job1", T1, Arrays.asList("a"), Arrays.asList("b")));
+    store.addLineage(event("job2", T2, Arrays.asList("a"), Arrays.asList("b")));
+
+    LineageGraph graph = store.traverse(query("a", LineageDirection.DOWNSTREAM, 1).build());
+    Assertions.assertEquals(1, graph.edges().size());
+    LineageEdge edge = graph.edges().get(0);
+    Assertions.assertEquals(T1, edge.firstSeenAt());
+    Assertions.assertEquals(T2, edge.lastSeenAt());
+    Assertions.assertEquals("job2", edge.jobName());
+    Assertions.assertNull(graph.root().type());
+  }
+
+  @Test
+  public void testTraverseUnknownDataset() throws Exception {
+    LineageGraph graph = store.traverse(query("unknown", LineageDirection.UPSTREAM, 1).build());
+    Assertions.assertNull(graph.root());
+    Assertions.assertTrue(graph.edges().isEmpty());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> store.traverse(query("a", LineageDirection.UPSTREAM, 6).build()));
+  }
+
+  @Test
+  public void testRenameManagedDataset() throws Exception {
+    // The table keeps its id after a rename, the lineage node should follow the new name.
+    AtomicReference<String> tableName = new AtomicReference<>("t1");
+    EntityStore entityStore = mock(EntityStore.class);
+    doAnswer(
+            invocation -> {
+              NameIdentifier ident = invocation.getArgument(0);
+              if (!ident.name().equals(tableName.get())) {
+                throw new NoSuchEntityException("Table %s does not exist", ident);
+              }
+              return TableEntity.builder()
+                  .withId(100L)
+                  .withName(ident.name())
+                  .withNamespace(ident.namespace())
+                  .withAuditInfo(
+                      AuditInfo.builder()
+                          .withCreator("gravitino")
+                          .withCreateTime(Instant.now())
+                          .build())
+                  .build();
+            })
+        .when(entityStore)
+        .get(any(), eq(Entity.EntityType.TABLE), any());
+    doThrow(new NoSuchEntityException("Fileset does not exist"))
+        .when(entityStore)
+        .get(any(), eq(Entity.EntityType.FILESET), any());
+    FieldUtils.writeField(store, "entityStore", entityStore, true);
+
+    store.addLineage(event("job1", T1, Arrays.asList("a"), Arrays.asList("c.s.t1")));
+    tableName.set("t2");
+    store.addLineage(event("job2", T2, Arrays.asList("b"), Arrays.asList("c.s.t2")));
+
+    LineageGraph graph = store.traverse(query("c.s.t2", LineageDirection.UPSTREAM, 1).build());
+    Assertions.assertEquals(100L, graph.root().id());
+    Assertions.assertEquals("TABLE", graph.root().type());
+    Assertions.assertEquals(Arrays.asList("a->c.s.t2", "b->c.s.t2"), sorted(edgeNames(graph)));
+
+    LineageGraph oldName = store.traverse(query("c.s.t1", LineageDirection.UPSTREAM, 1).build());
+    Assertions.assertNull(oldName.root());
+  }
+
+  private static LineageQuery.Builder query(String name, LineageDirection direction, int depth) {
+    return LineageQuery.builder()
+        .withNamespace(NAMESPACE)
+        .withName(name)
+        .withDirection(direction)
+        .withDepth(depth);
+  }
+
+  private static List<String> edgeNames(LineageGraph graph) {
+    return graph.edges().stream()
+        .map(
+            edge ->
+                nodeName(graph, edge.sourceId()) + "->" + nodeName(graph, edge.targetId()))
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> sorted(List<String> values) {
+    return values.stream().sorted().collect(Collectors.toList());
+  }
+
+  private static String nodeName(LineageGraph graph, long id) {
+    return graph.nodes().stream()
+        .filter(node -> node.id() == id)
+        .map(LineageNode::name)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("Missing node " + id));
+  }
+
+  private static RunEvent event(
+      String jobName, long eventTime, List<String> inputs, List<String> outputs)
+      throws Exception {
+    String json =
+        "{\"eventType\":\"COMPLETE\","
+            + "\"eventTime\":\""
+            + Instant.ofEpochMilli(eventTime)
+            + "\","
+            + "\"run\":{\"runId\":\""
+            + UUID.randomUUID()
+            + "\"},"
+            + "\"job\":{\"namespace\":\"ns\",\"name\":\""
+            + jobName
+            + "\"},"
+            + "\"inputs\":"
+            + datasets(inputs)
+            + ",\"outputs\":"
+            + datasets(outputs)
+            + ",\"producer\":\"producer\","
+            + "\"schemaURL\":\"https://openlineage.io/spec/1-0-5/OpenLineage.json\"}";
+    return ObjectMapperProvider.objectMapper().readValue(json, RunEvent.class);
+  }
+
+  private static String datasets(List<String> names) {
+    return names.stream()
+        .map(name -> "{\"namespace\":\"" + NAMESPACE + "\",\"name\":\"" + name + "\"}")
+        .collect(Collectors.joining(",", "[", "]"));
+  }
+}
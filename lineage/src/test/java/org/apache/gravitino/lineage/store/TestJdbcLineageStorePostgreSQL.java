@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lineage.store;
+
+import java.sql.DriverManager;
+import java.sql.Statement;
+import org.apache.gravitino.integration.test.container.ContainerSuite;
+import org.apache.gravitino.integration.test.container.PGImageName;
+import org.apache.gravitino.integration.test.container.PostgreSQLContainer;
+import org.apache.gravitino.integration.test.util.TestDatabaseName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+
+/** Runs the lineage store tests against PostgreSQL, which uses its own upsert statements. */
+@Tag("gravitino-docker-test")
+public class TestJdbcLineageStorePostgreSQL extends TestJdbcLineageStore {
+
+  private static final ContainerSuite containerSuite = ContainerSuite.getInstance();
+  private static final TestDatabaseName TEST_DB_NAME = TestDatabaseName.PG_TEST_LINEAGE_STORE;
+
+  @BeforeEach
+  @Override
+  public void setUp() throws Exception {
+    containerSuite.startPostgreSQLContainer(TEST_DB_NAME, PGImageName.VERSION_13);
+    PostgreSQLContainer container = containerSuite.getPostgreSQLContainer(PGImageName.VERSION_13);
+    String jdbcUrl = container.getJdbcUrl(TEST_DB_NAME);
+    keepAlive =
+        DriverManager.getConnection(jdbcUrl, container.getUsername(), container.getPassword());
+    try (Statement statement = keepAlive.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS public CASCADE");
+      statement.execute("CREATE SCHEMA public");
+    }
+    executeSchemaScript("postgresql");
+
+    store =
+        createStore(
+            jdbcUrl,
+            container.getUsername(),
+            container.getPassword(),
+            container.getDriverClassName(TEST_DB_NAME));
+  }
+}
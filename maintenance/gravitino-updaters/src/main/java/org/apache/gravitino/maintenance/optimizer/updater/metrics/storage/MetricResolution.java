@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.maintenance.optimizer.updater.metrics.storage;
+
+import com.google.common.base.Preconditions;
+
+/** Time resolution of the metrics returned by {@link MetricsRepository#getRollupMetrics}. */
+public enum MetricResolution {
+  /** Every distinct timestamp of the raw metric points is a bucket. */
+  RAW(1L),
+  /** Hourly buckets. */
+  HOUR(3600L),
+  /** Daily buckets. */
+  DAY(86400L);
+
+  private final long seconds;
+
+  MetricResolution(long seconds) {
+    this.seconds = seconds;
+  }
+
+  /**
+   * @return the bucket width in seconds
+   */
+  public long seconds() {
+    return seconds;
+  }
+
+  /**
+   * Returns the start of the bucket containing the timestamp.
+   *
+   * @param timestampSecs timestamp in epoch seconds
+   * @return the bucket start in epoch seconds
+   */
+  public long bucketStart(long timestampSecs) {
+    return timestampSecs - Math.floorMod(timestampSecs, seconds);
+  }
+
+  /**
+   * Returns the coarsest resolution that still returns at least {@code minPointsPerMetric} buckets
+   * for each metric in the time window [fromSecs, toSecs), so long windows are served from the
+   * daily rollups, short ones from the hourly rollups, and windows shorter than that from the raw
+   * points.
+   *
+   * @param fromSecs window start in epoch seconds, inclusive
+   * @param toSecs window end in epoch seconds, exclusive
+   * @param minPointsPerMetric the min number of buckets expected for each metric
+   * @return the coarsest resolution satisfying the window
+   */
+  public static MetricResolution forRange(long fromSecs, long toSecs, int minPointsPerMetric) {
+    Preconditions.checkArgument(fromSecs < toSecs, "fromSecs must be less than toSecs");
+    Preconditions.checkArgument(minPointsPerMetric > 0, "minPointsPerMetric must be positive");
+    long rangeSecs = toSecs - fromSecs;
+    if (rangeSecs / DAY.seconds >= minPointsPerMetric) {
+      return DAY;
+    }
+    if (rangeSecs / HOUR.seconds >= minPointsPerMetric) {
+      return HOUR;
+    }
+    return RAW;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.maintenance.optimizer.updater.metrics.storage;
+
+import com.google.common.base.Preconditions;
+import java.util.OptionalDouble;
+import org.apache.gravitino.maintenance.optimizer.api.common.DataScope;
+import org.apache.gravitino.stats.StatisticValue;
+
+/**
+ * Aggregate of the metric points of one metric within one time bucket.
+ *
+ * <p>{@code min}, {@code max} and {@code avg} are only present for numeric metrics, the sample
+ * count and the last value are present for all metrics.
+ */
+public final class MetricRollup {
+
+  private final DataScope scope;
+  private final String metricName;
+  private final MetricResolution resolution;
+  private final long bucketStartSecs;
+  private final long sampleCount;
+  private final Double minValue;
+  private final Double maxValue;
+  private final Double sumValue;
+  private final long lastTimestampSecs;
+  private final StatisticValue<?> lastValue;
+
+  /**
+   * Creates a metric rollup.
+   *
+   * @param scope the scope of the metric
+   * @param metricName the metric name
+   * @param resolution the resolution of the bucket
+   * @param bucketStartSecs the bucket start in epoch seconds
+   * @param sampleCount the number of raw points in the bucket
+   * @param minValue the min numeric value, or null for non-numeric metrics
+   * @param maxValue the max numeric value, or null for non-numeric metrics
+   * @param sumValue the sum of the numeric values, or null for non-numeric metrics
+   * @param lastTimestampSecs the timestamp of the last raw point in the bucket
+   * @param lastValue the value of the last raw point in the bucket
+   */
+  public MetricRollup(
+      DataScope scope,
+      String metricName,
+      MetricResolution resolution,
+      long bucketStartSecs,
+      long sampleCount,
+      Double minValue,
+      Double maxValue,
+      Double sumValue,
+      long lastTimestampSecs,
+      StatisticValue<?> lastValue) {
+    Preconditions.checkArgument(scope != null, "scope must not be null");
+    Preconditions.checkArgument(metricName != null, "metricName must not be null");
+    Preconditions.checkArgument(resolution != null, "resolution must not be null");
+    Preconditions.checkArgument(sampleCount > 0, "sampleCount must be positive");
+    Preconditions.checkArgument(lastValue != null, "lastValue must not be null");
+    this.scope = scope;
+    this.metricName = metricName;
+    this.resolution = resolution;
+    this.bucketStartSecs = bucketStartSecs;
+    this.sampleCount = sampleCount;
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+    this.sumValue = sumValue;
+    this.lastTimestampSecs = lastTimestampSecs;
+    this.lastValue = lastValue;
+  }
+
+  public DataScope scope() {
+    return scope;
+  }
+
+  public String metricName() {
+    return metricName;
+  }
+
+  public MetricResolution resolution() {
+    return resolution;
+  }
+
+  public long bucketStartSecs() {
+    return bucketStartSecs;
+  }
+
+  public long sampleCount() {
+    return sampleCount;
+  }
+
+  public OptionalDouble min() {
+    return minValue == null ? OptionalDouble.empty() : OptionalDouble.of(minValue);
+  }
+
+  public OptionalDouble max() {
+    return maxValue == null ? OptionalDouble.empty() : OptionalDouble.of(maxValue);
+  }
+
+  public OptionalDouble avg() {
+    return sumValue == null ? OptionalDouble.empty() : OptionalDouble.of(sumValue / sampleCount);
+  }
+
+  public long lastTimestampSecs() {
+    return lastTimestampSecs;
+  }
+
+  public StatisticValue<?> lastValue() {
+    return lastValue;
+  }
+
+  @Override
+  public String toString() {
+    return "MetricRollup{"
+        + "scope="
+        + scope
+        + ", metricName='"
+        + metricName
+        + '\''
+        + ", resolution="
+        + resolution
+        + ", bucketStartSecs="
+        + bucketStartSecs
+        + ", sampleCount="
+        + sampleCount
+        + ", min="
+        + minValue
+        + ", max="
+        + maxValue
+        + ", sum="
+        + sumValue
+        + ", lastTimestampSecs="
+        + lastTimestampSecs
+        + ", lastValue="
+        + lastValue
+        + '}';
+  }
+}
@@ -39,6 +39,27 @@ public interface MetricsRepository extends AutoCloseable {
   /** Load metrics within a time window [fromSecs, toSecs) in epoch seconds. */
   List<MetricPoint> getMetrics(DataScope scope, long fromSecs, long toSecs);
 
+  /**
+   * Load metrics within a time window [fromSecs, toSecs) in epoch seconds, downsampled to the
+   * coarsest {@link MetricResolution} that still returns {@code minPointsPerMetric} buckets for
+   * each metric. Buckets are aligned to the resolution, so the first bucket may cover points
+   * before {@code fromSecs}.
+   */
+  default List<MetricRollup> getRollupMetrics(
+      DataScope scope, long fromSecs, long toSecs, int minPointsPerMetric) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " doesn't support rollup metrics");
+  }
+
+  /**
+   * Aggregate the raw metrics older than the supplied timestamp (epoch seconds) into the hourly and
+   * daily rollups, only the buckets not rolled up yet are processed. Returns the number of rollup
+   * rows written.
+   */
+  default int rollupMetrics(long untilSecs) {
+    return 0;
+  }
+
   /** Delete table metrics older than the supplied timestamp (epoch seconds), exclusive. */
   int cleanupTableMetricsBefore(long timestamp);
 
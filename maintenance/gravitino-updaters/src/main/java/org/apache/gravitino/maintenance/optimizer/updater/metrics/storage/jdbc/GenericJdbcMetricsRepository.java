@@ -41,6 +41,8 @@ public class GenericJdbcMetricsRepository extends JdbcMetricsRepository {
   public static final String POOL_MIN_IDLE = "poolMinIdle";
   public static final String CONNECTION_TIMEOUT_MS = "connectionTimeoutMs";
   public static final String TEST_ON_BORROW = "testOnBorrow";
+  public static final String ROLLUP_INTERVAL_SECS = "rollupIntervalSecs";
+  private static final long DEFAULT_ROLLUP_INTERVAL_SECS = 3600L;
 
   @Override
   public void initialize(Map<String, String> optimizerProperties) {
@@ -55,10 +57,18 @@ public class GenericJdbcMetricsRepository extends JdbcMetricsRepository {
     Preconditions.checkArgument(
         StringUtils.isNotBlank(username), "Property %s must be non-empty", JDBC_USER);
 
+    String rollupInterval = effectiveJdbcProperties.remove(ROLLUP_INTERVAL_SECS);
+    long rollupIntervalSecs =
+        StringUtils.isBlank(rollupInterval)
+            ? DEFAULT_ROLLUP_INTERVAL_SECS
+            : Long.parseLong(rollupInterval.trim());
+    Preconditions.checkArgument(
+        rollupIntervalSecs >= 0, "Property %s must be non-negative", ROLLUP_INTERVAL_SECS);
+
     effectiveJdbcProperties.put(JDBC_URL, jdbcUrl);
     DataSourceJdbcConnectionProvider connectionProvider =
         new DataSourceJdbcConnectionProvider(effectiveJdbcProperties);
-    initializeStorage(connectionProvider);
+    initializeStorage(connectionProvider, rollupIntervalSecs);
   }
 
   private Map<String, String> buildEffectiveJdbcProperties(
@@ -33,11 +33,13 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.config.ConfigConstants;
@@ -45,6 +47,8 @@ import org.apache.gravitino.maintenance.optimizer.api.common.DataScope;
 import org.apache.gravitino.maintenance.optimizer.api.common.MetricPoint;
 import org.apache.gravitino.maintenance.optimizer.common.util.PartitionPathSerdeUtils;
 import org.apache.gravitino.maintenance.optimizer.common.util.StatisticValueSerdeUtils;
+import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricResolution;
+import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricRollup;
 import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricsRepository;
 import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricsStorageException;
 import org.apache.gravitino.utils.jdbc.JdbcSqlScriptUtils;
@@ -55,6 +59,9 @@ import org.slf4j.LoggerFactory;
  * JDBC-based implementation of {@link MetricsRepository}.
  *
  * <p>All timestamps are epoch seconds. Read APIs use a half-open time window [fromSecs, toSecs).
+ *
+ * <p>The raw points are downsampled into hourly and daily rollups by {@link #rollupMetrics(long)},
+ * which is also triggered by the writes at most once per rollup interval.
  */
 public abstract class JdbcMetricsRepository implements MetricsRepository {
 
@@ -83,16 +90,30 @@ public abstract class JdbcMetricsRepository implements MetricsRepository {
   private DataSourceJdbcConnectionProvider connectionProvider;
   private JdbcMetricsDialect dialect;
   private volatile boolean initialized = false;
+  private long rollupIntervalSecs;
+  private volatile long lastRollupSecs;
+  private final AtomicBoolean rollupRunning = new AtomicBoolean(false);
 
   private static Set<String> buildRequiredColumnsSet(String... columns) {
     return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(columns)));
   }
 
   protected final void initializeStorage(DataSourceJdbcConnectionProvider connectionProvider) {
+    initializeStorage(connectionProvider, 0L);
+  }
+
+  /**
+   * Initializes the storage, the writes roll up the raw metrics every {@code rollupIntervalSecs}
+   * seconds, 0 disables the rollups on write.
+   */
+  protected final void initializeStorage(
+      DataSourceJdbcConnectionProvider connectionProvider, long rollupIntervalSecs) {
     Preconditions.checkState(!initialized, "JdbcMetricsRepository has already been initialized.");
     Preconditions.checkArgument(connectionProvider != null, "connectionProvider must not be null");
+    Preconditions.checkArgument(rollupIntervalSecs >= 0, "rollupIntervalSecs must be non-negative");
 
     this.connectionProvider = connectionProvider;
+    this.rollupIntervalSecs = rollupIntervalSecs;
     initializeDatabase();
     this.initialized = true;
   }
@@ -282,6 +303,7 @@ public abstract class JdbcMetricsRepository implements MetricsRepository {
       throw new MetricsStorageException(
           "Failed to batch store table/partition metrics, size=" + metrics.size(), e);
     }
+    maybeRollupMetrics();
   }
 
   @Override
@@ -327,6 +349,7 @@ public abstract class JdbcMetricsRepository implements MetricsRepository {
       throw new MetricsStorageException(
           "Failed to batch store job metrics, size=" + metrics.size(), e);
     }
+    maybeRollupMetrics();
   }
 
   @Override
@@ -345,6 +368,126 @@ public abstract class JdbcMetricsRepository implements MetricsRepository {
     }
   }
 
+  @Override
+  public List<MetricRollup> getRollupMetrics(
+      DataScope scope, long fromSecs, long toSecs, int minPointsPerMetric) {
+    Preconditions.checkArgument(scope != null, "scope must not be null");
+    validateTimeWindow(fromSecs, toSecs);
+    MetricResolution resolution = MetricResolution.forRange(fromSecs, toSecs, minPointsPerMetric);
+    JdbcMetricsRollups.Source source =
+        scope.type() == DataScope.Type.JOB
+            ? JdbcMetricsRollups.Source.JOB
+            : JdbcMetricsRollups.Source.TABLE;
+    String identifier = normalizeIdentifier(scope.identifier());
+    String partition = null;
+    if (scope.type() == DataScope.Type.PARTITION) {
+      Preconditions.checkArgument(
+          scope.partition().isPresent(), "partition scope must contain partition path");
+      partition =
+          normalizePartition(PartitionPathSerdeUtils.encode(scope.partition().get())).orElse(null);
+    }
+
+    List<JdbcMetricsRollups.Bucket> buckets = new ArrayList<>();
+    try (Connection conn = getConnection()) {
+      long bucketFrom = resolution.bucketStart(fromSecs);
+      // The buckets after the watermark are not rolled up yet, aggregate them from the raw points
+      long rawFrom = bucketFrom;
+      if (resolution != MetricResolution.RAW) {
+        long rolledUpUntil = JdbcMetricsRollups.rolledUpUntil(conn, source, resolution);
+        if (rolledUpUntil > bucketFrom) {
+          buckets.addAll(
+              JdbcMetricsRollups.readRollups(
+                  conn,
+                  source,
+                  resolution,
+                  bucketFrom,
+                  Math.min(rolledUpUntil, toSecs),
+                  identifier,
+                  partition));
+          rawFrom = rolledUpUntil;
+        }
+      }
+      if (rawFrom < toSecs) {
+        buckets.addAll(
+            JdbcMetricsRollups.aggregateRaw(
+                conn, source, resolution, rawFrom, toSecs, identifier, partition, true));
+      }
+    } catch (SQLException e) {
+      throw new MetricsStorageException(
+          "Failed to retrieve rollup metrics: scope="
+              + scope
+              + ", resolution="
+              + resolution
+              + ", from="
+              + fromSecs
+              + ", to="
+              + toSecs,
+          e);
+    }
+
+    List<MetricRollup> result = new ArrayList<>(buckets.size());
+    for (JdbcMetricsRollups.Bucket bucket : buckets) {
+      result.add(
+          new MetricRollup(
+              scope,
+              bucket.metricName(),
+              resolution,
+              bucket.bucketStartSecs(),
+              bucket.sampleCount(),
+              bucket.minValue(),
+              bucket.maxValue(),
+              bucket.sumValue(),
+              bucket.lastTimestampSecs(),
+              StatisticValueSerdeUtils.fromString(bucket.lastValue())));
+    }
+    result.sort(
+        Comparator.comparing(MetricRollup::metricName)
+            .thenComparingLong(MetricRollup::bucketStartSecs));
+    return result;
+  }
+
+  @Override
+  public int rollupMetrics(long untilSecs) {
+    Preconditions.checkArgument(
+        untilSecs >= 0, "untilSecs must be non-negative, but got %s", untilSecs);
+    Preconditions.checkArgument(
+        untilSecs <= MAX_REASONABLE_EPOCH_SECONDS,
+        "untilSecs must be epoch seconds, but got suspiciously large value %s",
+        untilSecs);
+
+    int written = 0;
+    try (Connection conn = getConnection()) {
+      for (JdbcMetricsRollups.Source source : JdbcMetricsRollups.Source.values()) {
+        written += JdbcMetricsRollups.rollup(conn, source, MetricResolution.HOUR, untilSecs);
+        written += JdbcMetricsRollups.rollup(conn, source, MetricResolution.DAY, untilSecs);
+      }
+    } catch (SQLException e) {
+      throw new MetricsStorageException("Failed to roll up metrics until " + untilSecs, e);
+    }
+    LOG.info("Rolled up metrics until {}, {} rollup rows written", untilSecs, written);
+    return written;
+  }
+
+  private void maybeRollupMetrics() {
+    long nowSecs = System.currentTimeMillis() / 1000;
+    if (rollupIntervalSecs <= 0 || nowSecs - lastRollupSecs < rollupIntervalSecs) {
+      return;
+    }
+    // Only one writer runs the rollup, the others don't wait for it
+    if (!rollupRunning.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      lastRollupSecs = nowSecs;
+      rollupMetrics(nowSecs);
+    } catch (RuntimeException e) {
+      // The raw points are stored already, the next rollup picks up the missing buckets
+      LOG.warn("Failed to roll up metrics, will retry in {} seconds", rollupIntervalSecs, e);
+    } finally {
+      rollupRunning.set(false);
+    }
+  }
+
   @Override
   public int cleanupTableMetricsBefore(long beforeTimestamp) {
     Preconditions.checkArgument(
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.gravitino.maintenance.optimizer.common.util.StatisticValueSerdeUtils;
+import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricResolution;
+
+/**
+ * Maintains the hourly and daily rollups of the raw rows in {@code table_metrics} and {@code
+ * job_metrics}.
+ *
+ * <p>The rollups are built incrementally: the watermark of a resolution is the end of its latest
+ * rolled up bucket, and only the closed buckets after the watermark are aggregated. Each day of raw
+ * points is aggregated in its own transaction which replaces the rollup rows of that day, so a
+ * rerun after a failure is idempotent. Raw points written behind the watermark are not rolled up,
+ * the rollup queries merge the rolled up buckets with the raw points after the watermark.
+ */
+final class JdbcMetricsRollups {
+
+  /** The raw table and the rollup table of one kind of metrics. */
+  enum Source {
+    TABLE("table_metrics", "table_metrics_rollup", "table_identifier", true),
+    JOB("job_metrics", "job_metrics_rollup", "job_identifier", false);
+
+    private final String rawTable;
+    private final String rollupTable;
+    private final String identifierColumn;
+    private final boolean partitioned;
+
+    Source(String rawTable, String rollupTable, String identifierColumn, boolean partitioned) {
+      this.rawTable = rawTable;
+      this.rollupTable = rollupTable;
+      this.identifierColumn = identifierColumn;
+      this.partitioned = partitioned;
+    }
+  }
+
+  /** One aggregated bucket, either read from a rollup table or aggregated from raw points. */
+  static final class Bucket {
+    private final String identifier;
+    private final String partition;
+    private final String metricName;
+    private final long bucketStartSecs;
+    private long sampleCount;
+    private Double minValue;
+    private Double maxValue;
+    private Double sumValue;
+    private long lastTimestampSecs = Long.MIN_VALUE;
+    private String lastValue;
+
+    private Bucket(String identifier, String partition, String metricName, long bucketStartSecs) {
+      this.identifier = identifier;
+      this.partition = partition;
+      this.metricName = metricName;
+      this.bucketStartSecs = bucketStartSecs;
+    }
+
+    private void add(long timestampSecs, String serializedValue) {
+      sampleCount++;
+      Object value = StatisticValueSerdeUtils.fromString(serializedValue).value();
+      if (value instanceof Number) {
+        double numeric = ((Number) value).doubleValue();
+        minValue = minValue == null ? numeric : Math.min(minValue, numeric);
+        maxValue = maxValue == null ? numeric : Math.max(maxValue, numeric);
+        sumValue = sumValue == null ? numeric : sumValue + numeric;
+      }
+      // Rows are read in timestamp order, the later row wins a tie
+      if (timestampSecs >= lastTimestampSecs) {
+        lastTimestampSecs = timestampSecs;
+        lastValue = serializedValue;
+      }
+    }
+
+    String metricName() {
+      return metricName;
+    }
+
+    long bucketStartSecs() {
+      return bucketStartSecs;
+    }
+
+    long sampleCount() {
+      return sampleCount;
+    }
+
+    Double minValue() {
+      return minValue;
+    }
+
+    Double maxValue() {
+      return maxValue;
+    }
+
+    Double sumValue() {
+      return sumValue;
+    }
+
+    long lastTimestampSecs() {
+      return lastTimestampSecs;
+    }
+
+    String lastValue() {
+      return lastValue;
+    }
+  }
+
+  private static final class BucketKey {
+    private final String identifier;
+    private final String partition;
+    private final String metricName;
+    private final long bucketStartSecs;
+
+    private BucketKey(String identifier, String partition, String metricName, long bucketStart) {
+      this.identifier = identifier;
+      this.partition = partition;
+      this.metricName = metricName;
+      this.bucketStartSecs = bucketStart;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BucketKey)) {
+        return false;
+      }
+      BucketKey that = (BucketKey) o;
+      return bucketStartSecs == that.bucketStartSecs
+          && identifier.equals(that.identifier)
+          && Objects.equals(partition, that.partition)
+          && metricName.equals(that.metricName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(identifier, partition, metricName, bucketStartSecs);
+    }
+  }
+
+  /** The raw points of one day are rolled up in one transaction. */
+  private static final long CHUNK_SECS = MetricResolution.DAY.seconds();
+
+  private JdbcMetricsRollups() {}
+
+  /**
+   * Rolls up the raw points of all the closed buckets before {@code untilSecs}.
+   *
+   * @return the number of rollup rows written
+   */
+  static int rollup(Connection conn, Source source, MetricResolution resolution, long untilSecs)
+      throws SQLException {
+    long end = resolution.bucketStart(untilSecs);
+    long watermark = rolledUpUntil(conn, source, resolution);
+    int written = 0;
+    Long next = nextRawTimestamp(conn, source, watermark);
+    while (next != null && next < end) {
+      // Skip the gaps without raw points instead of walking them day by day
+      long chunkStart = resolution.bucketStart(next);
+      long chunkEnd = Math.min(chunkStart + CHUNK_SECS, end);
+      Collection<Bucket> buckets =
+          aggregateRaw(conn, source, resolution, chunkStart, chunkEnd, null, null, false);
+      written += replaceRollups(conn, source, resolution, chunkStart, chunkEnd, buckets);
+      next = nextRawTimestamp(conn, source, chunkEnd);
+    }
+    return written;
+  }
+
+  /** Returns the end of the latest rolled up bucket of the resolution, or 0 if there is none. */
+  static long rolledUpUntil(Connection conn, Source source, MetricResolution resolution)
+      throws SQLException {
+    String sql = "SELECT MAX(bucket_ts) FROM " + source.rollupTable + " WHERE resolution_secs = ?";
+    try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+      pstmt.setLong(1, resolution.seconds());
+      try (ResultSet rs = pstmt.executeQuery()) {
+        if (rs.next()) {
+          long maxBucket = rs.getLong(1);
+          if (!rs.wasNull()) {
+            return maxBucket + resolution.seconds();
+          }
+        }
+        return 0L;
+      }
+    }
+  }
+
+  /** Reads the rollup rows of one identifier and partition within [fromSecs, toSecs). */
+  static List<Bucket> readRollups(
+      Connection conn,
+      Source source,
+      MetricResolution resolution,
+      long fromSecs,
+      long toSecs,
+      String identifier,
+      String partition)
+      throws SQLException {
+    StringBuilder sql =
+        new StringBuilder("SELECT metric_name, bucket_ts, sample_count, min_value, max_value, ")
+            .append("sum_value, last_ts, last_value FROM ")
+            .append(source.rollupTable)
+            .append(" WHERE ")
+            .append(source.identifierColumn)
+            .append(" = ? AND resolution_secs = ? AND bucket_ts >= ? AND bucket_ts < ?");
+    appendPartitionFilter(sql, source, partition);
+
+    List<Bucket> result = new ArrayList<>();
+    try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+      int index = 1;
+      pstmt.setString(index++, identifier);
+      pstmt.setLong(index++, resolution.seconds());
+      pstmt.setLong(index++, fromSecs);
+      pstmt.setLong(index++, toSecs);
+      if (source.partitioned && partition != null) {
+        pstmt.setString(index, partition);
+      }
+      try (ResultSet rs = pstmt.executeQuery()) {
+        while (rs.next()) {
+          Bucket bucket =
+              new Bucket(
+                  identifier, partition, rs.getString("metric_name"), rs.getLong("bucket_ts"));
+          bucket.sampleCount = rs.getLong("sample_count");
+          bucket.minValue = getDouble(rs, "min_value");
+          bucket.maxValue = getDouble(rs, "max_value");
+          bucket.sumValue = getDouble(rs, "sum_value");
+          bucket.lastTimestampSecs = rs.getLong("last_ts");
+          bucket.lastValue = rs.getString("last_value");
+          result.add(bucket);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Aggregates the raw points within [fromSecs, toSecs) into buckets of the resolution, restricted
+   * to one identifier and partition if {@code filtered} is true.
+   */
+  static Collection<Bucket> aggregateRaw(
+      Connection conn,
+      Source source,
+      MetricResolution resolution,
+      long fromSecs,
+      long toSecs,
+      String identifier,
+      String partition,
+      boolean filtered)
+      throws SQLException {
+    StringBuilder sql =
+        new StringBuilder("SELECT ")
+            .append(source.identifierColumn)
+            .append(", metric_name, ")
+            .append(source.partitioned ? "table_partition, " : "")
+            .append("metric_ts, metric_value FROM ")
+            .append(source.rawTable)
+            .append(" WHERE metric_ts >= ? AND metric_ts < ?");
+    if (filtered) {
+      sql.append(" AND ").append(source.identifierColumn).append(" = ?");
+      appendPartitionFilter(sql, source, partition);
+    }
+    sql.append(" ORDER BY metric_ts, id");
+
+    Map<BucketKey, Bucket> buckets = new LinkedHashMap<>();
+    try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+      int index = 1;
+      pstmt.setLong(index++, fromSecs);
+      pstmt.setLong(index++, toSecs);
+      if (filtered) {
+        pstmt.setString(index++, identifier);
+        if (source.partitioned && partition != null) {
+          pstmt.setString(index, partition);
+        }
+      }
+      try (ResultSet rs = pstmt.executeQuery()) {
+        while (rs.next()) {
+          String rowIdentifier = rs.getString(source.identifierColumn);
+          String rowPartition = source.partitioned ? rs.getString("table_partition") : null;
+          String metricName = rs.getString("metric_name");
+          long timestamp = rs.getLong("metric_ts");
+          long bucketStart = resolution.bucketStart(timestamp);
+          buckets
+              .computeIfAbsent(
+                  new BucketKey(rowIdentifier, rowPartition, metricName, bucketStart),
+                  key -> new Bucket(rowIdentifier, rowPartition, metricName, bucketStart))
+              .add(timestamp, rs.getString("metric_value"));
+        }
+      }
+    }
+    return buckets.values();
+  }
+
+  private static int replaceRollups(
+      Connection conn,
+      Source source,
+      MetricResolution resolution,
+      long fromSecs,
+      long toSecs,
+      Collection<Bucket> buckets)
+      throws SQLException {
+    String deleteSql =
+        "DELETE FROM "
+            + source.rollupTable
+            + " WHERE resolution_secs = ? AND bucket_ts >= ? AND bucket_ts < ?";
+    String insertSql =
+        "INSERT INTO "
+            + source.rollupTable
+            + " ("
+            + source.identifierColumn
+            + ", metric_name, "
+            + (source.partitioned ? "table_partition, " : "")
+            + "resolution_secs, bucket_ts, sample_count, min_value, max_value, sum_value, "
+            + "last_ts, last_value) VALUES (?, ?, "
+            + (source.partitioned ? "?, " : "")
+            + "?, ?, ?, ?, ?, ?, ?, ?)";
+
+    boolean autoCommit = conn.getAutoCommit();
+    conn.setAutoCommit(false);
+    try (PreparedStatement deleteStmt = conn.prepareStatement(deleteSql);
+        PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+      deleteStmt.setLong(1, resolution.seconds());
+      deleteStmt.setLong(2, fromSecs);
+      deleteStmt.setLong(3, toSecs);
+      deleteStmt.executeUpdate();
+
+      for (Bucket bucket : buckets) {
+        int index = 1;
+        insertStmt.setString(index++, bucket.identifier);
+        insertStmt.setString(index++, bucket.metricName);
+        if (source.partitioned) {
+          insertStmt.setString(index++, bucket.partition);
+        }
+        insertStmt.setLong(index++, resolution.seconds());
+        insertStmt.setLong(index++, bucket.bucketStartSecs);
+        insertStmt.setLong(index++, bucket.sampleCount);
+        setDouble(insertStmt, index++, bucket.minValue);
+        setDouble(insertStmt, index++, bucket.maxValue);
+        setDouble(insertStmt, index++, bucket.sumValue);
+        insertStmt.setLong(index++, bucket.lastTimestampSecs);
+        insertStmt.setString(index, bucket.lastValue);
+        insertStmt.addBatch();
+      }
+      if (!buckets.isEmpty()) {
+        insertStmt.executeBatch();
+      }
+      conn.commit();
+      return buckets.size();
+    } catch (SQLException e) {
+      conn.rollback();
+      throw e;
+    } finally {
+      conn.setAutoCommit(autoCommit);
+    }
+  }
+
+  private static Long nextRawTimestamp(Connection conn, Source source, long fromSecs)
+      throws SQLException {
+    String sql = "SELECT MIN(metric_ts) FROM " + source.rawTable + " WHERE metric_ts >= ?";
+    try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+      pstmt.setLong(1, fromSecs);
+      try (ResultSet rs = pstmt.executeQuery()) {
+        if (rs.next()) {
+          long timestamp = rs.getLong(1);
+          return rs.wasNull() ? null : timestamp;
+        }
+        return null;
+      }
+    }
+  }
+
+  private static void appendPartitionFilter(StringBuilder sql, Source source, String partition) {
+    if (!source.partitioned) {
+      return;
+    }
+    sql.append(partition == null ? " AND table_partition IS NULL" : " AND table_partition = ?");
+  }
+
+  private static Double getDouble(ResultSet rs, String column) throws SQLException {
+    double value = rs.getDouble(column);
+    return rs.wasNull() ? null : value;
+  }
+
+  private static void setDouble(PreparedStatement pstmt, int index, Double value)
+      throws SQLException {
+    if (value == null) {
+      pstmt.setNull(index, Types.DOUBLE);
+    } else {
+      pstmt.setDouble(index, value);
+    }
+  }
+}
@@ -49,6 +49,8 @@ public class OptimizerConfig extends Config {
   private static final String STRATEGY_PROVIDER = RECOMMENDER_PREFIX + "strategyProvider";
   private static final String TABLE_META_PROVIDER = RECOMMENDER_PREFIX + "tableMetaProvider";
   private static final String JOB_SUBMITTER = RECOMMENDER_PREFIX + "jobSubmitter";
+  private static final String RECOMMENDER_PARALLELISM = RECOMMENDER_PREFIX + "parallelism";
+  private static final String RECOMMENDER_PAGE_SIZE = RECOMMENDER_PREFIX + "pageSize";
 
   public static final String UPDATER_PREFIX = OPTIMIZER_PREFIX + "updater.";
   private static final String STATISTICS_UPDATER = UPDATER_PREFIX + "statisticsUpdater";
@@ -114,6 +116,26 @@ public class OptimizerConfig extends Config {
           .stringConf()
           .createWithDefault(DEFAULT_JOB_SUBMITTER);
 
+  public static final ConfigEntry<Integer> RECOMMENDER_PARALLELISM_CONFIG =
+      new ConfigBuilder(RECOMMENDER_PARALLELISM)
+          .doc(
+              "The max number of tables whose metadata and statistics are loaded and evaluated "
+                  + "concurrently by the recommender. 1 evaluates the tables sequentially.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Integer> RECOMMENDER_PAGE_SIZE_CONFIG =
+      new ConfigBuilder(RECOMMENDER_PAGE_SIZE)
+          .doc(
+              "The number of tables the recommender loads and evaluates as one page, it bounds "
+                  + "the number of in-flight evaluations.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(500);
+
   public static final ConfigEntry<String> STATISTICS_UPDATER_CONFIG =
       new ConfigBuilder(STATISTICS_UPDATER)
           .doc("The statistics updater implementation name (matches Provider.name()).")
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.maintenance.optimizer.recommender;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress counters of one strategy evaluation run of the {@link Recommender}. The counters are
+ * updated by the evaluation threads and could be read at any time while the run is in progress.
+ */
+public final class RecommendationProgress {
+  private final String strategyName;
+  private final long totalTables;
+  private final long startTimeMs;
+  private final AtomicLong evaluatedTables = new AtomicLong();
+  private final AtomicLong triggeredTables = new AtomicLong();
+  private final AtomicLong recommendedTables = new AtomicLong();
+  private final AtomicLong failedTables = new AtomicLong();
+
+  RecommendationProgress(String strategyName, long totalTables) {
+    this.strategyName = strategyName;
+    this.totalTables = totalTables;
+    this.startTimeMs = System.currentTimeMillis();
+  }
+
+  /**
+   * @return the strategy name being evaluated
+   */
+  public String strategyName() {
+    return strategyName;
+  }
+
+  /**
+   * @return the number of tables to evaluate
+   */
+  public long totalTables() {
+    return totalTables;
+  }
+
+  /**
+   * @return the number of tables whose evaluation is finished, including the failed ones
+   */
+  public long evaluatedTables() {
+    return evaluatedTables.get();
+  }
+
+  /**
+   * @return the number of tables whose strategy handler trigger condition is met
+   */
+  public long triggeredTables() {
+    return triggeredTables.get();
+  }
+
+  /**
+   * @return the number of tables with a non-negative score and a job execution context
+   */
+  public long recommendedTables() {
+    return recommendedTables.get();
+  }
+
+  /**
+   * @return the number of tables failed to load or evaluate
+   */
+  public long failedTables() {
+    return failedTables.get();
+  }
+
+  /**
+   * @return the elapsed time of the run in milliseconds
+   */
+  public long elapsedMs() {
+    return System.currentTimeMillis() - startTimeMs;
+  }
+
+  void onTriggered() {
+    triggeredTables.incrementAndGet();
+  }
+
+  void onRecommended() {
+    recommendedTables.incrementAndGet();
+  }
+
+  void onEvaluated(boolean failed) {
+    if (failed) {
+      failedTables.incrementAndGet();
+    }
+    evaluatedTables.incrementAndGet();
+  }
+
+  @Override
+  public String toString() {
+    long evaluated = evaluatedTables();
+    long elapsedMs = elapsedMs();
+    return String.format(
+        "strategy %s: evaluated %d/%d tables, triggered %d, recommended %d, failed %d, "
+            + "elapsed %d ms, %.1f tables/s",
+        strategyName,
+        evaluated,
+        totalTables,
+        triggeredTables(),
+        recommendedTables(),
+        failedTables(),
+        elapsedMs,
+        elapsedMs == 0 ? 0.0 : evaluated * 1000.0 / elapsedMs);
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.gravitino.maintenance.optimizer.recommender;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -28,8 +29,14 @@ import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.maintenance.optimizer.api.common.PartitionPath;
@@ -71,6 +78,11 @@ import org.slf4j.LoggerFactory;
  *       StrategyHandler#evaluate()} and optionally submit the resulting {@link JobExecutionContext}
  *       through the {@link JobSubmitter}.
  * </ol>
+ *
+ * <p>The identifiers are processed in pages of {@link OptimizerConfig#RECOMMENDER_PAGE_SIZE_CONFIG}
+ * tables, the tables of a page are loaded and evaluated concurrently by at most {@link
+ * OptimizerConfig#RECOMMENDER_PARALLELISM_CONFIG} threads, and only the top {@code limit}
+ * evaluations are kept in a bounded heap, so the memory doesn't grow with the number of tables.
  */
 public class Recommender implements AutoCloseable {
   private static final Logger LOG = LoggerFactory.getLogger(Recommender.class);
@@ -80,6 +92,9 @@ public class Recommender implements AutoCloseable {
   private final JobSubmitter jobSubmitter;
   private final CloseableGroup closeableGroup = new CloseableGroup();
   private final OptimizerEnv optimizerEnv;
+  private final int pageSize;
+  private final ExecutorService evaluationExecutor;
+  private volatile RecommendationProgress progress;
 
   /**
    * Create a recommender whose providers and submitter are resolved from the optimizer
@@ -105,6 +120,10 @@ public class Recommender implements AutoCloseable {
     this.jobSubmitter = loadJobSubmitter(config);
     this.jobSubmitter.initialize(optimizerEnv);
     closeableGroup.register(jobSubmitter, JobSubmitter.class.getSimpleName());
+
+    this.pageSize = config.get(OptimizerConfig.RECOMMENDER_PAGE_SIZE_CONFIG);
+    this.evaluationExecutor =
+        createEvaluationExecutor(config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG));
   }
 
   @VisibleForTesting
@@ -121,6 +140,11 @@ public class Recommender implements AutoCloseable {
     this.tableMetadataProvider = tableMetadataProvider;
     this.jobSubmitter = jobSubmitter;
 
+    OptimizerConfig config = optimizerEnv.config();
+    this.pageSize = config.get(OptimizerConfig.RECOMMENDER_PAGE_SIZE_CONFIG);
+    this.evaluationExecutor =
+        createEvaluationExecutor(config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG));
+
     addToCloseableGroup();
   }
 
@@ -147,7 +171,7 @@ public class Recommender implements AutoCloseable {
     for (Map.Entry<String, List<NameIdentifier>> entry : identifiersByStrategyName.entrySet()) {
       String strategyName = entry.getKey();
       List<StrategyEvaluation> evaluations =
-          recommendForOneStrategy(entry.getValue(), strategyName);
+          recommendForOneStrategy(entry.getValue(), strategyName, Integer.MAX_VALUE);
 
       if (evaluations.isEmpty()) {
         LOG.info("No evaluations for strategy {}", strategyName);
@@ -216,7 +240,7 @@ public class Recommender implements AutoCloseable {
         "No identifiers matched strategy name '%s' in input list.",
         strategyName);
     List<StrategyEvaluation> evaluations =
-        recommendForOneStrategy(identifiersForStrategy, strategyName);
+        recommendForOneStrategy(identifiersForStrategy, strategyName, limit);
     List<RecommendationResult> results = new ArrayList<>();
     int upperBound = Math.min(limit, evaluations.size());
     for (int index = 0; index < upperBound; index++) {
@@ -244,9 +268,21 @@ public class Recommender implements AutoCloseable {
     return results;
   }
 
+  /**
+   * Returns the progress of the current or the last strategy evaluation run.
+   *
+   * @return the progress, or empty if no strategy has been evaluated yet
+   */
+  public Optional<RecommendationProgress> progress() {
+    return Optional.ofNullable(progress);
+  }
+
   /** Close all registered providers and job submitter, suppressing secondary failures. */
   @Override
   public void close() throws Exception {
+    if (evaluationExecutor != null) {
+      evaluationExecutor.shutdownNow();
+    }
     closeableGroup.close();
   }
 
@@ -258,42 +294,116 @@ public class Recommender implements AutoCloseable {
   }
 
   private List<StrategyEvaluation> recommendForOneStrategy(
-      List<NameIdentifier> identifiers, String strategyName) {
-    LOG.info("Recommend strategy {} for identifiers {}", strategyName, identifiers);
+      List<NameIdentifier> identifiers, String strategyName, int limit) {
+    LOG.info("Recommend strategy {} for {} identifiers", strategyName, identifiers.size());
     Strategy strategy = strategyProvider.strategy(strategyName);
+    RecommendationProgress currentProgress =
+        new RecommendationProgress(strategyName, identifiers.size());
+    this.progress = currentProgress;
+
+    // A min-heap holding the best evaluations so far, its head is the worst one which will be
+    // replaced once a better evaluation comes.
+    Comparator<StrategyEvaluation> comparator = evaluationComparator();
+    PriorityQueue<StrategyEvaluation> topEvaluations = new PriorityQueue<>(comparator.reversed());
+    for (List<NameIdentifier> page : Lists.partition(identifiers, pageSize)) {
+      List<CompletableFuture<Optional<StrategyEvaluation>>> futures =
+          new ArrayList<>(page.size());
+      for (NameIdentifier identifier : page) {
+        futures.add(
+            evaluationExecutor == null
+                ? CompletableFuture.completedFuture(
+                    evaluateOne(strategy, identifier, currentProgress))
+                : CompletableFuture.supplyAsync(
+                    () -> evaluateOne(strategy, identifier, currentProgress),
+                    evaluationExecutor));
+      }
+
+      for (CompletableFuture<Optional<StrategyEvaluation>> future : futures) {
+        Optional<StrategyEvaluation> evaluation = join(future);
+        if (evaluation.isPresent()) {
+          topEvaluations.add(evaluation.get());
+          if (topEvaluations.size() > limit) {
+            topEvaluations.poll();
+          }
+        }
+      }
+      LOG.info("Recommend progress: {}", currentProgress);
+    }
+
+    List<StrategyEvaluation> results = new ArrayList<>(topEvaluations);
+    results.sort(comparator);
+    return results;
+  }
 
-    PriorityQueue<StrategyEvaluation> scoreQueue = new PriorityQueue<>(evaluationComparator());
-    for (NameIdentifier identifier : identifiers) {
+  private Optional<StrategyEvaluation> evaluateOne(
+      Strategy strategy, NameIdentifier identifier, RecommendationProgress currentProgress) {
+    String strategyName = strategy.name();
+    boolean failed = true;
+    try {
       StrategyHandler strategyHandler = loadStrategyHandler(strategy, identifier);
       if (!strategyHandler.shouldTrigger()) {
-        LOG.info(
-            "Skip strategy {} for identifier {} because strategy handler trigger condition is not met",
+        LOG.debug(
+            "Skip strategy {} for identifier {} because strategy handler trigger condition "
+                + "is not met",
             strategyName,
             identifier);
-        continue;
+        failed = false;
+        return Optional.empty();
       }
+      currentProgress.onTriggered();
+
       StrategyEvaluation evaluation = strategyHandler.evaluate();
+      failed = false;
       if (evaluation.score() < 0 || evaluation.jobExecutionContext().isEmpty()) {
-        LOG.info(
+        LOG.debug(
             "Skip strategy {} for identifier {} because evaluation score is negative "
                 + "or job execution context is missing",
             strategyName,
             identifier);
-        continue;
+        return Optional.empty();
       }
-      LOG.info(
+      LOG.debug(
           "Recommend strategy {} for identifier {} score: {}",
           strategyName,
           identifier,
           evaluation.score());
-      scoreQueue.add(evaluation);
+      currentProgress.onRecommended();
+      return Optional.of(evaluation);
+    } finally {
+      currentProgress.onEvaluated(failed);
+    }
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
     }
+  }
 
-    List<StrategyEvaluation> results = new ArrayList<>();
-    while (!scoreQueue.isEmpty()) {
-      results.add(scoreQueue.poll());
+  private static ExecutorService createEvaluationExecutor(int parallelism) {
+    // Evaluate in the caller thread if there is no parallelism.
+    if (parallelism <= 1) {
+      return null;
     }
-    return results;
+
+    AtomicInteger threadIndex = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        parallelism,
+        runnable -> {
+          Thread thread = new Thread(runnable);
+          thread.setDaemon(true);
+          thread.setName("recommender-evaluation-" + threadIndex.incrementAndGet());
+          return thread;
+        });
   }
 
   private Comparator<StrategyEvaluation> evaluationComparator() {
@@ -23,15 +23,33 @@ import com.alibaba.qlexpress4.Express4Runner;
 import com.alibaba.qlexpress4.InitOptions;
 import com.alibaba.qlexpress4.QLOptions;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
+/**
+ * Evaluates strategy expressions with QLExpress. The strategies are shared by many tables, so both
+ * the normalized expression text and the compiled script are cached: the former is keyed by the
+ * expression and the context keys it rewrites, the latter by QLExpress itself.
+ */
 public class QLExpressionEvaluator implements ExpressionEvaluator {
   private static final Express4Runner RUNNER = new Express4Runner(InitOptions.DEFAULT_OPTIONS);
+  private static final QLOptions CACHED_OPTIONS = QLOptions.builder().cache(true).build();
+  private static final int MAX_CACHED_EXPRESSIONS = 1024;
+
+  // The key is the raw expression and the context keys to normalize, the value is the expression
+  // with those keys rewritten to valid QLExpress identifiers.
+  private static final Cache<Pair<String, Set<String>>, String> FORMATTED_EXPRESSIONS =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).build();
 
   @Override
   public long evaluateLong(String expression, Map<String, Object> context) {
@@ -46,12 +64,32 @@ public class QLExpressionEvaluator implements ExpressionEvaluator {
   private Object evaluate(String expression, Map<String, Object> context) {
     Preconditions.checkArgument(StringUtils.isNotBlank(expression), "expression is blank");
     Preconditions.checkArgument(context != null, "context is null");
-    String formattedExpression = formatExpression(expression, context);
+    String formattedExpression = formattedExpression(expression, context);
     return RUNNER
-        .execute(formattedExpression, formatContextKey(context), QLOptions.DEFAULT_OPTIONS)
+        .execute(formattedExpression, formatContextKey(context), CACHED_OPTIONS)
         .getResult();
   }
 
+  private String formattedExpression(String expression, Map<String, Object> context) {
+    Set<String> keysToNormalize = new TreeSet<>();
+    for (String key : context.keySet()) {
+      if (!key.equals(normalizeIdentifier(key))) {
+        keysToNormalize.add(key);
+      }
+    }
+    if (keysToNormalize.isEmpty()) {
+      return expression;
+    }
+
+    try {
+      return FORMATTED_EXPRESSIONS.get(
+          Pair.of(expression, keysToNormalize), () -> formatExpression(expression, context));
+    } catch (ExecutionException e) {
+      throw new IllegalArgumentException(
+          "Failed to format expression: " + expression, e.getCause());
+    }
+  }
+
   private Map<String, Object> formatContextKey(Map<String, Object> context) {
     return context.entrySet().stream()
         .collect(
@@ -22,6 +22,7 @@ package org.apache.gravitino.maintenance.optimizer.integration.test.storage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
@@ -30,6 +31,8 @@ import org.apache.gravitino.maintenance.optimizer.api.common.MetricPoint;
 import org.apache.gravitino.maintenance.optimizer.common.conf.OptimizerConfig;
 import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.BaseGenericJdbcMetricsRepositoryTest;
 import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricRecord;
+import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricResolution;
+import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.MetricRollup;
 import org.apache.gravitino.maintenance.optimizer.updater.metrics.storage.jdbc.GenericJdbcMetricsRepository;
 import org.apache.gravitino.stats.StatisticValues;
 import org.junit.jupiter.api.AfterAll;
@@ -102,6 +105,83 @@ class TestH2GenericJdbcMetricsRepositoryIT extends BaseGenericJdbcMetricsReposit
     }
   }
 
+  @Test
+  void testRollupMetrics() {
+    String rollupJdbcUrl = withSuffix(jdbcUrl, "_rollup");
+    initializeSchema(rollupJdbcUrl);
+    Map<String, String> configs = new HashMap<>(createJdbcConfigs(rollupJdbcUrl));
+    configs.put(
+        OptimizerConfig.OPTIMIZER_PREFIX
+            + GenericJdbcMetricsRepository.JDBC_METRICS_PREFIX
+            + GenericJdbcMetricsRepository.ROLLUP_INTERVAL_SECS,
+        "0");
+    GenericJdbcMetricsRepository repository = new GenericJdbcMetricsRepository();
+    repository.initialize(configs);
+    try {
+      NameIdentifier tableId = NameIdentifier.of("catalog", "db", "rollup_table");
+      NameIdentifier jobId = NameIdentifier.of("job", "rollup_job");
+      long day = MetricResolution.DAY.seconds();
+      long hour = MetricResolution.HOUR.seconds();
+      long start = 100 * day;
+      // Four points per hour over the first three days
+      for (long ts = start; ts < start + 3 * day; ts += hour / 4) {
+        repository.storeTableAndPartitionMetrics(
+            List.of(
+                MetricPoint.forTable(
+                    tableId, "file_count", StatisticValues.longValue(ts - start), ts),
+                MetricPoint.forTable(tableId, "format", StatisticValues.stringValue("orc"), ts)));
+      }
+      repository.storeJobMetrics(
+          List.of(MetricPoint.forJob(jobId, "duration", StatisticValues.doubleValue(1.5), start)));
+
+      Assertions.assertEquals(0, repository.rollupMetrics(start));
+      // 2 table metrics * (48 + 2) buckets + 1 job metric * (1 + 1) buckets
+      Assertions.assertEquals(102, repository.rollupMetrics(start + 2 * day));
+      // Nothing new to roll up, rerun is a no-op
+      Assertions.assertEquals(0, repository.rollupMetrics(start + 2 * day));
+
+      DataScope tableScope = DataScope.forTable(tableId);
+      List<MetricRollup> daily = repository.getRollupMetrics(tableScope, start, start + 3 * day, 3);
+      Assertions.assertEquals(6, daily.size());
+      MetricRollup firstDay = daily.get(0);
+      Assertions.assertEquals("file_count", firstDay.metricName());
+      Assertions.assertEquals(MetricResolution.DAY, firstDay.resolution());
+      Assertions.assertEquals(start, firstDay.bucketStartSecs());
+      Assertions.assertEquals(96, firstDay.sampleCount());
+      Assertions.assertEquals(0, firstDay.min().getAsDouble());
+      Assertions.assertEquals(day - hour / 4, firstDay.max().getAsDouble());
+      Assertions.assertEquals((day - hour / 4) / 2.0, firstDay.avg().getAsDouble());
+      Assertions.assertEquals(start + day - hour / 4, firstDay.lastTimestampSecs());
+
+      // The third day is not rolled up yet and is aggregated from the raw points
+      MetricRollup thirdDay = daily.get(2);
+      Assertions.assertEquals(start + 2 * day, thirdDay.bucketStartSecs());
+      Assertions.assertEquals(96, thirdDay.sampleCount());
+      Assertions.assertEquals(3 * day - hour / 4, thirdDay.max().getAsDouble());
+
+      MetricRollup format = daily.get(3);
+      Assertions.assertEquals("format", format.metricName());
+      Assertions.assertFalse(format.avg().isPresent());
+      Assertions.assertEquals(StatisticValues.stringValue("orc"), format.lastValue());
+
+      List<MetricRollup> hourly = repository.getRollupMetrics(tableScope, start, start + day, 3);
+      Assertions.assertEquals(48, hourly.size());
+      Assertions.assertEquals(MetricResolution.HOUR, hourly.get(0).resolution());
+      Assertions.assertEquals(4, hourly.get(0).sampleCount());
+
+      List<MetricRollup> raw = repository.getRollupMetrics(tableScope, start, start + hour, 3);
+      Assertions.assertEquals(8, raw.size());
+      Assertions.assertEquals(MetricResolution.RAW, raw.get(0).resolution());
+
+      List<MetricRollup> job =
+          repository.getRollupMetrics(DataScope.forJob(jobId), start, start + 3 * day, 3);
+      Assertions.assertEquals(1, job.size());
+      Assertions.assertEquals(1.5, job.get(0).avg().getAsDouble());
+    } finally {
+      cleanupAndClose(repository);
+    }
+  }
+
   private Map<String, String> createJdbcConfigs(String jdbcUrl) {
     return Map.of(
         OptimizerConfig.OPTIMIZER_PREFIX
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.maintenance.optimizer.recommender;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -210,14 +211,73 @@ class TestRecommenderExecutionMode {
     Assertions.assertTrue(exception.getMessage().contains("limit must be > 0"));
   }
 
+  @Test
+  void testParallelRecommendKeepsTopScores() throws Exception {
+    Strategy strategy = new TestStrategy("s1", STRATEGY_TYPE, "tpl-1");
+    StrategyProvider strategyProvider = Mockito.mock(StrategyProvider.class);
+    List<NameIdentifier> identifiers = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      NameIdentifier identifier = NameIdentifier.of("catalog", "db", "table" + i);
+      identifiers.add(identifier);
+      Mockito.when(strategyProvider.strategies(identifier)).thenReturn(List.of(strategy));
+    }
+    Mockito.when(strategyProvider.strategy("s1")).thenReturn(strategy);
+
+    try (Recommender recommender =
+        createRecommender(
+            strategyProvider,
+            Mockito.mock(StatisticsProvider.class),
+            Mockito.mock(TableMetadataProvider.class),
+            Mockito.mock(JobSubmitter.class),
+            ScoreByNameStrategyHandler.class,
+            4,
+            3)) {
+      List<Recommender.RecommendationResult> results =
+          recommender.recommendForStrategyName(identifiers, "s1", 3);
+
+      Assertions.assertEquals(3, results.size());
+      Assertions.assertEquals("table19", results.get(0).identifier().name());
+      Assertions.assertEquals("table18", results.get(1).identifier().name());
+      Assertions.assertEquals("table17", results.get(2).identifier().name());
+
+      RecommendationProgress progress = recommender.progress().orElseThrow();
+      Assertions.assertEquals(20, progress.totalTables());
+      Assertions.assertEquals(20, progress.evaluatedTables());
+      Assertions.assertEquals(20, progress.triggeredTables());
+      Assertions.assertEquals(20, progress.recommendedTables());
+      Assertions.assertEquals(0, progress.failedTables());
+    }
+  }
+
   private static Recommender createRecommender(
       StrategyProvider strategyProvider,
       StatisticsProvider statisticsProvider,
       TableMetadataProvider tableMetadataProvider,
       JobSubmitter jobSubmitter) {
+    return createRecommender(
+        strategyProvider,
+        statisticsProvider,
+        tableMetadataProvider,
+        jobSubmitter,
+        TestStrategyHandler.class,
+        1,
+        500);
+  }
+
+  private static Recommender createRecommender(
+      StrategyProvider strategyProvider,
+      StatisticsProvider statisticsProvider,
+      TableMetadataProvider tableMetadataProvider,
+      JobSubmitter jobSubmitter,
+      Class<? extends StrategyHandler> strategyHandlerClass,
+      int parallelism,
+      int pageSize) {
     OptimizerConfig config = Mockito.mock(OptimizerConfig.class);
     Mockito.when(config.getStrategyHandlerClassName(STRATEGY_TYPE))
-        .thenReturn(TestStrategyHandler.class.getName());
+        .thenReturn(strategyHandlerClass.getName());
+    Mockito.when(config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG))
+        .thenReturn(parallelism);
+    Mockito.when(config.get(OptimizerConfig.RECOMMENDER_PAGE_SIZE_CONFIG)).thenReturn(pageSize);
     OptimizerEnv optimizerEnv = Mockito.mock(OptimizerEnv.class);
     Mockito.when(optimizerEnv.config()).thenReturn(config);
     return new Recommender(
@@ -276,6 +336,34 @@ class TestRecommenderExecutionMode {
     }
   }
 
+  /** Scores a table by the number suffix of its name. */
+  public static class ScoreByNameStrategyHandler extends TestStrategyHandler {
+    private NameIdentifier identifier;
+
+    @Override
+    public void initialize(StrategyHandlerContext context) {
+      super.initialize(context);
+      this.identifier = context.nameIdentifier();
+    }
+
+    @Override
+    public StrategyEvaluation evaluate() {
+      StrategyEvaluation evaluation = super.evaluate();
+      long score = Long.parseLong(identifier.name().replace("table", ""));
+      return new StrategyEvaluation() {
+        @Override
+        public long score() {
+          return score;
+        }
+
+        @Override
+        public Optional<JobExecutionContext> jobExecutionContext() {
+          return evaluation.jobExecutionContext();
+        }
+      };
+    }
+  }
+
   private static final class TestStrategy implements Strategy {
     private final String name;
     private final String strategyType;
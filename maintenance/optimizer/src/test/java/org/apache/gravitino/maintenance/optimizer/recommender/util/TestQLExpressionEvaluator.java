@@ -72,6 +72,22 @@ public class TestQLExpressionEvaluator {
     Assertions.assertFalse(result);
   }
 
+  @Test
+  void testEvaluateCachedExpressionWithDifferentContexts() {
+    String expression = "data-file-count * 2 + delete_count";
+    for (int i = 0; i < 3; i++) {
+      Map<String, Object> context = new HashMap<>();
+      context.put("data-file-count", i);
+      context.put("delete_count", 1);
+      assertEquals(i * 2L + 1, evaluator.evaluateLong(expression, context));
+    }
+
+    // The same expression with a context without hyphenated keys is not rewritten
+    Map<String, Object> context = new HashMap<>();
+    context.put("x", 1);
+    assertTrue(evaluator.evaluateBool("x > 0", context));
+  }
+
   @Test
   void testEvaluateWithMissingVariable() {
     Map<String, Object> context = new HashMap<>();
@@ -108,3 +108,116 @@ CREATE INDEX IF NOT EXISTS `idx_table_metrics_composite`
   ON `table_metrics`(`table_identifier`, `table_partition`, `metric_ts`);
 CREATE INDEX IF NOT EXISTS `idx_job_metrics_identifier_metric_ts`
   ON `job_metrics`(`job_identifier`, `metric_ts`);
+
+CREATE TABLE IF NOT EXISTS `table_metrics_rollup` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `table_identifier` VARCHAR(1024) NOT NULL COMMENT 'normalized table identifier',
+    `metric_name` VARCHAR(1024) NOT NULL COMMENT 'metric name',
+    `table_partition` VARCHAR(1024) DEFAULT NULL COMMENT 'normalized partition identifier',
+    `resolution_secs` BIGINT(20) NOT NULL COMMENT 'bucket width in seconds',
+    `bucket_ts` BIGINT(20) NOT NULL COMMENT 'bucket start in epoch seconds',
+    `sample_count` BIGINT(20) NOT NULL COMMENT 'number of raw points in the bucket',
+    `min_value` DOUBLE DEFAULT NULL COMMENT 'min value of numeric metrics',
+    `max_value` DOUBLE DEFAULT NULL COMMENT 'max value of numeric metrics',
+    `sum_value` DOUBLE DEFAULT NULL COMMENT 'sum of the values of numeric metrics',
+    `last_ts` BIGINT(20) NOT NULL COMMENT 'timestamp of the last raw point in epoch seconds',
+    `last_value` VARCHAR(1024) NOT NULL COMMENT 'value payload of the last raw point',
+    PRIMARY KEY (`id`)
+) ENGINE=InnoDB COMMENT='optimizer table metrics rollups';
+
+CREATE TABLE IF NOT EXISTS `job_metrics_rollup` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `job_identifier` VARCHAR(1024) NOT NULL COMMENT 'normalized job identifier',
+    `metric_name` VARCHAR(1024) NOT NULL COMMENT 'metric name',
+    `resolution_secs` BIGINT(20) NOT NULL COMMENT 'bucket width in seconds',
+    `bucket_ts` BIGINT(20) NOT NULL COMMENT 'bucket start in epoch seconds',
+    `sample_count` BIGINT(20) NOT NULL COMMENT 'number of raw points in the bucket',
+    `min_value` DOUBLE DEFAULT NULL COMMENT 'min value of numeric metrics',
+    `max_value` DOUBLE DEFAULT NULL COMMENT 'max value of numeric metrics',
+    `sum_value` DOUBLE DEFAULT NULL COMMENT 'sum of the values of numeric metrics',
+    `last_ts` BIGINT(20) NOT NULL COMMENT 'timestamp of the last raw point in epoch seconds',
+    `last_value` VARCHAR(1024) NOT NULL COMMENT 'value payload of the last raw point',
+    PRIMARY KEY (`id`)
+) ENGINE=InnoDB COMMENT='optimizer job metrics rollups';
+
+CREATE INDEX IF NOT EXISTS `idx_table_metrics_rollup_resolution_bucket`
+  ON `table_metrics_rollup`(`resolution_secs`, `bucket_ts`);
+CREATE INDEX IF NOT EXISTS `idx_table_metrics_rollup_composite`
+  ON `table_metrics_rollup`(`table_identifier`, `table_partition`, `resolution_secs`, `bucket_ts`);
+CREATE INDEX IF NOT EXISTS `idx_job_metrics_rollup_resolution_bucket`
+  ON `job_metrics_rollup`(`resolution_secs`, `bucket_ts`);
+CREATE INDEX IF NOT EXISTS `idx_job_metrics_rollup_composite`
+  ON `job_metrics_rollup`(`job_identifier`, `resolution_secs`, `bucket_ts`);
+
+-- Lineage graph schema
+CREATE TABLE IF NOT EXISTS `lineage_node` (
+    `node_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'node id, the metadata object id for Gravitino managed datasets',
+    `node_namespace` VARCHAR(128) NOT NULL COMMENT 'OpenLineage dataset namespace',
+    `node_name` VARCHAR(512) NOT NULL COMMENT 'OpenLineage dataset name',
+    `metadata_object_type` VARCHAR(64) DEFAULT NULL COMMENT 'metadata object type, null for external datasets',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'creation timestamp in milliseconds',
+    PRIMARY KEY (`node_id`),
+    UNIQUE KEY `uk_ns_name` (`node_namespace`, `node_name`)
+) ENGINE=InnoDB COMMENT='lineage graph nodes';
+
+CREATE TABLE IF NOT EXISTS `lineage_edge` (
+    `source_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'upstream node id',
+    `target_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'downstream node id',
+    `job_namespace` VARCHAR(128) NOT NULL COMMENT 'namespace of the last job producing this edge',
+    `job_name` VARCHAR(512) NOT NULL COMMENT 'name of the last job producing this edge',
+    `run_id` VARCHAR(64) NOT NULL COMMENT 'id of the last run producing this edge',
+    `first_seen_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'first event timestamp in milliseconds',
+    `last_seen_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'last event timestamp in milliseconds',
+    PRIMARY KEY (`source_id`, `target_id`)
+) ENGINE=InnoDB COMMENT='lineage graph edges';
+
+CREATE INDEX IF NOT EXISTS `idx_lineage_edge_target` ON `lineage_edge`(`target_id`, `source_id`);
+
+-- Id generator node lease schema
+CREATE TABLE IF NOT EXISTS `id_generator_node_lease` (
+    `node_id` INT NOT NULL COMMENT 'node id of the snowflake id generator',
+    `lease_owner` VARCHAR(256) NOT NULL COMMENT 'the server instance holding the node id',
+    `lease_expire_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'lease expiration timestamp in milliseconds',
+    PRIMARY KEY (`node_id`)
+) ENGINE=InnoDB COMMENT='id generator node leases';
+
+-- Current columns of the tables, materialized from table_column_version_info
+CREATE TABLE IF NOT EXISTS `table_column_current_info` (
+    `table_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'table id',
+    `column_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'column id',
+    `metalake_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'metalake id',
+    `catalog_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'catalog id',
+    `schema_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'schema id',
+    `table_version` INT UNSIGNED NOT NULL COMMENT 'table version the column was last changed in',
+    `column_name` VARCHAR(128) NOT NULL COMMENT 'column name',
+    `column_position` INT UNSIGNED NOT NULL COMMENT 'column position, starting from 0',
+    `column_type` CLOB NOT NULL COMMENT 'column type',
+    `column_comment` VARCHAR(256) DEFAULT '' COMMENT 'column comment',
+    `column_nullable` TINYINT(1) NOT NULL DEFAULT 1 COMMENT 'column nullable, 0 is not nullable, 1 is nullable',
+    `column_auto_increment` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'column auto increment, 0 is not auto increment, 1 is auto increment',
+    `column_default_value` CLOB DEFAULT NULL COMMENT 'column default value',
+    `column_op_type` TINYINT(1) NOT NULL COMMENT 'column operation type, 1 is create, 2 is update',
+    `audit_info` CLOB NOT NULL COMMENT 'column audit info',
+    PRIMARY KEY (`table_id`, `column_id`),
+    KEY `idx_tccmid` (`metalake_id`),
+    KEY `idx_tcccid` (`catalog_id`),
+    KEY `idx_tccsid` (`schema_id`)
+) ENGINE=InnoDB;
+
+INSERT INTO `table_column_current_info` (`table_id`, `column_id`, `metalake_id`, `catalog_id`,
+    `schema_id`, `table_version`, `column_name`, `column_position`, `column_type`,
+    `column_comment`, `column_nullable`, `column_auto_increment`, `column_default_value`,
+    `column_op_type`, `audit_info`)
+SELECT c.table_id, c.column_id, c.metalake_id, c.catalog_id, c.schema_id, c.table_version, c.column_name,
+    c.column_position, c.column_type, c.column_comment, c.column_nullable, c.column_auto_increment,
+    c.column_default_value, c.column_op_type, c.audit_info
+FROM `table_column_version_info` c
+JOIN (
+    SELECT cv.table_id, cv.column_id, MAX(cv.table_version) AS max_table_version
+    FROM `table_column_version_info` cv
+    JOIN `table_meta` tm ON cv.table_id = tm.table_id AND tm.deleted_at = 0
+    WHERE cv.table_version <= tm.current_version AND cv.deleted_at = 0
+    GROUP BY cv.table_id, cv.column_id
+) latest ON c.table_id = latest.table_id AND c.column_id = latest.column_id
+    AND c.table_version = latest.max_table_version
+WHERE c.deleted_at = 0 AND c.column_op_type <> 3;
@@ -164,3 +164,177 @@ COMMENT ON COLUMN job_metrics.job_identifier IS 'normalized job identifier';
 COMMENT ON COLUMN job_metrics.metric_name IS 'metric name';
 COMMENT ON COLUMN job_metrics.metric_ts IS 'metric timestamp in epoch seconds';
 COMMENT ON COLUMN job_metrics.metric_value IS 'metric value payload';
+
+CREATE TABLE IF NOT EXISTS table_metrics_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    table_identifier VARCHAR(1024) NOT NULL,
+    metric_name VARCHAR(1024) NOT NULL,
+    table_partition VARCHAR(1024) DEFAULT NULL,
+    resolution_secs BIGINT NOT NULL,
+    bucket_ts BIGINT NOT NULL,
+    sample_count BIGINT NOT NULL,
+    min_value DOUBLE PRECISION DEFAULT NULL,
+    max_value DOUBLE PRECISION DEFAULT NULL,
+    sum_value DOUBLE PRECISION DEFAULT NULL,
+    last_ts BIGINT NOT NULL,
+    last_value VARCHAR(1024) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS job_metrics_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    job_identifier VARCHAR(1024) NOT NULL,
+    metric_name VARCHAR(1024) NOT NULL,
+    resolution_secs BIGINT NOT NULL,
+    bucket_ts BIGINT NOT NULL,
+    sample_count BIGINT NOT NULL,
+    min_value DOUBLE PRECISION DEFAULT NULL,
+    max_value DOUBLE PRECISION DEFAULT NULL,
+    sum_value DOUBLE PRECISION DEFAULT NULL,
+    last_ts BIGINT NOT NULL,
+    last_value VARCHAR(1024) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_table_metrics_rollup_resolution_bucket
+  ON table_metrics_rollup(resolution_secs, bucket_ts);
+CREATE INDEX IF NOT EXISTS idx_table_metrics_rollup_composite
+  ON table_metrics_rollup(table_identifier, table_partition, resolution_secs, bucket_ts);
+CREATE INDEX IF NOT EXISTS idx_job_metrics_rollup_resolution_bucket
+  ON job_metrics_rollup(resolution_secs, bucket_ts);
+CREATE INDEX IF NOT EXISTS idx_job_metrics_rollup_composite
+  ON job_metrics_rollup(job_identifier, resolution_secs, bucket_ts);
+
+COMMENT ON TABLE table_metrics_rollup IS 'optimizer table metrics rollups';
+COMMENT ON TABLE job_metrics_rollup IS 'optimizer job metrics rollups';
+COMMENT ON COLUMN table_metrics_rollup.id IS 'auto increment id';
+COMMENT ON COLUMN table_metrics_rollup.table_identifier IS 'normalized table identifier';
+COMMENT ON COLUMN table_metrics_rollup.metric_name IS 'metric name';
+COMMENT ON COLUMN table_metrics_rollup.table_partition IS 'normalized partition identifier';
+COMMENT ON COLUMN table_metrics_rollup.resolution_secs IS 'bucket width in seconds';
+COMMENT ON COLUMN table_metrics_rollup.bucket_ts IS 'bucket start in epoch seconds';
+COMMENT ON COLUMN table_metrics_rollup.sample_count IS 'number of raw points in the bucket';
+COMMENT ON COLUMN table_metrics_rollup.min_value IS 'min value of numeric metrics';
+COMMENT ON COLUMN table_metrics_rollup.max_value IS 'max value of numeric metrics';
+COMMENT ON COLUMN table_metrics_rollup.sum_value IS 'sum of the values of numeric metrics';
+COMMENT ON COLUMN table_metrics_rollup.last_ts IS 'timestamp of the last raw point in epoch seconds';
+COMMENT ON COLUMN table_metrics_rollup.last_value IS 'value payload of the last raw point';
+COMMENT ON COLUMN job_metrics_rollup.id IS 'auto increment id';
+COMMENT ON COLUMN job_metrics_rollup.job_identifier IS 'normalized job identifier';
+COMMENT ON COLUMN job_metrics_rollup.metric_name IS 'metric name';
+COMMENT ON COLUMN job_metrics_rollup.resolution_secs IS 'bucket width in seconds';
+COMMENT ON COLUMN job_metrics_rollup.bucket_ts IS 'bucket start in epoch seconds';
+COMMENT ON COLUMN job_metrics_rollup.sample_count IS 'number of raw points in the bucket';
+COMMENT ON COLUMN job_metrics_rollup.min_value IS 'min value of numeric metrics';
+COMMENT ON COLUMN job_metrics_rollup.max_value IS 'max value of numeric metrics';
+COMMENT ON COLUMN job_metrics_rollup.sum_value IS 'sum of the values of numeric metrics';
+COMMENT ON COLUMN job_metrics_rollup.last_ts IS 'timestamp of the last raw point in epoch seconds';
+COMMENT ON COLUMN job_metrics_rollup.last_value IS 'value payload of the last raw point';
+
+-- Lineage graph schema
+CREATE TABLE IF NOT EXISTS lineage_node (
+    node_id BIGINT NOT NULL,
+    node_namespace VARCHAR(128) NOT NULL,
+    node_name VARCHAR(512) NOT NULL,
+    metadata_object_type VARCHAR(64) DEFAULT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (node_id),
+    UNIQUE (node_namespace, node_name)
+);
+
+CREATE TABLE IF NOT EXISTS lineage_edge (
+    source_id BIGINT NOT NULL,
+    target_id BIGINT NOT NULL,
+    job_namespace VARCHAR(128) NOT NULL,
+    job_name VARCHAR(512) NOT NULL,
+    run_id VARCHAR(64) NOT NULL,
+    first_seen_at BIGINT NOT NULL,
+    last_seen_at BIGINT NOT NULL,
+    PRIMARY KEY (source_id, target_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_lineage_edge_target ON lineage_edge(target_id, source_id);
+
+COMMENT ON TABLE lineage_node IS 'lineage graph nodes';
+COMMENT ON COLUMN lineage_node.node_id IS 'node id, the metadata object id for Gravitino managed datasets';
+COMMENT ON COLUMN lineage_node.node_namespace IS 'OpenLineage dataset namespace';
+COMMENT ON COLUMN lineage_node.node_name IS 'OpenLineage dataset name';
+COMMENT ON COLUMN lineage_node.metadata_object_type IS 'metadata object type, null for external datasets';
+COMMENT ON COLUMN lineage_node.created_at IS 'creation timestamp in milliseconds';
+COMMENT ON TABLE lineage_edge IS 'lineage graph edges';
+COMMENT ON COLUMN lineage_edge.source_id IS 'upstream node id';
+COMMENT ON COLUMN lineage_edge.target_id IS 'downstream node id';
+COMMENT ON COLUMN lineage_edge.job_namespace IS 'namespace of the last job producing this edge';
+COMMENT ON COLUMN lineage_edge.job_name IS 'name of the last job producing this edge';
+COMMENT ON COLUMN lineage_edge.run_id IS 'id of the last run producing this edge';
+COMMENT ON COLUMN lineage_edge.first_seen_at IS 'first event timestamp in milliseconds';
+COMMENT ON COLUMN lineage_edge.last_seen_at IS 'last event timestamp in milliseconds';
+
+-- Id generator node lease schema
+CREATE TABLE IF NOT EXISTS id_generator_node_lease (
+    node_id INT NOT NULL,
+    lease_owner VARCHAR(256) NOT NULL,
+    lease_expire_at BIGINT NOT NULL,
+    PRIMARY KEY (node_id)
+);
+
+COMMENT ON TABLE id_generator_node_lease IS 'id generator node leases';
+COMMENT ON COLUMN id_generator_node_lease.node_id IS 'node id of the snowflake id generator';
+COMMENT ON COLUMN id_generator_node_lease.lease_owner IS 'the server instance holding the node id';
+COMMENT ON COLUMN id_generator_node_lease.lease_expire_at IS 'lease expiration timestamp in milliseconds';
+
+-- Current columns of the tables, materialized from table_column_version_info
+CREATE TABLE IF NOT EXISTS table_column_current_info (
+    table_id BIGINT NOT NULL,
+    column_id BIGINT NOT NULL,
+    metalake_id BIGINT NOT NULL,
+    catalog_id BIGINT NOT NULL,
+    schema_id BIGINT NOT NULL,
+    table_version INT NOT NULL,
+    column_name VARCHAR(128) NOT NULL,
+    column_position INT NOT NULL,
+    column_type TEXT NOT NULL,
+    column_comment VARCHAR(256) DEFAULT '',
+    column_nullable SMALLINT NOT NULL DEFAULT 1,
+    column_auto_increment SMALLINT NOT NULL DEFAULT 0,
+    column_default_value TEXT DEFAULT NULL,
+    column_op_type SMALLINT NOT NULL,
+    audit_info TEXT NOT NULL,
+    PRIMARY KEY (table_id, column_id)
+);
+CREATE INDEX IF NOT EXISTS table_column_current_info_idx_mid ON table_column_current_info (metalake_id);
+CREATE INDEX IF NOT EXISTS table_column_current_info_idx_cid ON table_column_current_info (catalog_id);
+CREATE INDEX IF NOT EXISTS table_column_current_info_idx_sid ON table_column_current_info (schema_id);
+COMMENT ON TABLE table_column_current_info IS 'table current column info';
+
+COMMENT ON COLUMN table_column_current_info.table_id IS 'table id';
+COMMENT ON COLUMN table_column_current_info.column_id IS 'column id';
+COMMENT ON COLUMN table_column_current_info.metalake_id IS 'metalake id';
+COMMENT ON COLUMN table_column_current_info.catalog_id IS 'catalog id';
+COMMENT ON COLUMN table_column_current_info.schema_id IS 'schema id';
+COMMENT ON COLUMN table_column_current_info.table_version IS 'table version the column was last changed in';
+COMMENT ON COLUMN table_column_current_info.column_name IS 'column name';
+COMMENT ON COLUMN table_column_current_info.column_position IS 'column position, starting from 0';
+COMMENT ON COLUMN table_column_current_info.column_type IS 'column type';
+COMMENT ON COLUMN table_column_current_info.column_comment IS 'column comment';
+COMMENT ON COLUMN table_column_current_info.column_nullable IS 'column nullable, 0 is not nullable, 1 is nullable';
+COMMENT ON COLUMN table_column_current_info.column_auto_increment IS 'column auto increment, 0 is not auto increment, 1 is auto increment';
+COMMENT ON COLUMN table_column_current_info.column_default_value IS 'column default value';
+COMMENT ON COLUMN table_column_current_info.column_op_type IS 'column operation type, 1 is create, 2 is update';
+COMMENT ON COLUMN table_column_current_info.audit_info IS 'column audit info';
+
+INSERT INTO table_column_current_info (table_id, column_id, metalake_id, catalog_id,
+    schema_id, table_version, column_name, column_position, column_type,
+    column_comment, column_nullable, column_auto_increment, column_default_value,
+    column_op_type, audit_info)
+SELECT c.table_id, c.column_id, c.metalake_id, c.catalog_id, c.schema_id, c.table_version, c.column_name,
+    c.column_position, c.column_type, c.column_comment, c.column_nullable, c.column_auto_increment,
+    c.column_default_value, c.column_op_type, c.audit_info
+FROM table_column_version_info c
+JOIN (
+    SELECT cv.table_id, cv.column_id, MAX(cv.table_version) AS max_table_version
+    FROM table_column_version_info cv
+    JOIN table_meta tm ON cv.table_id = tm.table_id AND tm.deleted_at = 0
+    WHERE cv.table_version <= tm.current_version AND cv.deleted_at = 0
+    GROUP BY cv.table_id, cv.column_id
+) latest ON c.table_id = latest.table_id AND c.column_id = latest.column_id
+    AND c.table_version = latest.max_table_version
+WHERE c.deleted_at = 0 AND c.column_op_type <> 3;
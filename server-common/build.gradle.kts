@@ -22,6 +22,7 @@ plugins {
   id("java")
   id("idea")
   id("com.diffplug.spotless")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -52,6 +53,7 @@ dependencies {
     exclude(group = "com.google.errorprone", module = "error_prone_annotations")
   }
   implementation(libs.ognl)
+  implementation(libs.opentelemetry.api)
   implementation(libs.prometheus.servlet)
   implementation(libs.nimbus.jose.jwt)
 
@@ -66,6 +68,20 @@ dependencies {
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
 
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 5
+  iterations = 10
+  fork = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
+}
+
 tasks {
   test {
     environment("GRAVITINO_HOME", rootDir.path)
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.rest.RESTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JettyThreadPoolBenchmark compares the throughput and the latency percentiles of the Jetty
+ * webserver running requests on the platform thread pool with running them on virtual threads.
+ *
+ * <p>Each request sleeps {@code blockingMillis} to simulate a request blocked on JDBC or the
+ * underlying catalog, and the benchmark threads outnumber {@code maxThreads} of the platform
+ * thread pool, so the platform pool saturates while the virtual threads keep up. The {@link
+ * Mode#SampleTime} mode reports the p99 latency. The virtual thread mode falls back to the platform
+ * thread pool if the benchmark doesn't run on JDK 21 or later.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@State(Scope.Benchmark)
+public class JettyThreadPoolBenchmark {
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  @Param({"10"})
+  public int blockingMillis;
+
+  @Param({"16"})
+  public int maxThreads;
+
+  private JettyServer server;
+  private HttpClient client;
+  private HttpRequest request;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    config.set(JettyServerConfig.WEBSERVER_MIN_THREADS, maxThreads);
+    config.set(JettyServerConfig.WEBSERVER_MAX_THREADS, maxThreads);
+    config.set(JettyServerConfig.WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE, 1024);
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, virtualThreads);
+    config.set(JettyServerConfig.WEBSERVER_MAX_VIRTUAL_THREADS, 10000);
+
+    server = new JettyServer();
+    server.initialize(JettyServerConfig.fromConfig(config), "benchmark", false);
+    server.addServlet(new BlockingServlet(blockingMillis), "/blocking");
+    server.start();
+
+    client = HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+    request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/blocking")).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Benchmark
+  public int blockingRequest() throws IOException, InterruptedException {
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private static class BlockingServlet extends HttpServlet {
+    private final int blockingMillis;
+
+    BlockingServlet(int blockingMillis) {
+      this.blockingMillis = blockingMillis;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+      try {
+        Thread.sleep(blockingMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      resp.setStatus(HttpServletResponse.SC_OK);
+      resp.getWriter().write("ok");
+    }
+  }
+}
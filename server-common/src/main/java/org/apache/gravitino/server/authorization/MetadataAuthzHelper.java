@@ -22,6 +22,7 @@ import java.lang.reflect.Array;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,6 +30,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -59,6 +61,9 @@ public class MetadataAuthzHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(MetadataAuthzHelper.class);
   private static volatile Executor executor = null;
+  // Use a ReentrantLock instead of the class monitor, a virtual thread blocked on a monitor pins
+  // its carrier thread.
+  private static final ReentrantLock EXECUTOR_LOCK = new ReentrantLock();
 
   /**
    * Entity types that support batch get operations for cache preloading. These types have
@@ -192,6 +197,37 @@ public class MetadataAuthzHelper {
         nameIdentifierMap, new AuthorizationRequestContext());
   }
 
+  /**
+   * Call {@link AuthorizationExpressionEvaluator} to check access to the metadata together with
+   * the related metadata referred by the expression, like a tag to associate with the metadata
+   *
+   * @param identifier metadata identifier
+   * @param entityType for example, CATALOG, SCHEMA,TABLE, etc.
+   * @param relatedMetadata the identifiers of the related metadata
+   * @param expression authorization expression
+   * @return whether it has access to the metadata
+   */
+  public static boolean checkAccess(
+      NameIdentifier identifier,
+      Entity.EntityType entityType,
+      Map<Entity.EntityType, NameIdentifier> relatedMetadata,
+      String expression) {
+    if (!enableAuthorization()) {
+      return true;
+    }
+
+    String metalake = NameIdentifierUtil.getMetalake(identifier);
+    Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
+        new HashMap<>(NameIdentifierUtil.splitNameIdentifier(metalake, entityType, identifier));
+    nameIdentifierMap.putAll(relatedMetadata);
+    AuthorizationRequestContext context = new AuthorizationRequestContext();
+    context.setOriginalAuthorizationExpression(expression);
+    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
+        new AuthorizationExpressionEvaluator(expression);
+    return authorizationExpressionEvaluator.evaluate(
+        nameIdentifierMap, new HashMap<>(), context, Optional.of(entityType.name()));
+  }
+
   /**
    * Call {@link AuthorizationExpressionEvaluator} to filter the metadata list
    *
@@ -336,7 +372,8 @@ public class MetadataAuthzHelper {
 
   private static void checkExecutor() {
     if (executor == null) {
-      synchronized (MetadataAuthzHelper.class) {
+      EXECUTOR_LOCK.lock();
+      try {
         if (executor == null) {
           executor =
               Executors.newFixedThreadPool(
@@ -350,6 +387,8 @@ public class MetadataAuthzHelper {
                     return thread;
                   });
         }
+      } finally {
+        EXECUTOR_LOCK.unlock();
       }
     }
   }
@@ -20,9 +20,7 @@
 package org.apache.gravitino.server.web;
 
 import com.codahale.metrics.Clock;
-import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
-import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
@@ -37,9 +35,8 @@ public class HttpServerMetricsSource extends MetricsSource {
             getMetricRegistry(),
             Clock.defaultClock(),
             false,
-            () ->
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+            this::newReservoir));
+    resourceConfig.register(new OperationMetricsFilter(this));
 
     // Register QueuedThreadPool specific metrics with instance checks
     ThreadPool threadPool = server.getThreadPool();
@@ -52,6 +49,11 @@ public class HttpServerMetricsSource extends MetricsSource {
       registerGauge(MetricNames.SERVER_QUEUED_REQUEST_NUM, () -> queuedThreadPool.getQueueSize());
       registerGauge(MetricNames.SERVER_MIN_THREAD_NUM, () -> queuedThreadPool.getMinThreads());
       registerGauge(MetricNames.SERVER_MAX_THREAD_NUM, () -> queuedThreadPool.getMaxThreads());
+    } else if (threadPool instanceof VirtualThreadPool) {
+      VirtualThreadPool virtualThreadPool = (VirtualThreadPool) threadPool;
+      registerGauge(MetricNames.SERVER_BUSY_THREAD_NUM, () -> virtualThreadPool.getBusyThreads());
+      registerGauge(MetricNames.SERVER_QUEUED_REQUEST_NUM, () -> virtualThreadPool.getQueueSize());
+      registerGauge(MetricNames.SERVER_MAX_THREAD_NUM, () -> virtualThreadPool.getMaxThreads());
     }
   }
 }
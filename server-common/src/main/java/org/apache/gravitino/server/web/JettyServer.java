@@ -86,11 +86,31 @@ public final class JettyServer {
     this.serverConfig = serverConfig;
     this.serverName = serverName;
 
-    ThreadPool threadPool =
-        createThreadPool(
-            serverConfig.getMinThreads(),
-            serverConfig.getMaxThreads(),
-            serverConfig.getThreadPoolWorkQueueSize());
+    ThreadPool threadPool;
+    if (serverConfig.isEnableVirtualThreads() && VirtualThreadPool.isSupported()) {
+      LOG.info(
+          "Use virtual threads for {} webserver, max concurrent threads: {}",
+          serverName,
+          serverConfig.getMaxVirtualThreads());
+      threadPool =
+          new VirtualThreadPool(
+              serverName,
+              serverConfig.getMaxVirtualThreads(),
+              Thread.currentThread().getContextClassLoader());
+    } else {
+      if (serverConfig.isEnableVirtualThreads()) {
+        LOG.warn(
+            "Virtual threads require JDK 21 or later but the current JDK is {}, fall back to"
+                + " the platform thread pool for {} webserver",
+            Runtime.version(),
+            serverName);
+      }
+      threadPool =
+          createThreadPool(
+              serverConfig.getMinThreads(),
+              serverConfig.getMaxThreads(),
+              serverConfig.getThreadPoolWorkQueueSize());
+    }
 
     // Create and config Jetty Server
     server = new Server(threadPool);
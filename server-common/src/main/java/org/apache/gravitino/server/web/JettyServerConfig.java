@@ -117,6 +117,25 @@ public final class JettyServerConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(100);
 
+  public static final ConfigEntry<Boolean> ENABLE_VIRTUAL_THREADS =
+      new ConfigBuilder("enableVirtualThreads")
+          .doc(
+              "Enable running the requests of Jetty webserver on virtual threads, it requires JDK"
+                  + " 21 or later and falls back to the platform thread pool otherwise")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> WEBSERVER_MAX_VIRTUAL_THREADS =
+      new ConfigBuilder("maxVirtualThreads")
+          .doc(
+              "The maximum number of concurrently running virtual threads used by Jetty webserver"
+                  + " when virtual threads are enabled")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
   public static final ConfigEntry<Boolean> ENABLE_HTTPS =
       new ConfigBuilder("enableHttps")
           .doc("Enable https")
@@ -311,6 +330,10 @@ public final class JettyServerConfig {
 
   private final int threadPoolWorkQueueSize;
 
+  private final boolean enableVirtualThreads;
+
+  private final int maxVirtualThreads;
+
   private final int httpsPort;
   private final String keyStorePath;
   private final String keyStorePassword;
@@ -365,6 +388,8 @@ public final class JettyServerConfig {
     this.requestHeaderSize = internalConfig.get(WEBSERVER_REQUEST_HEADER_SIZE);
     this.responseHeaderSize = internalConfig.get(WEBSERVER_RESPONSE_HEADER_SIZE);
     this.threadPoolWorkQueueSize = internalConfig.get(WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE);
+    this.enableVirtualThreads = internalConfig.get(ENABLE_VIRTUAL_THREADS);
+    this.maxVirtualThreads = internalConfig.get(WEBSERVER_MAX_VIRTUAL_THREADS);
 
     this.enableHttps = internalConfig.get(ENABLE_HTTPS);
     this.httpsPort = internalConfig.get(WEBSERVER_HTTPS_PORT);
@@ -455,6 +480,14 @@ public final class JettyServerConfig {
     return threadPoolWorkQueueSize;
   }
 
+  public boolean isEnableVirtualThreads() {
+    return enableVirtualThreads;
+  }
+
+  public int getMaxVirtualThreads() {
+    return maxVirtualThreads;
+  }
+
   public int getIdleTimeout() {
     return idleTimeout;
   }
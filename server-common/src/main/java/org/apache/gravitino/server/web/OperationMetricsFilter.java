@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.codahale.metrics.annotation.Timed;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MultivaluedMap;
+import org.apache.gravitino.metrics.MetricLabels;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+/**
+ * Records the duration of each REST operation into the labeled operation timers of a metrics
+ * source, see {@link MetricsSource#getOperationTimer}. The operation is the name of the {@link
+ * Timed} annotation of the resource method without the duration suffix, and the metalake and
+ * catalog are taken from the path parameters of the request.
+ */
+public class OperationMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String START_TIME_PROPERTY =
+      OperationMetricsFilter.class.getName() + ".startTime";
+  private static final String TIMED_NAME_SUFFIX = "." + MetricNames.HTTP_PROCESS_DURATION;
+
+  private final MetricsSource metricsSource;
+  private final Map<Method, String> operationNames = new ConcurrentHashMap<>();
+
+  public OperationMetricsFilter(MetricsSource metricsSource) {
+    this.metricsSource = metricsSource;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    requestContext.setProperty(START_TIME_PROPERTY, System.nanoTime());
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object startTime = requestContext.getProperty(START_TIME_PROPERTY);
+    if (!(startTime instanceof Long)
+        || !(requestContext.getUriInfo() instanceof ExtendedUriInfo)) {
+      return;
+    }
+
+    ResourceMethod resourceMethod =
+        ((ExtendedUriInfo) requestContext.getUriInfo()).getMatchedResourceMethod();
+    if (resourceMethod == null || resourceMethod.getInvocable().getDefinitionMethod() == null) {
+      return;
+    }
+
+    String operation =
+        operationNames.computeIfAbsent(
+            resourceMethod.getInvocable().getDefinitionMethod(),
+            OperationMetricsFilter::operationName);
+    MultivaluedMap<String, String> pathParameters =
+        requestContext.getUriInfo().getPathParameters();
+    String metalake = pathParameters.getFirst("metalake");
+    String catalog = pathParameters.getFirst("catalog");
+    String status = responseContext.getStatus() / 100 + "xx";
+    metricsSource
+        .getOperationTimer(
+            operation, metalake, catalog, MetricLabels.catalogProvider(metalake, catalog), status)
+        .update(System.nanoTime() - (Long) startTime, TimeUnit.NANOSECONDS);
+  }
+
+  static String operationName(Method method) {
+    Timed timed = method.getAnnotation(Timed.class);
+    if (timed != null && !timed.name().isEmpty()) {
+      String name = timed.name();
+      return name.endsWith(TIMED_NAME_SUFFIX)
+          ? name.substring(0, name.length() - TIMED_NAME_SUFFIX.length())
+          : name;
+    }
+    return method.getName();
+  }
+}
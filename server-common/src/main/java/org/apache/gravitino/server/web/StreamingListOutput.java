@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a list response, like {@link org.apache.gravitino.dto.responses.EntityListResponse}, to
+ * the response stream element by element, instead of building the DTOs of all the elements and
+ * handing the whole response to Jackson. The elements are filtered, usually by authorization, and
+ * converted in batches while they are written, so the server only holds one batch of DTOs.
+ *
+ * <p>The filter runs when the response is written, after the resource method returns, so it runs
+ * as the principal of the request captured when the output is created. The response status is
+ * sent before the elements, an error while writing the elements aborts the response and the client
+ * fails to parse the truncated body.
+ *
+ * @param <T> The type of the elements.
+ */
+public class StreamingListOutput<T> implements StreamingOutput {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StreamingListOutput.class);
+
+  /** The max number of elements filtered and converted together. */
+  public static final int BATCH_SIZE = 1000;
+
+  private static final JsonUtils.NameIdentifierSerializer IDENTIFIER_SERIALIZER =
+      new JsonUtils.NameIdentifierSerializer();
+
+  private static final ObjectWriter DTO_WRITER =
+      ObjectMapperProvider.objectMapper()
+          .writer()
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  /**
+   * Writes an element to the JSON generator.
+   *
+   * @param <T> The type of the element.
+   */
+  @FunctionalInterface
+  public interface ElementWriter<T> {
+    /**
+     * Write the element.
+     *
+     * @param generator The JSON generator of the response.
+     * @param element The element to write.
+     * @throws IOException If the element fails to be written.
+     */
+    void write(JsonGenerator generator, T element) throws IOException;
+  }
+
+  private final String fieldName;
+  private final Iterator<T> elements;
+  private final Function<List<T>, List<T>> batchFilter;
+  private final ElementWriter<T> elementWriter;
+  private final Principal principal;
+
+  /**
+   * Create a streaming list output.
+   *
+   * @param fieldName The name of the array field of the response.
+   * @param elements The elements to write.
+   * @param batchFilter The filter of the elements, applied to a batch of elements at a time.
+   * @param elementWriter The writer of an element.
+   */
+  public StreamingListOutput(
+      String fieldName,
+      Iterator<T> elements,
+      Function<List<T>, List<T>> batchFilter,
+      ElementWriter<T> elementWriter) {
+    Preconditions.checkArgument(fieldName != null, "fieldName must not be null");
+    this.fieldName = fieldName;
+    this.elements = elements;
+    this.batchFilter = batchFilter;
+    this.elementWriter = elementWriter;
+    this.principal = PrincipalUtils.getCurrentPrincipal();
+  }
+
+  /**
+   * Create a streaming output of an {@link org.apache.gravitino.dto.responses.EntityListResponse}.
+   *
+   * @param idents The identifiers to write.
+   * @param filter The filter of the identifiers, applied to a batch of identifiers at a time.
+   * @return The streaming output.
+   */
+  public static StreamingListOutput<NameIdentifier> ofIdentifiers(
+      NameIdentifier[] idents, UnaryOperator<NameIdentifier[]> filter) {
+    return new StreamingListOutput<>(
+        "identifiers",
+        Arrays.asList(idents).iterator(),
+        batch -> Arrays.asList(filter.apply(batch.toArray(new NameIdentifier[0]))),
+        (generator, ident) -> IDENTIFIER_SERIALIZER.serialize(ident, generator, null));
+  }
+
+  /**
+   * Create a streaming output of a list response whose elements are DTOs.
+   *
+   * @param fieldName The name of the array field of the response.
+   * @param elements The elements to write.
+   * @param batchFilter The filter of the elements, applied to a batch of elements at a time.
+   * @param toDTO The converter of an element to its DTO.
+   * @param <T> The type of the elements.
+   * @return The streaming output.
+   */
+  public static <T> StreamingListOutput<T> ofDTOs(
+      String fieldName,
+      Iterator<T> elements,
+      Function<List<T>, List<T>> batchFilter,
+      Function<T, ?> toDTO) {
+    return new StreamingListOutput<>(
+        fieldName,
+        elements,
+        batchFilter,
+        (generator, element) -> DTO_WRITER.writeValue(generator, toDTO.apply(element)));
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    try (JsonGenerator generator =
+        ObjectMapperProvider.objectMapper().getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      // Leave the body truncated on errors, instead of closing the array and object of a partial
+      // list that the client could parse as a complete response
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+      generator.writeStartObject();
+      generator.writeNumberField("code", 0);
+      generator.writeArrayFieldStart(fieldName);
+
+      List<T> batch = new ArrayList<>(BATCH_SIZE);
+      while (elements.hasNext()) {
+        batch.add(elements.next());
+        if (batch.size() == BATCH_SIZE) {
+          writeBatch(generator, batch);
+          batch.clear();
+        }
+      }
+      writeBatch(generator, batch);
+
+      generator.writeEndArray();
+      generator.writeEndObject();
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to write the {} of the list response", fieldName, e);
+      throw e;
+    }
+  }
+
+  private void writeBatch(JsonGenerator generator, List<T> batch) throws IOException {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<T> filtered;
+    try {
+      filtered = PrincipalUtils.doAs(principal, () -> batchFilter.apply(batch));
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to filter the " + fieldName + " of the list response", e);
+    }
+
+    for (T element : filtered) {
+      elementWriter.write(generator, element);
+    }
+    generator.flush();
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MultivaluedMap;
+import org.apache.gravitino.tracing.Tracing;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+/**
+ * Starts the server span of each REST request, the root span of the spans recorded in the
+ * Gravitino server for the request. The span continues the trace of the caller if the request
+ * carries the W3C {@code traceparent} header, and it's named after the operation of the resource
+ * method like {@link OperationMetricsFilter}.
+ */
+public class TracingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String SPAN_PROPERTY = TracingFilter.class.getName() + ".span";
+  private static final String SCOPE_PROPERTY = TracingFilter.class.getName() + ".scope";
+
+  private static final AttributeKey<String> HTTP_METHOD =
+      AttributeKey.stringKey("http.request.method");
+  private static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+  private static final AttributeKey<Long> HTTP_STATUS_CODE =
+      AttributeKey.longKey("http.response.status_code");
+  private static final AttributeKey<String> METALAKE = AttributeKey.stringKey("gravitino.metalake");
+  private static final AttributeKey<String> CATALOG = AttributeKey.stringKey("gravitino.catalog");
+
+  private static final TextMapGetter<ContainerRequestContext> HEADER_GETTER =
+      new TextMapGetter<ContainerRequestContext>() {
+        @Override
+        public Iterable<String> keys(ContainerRequestContext carrier) {
+          return carrier.getHeaders().keySet();
+        }
+
+        @Override
+        public String get(ContainerRequestContext carrier, String key) {
+          return carrier == null ? null : carrier.getHeaderString(key);
+        }
+      };
+
+  private final Map<Method, String> operationNames = new ConcurrentHashMap<>();
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    if (!Tracing.isEnabled()) {
+      return;
+    }
+
+    Context parentContext =
+        Tracing.propagator().extract(Context.root(), requestContext, HEADER_GETTER);
+    SpanBuilder spanBuilder =
+        Tracing.tracer()
+            .spanBuilder(spanName(requestContext))
+            .setParent(parentContext)
+            .setSpanKind(SpanKind.SERVER)
+            .setAttribute(HTTP_METHOD, requestContext.getMethod())
+            .setAttribute(URL_PATH, requestContext.getUriInfo().getPath());
+    MultivaluedMap<String, String> pathParameters =
+        requestContext.getUriInfo().getPathParameters();
+    if (pathParameters.containsKey("metalake")) {
+      spanBuilder.setAttribute(METALAKE, pathParameters.getFirst("metalake"));
+    }
+    if (pathParameters.containsKey("catalog")) {
+      spanBuilder.setAttribute(CATALOG, pathParameters.getFirst("catalog"));
+    }
+
+    Span span = spanBuilder.startSpan();
+    requestContext.setProperty(SPAN_PROPERTY, span);
+    requestContext.setProperty(SCOPE_PROPERTY, span.makeCurrent());
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object scope = requestContext.getProperty(SCOPE_PROPERTY);
+    if (scope instanceof Scope) {
+      ((Scope) scope).close();
+    }
+
+    Object span = requestContext.getProperty(SPAN_PROPERTY);
+    if (span instanceof Span) {
+      Span serverSpan = (Span) span;
+      serverSpan.setAttribute(HTTP_STATUS_CODE, (long) responseContext.getStatus());
+      if (responseContext.getStatus() >= 500) {
+        serverSpan.setStatus(StatusCode.ERROR);
+      }
+      serverSpan.end();
+    }
+  }
+
+  private String spanName(ContainerRequestContext requestContext) {
+    if (requestContext.getUriInfo() instanceof ExtendedUriInfo) {
+      ResourceMethod resourceMethod =
+          ((ExtendedUriInfo) requestContext.getUriInfo()).getMatchedResourceMethod();
+      if (resourceMethod != null && resourceMethod.getInvocable().getDefinitionMethod() != null) {
+        return operationNames.computeIfAbsent(
+            resourceMethod.getInvocable().getDefinitionMethod(),
+            OperationMetricsFilter::operationName);
+      }
+    }
+    return requestContext.getMethod();
+  }
+}
@@ -29,6 +29,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.Version;
@@ -54,6 +55,13 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  public static Response okStreaming(StreamingOutput output) {
+    return Response.status(Response.Status.OK)
+        .entity(output)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response created() {
     return Response.status(Response.Status.CREATED).type(MediaType.APPLICATION_JSON).build();
   }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.base.Preconditions;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Jetty {@link ThreadPool} which runs every job on a new virtual thread, it requires JDK 21 or
+ * later.
+ *
+ * <p>Virtual threads are cheap to create and park, so a request blocked on JDBC or the underlying
+ * catalog doesn't hold a scarce platform thread. The number of concurrently running jobs is still
+ * bounded by {@code maxThreads}, the jobs beyond the bound wait for a permit instead of being
+ * rejected, which plays the role of the work queue of {@link
+ * org.eclipse.jetty.util.thread.QueuedThreadPool}.
+ *
+ * <p>The server is compiled against JDK 17, so the virtual thread factory is looked up by
+ * reflection, use {@link #isSupported()} to check whether the running JVM supports it.
+ */
+public class VirtualThreadPool extends ContainerLifeCycle implements ThreadPool {
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+  private final String name;
+  private final int maxThreads;
+  private final ClassLoader classLoader;
+  private final Semaphore permits;
+  private final AtomicInteger activeThreads = new AtomicInteger();
+  private final ThreadFactory threadFactory;
+  private volatile CountDownLatch joinLatch = new CountDownLatch(1);
+
+  /**
+   * Creates a virtual thread pool.
+   *
+   * @param name The name prefix of the virtual threads.
+   * @param maxThreads The max number of concurrently running jobs.
+   * @param classLoader The context class loader of the virtual threads.
+   */
+  public VirtualThreadPool(String name, int maxThreads, ClassLoader classLoader) {
+    Preconditions.checkArgument(maxThreads > 0, "maxThreads must be positive");
+    Preconditions.checkState(isSupported(), "Virtual threads require JDK 21 or later");
+    this.name = name;
+    this.maxThreads = maxThreads;
+    this.classLoader = classLoader;
+    this.permits = new Semaphore(maxThreads);
+    this.threadFactory = newVirtualThreadFactory(name + "-virtual-");
+  }
+
+  /**
+   * Whether the running JVM supports virtual threads.
+   *
+   * @return true if the JVM is JDK 21 or later.
+   */
+  public static boolean isSupported() {
+    return Runtime.version().feature() >= 21;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getMaxThreads() {
+    return maxThreads;
+  }
+
+  /**
+   * Get the number of jobs which are running.
+   *
+   * @return The number of jobs running now.
+   */
+  public int getBusyThreads() {
+    return maxThreads - permits.availablePermits();
+  }
+
+  /**
+   * Get the number of jobs which are waiting for a permit to run.
+   *
+   * @return The number of jobs waiting to run.
+   */
+  public int getQueueSize() {
+    return permits.getQueueLength();
+  }
+
+  @Override
+  protected void doStart() throws Exception {
+    joinLatch = new CountDownLatch(1);
+    super.doStart();
+  }
+
+  @Override
+  protected void doStop() throws Exception {
+    super.doStop();
+    joinLatch.countDown();
+  }
+
+  @Override
+  public void execute(Runnable job) {
+    if (!isRunning()) {
+      throw new RejectedExecutionException(name + " is not running");
+    }
+
+    Thread thread = threadFactory.newThread(() -> run(job));
+    thread.setContextClassLoader(classLoader);
+    thread.setUncaughtExceptionHandler(
+        (t, throwable) -> LOG.error("{} uncaught exception:", t.getName(), throwable));
+    thread.start();
+  }
+
+  private void run(Runnable job) {
+    activeThreads.incrementAndGet();
+    try {
+      permits.acquire();
+      try {
+        job.run();
+      } finally {
+        permits.release();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("{} is interrupted while waiting to run job {}", name, job);
+    } catch (Throwable t) {
+      LOG.warn("Job {} failed in {}", job, name, t);
+    } finally {
+      activeThreads.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void join() throws InterruptedException {
+    joinLatch.await();
+  }
+
+  @Override
+  public int getThreads() {
+    return activeThreads.get();
+  }
+
+  @Override
+  public int getIdleThreads() {
+    // Virtual threads are created per job and never wait idle in the pool.
+    return 0;
+  }
+
+  @Override
+  public boolean isLowOnThreads() {
+    return permits.availablePermits() == 0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[%s]{%s,%d<=%d}",
+        getClass().getSimpleName(), name, getState(), getBusyThreads(), maxThreads);
+  }
+
+  private static ThreadFactory newVirtualThreadFactory(String prefix) {
+    try {
+      // Equivalent to Thread.ofVirtual().name(prefix, 0).factory() on JDK 21.
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+      Method factoryMethod = builderClass.getMethod("factory");
+
+      Object builder = ofVirtual.invoke(null);
+      builder = nameMethod.invoke(builder, prefix, 0L);
+      return (ThreadFactory) factoryMethod.invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create the virtual thread factory", e);
+    }
+  }
+}
@@ -20,6 +20,7 @@
 package org.apache.gravitino.server.web;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -185,6 +186,38 @@ public class TestHttpServerMetricsSource {
     assertEquals(8, totalThreadsGauge.getValue().intValue());
   }
 
+  @Test
+  void testGaugeValuesWithVirtualThreadPool() {
+    // Arrange - Mock the VirtualThreadPool since it requires JDK 21 to construct
+    VirtualThreadPool virtualThreadPool = mock(VirtualThreadPool.class);
+    when(virtualThreadPool.getBusyThreads()).thenReturn(5);
+    when(virtualThreadPool.getQueueSize()).thenReturn(2);
+    when(virtualThreadPool.getMaxThreads()).thenReturn(10000);
+    when(mockJettyServer.getThreadPool()).thenReturn(virtualThreadPool);
+
+    // Act
+    metricsSource = new HttpServerMetricsSource("test-server", mockResourceConfig, mockJettyServer);
+
+    // Assert - Virtual threads have no min threads
+    MetricRegistry registry = metricsSource.getMetricRegistry();
+    assertFalse(registry.getGauges().containsKey(MetricNames.SERVER_MIN_THREAD_NUM));
+
+    @SuppressWarnings("unchecked")
+    Gauge<Integer> busyThreadsGauge =
+        (Gauge<Integer>) registry.getGauges().get(MetricNames.SERVER_BUSY_THREAD_NUM);
+    assertEquals(5, busyThreadsGauge.getValue().intValue());
+
+    @SuppressWarnings("unchecked")
+    Gauge<Integer> queuedRequestsGauge =
+        (Gauge<Integer>) registry.getGauges().get(MetricNames.SERVER_QUEUED_REQUEST_NUM);
+    assertEquals(2, queuedRequestsGauge.getValue().intValue());
+
+    @SuppressWarnings("unchecked")
+    Gauge<Integer> maxThreadsGauge =
+        (Gauge<Integer>) registry.getGauges().get(MetricNames.SERVER_MAX_THREAD_NUM);
+    assertEquals(10000, maxThreadsGauge.getValue().intValue());
+  }
+
   @Test
   void testResourceConfigRegistration() {
     // Arrange
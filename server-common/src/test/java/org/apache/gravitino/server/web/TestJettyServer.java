@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
@@ -27,6 +28,7 @@ import javax.servlet.Filter;
 import javax.servlet.Servlet;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.rest.RESTUtils;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,6 +88,22 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testVirtualThreads() throws IOException {
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, RESTUtils.findAvailablePort(5000, 6000));
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, true);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+
+    // Fall back to the platform thread pool if the JDK doesn't support virtual threads
+    Class<?> expected =
+        VirtualThreadPool.isSupported() ? VirtualThreadPool.class : QueuedThreadPool.class;
+    assertTrue(expected.isInstance(jettyServer.getThreadPool()));
+    jettyServer.start();
+    jettyServer.stop();
+  }
+
   @Test
   public void testStopWithNullServer() {
     assertDoesNotThrow(() -> jettyServer.stop());
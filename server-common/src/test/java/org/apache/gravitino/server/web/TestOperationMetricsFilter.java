@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.codahale.metrics.annotation.Timed;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestOperationMetricsFilter {
+
+  @Timed(name = "load-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  public void loadTable() {}
+
+  @Timed(name = "custom-name", absolute = true)
+  public void custom() {}
+
+  public void untimed() {}
+
+  @Test
+  public void testOperationName() throws NoSuchMethodException {
+    Assertions.assertEquals(
+        "load-table", OperationMetricsFilter.operationName(getClass().getMethod("loadTable")));
+    Assertions.assertEquals(
+        "custom-name", OperationMetricsFilter.operationName(getClass().getMethod("custom")));
+    Assertions.assertEquals(
+        "untimed", OperationMetricsFilter.operationName(getClass().getMethod("untimed")));
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.dto.file.FileInfoDTO;
+import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.FileInfoListResponse;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStreamingListOutput {
+
+  @Test
+  public void testStreamIdentifiers() throws Exception {
+    NameIdentifier[] idents =
+        IntStream.range(0, StreamingListOutput.BATCH_SIZE * 2 + 10)
+            .mapToObj(i -> NameIdentifier.of("metalake", "catalog", "schema", "table" + i))
+            .toArray(NameIdentifier[]::new);
+    List<Integer> batchSizes = new ArrayList<>();
+    List<String> users = new ArrayList<>();
+
+    StreamingListOutput<NameIdentifier> output =
+        PrincipalUtils.doAs(
+            new UserPrincipal("user1"),
+            () ->
+                StreamingListOutput.ofIdentifiers(
+                    idents,
+                    batch -> {
+                      batchSizes.add(batch.length);
+                      users.add(PrincipalUtils.getCurrentUserName());
+                      return Arrays.stream(batch)
+                          .filter(ident -> ident.name().endsWith("0"))
+                          .toArray(NameIdentifier[]::new);
+                    }));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    output.write(bytes);
+    EntityListResponse response =
+        ObjectMapperProvider.objectMapper()
+            .readValue(bytes.toByteArray(), EntityListResponse.class);
+    response.validate();
+
+    Assertions.assertEquals(0, response.getCode());
+    Assertions.assertEquals(201, response.identifiers().length);
+    Assertions.assertEquals(idents[10], response.identifiers()[1]);
+    Assertions.assertEquals(
+        Arrays.asList(StreamingListOutput.BATCH_SIZE, StreamingListOutput.BATCH_SIZE, 10),
+        batchSizes);
+    Assertions.assertEquals(Arrays.asList("user1", "user1", "user1"), users);
+  }
+
+  @Test
+  public void testStreamDTOs() throws Exception {
+    List<String> names = Arrays.asList("a", "b", "c");
+    StreamingListOutput<String> output =
+        StreamingListOutput.ofDTOs(
+            "files",
+            names.iterator(),
+            batch -> batch.stream().filter(name -> !"b".equals(name)).collect(Collectors.toList()),
+            name ->
+                FileInfoDTO.builder()
+                    .name(name)
+                    .isDir(false)
+                    .size(1L)
+                    .lastModified(2L)
+                    .path("/" + name)
+                    .build());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    output.write(bytes);
+    FileInfoListResponse response =
+        ObjectMapperProvider.objectMapper()
+            .readValue(bytes.toByteArray(), FileInfoListResponse.class);
+
+    Assertions.assertEquals(2, response.getFiles().length);
+    Assertions.assertEquals("c", response.getFiles()[1].name());
+    Assertions.assertEquals("/c", response.getFiles()[1].path());
+  }
+
+  @Test
+  public void testStreamFailure() throws Exception {
+    NameIdentifier[] idents =
+        IntStream.range(0, StreamingListOutput.BATCH_SIZE + 10)
+            .mapToObj(i -> NameIdentifier.of("metalake", "catalog", "schema", "table" + i))
+            .toArray(NameIdentifier[]::new);
+    StreamingListOutput<NameIdentifier> output =
+        StreamingListOutput.ofIdentifiers(
+            idents,
+            batch -> {
+              if (batch.length < StreamingListOutput.BATCH_SIZE) {
+                throw new IllegalStateException("Failed to filter the identifiers");
+              }
+              return batch;
+            });
+
+    // The first batch is written before the filter of the second batch fails
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Assertions.assertThrows(IllegalStateException.class, () -> output.write(bytes));
+    Assertions.assertTrue(bytes.size() > 0);
+
+    // The truncated body can't be parsed as a partial list
+    Assertions.assertThrows(
+        JsonProcessingException.class,
+        () ->
+            ObjectMapperProvider.objectMapper()
+                .readValue(bytes.toByteArray(), EntityListResponse.class));
+  }
+
+  @Test
+  public void testStreamEmptyList() throws Exception {
+    StreamingListOutput<NameIdentifier> output =
+        StreamingListOutput.ofIdentifiers(new NameIdentifier[0], batch -> batch);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    output.write(bytes);
+    Assertions.assertEquals("{\"code\":0,\"identifiers\":[]}", bytes.toString("UTF-8"));
+  }
+}
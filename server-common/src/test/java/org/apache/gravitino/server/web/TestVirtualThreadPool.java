@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestVirtualThreadPool {
+
+  @BeforeEach
+  public void checkSupported() {
+    Assumptions.assumeTrue(VirtualThreadPool.isSupported(), "Virtual threads require JDK 21");
+  }
+
+  @Test
+  public void testExecuteOnVirtualThreads() throws Exception {
+    ClassLoader classLoader = new ClassLoader() {};
+    VirtualThreadPool pool = new VirtualThreadPool("test", 2, classLoader);
+    Assertions.assertThrows(RejectedExecutionException.class, () -> pool.execute(() -> {}));
+
+    pool.start();
+    try {
+      AtomicReference<Thread> thread = new AtomicReference<>();
+      CountDownLatch done = new CountDownLatch(1);
+      pool.execute(
+          () -> {
+            thread.set(Thread.currentThread());
+            done.countDown();
+          });
+      Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(thread.get().getName().startsWith("test-virtual-"));
+      Assertions.assertTrue(thread.get().isDaemon());
+      Assertions.assertSame(classLoader, thread.get().getContextClassLoader());
+    } finally {
+      pool.stop();
+    }
+  }
+
+  @Test
+  public void testBoundConcurrentJobs() throws Exception {
+    VirtualThreadPool pool =
+        new VirtualThreadPool("test", 2, Thread.currentThread().getContextClassLoader());
+    pool.start();
+    try {
+      CountDownLatch running = new CountDownLatch(2);
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(3);
+      for (int i = 0; i < 3; i++) {
+        pool.execute(
+            () -> {
+              running.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              done.countDown();
+            });
+      }
+
+      Assertions.assertTrue(running.await(10, TimeUnit.SECONDS));
+      Assertions.assertEquals(2, pool.getBusyThreads());
+      Assertions.assertTrue(pool.isLowOnThreads());
+      while (pool.getQueueSize() != 1) {
+        Thread.sleep(10);
+      }
+
+      release.countDown();
+      Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+    } finally {
+      pool.stop();
+    }
+    pool.join();
+  }
+}
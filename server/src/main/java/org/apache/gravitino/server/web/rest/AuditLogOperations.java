@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.List;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.audit.AuditLogManager;
+import org.apache.gravitino.audit.AuditLogQuery;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
+import org.apache.gravitino.dto.responses.AuditLogListResponse;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
+import org.apache.gravitino.server.web.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/audit/logs")
+public class AuditLogOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AuditLogOperations.class);
+
+  private final AuditLogManager auditLogManager;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public AuditLogOperations(AuditLogManager auditLogManager) {
+    this.auditLogManager = auditLogManager;
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "query-audit-logs." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "query-audit-logs", absolute = true)
+  @AuthorizationExpression(
+      expression = "SERVICE_ADMIN",
+      errorMessage = "Only service admins can query the audit logs")
+  public Response queryAuditLogs(
+      @QueryParam("user") String user,
+      @QueryParam("operationType") String operationType,
+      @QueryParam("identifier") String identifier,
+      @QueryParam("since") @DefaultValue("0") long since,
+      @QueryParam("until") @DefaultValue("9223372036854775807") long until,
+      @QueryParam("limit") @DefaultValue("100") int limit) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            AuditLogQuery query =
+                AuditLogQuery.builder()
+                    .withUser(user)
+                    .withOperationType(operationType)
+                    .withIdentifier(identifier)
+                    .withSince(since)
+                    .withUntil(until)
+                    .withLimit(limit)
+                    .build();
+            List<AuditLogDTO> auditLogs = auditLogManager.queryAuditLogs(query);
+            return Utils.ok(new AuditLogListResponse(auditLogs.toArray(new AuditLogDTO[0])));
+          });
+    } catch (IllegalArgumentException e) {
+      return Utils.illegalArguments(e.getMessage(), e);
+    } catch (UnsupportedOperationException e) {
+      return Utils.unsupportedOperation(e.getMessage(), e);
+    } catch (Exception e) {
+      LOG.warn("Query audit logs failed,", e);
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+}
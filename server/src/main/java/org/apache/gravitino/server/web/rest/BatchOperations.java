@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.dto.util.DTOConverters.fromDTO;
+import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.authorization.AccessControlDispatcher;
+import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.batch.BatchExecutor;
+import org.apache.gravitino.batch.BatchOperation;
+import org.apache.gravitino.batch.BatchOperationResult;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.dto.requests.BatchOperationRequest;
+import org.apache.gravitino.dto.requests.BatchOperationsRequest;
+import org.apache.gravitino.dto.requests.TableCreateRequest;
+import org.apache.gravitino.dto.responses.BatchOperationsResponse;
+import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.metalake.MetalakeManager;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.authorization.MetadataAuthzHelper;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.tag.TagDispatcher;
+import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes an ordered list of metadata operations in a batch. The operations are validated before
+ * any of them is executed, and each operation is authorized with the expression of its own REST
+ * endpoint right before it's executed.
+ */
+@Path("/metalakes/{metalake}/batch")
+public class BatchOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchOperations.class);
+
+  private static final String CREATE_SCHEMA_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) || ANY_USE_CATALOG && ANY_CREATE_SCHEMA";
+
+  private static final String CREATE_TABLE_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) || "
+          + "SCHEMA_OWNER_WITH_USE_CATALOG || "
+          + "ANY_USE_CATALOG && ANY_USE_SCHEMA && ANY_CREATE_TABLE";
+
+  private static final String CREATE_TAG_EXPRESSION = "METALAKE::OWNER || METALAKE::CREATE_TAG";
+
+  private static final String MANAGE_GRANTS_EXPRESSION =
+      "METALAKE::OWNER || METALAKE::MANAGE_GRANTS";
+
+  private final SchemaDispatcher schemaDispatcher;
+
+  private final TableDispatcher tableDispatcher;
+
+  private final TagDispatcher tagDispatcher;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public BatchOperations(
+      SchemaDispatcher schemaDispatcher,
+      TableDispatcher tableDispatcher,
+      TagDispatcher tagDispatcher) {
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+    this.tagDispatcher = tagDispatcher;
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "execute-batch." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "execute-batch", absolute = true)
+  @AuthorizationExpression(expression = "")
+  public Response executeBatch(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      BatchOperationsRequest request) {
+    LOG.info("Received batch request under metalake: {}", metalake);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            Config config = GravitinoEnv.getInstance().config();
+            int maxOperations = config.get(Configs.BATCH_MAX_OPERATIONS);
+            Preconditions.checkArgument(
+                request.getOperations().size() <= maxOperations,
+                "The batch contains %s operations, exceeds the limit %s",
+                request.getOperations().size(),
+                maxOperations);
+            MetalakeManager.checkMetalakeInUse(metalake);
+
+            // Plan all the operations first, so an invalid operation fails the batch before
+            // anything is changed
+            Map<String, Boolean> managedStorage = new HashMap<>();
+            List<BatchOperation> operations = Lists.newArrayList();
+            for (int i = 0; i < request.getOperations().size(); i++) {
+              BatchOperationRequest operation = request.getOperations().get(i);
+              try {
+                operations.add(toOperation(metalake, operation, managedStorage));
+              } catch (Exception e) {
+                throw new BatchValidationException(i, e);
+              }
+            }
+
+            GravitinoEnv env = GravitinoEnv.getInstance();
+            BatchExecutor executor =
+                new BatchExecutor(
+                    env.entityStore(),
+                    env.lockManager(),
+                    env.eventBus(),
+                    config.get(Configs.BATCH_MAX_OPERATIONS_PER_TRANSACTION));
+            List<BatchOperationsResponse.OperationResult> results =
+                executor.execute(operations).stream()
+                    .map(BatchOperations::toResult)
+                    .collect(Collectors.toList());
+            LOG.info(
+                "Executed batch of {} operations under metalake: {}", results.size(), metalake);
+            return Utils.ok(new BatchOperationsResponse(results));
+          });
+
+    } catch (BatchValidationException e) {
+      return handleException(e.getMessage(), e.getCause());
+    } catch (Exception e) {
+      return handleException(e.getMessage(), e);
+    }
+  }
+
+  private BatchOperation toOperation(
+      String metalake, BatchOperationRequest request, Map<String, Boolean> managedStorage)
+      throws Exception {
+    request.validate();
+
+    if (request instanceof BatchOperationRequest.CreateSchemaRequest) {
+      BatchOperationRequest.CreateSchemaRequest op =
+          (BatchOperationRequest.CreateSchemaRequest) request;
+      NameIdentifier catalog = NameIdentifierUtil.ofCatalog(metalake, op.getCatalog());
+      NameIdentifier ident =
+          NameIdentifierUtil.ofSchema(metalake, op.getCatalog(), op.getRequest().getName());
+      return new RestBatchOperation(
+          catalog,
+          isManagedStorage(catalog, Capability.Scope.SCHEMA, managedStorage),
+          () -> {
+            checkAccess(catalog, Entity.EntityType.CATALOG, CREATE_SCHEMA_EXPRESSION);
+            schemaDispatcher.createSchema(
+                ident, op.getRequest().getComment(), op.getRequest().getProperties());
+          });
+
+    } else if (request instanceof BatchOperationRequest.CreateTableRequest) {
+      BatchOperationRequest.CreateTableRequest op =
+          (BatchOperationRequest.CreateTableRequest) request;
+      NameIdentifier catalog = NameIdentifierUtil.ofCatalog(metalake, op.getCatalog());
+      NameIdentifier schema =
+          NameIdentifierUtil.ofSchema(metalake, op.getCatalog(), op.getSchema());
+      TableCreateRequest createRequest = op.getRequest();
+      NameIdentifier ident =
+          NameIdentifierUtil.ofTable(
+              metalake, op.getCatalog(), op.getSchema(), createRequest.getName());
+      return new RestBatchOperation(
+          schema,
+          isManagedStorage(catalog, Capability.Scope.TABLE, managedStorage),
+          () -> {
+            checkAccess(schema, Entity.EntityType.SCHEMA, CREATE_TABLE_EXPRESSION);
+            tableDispatcher.createTable(
+                ident,
+                fromDTOs(createRequest.getColumns()),
+                createRequest.getComment(),
+                createRequest.getProperties(),
+                fromDTOs(createRequest.getPartitioning()),
+                fromDTO(createRequest.getDistribution()),
+                fromDTOs(createRequest.getSortOrders()),
+                fromDTOs(createRequest.getIndexes()));
+          });
+
+    } else if (request instanceof BatchOperationRequest.CreateTagRequest) {
+      BatchOperationRequest.CreateTagRequest op = (BatchOperationRequest.CreateTagRequest) request;
+      return new RestBatchOperation(
+          NameIdentifierUtil.ofTag(metalake, op.getRequest().getName()),
+          true,
+          () -> {
+            checkAccess(
+                NameIdentifierUtil.ofMetalake(metalake),
+                Entity.EntityType.METALAKE,
+                CREATE_TAG_EXPRESSION);
+            tagDispatcher.createTag(
+                metalake,
+                op.getRequest().getName(),
+                op.getRequest().getComment(),
+                op.getRequest().getProperties());
+          });
+
+    } else if (request instanceof BatchOperationRequest.AssociateTagsRequest) {
+      BatchOperationRequest.AssociateTagsRequest op =
+          (BatchOperationRequest.AssociateTagsRequest) request;
+      MetadataObject object =
+          MetadataObjects.parse(
+              op.getMetadataObjectFullName(),
+              MetadataObject.Type.valueOf(op.getMetadataObjectType().toUpperCase(Locale.ROOT)));
+      NameIdentifier objectIdent = MetadataObjectUtil.toEntityIdent(metalake, object);
+      Entity.EntityType objectType = MetadataObjectUtil.toEntityType(object);
+      // TagManager locks the metadata object before the tag namespace, the batch takes the locks
+      // on both in the same order to avoid deadlocking with it
+      return new RestBatchOperation(
+          Arrays.asList(objectIdent, NameIdentifier.of(NamespaceUtil.ofTag(metalake).levels())),
+          true,
+          () -> {
+            Stream.of(op.getRequest().getTagsToAdd(), op.getRequest().getTagsToRemove())
+                .filter(tags -> tags != null)
+                .flatMap(Arrays::stream)
+                .forEach(
+                    tag ->
+                        checkAccess(
+                            objectIdent,
+                            objectType,
+                            ImmutableMap.of(
+                                Entity.EntityType.TAG, NameIdentifierUtil.ofTag(metalake, tag)),
+                            AuthorizationExpressionConstants.CAN_ACCESS_METADATA_AND_TAG));
+            tagDispatcher.associateTagsForMetadataObject(
+                metalake,
+                object,
+                op.getRequest().getTagsToAdd(),
+                op.getRequest().getTagsToRemove());
+          });
+
+    } else if (request instanceof BatchOperationRequest.GrantRolesToUserRequest) {
+      BatchOperationRequest.GrantRolesToUserRequest op =
+          (BatchOperationRequest.GrantRolesToUserRequest) request;
+      AccessControlDispatcher dispatcher = accessControlDispatcher();
+      // The grants are pushed to the authorization plugins, which can't be rolled back
+      return new RestBatchOperation(
+          AuthorizationUtils.ofUser(metalake, op.getUser()),
+          false,
+          () -> {
+            checkAccess(
+                NameIdentifierUtil.ofMetalake(metalake),
+                Entity.EntityType.METALAKE,
+                MANAGE_GRANTS_EXPRESSION);
+            dispatcher.grantRolesToUser(metalake, op.getRequest().getRoleNames(), op.getUser());
+          });
+
+    } else if (request instanceof BatchOperationRequest.GrantRolesToGroupRequest) {
+      BatchOperationRequest.GrantRolesToGroupRequest op =
+          (BatchOperationRequest.GrantRolesToGroupRequest) request;
+      AccessControlDispatcher dispatcher = accessControlDispatcher();
+      return new RestBatchOperation(
+          AuthorizationUtils.ofGroup(metalake, op.getGroup()),
+          false,
+          () -> {
+            checkAccess(
+                NameIdentifierUtil.ofMetalake(metalake),
+                Entity.EntityType.METALAKE,
+                MANAGE_GRANTS_EXPRESSION);
+            dispatcher.grantRolesToGroup(metalake, op.getRequest().getRoleNames(), op.getGroup());
+          });
+    }
+
+    throw new IllegalArgumentException(
+        "Unsupported batch operation: " + request.getClass().getSimpleName());
+  }
+
+  private static boolean isManagedStorage(
+      NameIdentifier catalog, Capability.Scope scope, Map<String, Boolean> managedStorage)
+      throws Exception {
+    String key = catalog + "/" + scope;
+    Boolean managed = managedStorage.get(key);
+    if (managed == null) {
+      managed =
+          GravitinoEnv.getInstance()
+              .catalogManager()
+              .loadCatalogAndWrap(catalog)
+              .capabilities()
+              .managedStorage(scope)
+              .supported();
+      managedStorage.put(key, managed);
+    }
+    return managed;
+  }
+
+  private static AccessControlDispatcher accessControlDispatcher() {
+    AccessControlDispatcher dispatcher = GravitinoEnv.getInstance().accessControlDispatcher();
+    if (dispatcher == null) {
+      throw new UnsupportedOperationException(
+          "Granting roles is not supported as authorization is not enabled");
+    }
+    return dispatcher;
+  }
+
+  private static void checkAccess(NameIdentifier ident, Entity.EntityType type, String expression) {
+    checkAccess(ident, type, Collections.emptyMap(), expression);
+  }
+
+  private static void checkAccess(
+      NameIdentifier ident,
+      Entity.EntityType type,
+      Map<Entity.EntityType, NameIdentifier> relatedMetadata,
+      String expression) {
+    if (!MetadataAuthzHelper.checkAccess(ident, type, relatedMetadata, expression)) {
+      throw new ForbiddenException(
+          "User '%s' is not authorized to perform the operation on %s",
+          PrincipalUtils.getCurrentUserName(),
+          relatedMetadata.isEmpty() ? ident : relatedMetadata.values());
+    }
+  }
+
+  private static BatchOperationsResponse.OperationResult toResult(BatchOperationResult result) {
+    return result
+        .error()
+        .map(
+            e ->
+                new BatchOperationsResponse.OperationResult(
+                    result.status().name(), e.getClass().getSimpleName(), e.getMessage()))
+        .orElseGet(
+            () -> new BatchOperationsResponse.OperationResult(result.status().name(), null, null));
+  }
+
+  private static Response handleException(String message, Throwable e) {
+    if (e instanceof IllegalArgumentException) {
+      return Utils.illegalArguments(message, e);
+    } else if (e instanceof NotFoundException) {
+      return Utils.notFound(e.getClass().getSimpleName(), message, e);
+    } else if (e instanceof ForbiddenException) {
+      return Utils.forbidden(message, e);
+    } else if (e instanceof UnsupportedOperationException) {
+      return Utils.unsupportedOperation(message, e);
+    }
+    LOG.error("Failed to execute batch", e);
+    return Utils.internalError(message, e);
+  }
+
+  /** The failure to plan an operation of the batch. */
+  private static class BatchValidationException extends RuntimeException {
+    private BatchValidationException(int index, Exception cause) {
+      super(String.format("Invalid operation [%d]: %s", index, cause.getMessage()), cause);
+    }
+  }
+
+  /** The action of an operation, executed after its authorization check. */
+  private interface Action {
+    void run() throws Exception;
+  }
+
+  private static class RestBatchOperation implements BatchOperation {
+    private final List<NameIdentifier> writeLockIdentifiers;
+    private final boolean transactional;
+    private final Action action;
+
+    private RestBatchOperation(
+        NameIdentifier writeLockIdentifier, boolean transactional, Action action) {
+      this(Collections.singletonList(writeLockIdentifier), transactional, action);
+    }
+
+    private RestBatchOperation(
+        List<NameIdentifier> writeLockIdentifiers, boolean transactional, Action action) {
+      this.writeLockIdentifiers = writeLockIdentifiers;
+      this.transactional = transactional;
+      this.action = action;
+    }
+
+    @Override
+    public List<NameIdentifier> writeLockIdentifiers() {
+      return writeLockIdentifiers;
+    }
+
+    @Override
+    public boolean transactional() {
+      return transactional;
+    }
+
+    @Override
+    public void execute() throws Exception {
+      action.run();
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EffectiveAssociations;
+import org.apache.gravitino.dto.policy.PolicyDTO;
+import org.apache.gravitino.dto.policy.TablePoliciesDTO;
+import org.apache.gravitino.dto.responses.TablePoliciesListResponse;
+import org.apache.gravitino.dto.responses.TableTagsListResponse;
+import org.apache.gravitino.dto.tag.TableTagsDTO;
+import org.apache.gravitino.dto.tag.TagDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.policy.PolicyDispatcher;
+import org.apache.gravitino.server.authorization.MetadataAuthzHelper;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.tag.Tag;
+import org.apache.gravitino.tag.TagDispatcher;
+import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lists the effective tags and policies, including the inherited ones, of all the tables in a
+ * schema in one request, so that engines and scanners don't need to walk the metadata hierarchy
+ * table by table.
+ */
+@Path("/metalakes/{metalake}/effective")
+public class EffectiveAssociationOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EffectiveAssociationOperations.class);
+
+  private final TagDispatcher tagDispatcher;
+
+  private final PolicyDispatcher policyDispatcher;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public EffectiveAssociationOperations(
+      TagDispatcher tagDispatcher, PolicyDispatcher policyDispatcher) {
+    this.tagDispatcher = tagDispatcher;
+    this.policyDispatcher = policyDispatcher;
+  }
+
+  @GET
+  @Path("tags")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-effective-tags." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-effective-tags", absolute = true)
+  @AuthorizationExpression(expression = "")
+  public Response listEffectiveTagsForTables(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @QueryParam("schema") String schema) {
+    LOG.info("Received list effective tags request for tables in schema {}", schema);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            MetadataObject schemaObject = MetadataObjects.parse(schema, MetadataObject.Type.SCHEMA);
+            Map<MetadataObject, EffectiveAssociations<Tag>> tags =
+                tagDispatcher.listEffectiveTagsForTables(metalake, schemaObject);
+            Map<String, Boolean> tagAccess = new HashMap<>();
+            List<TableTagsDTO> result = new ArrayList<>();
+            for (Map.Entry<MetadataObject, EffectiveAssociations<Tag>> entry :
+                filterTables(metalake, tags).entrySet()) {
+              TagDTO[] tagDTOs =
+                  toDTOs(
+                      entry.getValue(),
+                      tag ->
+                          canAccess(
+                              metalake,
+                              tagAccess,
+                              tag.name(),
+                              AuthorizationExpressionConstants.LOAD_TAG_AUTHORIZATION_EXPRESSION,
+                              Entity.EntityType.TAG,
+                              NameIdentifierUtil::ofTag),
+                      DTOConverters::toDTO)
+                      .toArray(TagDTO[]::new);
+              result.add(TableTagsDTO.of(entry.getKey().fullName(), tagDTOs));
+            }
+            LOG.info("List effective tags of {} tables in schema {}", result.size(), schema);
+            return Utils.ok(new TableTagsListResponse(result.toArray(new TableTagsDTO[0])));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTagException(OperationType.LIST, "", schema, e);
+    }
+  }
+
+  @GET
+  @Path("policies")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-effective-policies." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-effective-policies", absolute = true)
+  @AuthorizationExpression(expression = "")
+  public Response listEffectivePoliciesForTables(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @QueryParam("schema") String schema) {
+    LOG.info("Received list effective policies request for tables in schema {}", schema);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            MetadataObject schemaObject = MetadataObjects.parse(schema, MetadataObject.Type.SCHEMA);
+            Map<MetadataObject, EffectiveAssociations<PolicyEntity>> policies =
+                policyDispatcher.listEffectivePolicyInfosForTables(metalake, schemaObject);
+            Map<String, Boolean> policyAccess = new HashMap<>();
+            List<TablePoliciesDTO> result = new ArrayList<>();
+            for (Map.Entry<MetadataObject, EffectiveAssociations<PolicyEntity>> entry :
+                filterTables(metalake, policies).entrySet()) {
+              PolicyDTO[] policyDTOs =
+                  toDTOs(
+                      entry.getValue(),
+                      policy ->
+                          canAccess(
+                              metalake,
+                              policyAccess,
+                              policy.name(),
+                              AuthorizationExpressionConstants.LOAD_POLICY_AUTHORIZATION_EXPRESSION,
+                              Entity.EntityType.POLICY,
+                              NameIdentifierUtil::ofPolicy),
+                      PolicyOperations::toDTO)
+                      .toArray(PolicyDTO[]::new);
+              result.add(TablePoliciesDTO.of(entry.getKey().fullName(), policyDTOs));
+            }
+            LOG.info("List effective policies of {} tables in schema {}", result.size(), schema);
+            return Utils.ok(new TablePoliciesListResponse(result.toArray(new TablePoliciesDTO[0])));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handlePolicyException(OperationType.LIST, "", schema, e);
+    }
+  }
+
+  // The tables the user could not access are left out of the response
+  private static <T> Map<MetadataObject, T> filterTables(
+      String metalake, Map<MetadataObject, T> tables) {
+    Map<NameIdentifier, MetadataObject> idents = new LinkedHashMap<>();
+    for (MetadataObject table : tables.keySet()) {
+      idents.put(MetadataObjectUtil.toEntityIdent(metalake, table), table);
+    }
+
+    NameIdentifier[] authorized =
+        MetadataAuthzHelper.filterByExpression(
+            metalake,
+            AuthorizationExpressionConstants.LOAD_TABLE_AUTHORIZATION_EXPRESSION,
+            Entity.EntityType.TABLE,
+            idents.keySet().toArray(new NameIdentifier[0]));
+    Map<MetadataObject, T> result = new LinkedHashMap<>();
+    for (NameIdentifier ident : authorized) {
+      MetadataObject table = idents.get(ident);
+      result.put(table, tables.get(table));
+    }
+    return result;
+  }
+
+  // The same tag or policy is usually inherited by all the tables of the schema, the access
+  // check result of each name is kept for the whole request
+  private static boolean canAccess(
+      String metalake,
+      Map<String, Boolean> accessByName,
+      String name,
+      String expression,
+      Entity.EntityType entityType,
+      BiFunction<String, String, NameIdentifier> toIdent) {
+    return accessByName.computeIfAbsent(
+        name,
+        n ->
+            ArrayUtils.isNotEmpty(
+                MetadataAuthzHelper.filterByExpression(
+                    metalake,
+                    expression,
+                    entityType,
+                    new String[] {n},
+                    entityName -> toIdent.apply(metalake, entityName))));
+  }
+
+  private static <T, D> Stream<D> toDTOs(
+      EffectiveAssociations<T> associations,
+      Function<T, Boolean> accessible,
+      BiFunction<T, Optional<Boolean>, D> toDTO) {
+    return Stream.concat(
+        associations.own().stream()
+            .filter(accessible::apply)
+            .map(t -> toDTO.apply(t, Optional.of(false))),
+        associations.inherited().stream()
+            .filter(accessible::apply)
+            .map(t -> toDTO.apply(t, Optional.of(true))));
+  }
+}
@@ -23,6 +23,7 @@ import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,13 +47,14 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
-import org.apache.gravitino.dto.responses.FileInfoListResponse;
+import org.apache.gravitino.dto.responses.FileInfoPageResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
@@ -65,6 +67,7 @@ import org.apache.gravitino.server.authorization.MetadataAuthzHelper;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
 import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
+import org.apache.gravitino.server.web.StreamingListOutput;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -105,13 +108,17 @@ public class FilesetOperations {
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
             NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
-            idents =
-                MetadataAuthzHelper.filterByExpression(
-                    metalake,
-                    AuthorizationExpressionConstants.FILTER_FILESET_AUTHORIZATION_EXPRESSION,
-                    Entity.EntityType.FILESET,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+            Response response =
+                Utils.okStreaming(
+                    StreamingListOutput.ofIdentifiers(
+                        idents,
+                        batch ->
+                            MetadataAuthzHelper.filterByExpression(
+                                metalake,
+                                AuthorizationExpressionConstants
+                                    .FILTER_FILESET_AUTHORIZATION_EXPRESSION,
+                                Entity.EntityType.FILESET,
+                                batch)));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
                 idents.length,
@@ -231,15 +238,25 @@ public class FilesetOperations {
       @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
       @PathParam("fileset") @AuthorizationMetadata(type = Entity.EntityType.FILESET) String fileset,
       @QueryParam("sub_path") @DefaultValue("/") String subPath,
-      @QueryParam("location_name") String locationName) {
+      @QueryParam("location_name") String locationName,
+      @QueryParam("page_size") Integer pageSize,
+      @QueryParam("page_token") String pageToken,
+      @QueryParam("recursive") @DefaultValue("false") boolean recursive,
+      @QueryParam("prefix") String prefix,
+      @QueryParam("glob") String glob) {
     LOG.info(
-        "Received list files request: {}.{}.{}.{}, subPath: {}, locationName:{}",
+        "Received list files request: {}.{}.{}.{}, subPath: {}, locationName:{}, pageSize: {}, "
+            + "recursive: {}, prefix: {}, glob: {}",
         metalake,
         catalog,
         schema,
         fileset,
         subPath,
-        locationName);
+        locationName,
+        pageSize,
+        recursive,
+        prefix,
+        glob);
 
     try {
       return Utils.doAs(
@@ -251,8 +268,40 @@ public class FilesetOperations {
 
             NameIdentifier filesetIdent =
                 NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
-            FileInfo[] files = dispatcher.listFiles(filesetIdent, locationName, decodedSubPath);
-            Response response = Utils.ok(new FileInfoListResponse(DTOConverters.toDTO(files)));
+            Response response;
+            boolean listAll =
+                pageSize == null
+                    && pageToken == null
+                    && !recursive
+                    && prefix == null
+                    && glob == null;
+            if (listAll) {
+              // Keep the response of the clients listing the whole directory in one request
+              FileInfo[] files = dispatcher.listFiles(filesetIdent, locationName, decodedSubPath);
+              response =
+                  Utils.okStreaming(
+                      StreamingListOutput.ofDTOs(
+                          "files",
+                          Arrays.asList(files).iterator(),
+                          batch -> batch,
+                          DTOConverters::toDTO));
+            } else {
+              FileListingOptions options =
+                  FileListingOptions.builder()
+                      .withPageSize(
+                          pageSize == null ? FileListingOptions.DEFAULT_PAGE_SIZE : pageSize)
+                      .withPageToken(pageToken)
+                      .withRecursive(recursive)
+                      .withPrefix(prefix)
+                      .withGlob(glob)
+                      .build();
+              FileListingPage page =
+                  dispatcher.listFiles(filesetIdent, locationName, decodedSubPath, options);
+              response =
+                  Utils.ok(
+                      new FileInfoPageResponse(
+                          DTOConverters.toDTO(page.files()), page.nextPageToken()));
+            }
             LOG.info(
                 "Files listed for fileset: {}.{}.{}.{}, subPath: {}, locationName:{}",
                 metalake,
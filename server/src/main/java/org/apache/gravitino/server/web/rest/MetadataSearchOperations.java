@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Splitter;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.dto.responses.BaseResponse;
+import org.apache.gravitino.dto.responses.MetadataSearchResponse;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.search.MetadataSearchManager;
+import org.apache.gravitino.search.MetadataSearchResult;
+import org.apache.gravitino.server.authorization.MetadataAuthzHelper;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
+import org.apache.gravitino.server.web.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/search")
+public class MetadataSearchOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataSearchOperations.class);
+  private static final Splitter COMMA = Splitter.on(',').trimResults().omitEmptyStrings();
+
+  private final MetadataSearchManager metadataSearchManager;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public MetadataSearchOperations(MetadataSearchManager metadataSearchManager) {
+    this.metadataSearchManager = metadataSearchManager;
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "search-metadata." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "search-metadata", absolute = true)
+  @AuthorizationExpression(expression = "")
+  public Response searchMetadata(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @QueryParam("query") String query,
+      @QueryParam("types") String types,
+      @QueryParam("offset") @DefaultValue("0") int offset,
+      @QueryParam("limit") @DefaultValue("20") int limit) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            // The objects the user could not access are skipped before paging, so a page is
+            // always full unless the matching objects run out
+            MetadataSearchResult result =
+                metadataSearchManager.search(
+                    metalake,
+                    query,
+                    parseTypes(types),
+                    offset,
+                    limit,
+                    objects ->
+                        Arrays.asList(
+                            MetadataAuthzHelper.filterMetadataObject(
+                                metalake, objects.toArray(new MetadataObject[0]))));
+            MetadataObjectDTO[] objectDTOs =
+                result.objects().stream()
+                    .map(DTOConverters::toDTO)
+                    .toArray(MetadataObjectDTO[]::new);
+            return Utils.ok(new MetadataSearchResponse(objectDTOs, result.hasMore()));
+          });
+    } catch (IllegalArgumentException e) {
+      return Utils.illegalArguments(e.getMessage(), e);
+    } catch (UnsupportedOperationException e) {
+      return Utils.unsupportedOperation(e.getMessage(), e);
+    } catch (Exception e) {
+      LOG.warn("Search metadata of metalake {} failed,", metalake, e);
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+
+  @POST
+  @Path("rebuild")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "rebuild-search-index." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "rebuild-search-index", absolute = true)
+  @AuthorizationExpression(
+      expression = "METALAKE::OWNER",
+      errorMessage = "Only the metalake owner can rebuild the search index")
+  public Response rebuildIndex(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            if (metadataSearchManager.rebuild(metalake)) {
+              LOG.info("Started rebuilding the search index of metalake {}", metalake);
+            } else {
+              LOG.info("The search index of metalake {} is being rebuilt", metalake);
+            }
+            return Utils.ok(new BaseResponse());
+          });
+    } catch (UnsupportedOperationException e) {
+      return Utils.unsupportedOperation(e.getMessage(), e);
+    } catch (Exception e) {
+      LOG.warn("Rebuild the search index of metalake {} failed,", metalake, e);
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+
+  private static Set<MetadataObject.Type> parseTypes(String types) {
+    Set<MetadataObject.Type> parsed = EnumSet.noneOf(MetadataObject.Type.class);
+    if (types != null) {
+      for (String type : COMMA.split(types)) {
+        parsed.add(MetadataObject.Type.valueOf(type.toUpperCase(Locale.ROOT)));
+      }
+    }
+    return parsed;
+  }
+}
@@ -51,9 +51,7 @@ import org.apache.gravitino.dto.requests.ModelVersionUpdateRequest;
 import org.apache.gravitino.dto.requests.ModelVersionUpdatesRequest;
 import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ModelResponse;
-import org.apache.gravitino.dto.responses.ModelVersionInfoListResponse;
 import org.apache.gravitino.dto.responses.ModelVersionListResponse;
 import org.apache.gravitino.dto.responses.ModelVersionResponse;
 import org.apache.gravitino.dto.responses.ModelVersionUriResponse;
@@ -67,6 +65,7 @@ import org.apache.gravitino.server.authorization.MetadataAuthzHelper;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
 import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
+import org.apache.gravitino.server.web.StreamingListOutput;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -108,14 +107,16 @@ public class ModelOperations {
           () -> {
             NameIdentifier[] modelIds = modelDispatcher.listModels(modelNs);
             modelIds = modelIds == null ? new NameIdentifier[0] : modelIds;
-            modelIds =
-                MetadataAuthzHelper.filterByExpression(
-                    metalake,
-                    AuthorizationExpressionConstants.FILTER_MODEL_AUTHORIZATION_EXPRESSION,
-                    Entity.EntityType.MODEL,
-                    modelIds);
             LOG.info("List {} models under schema {}", modelIds.length, modelNs);
-            return Utils.ok(new EntityListResponse(modelIds));
+            return Utils.okStreaming(
+                StreamingListOutput.ofIdentifiers(
+                    modelIds,
+                    batch ->
+                        MetadataAuthzHelper.filterByExpression(
+                            metalake,
+                            AuthorizationExpressionConstants.FILTER_MODEL_AUTHORIZATION_EXPRESSION,
+                            Entity.EntityType.MODEL,
+                            batch)));
           });
 
     } catch (Exception e) {
@@ -266,28 +267,27 @@ public class ModelOperations {
             if (verbose) {
               ModelVersion[] modelVersions = modelDispatcher.listModelVersionInfos(modelId);
               modelVersions = modelVersions == null ? new ModelVersion[0] : modelVersions;
-              modelVersions =
-                  Arrays.stream(modelVersions)
-                      .filter(
-                          modelVersion -> {
-                            NameIdentifier[] nameIdentifiers =
-                                new NameIdentifier[] {
-                                  NameIdentifierUtil.ofModelVersion(
-                                      metalake, catalog, schema, model, modelVersion.version())
-                                };
-                            return MetadataAuthzHelper.filterByExpression(
-                                        metalake,
-                                        AuthorizationExpressionConstants
-                                            .LOAD_MODEL_AUTHORIZATION_EXPRESSION,
-                                        Entity.EntityType.MODEL_VERSION,
-                                        nameIdentifiers)
-                                    .length
-                                > 0;
-                          })
-                      .toArray(ModelVersion[]::new);
               LOG.info("List {} versions of model {}", modelVersions.length, modelId);
-              return Utils.ok(
-                  new ModelVersionInfoListResponse(DTOConverters.toDTOs(modelVersions)));
+              return Utils.okStreaming(
+                  StreamingListOutput.ofDTOs(
+                      "infos",
+                      Arrays.asList(modelVersions).iterator(),
+                      batch ->
+                          Arrays.asList(
+                              MetadataAuthzHelper.filterByExpression(
+                                  metalake,
+                                  AuthorizationExpressionConstants
+                                      .LOAD_MODEL_AUTHORIZATION_EXPRESSION,
+                                  Entity.EntityType.MODEL_VERSION,
+                                  batch.toArray(new ModelVersion[0]),
+                                  modelVersion ->
+                                      NameIdentifierUtil.ofModelVersion(
+                                          metalake,
+                                          catalog,
+                                          schema,
+                                          model,
+                                          modelVersion.version()))),
+                      DTOConverters::toDTO));
             } else {
               int[] versions = modelDispatcher.listModelVersions(modelId);
               versions = versions == null ? new int[0] : versions;
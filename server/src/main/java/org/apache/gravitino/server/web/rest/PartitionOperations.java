@@ -45,10 +45,15 @@ import org.apache.gravitino.dto.requests.AddPartitionsRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.PartitionListResponse;
 import org.apache.gravitino.dto.responses.PartitionNameListResponse;
+import org.apache.gravitino.dto.responses.PartitionNamePageResponse;
+import org.apache.gravitino.dto.responses.PartitionPageResponse;
 import org.apache.gravitino.dto.responses.PartitionResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
 import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
@@ -81,7 +86,10 @@ public class PartitionOperations {
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
       @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
       @PathParam("table") @AuthorizationMetadata(type = Entity.EntityType.TABLE) String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("page_size") Integer pageSize,
+      @QueryParam("page_token") String pageToken) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -94,6 +102,16 @@ public class PartitionOperations {
           httpRequest,
           () -> {
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            if (filter != null || pageSize != null || pageToken != null) {
+              PartitionListingOptions options =
+                  PartitionListingOptions.builder()
+                      .withFilter(filter == null ? null : PartitionFilter.parse(filter))
+                      .withPageSize(pageSize == null ? 0 : pageSize)
+                      .withPageToken(pageToken)
+                      .build();
+              return listPartitionPage(tableIdent, options, verbose);
+            }
+
             if (verbose) {
               Partition[] partitions = dispatcher.listPartitions(tableIdent);
               Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
@@ -123,6 +141,23 @@ public class PartitionOperations {
     }
   }
 
+  private Response listPartitionPage(
+      NameIdentifier tableIdent, PartitionListingOptions options, boolean verbose) {
+    if (verbose) {
+      PartitionPage<Partition> page = dispatcher.listPartitions(tableIdent, options);
+      LOG.info("List {} partitions in table {}", page.elements().size(), tableIdent);
+      return Utils.ok(
+          new PartitionPageResponse(
+              toDTOs(page.elements().toArray(new Partition[0])), page.nextPageToken()));
+    }
+
+    PartitionPage<String> page = dispatcher.listPartitionNames(tableIdent, options);
+    LOG.info("List {} partition names in table {}", page.elements().size(), tableIdent);
+    return Utils.ok(
+        new PartitionNamePageResponse(
+            page.elements().toArray(new String[0]), page.nextPageToken()));
+  }
+
   @GET
   @Path("{partition}")
   @Produces("application/vnd.gravitino.v1+json")
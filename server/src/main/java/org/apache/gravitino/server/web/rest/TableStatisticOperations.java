@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.requests.TableStatisticsListRequest;
+import org.apache.gravitino.dto.responses.TableStatisticsListResponse;
+import org.apache.gravitino.dto.stats.TableStatisticsDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.authorization.MetadataAuthzHelper;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationMetadata;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.stats.Statistic;
+import org.apache.gravitino.stats.StatisticDispatcher;
+import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/statistics/tables")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class TableStatisticOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableStatisticOperations.class);
+
+  @Context private HttpServletRequest httpRequest;
+
+  private final StatisticDispatcher statisticDispatcher;
+
+  @Inject
+  public TableStatisticOperations(StatisticDispatcher statisticDispatcher) {
+    this.statisticDispatcher = statisticDispatcher;
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-table-stats." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-table-stats", absolute = true)
+  @AuthorizationExpression(expression = "")
+  public Response listTableStatistics(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      TableStatisticsListRequest request) {
+    LOG.info("Received list table statistics request in the metalake {}", metalake);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            Map<NameIdentifier, MetadataObject> tables = new LinkedHashMap<>();
+            for (String table : request.getTables()) {
+              MetadataObject object = MetadataObjects.parse(table, MetadataObject.Type.TABLE);
+              tables.put(MetadataObjectUtil.toEntityIdent(metalake, object), object);
+            }
+
+            // The tables the user could not access are left out of the response, the same as
+            // the tables that don't exist
+            NameIdentifier[] authorized =
+                MetadataAuthzHelper.filterByExpression(
+                    metalake,
+                    AuthorizationExpressionConstants.LOAD_TABLE_AUTHORIZATION_EXPRESSION,
+                    Entity.EntityType.TABLE,
+                    tables.keySet().toArray(new NameIdentifier[0]));
+            List<TableStatisticsDTO> result = new ArrayList<>(authorized.length);
+            for (NameIdentifier ident : authorized) {
+              MetadataObject object = tables.get(ident);
+              try {
+                List<Statistic> statistics = statisticDispatcher.listStatistics(metalake, object);
+                result.add(
+                    TableStatisticsDTO.of(
+                        object.fullName(),
+                        DTOConverters.toDTOs(statistics.toArray(new Statistic[0]))));
+              } catch (NoSuchMetadataObjectException e) {
+                LOG.debug("Skip listing statistics of the missing table {}", object.fullName());
+              }
+            }
+            return Utils.ok(
+                new TableStatisticsListResponse(result.toArray(new TableStatisticsDTO[0])));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleStatisticException(OperationType.LIST, "", metalake, e);
+    }
+  }
+}
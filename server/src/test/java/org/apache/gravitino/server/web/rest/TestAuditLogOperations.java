@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.audit.AuditLogManager;
+import org.apache.gravitino.audit.AuditLogQuery;
+import org.apache.gravitino.dto.audit.AuditLogDTO;
+import org.apache.gravitino.dto.responses.AuditLogListResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TestAuditLogOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final AuditLogManager manager = mock(AuditLogManager.class);
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(AuditLogOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(manager).to(AuditLogManager.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testQueryAuditLogs() {
+    AuditLogDTO auditLog =
+        new AuditLogDTO(
+            "alice",
+            "DROP_TABLE",
+            "SUCCESS",
+            "metalake.catalog.db.table",
+            100L,
+            "127.0.0.1",
+            "GRAVITINO_SERVER",
+            ImmutableMap.of());
+    when(manager.queryAuditLogs(any())).thenReturn(Lists.newArrayList(auditLog));
+
+    Response resp =
+        target("/audit/logs")
+            .queryParam("user", "alice")
+            .queryParam("identifier", "metalake.catalog")
+            .queryParam("since", 10)
+            .queryParam("limit", 5)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    AuditLogListResponse listResp = resp.readEntity(AuditLogListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new AuditLogDTO[] {auditLog}, listResp.auditLogs());
+
+    ArgumentCaptor<AuditLogQuery> captor = ArgumentCaptor.forClass(AuditLogQuery.class);
+    Mockito.verify(manager).queryAuditLogs(captor.capture());
+    Assertions.assertEquals("alice", captor.getValue().user());
+    Assertions.assertEquals("metalake.catalog", captor.getValue().identifier());
+    Assertions.assertEquals(10L, captor.getValue().since());
+    Assertions.assertEquals(Long.MAX_VALUE, captor.getValue().until());
+    Assertions.assertEquals(5, captor.getValue().limit());
+  }
+
+  @Test
+  public void testQueryAuditLogsFailures() {
+    Response invalidLimit =
+        target("/audit/logs")
+            .queryParam("limit", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        Response.Status.BAD_REQUEST.getStatusCode(), invalidLimit.getStatus());
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE,
+        invalidLimit.readEntity(ErrorResponse.class).getCode());
+
+    when(manager.queryAuditLogs(any()))
+        .thenThrow(new UnsupportedOperationException("The audit log writer doesn't support query"));
+    Response unsupported =
+        target("/audit/logs")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        ErrorConstants.UNSUPPORTED_OPERATION_CODE,
+        unsupported.readEntity(ErrorResponse.class).getCode());
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.Configs.BATCH_MAX_OPERATIONS;
+import static org.apache.gravitino.Configs.BATCH_MAX_OPERATIONS_PER_TRANSACTION;
+import static org.apache.gravitino.Configs.CACHE_ENABLED;
+import static org.apache.gravitino.Configs.ENABLE_AUTHORIZATION;
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.CatalogManager;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.connector.capability.CapabilityResult;
+import org.apache.gravitino.dto.requests.BatchOperationRequest;
+import org.apache.gravitino.dto.requests.BatchOperationsRequest;
+import org.apache.gravitino.dto.requests.SchemaCreateRequest;
+import org.apache.gravitino.dto.requests.TagCreateRequest;
+import org.apache.gravitino.dto.responses.BatchOperationsResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.TagAlreadyExistsException;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.tag.TagDispatcher;
+import org.apache.gravitino.utils.Executable;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestBatchOperations extends BaseOperationsTest {
+
+  private static final EntityStore entityStore = mock(EntityStore.class);
+  private static final CatalogManager catalogManager = mock(CatalogManager.class);
+
+  private final SchemaDispatcher schemaDispatcher = mock(SchemaDispatcher.class);
+  private final TableDispatcher tableDispatcher = mock(TableDispatcher.class);
+  private final TagDispatcher tagDispatcher = mock(TagDispatcher.class);
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  @BeforeAll
+  public static void setup() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(false).when(config).get(CACHE_ENABLED);
+    Mockito.doReturn(false).when(config).get(ENABLE_AUTHORIZATION);
+    Mockito.doReturn(3).when(config).get(BATCH_MAX_OPERATIONS);
+    Mockito.doReturn(10).when(config).get(BATCH_MAX_OPERATIONS_PER_TRANSACTION);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "entityStore", entityStore, true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "catalogManager", catalogManager, true);
+    FieldUtils.writeField(
+        GravitinoEnv.getInstance(), "eventBus", new EventBus(Collections.emptyList()), true);
+  }
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void mockStore() throws Exception {
+    Mockito.reset(entityStore, catalogManager);
+
+    // Mock metalake with in-use property
+    BaseMetalake metalake = mock(BaseMetalake.class);
+    PropertiesMetadata propertiesMetadata = mock(PropertiesMetadata.class);
+    when(propertiesMetadata.getOrDefault(any(), any())).thenReturn(true);
+    when(metalake.propertiesMetadata()).thenReturn(propertiesMetadata);
+    when(entityStore.get(any(), any(), any())).thenReturn(metalake);
+    when(entityStore.executeInTransaction(any()))
+        .thenAnswer(
+            invocation -> ((Executable<Object, Exception>) invocation.getArgument(0)).execute());
+
+    mockCatalog("managed", CapabilityResult.SUPPORTED);
+    mockCatalog("hive", CapabilityResult.unsupported("external storage"));
+    when(catalogManager.loadCatalogAndWrap(NameIdentifier.of("metalake1", "missing")))
+        .thenThrow(new NoSuchCatalogException("Catalog missing does not exist"));
+  }
+
+  private void mockCatalog(String name, CapabilityResult managedStorage) throws Exception {
+    Capability capability = mock(Capability.class);
+    when(capability.managedStorage(any())).thenReturn(managedStorage);
+    CatalogManager.CatalogWrapper wrapper = mock(CatalogManager.CatalogWrapper.class);
+    when(wrapper.capabilities()).thenReturn(capability);
+    when(catalogManager.loadCatalogAndWrap(NameIdentifier.of("metalake1", name)))
+        .thenReturn(wrapper);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(BatchOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(schemaDispatcher).to(SchemaDispatcher.class).ranked(2);
+            bind(tableDispatcher).to(TableDispatcher.class).ranked(2);
+            bind(tagDispatcher).to(TagDispatcher.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testExecuteBatch() throws Exception {
+    BatchOperationsRequest request =
+        new BatchOperationsRequest(
+            ImmutableList.of(
+                createTag("tag1"),
+                createSchema("managed", "schema1"),
+                createSchema("hive", "db1")));
+    BatchOperationsResponse response =
+        executeBatch(request).readEntity(BatchOperationsResponse.class);
+
+    Assertions.assertEquals(0, response.getCode());
+    Assertions.assertEquals(
+        ImmutableList.of("SUCCEEDED", "SUCCEEDED", "SUCCEEDED"), statuses(response));
+    Mockito.verify(tagDispatcher).createTag("metalake1", "tag1", "comment", null);
+    Mockito.verify(schemaDispatcher)
+        .createSchema(NameIdentifier.of("metalake1", "managed", "schema1"), "comment", null);
+    // The tag and the managed schema share a transaction, the external schema has its own one
+    Mockito.verify(entityStore, Mockito.times(2)).executeInTransaction(any());
+  }
+
+  @Test
+  public void testRollbackAndSkip() throws Exception {
+    when(tagDispatcher.createTag(eq("metalake1"), eq("tag2"), any(), any()))
+        .thenThrow(new TagAlreadyExistsException("Tag tag2 already exists"));
+    BatchOperationsRequest request =
+        new BatchOperationsRequest(
+            ImmutableList.of(
+                createTag("tag1"), createTag("tag2"), createSchema("managed", "schema1")));
+    Response resp = executeBatch(request);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    BatchOperationsResponse response = resp.readEntity(BatchOperationsResponse.class);
+    Assertions.assertEquals(
+        ImmutableList.of("ROLLED_BACK", "FAILED", "SKIPPED"), statuses(response));
+    BatchOperationsResponse.OperationResult failed = response.getResults().get(1);
+    Assertions.assertEquals("TagAlreadyExistsException", failed.getErrorType());
+    Assertions.assertEquals("Tag tag2 already exists", failed.getMessage());
+    Mockito.verifyNoInteractions(schemaDispatcher);
+  }
+
+  @Test
+  public void testInvalidBatch() {
+    // The invalid operation fails the batch before any operation is executed
+    Response invalid =
+        executeBatch(
+            new BatchOperationsRequest(
+                ImmutableList.of(createTag("tag1"), createSchema("managed", ""))));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), invalid.getStatus());
+    ErrorResponse error = invalid.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, error.getCode());
+    Assertions.assertTrue(error.getMessage().startsWith("Invalid operation [1]"));
+
+    Response missingCatalog =
+        executeBatch(
+            new BatchOperationsRequest(
+                ImmutableList.of(createTag("tag1"), createSchema("missing", "schema1"))));
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), missingCatalog.getStatus());
+    Assertions.assertEquals(
+        NoSuchCatalogException.class.getSimpleName(),
+        missingCatalog.readEntity(ErrorResponse.class).getType());
+
+    Response tooMany =
+        executeBatch(
+            new BatchOperationsRequest(
+                ImmutableList.of(
+                    createTag("tag1"), createTag("tag2"), createTag("tag3"), createTag("tag4"))));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), tooMany.getStatus());
+    Mockito.verifyNoInteractions(tagDispatcher, schemaDispatcher);
+  }
+
+  private Response executeBatch(BatchOperationsRequest request) {
+    return target("/metalakes/metalake1/batch")
+        .request(MediaType.APPLICATION_JSON_TYPE)
+        .accept("application/vnd.gravitino.v1+json")
+        .post(Entity.entity(request, MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  private static BatchOperationRequest createTag(String name) {
+    return new BatchOperationRequest.CreateTagRequest(new TagCreateRequest(name, "comment", null));
+  }
+
+  private static BatchOperationRequest createSchema(String catalog, String name) {
+    return new BatchOperationRequest.CreateSchemaRequest(
+        catalog, new SchemaCreateRequest(name, "comment", null));
+  }
+
+  private static List<String> statuses(BatchOperationsResponse response) {
+    return response.getResults().stream()
+        .map(BatchOperationsResponse.OperationResult::getStatus)
+        .collect(Collectors.toList());
+  }
+}
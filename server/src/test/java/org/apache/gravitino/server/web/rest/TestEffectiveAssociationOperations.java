@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.time.Instant;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.cache.EffectiveAssociations;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableTagsListResponse;
+import org.apache.gravitino.dto.tag.TableTagsDTO;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.policy.PolicyDispatcher;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.tag.Tag;
+import org.apache.gravitino.tag.TagDispatcher;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEffectiveAssociationOperations extends BaseOperationsTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final TagDispatcher tagDispatcher = mock(TagDispatcher.class);
+
+  private final PolicyDispatcher policyDispatcher = mock(PolicyDispatcher.class);
+
+  private final String metalake = "test_metalake";
+
+  private final AuditInfo testAuditInfo =
+      AuditInfo.builder().withCreator("user1").withCreateTime(Instant.now()).build();
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(EffectiveAssociationOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(tagDispatcher).to(TagDispatcher.class).ranked(2);
+            bind(policyDispatcher).to(PolicyDispatcher.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testListEffectiveTagsForTables() {
+    MetadataObject schema = MetadataObjects.parse("catalog1.schema1", MetadataObject.Type.SCHEMA);
+    MetadataObject table1 =
+        MetadataObjects.parse("catalog1.schema1.table1", MetadataObject.Type.TABLE);
+    MetadataObject table2 =
+        MetadataObjects.parse("catalog1.schema1.table2", MetadataObject.Type.TABLE);
+    Tag tag1 = tag("tag1");
+    Tag tag2 = tag("tag2");
+    when(tagDispatcher.listEffectiveTagsForTables(metalake, schema))
+        .thenReturn(
+            ImmutableMap.of(
+                table1,
+                new EffectiveAssociations<>(ImmutableList.of(tag1), ImmutableList.of(tag2)),
+                table2,
+                new EffectiveAssociations<>(ImmutableList.of(), ImmutableList.of(tag2))));
+
+    Response resp =
+        target("/metalakes/" + metalake + "/effective/tags")
+            .queryParam("schema", "catalog1.schema1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableTagsListResponse listResp = resp.readEntity(TableTagsListResponse.class);
+    listResp.validate();
+    TableTagsDTO[] tableTags = listResp.getTableTags();
+    Assertions.assertEquals(2, tableTags.length);
+    Assertions.assertEquals("catalog1.schema1.table1", tableTags[0].table());
+    Assertions.assertEquals(2, tableTags[0].tags().length);
+    Assertions.assertEquals("tag1", tableTags[0].tags()[0].name());
+    Assertions.assertFalse(tableTags[0].tags()[0].inherited().get());
+    Assertions.assertEquals("tag2", tableTags[0].tags()[1].name());
+    Assertions.assertTrue(tableTags[0].tags()[1].inherited().get());
+    Assertions.assertEquals("catalog1.schema1.table2", tableTags[1].table());
+    Assertions.assertEquals(1, tableTags[1].tags().length);
+
+    // Test the missing schema
+    when(tagDispatcher.listEffectiveTagsForTables(eq(metalake), any()))
+        .thenThrow(new NoSuchSchemaException("schema not found"));
+    Response resp1 =
+        target("/metalakes/" + metalake + "/effective/tags")
+            .queryParam("schema", "catalog1.schema2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    // Test the illegal schema name
+    Response resp2 =
+        target("/metalakes/" + metalake + "/effective/tags")
+            .queryParam("schema", "catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+  }
+
+  private Tag tag(String name) {
+    return TagEntity.builder().withName(name).withId(1L).withAuditInfo(testAuditInfo).build();
+  }
+}
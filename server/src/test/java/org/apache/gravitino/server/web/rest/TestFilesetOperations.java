@@ -50,8 +50,11 @@ import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
+import org.apache.gravitino.catalog.FileListingOptions;
+import org.apache.gravitino.catalog.FileListingPage;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
+import org.apache.gravitino.dto.file.FileInfoDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
@@ -60,12 +63,14 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.FileInfoPageResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockManager;
@@ -76,6 +81,8 @@ import org.glassfish.jersey.test.TestProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
@@ -512,6 +519,57 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp.getType());
   }
 
+  @Test
+  public void testListFilesByPage() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    FileInfoDTO file =
+        FileInfoDTO.builder()
+            .name("part-0.parquet")
+            .isDir(false)
+            .size(10L)
+            .lastModified(1L)
+            .path("/fileset/catalog1/schema1/fileset1/dt=1/part-0.parquet")
+            .build();
+    ArgumentCaptor<FileListingOptions> captor = ArgumentCaptor.forClass(FileListingOptions.class);
+    when(dispatcher.listFiles(
+            ArgumentMatchers.eq(fullIdentifier),
+            ArgumentMatchers.isNull(),
+            ArgumentMatchers.eq("/"),
+            captor.capture()))
+        .thenReturn(new FileListingPage(new FileInfo[] {file}, "token1"));
+
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("page_size", 1)
+            .queryParam("recursive", true)
+            .queryParam("glob", "**.parquet")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileInfoPageResponse pageResponse = resp.readEntity(FileInfoPageResponse.class);
+    Assertions.assertEquals(0, pageResponse.getCode());
+    Assertions.assertEquals(1, pageResponse.getFiles().length);
+    Assertions.assertEquals(file.path(), pageResponse.getFiles()[0].path());
+    Assertions.assertEquals("token1", pageResponse.getNextPageToken());
+
+    FileListingOptions options = captor.getValue();
+    Assertions.assertEquals(1, options.pageSize());
+    Assertions.assertTrue(options.recursive());
+    Assertions.assertEquals("**.parquet", options.glob());
+    Assertions.assertNull(options.pageToken());
+
+    // Test invalid page size
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("page_size", FileListingOptions.MAX_PAGE_SIZE + 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+  }
+
   @Test
   public void testGetFileLocation() {
     // Test encoded subPath
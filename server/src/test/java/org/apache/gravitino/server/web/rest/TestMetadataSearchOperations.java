@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.dto.responses.BaseResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.MetadataSearchResponse;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.search.MetadataSearchManager;
+import org.apache.gravitino.search.MetadataSearchResult;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TestMetadataSearchOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final MetadataSearchManager manager = mock(MetadataSearchManager.class);
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(MetadataSearchOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(manager).to(MetadataSearchManager.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSearchMetadata() {
+    MetadataObject table = MetadataObjects.parse("catalog.db.orders", MetadataObject.Type.TABLE);
+    when(manager.search(eq("metalake"), anyString(), any(Set.class), anyInt(), anyInt(), any()))
+        .thenReturn(new MetadataSearchResult(Lists.newArrayList(table), true));
+
+    Response resp =
+        target("/metalakes/metalake/search")
+            .queryParam("query", "comment:order*")
+            .queryParam("types", "table, fileset")
+            .queryParam("offset", 10)
+            .queryParam("limit", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    MetadataSearchResponse searchResp = resp.readEntity(MetadataSearchResponse.class);
+    Assertions.assertEquals(0, searchResp.getCode());
+    Assertions.assertTrue(searchResp.isHasMore());
+    Assertions.assertEquals(1, searchResp.getMetadataObjects().length);
+    Assertions.assertEquals("catalog.db.orders", searchResp.getMetadataObjects()[0].fullName());
+    Assertions.assertEquals(MetadataObject.Type.TABLE, searchResp.getMetadataObjects()[0].type());
+
+    ArgumentCaptor<Set<MetadataObject.Type>> types = ArgumentCaptor.forClass(Set.class);
+    Mockito.verify(manager)
+        .search(eq("metalake"), eq("comment:order*"), types.capture(), eq(10), eq(1), any());
+    Assertions.assertEquals(
+        ImmutableSet.of(MetadataObject.Type.TABLE, MetadataObject.Type.FILESET), types.getValue());
+  }
+
+  @Test
+  public void testSearchMetadataFailures() {
+    Response invalidType =
+        target("/metalakes/metalake/search")
+            .queryParam("types", "unknown")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), invalidType.getStatus());
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE,
+        invalidType.readEntity(ErrorResponse.class).getCode());
+
+    when(manager.search(any(), any(), any(), anyInt(), anyInt(), any()))
+        .thenThrow(new UnsupportedOperationException("Metadata search is not enabled"));
+    Response unsupported =
+        target("/metalakes/metalake/search")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        ErrorConstants.UNSUPPORTED_OPERATION_CODE,
+        unsupported.readEntity(ErrorResponse.class).getCode());
+  }
+
+  @Test
+  public void testRebuildIndex() {
+    when(manager.rebuild("metalake")).thenReturn(true);
+    Response resp =
+        target("/metalakes/metalake/search/rebuild")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity("", MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(0, resp.readEntity(BaseResponse.class).getCode());
+    Mockito.verify(manager).rebuild("metalake");
+  }
+}
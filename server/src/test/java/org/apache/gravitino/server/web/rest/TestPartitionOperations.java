@@ -28,6 +28,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.Arrays;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
@@ -45,6 +46,8 @@ import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.PartitionListResponse;
 import org.apache.gravitino.dto.responses.PartitionNameListResponse;
+import org.apache.gravitino.dto.responses.PartitionNamePageResponse;
+import org.apache.gravitino.dto.responses.PartitionPageResponse;
 import org.apache.gravitino.dto.responses.PartitionResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
@@ -53,6 +56,9 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionFilter;
+import org.apache.gravitino.rel.partitions.PartitionListingOptions;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rest.RESTUtils;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
@@ -62,6 +68,7 @@ import org.glassfish.jersey.test.TestProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class TestPartitionOperations extends JerseyTest {
@@ -214,6 +221,61 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionPage() {
+    String token = PartitionPage.encodePageToken(partitionNames[0]);
+    when(dispatcher.listPartitionNames(any(), any()))
+        .thenReturn(new PartitionPage<>(Arrays.asList(partitionNames[0]), token));
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "dt >= '2024-01-01'")
+            .queryParam("page_size", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNamePageResponse namePage = resp.readEntity(PartitionNamePageResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[0]}, namePage.partitionNames());
+    Assertions.assertEquals(token, namePage.nextPageToken());
+
+    ArgumentCaptor<PartitionListingOptions> captor =
+        ArgumentCaptor.forClass(PartitionListingOptions.class);
+    Mockito.verify(dispatcher).listPartitionNames(any(), captor.capture());
+    Assertions.assertEquals(
+        PartitionFilter.parse("dt >= '2024-01-01'"), captor.getValue().filter());
+    Assertions.assertEquals(1, captor.getValue().pageSize());
+
+    when(dispatcher.listPartitions(any(), any()))
+        .thenReturn(new PartitionPage<>(Arrays.asList(partitions[1]), null));
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("page_token", token)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    PartitionPageResponse page = resp1.readEntity(PartitionPageResponse.class);
+    Assertions.assertEquals(1, page.getPartitions().length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition2), page.getPartitions()[0]);
+    Assertions.assertNull(page.getNextPageToken());
+
+    // Test invalid filter
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "dt LIKE '2024%'")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp2 = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp2.getCode());
+  }
+
   @Test
   public void testGetPartition() {
     when(dispatcher.getPartition(any(), any())).thenReturn(partition1);
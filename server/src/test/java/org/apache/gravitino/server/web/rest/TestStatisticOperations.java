@@ -48,15 +48,18 @@ import org.apache.gravitino.dto.requests.PartitionStatisticsDropRequest;
 import org.apache.gravitino.dto.requests.PartitionStatisticsUpdateRequest;
 import org.apache.gravitino.dto.requests.StatisticsDropRequest;
 import org.apache.gravitino.dto.requests.StatisticsUpdateRequest;
+import org.apache.gravitino.dto.requests.TableStatisticsListRequest;
 import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.PartitionStatisticsListResponse;
 import org.apache.gravitino.dto.responses.StatisticListResponse;
+import org.apache.gravitino.dto.responses.TableStatisticsListResponse;
 import org.apache.gravitino.dto.stats.PartitionStatisticsDropDTO;
 import org.apache.gravitino.dto.stats.PartitionStatisticsUpdateDTO;
 import org.apache.gravitino.dto.stats.StatisticDTO;
+import org.apache.gravitino.dto.stats.TableStatisticsDTO;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.IllegalStatisticNameException;
 import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
@@ -123,6 +126,7 @@ public class TestStatisticOperations extends JerseyTest {
 
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(StatisticOperations.class);
+    resourceConfig.register(TableStatisticOperations.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
@@ -237,6 +241,62 @@ public class TestStatisticOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListStatisticsOfTables() {
+    AuditInfo auditInfo =
+        AuditInfo.builder()
+            .withCreateTime(Instant.now())
+            .withCreator("test")
+            .withLastModifiedTime(Instant.now())
+            .withLastModifier("test")
+            .build();
+    Statistic rowCount =
+        new StatisticManager.CustomStatistic(
+            "custom-row-count", StatisticValues.longValue(100L), auditInfo);
+
+    String table1 = String.format("%s.%s.%s", catalog, schema, table);
+    String table2 = String.format("%s.%s.%s", catalog, schema, "table2");
+    when(manager.listStatistics(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              MetadataObject object = invocation.getArgument(1);
+              if (object.fullName().equals(table2)) {
+                throw new NoSuchMetadataObjectException("Table %s doesn't exist", table2);
+              }
+              return Lists.newArrayList(rowCount);
+            });
+
+    // The missing table is left out of the response
+    TableStatisticsListRequest req = new TableStatisticsListRequest(new String[] {table1, table2});
+    Response resp =
+        target("/metalakes/" + metalake + "/statistics/tables")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(entity(req, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableStatisticsListResponse listResp = resp.readEntity(TableStatisticsListResponse.class);
+    listResp.validate();
+    TableStatisticsDTO[] tableStatistics = listResp.getTableStatistics();
+    Assertions.assertEquals(1, tableStatistics.length);
+    Assertions.assertEquals(table1, tableStatistics[0].table());
+    Assertions.assertEquals(rowCount.name(), tableStatistics[0].statistics()[0].name());
+    Assertions.assertEquals(
+        rowCount.value().get(), tableStatistics[0].statistics()[0].value().get());
+
+    // Test the illegal table name
+    TableStatisticsListRequest illegalReq =
+        new TableStatisticsListRequest(new String[] {catalog + "." + schema});
+    Response resp1 =
+        target("/metalakes/" + metalake + "/statistics/tables")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(entity(illegalReq, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+  }
+
   @Test
   public void testUpdateTableStatistics() {
     Map<String, StatisticValue<?>> statsMap = Maps.newHashMap();
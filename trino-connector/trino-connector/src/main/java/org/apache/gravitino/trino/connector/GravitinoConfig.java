@@ -127,6 +127,13 @@ public class GravitinoConfig {
           "10",
           false);
 
+  private static final ConfigEntry GRAVITINO_STATISTICS_CACHE_TTL_SECOND =
+      new ConfigEntry(
+          "gravitino.statistics.cache-ttl-seconds",
+          "The time in seconds to cache the table statistics loaded from Gravitino server, 0 disables using the Gravitino statistics",
+          "300",
+          false);
+
   private static final ConfigEntry GRAVITINO_TRINO_SKIP_VERSION_VALIDATION =
       new ConfigEntry(
           "gravitino.trino.skip-version-validation",
@@ -337,6 +344,17 @@ public class GravitinoConfig {
         GRAVITINO_METADATA_REFRESH_INTERVAL_SECOND.defaultValue);
   }
 
+  /**
+   * Retrieves the time in seconds to cache the table statistics loaded from Gravitino server.
+   *
+   * @return the cache time of the table statistics in seconds
+   */
+  public String getStatisticsCacheTtlSecond() {
+    return config.getOrDefault(
+        GRAVITINO_STATISTICS_CACHE_TTL_SECOND.key,
+        GRAVITINO_STATISTICS_CACHE_TTL_SECOND.defaultValue);
+  }
+
   /**
    * Whether skip Trino version validation or not.
    *
@@ -63,7 +63,10 @@ public class GravitinoConnector implements Connector {
     this.catalogIdentifier = catalogConnectorContext.getCatalog().geNameIdentifier();
     this.catalogConnectorContext = catalogConnectorContext;
     this.connectorMetadata =
-        new CatalogConnectorMetadata(catalogConnectorContext.getMetalake(), this.catalogIdentifier);
+        new CatalogConnectorMetadata(
+            catalogConnectorContext.getMetalake(),
+            this.catalogIdentifier,
+            catalogConnectorContext.getStatisticsCache());
   }
 
   @Override
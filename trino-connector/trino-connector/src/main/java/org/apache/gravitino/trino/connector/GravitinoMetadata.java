@@ -55,8 +55,10 @@ import io.trino.spi.expression.ConnectorExpression;
 import io.trino.spi.expression.Constant;
 import io.trino.spi.security.TrinoPrincipal;
 import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.Estimate;
 import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.Type;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,6 +66,7 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.client.TableStatisticsSummary;
 import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadata;
 import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadataAdapter;
 import org.apache.gravitino.trino.connector.metadata.GravitinoSchema;
@@ -584,7 +587,78 @@ public abstract class GravitinoMetadata implements ConnectorMetadata {
                             entry.getKey()),
                     entry -> entry.getValue()));
 
-    return new TableStatistics(originTableStatistics.getRowCount(), columnStatistics);
+    TableStatisticsSummary gravitinoStatistics =
+        catalogConnectorMetadata.getTableStatistics(getTableName(tableHandle));
+    if (gravitinoStatistics.isEmpty()) {
+      return new TableStatistics(originTableStatistics.getRowCount(), columnStatistics);
+    }
+    return mergeTableStatistics(
+        session,
+        tableHandle,
+        originTableStatistics.getRowCount(),
+        columnStatistics,
+        gravitinoStatistics);
+  }
+
+  /**
+   * Fills the statistics unknown to the internal connector with the ones stored in Gravitino, the
+   * statistics known to the internal connector are always preferred.
+   */
+  private TableStatistics mergeTableStatistics(
+      ConnectorSession session,
+      ConnectorTableHandle tableHandle,
+      Estimate rowCount,
+      Map<ColumnHandle, ColumnStatistics> columnStatistics,
+      TableStatisticsSummary gravitinoStatistics) {
+    Estimate mergedRowCount = rowCount;
+    if (rowCount.isUnknown() && gravitinoStatistics.rowCount().isPresent()) {
+      mergedRowCount = Estimate.of(gravitinoStatistics.rowCount().getAsLong());
+    }
+
+    Map<ColumnHandle, ColumnStatistics> mergedColumnStatistics = new HashMap<>(columnStatistics);
+    for (Map.Entry<String, ColumnHandle> column :
+        getColumnHandles(session, tableHandle).entrySet()) {
+      Optional<TableStatisticsSummary.ColumnStatisticsSummary> gravitinoColumn =
+          gravitinoStatistics.column(column.getKey());
+      if (gravitinoColumn.isPresent()) {
+        ColumnStatistics origin =
+            mergedColumnStatistics.getOrDefault(column.getValue(), ColumnStatistics.empty());
+        mergedColumnStatistics.put(
+            column.getValue(),
+            mergeColumnStatistics(origin, gravitinoColumn.get(), mergedRowCount));
+      }
+    }
+    return new TableStatistics(mergedRowCount, mergedColumnStatistics);
+  }
+
+  private ColumnStatistics mergeColumnStatistics(
+      ColumnStatistics origin,
+      TableStatisticsSummary.ColumnStatisticsSummary gravitinoColumn,
+      Estimate rowCount) {
+    ColumnStatistics.Builder builder =
+        ColumnStatistics.builder()
+            .setNullsFraction(origin.getNullsFraction())
+            .setDistinctValuesCount(origin.getDistinctValuesCount())
+            .setDataSize(origin.getDataSize())
+            .setRange(origin.getRange());
+    if (origin.getDistinctValuesCount().isUnknown() && gravitinoColumn.ndv().isPresent()) {
+      builder.setDistinctValuesCount(Estimate.of(gravitinoColumn.ndv().getAsLong()));
+    }
+
+    // The fractions and sizes are derived from the row count, so they are only filled when it is
+    // known.
+    if (rowCount.isUnknown() || rowCount.getValue() <= 0) {
+      return builder.build();
+    }
+    if (origin.getNullsFraction().isUnknown() && gravitinoColumn.nullCount().isPresent()) {
+      double nullsFraction = gravitinoColumn.nullCount().getAsLong() / rowCount.getValue();
+      builder.setNullsFraction(Estimate.of(Math.min(1.0, nullsFraction)));
+    }
+    if (origin.getDataSize().isUnknown() && gravitinoColumn.avgLength().isPresent()) {
+      double dataSize = gravitinoColumn.avgLength().getAsDouble() * rowCount.getValue();
+      builder.setDataSize(Estimate.of(dataSize));
+    }
+    return builder.build();
   }
 
   @Override
@@ -25,6 +25,7 @@ import io.trino.spi.session.PropertyMetadata;
 import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.client.TableStatisticsCache;
 import org.apache.gravitino.trino.connector.GravitinoConnector;
 import org.apache.gravitino.trino.connector.GravitinoConnectorPluginManager;
 import org.apache.gravitino.trino.connector.metadata.GravitinoCatalog;
@@ -38,6 +39,7 @@ public class CatalogConnectorContext {
 
   private final GravitinoCatalog catalog;
   private final GravitinoMetalake metalake;
+  private final TableStatisticsCache statisticsCache;
 
   // Connector communicates with Trino
   private GravitinoConnector connector;
@@ -60,8 +62,27 @@ public class CatalogConnectorContext {
       GravitinoMetalake metalake,
       Connector internalConnector,
       CatalogConnectorAdapter adapter) {
+    this(catalog, metalake, null, internalConnector, adapter);
+  }
+
+  /**
+   * Constructs a new CatalogConnectorContext.
+   *
+   * @param catalog the Gravitino catalog
+   * @param metalake the Gravitino metalake
+   * @param statisticsCache the cache of the table statistics, null if disabled
+   * @param internalConnector the internal connector
+   * @param adapter the catalog connector adapter
+   */
+  public CatalogConnectorContext(
+      GravitinoCatalog catalog,
+      GravitinoMetalake metalake,
+      TableStatisticsCache statisticsCache,
+      Connector internalConnector,
+      CatalogConnectorAdapter adapter) {
     this.catalog = catalog;
     this.metalake = metalake;
+    this.statisticsCache = statisticsCache;
     this.internalConnector = internalConnector;
     this.adapter = adapter;
   }
@@ -84,6 +105,15 @@ public class CatalogConnectorContext {
     return metalake;
   }
 
+  /**
+   * Returns the cache of the table statistics loaded from Gravitino.
+   *
+   * @return the cache of the table statistics, null if disabled
+   */
+  public TableStatisticsCache getStatisticsCache() {
+    return statisticsCache;
+  }
+
   /**
    * Returns the Gravitino catalog associated with this context.
    *
@@ -157,6 +187,7 @@ public class CatalogConnectorContext {
     private final CatalogConnectorAdapter connectorAdapter;
     private GravitinoCatalog catalog;
     private GravitinoMetalake metalake;
+    private TableStatisticsCache statisticsCache;
     private ConnectorContext context;
 
     /**
@@ -200,6 +231,17 @@ public class CatalogConnectorContext {
       return this;
     }
 
+    /**
+     * Sets the cache of the table statistics to use for the connector.
+     *
+     * @param statisticsCache the cache of the table statistics, null if disabled
+     * @return the builder
+     */
+    public Builder withStatisticsCache(TableStatisticsCache statisticsCache) {
+      this.statisticsCache = statisticsCache;
+      return this;
+    }
+
     /**
      * Sets the context to use for the connector.
      *
@@ -227,7 +269,8 @@ public class CatalogConnectorContext {
       Connector connector =
           GravitinoConnectorPluginManager.instance(context.getClass().getClassLoader())
               .createConnector(internalConnectorName, connectorConfig, context);
-      return new CatalogConnectorContext(catalog, metalake, connector, connectorAdapter);
+      return new CatalogConnectorContext(
+          catalog, metalake, statisticsCache, connector, connectorAdapter);
     }
   }
 }
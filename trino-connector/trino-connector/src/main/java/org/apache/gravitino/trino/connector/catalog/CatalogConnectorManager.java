@@ -38,6 +38,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.client.TableStatisticsCache;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
@@ -60,8 +61,10 @@ public class CatalogConnectorManager {
 
   private static final int NUMBER_EXECUTOR_THREAD = 1;
   private static final int LOAD_METALAKE_TIMEOUT = 60;
+  private static final long STATISTICS_CACHE_MAX_SIZE = 10000L;
 
   private int metadataUpdateIntervalSecond = 10;
+  private long statisticsCacheTtlSecond = 300L;
 
   private final ScheduledExecutorService executorService;
   private final CatalogRegister catalogRegister;
@@ -72,6 +75,7 @@ public class CatalogConnectorManager {
 
   private String targetMetalake;
   private final Map<String, GravitinoMetalake> metalakes = new ConcurrentHashMap<>();
+  private final Map<String, TableStatisticsCache> statisticsCaches = new ConcurrentHashMap<>();
 
   private GravitinoAdminClient gravitinoClient;
   private GravitinoConfig config;
@@ -124,6 +128,7 @@ public class CatalogConnectorManager {
       this.gravitinoClient = client;
     }
     this.metadataUpdateIntervalSecond = Integer.parseInt(config.getMetadataRefreshIntervalSecond());
+    this.statisticsCacheTtlSecond = Long.parseLong(config.getStatisticsCacheTtlSecond());
     this.targetMetalake = config.getMetalake();
   }
 
@@ -192,6 +197,20 @@ public class CatalogConnectorManager {
     }
   }
 
+  private TableStatisticsCache getStatisticsCache(GravitinoMetalake metalake) {
+    if (statisticsCacheTtlSecond <= 0) {
+      return null;
+    }
+    // The catalogs of a metalake share one cache to bound the memory of the cached statistics.
+    return statisticsCaches.computeIfAbsent(
+        metalake.name(),
+        name ->
+            new TableStatisticsCache(
+                metalake,
+                TimeUnit.SECONDS.toMillis(statisticsCacheTtlSecond),
+                STATISTICS_CACHE_MAX_SIZE));
+  }
+
   private void loadCatalogs(GravitinoMetalake metalake) {
     List<String> catalogNames;
     try {
@@ -395,8 +414,11 @@ public class CatalogConnectorManager {
       }
       CatalogConnectorContext.Builder builder =
           catalogConnectorFactory.createCatalogConnectorContextBuilder(catalog);
+      GravitinoMetalake metalake =
+          metalakes.computeIfAbsent(catalog.getMetalake(), this::retrieveMetalake);
       builder
-          .withMetalake(metalakes.computeIfAbsent(catalog.getMetalake(), this::retrieveMetalake))
+          .withMetalake(metalake)
+          .withStatisticsCache(getStatisticsCache(metalake))
           .withContext(context);
 
       CatalogConnectorContext connectorContext = builder.build();
@@ -31,6 +31,8 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SupportsSchemas;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.client.TableStatisticsCache;
+import org.apache.gravitino.client.TableStatisticsSummary;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -44,16 +46,21 @@ import org.apache.gravitino.trino.connector.GravitinoErrorCode;
 import org.apache.gravitino.trino.connector.metadata.GravitinoColumn;
 import org.apache.gravitino.trino.connector.metadata.GravitinoSchema;
 import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** This class implements Apache Gravitino metadata operators. */
 public class CatalogConnectorMetadata {
 
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogConnectorMetadata.class);
+
   private static final String CATALOG_DOES_NOT_EXIST_MSG = "Catalog does not exist";
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema does not exist";
 
   private final String catalogName;
   private final SupportsSchemas schemaCatalog;
   private final TableCatalog tableCatalog;
+  private final TableStatisticsCache statisticsCache;
 
   /**
    * Constructs a new CatalogConnectorMetadata.
@@ -62,6 +69,21 @@ public class CatalogConnectorMetadata {
    * @param catalogIdentifier the name of the catalog
    */
   public CatalogConnectorMetadata(GravitinoMetalake metalake, NameIdentifier catalogIdentifier) {
+    this(metalake, catalogIdentifier, null);
+  }
+
+  /**
+   * Constructs a new CatalogConnectorMetadata.
+   *
+   * @param metalake the Gravitino metalake
+   * @param catalogIdentifier the name of the catalog
+   * @param statisticsCache the cache of the table statistics, null if disabled
+   */
+  public CatalogConnectorMetadata(
+      GravitinoMetalake metalake,
+      NameIdentifier catalogIdentifier,
+      TableStatisticsCache statisticsCache) {
+    this.statisticsCache = statisticsCache;
     try {
       this.catalogName = catalogIdentifier.name();
       Catalog catalog = metalake.loadCatalog(catalogName);
@@ -155,6 +177,29 @@ public class CatalogConnectorMetadata {
     return tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
   }
 
+  /**
+   * Retrieves the statistics of the specified table stored in Gravitino. The statistics only fill
+   * the gaps of the internal connector statistics, so a failure to load them yields empty
+   * statistics instead of failing the query planning.
+   *
+   * @param schemaTableName the name of the table
+   * @return the table statistics, empty if disabled or not available
+   */
+  public TableStatisticsSummary getTableStatistics(SchemaTableName schemaTableName) {
+    if (statisticsCache == null) {
+      return TableStatisticsSummary.EMPTY;
+    }
+
+    try {
+      return statisticsCache.get(
+          NameIdentifier.of(
+              catalogName, schemaTableName.getSchemaName(), schemaTableName.getTableName()));
+    } catch (Exception e) {
+      LOG.warn("Failed to load the statistics of table {}.{}", catalogName, schemaTableName, e);
+      return TableStatisticsSummary.EMPTY;
+    }
+  }
+
   /**
    * Creates a new table in the catalog.
    *